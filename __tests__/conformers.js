@@ -92,4 +92,29 @@ describe('ConformerGenerator', () => {
 
     expect(allConformers.every((conf) => conf instanceof Molecule)).toBe(true);
   });
+
+  it('should generate a reproducible ensemble', async () => {
+    const molecules = ['COCCON', 'CCCCO', 'c1ccccc1CC(=O)O'].map((smiles) =>
+      Molecule.fromSmiles(smiles),
+    );
+    const options = { seed: 42, maxConformers: 5, chunkSize: 2 };
+
+    const ensemble1 = await ConformerGenerator.generateEnsemble(
+      molecules,
+      options,
+    );
+    expect(ensemble1).toHaveLength(3);
+    for (const conformers of ensemble1) {
+      expect(conformers.length).toBeGreaterThan(0);
+      expect(conformers.length).toBeLessThanOrEqual(5);
+    }
+
+    const ensemble2 = await ConformerGenerator.generateEnsemble(
+      molecules,
+      options,
+    );
+    expect(ensemble2.map((c) => c.map((m) => m.toMolfile()))).toStrictEqual(
+      ensemble1.map((c) => c.map((m) => m.toMolfile())),
+    );
+  });
 });
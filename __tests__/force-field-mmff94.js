@@ -17,4 +17,69 @@ describe('ForceFieldMMFF94', () => {
     expect(molfileAfter).toMatchSnapshot();
     expect(molfileAfter).not.toBe(molfileBefore);
   });
+
+  it('should report minimiser statistics', () => {
+    const mol = Molecule.fromSmiles('COCCON');
+    const gen = new ConformerGenerator(1);
+    gen.getOneConformerAsMolecule(mol);
+
+    const ff = new ForceFieldMMFF94(mol, 'MMFF94');
+    expect(ff.getMinimiserStatistics()).toBeNull();
+    expect(ff.minimise()).toBe(0);
+    const statistics = ff.getMinimiserStatistics();
+    expect(['gradient', 'position']).toContain(statistics.termination);
+    expect(statistics.iterations).toBeGreaterThan(0);
+    expect(statistics.energyEvaluations).toBeGreaterThanOrEqual(
+      statistics.iterations,
+    );
+    expect(statistics.finalEnergy).toBeLessThan(statistics.initialEnergy);
+    expect(statistics.finalEnergy).toBeCloseTo(ff.getTotalEnergy(), 6);
+    const breakdown = Object.values(statistics.energyBreakdown);
+    const sum = breakdown.reduce((total, energy) => total + energy, 0);
+    expect(sum).toBeCloseTo(statistics.finalEnergy, 6);
+    expect(statistics.time.total).toBeGreaterThanOrEqual(0);
+  });
+
+  it('should stop early on an energy plateau', () => {
+    const mol = Molecule.fromSmiles('COCCON');
+    const gen = new ConformerGenerator(1);
+    gen.getOneConformerAsMolecule(mol);
+    const copy = mol.getCompactCopy();
+
+    const ff = new ForceFieldMMFF94(mol, 'MMFF94');
+    ff.minimise();
+    const full = ff.getMinimiserStatistics();
+
+    const ffEarly = new ForceFieldMMFF94(copy, 'MMFF94');
+    expect(ffEarly.minimise({ plateauIterations: 1, plateauDecrease: 1e6 })).toBe(
+      0,
+    );
+    const early = ffEarly.getMinimiserStatistics();
+    expect(early.termination).toBe('earlyExit');
+    expect(early.iterations).toBe(1);
+    expect(early.iterations).toBeLessThan(full.iterations);
+    expect(copy.toMolfile()).not.toBe(mol.toMolfile());
+  });
+
+  it('should minimise conformers with a shared topology', () => {
+    const mol = Molecule.fromSmiles('COCCON');
+    const gen = new ConformerGenerator(1);
+    gen.initializeConformers(mol);
+    const conformers = [];
+    for (let i = 0; i < 3; i++) {
+      conformers.push(gen.getNextConformerAsMolecule());
+    }
+    const copies = conformers.map((conformer) => conformer.getCompactCopy());
+
+    const ff = new ForceFieldMMFF94(conformers[0], 'MMFF94');
+    const energies = ff.minimiseConformers(conformers);
+    expect(energies).toHaveLength(3);
+
+    for (let i = 0; i < copies.length; i++) {
+      const single = new ForceFieldMMFF94(copies[i], 'MMFF94');
+      single.minimise();
+      expect(copies[i].toMolfile()).toBe(conformers[i].toMolfile());
+      expect(single.getTotalEnergy()).toBe(energies[i]);
+    }
+  });
 });
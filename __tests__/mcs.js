@@ -0,0 +1,28 @@
+'use strict';
+
+const OCL = require('../core');
+
+const { Molecule, MCS, SSSearcher } = OCL;
+
+describe('MCS', () => {
+  it('should find the 10 bond MCS of piroxicam and melatonin', () => {
+    const piroxicam = Molecule.fromSmiles(
+      'CC1=C(C(=O)Nc2ccccn2)N(C)S(=O)(=O)c2ccccc12',
+    );
+    const melatonin = Molecule.fromSmiles('COc1ccc2[nH]cc(CCNC(C)=O)c2c1');
+
+    const mcs = new MCS(MCS.PAR_CLEAVE_RINGS);
+    mcs.set(piroxicam, melatonin);
+    const result = mcs.getMCS();
+    expect(result.getAllBonds()).toBe(10);
+    expect(result.getIDCode()).toBe('deV@@@RV[TYf`@@bF');
+
+    // the result must really be a common substructure
+    result.setFragment(true);
+    const searcher = new SSSearcher();
+    searcher.setMol(result, piroxicam);
+    expect(searcher.isFragmentInMolecule()).toBe(true);
+    searcher.setMol(result, melatonin);
+    expect(searcher.isFragmentInMolecule()).toBe(true);
+  });
+});
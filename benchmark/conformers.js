@@ -0,0 +1,44 @@
+'use strict';
+
+const Benchmark = require('benchmark');
+
+const OCLNew = require('../dist/openchemlib-core');
+const OCLOld = require('../distold/openchemlib-core');
+
+// large flexible molecules, for which atom collision checks dominate;
+// polyalanine has 303 atoms including hydrogens and uses the collision grid
+const molecules = {
+  lipid:
+    'CCCCCCCCCCCCCCCCCCCCCCCCCC(=O)OCC(OC(=O)CCCCCCCCCCCCCCC)COP(=O)(O)OCCN',
+  macrocycle: 'C1CCCCCCCCCCCCCCCCCCCCCCCCCCCCCCCCCCCCCCC1',
+  peptide:
+    'NCC(=O)NC(C)C(=O)NC(CC(C)C)C(=O)NC(Cc1ccccc1)C(=O)NC(CCCCN)C(=O)NC(CC(=O)O)C(=O)NC(CO)C(=O)NC(C(C)C)C(=O)O',
+  polyalanine: `N${'C(C)C(=O)N'.repeat(29)}C(C)C(=O)O`,
+};
+
+function generateConformers(OCL, smiles) {
+  const mol = OCL.Molecule.fromSmiles(smiles);
+  const generator = new OCL.ConformerGenerator(42);
+  generator.initializeConformers(mol);
+  for (let i = 0; i < 10; i++) {
+    if (!generator.getNextConformerAsMolecule()) break;
+  }
+}
+
+const suite = new Benchmark.Suite();
+
+for (const name of Object.keys(molecules)) {
+  suite
+    .add(`old ${name}`, function() {
+      generateConformers(OCLOld, molecules[name]);
+    })
+    .add(`new ${name}`, function() {
+      generateConformers(OCLNew, molecules[name]);
+    });
+}
+
+suite
+  .on('cycle', function(event) {
+    console.log(String(event.target));
+  })
+  .run();
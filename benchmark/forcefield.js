@@ -0,0 +1,54 @@
+'use strict';
+
+const OCLNew = require('../dist/openchemlib-core');
+const OCLOld = require('../distold/openchemlib-core');
+
+// drug-like molecules, for which 100 conformers each are minimised
+const molecules = [
+  'CC(C)Cc1ccc(cc1)C(C)C(=O)O',
+  'CN1CCC[C@H]1c1cccnc1',
+  'CC(=O)Oc1ccccc1C(=O)O',
+  'CN1C=NC2=C1C(=O)N(C(=O)N2C)C',
+  'CCN(CC)CCOC(=O)c1ccc(N)cc1',
+  'COc1ccc2[nH]cc(CCNC(C)=O)c2c1',
+  'CC(C)NCC(O)COc1cccc2ccccc12',
+  'Clc1ccc(cc1)C(c1ccccc1)N1CCN(CC1)CCOCC(=O)O',
+  'CC1=C(C(=O)Nc2ccccn2)N(C)S(=O)(=O)c2ccccc12',
+  'O=C(O)c1ccccc1Nc1cccc(c1)C(F)(F)F',
+];
+
+function getConformerMolfiles(OCL) {
+  const molfiles = [];
+  for (const smiles of molecules) {
+    const generator = new OCL.ConformerGenerator(42);
+    generator.initializeConformers(OCL.Molecule.fromSmiles(smiles));
+    for (let i = 0; i < 100; i++) {
+      const conformer = generator.getNextConformerAsMolecule();
+      if (!conformer) break;
+      molfiles.push(conformer.toMolfile());
+    }
+  }
+  return molfiles;
+}
+
+function minimiseAll(OCL, molfiles) {
+  let energy = 0;
+  for (const molfile of molfiles) {
+    const mol = OCL.Molecule.fromMolfile(molfile);
+    const forceField = new OCL.ForceFieldMMFF94(mol, 'MMFF94s+');
+    forceField.minimise();
+    energy += forceField.getTotalEnergy();
+  }
+  return energy;
+}
+
+const molfiles = getConformerMolfiles(OCLNew);
+console.log(`minimising ${molfiles.length} conformers`);
+
+for (const [name, OCL] of [['old', OCLOld], ['new', OCLNew]]) {
+  const start = Date.now();
+  const energy = minimiseAll(OCL, molfiles);
+  console.log(
+    `${name}: ${Date.now() - start} ms, total energy ${energy.toFixed(6)}`,
+  );
+}
@@ -106,6 +106,7 @@ function copyOpenchemlib() {
     '../src/com/actelion/research/gwt/chemlib/com',
   );
   const modifiedDir = path.join(__dirname, './openchemlib/modified/com');
+  const modifiedOpenMolDir = path.join(__dirname, './openchemlib/modified/org');
 
   const chemlibClasses = require('./openchemlib/classes');
 
@@ -134,6 +135,15 @@ function copyOpenchemlib() {
     );
   }
 
+  const modifiedOpenMol = chemlibClasses.modifiedOpenMolecules;
+  log(`Copying ${modifiedOpenMol.length} modified openmolecules classes`);
+  for (let i = 0; i < modifiedOpenMol.length; i++) {
+    fs.copySync(
+      path.join(modifiedOpenMolDir, modifiedOpenMol[i]),
+      path.join(outOpenMolDir, modifiedOpenMol[i]),
+    );
+  }
+
   const changed = chemlibClasses.changed;
   for (let i = 0; i < changed.length; i++) {
     const file = changed[i][0];
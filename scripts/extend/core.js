@@ -9,14 +9,72 @@ module.exports = function extendCore(exports) {
     }
   };
 
+  let defaultEnsembleOptions = {
+    seed: 0,
+    maxConformers: 200,
+    strategy: ConformerGenerator.STRATEGY_LIKELY_RANDOM,
+    useFF: false,
+    minRMSD: 0,
+    chunkSize: 1,
+  };
+  ConformerGenerator.generateEnsemble = async function generateEnsemble(
+    molecules,
+    options,
+  ) {
+    options = Object.assign({}, defaultEnsembleOptions, options);
+    const chunkSize = Math.max(1, options.chunkSize);
+    const result = new Array(molecules.length);
+    for (let i = 0; i < molecules.length; i++) {
+      if (i > 0 && i % chunkSize === 0) {
+        // give back control to the event loop between chunks
+        await new Promise((resolve) => setTimeout(resolve, 0));
+      }
+      result[i] = ConformerGenerator._generateConformerSet(
+        molecules[i],
+        options.seed,
+        i,
+        options.maxConformers,
+        options.strategy,
+        options.useFF,
+        options.minRMSD,
+      );
+    }
+    return result;
+  };
+
   let ForceFieldMMFF94 = exports.ForceFieldMMFF94;
   let defaultMinimiseOptions = {
     maxIts: 4000,
     gradTol: 1e-4,
     funcTol: 1e-6,
+    maxTime: 0,
+    plateauIterations: 0,
+    plateauDecrease: 1e-4,
   };
   ForceFieldMMFF94.prototype.minimise = function minimise(options) {
     options = Object.assign({}, defaultMinimiseOptions, options);
-    return this._minimise(options.maxIts, options.gradTol, options.funcTol);
+    return this._minimise(
+      options.maxIts,
+      options.gradTol,
+      options.funcTol,
+      options.maxTime,
+      options.plateauIterations,
+      options.plateauDecrease,
+    );
+  };
+  ForceFieldMMFF94.prototype.minimiseConformers = function minimiseConformers(
+    molecules,
+    options,
+  ) {
+    options = Object.assign({}, defaultMinimiseOptions, options);
+    return this._minimiseConformers(
+      molecules,
+      options.maxIts,
+      options.gradTol,
+      options.funcTol,
+      options.maxTime,
+      options.plateauIterations,
+      options.plateauDecrease,
+    );
   };
 };
@@ -7,25 +7,104 @@ const modified = [
 
   'chem/AbstractDrawingObject',
   'chem/DepictorTransformation',
+  'chem/SSSearcherWithIndex',
+
+  'chem/conf/ConformerEnsembleGenerator',
+  'chem/conf/ConformerSetGenerator',
+  'chem/conf/TorsionClassifier',
+  'chem/conf/TorsionDB',
+  'chem/conf/TorsionDetail',
+  'chem/conf/TorsionInfo',
+
+  'chem/descriptor/DescriptorEncoder',
+  'chem/descriptor/DescriptorHandlerLongCFP',
+  'chem/descriptor/FingerprintClusterer',
+  'chem/descriptor/FingerprintLSHIndex',
+
+  'chem/forcefield/AbstractForceField',
+  'chem/forcefield/EarlyExitPolicy',
+  'chem/forcefield/EnergyPlateauPolicy',
+  'chem/forcefield/MinimiserStatistics',
+  'chem/forcefield/WallTimePolicy',
+  'chem/forcefield/mmff/ForceFieldMMFF94',
+  'chem/forcefield/mmff/MMFFBatchMinimiser',
+  'chem/forcefield/mmff/MMFFEvaluator',
+  'chem/forcefield/mmff/MMFFTopology',
+  'chem/forcefield/mmff/NeighbourList',
+  'chem/forcefield/mmff/NonbondedTerms',
+  'chem/forcefield/mmff/ParameterTable',
+  'chem/forcefield/mmff/Tables',
+  'chem/forcefield/mmff/table/Angle',
+  'chem/forcefield/mmff/table/Atom',
+  'chem/forcefield/mmff/table/Bndk',
+  'chem/forcefield/mmff/table/Bond',
+  'chem/forcefield/mmff/table/Charge',
+  'chem/forcefield/mmff/table/CovRad',
+  'chem/forcefield/mmff/table/Def',
+  'chem/forcefield/mmff/table/Dfsb',
+  'chem/forcefield/mmff/table/HerschbachLaurie',
+  'chem/forcefield/mmff/table/OutOfPlane',
+  'chem/forcefield/mmff/table/Stbn',
+  'chem/forcefield/mmff/table/Torsion',
+  'chem/forcefield/mmff/table/VanDerWaals',
 
   'chem/io/DWARFileParser',
 
+  'chem/mcs/BondSetPool',
+  'chem/mcs/MCSFast',
+  'chem/mcs/MCSMulti',
+  'chem/mcs/MatchExtender',
+
+  'chem/phesa/AtomicOverlapKernel',
+  'chem/phesa/DescriptorHandlerShape',
+  'chem/phesa/EvaluableOverlap',
+  'chem/phesa/MolecularVolume',
+  'chem/phesa/PheSAAlignment',
+  'chem/phesa/PheSAAlignmentOptimizer',
+  'chem/phesa/PheSALibraryBuilder',
+  'chem/phesa/PheSAMolecule',
+  'chem/phesa/PheSAScreener',
+  'chem/phesa/QuickMathCalculator',
+  'chem/phesa/pharmacophore/AcceptorPoint',
+  'chem/phesa/pharmacophore/ChargePoint',
+  'chem/phesa/pharmacophore/DonorPoint',
+  'chem/phesa/pharmacophore/IPharmacophorePoint',
+  'chem/phesa/pharmacophore/PPGaussian',
+  'chem/phesa/pharmacophore/PPTriangle',
+  'chem/phesa/pharmacophore/PPTriangleIndex',
+  'chem/phesa/pharmacophore/PharmacophorePointFactory',
+  'chem/phesaflex/EvaluableFlexibleOverlap',
+  'chem/phesaflex/FlexibleAlignmentReplicaPool',
+  'chem/phesaflex/FlexibleShapeAlignment',
+  'chem/phesaflex/MetropolisMonteCarloHelper',
+
   'chem/prediction/DruglikenessPredictor',
   'chem/prediction/IncrementTable',
   'chem/prediction/ToxicityPredictor',
 
+  'chem/reaction/ReactionFingerprintIndex',
+
   'util/ConstantsDWAR',
 ];
 
 exports.modified = modified.map(getFilename);
 
+const modifiedOpenMolecules = [
+  'chem/conf/gen/CollisionDetector',
+  'chem/conf/gen/ConformerGenerator',
+  'chem/conf/gen/Rigid3DFragment',
+  'chem/conf/gen/RigidFragmentCache',
+];
+
+exports.modifiedOpenMolecules = modifiedOpenMolecules.map(
+  getOpenMoleculesFilename,
+);
+
 const changed = [
   ['chem/ChemistryHelper', removePrintf],
   ['chem/conf/BondLengthSet', changeBondLengthSet],
-  ['chem/conf/TorsionDB', changeTorsionDB],
   ['chem/forcefield/mmff/Csv', changeCsv],
   ['chem/forcefield/mmff/Separation', replaceHashTable],
-  ['chem/forcefield/mmff/Tables', changeTables],
   ['chem/forcefield/mmff/Vector3', changeVector3],
   ['chem/io/RXNFileV3Creator', removeRXNStringFormat],
   ['chem/Molecule', changeMolecule],
@@ -67,6 +146,10 @@ function getFilename(file) {
   return `actelion/research/${file}.java`;
 }
 
+function getOpenMoleculesFilename(file) {
+  return `openmolecules/${file}.java`;
+}
+
 function getFolderName(file) {
   return `actelion/research/${file}`;
 }
@@ -116,74 +199,8 @@ function removeRXNStringFormat(code) {
   );
 }
 
-const newInit = `
-private void init(int mode) {
-  mSupportedModes |= mode;
-
-  String[] tr = TorsionDBData.gettorsionIDData();
-  String[] ar = ((mode & MODE_ANGLES) == 0) ? null : TorsionDBData.gettorsionAngleData();
-  String[] rr = ((mode & MODE_ANGLES) == 0) ? null : TorsionDBData.gettorsionRangeData();
-  String[] fr = ((mode & MODE_ANGLES) == 0) ? null : TorsionDBData.gettorsionFrequencyData();
-  String[] br = ((mode & MODE_BINS) == 0) ? null : TorsionDBData.gettorsionBinsData();
-
-  for (int trLine = 0; trLine < tr.length; trLine++) {
-    String type = tr[trLine];
-    TorsionInfo torsionInfo = mTreeMap.get(type);
-		if (torsionInfo == null) {
-			torsionInfo = new TorsionInfo(getSymmetryType(type));
-			mTreeMap.put(type, torsionInfo);
-		}
-
-		if (ar != null) {
-			String[] angle = ar[trLine].split(",");
-			torsionInfo.angle = new short[angle.length];
-			for (int i=0; i<angle.length; i++)
-				torsionInfo.angle[i] = Short.parseShort(angle[i]);
-		}
-		if (rr != null) {
-			String[] range = rr[trLine].split(",");
-			torsionInfo.range = new short[range.length][2];
-			for (int i=0; i<range.length; i++) {
-				int index = range[i].indexOf('-', 1);
-				torsionInfo.range[i][0] = Short.parseShort(range[i].substring(0, index));
-				torsionInfo.range[i][1] = Short.parseShort(range[i].substring(index+1));
-			}
-		}
-		if (fr != null) {
-			String[] frequency = fr[trLine].split(",");
-			torsionInfo.frequency = new short[frequency.length];
-			for (int i=0; i<frequency.length; i++)
-				torsionInfo.frequency[i] = Byte.parseByte(frequency[i]);
-		}
-		if (br != null) {
-			String[] binSize = br[trLine].split(",");
-			torsionInfo.binSize = new byte[binSize.length];
-			for (int i=0; i<binSize.length; i++)
-				torsionInfo.binSize[i] = Byte.parseByte(binSize[i]);
-		}
-  }
-}
-`;
-
-function changeTorsionDB(code) {
-  code = code.replace(
-    'util.TreeMap;',
-    'util.TreeMap;\nimport com.actelion.research.chem.conf.TorsionDBData;',
-  );
-
-  const initIndexStart = code.indexOf('private void init');
-  const initIndexEnd = code.indexOf('/**', initIndexStart);
-
-  code =
-    code.substr(0, initIndexStart) +
-    newInit +
-    code.substr(initIndexEnd, code.length);
-
-  return code;
-}
-
 const newInitialize = `
-private static void initialize() {
+private static synchronized void initialize() {
   if (!isInitialized) {
     String[] bdr = TorsionDBData.getbondLengthDataData();
     String countString = bdr[0];
@@ -219,6 +236,11 @@ function changeBondLengthSet(code) {
     'chem.StereoMolecule;',
     'chem.StereoMolecule;\nimport com.actelion.research.chem.conf.TorsionDBData;',
   );
+  // conformers may be generated on multiple threads
+  code = code.replace(
+    'private static boolean isInitialized',
+    'private static volatile boolean isInitialized',
+  );
 
   const initIndexStart = code.indexOf('private static void initialize');
   const initIndexEnd = code.indexOf(
@@ -246,37 +268,6 @@ function changeCsv(code) {
   return code;
 }
 
-const newTables = `public static Tables newMMFF94(String tableSet) {
-  return new com.actelion.research.chem.forcefield.mmff.Tables(
-    CsvData.angleData,
-    CsvData.atomData,
-    CsvData.bciData,
-    CsvData.bndkData,
-    CsvData.bondData,
-    CsvData.covradData,
-    CsvData.dfsbData,
-    CsvData.defData,
-    CsvData.herschbachlaurieData,
-    (tableSet.equals(ForceFieldMMFF94.MMFF94S) || tableSet.equals(ForceFieldMMFF94.MMFF94SPLUS) ? CsvData.n94s_outofplaneData : CsvData.outofplaneData),
-    CsvData.pbciData,
-    CsvData.stbnData,
-    (tableSet.equals(ForceFieldMMFF94.MMFF94S) ? CsvData.n94s_torsionData : tableSet.equals(ForceFieldMMFF94.MMFF94SPLUS) ? CsvData.n94s_torsionPlusData : CsvData.torsionData),
-    CsvData.vanderwaalsData
-  );
-}`;
-
-function changeTables(code) {
-  const indexStart = code.indexOf('public static Tables');
-  const indexEnd = code.indexOf('}', indexStart);
-
-  code =
-    code.substr(0, indexStart) +
-    newTables +
-    code.substr(indexEnd + 1, code.length);
-
-  return code;
-}
-
 function replaceHashTable(code) {
   return code.replace(/Hashtable/g, 'HashMap');
 }
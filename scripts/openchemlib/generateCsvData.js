@@ -3,6 +3,8 @@
 const fs = require('fs');
 const path = require('path');
 
+const { encodeChars } = require('./javaString');
+
 const folder = 'main/resources/resources/forcefield/mmff94';
 const files = [
   'angle',
@@ -24,6 +26,9 @@ const files = [
   '94s/torsionPlus',
 ];
 
+// Must match ParameterTable.VALUE_OFFSET
+const valueOffset = 32;
+
 const start = `package com.actelion.research.chem.forcefield.mmff;
 
 public class CsvData {
@@ -34,6 +39,94 @@ const end = `
 }
 `;
 
+// Parses a decimal exactly into an integer scaled by 10^decimals
+function parseFixed(value, decimals) {
+  const negative = value.startsWith('-');
+  const [integer, fraction = ''] = value.replace(/^[-+]/, '').split('.');
+  if (fraction.length > decimals) {
+    throw new Error(`unexpected number of decimals: ${value}`);
+  }
+  const scaled = parseInt((integer || '0') + fraction.padEnd(decimals, '0'), 10);
+  if (negative && scaled === 0) {
+    throw new Error(`negative zero is not supported: ${value}`);
+  }
+  return negative ? -scaled : scaled;
+}
+
+function getDecimals(value) {
+  const dot = value.indexOf('.');
+  return dot === -1 ? 0 : value.length - dot - 1;
+}
+
+function fitsShort(value) {
+  return value >= -0x8000 && value <= 0x7fff;
+}
+
+function fitsInt(value) {
+  return value >= -0x80000000 && value <= 0x7fffffff;
+}
+
+// Converts a CSV table into the compact encoding decoded by ParameterTable:
+// row count, column count, type, decimals and width of every column, and
+// finally the cells column by column. Float cells are stored as fixed point
+// integers. Cells taking more than 16 bits are stored as two chars; cells
+// taking more than 32 bits are rejected.
+function encodeTable(file, contents) {
+  const lines = contents
+    .split('\n')
+    .map((line) => line.trim())
+    .filter((line) => line.length > 0);
+  const size = parseInt(lines[0], 10);
+  const format = lines[1].split(',').map((type) => type.trim());
+  const rows = lines
+    .slice(2, 2 + size)
+    .map((line) => line.split(',').map((cell) => cell.trim()));
+  if (rows.length !== size) {
+    throw new Error(`${file}: expected ${size} rows, found ${rows.length}`);
+  }
+
+  const header = [size, format.length];
+  const cells = [];
+  for (let c = 0; c < format.length; c++) {
+    const type = format[c].charAt(0);
+    let decimals = 0;
+    let values;
+    switch (type) {
+      case 'i':
+        values = rows.map((row) => parseInt(row[c], 10));
+        break;
+      case 'c':
+        values = rows.map((row) => row[c].replace(/['"]/g, '').charCodeAt(0));
+        break;
+      case 'f':
+        decimals = Math.max(...rows.map((row) => getDecimals(row[c])));
+        values = rows.map((row) => parseFixed(row[c], decimals));
+        break;
+      default:
+        throw new Error(`${file}: unknown column type ${format[c]}`);
+    }
+    const width = values.every(fitsShort) ? 1 : 2;
+    const outOfRange = values.find((value) => !fitsInt(value));
+    if (outOfRange !== undefined) {
+      throw new Error(
+        `${file}: value ${outOfRange} in column ${c} does not fit into an int`,
+      );
+    }
+    header.push(type.charCodeAt(0), decimals, width);
+    for (const value of values) {
+      if (width === 1) {
+        cells.push(value);
+      } else {
+        cells.push(value >> 16, value & 0xffff);
+      }
+    }
+  }
+
+  return encodeChars(
+    header.concat(cells).map((value) => (value + valueOffset) & 0xffff),
+  );
+}
+
 function generateCsvData({ config }) {
   const csvData = [start];
   for (const file of files) {
@@ -45,7 +138,7 @@ function generateCsvData({ config }) {
       `\npublic static final String ${file.replace(
         '94s/',
         'n94s_',
-      )}Data = ${JSON.stringify(contents)};\n`,
+      )}Data = "${encodeTable(file, contents)}";\n`,
     );
   }
   csvData.push(end);
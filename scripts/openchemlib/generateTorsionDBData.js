@@ -3,39 +3,119 @@
 const fs = require('fs');
 const path = require('path');
 
+const { encodeChar } = require('./javaString');
+
 const folder = 'main/resources/resources/cod';
-const files = [
-  'torsionID',
-  'torsionAngle',
-  'torsionRange',
-  'torsionFrequency',
-  'torsionBins',
-  'bondLengthData',
-];
+
+// Must match TorsionDBData.VALUE_OFFSET. Shifts the most frequent small values
+// into the printable ASCII range to keep the generated source compact.
+const valueOffset = 32;
+
+// Java string constants are limited to 65535 bytes of modified UTF-8
+const maxChunkLength = 16000;
 
 const start = `package com.actelion.research.chem.conf;
 
 public class TorsionDBData {
-
+  public static final int VALUE_OFFSET = ${valueOffset};
 `;
 
 const end = `
 }
 `;
 
+function readLines(config, file) {
+  const contents = fs.readFileSync(
+    path.join(config.openchemlib, folder, `${file}.txt`),
+    'utf8',
+  );
+  return contents.split('\n').filter((l) => l.length > 0);
+}
+
+// Encodes every value as one char. Chars are decoded with (short)(c - VALUE_OFFSET).
+function encodeValues(values) {
+  const chunks = [];
+  for (let i = 0; i < values.length; i += maxChunkLength) {
+    const chunk = values
+      .slice(i, i + maxChunkLength)
+      .map((value) => encodeChar((value + valueOffset) & 0xffff))
+      .join('');
+    chunks.push(`"${chunk}"`);
+  }
+  return chunks.join(',\n    ');
+}
+
+function getValuesMethod(name, values) {
+  return `\npublic static final String[] get${name}() { String[] result = {\n    ${encodeValues(
+    values,
+  )}\n  }; return result; }\n`;
+}
+
+function getStringsMethod(name, lines) {
+  const linesArray = lines.map((line) => JSON.stringify(line)).join(', ');
+  return `\npublic static final String[] get${name}() { String[] result = { ${linesArray} }; return result; }\n`;
+}
+
+function splitNumbers(line) {
+  return line.split(',').map((value) => parseInt(value, 10));
+}
+
 function generateTorsionDBData({ config }) {
-  const torsionDBData = [start];
-  for (const file of files) {
-    const contents = fs.readFileSync(
-      path.join(config.openchemlib, folder, `${file}.txt`),
-      'utf8',
-    );
-    const lines = contents.split('\n').filter((l) => l.length > 0);
-    const linesArray = lines.map((line) => JSON.stringify(line)).join(', ');
-    torsionDBData.push(
-      `\npublic static final String[] get${file}Data() { String[] result = { ${linesArray} }; return result; }\n`,
-    );
+  const ids = readLines(config, 'torsionID');
+  const angles = readLines(config, 'torsionAngle');
+  const ranges = readLines(config, 'torsionRange');
+  const frequencies = readLines(config, 'torsionFrequency');
+  const bins = readLines(config, 'torsionBins');
+
+  // TorsionDB looks up torsion IDs by binary search
+  const order = ids.map((id, index) => index);
+  order.sort((i1, i2) => (ids[i1] < ids[i2] ? -1 : ids[i1] > ids[i2] ? 1 : 0));
+
+  const peakCounts = [];
+  const angleValues = [];
+  const rangeValues = [];
+  const frequencyValues = [];
+  const binCounts = [];
+  const binValues = [];
+  for (const index of order) {
+    const angle = splitNumbers(angles[index]);
+    const frequency = splitNumbers(frequencies[index]);
+    const range = ranges[index].split(',');
+    if (frequency.length !== angle.length || range.length !== angle.length) {
+      throw new Error(`inconsistent torsion data for ${ids[index]}`);
+    }
+    peakCounts.push(angle.length);
+    angleValues.push(...angle);
+    frequencyValues.push(...frequency);
+    for (const r of range) {
+      const separator = r.indexOf('-', 1);
+      rangeValues.push(
+        parseInt(r.substring(0, separator), 10),
+        parseInt(r.substring(separator + 1), 10),
+      );
+    }
+
+    const bin = splitNumbers(bins[index]);
+    binCounts.push(bin.length);
+    binValues.push(...bin);
   }
+
+  const torsionDBData = [start];
+  torsionDBData.push(
+    getStringsMethod(
+      'torsionIDData',
+      order.map((index) => ids[index]),
+    ),
+  );
+  torsionDBData.push(getValuesMethod('TorsionPeakCounts', peakCounts));
+  torsionDBData.push(getValuesMethod('TorsionAngles', angleValues));
+  torsionDBData.push(getValuesMethod('TorsionRanges', rangeValues));
+  torsionDBData.push(getValuesMethod('TorsionFrequencies', frequencyValues));
+  torsionDBData.push(getValuesMethod('TorsionBinCounts', binCounts));
+  torsionDBData.push(getValuesMethod('TorsionBins', binValues));
+  torsionDBData.push(
+    getStringsMethod('bondLengthDataData', readLines(config, 'bondLengthData')),
+  );
   torsionDBData.push(end);
   return torsionDBData.join('');
 }
@@ -0,0 +1,40 @@
+'use strict';
+
+// Java string constants are limited to 65535 bytes of modified UTF-8
+const maxStringBytes = 65535;
+
+function encodeChar(code) {
+  switch (code) {
+    case 0x0a:
+      return '\\n';
+    case 0x0d:
+      return '\\r';
+    case 0x22:
+      return '\\"';
+    case 0x5c:
+      return '\\\\';
+    default:
+      return code >= 0x20 && code < 0x7f
+        ? String.fromCharCode(code)
+        : `\\u${code.toString(16).padStart(4, '0')}`;
+  }
+}
+
+// Number of bytes a char takes in the modified UTF-8 of a class file
+function getUTF8Length(code) {
+  return code !== 0 && code < 0x80 ? 1 : code < 0x800 ? 2 : 3;
+}
+
+// Encodes 16 bit values as the contents of a Java string literal.
+function encodeChars(codes) {
+  let bytes = 0;
+  for (const code of codes) {
+    bytes += getUTF8Length(code);
+  }
+  if (bytes > maxStringBytes) {
+    throw new Error(`string constant too long: ${bytes} bytes`);
+  }
+  return codes.map(encodeChar).join('');
+}
+
+module.exports = { encodeChar, encodeChars };
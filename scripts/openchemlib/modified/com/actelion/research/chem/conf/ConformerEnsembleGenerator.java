@@ -0,0 +1,128 @@
+package com.actelion.research.chem.conf;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.openmolecules.chem.conf.gen.ConformerGenerator;
+
+import com.actelion.research.chem.StereoMolecule;
+import com.actelion.research.chem.forcefield.mmff.BadAtomTypeException;
+import com.actelion.research.chem.forcefield.mmff.BadRingAromException;
+import com.actelion.research.chem.forcefield.mmff.ForceFieldMMFF94;
+
+/**
+ * ConformerEnsembleGenerator creates conformer sets for a batch of molecules on a fork-join pool.
+ * Every molecule gets its own ConformerGenerator, which is seeded with a seed derived from
+ * the common seed and the molecule's index within the batch. Therefore, if a seed other than 0L
+ * is given, the conformers of every molecule are the same, no matter how many threads are used.
+ * This also holds with a RigidFragmentCache registered, because cache entries are generated from the
+ * canonical fragment with a fixed seed and thus don't depend on which molecule needed a fragment first.
+ * However, fragments then get different conformers than without the cache.
+ * Conformers may optionally be minimized with the MMFF94s+ force field and conformers being
+ * too similar to an earlier conformer of the same molecule may be removed.
+ */
+public class ConformerEnsembleGenerator {
+	private static final int DEFAULT_MAX_CONFORMERS = 200;
+
+	private int mMaxConformers,mStrategy,mThreadCount;
+	private boolean mUseFF;
+	private double mMinRMSD;
+	private long mSeed;
+
+	/**
+	 * Creates an ensemble generator with default settings, i.e. up to 200 conformers per molecule
+	 * using STRATEGY_LIKELY_RANDOM without force field minimization and duplicate removal.
+	 * @param seed 0L for non-reproducible conformers
+	 */
+	public ConformerEnsembleGenerator(long seed) {
+		this(DEFAULT_MAX_CONFORMERS, ConformerGenerator.STRATEGY_LIKELY_RANDOM, false, 0.0, seed);
+		}
+
+	/**
+	 * @param maxConformers maximum number of conformers per molecule
+	 * @param strategy one of the ConformerGenerator.STRATEGY_ constants
+	 * @param useFF whether conformers are minimized with the MMFF94s+ force field
+	 * @param minRMSD heavy atom RMSD below which a conformer is considered a duplicate; 0.0 keeps all
+	 * @param seed 0L for non-reproducible conformers
+	 */
+	public ConformerEnsembleGenerator(int maxConformers, int strategy, boolean useFF, double minRMSD, long seed) {
+		mMaxConformers = maxConformers;
+		mStrategy = strategy;
+		mUseFF = useFF;
+		mMinRMSD = minRMSD;
+		mSeed = seed;
+		mThreadCount = Runtime.getRuntime().availableProcessors();
+		}
+
+	/**
+	 * @param threadCount number of worker threads; default is the number of available processors
+	 */
+	public void setThreadCount(int threadCount) {
+		mThreadCount = Math.max(1, threadCount);
+		}
+
+	/**
+	 * Generates conformer sets for all molecules. Molecules, for which no conformer can be
+	 * generated or which cannot be typed by the force field, get an empty conformer set.
+	 * Any other exception of a worker is rethrown.
+	 * @param mol
+	 * @return conformer sets in the order of the given molecules
+	 */
+	public ConformerSet[] generate(StereoMolecule[] mol) {
+		ConformerSet[] confSet = new ConformerSet[mol.length];
+		if (mol.length == 0)
+			return confSet;
+
+		// load shared static tables once before starting the workers
+		TorsionDB.initialize(TorsionDB.MODE_ANGLES);
+		if (mUseFF && !ForceFieldMMFF94.mTables.containsKey(ForceFieldMMFF94.MMFF94SPLUS))
+			ForceFieldMMFF94.initialize(ForceFieldMMFF94.MMFF94SPLUS);
+
+		ForkJoinPool pool = new ForkJoinPool(Math.min(mThreadCount, mol.length));
+		try {
+			pool.invoke(new EnsembleTask(mol, confSet, 0, mol.length));
+			}
+		finally {
+			pool.shutdown();
+			}
+		return confSet;
+		}
+
+	private ConformerSet generate(StereoMolecule mol, int index) {
+		ConformerSetGenerator generator = new ConformerSetGenerator(mMaxConformers, mStrategy, mUseFF, 0L);
+		generator.setMinimumRMSD(mMinRMSD);
+		try {
+			return generator.generateConformerSet(mol, ConformerSetGenerator.deriveSeed(mSeed, index));
+			}
+		catch (BadAtomTypeException | BadRingAromException e) {	// molecule not supported by the force field
+			return new ConformerSet();
+			}
+		}
+
+	private class EnsembleTask extends RecursiveAction {
+		private static final long serialVersionUID = 0x20190601;
+
+		private final StereoMolecule[] mMol;
+		private final ConformerSet[] mConfSet;
+		private final int mFirst,mLast;
+
+		EnsembleTask(StereoMolecule[] mol, ConformerSet[] confSet, int first, int last) {
+			mMol = mol;
+			mConfSet = confSet;
+			mFirst = first;
+			mLast = last;
+			}
+
+		@Override
+		protected void compute() {
+			if (mLast - mFirst == 1) {
+				mConfSet[mFirst] = generate(mMol[mFirst], mFirst);
+				return;
+				}
+
+			int middle = (mFirst + mLast) / 2;
+			invokeAll(new EnsembleTask(mMol, mConfSet, mFirst, middle),
+					  new EnsembleTask(mMol, mConfSet, middle, mLast));
+			}
+		}
+	}
@@ -0,0 +1,388 @@
+/*
+* Copyright (c) 1997 - 2016
+* Actelion Pharmaceuticals Ltd.
+* Gewerbestrasse 16
+* CH-4123 Allschwil, Switzerland
+*
+* All rights reserved.
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+* 3. Neither the name of the the copyright holder nor the
+*    names of its contributors may be used to endorse or promote products
+*    derived from this software without specific prior written permission.
+*
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+* ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+* WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+* ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+* (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+* LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+* ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+* (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+* SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*
+*/
+
+package com.actelion.research.chem.conf;
+
+import java.util.Arrays;
+
+class TorsionInfo {
+	short[] angle;
+	short[][] range;
+	short[] frequency;
+	byte[] binSize;
+	int symmetryClass;
+
+	public TorsionInfo(int symmetryClass) {
+		this.symmetryClass = symmetryClass;
+		}
+
+	/**
+	 * Create TorsionInfo describing a fragment with inverted stereo situation.
+	 * @param ti TorsionInfo of non-symmetrical fragment
+	 */
+	public TorsionInfo(TorsionInfo ti) {
+		symmetryClass = ti.symmetryClass;
+		if (ti.angle != null) {
+			angle = new short[ti.angle.length];
+			for (int i=0; i<angle.length; i++)
+				angle[i] = (short)(360 - ti.angle[angle.length-i-1]);
+			}
+		if (ti.range != null) {
+			range = new short[ti.range.length][2];
+			for (int i=0; i<range.length; i++) {
+				range[i][0] = (short)(360 - ti.range[angle.length-i-1][1]);
+				range[i][1] = (short)(360 - ti.range[angle.length-i-1][0]);
+				}
+			}
+		if (ti.frequency != null) {
+			frequency = new short[ti.frequency.length];
+			for (int i=0; i<frequency.length; i++)
+				frequency[i] = ti.frequency[frequency.length-i-1];
+			}
+		if (ti.binSize != null) {
+			binSize = new byte[ti.binSize.length];
+			for (int i=0; i<binSize.length; i++)
+				binSize[i] = ti.binSize[binSize.length-i-1];
+			}
+		}
+
+	/**
+	 * Returns list of preferred angles (0 <= angle < 360).
+	 * If fragment is symmetrical, then the quarter or half circle
+	 * angle list is mirrored on the fly to complete the full circle.
+	 * @return
+	 */
+	public short[] get360DegreeAngles() {
+		int i1,i2,length;
+		short[] fullAngle = null;
+		switch (symmetryClass) {
+		case TorsionDetail.SYMMETRY_C1D2:
+			fullAngle = new short[2*angle.length];
+			for (int i=0; i<angle.length; i++) {
+				fullAngle[i] = angle[i];
+				fullAngle[angle.length+i] = (short)(180+angle[i]);
+				}
+			return fullAngle;
+		case TorsionDetail.SYMMETRY_D1D1:
+			i1 = (angle[0] == 0) ? 1 : 0;
+			i2 = (angle[angle.length-1] == 180) ? angle.length-1 : angle.length;
+			length = i2 - i1;
+			fullAngle = new short[angle.length + length];
+			for (int i=0; i<angle.length; i++)
+				fullAngle[i] = angle[i];
+			for (int i=i1; i<i2; i++)
+				fullAngle[fullAngle.length-1-i+i1] = (short)(360-angle[i]);
+			return fullAngle;
+		case TorsionDetail.SYMMETRY_D1D2_OR_D2D2:
+			i1 = (angle[0] == 0) ? 1 : 0;
+			i2 = (angle[angle.length-1] == 90) ? angle.length-1 : angle.length;
+			length = i2 - i1;
+			fullAngle = new short[2*angle.length + 2*length];
+			for (int i=0; i<angle.length; i++) {
+				fullAngle[i] = angle[i];
+				fullAngle[angle.length+length+i] = (short)(180+angle[i]);
+				}
+			for (int i=i1; i<i2; i++) {
+				fullAngle[angle.length+length-1-i+i1] = (short)(180-angle[i]);
+				fullAngle[fullAngle.length-1-i+i1] = (short)(360-angle[i]);
+				}
+			return fullAngle;
+		default:	// TorsionDetail.SYMMETRY_C1C1_OR_C1D1
+			return Arrays.copyOf(angle, angle.length);	// callers may modify returned arrays
+			}
+		}
+
+	/**
+	 * Returns low and high peak limits, i.e. the angle ranges
+	 * with indices matching the array returned by get360DegreeAngles().
+	 * The second index
+	 * @return
+	 */
+	public short[][] get360DegreeRanges() {
+		short[][] fullRange = null;
+		int size = range.length;
+		switch (symmetryClass) {
+		case TorsionDetail.SYMMETRY_C1D2:
+			fullRange = new short[2*size][2];
+			for (int i=0; i<size; i++) {
+				fullRange[i][0] = range[i][0];
+				fullRange[i][1] = range[i][1];
+				fullRange[size+i][0] = (short)(180+range[i][0]);
+				fullRange[size+i][1] = (short)(180+range[i][1]);
+				}
+			return fullRange;
+		case TorsionDetail.SYMMETRY_D1D1:
+			int i1 = (angle[0] == 0) ? 1 : 0;
+			int i2 = (angle[size-1] == 180) ? size-1 : size;
+			int length = i2 - i1;
+			fullRange = new short[size+length][2];
+			for (int i=0; i<size; i++) {
+				fullRange[i][0] = range[i][0];
+				fullRange[i][1] = range[i][1];
+				}
+			for (int i=i1; i<i2; i++) {
+				fullRange[fullRange.length-1-i+i1][0] = (short)(360-range[i][1]);
+				fullRange[fullRange.length-1-i+i1][1] = (short)(360-range[i][0]);
+				}
+			return fullRange;
+		case TorsionDetail.SYMMETRY_D1D2_OR_D2D2:
+			i1 = (angle[0] == 0) ? 1 : 0;
+			i2 = (angle[size-1] == 90) ? size-1 : size;
+			length = i2 - i1;
+			fullRange = new short[2*size + 2*length][2];
+			for (int i=0; i<size; i++) {
+				fullRange[i][0] = range[i][0];
+				fullRange[i][1] = range[i][1];
+				fullRange[size+length+i][0] = (short)(180+range[i][0]);
+				fullRange[size+length+i][1] = (short)(180+range[i][1]);
+				}
+			for (int i=i1; i<i2; i++) {
+				fullRange[size+length-1-i+i1][0] = (short)(180-range[i][1]);
+				fullRange[size+length-1-i+i1][1] = (short)(180-range[i][0]);
+				fullRange[fullRange.length-1-i+i1][0] = (short)(360-range[i][1]);
+				fullRange[fullRange.length-1-i+i1][1] = (short)(360-range[i][0]);
+				}
+			return fullRange;
+		default:	// TorsionDetail.SYMMETRY_C1C1_OR_C1D1
+			fullRange = new short[size][];
+			for (int i=0; i<size; i++)
+				fullRange[i] = Arrays.copyOf(range[i], 2);
+			return fullRange;
+			}
+		}
+
+	/**
+	 * Returns list of preferred angle frequencies (0 <= angle < 360)
+	 * with indices matching the array returned by get360DegreeAngles().
+	 * @return
+	 */
+	public short[] get360DegreeFrequencies() {
+		short[] fullFrequency = null;
+		int size = frequency.length;
+		switch (symmetryClass) {
+		case TorsionDetail.SYMMETRY_C1D2:
+			fullFrequency = new short[2*size];
+			for (int i=0; i<size; i++) {
+				fullFrequency[i] = frequency[i];
+				fullFrequency[size+i] = frequency[i];
+				}
+			return fullFrequency;
+		case TorsionDetail.SYMMETRY_D1D1:
+			int i1 = (angle[0] == 0) ? 1 : 0;
+			int i2 = (angle[size-1] == 180) ? size-1 : size;
+			int length = i2 - i1;
+			fullFrequency = new short[size+length];
+			for (int i=0; i<size; i++)
+				fullFrequency[i] = frequency[i];
+			for (int i=i1; i<i2; i++)
+				fullFrequency[fullFrequency.length-1-i+i1] = frequency[i];
+			return fullFrequency;
+		case TorsionDetail.SYMMETRY_D1D2_OR_D2D2:
+			i1 = (angle[0] == 0) ? 1 : 0;
+			i2 = (angle[size-1] == 90) ? size-1 : size;
+			length = i2 - i1;
+			fullFrequency = new short[2*size + 2*length];
+			for (int i=0; i<size; i++) {
+				fullFrequency[i] = frequency[i];
+				fullFrequency[size+length+i] = frequency[i];
+				}
+			for (int i=i1; i<i2; i++) {
+				fullFrequency[size+length-1-i+i1] = frequency[i];
+				fullFrequency[fullFrequency.length-1-i+i1] = frequency[i];
+				}
+			return fullFrequency;
+		default:	// TorsionDetail.SYMMETRY_C1C1_OR_C1D1
+			return Arrays.copyOf(frequency, size);
+			}
+		}
+
+	public byte[] get72BinCounts() {
+		if (binSize.length == 72)   // SYMMETRY_C1C1_OR_C1D1
+			return Arrays.copyOf(binSize, 72);
+
+		byte[] fullBin = new byte[72];
+
+		switch (symmetryClass) {
+		case TorsionDetail.SYMMETRY_C1D2:
+			for (int i=0; i<36; i++) {
+				fullBin[i] = binSize[i];
+				fullBin[i+36] = binSize[i];
+				}
+			break;
+		case TorsionDetail.SYMMETRY_D1D1:
+			for (int i=0; i<36; i++) {
+				fullBin[i] = binSize[i];
+				fullBin[i+36] = binSize[36-i];
+				}
+			break;
+		case TorsionDetail.SYMMETRY_D1D2_OR_D2D2:
+			for (int i=0; i<18; i++) {
+				fullBin[i] = binSize[i];
+				fullBin[i+18] = binSize[18-i];
+				fullBin[i+36] = binSize[i];
+				fullBin[i+54] = binSize[18-i];
+				}
+			break;
+			}
+		return fullBin;
+		}
+
+	public void mergeTorsions(int mergeSpan) {
+		int additionalFrequency = 0;
+
+		while (angle.length != 0) {
+			if (angle.length == 1) {
+				if (symmetryClass == TorsionDetail.SYMMETRY_C1D2
+				 || symmetryClass == TorsionDetail.SYMMETRY_C1C1_OR_C1D1)
+					break;
+				else if (symmetryClass == TorsionDetail.SYMMETRY_D1D1
+						&& (angle[0] == 0 || angle[0] == 180))
+					break;
+				else if (symmetryClass == TorsionDetail.SYMMETRY_D1D2_OR_D2D2
+						&& (angle[0] == 0 || angle[0] == 90))
+				break;
+				}
+
+			int startIndex = (angle[0] != 0
+						   && (symmetryClass == TorsionDetail.SYMMETRY_D1D1
+							|| symmetryClass == TorsionDetail.SYMMETRY_D1D2_OR_D2D2)) ? -1 : 0;
+
+			int minIndex = -1;
+			int minAngleDif = Integer.MAX_VALUE;
+			for (int i1 = startIndex; i1<angle.length; i1++) {
+				int i2 = i1 + 1;
+				int angle1 = (i1 >= 0) ? angle[i1] : -angle[0];
+				int angle2 = (i2 < angle.length) ? angle[i2]
+							: (symmetryClass == TorsionDetail.SYMMETRY_C1D2) ? angle[0] + 180
+							: (symmetryClass == TorsionDetail.SYMMETRY_D1D1) ? 360 - angle[angle[i1] == 180 ? i1-1 : i1]
+							: (symmetryClass == TorsionDetail.SYMMETRY_D1D2_OR_D2D2) ? 180 - angle[angle[i1] == 90 ? i1-1 : i1] : angle[0] + 360;
+				if (minAngleDif > angle2 - angle1) {
+					minAngleDif = angle2 - angle1;
+					minIndex = i1;
+					}
+				}
+
+			if (minAngleDif > mergeSpan)
+				break;
+
+			int i1 = minIndex;
+			int i2 = i1+1;
+			if (i1 == -1) { // angle[0] != 0: we have a symmetrical peak at -angle[0]
+				additionalFrequency += frequency[0];
+				angle[0] = 0;
+				frequency[0] *= 2;
+				range[0][0] = (short)-range[0][1];
+				}
+			else if (i2 < angle.length) {
+				int mergedAngle = mergedAngle(i1, i2, angle[i2]);
+				mergeAngles(mergedAngle, i1, i2, range[i1][0], range[i2][1]);
+				}
+			else if (symmetryClass == TorsionDetail.SYMMETRY_C1D2) {
+				i2 = 0;
+				int mergedAngle = mergedAngle(i1, i2, angle[i2] + 180);
+				if (mergedAngle<=180)
+					mergeAngles(mergedAngle, i1, i2, range[i1][0], range[i2][1] + 180);
+				else
+					mergeAngles(mergedAngle - 180, i2, i1, range[i2][0], range[i1][1] - 180);
+				}
+			else if (symmetryClass == TorsionDetail.SYMMETRY_D1D1) {
+				i2 = angle[i1] == 180 ? i1-1 : i1;
+				if (angle[i1] < 180) {  // we merge with a symmetrical peak
+					additionalFrequency += frequency[i1];
+					angle[i1] = 180;
+					frequency[i1] *= 2;
+					range[i1][1] = (short)(360 - range[i1][0]);
+					}
+				else {  // should not happen, because we should have caught the symmetrical situation one peak earlier first
+					System.out.println("WARNING: TorsionDB - Should have caught the symmetrical situation one peak earlier.");
+					int mergedAngle = mergedAngle(i1, i2, angle[i2]);
+					mergeAngles(mergedAngle, i2, i1, range[i2][0], range[i1][1]);
+					}
+				}
+			else if (symmetryClass == TorsionDetail.SYMMETRY_D1D2_OR_D2D2) {
+				i2 = angle[i1] == 90 ? i1-1 : i1;
+				if (angle[i1] < 90) {  // we merge with a symmetrical peak
+					additionalFrequency += frequency[i1];
+					angle[i1] = 90;
+					frequency[i1] *= 2;
+					range[i1][1] = (short)(180 - range[i1][0]);
+					}
+				else {  // should not happen, because we should have caught the symmetrical situation one peak earlier first
+					System.out.println("WARNING: TorsionDB - Should have caught the symmetrical situation one peak earlier.");
+					int mergedAngle = mergedAngle(i1, i2, angle[i2]);
+					mergeAngles(mergedAngle, i2, i1, range[i2][0], range[i1][1]);
+					}
+				}
+			else {	// TorsionDetail.SYMMETRY_C1C1_OR_C1D1
+				i2 = 0;
+				int mergedAngle = mergedAngle(i1, i2, angle[i2] + 360);
+				if (mergedAngle<=360)
+					mergeAngles(mergedAngle, i1, i2, range[i1][0], range[i2][1] + 360);
+				else
+					mergeAngles(mergedAngle - 360, i2, i1, range[i2][0], range[i1][1] - 360);
+				}
+			}
+
+		if (additionalFrequency != 0)
+			for (int i=0; i<frequency.length; i++)
+				frequency[i] = (short)Math.round(100f * (float)frequency[i] / (100f + additionalFrequency));
+		}
+
+	private int mergedAngle(int i1, int i2, int angle2) {
+		return Math.round(((float)angle[i1]*frequency[i1]+(float)angle2*frequency[i2]) / (frequency[i1] + frequency[i2]));
+		}
+
+	private void mergeAngles(int mergedAngle, int iTarget, int iDelete, int range1, int range2) {
+		angle[iTarget] = (short)mergedAngle;
+		frequency[iTarget] = (short)(frequency[iTarget] + frequency[iDelete]);
+		range[iTarget][0] = (short)range1;
+		range[iTarget][1] = (short)range2;
+
+		int newSize = angle.length - 1;
+		short[] newAngle = new short[newSize];
+		short[] newFrequency = new short[newSize];
+		short[][] newRange = new short[newSize][];
+		int iNew = 0;
+		for (int i=0; i<angle.length; i++) {
+			if (i != iDelete) {
+				newAngle[iNew] = angle[i];
+				newFrequency[iNew] = frequency[i];
+				newRange[iNew] = range[i];
+				iNew++;
+				}
+			}
+		angle = newAngle;
+		frequency = newFrequency;
+		range = newRange;
+		}
+	}
\ No newline at end of file
@@ -0,0 +1,268 @@
+/*
+* Copyright (c) 1997 - 2016
+* Actelion Pharmaceuticals Ltd.
+* Gewerbestrasse 16
+* CH-4123 Allschwil, Switzerland
+*
+* All rights reserved.
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+* 3. Neither the name of the the copyright holder nor the
+*    names of its contributors may be used to endorse or promote products
+*    derived from this software without specific prior written permission.
+*
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+* ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+* WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+* ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+* (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+* LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+* ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+* (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+* SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*
+*/
+
+package com.actelion.research.chem.descriptor;
+
+import com.actelion.research.chem.Canonizer;
+import com.actelion.research.chem.Molecule;
+import com.actelion.research.chem.SSSearcherWithIndex;
+import com.actelion.research.chem.StereoMolecule;
+import com.actelion.research.util.BurtleHasher;
+
+import java.util.Arrays;
+
+public class DescriptorHandlerLongCFP extends AbstractDescriptorHandlerLongFP<StereoMolecule> {
+    private static final double CORRECTION_FACTOR = 0.6;
+
+    private static DescriptorHandlerLongCFP sDefaultInstance;
+    
+    private static final int SPHERE_COUNT = 5;
+    private static final int HASH_BITS = 10;
+    private static final int HASH_INIT = 13;
+    private static final int DESCRIPTOR_SIZE = (1 << HASH_BITS);
+
+    public static DescriptorHandlerLongCFP getDefaultInstance() {
+    	synchronized(DescriptorHandlerLongCFP.class) {
+    		if (sDefaultInstance == null) {
+                sDefaultInstance = new DescriptorHandlerLongCFP();
+        	}
+        }
+        return sDefaultInstance;
+    }
+
+    @Override
+    public DescriptorInfo getInfo() {
+        return DescriptorConstants.DESCRIPTOR_HashedCFp;
+    }
+
+    @Override
+    public String getVersion() {
+        return DescriptorConstants.DESCRIPTOR_HashedCFp.version;
+    }
+
+    /**
+     * This descriptor requires proper up/down bonds, because it encodes stereo parities.
+     * If a passed molecule is generated from idcode parsing, make sure that coordinates
+     * and up/down/bonds are available, i.e. that the IDCodeParser was instantiated with
+     * the respective option.
+     */
+    @Override
+    public long[] createDescriptor(StereoMolecule mol) {
+        if (mol ==null)
+            return null;
+
+        int[] hash = new int[mol.getAtoms() * SPHERE_COUNT];
+        int hashCount = createSphereHashes(mol, hash);
+
+        // byte[] descriptor = new byte[DESCRIPTOR_SIZE];
+        final int len = DESCRIPTOR_SIZE / Long.SIZE;
+        long[] data = new long[len];
+
+        for (int i=0; i<hashCount; i++) {
+            int h = (hash[i] & BurtleHasher.hashmask(HASH_BITS));
+
+            int index = len - h / Long.SIZE - 1;
+            int bitNo = h % 32;     // we need this strange 32 bit block handling to be compatible with the older 32-bit version
+            if (h % 64 >= 32)
+                bitNo += 32;
+            data[index] |= (1L << bitNo);
+            }
+
+        return data;
+        }
+
+    /**
+     * Creates the unfolded variant of this descriptor, which keeps the raw 32-bit sphere
+     * hashes instead of folding them into DESCRIPTOR_SIZE bits. The returned array is sorted
+     * in ascending order. If withCounts is true, every hash value is contained as often as
+     * the respective sphere fragment occurs in the molecule, otherwise every hash is contained
+     * once only. Use getSparseSimilarity() or getSparseSimilarityDice() for comparisons and
+     * encodeSparse()/decodeSparse() for persistence.
+     * @param mol
+     * @param withCounts whether to keep duplicate hashes as fragment counts
+     * @return sorted sphere hashes or null, if mol is null
+     */
+    public int[] createSparseDescriptor(StereoMolecule mol, boolean withCounts) {
+        if (mol ==null)
+            return null;
+
+        int[] hash = new int[mol.getAtoms() * SPHERE_COUNT];
+        int hashCount = createSphereHashes(mol, hash);
+        Arrays.sort(hash, 0, hashCount);
+
+        if (!withCounts && hashCount > 1) {
+            int uniqueCount = 1;
+            for (int i=1; i<hashCount; i++)
+                if (hash[i] != hash[uniqueCount-1])
+                    hash[uniqueCount++] = hash[i];
+            hashCount = uniqueCount;
+            }
+
+        return Arrays.copyOf(hash, hashCount);
+        }
+
+    /**
+     * Calculates the unfolded hash values of all sphere fragments of mol.
+     * @param mol
+     * @param hash receives the hash values; must hold at least mol.getAtoms()*SPHERE_COUNT values
+     * @return number of hash values written into hash
+     */
+    private int createSphereHashes(StereoMolecule mol, int[] hash) {
+        mol.ensureHelperArrays(Molecule.cHelperRings);
+        StereoMolecule fragment = new StereoMolecule(mol.getAtoms(), mol.getBonds());
+
+        int hashCount = 0;
+		int[] atomList = new int[mol.getAtoms()];
+        boolean[] atomMask = new boolean[mol.getAtoms()];
+        for (int rootAtom=0; rootAtom<mol.getAtoms(); rootAtom++) {
+            if (rootAtom != 0)
+                Arrays.fill(atomMask, false);
+
+            int min = 0;
+            int max = 0;
+            for (int sphere=0; sphere<SPHERE_COUNT && max<mol.getAtoms(); sphere++) {
+                if (max == 0) {
+                    atomList[0] = rootAtom;
+                    atomMask[rootAtom] = true;
+                    max = 1;
+                    }
+                else {
+                    int newMax = max;
+                    for (int i=min; i<max; i++) {
+                        int atom = atomList[i];
+                        for (int j=0; j<mol.getConnAtoms(atom); j++) {
+                            int connAtom = mol.getConnAtom(atom, j);
+                            if (!atomMask[connAtom]) {
+                                atomMask[connAtom] = true;
+                                atomList[newMax++] = connAtom;
+                                }
+                            }
+                        }
+                    min = max;
+                    max = newMax;
+                    }
+
+                mol.copyMoleculeByAtoms(fragment, atomMask, true, null);
+
+                // take fragment as it is
+                String idcode = new Canonizer(fragment).getIDCode();
+                hash[hashCount++] = BurtleHasher.hashlittle(idcode, HASH_INIT);
+//System.out.println("atom:"+rootAtom+"\tsphere:"+sphere+"\thash:"+hash[hashCount-1]+"\t"+idcode);
+                }
+            }
+
+        return hashCount;
+        }
+
+    @Override
+    public float getSimilarity(long[] o1, long[] o2) {
+        return o1 == null
+            || o2 == null
+            || o1.length == 0
+            || o2.length == 0 ? 0.0f
+        : normalizeValue(SSSearcherWithIndex.getSimilarityTanimoto(o1, o2));
+    }
+    
+	private float normalizeValue(double value) {
+		return value <= 0.0f ? 0.0f
+			 : value >= 1.0f ? 1.0f
+			 : (float)(1.0-Math.pow(1-Math.pow(value, CORRECTION_FACTOR) ,1.0/CORRECTION_FACTOR));
+	}
+
+    /**
+     * Calculates the Tanimoto similarity of two sparse descriptors created by
+     * createSparseDescriptor(). If the descriptors contain counts, then the
+     * similarity is the sum of minimum counts divided by the sum of maximum counts.
+     * Both arrays are merged in one pass, i.e. the effort is linear to the number
+     * of contained hashes rather than to the folded descriptor size.
+     * @param s1 sorted sphere hashes
+     * @param s2 sorted sphere hashes
+     * @return normalized similarity value
+     */
+    public float getSparseSimilarity(int[] s1, int[] s2) {
+        return s1 == null
+            || s2 == null
+            || s1.length == 0
+            || s2.length == 0 ? 0.0f
+        : normalizeValue(getSparseSimilarityTanimoto(s1, s2));
+    }
+
+    public static float getSparseSimilarityTanimoto(int[] s1, int[] s2) {
+        int sharedKeys = getSharedSparseKeys(s1, s2);
+        return (float)sharedKeys/(float)(s1.length+s2.length-sharedKeys);
+    }
+
+    public static float getSparseSimilarityDice(int[] s1, int[] s2) {
+        int sharedKeys = getSharedSparseKeys(s1, s2);
+        return 2f*sharedKeys/(float)(s1.length+s2.length);
+    }
+
+    /**
+     * @return number of matching entries of two sorted arrays, each entry being used once only
+     */
+    private static int getSharedSparseKeys(int[] s1, int[] s2) {
+        int sharedKeys = 0;
+        int i1 = 0;
+        int i2 = 0;
+        while (i1<s1.length && i2<s2.length) {
+            if (s1[i1] == s2[i2]) {
+                sharedKeys++;
+                i1++;
+                i2++;
+                }
+            else if (s1[i1] < s2[i2])
+                i1++;
+            else
+                i2++;
+            }
+        return sharedKeys;
+    }
+
+    public String encodeSparse(int[] s) {
+        return s == null ? null
+             : s.length == 0 ? FAILED_STRING
+             : new String(new DescriptorEncoder().encodeSparse(s));
+    }
+
+    public int[] decodeSparse(String s) {
+        return s == null ? null
+             : s.equals(FAILED_STRING) ? new int[0]
+             : new DescriptorEncoder().decodeSparse(s.getBytes());
+    }
+
+    @Override
+    public DescriptorHandler<long[], StereoMolecule> getThreadSafeCopy() {
+    	return this;
+    }
+
+}
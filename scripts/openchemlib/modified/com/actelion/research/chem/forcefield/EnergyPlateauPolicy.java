@@ -0,0 +1,26 @@
+package com.actelion.research.chem.forcefield;
+
+/**
+ * Stops the minimiser, once the energy decreased by less than a given amount
+ * within a given number of iterations.
+ */
+public class EnergyPlateauPolicy implements EarlyExitPolicy {
+	private final int mIterations;
+	private final double mMinDecrease;
+
+	/**
+	 * @param iterations number of iterations over which the energy decrease is measured
+	 * @param minDecrease energy decrease below which the minimiser is stopped
+	 */
+	public EnergyPlateauPolicy(int iterations, double minDecrease) {
+		mIterations = Math.max(1, iterations);
+		mMinDecrease = minDecrease;
+	}
+
+	@Override
+	public boolean isFinished(MinimiserStatistics statistics) {
+		int iteration = statistics.getIterations();
+		return iteration >= mIterations
+			&& statistics.getEnergy(iteration - mIterations) - statistics.getEnergy(iteration) < mMinDecrease;
+	}
+}
@@ -0,0 +1,219 @@
+package com.actelion.research.chem.forcefield;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * MinimiserStatistics describes one run of AbstractForceField's minimiser:
+ * the number of iterations, energy and gradient evaluations and failed
+ * line searches, the energy after every iteration, the time spent in the
+ * different phases of the minimiser, the reason why the minimiser stopped
+ * and the energy contributions of the different kinds of energy terms at
+ * the final positions. EarlyExitPolicies are passed the statistics of the
+ * running minimisation after every iteration.
+ */
+public class MinimiserStatistics {
+	public static final int TERMINATION_RUNNING = 0;
+	public static final int TERMINATION_GRADIENT = 1;
+	public static final int TERMINATION_POSITION = 2;
+	public static final int TERMINATION_MAX_ITERATIONS = 3;
+	public static final int TERMINATION_LINE_SEARCH = 4;
+	public static final int TERMINATION_INTERRUPTED = 5;
+	public static final int TERMINATION_EARLY_EXIT = 6;
+
+	private static final String[] TERMINATION_NAME = {
+			"running", "gradient", "position", "maxIterations", "lineSearch", "interrupted", "earlyExit" };
+
+	private static final double NANOS_PER_MILLI = 1000000.0;
+
+	private int mIterations,mEnergyEvaluations,mGradientEvaluations,mLineSearchFailures,mTermination;
+	private long mStartNanos,mTotalNanos,mEnergyNanos,mGradientNanos,mLineSearchNanos,mHessianNanos;
+	private double[] mEnergy;
+	private EarlyExitPolicy mExitPolicy;
+	private Map<String,Double> mEnergyBreakdown;
+
+	MinimiserStatistics() {
+		mEnergy = new double[64];
+		mStartNanos = System.nanoTime();
+	}
+
+	void addEnergyEvaluation(long nanos) {
+		mEnergyEvaluations++;
+		mEnergyNanos += nanos;
+	}
+
+	void addGradientEvaluation(long nanos) {
+		mGradientEvaluations++;
+		mGradientNanos += nanos;
+	}
+
+	void addLineSearch(long nanos, boolean failed) {
+		mLineSearchNanos += nanos;
+		if (failed)
+			mLineSearchFailures++;
+	}
+
+	void addHessianUpdate(long nanos) {
+		mHessianNanos += nanos;
+	}
+
+	/**
+	 * Records the energy before the first iteration (iteration 0) or after an iteration.
+	 * @param energy
+	 */
+	void addEnergy(double energy) {
+		if (mIterations + 1 == mEnergy.length)
+			mEnergy = Arrays.copyOf(mEnergy, 2 * mEnergy.length);
+		mEnergy[mIterations + 1] = energy;
+		mIterations++;
+	}
+
+	void setInitialEnergy(double energy) {
+		mEnergy[0] = energy;
+	}
+
+	void finish(int termination, EarlyExitPolicy exitPolicy) {
+		mTermination = termination;
+		mExitPolicy = exitPolicy;
+		mTotalNanos = System.nanoTime() - mStartNanos;
+	}
+
+	void setEnergyBreakdown(Map<String,Double> energyBreakdown) {
+		mEnergyBreakdown = energyBreakdown;
+	}
+
+	/**
+	 * @return number of completed iterations, i.e. line searches that moved the atoms
+	 */
+	public int getIterations() {
+		return mIterations;
+	}
+
+	/**
+	 * @return number of energy calculations including those of the line searches
+	 */
+	public int getEnergyEvaluations() {
+		return mEnergyEvaluations;
+	}
+
+	/**
+	 * @return number of gradient calculations
+	 */
+	public int getGradientEvaluations() {
+		return mGradientEvaluations;
+	}
+
+	/**
+	 * A line search fails, if the search direction is not downhill or if the step
+	 * became too small before the energy decreased sufficiently. The former stops the minimiser.
+	 * @return number of failed line searches
+	 */
+	public int getLineSearchFailures() {
+		return mLineSearchFailures;
+	}
+
+	/**
+	 * @param iteration 0 for the initial energy or an iteration from 1 to getIterations()
+	 * @return energy after the given iteration
+	 */
+	public double getEnergy(int iteration) {
+		return mEnergy[iteration];
+	}
+
+	/**
+	 * @return energies before the first and after every iteration
+	 */
+	public double[] getEnergies() {
+		return Arrays.copyOf(mEnergy, mIterations + 1);
+	}
+
+	/**
+	 * @return energy at the starting positions
+	 */
+	public double getInitialEnergy() {
+		return mEnergy[0];
+	}
+
+	/**
+	 * @return energy after the last completed iteration
+	 */
+	public double getFinalEnergy() {
+		return mEnergy[mIterations];
+	}
+
+	/**
+	 * @return one of the TERMINATION_ constants; TERMINATION_RUNNING while the minimiser runs
+	 */
+	public int getTermination() {
+		return mTermination;
+	}
+
+	/**
+	 * @return short name of the termination reason, e.g. "gradient" or "maxIterations"
+	 */
+	public String getTerminationName() {
+		return TERMINATION_NAME[mTermination];
+	}
+
+	/**
+	 * @return the policy that stopped the minimiser or null
+	 */
+	public EarlyExitPolicy getExitPolicy() {
+		return mExitPolicy;
+	}
+
+	/**
+	 * @return energies of the different kinds of energy terms at the final positions
+	 * as provided by AbstractForceField.getEnergyBreakdown(); null while the minimiser runs
+	 */
+	public Map<String,Double> getEnergyBreakdown() {
+		return mEnergyBreakdown;
+	}
+
+	/**
+	 * @return milliseconds since the minimiser started or its total run time, if it has finished
+	 */
+	public double getElapsedMillis() {
+		return (mTermination == TERMINATION_RUNNING ? System.nanoTime() - mStartNanos : mTotalNanos) / NANOS_PER_MILLI;
+	}
+
+	/**
+	 * @return milliseconds spent calculating energies
+	 */
+	public double getEnergyMillis() {
+		return mEnergyNanos / NANOS_PER_MILLI;
+	}
+
+	/**
+	 * @return milliseconds spent calculating gradients
+	 */
+	public double getGradientMillis() {
+		return mGradientNanos / NANOS_PER_MILLI;
+	}
+
+	/**
+	 * @return milliseconds spent in line searches including their energy calculations
+	 */
+	public double getLineSearchMillis() {
+		return mLineSearchNanos / NANOS_PER_MILLI;
+	}
+
+	/**
+	 * @return milliseconds spent updating the inverse Hessian and the search direction
+	 */
+	public double getHessianMillis() {
+		return mHessianNanos / NANOS_PER_MILLI;
+	}
+
+	@Override
+	public String toString() {
+		return "termination:" + getTerminationName()
+			 + " iterations:" + mIterations
+			 + " energyEvaluations:" + mEnergyEvaluations
+			 + " gradientEvaluations:" + mGradientEvaluations
+			 + " lineSearchFailures:" + mLineSearchFailures
+			 + " initialEnergy:" + getInitialEnergy()
+			 + " finalEnergy:" + getFinalEnergy()
+			 + " millis:" + getElapsedMillis();
+	}
+}
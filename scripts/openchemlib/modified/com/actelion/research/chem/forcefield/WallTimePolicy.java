@@ -0,0 +1,20 @@
+package com.actelion.research.chem.forcefield;
+
+/**
+ * Stops the minimiser, once it has been running for a given time.
+ */
+public class WallTimePolicy implements EarlyExitPolicy {
+	private final double mMaxMillis;
+
+	/**
+	 * @param maxMillis maximum run time of one minimisation in milliseconds
+	 */
+	public WallTimePolicy(double maxMillis) {
+		mMaxMillis = maxMillis;
+	}
+
+	@Override
+	public boolean isFinished(MinimiserStatistics statistics) {
+		return statistics.getElapsedMillis() >= mMaxMillis;
+	}
+}
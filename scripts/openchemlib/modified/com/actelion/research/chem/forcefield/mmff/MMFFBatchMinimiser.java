@@ -0,0 +1,190 @@
+/*
+* Copyright (c) 1997 - 2016
+* Actelion Pharmaceuticals Ltd.
+* Gewerbestrasse 16
+* CH-4123 Allschwil, Switzerland
+*
+* All rights reserved.
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+* 3. Neither the name of the the copyright holder nor the
+*    names of its contributors may be used to endorse or promote products
+*    derived from this software without specific prior written permission.
+*
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+* ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+* WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+* ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+* (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+* LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+* ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+* (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+* SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*
+*/
+
+
+package com.actelion.research.chem.forcefield.mmff;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.actelion.research.chem.StereoMolecule;
+import com.actelion.research.chem.forcefield.EarlyExitPolicy;
+import com.actelion.research.chem.forcefield.MinimiserStatistics;
+
+/**
+ * The batch minimiser minimises many conformers of the same molecule in
+ * parallel on a fork-join pool. All conformers share one MMFFTopology,
+ * such that atom typing and the parameterisation of energy terms are done
+ * only once. The result of every conformer is the same as if it was
+ * minimised with its own ForceFieldMMFF94, no matter how many threads are
+ * used. Optional EarlyExitPolicies allow trading accuracy for throughput
+ * and the MinimiserStatistics of every conformer show, how many
+ * iterations were needed and why each minimisation stopped.
+ */
+public class MMFFBatchMinimiser {
+    private final MMFFTopology mTopology;
+    private int mThreadCount;
+    private int mMaxIts;
+    private double mGradTol;
+    private double mFuncTol;
+    private final List<EarlyExitPolicy> mExitPolicies = new ArrayList<EarlyExitPolicy>();
+    private MinimiserStatistics[] mStatistics;
+
+    /**
+     * Creates a batch minimiser using default parameter values for the
+     * number of iterations, energy tolerance and gradient tolerance and
+     * one thread per available processor.
+     *  @param topology The topology of the molecule of all conformers.
+     */
+    public MMFFBatchMinimiser(MMFFTopology topology) {
+        mTopology = topology;
+        mThreadCount = Runtime.getRuntime().availableProcessors();
+        mMaxIts = 4000;
+        mGradTol = 1e-4;
+        mFuncTol = 1e-6;
+    }
+
+    /**
+     * Creates a batch minimiser with a new topology for a molecule.
+     *  @param mol The molecule, any conformer of which can be used.
+     *  @param tablename The string name for the Tables to be used.
+     *  @param options A Map containing the ForceField options and values.
+     */
+    public MMFFBatchMinimiser(StereoMolecule mol, String tablename,
+            Map<String, Object> options) {
+        this(new MMFFTopology(mol, tablename, options));
+    }
+
+    /**
+     * @param threadCount number of worker threads; default is the number
+     *      of available processors
+     */
+    public void setThreadCount(int threadCount) {
+        mThreadCount = Math.max(1, threadCount);
+    }
+
+    /**
+     * Sets the convergence criteria of every minimisation.
+     *  @param maxIts The maximum number of iterations to run for.
+     *  @param gradTol The gradient tolerance.
+     *  @param funcTol The energy tolerance.
+     */
+    public void setConvergence(int maxIts, double gradTol, double funcTol) {
+        mMaxIts = maxIts;
+        mGradTol = gradTol;
+        mFuncTol = funcTol;
+    }
+
+    /**
+     * Adds a policy, which may stop the minimisation of any conformer
+     * before it converged. The policy is shared by all threads.
+     *  @param policy The policy.
+     */
+    public void addEarlyExitPolicy(EarlyExitPolicy policy) {
+        mExitPolicies.add(policy);
+    }
+
+    /**
+     * @return statistics of every conformer's minimisation of the last
+     *      call to minimise() in the order of its conformers
+     */
+    public MinimiserStatistics[] getStatistics() {
+        return mStatistics;
+    }
+
+    /**
+     * @return the topology shared by all conformers
+     */
+    public MMFFTopology getTopology() {
+        return mTopology;
+    }
+
+    /**
+     * Minimises all conformers in parallel. Conformers, whose minimisation
+     * succeeds, get updated coordinates.
+     *  @param conformers The conformers to be minimised.
+     *  @return The energies of the conformers after minimisation in the
+     *      order of the given conformers.
+     */
+    public double[] minimise(StereoMolecule[] conformers) {
+        double[] energy = new double[conformers.length];
+        mStatistics = new MinimiserStatistics[conformers.length];
+        if (conformers.length == 0)
+            return energy;
+
+        ForkJoinPool pool = new ForkJoinPool(Math.min(mThreadCount, conformers.length));
+        try {
+            pool.invoke(new MinimiseTask(conformers, energy, 0, conformers.length));
+        } finally {
+            pool.shutdown();
+        }
+        return energy;
+    }
+
+    private class MinimiseTask extends RecursiveAction {
+        private static final long serialVersionUID = 0x20190610;
+
+        private final StereoMolecule[] mConformers;
+        private final double[] mEnergy;
+        private final int mFirst;
+        private final int mLast;
+
+        MinimiseTask(StereoMolecule[] conformers, double[] energy, int first, int last) {
+            mConformers = conformers;
+            mEnergy = energy;
+            mFirst = first;
+            mLast = last;
+        }
+
+        @Override
+        protected void compute() {
+            if (mLast - mFirst == 1) {
+                ForceFieldMMFF94 ff = new ForceFieldMMFF94(mTopology,
+                        mConformers[mFirst]);
+                for (EarlyExitPolicy policy : mExitPolicies)
+                    ff.addEarlyExitPolicy(policy);
+                mEnergy[mFirst] = MMFFTopology.minimise(ff,
+                        mConformers[mFirst], mMaxIts, mGradTol, mFuncTol);
+                mStatistics[mFirst] = ff.getStatistics();
+                return;
+            }
+
+            int middle = (mFirst + mLast) / 2;
+            invokeAll(new MinimiseTask(mConformers, mEnergy, mFirst, middle),
+                      new MinimiseTask(mConformers, mEnergy, middle, mLast));
+        }
+    }
+}
@@ -0,0 +1,311 @@
+/*
+* Copyright (c) 1997 - 2016
+* Actelion Pharmaceuticals Ltd.
+* Gewerbestrasse 16
+* CH-4123 Allschwil, Switzerland
+*
+* All rights reserved.
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+* 3. Neither the name of the the copyright holder nor the
+*    names of its contributors may be used to endorse or promote products
+*    derived from this software without specific prior written permission.
+*
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+* ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+* WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+* ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+* (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+* LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+* ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+* (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+* SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*
+*/
+
+package com.actelion.research.chem.forcefield.mmff;
+
+/**
+ * NonbondedTerms stores van der Waals and electrostatic atom pair terms
+ * in flat arrays and evaluates them in tight loops. It is used by the
+ * MMFFEvaluator for the fixed pair terms of a force field and by the
+ * NeighbourList for the pairs of its current pair list. The arithmetic
+ * is the same as in VanDerWaals and Electrostatic. Optionally, pairs
+ * further apart than a cutoff distance are ignored and the interactions
+ * are smoothly switched off within a given width below the cutoff.
+ */
+final class NonbondedTerms {
+    private static final double DIEL = 332.0716;
+    private static final double VDW1 = 1.07;
+    private static final double VDW1M1 = VDW1 - 1.0;
+    private static final double VDW2 = 1.12;
+    private static final double VDW2M1 = VDW2 - 1.0;
+    private static final double VDW2T7 = VDW2 * 7.0;
+
+    private int mVdwCount;
+    private int[] mVdwAtom;
+    private double[] mVdwRStar;
+    private double[] mVdwRStar7;
+    private double[] mVdwWellDepth;
+
+    private int mEleCount;
+    private int[] mEleAtom;
+    private double[] mEleChargeTerm;
+    private double[] mEleScale;
+    private boolean[] mEleDistModel;
+
+    private double mCutoff;
+    private double mSwitchOn;
+    private double mSwitchOn2;
+    private double mCutoff2;
+    private double mSwitchDenominator;
+
+    /**
+     * Creates an empty set of pair terms without cutoff.
+     */
+    NonbondedTerms() {
+        mVdwAtom = new int[32];
+        mVdwRStar = new double[16];
+        mVdwRStar7 = new double[16];
+        mVdwWellDepth = new double[16];
+        mEleAtom = new int[32];
+        mEleChargeTerm = new double[16];
+        mEleScale = new double[16];
+        mEleDistModel = new boolean[16];
+        mCutoff = Double.POSITIVE_INFINITY;
+        mSwitchOn = Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Pairs with a distance of cutoff or more don't contribute. Between
+     * cutoff-switchWidth and cutoff, energies are scaled by a switching
+     * function, which smoothly goes from 1 to 0 with continuous gradients.
+     *  @param cutoff The cutoff distance.
+     *  @param switchWidth The width of the switching region.
+     */
+    void setCutoff(double cutoff, double switchWidth) {
+        mCutoff = cutoff;
+        mSwitchOn = Math.max(0.0, cutoff - switchWidth);
+        mCutoff2 = cutoff * cutoff;
+        mSwitchOn2 = mSwitchOn * mSwitchOn;
+        double width2 = mCutoff2 - mSwitchOn2;
+        mSwitchDenominator = width2 * width2 * width2;
+    }
+
+    /**
+     * Removes all pair terms.
+     */
+    void clear() {
+        mVdwCount = 0;
+        mEleCount = 0;
+    }
+
+    int getVanDerWaalsCount() {
+        return mVdwCount;
+    }
+
+    int getElectrostaticCount() {
+        return mEleCount;
+    }
+
+    void addVanDerWaals(int a1, int a2, double rstar_ij, double well_depth) {
+        if (mVdwCount == mVdwRStar.length) {
+            int size = 2 * mVdwCount;
+            mVdwAtom = copyOf(mVdwAtom, 2 * size);
+            mVdwRStar = copyOf(mVdwRStar, size);
+            mVdwRStar7 = copyOf(mVdwRStar7, size);
+            mVdwWellDepth = copyOf(mVdwWellDepth, size);
+        }
+        final double rstar_ij2 = rstar_ij * rstar_ij;
+        mVdwAtom[2*mVdwCount    ] = a1;
+        mVdwAtom[2*mVdwCount + 1] = a2;
+        mVdwRStar[mVdwCount] = rstar_ij;
+        mVdwRStar7[mVdwCount] = rstar_ij2 * rstar_ij2 * rstar_ij2 * rstar_ij;
+        mVdwWellDepth[mVdwCount] = well_depth;
+        mVdwCount++;
+    }
+
+    void addElectrostatic(int a1, int a2, double charge_term, double scale,
+                          boolean distModel) {
+        if (mEleCount == mEleChargeTerm.length) {
+            int size = 2 * mEleCount;
+            mEleAtom = copyOf(mEleAtom, 2 * size);
+            mEleChargeTerm = copyOf(mEleChargeTerm, size);
+            mEleScale = copyOf(mEleScale, size);
+            boolean[] distModels = new boolean[size];
+            System.arraycopy(mEleDistModel, 0, distModels, 0, mEleCount);
+            mEleDistModel = distModels;
+        }
+        mEleAtom[2*mEleCount    ] = a1;
+        mEleAtom[2*mEleCount + 1] = a2;
+        mEleChargeTerm[mEleCount] = charge_term;
+        mEleScale[mEleCount] = scale;
+        mEleDistModel[mEleCount] = distModel;
+        mEleCount++;
+    }
+
+    private static int[] copyOf(int[] a, int size) {
+        int[] copy = new int[size];
+        System.arraycopy(a, 0, copy, 0, a.length);
+        return copy;
+    }
+
+    private static double[] copyOf(double[] a, int size) {
+        double[] copy = new double[size];
+        System.arraycopy(a, 0, copy, 0, a.length);
+        return copy;
+    }
+
+    private double switchingFactor(double dist) {
+        final double d2 = dist * dist;
+        final double t = mCutoff2 - d2;
+        return t * t * (mCutoff2 + 2.0 * d2 - 3.0 * mSwitchOn2) / mSwitchDenominator;
+    }
+
+    private double switchingDerivative(double dist) {
+        final double d2 = dist * dist;
+        return 12.0 * dist * (mCutoff2 - d2) * (mSwitchOn2 - d2) / mSwitchDenominator;
+    }
+
+    double addElectrostaticEnergies(double[] pos, double total) {
+        for (int t=0; t<mEleCount; t++) {
+            final int p1 = 3*mEleAtom[2*t];
+            final int p2 = 3*mEleAtom[2*t + 1];
+            final double dx = pos[p2] - pos[p1];
+            final double dy = pos[p2 + 1] - pos[p1 + 1];
+            final double dz = pos[p2 + 2] - pos[p1 + 2];
+            final double dist = Math.sqrt(dx*dx + dy*dy + dz*dz);
+            if (dist >= mCutoff)
+                continue;
+
+            double corr_dist = dist + 0.05;
+
+            if (mEleDistModel[t])
+                corr_dist *= corr_dist;
+
+            double energy = DIEL * mEleChargeTerm[t] / corr_dist * mEleScale[t];
+            if (dist > mSwitchOn)
+                energy *= switchingFactor(dist);
+
+            total += energy;
+        }
+        return total;
+    }
+
+    void addElectrostaticGradients(double[] pos, double[] grad) {
+        for (int t=0; t<mEleCount; t++) {
+            final int p1 = 3*mEleAtom[2*t];
+            final int p2 = 3*mEleAtom[2*t + 1];
+            final boolean distModel = mEleDistModel[t];
+            final double dx = pos[p2] - pos[p1];
+            final double dy = pos[p2 + 1] - pos[p1 + 1];
+            final double dz = pos[p2 + 2] - pos[p1 + 2];
+            final double dist = Math.sqrt(dx*dx + dy*dy + dz*dz);
+            if (dist >= mCutoff)
+                continue;
+
+            double corr_dist = dist + 0.05;
+
+            corr_dist *= (distModel ? corr_dist * corr_dist : corr_dist);
+
+            double dE_dr = -DIEL * (distModel ? 2.0 : 1.0)
+                * mEleChargeTerm[t] / corr_dist * mEleScale[t];
+
+            if (dist > mSwitchOn) {
+                double energy_dist = dist + 0.05;
+                if (distModel)
+                    energy_dist *= energy_dist;
+                final double energy = DIEL * mEleChargeTerm[t] / energy_dist * mEleScale[t];
+                dE_dr = dE_dr * switchingFactor(dist) + energy * switchingDerivative(dist);
+            }
+
+            for (int i=0; i<3; i++) {
+                double dGrad = 0.02;
+                if (dist > 0.0)
+                    dGrad = dE_dr * (pos[p1 + i] - pos[p2 + i]) / dist;
+
+                grad[p1 + i] += dGrad;
+                grad[p2 + i] -= dGrad;
+            }
+        }
+    }
+
+    double addVanDerWaalsEnergies(double[] pos, double total) {
+        for (int t=0; t<mVdwCount; t++) {
+            final int p1 = 3*mVdwAtom[2*t];
+            final int p2 = 3*mVdwAtom[2*t + 1];
+            final double dx = pos[p2] - pos[p1];
+            final double dy = pos[p2 + 1] - pos[p1 + 1];
+            final double dz = pos[p2 + 2] - pos[p1 + 2];
+            final double dist = Math.sqrt(dx*dx + dy*dy + dz*dz);
+            if (dist >= mCutoff)
+                continue;
+
+            double energy = getVanDerWaalsEnergy(t, dist);
+            if (dist > mSwitchOn)
+                energy *= switchingFactor(dist);
+
+            total += energy;
+        }
+        return total;
+    }
+
+    private double getVanDerWaalsEnergy(int t, double dist) {
+        final double rstar_ij = mVdwRStar[t];
+        final double rstar_ij7 = mVdwRStar7[t];
+        final double dist2 = dist * dist;
+        final double dist7 = dist2 * dist2 * dist2 * dist;
+        final double aTerm = VDW1 * rstar_ij / (dist + VDW1M1 * rstar_ij);
+        final double aTerm2 = aTerm * aTerm;
+        final double aTerm7 = aTerm2 * aTerm2 * aTerm2 * aTerm;
+        final double bTerm = VDW2*rstar_ij7 / (dist7 + VDW2M1*rstar_ij7) - 2.0;
+        return aTerm7 * bTerm * mVdwWellDepth[t];
+    }
+
+    void addVanDerWaalsGradients(double[] pos, double[] grad) {
+        for (int t=0; t<mVdwCount; t++) {
+            final int p1 = 3*mVdwAtom[2*t];
+            final int p2 = 3*mVdwAtom[2*t + 1];
+            final double rstar_ij = mVdwRStar[t];
+            final double dx = pos[p2] - pos[p1];
+            final double dy = pos[p2 + 1] - pos[p1 + 1];
+            final double dz = pos[p2 + 2] - pos[p1 + 2];
+            final double dist = Math.sqrt(dx*dx + dy*dy + dz*dz);
+            if (dist >= mCutoff)
+                continue;
+
+            final double q = dist / rstar_ij;
+            final double q2 = q * q;
+            final double q6 = q2 * q2 * q2;
+            final double q7 = q6 * q;
+            final double q7pvdw2m1 = q7 + VDW2M1;
+            final double t1 = VDW1 / (q + VDW1 - 1.0);
+            final double t2 = t1 * t1;
+            final double t7 = t2 * t2 * t2 * t1;
+            double dE_dr = mVdwWellDepth[t] / rstar_ij
+                    * t7 * (-VDW2T7 * q6 / (q7pvdw2m1 * q7pvdw2m1)
+                    + ((-VDW2T7 / q7pvdw2m1 + 14.0) / (q + VDW1M1)));
+
+            if (dist > mSwitchOn)
+                dE_dr = dE_dr * switchingFactor(dist)
+                      + getVanDerWaalsEnergy(t, dist) * switchingDerivative(dist);
+
+            for (int i=0; i<3; i++) {
+                double dGrad = 0.01 * rstar_ij;
+                if (dist > 0.0)
+                    dGrad = dE_dr*(pos[p1 + i] - pos[p2 + i])/dist;
+
+                grad[p1 + i] += dGrad;
+                grad[p2 + i] -= dGrad;
+            }
+        }
+    }
+}
@@ -0,0 +1,259 @@
+/*
+* Copyright (c) 1997 - 2016
+* Actelion Pharmaceuticals Ltd.
+* Gewerbestrasse 16
+* CH-4123 Allschwil, Switzerland
+*
+* All rights reserved.
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+* 3. Neither the name of the the copyright holder nor the
+*    names of its contributors may be used to endorse or promote products
+*    derived from this software without specific prior written permission.
+*
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+* ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+* WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+* ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+* (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+* LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+* ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+* (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+* SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*
+*/
+
+
+package com.actelion.research.chem.forcefield.mmff;
+
+/**
+ * Parameter table decoded from the compact encoding of a MMFF94 CSV file,
+ * which is generated at build time (see CsvData). Cells are held as
+ * primitive columns, integer and char cells as ints and float cells as
+ * doubles. Floats are encoded as fixed point integers with the number of
+ * decimals given in the CSV file, such that decoded values are identical
+ * to parsed ones.
+ *
+ * The encoded string consists of chars, each of which holds a 16 bit
+ * value shifted by VALUE_OFFSET:
+ *
+ *  - The number of rows and the number of columns.
+ *
+ *  - For every column its type ('i', 'f' or 'c'), its number of decimals
+ *      and its width, i.e. the number of chars per cell (1 or 2).
+ *
+ *  - The cells column by column. Cells of width 1 are signed 16 bit
+ *      values, cells of width 2 are signed 32 bit values with the high
+ *      word first.
+ *
+ * Rows are looked up by a binary search over the key columns given on
+ * construction. Rows must be sorted by the key columns in the given order.
+ */
+public final class ParameterTable implements Searchable {
+    // Must match the value offset in generateCsvData.js.
+    public static final int VALUE_OFFSET = 32;
+
+    private final int rows;
+    private final char[] type;
+    private final int[][] ints;      // int and char columns, null otherwise.
+    private final double[][] floats; // float columns, null otherwise.
+    private final int[][] key;       // int columns in key order.
+
+    /**
+     * Decodes a parameter table.
+     *  @param data The encoded table as generated into CsvData.
+     *  @param keyColumns The int columns by which rows are sorted and
+     *      searched, most significant first.
+     */
+    public ParameterTable(String data, int... keyColumns) {
+        int pos = 0;
+        rows = decode(data, pos++);
+        int cols = decode(data, pos++);
+
+        type = new char[cols];
+        int[] decimals = new int[cols];
+        int[] width = new int[cols];
+        for (int c=0; c<cols; c++) {
+            type[c] = (char)decode(data, pos++);
+            decimals[c] = decode(data, pos++);
+            width[c] = decode(data, pos++);
+        }
+
+        ints = new int[cols][];
+        floats = new double[cols][];
+        for (int c=0; c<cols; c++) {
+            int[] column = new int[rows];
+            for (int r=0; r<rows; r++) {
+                if (width[c] == 1)
+                    column[r] = decode(data, pos++);
+                else {
+                    column[r] = (decode(data, pos) << 16)
+                            | (decode(data, pos+1) & 0xffff);
+                    pos += 2;
+                }
+            }
+
+            if (type[c] == 'f') {
+                // Dividing the exact fixed point value by an exactly
+                // representable power of ten is correctly rounded and
+                // therefore gives the same double as parsing the decimal.
+                double scale = 1.0;
+                for (int i=0; i<decimals[c]; i++)
+                    scale *= 10.0;
+                floats[c] = new double[rows];
+                for (int r=0; r<rows; r++)
+                    floats[c][r] = column[r] / scale;
+            } else
+                ints[c] = column;
+        }
+
+        key = new int[keyColumns.length][];
+        for (int k=0; k<keyColumns.length; k++) {
+            key[k] = ints[keyColumns[k]];
+            if (key[k] == null)
+                throw new IllegalArgumentException("key column "
+                        + keyColumns[k] + " is not an int column");
+        }
+        for (int r=1; r<rows && key.length != 0; r++)
+            if (compareRows(r-1, r) > 0)
+                throw new IllegalArgumentException("row " + r
+                        + " is not sorted by the key columns");
+    }
+
+    private static int decode(String data, int pos) {
+        return (short)(data.charAt(pos) - VALUE_OFFSET);
+    }
+
+    @Override
+    public int get(int row, int col) {
+        return ints[col] != null ? ints[col][row] : (int)floats[col][row];
+    }
+
+    @Override
+    public int length() {
+        return rows;
+    }
+
+    /**
+     * Returns a cell as double, which may be an int or float cell.
+     *  @param row The row in the table.
+     *  @param col The column in the row.
+     *  @return The value of the cell.
+     */
+    public double getDouble(int row, int col) {
+        return floats[col] != null ? floats[col][row] : ints[col][row];
+    }
+
+    /**
+     * Returns a char cell.
+     *  @param row The row in the table.
+     *  @param col The column in the row.
+     *  @return The char of the cell.
+     */
+    public char getChar(int row, int col) {
+        return (char)ints[col][row];
+    }
+
+    /**
+     * Finds the first row, whose first key column matches the given value.
+     * This is the same as find(new int[]{value}) without allocating.
+     *  @param value The value of the first key column.
+     *  @return The index of the first matching row, or -1 if there is
+     *      none.
+     */
+    public int find(int value) {
+        int row = lowerBound(value, null, 1);
+        return row < rows && key[0][row] == value ? row : -1;
+    }
+
+    /**
+     * Finds the first row, whose leading key columns match the given
+     * values.
+     *  @param values The values of the leading key columns, which may be
+     *      less than the number of key columns.
+     *  @return The index of the first matching row, or -1 if there is
+     *      none.
+     */
+    public int find(int... values) {
+        int row = lowerBound(values[0], values, values.length);
+        return row < rows && compare(row, values[0], values, values.length) == 0 ? row : -1;
+    }
+
+    /**
+     * Finds the last row, whose leading key columns match the given
+     * values.
+     *  @param values The values of the leading key columns, which may be
+     *      less than the number of key columns.
+     *  @return The index of the last matching row, or -1 if there is none.
+     */
+    public int findLast(int... values) {
+        int first = find(values);
+        if (first == -1)
+            return -1;
+
+        // Rows following the first match are searched for the first row
+        // which does not match anymore.
+        int lo = first+1;
+        int hi = rows;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (compare(mid, values[0], values, values.length) == 0)
+                lo = mid+1;
+            else
+                hi = mid;
+        }
+        return lo-1;
+    }
+
+    /**
+     * Returns the first row that is not lower than the given key values.
+     */
+    private int lowerBound(int value0, int[] values, int count) {
+        int lo = 0;
+        int hi = rows;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (compare(mid, value0, values, count) < 0)
+                lo = mid+1;
+            else
+                hi = mid;
+        }
+        return lo;
+    }
+
+    /**
+     * Compares the leading key columns of a row with the given values.
+     */
+    private int compare(int row, int value0, int[] values, int count) {
+        int v = key[0][row];
+        if (v != value0)
+            return v < value0 ? -1 : 1;
+        for (int k=1; k<count; k++) {
+            v = key[k][row];
+            if (v != values[k])
+                return v < values[k] ? -1 : 1;
+        }
+        return 0;
+    }
+
+    /**
+     * Compares the key columns of two rows.
+     */
+    private int compareRows(int row1, int row2) {
+        for (int k=0; k<key.length; k++) {
+            int v1 = key[k][row1];
+            int v2 = key[k][row2];
+            if (v1 != v2)
+                return v1 < v2 ? -1 : 1;
+        }
+        return 0;
+    }
+}
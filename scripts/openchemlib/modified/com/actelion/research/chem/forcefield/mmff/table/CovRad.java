@@ -0,0 +1,88 @@
+/*
+* Copyright (c) 1997 - 2016
+* Actelion Pharmaceuticals Ltd.
+* Gewerbestrasse 16
+* CH-4123 Allschwil, Switzerland
+*
+* All rights reserved.
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+* 3. Neither the name of the the copyright holder nor the
+*    names of its contributors may be used to endorse or promote products
+*    derived from this software without specific prior written permission.
+*
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+* ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+* WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+* ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+* (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+* LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+* ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+* (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+* SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*
+*/
+
+package com.actelion.research.chem.forcefield.mmff.table;
+
+import com.actelion.research.chem.forcefield.mmff.ParameterTable;
+import com.actelion.research.chem.forcefield.mmff.Tables;
+
+/**
+ * CovRad table, used in the bond stretch empirical calculations of 'kb'
+ * and 'r0'.
+ */
+public final class CovRad implements com.actelion.research.chem.forcefield.mmff.Searchable {
+    private final ParameterTable table;
+
+    public CovRad(Tables t, String data) {
+        table = new ParameterTable(data, 0);
+    }
+
+    @Override
+    public int get(int row, int col) {
+        return table.get(row, col);
+    }
+
+    @Override
+    public int length() {
+        return table.length();
+    }
+
+    /**
+     * Returns the index of the row for a given atomic number.
+     *  @param atno The atomic number.
+     *  @return The index in the table, or -1 if there is no entry.
+     */
+    public int index(int atno) {
+        return table.find(atno);
+    }
+
+    /**
+     * Returns the 'r0' (or covRad) parameter from the table given an
+     * index.
+     *  @param index The index in the table.
+     *  @return The value of 'r0'.
+     */
+    public double r0(int index) {
+        return table.getDouble(index, 1);
+    }
+
+    /**
+     * Returns the 'chi' (or pauEle) parameter from the table at the given
+     * index.
+     *  @param index The index in the table.
+     *  @return The value of 'chi'.
+     */
+    public double chi(int index) {
+        return table.getDouble(index, 2);
+    }
+}
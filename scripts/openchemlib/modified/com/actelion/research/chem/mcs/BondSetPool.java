@@ -0,0 +1,276 @@
+package com.actelion.research.chem.mcs;
+
+import java.util.Arrays;
+
+/**
+ * Search state of MCSFast: every bond set, which the search has seen, is stored once as a packed
+ * long[] bitset in one growing arena and found again by an open-addressing hash table over entry
+ * indexes. Each entry carries its state, the number of set bits, the solution it was extended from
+ * and, for solutions, one match of its atoms in the molecule. Candidates are additionally kept on a
+ * stack per bit count, such that the largest candidate is found without sorting. Of several largest
+ * candidates the one added last is taken. This order does not depend on hash codes, which matters,
+ * because MCSFast drops all candidates contained in a solution and its result depends on the order.
+ * All arrays survive reset(), such that one pool serves many MCS calculations without garbage.
+ */
+class BondSetPool {
+
+	static final byte NEW = 0;
+
+	static final byte CANDIDATE = 1;
+
+	static final byte SOLUTION = 2;
+
+	static final byte GARBAGE = 3;
+
+	static final byte REMOVED = 4;
+
+	private static final int INITIAL_ENTRIES = 256;
+
+	private int words;
+
+	private int size;
+
+	private long[] bits;
+
+	private int[] bitCount;
+
+	private byte[] state;
+
+	private int[] parent;
+
+	private int[][] match;
+
+	private int[] table;
+
+	private int tableMask;
+
+	private int[][] stack;
+
+	private int[] stackSize;
+
+	private int maxStackBitCount;
+
+	BondSetPool() {
+		bits = new long[INITIAL_ENTRIES];
+		bitCount = new int[INITIAL_ENTRIES];
+		state = new byte[INITIAL_ENTRIES];
+		parent = new int[INITIAL_ENTRIES];
+		match = new int[INITIAL_ENTRIES][];
+		table = new int[2*INITIAL_ENTRIES];
+		tableMask = table.length-1;
+		stack = new int[0][];
+		stackSize = new int[0];
+	}
+
+	/**
+	 * Removes all entries and prepares the pool for bond sets of the given size.
+	 * @param bonds number of bonds of the fragment
+	 */
+	void reset(int bonds) {
+		words = Math.max(1, (bonds+63) >>> 6);
+		size = 0;
+		Arrays.fill(table, 0);
+		Arrays.fill(match, null);
+
+		if (stack.length < bonds+1) {
+			int[][] newStack = new int[bonds+1][];
+			System.arraycopy(stack, 0, newStack, 0, stack.length);
+			stack = newStack;
+			stackSize = new int[bonds+1];
+		}
+		for (int i=0; i<stack.length; i++) {
+			if (stack[i] == null)
+				stack[i] = new int[16];
+			stackSize[i] = 0;
+		}
+		maxStackBitCount = 0;
+
+		if (bits.length < bitCount.length*words)
+			bits = new long[bitCount.length*words];
+	}
+
+	/**
+	 * @return number of longs per bond set
+	 */
+	int getWords() {
+		return words;
+	}
+
+	int size() {
+		return size;
+	}
+
+	/**
+	 * @param set bond set with getWords() longs
+	 * @return index of the entry equal to set, which is created with state NEW if it didn't exist
+	 */
+	int getOrAdd(long[] set) {
+		int hash = hash(set, 0);
+		int slot = hash & tableMask;
+		while (table[slot] != 0) {
+			int entry = table[slot]-1;
+			if (equals(entry, set))
+				return entry;
+			slot = (slot+1) & tableMask;
+		}
+
+		if (size == bitCount.length)
+			growEntries();
+		int entry = size++;
+		System.arraycopy(set, 0, bits, entry*words, words);
+		int count = 0;
+		for (int i=0; i<words; i++)
+			count += Long.bitCount(set[i]);
+		bitCount[entry] = count;
+		state[entry] = NEW;
+		parent[entry] = -1;
+		table[slot] = entry+1;
+
+		if (2*size > table.length)
+			growTable();
+		return entry;
+	}
+
+	byte getState(int entry) {
+		return state[entry];
+	}
+
+	void setState(int entry, byte s) {
+		state[entry] = s;
+	}
+
+	int getBitCount(int entry) {
+		return bitCount[entry];
+	}
+
+	/**
+	 * @return solution, from which this candidate was created, or -1
+	 */
+	int getParent(int entry) {
+		return parent[entry];
+	}
+
+	void setParent(int entry, int parentEntry) {
+		parent[entry] = parentEntry;
+	}
+
+	/**
+	 * @return fragment atom to molecule atom mapping of a solution
+	 */
+	int[] getMatch(int entry) {
+		return match[entry];
+	}
+
+	void setMatch(int entry, int[] m) {
+		match[entry] = m;
+	}
+
+	boolean isBitSet(int entry, int bit) {
+		return (bits[entry*words+(bit >>> 6)] & (1L << bit)) != 0;
+	}
+
+	void copy(int entry, long[] set) {
+		System.arraycopy(bits, entry*words, set, 0, words);
+	}
+
+	/**
+	 * @return true if all bits of entry sub are also set in entry sup
+	 */
+	boolean isSubset(int sub, int sup) {
+		int offset1 = sub*words;
+		int offset2 = sup*words;
+		for (int i=0; i<words; i++)
+			if ((bits[offset1+i] & ~bits[offset2+i]) != 0)
+				return false;
+		return true;
+	}
+
+	/**
+	 * Marks the entry as candidate and puts it onto the candidate stack.
+	 */
+	void pushCandidate(int entry) {
+		state[entry] = CANDIDATE;
+		int count = bitCount[entry];
+		if (stackSize[count] == stack[count].length)
+			stack[count] = Arrays.copyOf(stack[count], 2*stack[count].length);
+		stack[count][stackSize[count]++] = entry;
+		if (maxStackBitCount < count)
+			maxStackBitCount = count;
+	}
+
+	/**
+	 * @return a candidate with the highest number of bits or -1; the candidate keeps its state
+	 */
+	int pollLargestCandidate() {
+		for (int count=maxStackBitCount; count>=0; count--) {
+			while (stackSize[count] != 0) {
+				int entry = stack[count][--stackSize[count]];
+				if (state[entry] == CANDIDATE) {
+					maxStackBitCount = count;
+					return entry;
+				}
+			}
+		}
+		maxStackBitCount = 0;
+		return -1;
+	}
+
+	/**
+	 * Marks all candidates, which are subsets of the solution, as REMOVED.
+	 */
+	void removeCandidatesInSolution(int solution) {
+		int maxCount = Math.min(bitCount[solution], maxStackBitCount);
+		for (int count=0; count<=maxCount; count++) {
+			int[] s = stack[count];
+			int kept = 0;
+			for (int i=0; i<stackSize[count]; i++) {
+				int entry = s[i];
+				if (state[entry] != CANDIDATE)
+					continue;
+				if (isSubset(entry, solution))
+					state[entry] = REMOVED;
+				else
+					s[kept++] = entry;
+			}
+			stackSize[count] = kept;
+		}
+	}
+
+	private boolean equals(int entry, long[] set) {
+		int offset = entry*words;
+		for (int i=0; i<words; i++)
+			if (bits[offset+i] != set[i])
+				return false;
+		return true;
+	}
+
+	private int hash(long[] set, int offset) {
+		long h = 0x9E3779B97F4A7C15L;
+		for (int i=0; i<words; i++) {
+			h ^= set[offset+i];
+			h *= 0xBF58476D1CE4E5B9L;
+			h ^= h >>> 31;
+		}
+		return (int)(h ^ (h >>> 32));
+	}
+
+	private void growEntries() {
+		int capacity = 2*bitCount.length;
+		bits = Arrays.copyOf(bits, capacity*words);
+		bitCount = Arrays.copyOf(bitCount, capacity);
+		state = Arrays.copyOf(state, capacity);
+		parent = Arrays.copyOf(parent, capacity);
+		match = Arrays.copyOf(match, capacity);
+	}
+
+	private void growTable() {
+		table = new int[2*table.length];
+		tableMask = table.length-1;
+		for (int entry=0; entry<size; entry++) {
+			int slot = hash(bits, entry*words) & tableMask;
+			while (table[slot] != 0)
+				slot = (slot+1) & tableMask;
+			table[slot] = entry+1;
+		}
+	}
+}
@@ -0,0 +1,603 @@
+package com.actelion.research.chem.mcs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.actelion.research.chem.ExtendedMoleculeFunctions;
+import com.actelion.research.chem.Molecule;
+import com.actelion.research.chem.RingCollection;
+import com.actelion.research.chem.SSSearcher;
+import com.actelion.research.chem.StereoMolecule;
+
+/*
+* Copyright (c) 1997 - 2016
+* Actelion Pharmaceuticals Ltd.
+* Gewerbestrasse 16
+* CH-4123 Allschwil, Switzerland
+*
+* All rights reserved.
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+* 3. Neither the name of the the copyright holder nor the
+*    names of its contributors may be used to endorse or promote products
+*    derived from this software without specific prior written permission.
+*
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+* ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+* WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+* ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+* (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+* LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+* ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+* (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+* SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*
+*/
+/**
+ * MCSFast grows common substructures of frag and mol bond by bond, starting from every single bond
+ * of frag (or ring, depending on the ring status) and always extending the largest candidate;
+ * of equally large candidates the one added last is taken.
+ * Bond sets are packed long[] bitsets in a BondSetPool, which is reused for all calls of set().
+ * A candidate is validated by extending the molecule match of the solution it was grown from
+ * with SSSearcher's atom and bond similarity; only if this fails, a full sub-structure search is done.
+ */
+public class MCSFast {
+	
+	public static final int PAR_CLEAVE_RINGS=0; 
+	
+	public static final int PAR_KEEP_RINGS=1;
+	
+	public static final int PAR_KEEP_AROMATIC_RINGS=2; 
+	
+	private static final int MATCH_MODE = SSSearcher.cDefaultMatchMode;
+	
+	private StereoMolecule mol;
+	
+	private StereoMolecule frag;
+	
+	private BondSetPool pool;
+	
+	// all solutions of the current molecule pair in the order they were found
+	private List<Integer> liSolutionFound;
+	
+	private SSSearcher sss;
+	
+	private StereoMolecule molMCS;
+	
+	private boolean considerAromaticRings;
+	
+	private boolean considerRings;
+	
+	// for every fragment bond the bits to be set, when the bond is added to a bond set
+	private long[][] arrBondMask;
+	
+	// scratch arrays for the current fragment and molecule
+	private long[] set;
+	
+	private int[] arrMapAtomFragToSub;
+	
+	private int[] arrMapBondFragToSub;
+	
+	private int[] arrMapAtomSubToFrag;
+	
+	private boolean[] arrAtomInSet;
+	
+	private MatchExtender extender;
+	
+	private int fullSearches;
+	
+	private int incrementalMatches;
+	
+	public MCSFast() {
+		this(PAR_CLEAVE_RINGS);
+	}
+	
+	public MCSFast(int ringStatus) {
+		
+		considerRings=false;
+		
+		considerAromaticRings=false;
+		
+		switch (ringStatus) {
+		case PAR_CLEAVE_RINGS:
+			break;
+		case PAR_KEEP_RINGS:
+			considerRings=true;
+			break;
+		case PAR_KEEP_AROMATIC_RINGS:
+			considerAromaticRings=true;
+			break;
+
+		default:
+			break;
+		}
+		
+		pool = new BondSetPool();
+		
+		liSolutionFound = new ArrayList<Integer>();
+		
+		sss = new SSSearcher();
+		
+		extender = new MatchExtender();
+	}
+	
+	public void set(StereoMolecule mol, StereoMolecule frag) {
+		
+		this.mol = mol;
+		
+		this.frag = frag;
+		
+		init();
+	}
+	
+	
+	private void init(){
+		
+		frag.ensureHelperArrays(Molecule.cHelperRings);
+		
+		mol.ensureHelperArrays(Molecule.cHelperRings);
+		
+		int bonds = frag.getBonds();
+		
+		pool.reset(bonds);
+		
+		liSolutionFound.clear();
+		
+		int words = pool.getWords();
+		
+		if(set == null || set.length != words) {
+			set = new long[words];
+		}
+		
+		arrMapAtomFragToSub = ensureSize(arrMapAtomFragToSub, frag.getAtoms());
+		arrMapAtomSubToFrag = ensureSize(arrMapAtomSubToFrag, frag.getAtoms());
+		arrMapBondFragToSub = ensureSize(arrMapBondFragToSub, bonds);
+		
+		if(arrAtomInSet == null || arrAtomInSet.length < frag.getAtoms()) {
+			arrAtomInSet = new boolean[frag.getAtoms()];
+		}
+		
+		fullSearches = 0;
+		
+		incrementalMatches = 0;
+		
+		extender.init(frag, pool, arrMapAtomFragToSub, arrMapBondFragToSub);
+		
+		initBondMasks();
+		
+		initCandidates();
+	}
+	
+	private static int [] ensureSize(int [] a, int size){
+		return (a == null || a.length < size) ? new int [size] : a;
+	}
+	
+	private void initBondMasks(){
+		
+		int bonds = frag.getBonds();
+		
+		int words = pool.getWords();
+		
+		arrBondMask = new long[bonds][words];
+		
+		for (int i = 0; i < bonds; i++) {
+			arrBondMask[i][i >>> 6] |= 1L << i;
+		}
+		
+		if(!considerRings && !considerAromaticRings) {
+			return;
+		}
+		
+		RingCollection ringCollection = frag.getRingSet();
+		
+		for (int i = 0; i < ringCollection.getSize(); i++) {
+			
+			if(!considerRings && !ringCollection.isAromatic(i)) {
+				continue;
+			}
+			
+			int [] arrIndexBnd = ringCollection.getRingBonds(i);
+			
+			for (int j = 0; j < arrIndexBnd.length; j++) {
+				for (int k = 0; k < arrIndexBnd.length; k++) {
+					arrBondMask[arrIndexBnd[j]][arrIndexBnd[k] >>> 6] |= 1L << arrIndexBnd[k];
+				}
+			}
+		}
+	}
+	
+	private void initCandidates(){
+		
+		// One candidate per bond (including its rings, if rings are kept).
+		for (int i = 0; i < frag.getBonds(); i++) {
+			
+			System.arraycopy(arrBondMask[i], 0, set, 0, set.length);
+			
+			int entry = pool.getOrAdd(set);
+			
+			if(pool.getState(entry) == BondSetPool.NEW) {
+				pool.pushCandidate(entry);
+			}
+		}
+	}
+	
+	/**
+	 * Checks first fragment for being sub structure of molecule. If true, frag is returned.
+	 * @return entries of all solutions, which are not part of a larger solution, or null
+	 */
+	private List<Integer> getAllSolutionsForCommonSubstructures (){
+		
+		sss.setMolecule(mol);
+		
+		frag.setFragment(true);
+		
+		sss.setFragment(frag);
+		
+		// The MCS is the complete fragment.
+		if(sss.isFragmentInMolecule()){
+			
+			Arrays.fill(set, 0);
+			
+			for (int i = 0; i < frag.getBonds(); i++) {
+				set[i >>> 6] |= 1L << i;
+			}
+			
+			int entry = pool.getOrAdd(set);
+			
+			pool.setState(entry, BondSetPool.SOLUTION);
+			
+			List<Integer> li = new ArrayList<Integer>();
+			
+			li.add(entry);
+			
+			return li;
+		}
+		
+		int entry;
+		
+		while((entry = pool.pollLargestCandidate()) != -1){
+			
+			int [] match = findMatch(entry);
+			
+			if(match != null){
+				
+				pool.setState(entry, BondSetPool.SOLUTION);
+				
+				pool.setMatch(entry, match);
+				
+				liSolutionFound.add(entry);
+				
+				pool.removeCandidatesInSolution(entry);
+				
+				if(pool.getBitCount(entry) != frag.getBonds()) {
+					addAllPlusOneBondCombinations(entry);
+				}
+				
+			} else {
+				pool.setState(entry, BondSetPool.GARBAGE);
+			}
+		}
+		
+		if(liSolutionFound.size()==0){
+			return null;
+		}
+		
+		return getFinalSolutionSet(liSolutionFound);
+	}
+	
+	/**
+	 * All molecules which are sub structures of an other molecule in the list are removed.
+	 * @return
+	 */
+	public List<StereoMolecule> getAllCommonSubstructures (){
+		
+		List<Integer> liSolution = getAllSolutionsForCommonSubstructures();
+		
+		if(liSolution==null){
+			return null;
+		}
+		
+		int [] arrSolution = getSolutionsSortedBySize(liSolution);
+		
+		// Of several solutions with the most bonds the last one found is taken.
+		molMCS = getSubFrag(arrSolution[arrSolution.length-1]);
+		
+		List<StereoMolecule> li = new ArrayList<StereoMolecule>();
+		
+		for (int entry : arrSolution) {
+			li.add(getSubFrag(entry));
+		}
+		
+		return ExtendedMoleculeFunctions.removeSubStructures(li);
+	}
+
+	/**
+	 * 
+	 * @return maximum common substructure at top of list or null of none common MCS was found.
+	 */
+	public StereoMolecule getMCS(){
+		
+		List<Integer> liSolution = getAllSolutionsForCommonSubstructures ();
+		
+		if(liSolution==null){
+			return null;
+		}
+		
+		molMCS = getSubFrag(getLargestSolution(liSolution));
+		
+		return molMCS;
+	}
+	
+	/**
+	 * Counting sort of the solutions by their number of bonds. The sort is stable,
+	 * such that equally large solutions stay in the order they were found.
+	 * @param liSolution
+	 * @return solutions with increasing number of bonds
+	 */
+	private int [] getSolutionsSortedBySize(List<Integer> liSolution){
+		
+		int [] arrStart = new int[frag.getBonds()+2];
+		
+		for (int entry : liSolution) {
+			arrStart[pool.getBitCount(entry)+1]++;
+		}
+		
+		for (int i = 1; i < arrStart.length; i++) {
+			arrStart[i] += arrStart[i-1];
+		}
+		
+		int [] arrSolution = new int[liSolution.size()];
+		
+		for (int entry : liSolution) {
+			arrSolution[arrStart[pool.getBitCount(entry)]++] = entry;
+		}
+		
+		return arrSolution;
+	}
+	
+	private int getLargestSolution(List<Integer> liSolution){
+		
+		int best = liSolution.get(0);
+		
+		// Of several solutions with the most bonds the last one found is taken.
+		for (int entry : liSolution) {
+			if(pool.getBitCount(entry) >= pool.getBitCount(best)) {
+				best = entry;
+			}
+		}
+		
+		return best;
+	}
+	
+	/**
+	 * Builds the fragment of the bonds of entry and fills the atom and bond maps between frag and sub fragment.
+	 */
+	private StereoMolecule getSubFrag(int entry){
+		
+		int bonds = frag.getBonds();
+		
+		int atoms = frag.getAtoms();
+		
+		Arrays.fill(arrAtomInSet, 0, atoms, false);
+		
+		int nBonds = 0;
+		
+		for (int i = 0; i < bonds; i++) {
+			if(pool.isBitSet(entry, i)){
+				arrAtomInSet[frag.getBondAtom(0, i)] = true;
+				arrAtomInSet[frag.getBondAtom(1, i)] = true;
+				nBonds++;
+			}
+		}
+		
+		int nAtoms = 0;
+		
+		for (int i = 0; i < atoms; i++) {
+			if(arrAtomInSet[i]) {
+				nAtoms++;
+			}
+		}
+		
+		StereoMolecule fragSubBonds = new StereoMolecule(nAtoms, nBonds);
+		
+		fragSubBonds.setFragment(true);
+		
+		for (int indexAtom = 0; indexAtom < atoms; indexAtom++) {
+			
+			arrMapAtomFragToSub[indexAtom] = -1;
+			
+			if(!arrAtomInSet[indexAtom]) {
+				continue;
+			}
+			
+			int indexAtomNew = fragSubBonds.addAtom(frag.getAtomicNo(indexAtom));
+			
+			fragSubBonds.setAtomX(indexAtomNew, frag.getAtomX(indexAtom));
+			fragSubBonds.setAtomY(indexAtomNew, frag.getAtomY(indexAtom));
+			fragSubBonds.setAtomZ(indexAtomNew, frag.getAtomZ(indexAtom));
+			
+			arrMapAtomFragToSub[indexAtom]=indexAtomNew;
+			
+			arrMapAtomSubToFrag[indexAtomNew]=indexAtom;
+		}
+		
+		for (int i = 0; i < bonds; i++) {
+			
+			arrMapBondFragToSub[i] = -1;
+			
+			if(pool.isBitSet(entry, i)){
+				
+				int indexAtomNew1 = arrMapAtomFragToSub[frag.getBondAtom(0, i)];
+				int indexAtomNew2 = arrMapAtomFragToSub[frag.getBondAtom(1, i)];
+				
+				int type = frag.getBondType(i);
+				
+				if(frag.isDelocalizedBond(i)){
+					type = Molecule.cBondTypeDelocalized;
+				}
+				
+				arrMapBondFragToSub[i] = fragSubBonds.addBond(indexAtomNew1, indexAtomNew2, type);
+			}
+		}
+		
+		fragSubBonds.ensureHelperArrays(Molecule.cHelperRings);
+
+		return fragSubBonds;
+	}
+	
+	/**
+	 * @return fragment atom to molecule atom mapping of the bonds of entry or null, if they are no sub structure of mol
+	 */
+	private int [] findMatch(int entry){
+		
+		StereoMolecule fragSub = getSubFrag(entry);
+		
+		sss.setFragment(fragSub);
+		
+		int parent = pool.getParent(entry);
+		
+		if(parent != -1 && extender.prepare(entry, parent)) {
+			
+			sss.setupAtomAndBondFeatures(MATCH_MODE);
+			
+			int [] match = Arrays.copyOf(pool.getMatch(parent), frag.getAtoms());
+			
+			if(extender.extend(mol, sss, match)) {
+				incrementalMatches++;
+				return match;
+			}
+		}
+		
+		fullSearches++;
+		
+		if(sss.findFragmentInMolecule(SSSearcher.cCountModeFirstMatch, MATCH_MODE) == 0) {
+			return null;
+		}
+		
+		int [] matchSub = sss.getMatchList().get(0);
+		
+		int [] match = new int [frag.getAtoms()];
+		
+		Arrays.fill(match, -1);
+		
+		for (int i = 0; i < matchSub.length; i++) {
+			match[arrMapAtomSubToFrag[i]] = matchSub[i];
+		}
+		
+		return match;
+	}
+	
+	/**
+	 * Adds all bond sets, which have one more bond (and its rings, if rings are kept) connected
+	 * to the solution, as candidates, if they were not yet found to be solution or garbage.
+	 */
+	private void addAllPlusOneBondCombinations(int entry){
+		
+		int bonds = frag.getBonds();
+		
+		int atoms = frag.getAtoms();
+		
+		Arrays.fill(arrAtomInSet, 0, atoms, false);
+		
+		for (int i = 0; i < bonds; i++) {
+			if(pool.isBitSet(entry, i)){
+				arrAtomInSet[frag.getBondAtom(0, i)] = true;
+				arrAtomInSet[frag.getBondAtom(1, i)] = true;
+			}
+		}
+		
+		for (int i = 0; i < bonds; i++) {
+			if(!pool.isBitSet(entry, i)){
+				
+				if(arrAtomInSet[frag.getBondAtom(0, i)] || arrAtomInSet[frag.getBondAtom(1, i)]) {
+					
+					pool.copy(entry, set);
+					
+					long [] mask = arrBondMask[i];
+					
+					for (int j = 0; j < set.length; j++) {
+						set[j] |= mask[j];
+					}
+					
+					int entryPlus = pool.getOrAdd(set);
+					
+					byte state = pool.getState(entryPlus);
+					
+					if(state == BondSetPool.NEW || state == BondSetPool.REMOVED) {
+						pool.setParent(entryPlus, entry);
+						pool.pushCandidate(entryPlus);
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * All sub solutions are removed.
+	 * @param liSolution
+	 * @return
+	 */
+	private List<Integer> getFinalSolutionSet(List<Integer> liSolution){
+		
+		List<Integer> liFinal = new ArrayList<Integer>(liSolution);
+		
+		for (int i = liFinal.size()-1; i >= 0; i--) {
+			int candidate = liFinal.get(i);
+			
+			for (int j = 0; j < liFinal.size(); j++) {
+				if(i!=j && pool.isSubset(candidate, liFinal.get(j))) {
+					liFinal.remove(i);
+					break;
+				}
+			}
+		}
+		
+		return liFinal;
+	}
+	
+	public double getScore(){
+		
+		double sc = 0;
+		
+		double nAtmsFrag = frag.getBonds();
+		
+		double nAtmsMol = mol.getBonds();
+		
+		double nAtmsMCS = molMCS.getBonds();
+		
+		sc = nAtmsMCS/Math.max(nAtmsFrag, nAtmsMol);
+		
+		return sc;
+	}
+
+	public boolean isConsiderAromaticRings() {
+		return considerAromaticRings;
+	}
+
+	public boolean isConsiderRings() {
+		return considerRings;
+	}
+	
+	/**
+	 * @return number of candidates of the last search, which were validated by a full sub structure search
+	 */
+	public int getFullSearchCount() {
+		return fullSearches;
+	}
+	
+	/**
+	 * @return number of candidates of the last search, which were validated by extending their parent's match
+	 */
+	public int getIncrementalMatchCount() {
+		return incrementalMatches;
+	}
+}
@@ -0,0 +1,575 @@
+package com.actelion.research.chem.mcs;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import com.actelion.research.chem.Molecule;
+import com.actelion.research.chem.RingCollection;
+import com.actelion.research.chem.SSSearcher;
+import com.actelion.research.chem.SSSearcherWithIndex;
+import com.actelion.research.chem.StereoMolecule;
+
+/**
+ * MCSMulti finds the maximum common substructure of any number of molecules, e.g. the common core
+ * of a compound series, without folding pairwise MCS results, which depends on the order of the molecules.
+ * Like MCSFast it grows bond sets of one molecule, here the one with the fewest bonds, and always validates
+ * the largest candidate. A candidate is a solution only if it is a sub structure of every other molecule.
+ * The molecules are checked one after the other, starting with the one, which rejected the last candidate.
+ * For each molecule the match of the parent solution is extended if possible, otherwise a full sub structure
+ * search is done. FFP512 key indexes are only used per molecule, because creating the index of a candidate
+ * takes much longer than the sub structure searches, which it may save.
+ * The search stops when the time limit is reached and getMCS() returns the largest core found so far.
+ */
+public class MCSMulti {
+
+	private static final int MATCH_MODE = SSSearcher.cDefaultMatchMode;
+
+	private boolean considerAromaticRings;
+
+	private boolean considerRings;
+
+	private long maxMillis;
+
+	// System.currentTimeMillis() at which getMCS() gives up
+	private long deadline;
+
+	// the molecule with the fewest bonds, whose bonds are numbered by the bond sets
+	private StereoMolecule frag;
+
+	private StereoMolecule [] arrMember;
+
+	private SSSearcher [] arrSSSearcher;
+
+	private long [][] arrMemberIndex;
+
+	private long [] fragIndex;
+
+	// members in the order of checking; a member, which rejects a candidate, is moved to the front
+	private int [] arrMemberOrder;
+
+	private BondSetPool pool;
+
+	private MatchExtender extender;
+
+	private long[][] arrBondMask;
+
+	private long[] set;
+
+	private int[] arrMapAtomFragToSub;
+
+	private int[] arrMapBondFragToSub;
+
+	private int[] arrMapAtomSubToFrag;
+
+	private boolean[] arrAtomInSet;
+
+	private boolean complete;
+
+	private int fullSearches;
+
+	private int incrementalMatches;
+
+	public MCSMulti() {
+		this(MCSFast.PAR_CLEAVE_RINGS);
+	}
+
+	/**
+	 * @param ringStatus one of MCSFast.PAR_CLEAVE_RINGS, PAR_KEEP_RINGS, PAR_KEEP_AROMATIC_RINGS
+	 */
+	public MCSMulti(int ringStatus) {
+
+		considerRings = (ringStatus == MCSFast.PAR_KEEP_RINGS);
+
+		considerAromaticRings = (ringStatus == MCSFast.PAR_KEEP_AROMATIC_RINGS);
+
+		pool = new BondSetPool();
+
+		extender = new MatchExtender();
+
+	}
+
+	/**
+	 * Limits the wall-clock time of getMCS(). If the limit is reached, the largest core found so far is returned.
+	 * @param maxMillis maximum time in milliseconds or 0 for no limit
+	 */
+	public void setMaxTime(long maxMillis) {
+		this.maxMillis = maxMillis;
+	}
+
+	/**
+	 * The molecules are not modified.
+	 * @param liMolecule at least one molecule
+	 */
+	public void set(List<StereoMolecule> liMolecule) {
+		set(liMolecule, null);
+	}
+
+	/**
+	 * The molecules are not modified. If their FFP512 key indexes are given, e.g. from
+	 * DescriptorHandlerLongFFP512 or a FragFp column, molecules are checked in the order of increasing
+	 * similarity to the smallest molecule, such that those, which most likely reject a candidate, come first.
+	 * The smallest molecule as a whole is only searched in the others up front, if its index is contained in all of theirs.
+	 * @param liMolecule at least one molecule
+	 * @param liFFP512 long[] FFP512 index of every molecule or null
+	 */
+	public void set(List<StereoMolecule> liMolecule, List<long[]> liFFP512) {
+
+		int smallest = 0;
+
+		for (int i = 0; i < liMolecule.size(); i++) {
+			StereoMolecule mol = liMolecule.get(i);
+			mol.ensureHelperArrays(Molecule.cHelperRings);
+			if(mol.getBonds() < liMolecule.get(smallest).getBonds()) {
+				smallest = i;
+			}
+		}
+
+		frag = new StereoMolecule(liMolecule.get(smallest));
+
+		frag.setFragment(true);
+
+		frag.ensureHelperArrays(Molecule.cHelperRings);
+
+		arrMember = new StereoMolecule[liMolecule.size()-1];
+
+		arrSSSearcher = new SSSearcher[arrMember.length];
+
+		arrMemberOrder = new int[arrMember.length];
+
+		for (int i = 0, k = 0; i < liMolecule.size(); i++) {
+			if(i != smallest) {
+				arrMember[k] = liMolecule.get(i);
+				arrSSSearcher[k] = new SSSearcher();
+				arrSSSearcher[k].setMolecule(arrMember[k]);
+				arrMemberOrder[k] = k;
+				k++;
+			}
+		}
+
+		arrMemberIndex = null;
+
+		fragIndex = null;
+
+		if(liFFP512 != null) {
+
+			arrMemberIndex = new long[arrMember.length][];
+
+			final float [] arrSimilarity = new float[arrMember.length];
+
+			fragIndex = liFFP512.get(smallest);
+
+			for (int i = 0, k = 0; i < liMolecule.size(); i++) {
+				if(i != smallest) {
+					arrMemberIndex[k] = liFFP512.get(i);
+					arrSimilarity[k] = SSSearcherWithIndex.getSimilarityTanimoto(fragIndex, arrMemberIndex[k]);
+					k++;
+				}
+			}
+
+			Integer [] arrOrder = new Integer[arrMember.length];
+			for (int k = 0; k < arrOrder.length; k++) {
+				arrOrder[k] = k;
+			}
+
+			Arrays.sort(arrOrder, new Comparator<Integer>() {
+				@Override
+				public int compare(Integer o1, Integer o2) {
+					return Float.compare(arrSimilarity[o1], arrSimilarity[o2]);
+				}
+			});
+
+			for (int k = 0; k < arrOrder.length; k++) {
+				arrMemberOrder[k] = arrOrder[k];
+			}
+		}
+	}
+
+	private void init(){
+
+		int bonds = frag.getBonds();
+
+		int atoms = frag.getAtoms();
+
+		pool.reset(bonds);
+
+		set = new long[pool.getWords()];
+
+		arrMapAtomFragToSub = new int[atoms];
+		arrMapAtomSubToFrag = new int[atoms];
+		arrMapBondFragToSub = new int[bonds];
+		arrAtomInSet = new boolean[atoms];
+
+		extender.init(frag, pool, arrMapAtomFragToSub, arrMapBondFragToSub);
+
+		fullSearches = 0;
+
+		incrementalMatches = 0;
+
+		initBondMasks();
+
+		// One candidate per bond (including its rings, if rings are kept).
+		for (int i = 0; i < bonds; i++) {
+
+			System.arraycopy(arrBondMask[i], 0, set, 0, set.length);
+
+			int entry = pool.getOrAdd(set);
+
+			if(pool.getState(entry) == BondSetPool.NEW) {
+				pool.pushCandidate(entry);
+			}
+		}
+	}
+
+	private void initBondMasks(){
+
+		int bonds = frag.getBonds();
+
+		arrBondMask = new long[bonds][pool.getWords()];
+
+		for (int i = 0; i < bonds; i++) {
+			arrBondMask[i][i >>> 6] |= 1L << i;
+		}
+
+		if(!considerRings && !considerAromaticRings) {
+			return;
+		}
+
+		RingCollection ringCollection = frag.getRingSet();
+
+		for (int i = 0; i < ringCollection.getSize(); i++) {
+
+			if(!considerRings && !ringCollection.isAromatic(i)) {
+				continue;
+			}
+
+			int [] arrIndexBnd = ringCollection.getRingBonds(i);
+
+			for (int j = 0; j < arrIndexBnd.length; j++) {
+				for (int k = 0; k < arrIndexBnd.length; k++) {
+					arrBondMask[arrIndexBnd[j]][arrIndexBnd[k] >>> 6] |= 1L << arrIndexBnd[k];
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return maximum common substructure of all molecules as fragment or null, if they have no bond in common;
+	 * if the time limit was reached, the largest common substructure found so far
+	 */
+	public StereoMolecule getMCS(){
+
+		deadline = (maxMillis > 0) ? System.currentTimeMillis() + maxMillis : Long.MAX_VALUE;
+
+		complete = true;
+
+		if(frag.getBonds() == 0) {
+			return null;
+		}
+
+		init();
+
+		// The MCS is the complete smallest molecule.
+		Arrays.fill(set, 0);
+
+		for (int i = 0; i < frag.getBonds(); i++) {
+			set[i >>> 6] |= 1L << i;
+		}
+
+		int all = pool.getOrAdd(set);
+
+		// The index is only a hint here, because molecule indexes may have keys, which the fragment doesn't need.
+		if(isIndexInAllMembers(fragIndex)) {
+
+			if(findMatch(all) != null) {
+				return getSubFrag(all);
+			}
+
+			if(!complete) {
+				return null;
+			}
+
+			pool.setState(all, BondSetPool.GARBAGE);
+		}
+
+		int best = -1;
+
+		int entry;
+
+		while((entry = pool.pollLargestCandidate()) != -1){
+
+			if(isTimeUp()) {
+				break;
+			}
+
+			int [] match = findMatch(entry);
+
+			if(!complete) {
+				break;
+			}
+
+			if(match != null){
+
+				pool.setState(entry, BondSetPool.SOLUTION);
+
+				pool.setMatch(entry, match);
+
+				if(best == -1 || pool.getBitCount(entry) > pool.getBitCount(best)) {
+					best = entry;
+				}
+
+				pool.removeCandidatesInSolution(entry);
+
+				addAllPlusOneBondCombinations(entry);
+
+			} else {
+				pool.setState(entry, BondSetPool.GARBAGE);
+			}
+		}
+
+		if(best == -1) {
+			return null;
+		}
+
+		return getSubFrag(best);
+	}
+
+	/**
+	 * @return matches of the bonds of entry in all members, frag atom to member atom, concatenated, or null;
+	 * also null, if the time limit was reached, in which case complete is false
+	 */
+	private int [] findMatch(int entry){
+
+		StereoMolecule fragSub = getSubFrag(entry);
+
+		int atoms = frag.getAtoms();
+
+		int parent = pool.getParent(entry);
+
+		boolean extendable = (parent != -1 && extender.prepare(entry, parent));
+
+		int [] matches = new int [arrMember.length*atoms];
+
+		int [] match = new int [atoms];
+
+		for (int k = 0; k < arrMember.length; k++) {
+
+			if(isTimeUp()) {
+				return null;
+			}
+
+			int member = arrMemberOrder[k];
+
+			SSSearcher sss = arrSSSearcher[member];
+
+			sss.setFragment(fragSub);
+
+			boolean found = false;
+
+			if(extendable) {
+
+				sss.setupAtomAndBondFeatures(MATCH_MODE);
+
+				System.arraycopy(pool.getMatch(parent), member*atoms, match, 0, atoms);
+
+				found = extender.extend(arrMember[member], sss, match);
+
+				if(found) {
+					incrementalMatches++;
+				}
+			}
+
+			if(!found) {
+
+				fullSearches++;
+
+				if(sss.findFragmentInMolecule(SSSearcher.cCountModeFirstMatch, MATCH_MODE) == 0) {
+					moveToFront(k);
+					return null;
+				}
+
+				int [] matchSub = sss.getMatchList().get(0);
+
+				Arrays.fill(match, -1);
+
+				for (int i = 0; i < matchSub.length; i++) {
+					match[arrMapAtomSubToFrag[i]] = matchSub[i];
+				}
+			}
+
+			System.arraycopy(match, 0, matches, member*atoms, atoms);
+		}
+
+		return matches;
+	}
+
+	private boolean isTimeUp(){
+
+		if(System.currentTimeMillis() > deadline) {
+			complete = false;
+		}
+
+		return !complete;
+	}
+
+	/**
+	 * @return false if index and all member indexes are given and index has a key, which some member has not
+	 */
+	private boolean isIndexInAllMembers(long [] index){
+
+		if(index == null || arrMemberIndex == null) {
+			return true;
+		}
+
+		for (int k = 0; k < arrMember.length; k++) {
+			long [] memberIndex = arrMemberIndex[k];
+			for (int i = 0; i < index.length; i++) {
+				if((index[i] & ~memberIndex[i]) != 0) {
+					return false;
+				}
+			}
+		}
+
+		return true;
+	}
+
+	private void moveToFront(int k){
+		int member = arrMemberOrder[k];
+		System.arraycopy(arrMemberOrder, 0, arrMemberOrder, 1, k);
+		arrMemberOrder[0] = member;
+	}
+
+	/**
+	 * Builds the fragment of the bonds of entry and fills the atom and bond maps between frag and sub fragment.
+	 */
+	private StereoMolecule getSubFrag(int entry){
+
+		int bonds = frag.getBonds();
+
+		int atoms = frag.getAtoms();
+
+		Arrays.fill(arrAtomInSet, 0, atoms, false);
+
+		for (int i = 0; i < bonds; i++) {
+			if(pool.isBitSet(entry, i)){
+				arrAtomInSet[frag.getBondAtom(0, i)] = true;
+				arrAtomInSet[frag.getBondAtom(1, i)] = true;
+			}
+		}
+
+		StereoMolecule fragSubBonds = new StereoMolecule(atoms, pool.getBitCount(entry));
+
+		fragSubBonds.setFragment(true);
+
+		for (int indexAtom = 0; indexAtom < atoms; indexAtom++) {
+
+			arrMapAtomFragToSub[indexAtom] = -1;
+
+			if(!arrAtomInSet[indexAtom]) {
+				continue;
+			}
+
+			int indexAtomNew = fragSubBonds.addAtom(frag.getAtomicNo(indexAtom));
+
+			fragSubBonds.setAtomX(indexAtomNew, frag.getAtomX(indexAtom));
+			fragSubBonds.setAtomY(indexAtomNew, frag.getAtomY(indexAtom));
+			fragSubBonds.setAtomZ(indexAtomNew, frag.getAtomZ(indexAtom));
+
+			arrMapAtomFragToSub[indexAtom]=indexAtomNew;
+
+			arrMapAtomSubToFrag[indexAtomNew]=indexAtom;
+		}
+
+		for (int i = 0; i < bonds; i++) {
+
+			arrMapBondFragToSub[i] = -1;
+
+			if(pool.isBitSet(entry, i)){
+
+				int indexAtomNew1 = arrMapAtomFragToSub[frag.getBondAtom(0, i)];
+				int indexAtomNew2 = arrMapAtomFragToSub[frag.getBondAtom(1, i)];
+
+				int type = frag.getBondType(i);
+
+				if(frag.isDelocalizedBond(i)){
+					type = Molecule.cBondTypeDelocalized;
+				}
+
+				arrMapBondFragToSub[i] = fragSubBonds.addBond(indexAtomNew1, indexAtomNew2, type);
+			}
+		}
+
+		fragSubBonds.ensureHelperArrays(Molecule.cHelperRings);
+
+		return fragSubBonds;
+	}
+
+	/**
+	 * Adds all bond sets, which have one more bond (and its rings, if rings are kept) connected
+	 * to the solution, as candidates, if they were not yet found to be solution or garbage.
+	 */
+	private void addAllPlusOneBondCombinations(int entry){
+
+		int bonds = frag.getBonds();
+
+		Arrays.fill(arrAtomInSet, 0, frag.getAtoms(), false);
+
+		for (int i = 0; i < bonds; i++) {
+			if(pool.isBitSet(entry, i)){
+				arrAtomInSet[frag.getBondAtom(0, i)] = true;
+				arrAtomInSet[frag.getBondAtom(1, i)] = true;
+			}
+		}
+
+		for (int i = 0; i < bonds; i++) {
+			if(!pool.isBitSet(entry, i) && (arrAtomInSet[frag.getBondAtom(0, i)] || arrAtomInSet[frag.getBondAtom(1, i)])) {
+
+				pool.copy(entry, set);
+
+				long [] mask = arrBondMask[i];
+
+				for (int j = 0; j < set.length; j++) {
+					set[j] |= mask[j];
+				}
+
+				int entryPlus = pool.getOrAdd(set);
+
+				byte state = pool.getState(entryPlus);
+
+				if(state == BondSetPool.NEW || state == BondSetPool.REMOVED) {
+					pool.setParent(entryPlus, entry);
+					pool.pushCandidate(entryPlus);
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return false if the time limit was reached during the last getMCS()
+	 */
+	public boolean isComplete() {
+		return complete;
+	}
+
+	public boolean isConsiderAromaticRings() {
+		return considerAromaticRings;
+	}
+
+	public boolean isConsiderRings() {
+		return considerRings;
+	}
+
+	/**
+	 * @return number of full sub structure searches of the last search
+	 */
+	public int getFullSearchCount() {
+		return fullSearches;
+	}
+
+	/**
+	 * @return number of member matches of the last search, which were found by extending the parent's match
+	 */
+	public int getIncrementalMatchCount() {
+		return incrementalMatches;
+	}
+}
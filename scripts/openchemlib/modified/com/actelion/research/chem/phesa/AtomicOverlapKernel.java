@@ -0,0 +1,324 @@
+package com.actelion.research.chem.phesa;
+
+import java.util.ArrayList;
+
+/**
+ * Calculates the overlap of the atomic Gaussians of a reference and a fitted molecular volume
+ * as a function of the transform (quaternion and translation) applied to the fitted molecule.
+ * Centers, widths, heights and weights of both volumes are copied into flat arrays once and the
+ * prefactors of all pairs of Gaussians are precomputed. Transformed coordinates and their
+ * derivatives with respect to the quaternion are kept in preallocated arrays, such that no
+ * objects are created when the overlap or its gradient are calculated. Reference Gaussians outside
+ * the bounding box of the transformed fit Gaussians plus the cutoff distance are skipped as a whole.
+ * getOverlap(transform) uses the same arithmetic as Gaussian3D.getVolumeOverlap(). The gradient
+ * variant folds the widths, heights and prefactor of every pair into two precomputed factors.
+ * Later changes to the molecular volumes are not considered. A kernel is not thread-safe.
+ */
+public class AtomicOverlapKernel {
+	private static final double BOX_MARGIN = Math.sqrt(Gaussian3D.DIST_CUTOFF) + 1e-6;
+
+	private final int mRefCount,mExclusionCount,mFitCount;
+	private final double[] mRefX,mRefY,mRefZ,mRefAlpha,mRefHeight,mRefWeight;
+	private final double[] mExclusionX,mExclusionY,mExclusionZ,mExclusionAlpha,mExclusionHeight,mExclusionWeight;
+	private final double[] mFitX,mFitY,mFitZ,mFitAlpha,mFitHeight;
+	private final double[] mPrefactor,mExclusionPrefactor;
+	// per pair: alpha_i*alpha_j/(alpha_i+alpha_j) and height_i*height_j*prefactor_ij
+	private final double[] mPairExponent,mPairScale;
+
+	// transformed fit coordinates and their derivatives with respect to the quaternion
+	private final double[] mX,mY,mZ;
+	private final double[] mDerivative;
+	private double mMinX,mMinY,mMinZ,mMaxX,mMaxY,mMaxZ;
+
+	/**
+	 * @param refMolGauss volume of the reference molecule including exclusion Gaussians
+	 * @param fitMolGauss volume of the molecule to be transformed
+	 */
+	public AtomicOverlapKernel(MolecularVolume refMolGauss, MolecularVolume fitMolGauss) {
+		ArrayList<AtomicGaussian> ref = refMolGauss.getAtomicGaussians();
+		ArrayList<ExclusionGaussian> exclusion = refMolGauss.getExclusionGaussians();
+		ArrayList<AtomicGaussian> fit = fitMolGauss.getAtomicGaussians();
+		QuickMathCalculator calculator = QuickMathCalculator.getInstance();
+
+		mFitCount = fit.size();
+		mFitX = new double[mFitCount];
+		mFitY = new double[mFitCount];
+		mFitZ = new double[mFitCount];
+		mFitAlpha = new double[mFitCount];
+		mFitHeight = new double[mFitCount];
+		for (int j=0; j<mFitCount; j++) {
+			Gaussian3D g = fit.get(j);
+			mFitX[j] = g.getCenter().x;
+			mFitY[j] = g.getCenter().y;
+			mFitZ[j] = g.getCenter().z;
+			mFitAlpha[j] = g.getWidth();
+			mFitHeight[j] = g.getHeight();
+		}
+
+		mRefCount = ref.size();
+		mRefX = new double[mRefCount];
+		mRefY = new double[mRefCount];
+		mRefZ = new double[mRefCount];
+		mRefAlpha = new double[mRefCount];
+		mRefHeight = new double[mRefCount];
+		mRefWeight = new double[mRefCount];
+		mPrefactor = new double[mRefCount*mFitCount];
+		mPairExponent = new double[mRefCount*mFitCount];
+		mPairScale = new double[mRefCount*mFitCount];
+		for (int i=0; i<mRefCount; i++) {
+			Gaussian3D g = ref.get(i);
+			mRefX[i] = g.getCenter().x;
+			mRefY[i] = g.getCenter().y;
+			mRefZ[i] = g.getCenter().z;
+			mRefAlpha[i] = g.getWidth();
+			mRefHeight[i] = g.getHeight();
+			mRefWeight[i] = g.getWeight();
+			for (int j=0; j<mFitCount; j++) {
+				int pair = i*mFitCount+j;
+				mPrefactor[pair] = calculator.getPrefactor(g.getAtomicNo(), fit.get(j).getAtomicNo());
+				mPairExponent[pair] = mRefAlpha[i]*mFitAlpha[j]/(mRefAlpha[i]+mFitAlpha[j]);
+				mPairScale[pair] = mRefHeight[i]*mFitHeight[j]*mPrefactor[pair];
+			}
+		}
+
+		mExclusionCount = exclusion.size();
+		mExclusionX = new double[mExclusionCount];
+		mExclusionY = new double[mExclusionCount];
+		mExclusionZ = new double[mExclusionCount];
+		mExclusionAlpha = new double[mExclusionCount];
+		mExclusionHeight = new double[mExclusionCount];
+		mExclusionWeight = new double[mExclusionCount];
+		mExclusionPrefactor = new double[mExclusionCount*mFitCount];
+		for (int i=0; i<mExclusionCount; i++) {
+			Gaussian3D g = exclusion.get(i);
+			mExclusionX[i] = g.getCenter().x;
+			mExclusionY[i] = g.getCenter().y;
+			mExclusionZ[i] = g.getCenter().z;
+			mExclusionAlpha[i] = g.getWidth();
+			mExclusionHeight[i] = g.getHeight();
+			mExclusionWeight[i] = g.getWeight();
+			for (int j=0; j<mFitCount; j++)
+				mExclusionPrefactor[i*mFitCount+j] = calculator.getPrefactor(g.getAtomicNo(), fit.get(j).getAtomicNo());
+		}
+
+		mX = new double[mFitCount];
+		mY = new double[mFitCount];
+		mZ = new double[mFitCount];
+		mDerivative = new double[12*mFitCount];
+	}
+
+	/**
+	 * Calculates the overlap volume like PheSAAlignment.getTotalAtomOverlap(transform):
+	 * the weighted overlap with the reference's atomic Gaussians minus the weighted overlap
+	 * with its exclusion Gaussians, but not less than 0.
+	 * @param transform quaternion (4 elements) and translation (3 elements)
+	 * @return
+	 */
+	public double getOverlap(double[] transform) {
+		transform(transform);
+
+		QuickMathCalculator calculator = QuickMathCalculator.getInstance();
+		double Vtot = 0.0;
+		for (int i=0; i<mRefCount; i++) {
+			if (isOutsideBox(mRefX[i], mRefY[i], mRefZ[i]))
+				continue;
+			double alpha = mRefAlpha[i];
+			double factor = mRefWeight[i];
+			double height = mRefHeight[i];
+			int offset = i*mFitCount;
+			for (int j=0; j<mFitCount; j++) {
+				double dx = mRefX[i]-mX[j];
+				double dy = mRefY[i]-mY[j];
+				double dz = mRefZ[i]-mZ[j];
+				double Rij2 = dx*dx+dy*dy+dz*dz;
+				if (Rij2>=Gaussian3D.DIST_CUTOFF)
+					continue;
+				double c = -( alpha * mFitAlpha[j]* Rij2)/(alpha + mFitAlpha[j]);
+				double Kij = height*mFitHeight[j]*calculator.quickExp(c);
+				Vtot += factor*mPrefactor[offset+j]*Kij;
+			}
+		}
+
+		for (int i=0; i<mExclusionCount; i++) {
+			if (isOutsideBox(mExclusionX[i], mExclusionY[i], mExclusionZ[i]))
+				continue;
+			double alpha = mExclusionAlpha[i];
+			double factor = mExclusionWeight[i];
+			double height = mExclusionHeight[i];
+			int offset = i*mFitCount;
+			for (int j=0; j<mFitCount; j++) {
+				double dx = mExclusionX[i]-mX[j];
+				double dy = mExclusionY[i]-mY[j];
+				double dz = mExclusionZ[i]-mZ[j];
+				double Rij2 = dx*dx+dy*dy+dz*dz;
+				if (Rij2>=Gaussian3D.DIST_CUTOFF)
+					continue;
+				double c = -( alpha * mFitAlpha[j]* Rij2)/(alpha + mFitAlpha[j]);
+				double Kij = height*mFitHeight[j]*calculator.quickExp(c);
+				Vtot -= factor*mExclusionPrefactor[offset+j]*Kij;
+			}
+		}
+
+		if (Vtot<0)
+			Vtot = 0.0;
+
+		return Vtot;
+	}
+
+	/**
+	 * Calculates the unweighted overlap with the reference's atomic Gaussians together with its
+	 * gradient as used by EvaluableOverlap. Exclusion Gaussians are not considered.
+	 * @param transform quaternion (4 elements) and translation (3 elements)
+	 * @param grad receives the gradient of the negative overlap with respect to the 7 transform
+	 * elements, which is added to the existing values
+	 * @return
+	 */
+	public double getOverlap(double[] transform, double[] grad) {
+		transform(transform);
+		calculateDerivatives(transform);
+
+		QuickMathCalculator calculator = QuickMathCalculator.getInstance();
+		double totalOverlap = 0.0;
+		// gradient sums are kept in locals and added to grad once
+		double g0 = 0.0, g1 = 0.0, g2 = 0.0, g3 = 0.0, g4 = 0.0, g5 = 0.0, g6 = 0.0;
+		for (int i=0; i<mRefCount; i++) {
+			double x = mRefX[i];
+			double y = mRefY[i];
+			double z = mRefZ[i];
+			if (isOutsideBox(x, y, z))
+				continue;
+			int offset = i*mFitCount;
+			for (int j=0; j<mFitCount; j++) {
+				double dx = x-mX[j];
+				double dy = y-mY[j];
+				double dz = z-mZ[j];
+				double Rij2 = dx*dx + dy*dy + dz*dz;
+				if (Rij2>=Gaussian3D.DIST_CUTOFF)
+					continue;
+				double exponent = mPairExponent[offset+j];
+				double atomOverlap = mPairScale[offset+j]*calculator.quickExp(-exponent*Rij2);
+				if (atomOverlap>0.0) {
+					totalOverlap += atomOverlap;
+					double gradientPrefactor = -2.0*exponent*atomOverlap;
+					int d = 12*j;
+					double qder = mDerivative[d]*dx+mDerivative[d+1]*dy+mDerivative[d+2]*dz;
+					double rder = mDerivative[d+3]*dx+mDerivative[d+4]*dy+mDerivative[d+5]*dz;
+					double sder = mDerivative[d+6]*dx+mDerivative[d+7]*dy+mDerivative[d+8]*dz;
+					double uder = mDerivative[d+9]*dx+mDerivative[d+10]*dy+mDerivative[d+11]*dz;
+
+					g0 += gradientPrefactor*qder;
+					g1 += gradientPrefactor*rder;
+					g2 += gradientPrefactor*sder;
+					g3 += gradientPrefactor*uder;
+					g4 += gradientPrefactor*dx;
+					g5 += gradientPrefactor*dy;
+					g6 += gradientPrefactor*dz;
+				}
+			}
+		}
+
+		grad[0] += g0;
+		grad[1] += g1;
+		grad[2] += g2;
+		grad[3] += g3;
+		grad[4] += g4;
+		grad[5] += g5;
+		grad[6] += g6;
+
+		return totalOverlap;
+	}
+
+	/**
+	 * Applies the transform to the fit Gaussians' centers and determines their bounding box.
+	 */
+	private void transform(double[] transform) {
+		double q0 = transform[0];
+		double q1 = transform[1];
+		double q2 = transform[2];
+		double q3 = transform[3];
+
+		// rotation matrix as in Quaternion.getRotMatrix()
+		double q1q1 = q1*q1;
+		double q2q2 = q2*q2;
+		double q3q3 = q3*q3;
+		double q0q0 = q0*q0;
+		double q0q1 = q0*q1;
+		double q1q2 = q1*q2;
+		double q0q3 = q0*q3;
+		double q1q3 = q1*q3;
+		double q0q2 = q0*q2;
+		double q2q3 = q2*q3;
+		double m00 = q0q0+q1q1-q2q2-q3q3;
+		double m01 = 2*(q1q2-q0q3);
+		double m02 = 2*(q1q3+q0q2);
+		double m10 = 2*(q1q2+q0q3);
+		double m11 = q0q0-q1q1+q2q2-q3q3;
+		double m12 = 2*(q2q3-q0q1);
+		double m20 = 2*(q1q3-q0q2);
+		double m21 = 2*(q2q3+q0q1);
+		double m22 = q0q0-q1q1-q2q2+q3q3;
+
+		double scaleFactor = 1.0/(q0*q0+q1*q1+q2*q2+q3*q3);
+		mMinX = mMinY = mMinZ = Double.POSITIVE_INFINITY;
+		mMaxX = mMaxY = mMaxZ = Double.NEGATIVE_INFINITY;
+		for (int j=0; j<mFitCount; j++) {
+			double x = mFitX[j]*m00 + mFitY[j]*m01 + mFitZ[j]*m02;
+			double y = mFitX[j]*m10 + mFitY[j]*m11 + mFitZ[j]*m12;
+			double z = mFitX[j]*m20 + mFitY[j]*m21 + mFitZ[j]*m22;
+			x *= scaleFactor;
+			y *= scaleFactor;
+			z *= scaleFactor;
+			x += transform[4];
+			y += transform[5];
+			z += transform[6];
+			mX[j] = x;
+			mY[j] = y;
+			mZ[j] = z;
+			mMinX = Math.min(mMinX, x);
+			mMinY = Math.min(mMinY, y);
+			mMinZ = Math.min(mMinZ, z);
+			mMaxX = Math.max(mMaxX, x);
+			mMaxY = Math.max(mMaxY, y);
+			mMaxZ = Math.max(mMaxZ, z);
+		}
+	}
+
+	/**
+	 * Calculates the derivatives of the transformed centers with respect to the four
+	 * quaternion elements as in EvaluableOverlap.
+	 */
+	private void calculateDerivatives(double[] transform) {
+		double q0 = transform[0];
+		double q1 = transform[1];
+		double q2 = transform[2];
+		double q3 = transform[3];
+		double invnorm2 = 1.0/(q0*q0+q1*q1+q2*q2+q3*q3);
+		for (int j=0; j<mFitCount; j++) {
+			double xk = mX[j];
+			double yk = mY[j];
+			double zk = mZ[j];
+			int d = 12*j;
+			mDerivative[d]    = invnorm2*2.0*(q0*xk - q3*yk + q2*zk);
+			mDerivative[d+1]  = invnorm2*2.0*(q3*xk + q0*yk - q1*zk);
+			mDerivative[d+2]  = invnorm2*2.0*(-q2*xk + q1*yk + q0*zk);
+			mDerivative[d+3]  = invnorm2*2.0*(q1*xk + q2*yk + q3*zk);
+			mDerivative[d+4]  = invnorm2*2.0*(q2*xk - q1*yk - q0*zk);
+			mDerivative[d+5]  = invnorm2*2.0*(q3*xk + q0*yk - q1*zk);
+			mDerivative[d+6]  = invnorm2*2.0*(-q2*xk + q1*yk + q0*zk);
+			mDerivative[d+7]  = invnorm2*2.0*(q1*xk + q2*yk + q3*zk);
+			mDerivative[d+8]  = invnorm2*2.0*(-q0*xk + q3*yk - q2*zk);
+			mDerivative[d+9]  = invnorm2*2.0*(-q3*xk - q0*yk + q1*zk);
+			mDerivative[d+10] = invnorm2*2.0*(q0*xk - q3*yk + q2*zk);
+			mDerivative[d+11] = invnorm2*2.0*(q1*xk + q2*yk + q3*zk);
+		}
+	}
+
+	/**
+	 * @return true if no transformed fit Gaussian is within the cutoff distance of x,y,z
+	 */
+	private boolean isOutsideBox(double x, double y, double z) {
+		return x < mMinX - BOX_MARGIN || x > mMaxX + BOX_MARGIN
+			|| y < mMinY - BOX_MARGIN || y > mMaxY + BOX_MARGIN
+			|| z < mMinZ - BOX_MARGIN || z > mMaxZ + BOX_MARGIN;
+	}
+}
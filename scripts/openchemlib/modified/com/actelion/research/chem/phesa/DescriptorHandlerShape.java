@@ -0,0 +1,417 @@
+package com.actelion.research.chem.phesa;
+
+import com.actelion.research.chem.Canonizer;
+import com.actelion.research.chem.IDCodeParserWithoutCoordinateInvention;
+import com.actelion.research.chem.Molecule;
+import com.actelion.research.chem.StereoMolecule;
+import com.actelion.research.chem.conf.Conformer;
+import com.actelion.research.chem.conf.ConformerSet;
+import com.actelion.research.chem.conf.ConformerSetGenerator;
+import com.actelion.research.chem.descriptor.DescriptorConstants;
+import com.actelion.research.chem.descriptor.DescriptorHandler;
+import com.actelion.research.chem.descriptor.DescriptorInfo;
+import com.actelion.research.util.EncoderFloatingPointNumbers;
+import org.openmolecules.chem.conf.gen.ConformerGenerator;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+
+
+
+/** 
+ * @version: 1.0, February 2018
+ * Author: JW
+ * a molecular shape descriptor is a shape-ensemble (molecular shapes of generated conformers of a molecule)
+ * it also contains information about the atom-connectivity,elements,... so for any molecular shape, the corresponding
+ * molecule can be reconstructed 
+ * there are different modi for calculating the shape similarity:
+ * 0: only takes into account molecule shape for alignment and overlap calculation
+ * 1: alignment solely based on shape, but overlap calculation incorporates pharmacophore overlaps
+ * 2: both alignment and overlap calculation take a combined score of shape and pharmacophore overlap
+ * 3: only the pharmacophore overlap is used for both aligment and overlap calculation -> this is the fastest method!
+ * 19 April 2018: performance enhancement by using a cutoff for the calculation of atom-atom overlaps and preculated exp-values with linear interpolation
+ * TODO: add Tversky index
+ * July 2019: various improvements in the Code, moved to DD_core
+ * self-overlaps and pharmacophore triangles of all conformers are precalculated at descriptor creation; the self-overlaps
+ * are encoded in front of the idcode and recalculated on demand when decoding descriptors without them; as they stem from the
+ * uncompressed coordinates, the atom similarity of a decoded conformer with itself may slightly exceed 1 and is capped
+ * encodeBinary() creates a compact binary form with 16 bit coordinates, which decode(byte[]) recognizes by its first byte
+*/
+
+
+public class DescriptorHandlerShape implements DescriptorHandler<PheSAMolecule,StereoMolecule> {
+
+		
+	static final long SEED = 123456789;
+	
+	static final int CONFORMATIONS = 50;
+	
+	private static final int SELF_OVERLAP_PRECISION_BITS = 48;
+
+	private static final byte BINARY_MAGIC = 0; // text descriptors start with a digit
+	private static final byte BINARY_VERSION = 1;
+
+
+	private static DescriptorHandlerShape INSTANCE;
+	
+	public static final PheSAMolecule FAILED_OBJECT = new PheSAMolecule();
+
+
+	private  boolean singleBaseConformation; // take conformation of base molecule as is and don't generate conformers
+	
+	private double[][] transforms;// = ShapeAlignment.initialTransform(2);
+	
+	private StereoMolecule[] previousAlignment;// = new StereoMolecule[2];
+
+	// Maximum number of tries to generate conformers with the torsion rule based conformer generator from Thomas Sander
+	
+	
+
+	
+	private ConformerSetGenerator conformerGenerator;
+	
+	public DescriptorHandlerShape() {
+		this(false);
+	}
+	
+	public DescriptorHandlerShape(boolean useSingleBaseConformation) {
+		singleBaseConformation = useSingleBaseConformation;
+		init();
+
+	}
+	
+	public PheSAMolecule createDescriptor(ConformerSet fullSet) {
+		try {
+			ConformerSet confSet = fullSet.getSubset(CONFORMATIONS);
+		
+		init();
+		
+		ArrayList<MolecularVolume> molecularVolumes = new ArrayList<MolecularVolume>(); 
+		
+		StereoMolecule mol = confSet.first().toMolecule();
+		MolecularVolume refMolVol = new MolecularVolume(mol);
+		MolecularVolume molVol;
+		
+		for(Conformer conformer : confSet) {
+
+            if(conformer==null) {
+
+                break;
+
+            } else {
+				molVol = new MolecularVolume(refMolVol,conformer);
+				PheSAAlignment.preProcess(conformer, molVol);
+				molecularVolumes.add(molVol);
+            }
+        }
+		PheSAMolecule shapeMol = new PheSAMolecule(mol,molecularVolumes);
+		shapeMol.precalculate();
+        return shapeMol;
+		}
+		catch(Exception e) {
+			return FAILED_OBJECT;
+		}
+	}
+
+	
+	public void init() {
+		transforms = PheSAAlignment.initialTransform(2);
+		previousAlignment = new StereoMolecule[2];
+		conformerGenerator = new ConformerSetGenerator(CONFORMATIONS,ConformerGenerator.STRATEGY_LIKELY_RANDOM,false,SEED);
+		
+	}
+	
+
+	
+	/**
+	 * the ShapeDescriptor consists of a whole ensemble of MolecularVolumes (MolecularGaussians),
+	 * obtained from a conformational search algorithm
+	*/
+	
+	public PheSAMolecule createDescriptor(StereoMolecule mol) {
+		return createDescriptor(mol, conformerGenerator);
+	}
+
+	/**
+	 * Like createDescriptor(mol), but generates the conformers with the given generator,
+	 * e.g. one that minimizes conformers with the force field.
+	 * @param mol
+	 * @param generator
+	 * @return descriptor or FAILED_OBJECT
+	 */
+	public PheSAMolecule createDescriptor(StereoMolecule mol, ConformerSetGenerator generator) {
+		StereoMolecule shapeMolecule = new StereoMolecule(mol);
+		boolean has3Dcoordinates = false;
+		for (int atom=1; atom<mol.getAllAtoms(); atom++) {
+			if (Math.abs(mol.getAtomZ(atom) - mol.getAtomZ(0)) > 0.1) {
+				has3Dcoordinates = true;
+				break;
+				}
+			}
+		shapeMolecule.stripSmallFragments();
+		new Canonizer(shapeMolecule);
+		shapeMolecule.ensureHelperArrays(StereoMolecule.cHelperCIP);
+
+		ConformerSet confSet = new ConformerSet();
+		if (!singleBaseConformation) {
+			confSet = generator.generateConformerSet(shapeMolecule);
+		}
+		
+		else if(!has3Dcoordinates) {
+			return FAILED_OBJECT;
+		}
+			
+		else {
+			if(shapeMolecule.getAllAtoms()-shapeMolecule.getAtoms()>0) {
+				ConformerGenerator.addHydrogenAtoms(shapeMolecule);
+			}
+			confSet.add(new Conformer(shapeMolecule)); //take input conformation
+			
+			}
+
+		return this.createDescriptor(confSet);
+
+	}
+	/**
+	 * calculates the Shape- and/or Pharmacophore similarity of a query molecule with a base molecule
+	 * 
+	 */
+	
+	public float getSimilarity(PheSAMolecule query, PheSAMolecule base) {
+		StereoMolecule[] bestPair = {query.getMolecule(),base.getMolecule()};
+		double similarity = PheSAAlignmentOptimizer.align(query,base,bestPair);
+		this.setPreviousAlignment(bestPair);
+		return (float)similarity;
+	}
+
+
+	
+	public StereoMolecule[] getPreviousAlignment() {
+		return this.previousAlignment;
+	}
+	
+	public void setPreviousAlignment(StereoMolecule[] previousAlignment) {
+		this.previousAlignment = previousAlignment;
+	}
+	
+	
+
+	
+
+	
+
+	
+	public String getVersion() {
+		return DescriptorConstants.DESCRIPTOR_ShapeAlign.version;
+	}
+	
+	public DescriptorInfo getInfo() {
+		return DescriptorConstants.DESCRIPTOR_ShapeAlign;
+	}
+	
+
+	
+
+	
+	public String encode(PheSAMolecule o) {
+
+		if(calculationFailed(o)){
+			return FAILED_STRING;
+		}
+
+		ArrayList<MolecularVolume> molVols = null;
+		PheSAMolecule shapeMol;
+
+		if(o instanceof PheSAMolecule){
+			
+			shapeMol = (PheSAMolecule)o;
+			molVols = shapeMol.getVolumes();
+
+
+		} else {
+			return FAILED_STRING;
+		}
+		
+		StringBuilder shapeString = new StringBuilder();
+		int nrOfMolVols = molVols.size();
+		shapeString.append(Integer.toString(nrOfMolVols));
+		shapeString.append("   ");
+		shapeString.append(molVols.get(0).encodeFull());
+		shapeString.append("   ");
+		
+		for(int i=1;i<nrOfMolVols;i++) {
+			shapeString.append(molVols.get(i).encodeCoordsOnly());
+			shapeString.append("   ");
+		}
+			
+		shapeString.append("   ");
+		StringBuilder moleculeString = new StringBuilder();
+		StereoMolecule mol = shapeMol.getConformer(shapeMol.getVolumes().get(0));
+		Canonizer can = new Canonizer(mol, Canonizer.COORDS_ARE_3D);
+		mol = can.getCanMolecule(true);
+		String idcoords = can.getEncodedCoordinates(true);
+		String idcode = can.getIDCode();
+		moleculeString.append(idcode);
+		moleculeString.append("   ");
+		moleculeString.append(idcoords);
+
+		double[] selfOverlaps = new double[2*nrOfMolVols];
+		for(int i=0;i<nrOfMolVols;i++) {
+			selfOverlaps[2*i] = molVols.get(i).getSelfAtomOverlap();
+			selfOverlaps[2*i+1] = molVols.get(i).getSelfPPOverlap();
+		}
+		shapeString.append(EncoderFloatingPointNumbers.encode(selfOverlaps, SELF_OVERLAP_PRECISION_BITS));
+		shapeString.append("   ");
+		shapeString.append(moleculeString);
+		return shapeString.toString();
+	}
+	
+	public PheSAMolecule decode(String s) {
+		try {
+			return s == null || s.length() == 0 ? null
+					: s.equals(FAILED_STRING) ? FAILED_OBJECT
+					:                           getDecodedObject(s);
+		} catch (RuntimeException e1) {
+			return FAILED_OBJECT;
+		}
+	}
+	
+	private PheSAMolecule getDecodedObject(String string64)  {
+		String[] splitted = string64.split("   ");
+		String idcode = splitted[splitted.length-2];
+		String idcoords = splitted[splitted.length-1];
+		StereoMolecule mol = new StereoMolecule();
+		IDCodeParserWithoutCoordinateInvention parser = new IDCodeParserWithoutCoordinateInvention();
+		parser.parse(mol, idcode, idcoords);
+		mol.ensureHelperArrays(Molecule.cHelperCIP);
+		ArrayList<MolecularVolume> molVols = new ArrayList<MolecularVolume>();
+		int nrOfMolVols = Integer.decode(splitted[0]);
+		MolecularVolume refMolVol = MolecularVolume.decodeFull(splitted[1], mol);
+		molVols.add(refMolVol);
+		for(int i=2;i<nrOfMolVols+1;i++) {
+			molVols.add(MolecularVolume.decodeCoordsOnly(splitted[i], refMolVol));
+			
+		}
+		if(splitted.length>nrOfMolVols+4) { // older descriptors don't contain self-overlaps
+			double[] selfOverlaps = EncoderFloatingPointNumbers.decode(splitted[nrOfMolVols+2]);
+			for(int i=0;i<nrOfMolVols;i++)
+				molVols.get(i).setSelfOverlaps(selfOverlaps[2*i], selfOverlaps[2*i+1]);
+		}
+
+		PheSAMolecule shapeMol = new PheSAMolecule(mol,molVols);
+		return shapeMol;
+		
+	}
+	
+	/**
+	 * Encodes the descriptor in a binary form, which is about a third smaller and decodes two to three
+	 * times faster than encode(). Atom, pharmacophore and hydrogen positions of all conformers are quantized to
+	 * 16 bit integers relative to the conformer's center of mass. Gaussian types and pharmacophore
+	 * point definitions are stored once. As with encode(), self-overlaps are taken from the
+	 * encoded molecule's uncompressed coordinates.
+	 * @param o
+	 * @return binary descriptor for decode(byte[])
+	 */
+	public byte[] encodeBinary(PheSAMolecule o) {
+		if(calculationFailed(o))
+			return FAILED_STRING.getBytes(StandardCharsets.UTF_8);
+
+		ArrayList<MolecularVolume> molVols = o.getVolumes();
+		int nrOfMolVols = molVols.size();
+		StereoMolecule mol = o.getConformer(molVols.get(0));
+		Canonizer can = new Canonizer(mol, Canonizer.COORDS_ARE_3D);
+		can.getCanMolecule(true);
+		byte[] idcode = can.getIDCode().getBytes(StandardCharsets.UTF_8);
+		byte[] idcoords = can.getEncodedCoordinates(true).getBytes(StandardCharsets.UTF_8);
+
+		byte[][] volumeBytes = new byte[nrOfMolVols][];
+		int size = 2 + 3*4 + idcode.length + idcoords.length + 16*nrOfMolVols;
+		for(int i=0;i<nrOfMolVols;i++) {
+			volumeBytes[i] = (i == 0) ? molVols.get(i).encodeFullBinary() : molVols.get(i).encodeCoordsOnlyBinary();
+			size += volumeBytes[i].length;
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocate(size);
+		buffer.put(BINARY_MAGIC);
+		buffer.put(BINARY_VERSION);
+		buffer.putInt(idcode.length);
+		buffer.put(idcode);
+		buffer.putInt(idcoords.length);
+		buffer.put(idcoords);
+		buffer.putInt(nrOfMolVols);
+		for(byte[] bytes : volumeBytes)
+			buffer.put(bytes);
+		for(MolecularVolume molVol : molVols) {
+			buffer.putDouble(molVol.getSelfAtomOverlap());
+			buffer.putDouble(molVol.getSelfPPOverlap());
+		}
+		return buffer.array();
+	}
+
+	/**
+	 * Decodes descriptors created by encodeBinary() as well as encode().
+	 */
+	public PheSAMolecule decode(byte[] arr) {
+		if(arr == null || arr.length == 0 || arr[0] != BINARY_MAGIC)
+			return decode(arr == null ? null : new String(arr));
+
+		try {
+			return getDecodedObject(ByteBuffer.wrap(arr), true);
+		} catch (RuntimeException e1) {
+			return FAILED_OBJECT;
+		}
+	}
+
+	private PheSAMolecule getDecodedObject(ByteBuffer buffer, boolean readSelfOverlaps) {
+		buffer.get(); // BINARY_MAGIC
+		int version = buffer.get();
+		if(version != BINARY_VERSION)
+			throw new IllegalArgumentException("Unsupported binary shape descriptor version: "+version);
+		byte[] idcode = new byte[buffer.getInt()];
+		buffer.get(idcode);
+		byte[] idcoords = new byte[buffer.getInt()];
+		buffer.get(idcoords);
+		StereoMolecule mol = new StereoMolecule();
+		IDCodeParserWithoutCoordinateInvention parser = new IDCodeParserWithoutCoordinateInvention();
+		parser.parse(mol, idcode, idcoords);
+		mol.ensureHelperArrays(Molecule.cHelperCIP);
+
+		int nrOfMolVols = buffer.getInt();
+		ArrayList<MolecularVolume> molVols = new ArrayList<MolecularVolume>();
+		MolecularVolume refMolVol = MolecularVolume.decodeFull(buffer, mol);
+		molVols.add(refMolVol);
+		for(int i=1;i<nrOfMolVols;i++)
+			molVols.add(MolecularVolume.decodeCoordsOnly(buffer, refMolVol));
+
+		if(readSelfOverlaps)
+			for(MolecularVolume molVol : molVols)
+				molVol.setSelfOverlaps(buffer.getDouble(), buffer.getDouble());
+
+		return new PheSAMolecule(mol,molVols);
+	}
+	
+	public boolean calculationFailed(PheSAMolecule o) {
+
+
+			return o.getVolumes().size()==0;
+	
+	}
+	
+	public DescriptorHandlerShape getThreadSafeCopy() {
+
+		DescriptorHandlerShape dhs = new DescriptorHandlerShape();
+
+		return dhs;
+	}
+
+	public static DescriptorHandlerShape getDefaultInstance(){
+
+		if(INSTANCE==null){
+			INSTANCE = new DescriptorHandlerShape();
+		}
+
+		return INSTANCE;
+	}
+
+}
\ No newline at end of file
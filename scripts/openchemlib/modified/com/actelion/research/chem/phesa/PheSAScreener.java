@@ -0,0 +1,389 @@
+package com.actelion.research.chem.phesa;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.actelion.research.chem.StereoMolecule;
+import com.actelion.research.chem.interactionstatistics.InteractionSimilarityTable;
+
+/**
+ * PheSAScreener screens a library of PheSA descriptors against one query and keeps the k most
+ * similar library molecules. The library is consumed in batches. Every library molecule of a batch
+ * is first scored cheaply by evaluating the PMI orientations of all conformer pairs without
+ * optimization. Library molecules are aligned with PheSAAlignmentOptimizer.align(), which includes
+ * the triangle and PMI based optimizations as in DescriptorHandlerShape.getSimilarity(), in the order
+ * of decreasing cheap scores. By default all library molecules are aligned and the hits are the same
+ * as with an exhaustive comparison. Because the cheap score is not a strict upper bound of the optimized
+ * similarity, pruning is lossy and must be enabled explicitly with setMargin(): then the remaining
+ * candidates of a batch are skipped, once their cheap score plus the margin is below the k-th best
+ * similarity found in the previous batches. Since this threshold is fixed before a batch is optimized,
+ * the hits don't depend on the number of threads. Hits of equal similarity are ranked by library index.
+ * Both passes run on a fork-join pool. Statistics describe the last call of screen().
+ */
+public class PheSAScreener {
+	public static final double NO_PRUNING = Double.POSITIVE_INFINITY;
+	public static final int DEFAULT_BATCH_SIZE = 256;
+
+	private final PheSAMolecule mQuery;
+	private final int mMaxHits;
+	private double mMargin;
+	private int mBatchSize,mThreadCount;
+
+	private PriorityQueue<Hit> mHeap;
+	private int mScreenedCount,mFailedCount,mOptimizedCount,mPrunedCount;
+	private long mFirstPassNanos,mOptimizationNanos,mTotalNanos;
+
+	/**
+	 * @param query descriptor of the query molecule as created by DescriptorHandlerShape
+	 * @param maxHits number of best hits to keep
+	 */
+	public PheSAScreener(PheSAMolecule query, int maxHits) {
+		mQuery = query;
+		mMaxHits = Math.max(1, maxHits);
+		mMargin = NO_PRUNING;
+		mBatchSize = DEFAULT_BATCH_SIZE;
+		mThreadCount = Runtime.getRuntime().availableProcessors();
+	}
+
+	/**
+	 * @param margin value added to the cheap score of a candidate before comparing it with the
+	 * k-th best similarity of the previous batches, e.g. 0.1; default is NO_PRUNING
+	 */
+	public void setMargin(double margin) {
+		mMargin = margin;
+	}
+
+	/**
+	 * @param batchSize number of library molecules, which are scored cheaply before optimizing the candidates among them
+	 */
+	public void setBatchSize(int batchSize) {
+		mBatchSize = Math.max(1, batchSize);
+	}
+
+	/**
+	 * @param threadCount number of worker threads; default is the number of available processors
+	 */
+	public void setThreadCount(int threadCount) {
+		mThreadCount = Math.max(1, threadCount);
+	}
+
+	public List<Hit> screen(Iterable<PheSAMolecule> library) {
+		return screen(library.iterator());
+	}
+
+	/**
+	 * Screens all library molecules. Library molecules without conformers, e.g.
+	 * DescriptorHandlerShape.FAILED_OBJECT, are counted as failed and skipped.
+	 * @param library
+	 * @return up to maxHits hits sorted by decreasing similarity
+	 */
+	public List<Hit> screen(Iterator<PheSAMolecule> library) {
+		long start = System.nanoTime();
+		mHeap = new PriorityQueue<Hit>(mMaxHits+1, (h1,h2) -> compareHits(h1, h2));
+		mScreenedCount = 0;
+		mFailedCount = 0;
+		mOptimizedCount = 0;
+		mPrunedCount = 0;
+		mFirstPassNanos = 0;
+		mOptimizationNanos = 0;
+
+		// load shared static tables and the query's precalculated values once before starting the workers
+		QuickMathCalculator.getInstance();
+		if (hasPPGaussians(mQuery))
+			InteractionSimilarityTable.getInstance();
+		mQuery.precalculate();
+
+		ForkJoinPool pool = new ForkJoinPool(mThreadCount);
+		try {
+			int index = 0;
+			while (library.hasNext()) {
+				List<Hit> batch = new ArrayList<Hit>(mBatchSize);
+				while (batch.size() < mBatchSize && library.hasNext()) {
+					PheSAMolecule molecule = library.next();
+					if (molecule == null || molecule.getVolumes().isEmpty())
+						mFailedCount++;
+					else
+						batch.add(new Hit(index, molecule));
+					index++;
+				}
+				screenBatch(pool, batch);
+			}
+		}
+		finally {
+			pool.shutdown();
+		}
+
+		List<Hit> hits = new ArrayList<Hit>(mHeap);
+		Collections.sort(hits, (h1,h2) -> compareHits(h2, h1));
+		mTotalNanos = System.nanoTime() - start;
+		return hits;
+	}
+
+	private void screenBatch(ForkJoinPool pool, List<Hit> batch) {
+		if (batch.isEmpty())
+			return;
+
+		long start = System.nanoTime();
+		pool.invoke(new FirstPassTask(batch, 0, batch.size()));
+		mFirstPassNanos += System.nanoTime() - start;
+		mScreenedCount += batch.size();
+
+		start = System.nanoTime();
+		Collections.sort(batch, (h1,h2) -> Double.compare(h2.mEstimate, h1.mEstimate));
+		// the threshold of the previous batches keeps the pruning independent of the thread order
+		double threshold = getThreshold();
+		int candidateCount = 0;
+		while (candidateCount < batch.size() && batch.get(candidateCount).mEstimate + mMargin >= threshold)
+			candidateCount++;
+		mPrunedCount += batch.size() - candidateCount;    // all later candidates have lower estimates
+		List<Hit> candidates = batch.subList(0, candidateCount);
+		AtomicInteger next = new AtomicInteger();
+		List<OptimizationTask> tasks = new ArrayList<OptimizationTask>();
+		for (int i=0; i<Math.min(mThreadCount, candidates.size()); i++)
+			tasks.add(new OptimizationTask(candidates, next));
+		pool.invoke(new RecursiveAction() {
+			private static final long serialVersionUID = 0x20190701;
+
+			@Override
+			protected void compute() {
+				invokeAll(tasks);
+			}
+		});
+		mOptimizationNanos += System.nanoTime() - start;
+	}
+
+	private static boolean hasPPGaussians(PheSAMolecule molecule) {
+		for (MolecularVolume molVol:molecule.getVolumes())
+			if (!molVol.getPPGaussians().isEmpty())
+				return true;
+		return false;
+	}
+
+	/**
+	 * @return copy of the query, such that workers don't share molecules or volumes
+	 */
+	private PheSAMolecule copyQuery() {
+		ArrayList<MolecularVolume> volumes = new ArrayList<MolecularVolume>();
+		for (MolecularVolume molVol:mQuery.getVolumes())
+			volumes.add(new MolecularVolume(molVol));
+		return new PheSAMolecule(new StereoMolecule(mQuery.getMolecule()), volumes);
+	}
+
+	/**
+	 * @return highest similarity of the PMI orientations of all conformer pairs without optimization
+	 */
+	private static double getEstimate(PheSAMolecule query, PheSAMolecule molecule) {
+		double estimate = 0.0;
+		for (MolecularVolume refVol:query.getVolumes()) {
+			for (MolecularVolume fitVol:molecule.getVolumes()) {
+				PheSAAlignment shapeAlignment = new PheSAAlignment(refVol, fitVol);
+				double[] r = shapeAlignment.findAlignment(PheSAAlignment.initialTransform(1), false);
+				estimate = Math.max(estimate, r[0]);
+			}
+		}
+		return estimate;
+	}
+
+	/**
+	 * @return similarity a candidate must reach to become one of the best hits
+	 */
+	private double getThreshold() {
+		return mHeap.size() < mMaxHits ? Double.NEGATIVE_INFINITY : mHeap.peek().mSimilarity;
+	}
+
+	/**
+	 * Orders hits by similarity; of two hits with equal similarity, the one with the
+	 * lower library index ranks higher, such that ties don't depend on the thread order.
+	 */
+	private static int compareHits(Hit h1, Hit h2) {
+		int c = Double.compare(h1.mSimilarity, h2.mSimilarity);
+		return c != 0 ? c : Integer.compare(h2.mIndex, h1.mIndex);
+	}
+
+	private synchronized void addHit(Hit hit) {
+		mOptimizedCount++;
+		if (mHeap.size() < mMaxHits) {
+			mHeap.add(hit);
+		}
+		else if (compareHits(hit, mHeap.peek()) > 0) {
+			mHeap.poll();
+			mHeap.add(hit);
+		}
+	}
+
+	/**
+	 * @return number of library molecules, which were scored
+	 */
+	public int getScreenedCount() {
+		return mScreenedCount;
+	}
+
+	/**
+	 * @return number of library molecules without conformers
+	 */
+	public int getFailedCount() {
+		return mFailedCount;
+	}
+
+	/**
+	 * @return number of library molecules, which were fully aligned
+	 */
+	public int getOptimizedCount() {
+		return mOptimizedCount;
+	}
+
+	/**
+	 * @return number of library molecules, which were skipped after the cheap first pass
+	 */
+	public int getPrunedCount() {
+		return mPrunedCount;
+	}
+
+	/**
+	 * @return wall clock milliseconds of the last screening
+	 */
+	public double getElapsedMillis() {
+		return mTotalNanos / 1000000.0;
+	}
+
+	/**
+	 * @return wall clock milliseconds spent in the cheap first passes
+	 */
+	public double getFirstPassMillis() {
+		return mFirstPassNanos / 1000000.0;
+	}
+
+	/**
+	 * @return wall clock milliseconds spent optimizing candidates
+	 */
+	public double getOptimizationMillis() {
+		return mOptimizationNanos / 1000000.0;
+	}
+
+	/**
+	 * @return screened library molecules per second
+	 */
+	public double getThroughput() {
+		return mTotalNanos == 0 ? 0.0 : mScreenedCount * 1e9 / mTotalNanos;
+	}
+
+	@Override
+	public String toString() {
+		return "screened:" + mScreenedCount
+			 + " failed:" + mFailedCount
+			 + " optimized:" + mOptimizedCount
+			 + " pruned:" + mPrunedCount
+			 + " millis:" + getElapsedMillis()
+			 + " firstPassMillis:" + getFirstPassMillis()
+			 + " optimizationMillis:" + getOptimizationMillis()
+			 + " moleculesPerSecond:" + getThroughput();
+	}
+
+	/**
+	 * A library molecule with its cheap score and, if it was optimized, its similarity
+	 * and aligned conformers.
+	 */
+	public static class Hit {
+		private final int mIndex;
+		private final PheSAMolecule mMolecule;
+		private double mEstimate,mSimilarity;
+		private StereoMolecule[] mAlignment;
+
+		private Hit(int index, PheSAMolecule molecule) {
+			mIndex = index;
+			mMolecule = molecule;
+		}
+
+		/**
+		 * @return position of the molecule in the library
+		 */
+		public int getIndex() {
+			return mIndex;
+		}
+
+		public PheSAMolecule getMolecule() {
+			return mMolecule;
+		}
+
+		/**
+		 * @return cheap score of the first pass
+		 */
+		public double getEstimate() {
+			return mEstimate;
+		}
+
+		/**
+		 * @return similarity as calculated by DescriptorHandlerShape.getSimilarity()
+		 */
+		public double getSimilarity() {
+			return mSimilarity;
+		}
+
+		/**
+		 * @return best aligned query conformer and library conformer
+		 */
+		public StereoMolecule[] getAlignment() {
+			return mAlignment;
+		}
+	}
+
+	private class FirstPassTask extends RecursiveAction {
+		private static final long serialVersionUID = 0x20190701;
+
+		private final List<Hit> mBatch;
+		private final int mFirst,mLast;
+
+		FirstPassTask(List<Hit> batch, int first, int last) {
+			mBatch = batch;
+			mFirst = first;
+			mLast = last;
+		}
+
+		@Override
+		protected void compute() {
+			if (mLast - mFirst == 1) {
+				Hit hit = mBatch.get(mFirst);
+				hit.mEstimate = getEstimate(mQuery, hit.mMolecule);
+				return;
+			}
+
+			int middle = (mFirst + mLast) / 2;
+			invokeAll(new FirstPassTask(mBatch, mFirst, middle),
+					  new FirstPassTask(mBatch, middle, mLast));
+		}
+	}
+
+	/**
+	 * Optimizes candidates in the order of the sorted batch until the batch is exhausted.
+	 */
+	private class OptimizationTask extends RecursiveAction {
+		private static final long serialVersionUID = 0x20190701;
+
+		private final List<Hit> mBatch;
+		private final AtomicInteger mNext;
+
+		OptimizationTask(List<Hit> batch, AtomicInteger next) {
+			mBatch = batch;
+			mNext = next;
+		}
+
+		@Override
+		protected void compute() {
+			PheSAMolecule query = copyQuery();
+			int index;
+			while ((index = mNext.getAndIncrement()) < mBatch.size()) {
+				Hit hit = mBatch.get(index);
+				StereoMolecule[] alignment = {query.getMolecule(), hit.mMolecule.getMolecule()};
+				hit.mSimilarity = PheSAAlignmentOptimizer.align(query, hit.mMolecule, alignment);
+				hit.mAlignment = alignment;
+				addHit(hit);
+			}
+		}
+	}
+}
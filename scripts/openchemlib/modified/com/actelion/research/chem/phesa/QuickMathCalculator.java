@@ -0,0 +1,76 @@
+package com.actelion.research.chem.phesa;
+
+import com.actelion.research.chem.PeriodicTable;
+
+/**
+ * Immutable lookup tables for the Gaussian overlap calculations of all PheSA threads:
+ * exp(c) for -9.99 < c <= 0 with linear interpolation and the prefactors (pi/(alpha1+alpha2))^1.5
+ * of all pairs of atomic numbers up to Iodine. The tables are created once, when the class is
+ * initialized, and are never modified afterwards, such that they can be read concurrently without locking.
+ * Linear interpolation with a step size of h=0.01 overestimates exp(c) by less than h*h/8 = 1.25e-5
+ * relative to the exact value.
+ */
+public class QuickMathCalculator {
+	public static final double EXP_STEP = 0.01;
+	public static final int EXP_TABLE_SIZE = 1000;
+	public static final double MAX_RELATIVE_EXP_ERROR = EXP_STEP*EXP_STEP/8.0;
+	private static final double MIN_EXPONENT = -(EXP_TABLE_SIZE-1)*EXP_STEP; // interpolation needs index+1
+	private static final int MAX_ATOMIC_NO = 53; // Iodine
+
+	private static final QuickMathCalculator INSTANCE = new QuickMathCalculator();
+
+	private final double[] precalcExp;
+	private final double[][] precalcPrefactors;
+
+
+	private QuickMathCalculator() {
+		precalcPrefactors = new double[MAX_ATOMIC_NO+1][MAX_ATOMIC_NO+1];
+		precalculatePrefactors();
+		precalcExp = new double[EXP_TABLE_SIZE];
+		precalculateExp();
+
+	}
+
+	public static QuickMathCalculator getInstance() {
+		return INSTANCE;
+	}
+
+	private void precalculatePrefactors() {
+		for(int i=1;i<=MAX_ATOMIC_NO;i++) { //last element taken into account is Iodine
+			for(int j=1;j<=MAX_ATOMIC_NO;j++) {
+				double vdwR1 = PeriodicTable.getElement(i).getVDWRadius();
+				double vdwR2 = PeriodicTable.getElement(j).getVDWRadius();
+				double alphaSum = MolecularVolume.alpha_pref/(vdwR1*vdwR1) + MolecularVolume.alpha_pref/(vdwR2*vdwR2);
+				precalcPrefactors[i][j] = Math.pow((Math.PI/alphaSum), 1.5);
+			}
+		}
+	}
+
+	private void precalculateExp() {
+		for(int i=0;i<EXP_TABLE_SIZE;i++) {
+			precalcExp[i] = Math.exp(-i*EXP_STEP);
+
+		}
+	}
+
+	/**
+	 * Fast approximation of Math.exp() using a lookup table and linear interpolation.
+	 * @param c exponent <= 0
+	 * @return exp(c) with a relative error below MAX_RELATIVE_EXP_ERROR or 0.0, if c is below the table's range
+	 */
+	public double quickExp(double c) {
+		if(c <= MIN_EXPONENT)
+			return 0.0;
+		int index = -1*(int)(c*100);
+		double exp1 = precalcExp[index];
+		double exp2 = precalcExp[index+1];
+		double f = -c*100-index;
+		double exp = exp1 + f*(exp2-exp1);
+		return exp;
+	}
+
+	public double getPrefactor(int a1, int a2) {
+		return precalcPrefactors[a1][a2];
+	}
+
+}
@@ -0,0 +1,306 @@
+package com.actelion.research.chem.phesa.pharmacophore;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.actelion.research.chem.phesa.MolecularVolume;
+import com.actelion.research.chem.phesa.PheSAMolecule;
+
+/**
+ * PPTriangleIndex is an inverted index of the pharmacophore triangles of all conformers
+ * of a library of PheSAMolecules. Triangles are keyed by their functionality hash and
+ * their edge lengths quantized into bins of a given width. A query molecule's triangles
+ * retrieve all library triangles of the same functionalities, whose edge lengths differ
+ * by less than the tolerance, i.e. the triangle pairs PPTriangleMatcher would align.
+ * Every matching triangle pair votes for its conformer pair. The votes of a library molecule
+ * are the highest number of matching triangles of any of its conformers with any query
+ * conformer. Only molecules with enough votes need to be aligned by PheSAAlignmentOptimizer.
+ * Molecule IDs are assigned in the order molecules are added, such that a written index
+ * can be kept next to the file of the molecules' shape descriptors.
+ */
+public class PPTriangleIndex {
+	public static final double DEFAULT_TOLERANCE = 2.5; // same as PPTriangleMatcher
+	public static final double DEFAULT_BIN_WIDTH = 2.5;
+
+	private static final int VERSION = 1;
+	private static final int BIN_BITS = 6;
+	private static final int MAX_BIN = (1 << BIN_BITS) - 1;
+
+	private final double mTolerance,mBinWidth;
+	private final HashMap<Integer,int[]> mPosting; // key -> {count, triangle1, triangle2, ...}
+	private int[] mConformerStart; // [molecule] -> first conformer; [moleculeCount] -> conformerCount
+	private int[] mConformerMolecule; // [conformer] -> molecule
+	private int[] mTriangleConformer,mTriangleHash;
+	private float[] mTriangleEdge; // 3 edge lengths per triangle
+	private int mMoleculeCount,mConformerCount,mTriangleCount;
+
+	public PPTriangleIndex() {
+		this(DEFAULT_TOLERANCE, DEFAULT_BIN_WIDTH);
+	}
+
+	/**
+	 * @param tolerance maximum difference of corresponding edge lengths of matching triangles in Angstrom
+	 * @param binWidth width of the edge length bins; smaller bins mean fewer postings to check,
+	 * but more keys to look up per query triangle
+	 */
+	public PPTriangleIndex(double tolerance, double binWidth) {
+		mTolerance = tolerance;
+		mBinWidth = binWidth;
+		mPosting = new HashMap<>();
+		mConformerStart = new int[1024];
+		mConformerMolecule = new int[1024];
+		mTriangleConformer = new int[1024];
+		mTriangleHash = new int[1024];
+		mTriangleEdge = new float[3*1024];
+	}
+
+	/**
+	 * @return number of indexed molecules
+	 */
+	public int size() {
+		return mMoleculeCount;
+	}
+
+	public int getConformerCount() {
+		return mConformerCount;
+	}
+
+	public int getTriangleCount() {
+		return mTriangleCount;
+	}
+
+	/**
+	 * Adds the triangles of all conformers of a molecule to the index.
+	 * @param mol
+	 * @return ID of the molecule, which is the number of molecules added before
+	 */
+	public int add(PheSAMolecule mol) {
+		for(MolecularVolume molVol : mol.getVolumes()) {
+			int conformer = addConformer();
+			for(List<PPTriangle> triangles : molVol.getPPTriangles().values()) {
+				for(PPTriangle triangle : triangles) {
+					double[] d = triangle.getEdgeLengths();
+					addTriangle(conformer, triangle.getHash(), (float)d[0], (float)d[1], (float)d[2]);
+				}
+			}
+		}
+		return finishMolecule();
+	}
+
+	/**
+	 * @param molecule
+	 * @return number of conformers of the indexed molecule
+	 */
+	public int getConformerCount(int molecule) {
+		return mConformerStart[molecule+1] - mConformerStart[molecule];
+	}
+
+	/**
+	 * Retrieves the library molecules sharing matching triangles with any conformer of the query
+	 * and returns those with the most votes.
+	 * @param query
+	 * @param maxResults maximum number of hits
+	 * @param minVotes minimum number of matching triangles of the best conformer pair
+	 * @param hitID receives the IDs of the hits in order of decreasing votes
+	 * @param hitVotes receives the hits' votes; may be null
+	 * @return number of hits
+	 */
+	public int search(PheSAMolecule query, int maxResults, int minVotes, int[] hitID, int[] hitVotes) {
+		int[] moleculeVotes = getVotes(query);
+		int[] votes = new int[Math.max(1, maxResults)];
+		int hitCount = 0;
+		for(int molecule=0; molecule<mMoleculeCount; molecule++)
+			if(moleculeVotes[molecule] != 0)
+				hitCount = addHit(molecule, moleculeVotes[molecule], maxResults, minVotes, hitID, votes, hitCount);
+
+		if(hitVotes != null)
+			System.arraycopy(votes, 0, hitVotes, 0, hitCount);
+		return hitCount;
+	}
+
+	/**
+	 * @param query
+	 * @return [molecule] -> highest number of matching triangles of any library conformer with any query conformer
+	 */
+	public int[] getVotes(PheSAMolecule query) {
+		int[] moleculeVotes = new int[mMoleculeCount];
+		int[] conformerVotes = new int[mConformerCount];
+		int[] votedConformer = new int[mConformerCount];
+		for(MolecularVolume molVol : query.getVolumes()) {
+			int votedCount = 0;
+			for(Map.Entry<Integer,ArrayList<PPTriangle>> entry : molVol.getPPTriangles().entrySet()) {
+				int hash = entry.getKey();
+				for(PPTriangle triangle : entry.getValue()) {
+					double[] d = triangle.getEdgeLengths();
+					int min0 = getBin(d[0]-mTolerance), max0 = getBin(d[0]+mTolerance);
+					int min1 = getBin(d[1]-mTolerance), max1 = getBin(d[1]+mTolerance);
+					int min2 = getBin(d[2]-mTolerance), max2 = getBin(d[2]+mTolerance);
+					for(int b0=min0; b0<=max0; b0++) {
+						for(int b1=min1; b1<=max1; b1++) {
+							for(int b2=min2; b2<=max2; b2++) {
+								int[] posting = mPosting.get(createKey(hash, b0, b1, b2));
+								if(posting == null)
+									continue;
+								for(int i=1; i<=posting[0]; i++) {
+									int t = posting[i];
+									if(Math.abs(d[0]-mTriangleEdge[3*t]) < mTolerance
+									&& Math.abs(d[1]-mTriangleEdge[3*t+1]) < mTolerance
+									&& Math.abs(d[2]-mTriangleEdge[3*t+2]) < mTolerance) {
+										int conformer = mTriangleConformer[t];
+										if(conformerVotes[conformer]++ == 0)
+											votedConformer[votedCount++] = conformer;
+									}
+								}
+							}
+						}
+					}
+				}
+			}
+			for(int i=0; i<votedCount; i++) {
+				int conformer = votedConformer[i];
+				int molecule = mConformerMolecule[conformer];
+				if(moleculeVotes[molecule] < conformerVotes[conformer])
+					moleculeVotes[molecule] = conformerVotes[conformer];
+				conformerVotes[conformer] = 0;
+			}
+		}
+		return moleculeVotes;
+	}
+
+	/**
+	 * Writes parameters, conformer counts and triangles. Postings are rebuilt when reading.
+	 * @param os
+	 * @throws IOException
+	 */
+	public void write(OutputStream os) throws IOException {
+		DataOutputStream dos = new DataOutputStream(os);
+		dos.writeInt(VERSION);
+		dos.writeDouble(mTolerance);
+		dos.writeDouble(mBinWidth);
+		dos.writeInt(mMoleculeCount);
+		dos.writeInt(mConformerCount);
+		dos.writeInt(mTriangleCount);
+		for(int molecule=0; molecule<mMoleculeCount; molecule++)
+			dos.writeInt(getConformerCount(molecule));
+		for(int t=0; t<mTriangleCount; t++) {
+			dos.writeInt(mTriangleConformer[t]);
+			dos.writeInt(mTriangleHash[t]);
+			dos.writeFloat(mTriangleEdge[3*t]);
+			dos.writeFloat(mTriangleEdge[3*t+1]);
+			dos.writeFloat(mTriangleEdge[3*t+2]);
+		}
+		dos.flush();
+	}
+
+	public static PPTriangleIndex read(InputStream is) throws IOException {
+		DataInputStream dis = new DataInputStream(is);
+		int version = dis.readInt();
+		if(version != VERSION)
+			throw new IOException("Unsupported index version: "+version);
+		double tolerance = dis.readDouble();
+		double binWidth = dis.readDouble();
+		int moleculeCount = dis.readInt();
+		int conformerCount = dis.readInt();
+		int triangleCount = dis.readInt();
+		PPTriangleIndex index = new PPTriangleIndex(tolerance, binWidth);
+		int[] conformersOfMolecule = new int[moleculeCount];
+		for(int molecule=0; molecule<moleculeCount; molecule++)
+			conformersOfMolecule[molecule] = dis.readInt();
+		for(int molecule=0; molecule<moleculeCount; molecule++) {
+			for(int i=0; i<conformersOfMolecule[molecule]; i++)
+				index.addConformer();
+			index.finishMolecule();
+		}
+		if(index.mConformerCount != conformerCount)
+			throw new IOException("Inconsistent conformer count");
+		for(int t=0; t<triangleCount; t++) {
+			int conformer = dis.readInt();
+			int hash = dis.readInt();
+			float d0 = dis.readFloat();
+			float d1 = dis.readFloat();
+			float d2 = dis.readFloat();
+			if(conformer < 0 || conformer >= conformerCount)
+				throw new IOException("Invalid conformer: "+conformer);
+			index.addTriangle(conformer, hash, d0, d1, d2);
+		}
+		return index;
+	}
+
+	private int addConformer() {
+		if(mConformerCount == mConformerMolecule.length)
+			mConformerMolecule = Arrays.copyOf(mConformerMolecule, 2*mConformerMolecule.length);
+		mConformerMolecule[mConformerCount] = mMoleculeCount;
+		return mConformerCount++;
+	}
+
+	private int finishMolecule() {
+		if(mMoleculeCount+2 > mConformerStart.length)
+			mConformerStart = Arrays.copyOf(mConformerStart, 2*mConformerStart.length);
+		mConformerStart[mMoleculeCount+1] = mConformerCount;
+		return mMoleculeCount++;
+	}
+
+	private void addTriangle(int conformer, int hash, float d0, float d1, float d2) {
+		if(mTriangleCount == mTriangleConformer.length) {
+			mTriangleConformer = Arrays.copyOf(mTriangleConformer, 2*mTriangleCount);
+			mTriangleHash = Arrays.copyOf(mTriangleHash, 2*mTriangleCount);
+			mTriangleEdge = Arrays.copyOf(mTriangleEdge, 6*mTriangleCount);
+		}
+		mTriangleConformer[mTriangleCount] = conformer;
+		mTriangleHash[mTriangleCount] = hash;
+		mTriangleEdge[3*mTriangleCount] = d0;
+		mTriangleEdge[3*mTriangleCount+1] = d1;
+		mTriangleEdge[3*mTriangleCount+2] = d2;
+
+		int key = createKey(hash, getBin(d0), getBin(d1), getBin(d2));
+		int[] posting = mPosting.get(key);
+		if(posting == null) {
+			posting = new int[4];
+			mPosting.put(key, posting);
+		}
+		else if(posting[0]+1 == posting.length) {
+			posting = Arrays.copyOf(posting, 2*posting.length);
+			mPosting.put(key, posting);
+		}
+		posting[++posting[0]] = mTriangleCount++;
+	}
+
+	private int getBin(double d) {
+		if(d <= 0.0)
+			return 0;
+		return (int)Math.min(MAX_BIN, d / mBinWidth);
+	}
+
+	private static int createKey(int hash, int b0, int b1, int b2) {
+		return (((hash << BIN_BITS | b0) << BIN_BITS | b1) << BIN_BITS) | b2;
+	}
+
+	/**
+	 * Inserts a hit into the vote sorted hit list, if it qualifies.
+	 * @return new hit count
+	 */
+	private static int addHit(int id, int votes, int maxResults, int minVotes, int[] hitID, int[] hitVotes, int hitCount) {
+		if(votes < minVotes
+		|| maxResults == 0
+		|| (hitCount == maxResults && votes <= hitVotes[hitCount-1]))
+			return hitCount;
+
+		int index = Math.min(hitCount, maxResults-1);
+		while(index > 0 && hitVotes[index-1] < votes) {
+			hitID[index] = hitID[index-1];
+			hitVotes[index] = hitVotes[index-1];
+			index--;
+		}
+		hitID[index] = id;
+		hitVotes[index] = votes;
+		return Math.min(hitCount+1, maxResults);
+	}
+}
@@ -0,0 +1,37 @@
+package com.actelion.research.chem.phesa.pharmacophore;
+
+import java.nio.ByteBuffer;
+
+import com.actelion.research.chem.StereoMolecule;
+
+public class PharmacophorePointFactory {
+	
+	public static IPharmacophorePoint fromString(String ppString, StereoMolecule mol) {
+		String type = ppString.split(" ")[0];
+		if(type.equals("a"))
+			return AcceptorPoint.fromString(ppString, mol);
+		else if(type.equals("d"))
+			return DonorPoint.fromString(ppString, mol);
+		else if(type.equals("i"))
+			return ChargePoint.fromString(ppString, mol);
+		
+		else 
+			return null;
+		
+	}
+
+	public static IPharmacophorePoint fromBuffer(ByteBuffer buffer, StereoMolecule mol) {
+		byte type = buffer.get();
+		if(type=='a')
+			return AcceptorPoint.fromBuffer(buffer, mol);
+		else if(type=='d')
+			return DonorPoint.fromBuffer(buffer, mol);
+		else if(type=='i')
+			return ChargePoint.fromBuffer(buffer, mol);
+		
+		else 
+			return null;
+		
+	}
+
+}
@@ -0,0 +1,175 @@
+package com.actelion.research.chem.phesaflex;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+
+/**
+ * Runs several independent Monte Carlo trajectories (replicas) of a FlexibleShapeAlignment in parallel.
+ * The fit molecule is minimised and relaxed only once and all replicas share its force field topology.
+ * Replicas differ in the seed of their random torsion perturbations. Finally, the fit molecule of the alignment
+ * receives the conformation of the best replica. The first replica uses the seed of FlexibleShapeAlignment.align(),
+ * such that a pool with one replica gives the same result. By default all replicas run to the end and the result
+ * doesn't depend on the number of threads. Optionally, replicas share the best score found so far and a replica
+ * stops early, if after a minimum number of Monte Carlo steps its score is worse than the best score by more
+ * than the pruning margin. As the best score depends on how far the other replicas got, the result then
+ * depends on the thread scheduling. The pool uses java.util.concurrent and is not available in JavaScript.
+ */
+public class FlexibleAlignmentReplicaPool {
+	public static final int DEFAULT_REPLICA_COUNT = 8;
+	public static final double NO_PRUNING = Double.POSITIVE_INFINITY;
+	public static final int DEFAULT_PRUNING_START = 10;
+
+	private final FlexibleShapeAlignment alignment;
+	private int replicaCount;
+	private int threadCount;
+	private double pruningMargin;
+	private int pruningStart;
+	private FlexibleShapeAlignment.Replica[] replicas;
+	private int bestReplica;
+	private long elapsedMillis;
+
+	/**
+	 * @param alignment prealigned reference and fit molecule
+	 */
+	public FlexibleAlignmentReplicaPool(FlexibleShapeAlignment alignment) {
+		this.alignment = alignment;
+		replicaCount = DEFAULT_REPLICA_COUNT;
+		threadCount = Runtime.getRuntime().availableProcessors();
+		pruningMargin = NO_PRUNING;
+		pruningStart = DEFAULT_PRUNING_START;
+	}
+
+	/**
+	 * @param replicaCount number of independent trajectories
+	 */
+	public void setReplicaCount(int replicaCount) {
+		this.replicaCount = Math.max(1, replicaCount);
+	}
+
+	/**
+	 * @param threadCount number of worker threads; default is the number of available processors
+	 */
+	public void setThreadCount(int threadCount) {
+		this.threadCount = Math.max(1, threadCount);
+	}
+
+	/**
+	 * @param margin replicas with a similarity lower than the best one by more than margin are stopped,
+	 * e.g. 0.1; the default NO_PRUNING runs all replicas to the end
+	 * @param minSteps number of Monte Carlo steps every replica performs before it may be stopped
+	 */
+	public void setPruning(double margin, int minSteps) {
+		pruningMargin = margin;
+		pruningStart = minSteps;
+	}
+
+	/**
+	 * Runs all replicas and moves the fit molecule into the conformation of the best one.
+	 * @return PheSA similarity of the best replica
+	 */
+	public double align() {
+		long start = System.currentTimeMillis();
+		replicas = null;
+		bestReplica = -1;
+		double e0 = alignment.prepare();
+		if(Double.isNaN(e0)) {
+			System.err.print("no force field parameters for this structure");
+			elapsedMillis = System.currentTimeMillis() - start;
+			return 0.0;
+		}
+
+		replicas = new FlexibleShapeAlignment.Replica[replicaCount];
+		for(int i=0;i<replicaCount;i++)
+			replicas[i] = alignment.createReplica(MetropolisMonteCarloHelper.DEFAULT_SEED + i);
+
+		FlexibleShapeAlignment.ReplicaBoard board = (pruningMargin == NO_PRUNING) ? null
+				: new FlexibleShapeAlignment.ReplicaBoard(pruningMargin, pruningStart);
+		ForkJoinPool pool = new ForkJoinPool(Math.min(threadCount, replicaCount));
+		try {
+			pool.invoke(new ReplicaTask(e0, board, 0, replicaCount));
+		} finally {
+			pool.shutdown();
+		}
+
+		bestReplica = 0;
+		for(int i=1;i<replicaCount;i++)
+			if(replicas[i].getScore() > replicas[bestReplica].getScore())
+				bestReplica = i;
+		alignment.adopt(replicas[bestReplica]);
+		elapsedMillis = System.currentTimeMillis() - start;
+		return replicas[bestReplica].getScore();
+	}
+
+	/**
+	 * @return index of the replica, whose conformation was adopted by the last align(), or -1
+	 */
+	public int getBestReplica() {
+		return bestReplica;
+	}
+
+	/**
+	 * @return final similarities of all replicas of the last align()
+	 */
+	public double[] getReplicaScores() {
+		double[] score = new double[replicas == null ? 0 : replicas.length];
+		for(int i=0;i<score.length;i++)
+			score[i] = replicas[i].getScore();
+		return score;
+	}
+
+	/**
+	 * @return number of replicas of the last align(), which were stopped early
+	 */
+	public int getPrunedCount() {
+		int count = 0;
+		if(replicas != null)
+			for(FlexibleShapeAlignment.Replica replica : replicas)
+				if(replica.isPruned())
+					count++;
+		return count;
+	}
+
+	/**
+	 * @return Monte Carlo steps performed by all replicas of the last align()
+	 */
+	public int getStepCount() {
+		int count = 0;
+		if(replicas != null)
+			for(FlexibleShapeAlignment.Replica replica : replicas)
+				count += replica.getSteps();
+		return count;
+	}
+
+	public long getElapsedMillis() {
+		return elapsedMillis;
+	}
+
+	private class ReplicaTask extends RecursiveAction {
+		private static final long serialVersionUID = 0x20191105;
+
+		private final double e0;
+		private final FlexibleShapeAlignment.ReplicaBoard board;
+		private final int first;
+		private final int last;
+
+		ReplicaTask(double e0, FlexibleShapeAlignment.ReplicaBoard board, int first, int last) {
+			this.e0 = e0;
+			this.board = board;
+			this.first = first;
+			this.last = last;
+		}
+
+		@Override
+		protected void compute() {
+			if(last - first == 1) {
+				replicas[first].run(e0, board);
+				return;
+			}
+
+			int middle = (first + last) / 2;
+			invokeAll(new ReplicaTask(e0, board, first, middle),
+					  new ReplicaTask(e0, board, middle, last));
+		}
+	}
+}
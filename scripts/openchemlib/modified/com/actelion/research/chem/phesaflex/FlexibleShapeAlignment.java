@@ -0,0 +1,247 @@
+package com.actelion.research.chem.phesaflex;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.actelion.research.chem.StereoMolecule;
+import com.actelion.research.chem.forcefield.mmff.ForceFieldMMFF94;
+import com.actelion.research.chem.forcefield.mmff.MMFFTopology;
+import com.actelion.research.chem.forcefield.mmff.PositionConstraint;
+import com.actelion.research.chem.phesa.MolecularVolume;
+import com.actelion.research.chem.phesa.OptimizerLBFGS;
+import com.actelion.research.chem.phesa.PheSAAlignment;
+
+
+/**
+ * Performs flexible Alignment of two Molecules that are prealigned. A fit molecule is thereby
+ * aligned to a rigid template. The internal degrees of freedom of the fit molecule are flexible
+ * in order to not create molecular conformations with too high strain energy, the force field potential
+ * energy is part of the objective function of the alignment optimization. The procedure is inspired by 
+ * doi: 10.1021/acs.jcim.7b00618, but uses analytical gradients and optimizes the directionality overlap of
+ * pharmacophore features. Furthermore, in addition to local optimization, Monte Carlo steps are performed to randomly
+ * perturb dihedral angles of the base molecule.
+ * The first step is to perform constrained minimizations of the rigidly prealigned fit molecule. The well-depth of the positional
+ * constraint is gradually increased until to strain energy is lower than 10 kcal/mol.
+ * This yields a good initial guess of a energetically low-lying conformation of the fit molecule that still
+ * has a reasonable PheSA overlap. From this first conformation, a Monte Carlo optimization with local minimization is started. 
+ * The objective function is:
+ * O = -Tphesa + lambda*Estrain*Estrain 
+ * Estrain = E-E0, E0=10 kcal/mol
+ * the strain penalty is only applied if the strain energy is higher than 10 kcal/mol, otherwise the 
+ * objective function is solely depending on the PheSA similarity Tphesa
+ * All local optimisations share one MMFF94s+ topology of the fit molecule. FlexibleAlignmentReplicaPool
+ * runs several Monte Carlo trajectories with different seeds in parallel.
+ * @author JW
+ *
+ */
+
+
+public class FlexibleShapeAlignment {
+	private static final int MC_STEPS = 50;
+	public static final double ENERGY_CUTOFF = 10.0;
+	private StereoMolecule refMol;
+	private StereoMolecule fitMol;
+	private MolecularVolume refVol;
+	private MolecularVolume fitVol;
+	Map<String, Object> ffOptions;
+	private MMFFTopology topology;
+	
+	public FlexibleShapeAlignment(StereoMolecule refMol, StereoMolecule fitMol) {
+		this(refMol, fitMol, new MolecularVolume(refMol), new MolecularVolume(fitMol));
+	}
+	
+	public FlexibleShapeAlignment(StereoMolecule refMol,StereoMolecule fitMol, MolecularVolume refVol, MolecularVolume fitVol) {
+		this.refMol = refMol;
+		this.fitMol = fitMol;
+		this.refVol = refVol;
+		this.fitVol = fitVol;
+		ffOptions = new HashMap<String, Object>();
+		ffOptions.put("dielectric constant", 4.0);
+	}
+	
+	public double align() {
+		double e0 = prepare();
+		if(Double.isNaN(e0)) {
+			System.err.print("no force field parameters for this structure");
+			return 0.0;
+		}
+		
+		return new Replica(fitMol, fitVol, MetropolisMonteCarloHelper.DEFAULT_SEED).run(e0, null);
+	}
+	
+	/**
+	 * Minimises the fit molecule to determine its reference energy, relaxes the prealigned fit molecule
+	 * with positional constraints and creates the force field topology shared by all trajectories.
+	 * @return energy of the minimised fit molecule or NaN, if it can't be parameterised
+	 */
+	double prepare() {
+		double e0 = calcMin(fitMol);
+		if(Double.isNaN(e0))
+			return e0;
+		
+		restrainedRelaxation(fitMol,e0);
+		topology = new MMFFTopology(fitMol, ForceFieldMMFF94.MMFF94SPLUS, ffOptions);
+		return e0;
+	}
+	
+	/**
+	 * @param seed
+	 * @return independent trajectory starting from a copy of the relaxed fit molecule
+	 */
+	Replica createReplica(long seed) {
+		StereoMolecule mol = new StereoMolecule(fitMol);
+		mol.ensureHelperArrays(StereoMolecule.cHelperCIP);
+		return new Replica(mol, new MolecularVolume(fitVol), seed);
+	}
+	
+	/**
+	 * Copies the coordinates of a replica's fit molecule into the fit molecule of this alignment.
+	 * @param replica
+	 */
+	void adopt(Replica replica) {
+		for(int atom=0;atom<fitMol.getAllAtoms();atom++)
+			fitMol.getCoordinates(atom).set(replica.mol.getCoordinates(atom));
+		fitVol.update(fitMol);
+	}
+	
+	/**
+	 * One Metropolis Monte Carlo trajectory with local optimisations of the fit molecule, which is modified in place.
+	 */
+	class Replica {
+		private final StereoMolecule mol;
+		private final MolecularVolume vol;
+		private final long seed;
+		private double score;
+		private int steps;
+		private boolean pruned;
+		
+		Replica(StereoMolecule mol, MolecularVolume vol, long seed) {
+			this.mol = mol;
+			this.vol = vol;
+			this.seed = seed;
+		}
+		
+		/**
+		 * @param e0 energy of the minimised fit molecule
+		 * @param board best score of all replicas for pruning or null
+		 * @return PheSA similarity of the final conformation
+		 */
+		double run(double e0, ReplicaBoard board) {
+			PheSAAlignment shapeAlign = new PheSAAlignment(refVol,vol);
+			
+			double[] v = new double[3*mol.getAllAtoms()];
+			
+			boolean[] isHydrogen = new boolean[mol.getAllAtoms()];
+			for(int at=0;at<mol.getAllAtoms();at++) {
+				
+				isHydrogen[at] = mol.getAtomicNo(at)==1 ? true : false;
+			}
+			EvaluableFlexibleOverlap eval = new EvaluableFlexibleOverlap(shapeAlign, refMol, mol, isHydrogen, v, topology);
+			eval.setE0(e0);
+			OptimizerLBFGS opt = new OptimizerLBFGS(200,0.001);
+			opt.optimize(eval);
+			eval.getState(v);
+			double t0 = getTanimoto(eval,shapeAlign);
+			
+			MetropolisMonteCarloHelper mcHelper = new MetropolisMonteCarloHelper(mol, seed);
+			double told = t0;
+			for(int i=0;i<MC_STEPS;i++) {
+				double [] vold = Arrays.stream(v).toArray(); // now copy v
+				mcHelper.step();
+				eval = new EvaluableFlexibleOverlap(shapeAlign, refMol, mol, isHydrogen, v, topology);
+				eval.setE0(e0);
+				opt = new OptimizerLBFGS(200,0.001);
+				opt.optimize(eval);
+				double tnew = getTanimoto(eval,shapeAlign);
+				if(!mcHelper.accept(told, tnew)) {
+					v = vold;
+					eval.setState(v);
+				}
+				else {
+					eval.getState(v);
+					told = tnew;
+				}
+				steps = i+1;
+				if(board != null && board.isPruned(told, steps)) {
+					pruned = true;
+					break;
+				}
+			}
+			score = getTanimoto(eval,shapeAlign);
+			return score;
+		}
+		
+		double getScore() {
+			return score;
+		}
+		
+		int getSteps() {
+			return steps;
+		}
+		
+		boolean isPruned() {
+			return pruned;
+		}
+	}
+	
+	/**
+	 * Keeps the best score of all replicas. A replica is pruned, if after a minimum number of
+	 * Monte Carlo steps its score is worse than the best score by more than the margin.
+	 */
+	static class ReplicaBoard {
+		private final double margin;
+		private final int minSteps;
+		private double best = -Double.MAX_VALUE;
+		
+		ReplicaBoard(double margin, int minSteps) {
+			this.margin = margin;
+			this.minSteps = minSteps;
+		}
+		
+		synchronized boolean isPruned(double score, int steps) {
+			if(score > best)
+				best = score;
+			return steps >= minSteps && score < best - margin;
+		}
+	}
+	
+	private double getTanimoto(EvaluableFlexibleOverlap eval, PheSAAlignment shapeAlign) { 
+		double Obb = eval.getFGValueShapeSelf(new double[3*fitMol.getAllAtoms()], shapeAlign.getMolGauss(),false);
+		double Oaa = eval.getFGValueShapeSelf(new double[3*fitMol.getAllAtoms()], shapeAlign.getRefMolGauss(),true);
+		double Oab = eval.getFGValueShape(new double[3*fitMol.getAllAtoms()]);
+		return (Oab/(Oaa+Obb-Oab));
+	}
+	
+	public double calcMin(StereoMolecule fitMol) {
+		
+		ForceFieldMMFF94.initialize(ForceFieldMMFF94.MMFF94SPLUS);
+		ForceFieldMMFF94 forceField = new ForceFieldMMFF94(new StereoMolecule(fitMol), ForceFieldMMFF94.MMFF94SPLUS, ffOptions);
+		forceField.minimise();
+		double e0 = forceField.getTotalEnergy();
+		return e0;
+		
+		
+	}
+	
+	public void restrainedRelaxation(StereoMolecule fitMol, double e0) {
+		
+		ForceFieldMMFF94.initialize(ForceFieldMMFF94.MMFF94SPLUS);
+		double init = 0.2;
+		boolean notRelaxed = true;
+		while(notRelaxed) {
+			ForceFieldMMFF94 forceField = new ForceFieldMMFF94(fitMol, ForceFieldMMFF94.MMFF94SPLUS, ffOptions);
+			PositionConstraint constraint = new PositionConstraint(fitMol,50,init);
+			forceField.addEnergyTerm(constraint);
+			forceField.minimise();
+			double e = forceField.getTotalEnergy();
+			notRelaxed = e-e0>ENERGY_CUTOFF;
+			init += 0.2;
+		}
+		
+	}
+	
+	
+	
+
+}
@@ -0,0 +1,333 @@
+/*
+* Copyright (c) 1997 - 2016
+* Actelion Pharmaceuticals Ltd.
+* Gewerbestrasse 16
+* CH-4123 Allschwil, Switzerland
+*
+* All rights reserved.
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+* 3. Neither the name of the the copyright holder nor the
+*    names of its contributors may be used to endorse or promote products
+*    derived from this software without specific prior written permission.
+*
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+* ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+* WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+* ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+* (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+* LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+* ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+* (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+* SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*
+*/
+
+package com.actelion.research.chem.reaction;
+
+import com.actelion.research.chem.SSSearcher;
+import com.actelion.research.chem.SSSearcherWithIndex;
+import com.actelion.research.chem.StereoMolecule;
+import com.actelion.research.chem.descriptor.DescriptorHandlerReactionFP;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * ReactionFingerprintIndex keeps the reaction fingerprint (RxnFP) as well as the reactant and
+ * product side FragFp descriptors of many reactions in packed long[] columns together with the
+ * encoded reactions. Descriptors are calculated in bulk on multiple threads.
+ * Reaction-substructure searches pre-screen all reactions on the packed FragFp columns and only
+ * decode and search the remaining candidates with an SRSearcher. Reaction similarity searches
+ * compare the packed reaction fingerprints without decoding any reaction.
+ */
+public class ReactionFingerprintIndex {
+	private static final int BLOCK_SIZE = 256;
+
+	private final int mRxnFPWords,mFFPWords;
+	private long[] mRxnFP,mReactantFFP,mProductFFP;
+	private byte[][] mRxnCode,mRxnMapping,mRxnCoords;
+	private int mCount;
+
+	public ReactionFingerprintIndex() {
+		mRxnFPWords = 2 * DescriptorHandlerReactionFP.REACTION_CENTER_LONG_COUNT;	// reaction center and periphery halves
+		mFFPWords = new SSSearcherWithIndex().createLongIndex(new StereoMolecule()).length;
+		int capacity = 1024;
+		mRxnFP = new long[capacity * mRxnFPWords];
+		mReactantFFP = new long[capacity * mFFPWords];
+		mProductFFP = new long[capacity * mFFPWords];
+		mRxnCode = new byte[capacity][];
+		mRxnMapping = new byte[capacity][];
+		mRxnCoords = new byte[capacity][];
+		}
+
+	/**
+	 * @return number of indexed reactions
+	 */
+	public int size() {
+		return mCount;
+		}
+
+	/**
+	 * Calculates all descriptors of the given reactions and adds them to the index.
+	 * Reactions must be mapped for the reaction fingerprint to reflect the reaction center.
+	 * @param reactionList
+	 * @param threadCount number of threads used for the descriptor calculation
+	 * @return ID of the first added reaction; following reactions have consecutive IDs
+	 */
+	public int add(final List<Reaction> reactionList, int threadCount) {
+		final int count = reactionList.size();
+		final long[][] rxnFP = new long[count][];
+		final long[][] reactantFFP = new long[count][];
+		final long[][] productFFP = new long[count][];
+		final String[][] rxnCode = new String[count][];
+
+		ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threadCount));
+		ArrayList<Future<?>> futureList = new ArrayList<>();
+		for (int block=0; block<count; block+=BLOCK_SIZE) {
+			final int first = block;
+			final int last = Math.min(count, block+BLOCK_SIZE);
+			futureList.add(executor.submit(() -> {
+				SSSearcherWithIndex searcher = new SSSearcherWithIndex();
+				DescriptorHandlerReactionFP rxnFPHandler = DescriptorHandlerReactionFP.getDefaultInstance();
+				for (int i=first; i<last; i++) {
+					Reaction reaction = reactionList.get(i);
+					rxnFP[i] = rxnFPHandler.createDescriptor(reaction);
+					reactantFFP[i] = createReactantFFP(reaction, searcher);
+					productFFP[i] = createProductFFP(reaction, searcher);
+					rxnCode[i] = ReactionEncoder.encode(reaction, false);
+					}
+				} ));
+			}
+		try {
+			for (Future<?> future:futureList)
+				future.get();
+			}
+		catch (InterruptedException | ExecutionException e) {
+			throw new RuntimeException(e);
+			}
+		finally {
+			executor.shutdown();
+			}
+
+		int firstID = mCount;
+		for (int i=0; i<count; i++)
+			add(rxnFP[i], reactantFFP[i], productFFP[i], rxnCode[i] == null ? null : rxnCode[i][0],
+				rxnCode[i] == null ? null : rxnCode[i][1], rxnCode[i] == null ? null : rxnCode[i][2]);
+		return firstID;
+		}
+
+	/**
+	 * Adds a reaction with precalculated descriptors, e.g. read from a file.
+	 * Null or failed descriptors are stored as empty, i.e. the reaction will never match.
+	 * @return ID of the added reaction
+	 */
+	public int add(long[] rxnFP, long[] reactantFFP, long[] productFFP, String rxnCode, String rxnMapping, String rxnCoords) {
+		if (mCount == mRxnCode.length) {
+			int capacity = 2 * mRxnCode.length;
+			mRxnFP = Arrays.copyOf(mRxnFP, capacity * mRxnFPWords);
+			mReactantFFP = Arrays.copyOf(mReactantFFP, capacity * mFFPWords);
+			mProductFFP = Arrays.copyOf(mProductFFP, capacity * mFFPWords);
+			mRxnCode = Arrays.copyOf(mRxnCode, capacity);
+			mRxnMapping = Arrays.copyOf(mRxnMapping, capacity);
+			mRxnCoords = Arrays.copyOf(mRxnCoords, capacity);
+			}
+
+		if (rxnFP != null && rxnFP.length == mRxnFPWords)
+			System.arraycopy(rxnFP, 0, mRxnFP, mCount * mRxnFPWords, mRxnFPWords);
+		if (reactantFFP != null && reactantFFP.length == mFFPWords)
+			System.arraycopy(reactantFFP, 0, mReactantFFP, mCount * mFFPWords, mFFPWords);
+		if (productFFP != null && productFFP.length == mFFPWords)
+			System.arraycopy(productFFP, 0, mProductFFP, mCount * mFFPWords, mFFPWords);
+		mRxnCode[mCount] = rxnCode == null ? null : rxnCode.getBytes();
+		mRxnMapping[mCount] = rxnMapping == null ? null : rxnMapping.getBytes();
+		mRxnCoords[mCount] = rxnCoords == null ? null : rxnCoords.getBytes();
+		return mCount++;
+		}
+
+	/**
+	 * Creates the FragFp of all reactants, which is the descriptor that SRSearcher expects as reactantFFP.
+	 * @param reaction
+	 * @param searcher
+	 * @return reactant side FragFp
+	 */
+	public static long[] createReactantFFP(Reaction reaction, SSSearcherWithIndex searcher) {
+		long[] ffp = searcher.createLongIndex(new StereoMolecule());
+		for (int i=0; i<reaction.getReactants(); i++)
+			or(ffp, searcher.createLongIndex(reaction.getReactant(i)));
+		return ffp;
+		}
+
+	/**
+	 * Creates the FragFp of all products, which is the descriptor that SRSearcher expects as productFFP.
+	 * @param reaction
+	 * @param searcher
+	 * @return product side FragFp
+	 */
+	public static long[] createProductFFP(Reaction reaction, SSSearcherWithIndex searcher) {
+		long[] ffp = searcher.createLongIndex(new StereoMolecule());
+		for (int i=0; i<reaction.getProducts(); i++)
+			or(ffp, searcher.createLongIndex(reaction.getProduct(i)));
+		return ffp;
+		}
+
+	private static void or(long[] ffp, long[] moleculeFFP) {
+		for (int i=0; i<ffp.length; i++)
+			ffp[i] |= moleculeFFP[i];
+		}
+
+	/**
+	 * Determines all reactions whose reactant and product FragFp contain all bits of the query's FragFps.
+	 * @param queryReactantFFP
+	 * @param queryProductFFP
+	 * @return IDs of reactions passing the pre-screening
+	 */
+	public int[] getSubReactionCandidates(long[] queryReactantFFP, long[] queryProductFFP) {
+		int[] candidate = new int[mCount];
+		int candidateCount = 0;
+		for (int id=0; id<mCount; id++)
+			if (isSubset(queryReactantFFP, mReactantFFP, id) && isSubset(queryProductFFP, mProductFFP, id))
+				candidate[candidateCount++] = id;
+		return Arrays.copyOf(candidate, candidateCount);
+		}
+
+	private boolean isSubset(long[] queryFFP, long[] ffp, int id) {
+		int offset = id * mFFPWords;
+		for (int i=0; i<mFFPWords; i++)
+			if ((queryFFP[i] & ~ffp[offset+i]) != 0)
+				return false;
+		return true;
+		}
+
+	/**
+	 * Runs a reaction-substructure search with SSSearcher.cDefaultMatchMode.
+	 * @param query query reaction or transformation
+	 * @return IDs of all reactions containing the query
+	 */
+	public int[] searchSubReactions(Reaction query) {
+		return searchSubReactions(query, SSSearcher.cDefaultMatchMode);
+		}
+
+	/**
+	 * Runs a reaction-substructure search. Only reactions passing the FragFp pre-screening
+	 * are decoded and passed to SRSearcher.isQueryInReaction().
+	 * @param query query reaction or transformation
+	 * @param matchMode see SRSearcher.isQueryInReaction(int)
+	 * @return IDs of all reactions containing the query
+	 */
+	public int[] searchSubReactions(Reaction query, int matchMode) {
+		query = new Reaction(query);	// don't touch the caller's reaction
+		for (int i=0; i<query.getMolecules(); i++)
+			query.getMolecule(i).setFragment(true);	// SRSearcher does the same when splitting the query
+
+		SSSearcherWithIndex searcher = new SSSearcherWithIndex();
+		long[] queryReactantFFP = createReactantFFP(query, searcher);
+		long[] queryProductFFP = createProductFFP(query, searcher);
+		int[] candidate = getSubReactionCandidates(queryReactantFFP, queryProductFFP);
+
+		SRSearcher srSearcher = new SRSearcher();
+		srSearcher.setQuery(query, queryReactantFFP, queryProductFFP);
+		int[] hit = new int[candidate.length];
+		int hitCount = 0;
+		for (int id:candidate) {
+			if (mRxnCode[id] != null) {
+				srSearcher.setReaction(mRxnCode[id], mRxnMapping[id], mRxnCoords[id], null, null);
+				if (srSearcher.isQueryInReaction(matchMode))
+					hit[hitCount++] = id;
+				}
+			}
+		return Arrays.copyOf(hit, hitCount);
+		}
+
+	/**
+	 * Finds the reactions most similar to the query reaction using the similarity definition of
+	 * DescriptorHandlerReactionFP, i.e. the weighted reaction center and periphery similarities.
+	 * @param queryRxnFP reaction fingerprint of the query
+	 * @param maxResults maximum number of hits
+	 * @param minSimilarity minimum similarity of hits
+	 * @param hitID receives the IDs of the hits in order of decreasing similarity
+	 * @param hitSimilarity receives the hits' similarities; may be null
+	 * @return number of hits
+	 */
+	public int searchSimilar(long[] queryRxnFP, int maxResults, float minSimilarity, int[] hitID, float[] hitSimilarity) {
+		float[] similarity = new float[Math.max(1, maxResults)];
+		int hitCount = 0;
+		if (maxResults != 0 && queryRxnFP != null && queryRxnFP.length == mRxnFPWords) {
+			int centerWords = DescriptorHandlerReactionFP.REACTION_CENTER_LONG_COUNT;
+			for (int id=0; id<mCount; id++) {
+				float centerSimilarity = getSimilarityTanimoto(queryRxnFP, id, 0, centerWords);
+
+				// the periphery may contribute up to PERIPHERY_WEIGHT
+				float maxSimilarity = DescriptorHandlerReactionFP.REACTION_CENTER_WEIGHT * centerSimilarity
+									+ DescriptorHandlerReactionFP.PERIPHERY_WEIGHT;
+				if (maxSimilarity < minSimilarity
+				 || (hitCount == maxResults && maxSimilarity <= similarity[hitCount-1]))
+					continue;
+
+				float value = DescriptorHandlerReactionFP.REACTION_CENTER_WEIGHT * centerSimilarity
+							+ DescriptorHandlerReactionFP.PERIPHERY_WEIGHT * getSimilarityTanimoto(queryRxnFP, id, centerWords, mRxnFPWords);
+				if (value < minSimilarity
+				 || (hitCount == maxResults && value <= similarity[hitCount-1]))
+					continue;
+
+				int index = Math.min(hitCount, maxResults-1);
+				while (index > 0 && similarity[index-1] < value) {
+					hitID[index] = hitID[index-1];
+					similarity[index] = similarity[index-1];
+					index--;
+					}
+				hitID[index] = id;
+				similarity[index] = value;
+				hitCount = Math.min(hitCount+1, maxResults);
+				}
+			}
+
+		if (hitSimilarity != null)
+			System.arraycopy(similarity, 0, hitSimilarity, 0, hitCount);
+		return hitCount;
+		}
+
+	/**
+	 * Same as DescriptorHandlerReactionFP.getSimilarityTanimoto() on the packed column.
+	 */
+	private float getSimilarityTanimoto(long[] queryRxnFP, int id, int i1, int i2) {
+		int offset = id * mRxnFPWords;
+		int sharedKeys = 0;
+		int allKeys = 0;
+		for (int i=i1; i<i2; i++) {
+			sharedKeys += Long.bitCount(queryRxnFP[i] & mRxnFP[offset+i]);
+			allKeys += Long.bitCount(queryRxnFP[i] | mRxnFP[offset+i]);
+			}
+		return allKeys == 0 ? 1f : (float)sharedKeys/(float)allKeys;
+		}
+
+	public long[] getReactionFP(int id) {
+		return Arrays.copyOfRange(mRxnFP, id * mRxnFPWords, (id + 1) * mRxnFPWords);
+		}
+
+	public long[] getReactantFFP(int id) {
+		return Arrays.copyOfRange(mReactantFFP, id * mFFPWords, (id + 1) * mFFPWords);
+		}
+
+	public long[] getProductFFP(int id) {
+		return Arrays.copyOfRange(mProductFFP, id * mFFPWords, (id + 1) * mFFPWords);
+		}
+
+	public Reaction getReaction(int id) {
+		return mRxnCode[id] == null ? null
+			 : ReactionEncoder.decode(mRxnCode[id], mRxnMapping[id], mRxnCoords[id], null, null, false);
+		}
+	}
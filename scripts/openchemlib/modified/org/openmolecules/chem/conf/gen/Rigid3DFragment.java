@@ -0,0 +1,404 @@
+/*
+ * @(#)Rigid3DFragment.java
+ *
+ * Copyright 2013 openmolecules.org, Inc. All Rights Reserved.
+ *
+ * NOTICE: All information contained herein is, and remains the property
+ * of openmolecules.org.  The intellectual and technical concepts contained
+ * herein are proprietary to openmolecules.org.
+ * Actelion Pharmaceuticals Ltd. is granted a non-exclusive, non-transferable
+ * and timely unlimited usage license.
+ *
+ * @author Thomas Sander
+ */
+
+package org.openmolecules.chem.conf.gen;
+
+import com.actelion.research.chem.Canonizer;
+import com.actelion.research.chem.Coordinates;
+import com.actelion.research.chem.IDCodeParserWithoutCoordinateInvention;
+import com.actelion.research.chem.StereoMolecule;
+import com.actelion.research.chem.conf.Conformer;
+import org.openmolecules.chem.conf.so.ConformationSelfOrganizer;
+import org.openmolecules.chem.conf.so.SelfOrganizedConformer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+public class Rigid3DFragment {
+	private static final int MAX_CONFORMERS = 16;
+	private static final long CACHE_RANDOM_SEED = 0x20131124L;
+	private static RigidFragmentCache sCache = null;
+	private static volatile long sRandomSeed = 0;	 // no specific seed; only used by the deprecated constructor
+
+	private int mCoreAtomCount;
+	private int[] mFragmentToOriginalAtom,mCoreToFragmentAtom,
+				  mExtendedToFragmentAtom,mOriginalToExtendedAtom;
+	private double[] mConformerLikelyhood;
+	private Conformer[] mConformerList;
+
+private StereoMolecule[] mFragment;	// TODO remove
+public StereoMolecule[] getFragment() { return mFragment; };
+
+	/**
+	 * Registers a cache, from which conformers of identical rigid fragments are taken
+	 * rather than generating them again with the self organizer. While a cache is registered,
+	 * fragment conformers are generated from the fragment's canonical form with a fixed seed,
+	 * such that they neither depend on the molecule nor on the random seed with which the
+	 * fragment was first encountered.
+	 * @param cache null to generate all fragment conformers from scratch (default)
+	 */
+	public static void setCache(RigidFragmentCache cache) {
+		sCache = cache;
+		}
+
+	public static RigidFragmentCache getCache() {
+		return sCache;
+		}
+
+	/**
+	 * Defines the random seed used by fragments created with the constructor without seed.
+	 * @param seed
+	 * @deprecated the seed is shared by all threads; pass it to the constructor instead
+	 */
+	@Deprecated
+	public static void setRandomSeed(long seed) {
+		sRandomSeed = seed;
+		}
+
+	/**
+	 * Creates the rigid fragment using the seed defined by setRandomSeed().
+	 * @param mol
+	 * @param fragmentNo
+	 * @param fragmentIndex
+	 * @deprecated use the constructor with a random seed
+	 */
+	@Deprecated
+	public Rigid3DFragment(StereoMolecule mol, int[] fragmentNo, int fragmentIndex) {
+		this(mol, fragmentNo, fragmentIndex, sRandomSeed);
+		}
+
+	/**
+	 * Creates a conformer of a part of the passed molecule that is supposed to
+	 * be a rigid fragment. Atoms are considered part of the fragment, if they have
+	 * the specified fragmentIndex. Member atoms that have non-member neighbors
+	 * will have incomplete valences in the rigid fragment.
+	 * Helper arrays must provide valid parities, which are considered when
+	 * generating 3D coordinates for all member atoms.
+	 * @param mol
+	 * @param fragmentNo
+	 * @param fragmentIndex
+	 * @param randomSeed 0L or seed for creating reproducible fragment conformers
+	 */
+	public Rigid3DFragment(StereoMolecule mol, int[] fragmentNo, int fragmentIndex, long randomSeed) {
+		mCoreAtomCount = 0;
+		int atomCount = 0;
+		int extendedAtomCount = 0;
+
+		// mark all atoms with specified fragmentNo and two layers around it
+		boolean[] includeAtom = new boolean[mol.getAllAtoms()];
+		boolean[] isOuterShellAtom = new boolean[mol.getAllAtoms()];
+		for (int atom=0; atom<mol.getAllAtoms(); atom++) {
+			if (fragmentNo[atom] == fragmentIndex) {
+				includeAtom[atom] = true;
+				atomCount++;
+				mCoreAtomCount++;
+				for (int i=0; i<mol.getConnAtoms(atom); i++) {
+					int connAtom = mol.getConnAtom(atom, i);
+					if (fragmentNo[connAtom] != fragmentIndex) {
+						includeAtom[connAtom] = true;
+						atomCount++;
+						extendedAtomCount++;
+						for (int j=0; j<mol.getAllConnAtoms(connAtom); j++) {
+							int connconn = mol.getConnAtom(connAtom, j);
+							if (fragmentNo[connconn] != fragmentIndex) {
+								isOuterShellAtom[connconn] = true;
+								includeAtom[connconn] = true;
+								atomCount++;
+								}
+							}
+						}
+					}
+				}
+			}
+
+		int bondCount = 0;
+		for (int bond=0; bond<mol.getAllBonds(); bond++)
+			if (includeAtom[mol.getBondAtom(0, bond)]
+			 && includeAtom[mol.getBondAtom(1, bond)])
+				bondCount++;
+
+		StereoMolecule fragment = new StereoMolecule(atomCount, bondCount);
+		mol.copyMoleculeByAtoms(fragment, includeAtom, false, null);
+		fragment.setFragment(false); // if mFragment is a fragment, then H-atoms are converted to query features!!!
+		fragment.setParitiesValid(0);
+
+		mCoreToFragmentAtom = new int[mCoreAtomCount];
+		mFragmentToOriginalAtom = new int[atomCount];
+		mExtendedToFragmentAtom = new int[mCoreAtomCount+extendedAtomCount];
+		mOriginalToExtendedAtom = new int[mol.getAllAtoms()];
+		int coreAtom = 0;
+		int fragmentAtom = 0;
+		int extendedAtom = 0;
+		for (int atom=0; atom<mol.getAllAtoms(); atom++) {
+			if (includeAtom[atom]) {
+// this would convert the molecule to a fragment
+//				if (mol.isFlatNitrogen(atom))
+//				    fragment.setAtomQueryFeature(fragmentAtom, Molecule.cAtomQFFlatNitrogen, true);
+
+				if (isOuterShellAtom[atom])
+					fragment.setAtomMarker(fragmentAtom, true);
+
+				if (fragmentNo[atom] == fragmentIndex || !isOuterShellAtom[atom]) {
+					mExtendedToFragmentAtom[extendedAtom] = fragmentAtom;
+					mOriginalToExtendedAtom[atom] = extendedAtom;
+					extendedAtom++;
+					}
+				if (fragmentNo[atom] == fragmentIndex) {
+					mCoreToFragmentAtom[coreAtom] = fragmentAtom;
+					coreAtom++;
+					}
+				mFragmentToOriginalAtom[fragmentAtom] = atom;
+				fragmentAtom++;
+				}
+			}
+
+		RigidFragmentCache cache = sCache;
+		int[] canonicalAtom = null;
+		String key = null;
+		if (cache != null) {
+			canonicalAtom = new int[fragment.getAllAtoms()];
+			key = createCacheKey(fragment, canonicalAtom);
+			}
+
+		RigidFragmentCache.CacheEntry entry = null;
+		if (key != null) {
+			entry = cache.get(key);
+			if (entry == null) {
+				entry = createCacheEntry(key);
+				cache.put(key, entry);
+				}
+			}
+
+		if (entry != null) {
+			mConformerList = new Conformer[entry.coordinates.length];
+			for (int i=0; i<mConformerList.length; i++) {
+				mConformerList[i] = new Conformer(fragment);
+				double[] coords = entry.coordinates[i];
+				for (int atom=0; atom<fragment.getAllAtoms(); atom++) {
+					int index = 3*canonicalAtom[atom];
+					mConformerList[i].setCoordinates(atom, new Coordinates(coords[index], coords[index+1], coords[index+2]));
+					}
+				}
+			mConformerLikelyhood = entry.likelyhood.clone();
+			}
+		else {
+			ArrayList<SelfOrganizedConformer> conformerList = createConformers(fragment, randomSeed);
+			mConformerList = conformerList.toArray(new Conformer[0]);
+			mConformerLikelyhood = getNormalizedLikelyhoods(conformerList);
+			}
+
+if (ConformerGenerator.WRITE_DW_FRAGMENT_FILE) {
+ mFragment = new StereoMolecule[mConformerList.length];
+ for (int i=0; i<mConformerList.length; i++) {
+  mFragment[i] = fragment.getCompactCopy();
+  mConformerList[i].toMolecule(mFragment[i]);
+ }}
+	    }
+
+	/**
+	 * Generates multiple low constrain conformers of the fragment.
+	 * @param fragment
+	 * @param randomSeed
+	 * @return conformers starting with the best one
+	 */
+	private static ArrayList<SelfOrganizedConformer> createConformers(StereoMolecule fragment, long randomSeed) {
+		ConformationSelfOrganizer selfOrganizer = new ConformationSelfOrganizer(fragment, true);
+		selfOrganizer.initializeConformers(randomSeed, MAX_CONFORMERS);
+
+		ArrayList<SelfOrganizedConformer> conformerList = new ArrayList<SelfOrganizedConformer>();
+		SelfOrganizedConformer bestConformer = selfOrganizer.getNextConformer();
+		conformerList.add(bestConformer);
+		SelfOrganizedConformer conformer = selfOrganizer.getNextConformer();
+		while (conformer != null) {
+			conformerList.add(conformer);
+			conformer = selfOrganizer.getNextConformer();
+			}
+		return conformerList;
+		}
+
+	private static double[] getNormalizedLikelyhoods(ArrayList<SelfOrganizedConformer> conformerList) {
+		double[] likelyhood = new double[conformerList.size()];
+		double likelyhoodSum = 0.0;
+		for (int i=0; i<likelyhood.length; i++) {
+			likelyhood[i] = conformerList.get(i).getLikelyhood();
+			likelyhoodSum += likelyhood[i];
+			}
+		if (likelyhoodSum != 0.0) {
+			for (int i=0; i<likelyhood.length; i++)
+				likelyhood[i] /= likelyhoodSum;
+			}
+		return likelyhood;
+		}
+
+	/**
+	 * Generates the conformers of a cache entry from the fragment described by the key rather than
+	 * from the fragment of the current molecule. The fragment is rebuilt in canonical atom order from
+	 * the key's idcode, outer shell atoms and hydrogen counts and its conformers are generated with a
+	 * fixed seed. Thus, the entry is the same, no matter which molecule first needed the fragment.
+	 * @param key as created by createCacheKey()
+	 * @return entry with coordinates in canonical atom order
+	 */
+	private static RigidFragmentCache.CacheEntry createCacheEntry(String key) {
+		String[] item = key.split(" ");
+		StereoMolecule fragment = new StereoMolecule();
+		new IDCodeParserWithoutCoordinateInvention().parse(fragment, item[0]);
+		int heavyAtoms = fragment.getAllAtoms();
+		for (int atom=0; atom<heavyAtoms; atom++) {
+			fragment.setAtomMarker(atom, fragment.isSelectedAtom(atom));
+			fragment.setAtomSelection(atom, false);
+			}
+
+		// hydrogens in the canonical order of createCacheKey(): by parent atom, unmarked ones first
+		for (int atom=0; atom<heavyAtoms; atom++) {
+			int separator = item[1+atom].indexOf(':');
+			int hCount = Integer.parseInt(item[1+atom].substring(0, separator));
+			int markedHCount = Integer.parseInt(item[1+atom].substring(separator+1));
+			for (int i=0; i<hCount; i++) {
+				int hydrogen = fragment.addAtom(1);
+				fragment.addBond(atom, hydrogen, StereoMolecule.cBondTypeSingle);
+				if (i >= hCount - markedHCount)
+					fragment.setAtomMarker(hydrogen, true);
+				}
+			}
+		fragment.setParitiesValid(0);	// explicit hydrogens at the end of the atom table don't change parities
+
+		ArrayList<SelfOrganizedConformer> conformerList = createConformers(fragment, CACHE_RANDOM_SEED);
+		double[][] coords = new double[conformerList.size()][3*fragment.getAllAtoms()];
+		for (int i=0; i<coords.length; i++) {
+			for (int atom=0; atom<fragment.getAllAtoms(); atom++) {
+				Coordinates c = conformerList.get(i).getCoordinates(atom);
+				coords[i][3*atom] = c.x;
+				coords[i][3*atom+1] = c.y;
+				coords[i][3*atom+2] = c.z;
+				}
+			}
+		return new RigidFragmentCache.CacheEntry(coords, getNormalizedLikelyhoods(conformerList));
+		}
+
+	/**
+	 * Creates a key that is identical for all fragments with the same constitution,
+	 * stereo configuration and outer shell atoms. The idcode covers all non-hydrogen
+	 * atoms and encodes outer shell atoms as selected. Explicit hydrogens are
+	 * described by their count and outer shell count per canonical parent atom.
+	 * @param fragment with hydrogen atoms at the end of the atom table
+	 * @param canonicalAtom receives the canonical index for every fragment atom
+	 * @return key or null, if the fragment cannot be cached
+	 */
+	private static String createCacheKey(StereoMolecule fragment, int[] canonicalAtom) {
+		StereoMolecule copy = fragment.getCompactCopy();
+		for (int atom=0; atom<copy.getAllAtoms(); atom++)
+			copy.setAtomSelection(atom, copy.isMarkedAtom(atom));
+
+		Canonizer canonizer = new Canonizer(copy, Canonizer.ENCODE_ATOM_SELECTION);
+		String idcode = canonizer.getIDCode();
+		int[] graphIndex = canonizer.getGraphIndexes();
+
+		// the fragment's hydrogens are located behind all other atoms, thus atom indexes match
+		int heavyAtoms = copy.getAtoms();
+		for (int atom=0; atom<heavyAtoms; atom++)
+			canonicalAtom[atom] = graphIndex[atom];
+
+		// hydrogens attached to the same parent atom are equivalent; order them by parent and marker
+		int hydrogens = copy.getAllAtoms() - heavyAtoms;
+		long[] hydrogenRank = new long[hydrogens];
+		int[] hCount = new int[heavyAtoms];
+		int[] markedHCount = new int[heavyAtoms];
+		for (int i=0; i<hydrogens; i++) {
+			int atom = heavyAtoms + i;
+			if (copy.getAllConnAtoms(atom) != 1 || copy.getConnAtom(atom, 0) >= heavyAtoms)
+				return null;
+			int parent = copy.getConnAtom(atom, 0);
+			boolean isMarked = copy.isMarkedAtom(atom);
+			hCount[parent]++;
+			if (isMarked)
+				markedHCount[parent]++;
+			hydrogenRank[i] = ((long)graphIndex[parent] << 32) | (isMarked ? 0x80000000L : 0L) | i;
+			}
+		Arrays.sort(hydrogenRank);
+		for (int i=0; i<hydrogens; i++)
+			canonicalAtom[heavyAtoms + (int)(hydrogenRank[i] & 0x7FFFFFFFL)] = heavyAtoms + i;
+
+		StringBuilder key = new StringBuilder(idcode);
+		int[] graphAtom = canonizer.getGraphAtoms();
+		for (int i=0; i<heavyAtoms; i++)
+			key.append(' ').append(hCount[graphAtom[i]]).append(':').append(markedHCount[graphAtom[i]]);
+		return key.toString();
+		}
+
+	public int getConformerCount() {
+		return mConformerList.length;
+		}
+
+	public double getConformerLikelyhood(int i) {
+		return mConformerLikelyhood[i];
+		}
+
+	/**
+	 * Calculates a random conformer index giving conformers with lower strains
+	 * a higher chance to be selected. With a progress value of 0.0 selection
+	 * likelyhoods are proportional to conformer likelyhoods due to lower strains.
+	 * With increasing progress value the higher frequent conformers get less
+	 * and less preferred until 1.0 without any preference.
+	 * @param random
+	 * @param progress 0...1 
+	 */
+	public int getLikelyRandomConformerIndex(double random, double progress) {
+		double sum = 0;
+		for (int t=0; t<mConformerLikelyhood.length; t++) {
+			double contribution = (1f-progress)*mConformerLikelyhood[t] + progress/mConformerLikelyhood.length;
+			sum += contribution;
+			if (random <= sum)
+				return t;
+			}
+		return mConformerLikelyhood.length-1;  // should never reach this
+		}
+
+	public int originalToExtendedAtom(int originalAtom) {
+		return mOriginalToExtendedAtom[originalAtom];
+		}
+
+	public int coreToOriginalAtom(int atom) {
+		return mFragmentToOriginalAtom[mCoreToFragmentAtom[atom]];
+		}
+
+	public int extendedToOriginalAtom(int atom) {
+		return mFragmentToOriginalAtom[mExtendedToFragmentAtom[atom]];
+		}
+
+	public int getConnectionPointCount() {
+		return mExtendedToFragmentAtom.length - mCoreToFragmentAtom.length;
+		}
+
+	/**
+	 * @return count of core atoms, i.e. atoms inside of rotatable bonds
+	 */
+	public int getCoreSize() {
+		return mCoreToFragmentAtom.length;
+		}
+
+	/**
+	 * @return count of core and 1st shell atoms, i.e. core and rotatable bond atoms
+	 */
+	public int getExtendedSize() {
+		return mExtendedToFragmentAtom.length;
+		}
+
+	public Coordinates getCoreCoordinates(int conformer, int atom) {
+		return mConformerList[conformer].getCoordinates(mCoreToFragmentAtom[atom]);
+		}
+
+	public Coordinates getExtendedCoordinates(int conformer, int atom) {
+		return mConformerList[conformer].getCoordinates(mExtendedToFragmentAtom[atom]);
+		}
+	}
@@ -934,6 +934,24 @@ public class SSSearcherWithIndex {
 		}
 
 
+	/**
+	 * Same as getSimilarityTanimoto(long[], long[]) for a second index, which is part of a larger array.
+	 * @param index1
+	 * @param packedIndex2 array containing index2 from offset2 on
+	 * @param offset2 position of index2's first long within packedIndex2
+	 * @return
+	 */
+	public static float getSimilarityTanimoto(final long[] index1, final long[] packedIndex2, final int offset2) {
+		int sharedKeys = 0;
+		int allKeys = 0;
+		for (int i=0; i<index1.length; i++) {
+			sharedKeys += Long.bitCount(index1[i] & packedIndex2[offset2+i]);
+			allKeys += Long.bitCount(index1[i] | packedIndex2[offset2+i]);
+			}
+		return (float)sharedKeys/(float)allKeys;
+		}
+
+
     public static float getSimilarityAngleCosine(int[] index1, int[] index2) {
         int sharedKeys = 0;
         int index1Keys = 0;
@@ -43,7 +43,7 @@ import java.io.IOException;
 public class BondLengthSet {
 	private static final String cBondDataFile = "bondLengthData.txt";
 
-	private static boolean isInitialized = false;
+	private static volatile boolean isInitialized = false;
 	private static int[] BOND_ID,BOND_COUNT;
 	private static float[] BOND_LENGTH,BOND_STDDEV;
 
@@ -80,7 +80,7 @@ public class BondLengthSet {
 		}
 
 	
-private static void initialize() {
+private static synchronized void initialize() {
   if (!isInitialized) {
     String[] bdr = TorsionDBData.getbondLengthDataData();
     String countString = bdr[0];
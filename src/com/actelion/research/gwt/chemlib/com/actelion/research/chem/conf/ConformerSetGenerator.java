@@ -1,10 +1,14 @@
 package com.actelion.research.chem.conf;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.openmolecules.chem.conf.gen.ConformerGenerator;
 
+import com.actelion.research.calc.SingularValueDecomposition;
+import com.actelion.research.chem.Coordinates;
 import com.actelion.research.chem.Molecule;
 import com.actelion.research.chem.StereoMolecule;
 import com.actelion.research.chem.forcefield.mmff.ForceFieldMMFF94;
@@ -14,6 +18,7 @@ public class ConformerSetGenerator {
 	private int mMaxNrConfs;
 	private int mStrategy;
 	private boolean mUseFF;
+	private double mMinRMSD;
 	private ConformerGenerator mConfGen;
 	
 	public ConformerSetGenerator(int maxNrConfs, int strategy, boolean useFF, long seed) {
@@ -43,19 +48,64 @@ public class ConformerSetGenerator {
 		
 	}
 	
-	public ConformerSet generateConformerSet(StereoMolecule mol) {   
+	/**
+	 * Conformers, whose heavy atom RMSD to an already accepted conformer after optimal
+	 * superposition is below minRMSD, are not added to the conformer set.
+	 * The comparison is done after force field minimization, if it is used.
+	 * @param minRMSD 0.0 (default) to keep all conformers
+	 */
+	public void setMinimumRMSD(double minRMSD) {
+		mMinRMSD = minRMSD;
+	}
+
+	/**
+	 * Derives a random seed for the conformer generation of one molecule of a batch from a
+	 * common seed. Using this seed, each molecule's conformers are the same no matter in which
+	 * order or on which thread molecules are processed.
+	 * @param seed common seed; 0L for non-reproducible conformers
+	 * @param index index of molecule within batch
+	 * @return 0L if seed is 0L; otherwise a non-zero seed specific for index
+	 */
+	public static long deriveSeed(long seed, int index) {
+		if (seed == 0L)
+			return 0L;
+
+		// SplitMix64 step on the combined seed
+		long z = seed + (index + 1) * 0x9E3779B97F4A7C15L;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		z = z ^ (z >>> 31);
+		return (z == 0L) ? 1L : z;
+	}
+
+	public ConformerSet generateConformerSet(StereoMolecule mol) {
+		return generateConformerSet(mol, mConfGen);
+	}
+
+	/**
+	 * Generates the conformer set using the given seed instead of the one passed to the constructor.
+	 * @param mol
+	 * @param seed typically created with deriveSeed()
+	 * @return
+	 */
+	public ConformerSet generateConformerSet(StereoMolecule mol, long seed) {
+		return generateConformerSet(mol, new ConformerGenerator(seed));
+	}
+
+	private ConformerSet generateConformerSet(StereoMolecule mol, ConformerGenerator confGen) {
 		StereoMolecule m = new StereoMolecule(mol);
 		m.ensureHelperArrays(Molecule.cHelperCIP);
-		if(mUseFF) {
+		if(mUseFF && !ForceFieldMMFF94.mTables.containsKey(ForceFieldMMFF94.MMFF94SPLUS)) {
 			ForceFieldMMFF94.initialize(ForceFieldMMFF94.MMFF94SPLUS);
 		}
 		Map<String, Object> ffOptions = new HashMap<String, Object>();
 		ConformerSet confSet = new ConformerSet();
-		mConfGen.initializeConformers(m,mStrategy,100000,false);
+		List<Coordinates[]> acceptedCoords = (mMinRMSD > 0.0) ? new ArrayList<Coordinates[]>() : null;
+		confGen.initializeConformers(m,mStrategy,100000,false);
 		boolean nextConf = true;
 		int i=0;
 		while(i<mMaxNrConfs && nextConf) {
-			m = mConfGen.getNextConformerAsMolecule(m);
+			m = confGen.getNextConformerAsMolecule(m);
 			if(m==null) {
 				nextConf=false;
 			}
@@ -65,10 +115,16 @@ public class ConformerSetGenerator {
 					ffOptions.put("dielectric constant", 4.0);
 					ForceFieldMMFF94 mmff = new ForceFieldMMFF94(m, ForceFieldMMFF94.MMFF94SPLUS, ffOptions);
 					mmff.minimise();
+				}
+				if(acceptedCoords == null) {
 					confSet.add(new Conformer(m));
 				}
 				else {
-					confSet.add(new Conformer(m));
+					Coordinates[] coords = getHeavyAtomCoordinates(m);
+					if(!isDuplicate(coords, acceptedCoords)) {
+						acceptedCoords.add(coords);
+						confSet.add(new Conformer(m));
+					}
 				}
 				
 			
@@ -77,5 +133,70 @@ public class ConformerSetGenerator {
 		}
 		return confSet;
 	}
+
+	private boolean isDuplicate(Coordinates[] coords, List<Coordinates[]> acceptedCoords) {
+		for(Coordinates[] accepted : acceptedCoords) {
+			if(getSuperposedRMSD(coords, accepted) < mMinRMSD)
+				return true;
+		}
+		return false;
+	}
+
+	private static Coordinates[] getHeavyAtomCoordinates(StereoMolecule mol) {
+		int count = 0;
+		for(int atom=0; atom<mol.getAllAtoms(); atom++)
+			if(mol.getAtomicNo(atom) != 1)
+				count++;
+		Coordinates[] coords = new Coordinates[count];
+		count = 0;
+		for(int atom=0; atom<mol.getAllAtoms(); atom++)
+			if(mol.getAtomicNo(atom) != 1)
+				coords[count++] = new Coordinates(mol.getCoordinates(atom));
+		return coords;
+	}
+
+	/**
+	 * Calculates the RMSD of two equally sized point sets after optimal superposition
+	 * (Kabsch algorithm). The sign of the smallest singular value is flipped, if the
+	 * optimal orthogonal transformation would be a reflection.
+	 */
+	private static double getSuperposedRMSD(Coordinates[] c1, Coordinates[] c2) {
+		int n = c1.length;
+		if(n == 0)
+			return 0.0;
+
+		Coordinates center1 = new Coordinates();
+		Coordinates center2 = new Coordinates();
+		for(int i=0; i<n; i++) {
+			center1.add(c1[i]);
+			center2.add(c2[i]);
+		}
+		center1.scale(1.0/n);
+		center2.scale(1.0/n);
+
+		double[][] h = new double[3][3];
+		double squareSum = 0.0;
+		for(int i=0; i<n; i++) {
+			double[] p = { c1[i].x-center1.x, c1[i].y-center1.y, c1[i].z-center1.z };
+			double[] q = { c2[i].x-center2.x, c2[i].y-center2.y, c2[i].z-center2.z };
+			for(int j=0; j<3; j++) {
+				squareSum += p[j]*p[j] + q[j]*q[j];
+				for(int k=0; k<3; k++)
+					h[j][k] += p[j]*q[k];
+			}
+		}
+
+		SingularValueDecomposition svd = new SingularValueDecomposition(h, null, null);
+		double[] s = svd.getSingularValues();
+		double sign = (det3(svd.getU()) * det3(svd.getV()) < 0.0) ? -1.0 : 1.0;
+		double msd = (squareSum - 2.0*(s[0] + s[1] + sign*s[2])) / n;
+		return Math.sqrt(Math.max(0.0, msd));
+	}
+
+	private static double det3(double[][] m) {
+		return m[0][0]*(m[1][1]*m[2][2]-m[1][2]*m[2][1])
+			 - m[0][1]*(m[1][0]*m[2][2]-m[1][2]*m[2][0])
+			 + m[0][2]*(m[1][0]*m[2][1]-m[1][1]*m[2][0]);
+	}
 }
 
@@ -0,0 +1,177 @@
+package com.actelion.research.chem.conf;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.actelion.research.chem.StereoMolecule;
+
+/**
+ * TorsionClassifier memoizes torsion classifications and torsion statistics lookups.
+ * Classifying a rotatable bond requires creating a small fragment of the bond's vicinity
+ * and canonizing it multiple times. If a classifier is registered with TorsionDB.setClassifier(),
+ * then TorsionDB.getTorsionID() only creates the uncanonized fragment, whose complete
+ * description serves as key into a cache of earlier classification results. Cached results
+ * are only used for exactly matching fragments and only for fragments without any stereo
+ * features. The latter are always classified from scratch, because their IDs depend on
+ * atom coordinates. Resolved torsion angles, ranges and frequencies are cached by torsion ID.
+ * Both caches are shared by all molecules and threads and drop least recently used entries
+ * if they exceed their maximum size. All methods are thread-safe.
+ */
+public class TorsionClassifier {
+	public static final int DEFAULT_MAX_SIZE = 10000;
+
+	private LinkedHashMap<String,Classification> mClassificationMap;
+	private LinkedHashMap<String,TorsionInfo> mTorsionInfoMap;
+	private int mClassificationHitCount,mClassificationMissCount,mTorsionInfoHitCount,mTorsionInfoMissCount;
+
+	/**
+	 * Creates an empty classifier caching up to DEFAULT_MAX_SIZE classifications and torsion infos.
+	 */
+	public TorsionClassifier() {
+		this(DEFAULT_MAX_SIZE);
+		}
+
+	/**
+	 * @param maxSize maximum number of cached classifications and of cached torsion infos
+	 */
+	public TorsionClassifier(int maxSize) {
+		mClassificationMap = createLRUMap(Math.max(1, maxSize));
+		mTorsionInfoMap = createLRUMap(Math.max(1, maxSize));
+		}
+
+	private static <T> LinkedHashMap<String,T> createLRUMap(final int maxSize) {
+		return new LinkedHashMap<String,T>(16, 0.75f, true) {
+			private static final long serialVersionUID = 0x20190527;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String,T> eldest) {
+				return size() > maxSize;
+				}
+			};
+		}
+
+	/**
+	 * Classifies a rotatable bond like TorsionDetail.classify(). If the bond's fragment
+	 * was classified before, then detail receives the cached ID and torsion atoms,
+	 * but its fragment is not canonized.
+	 * @param detail
+	 * @param mol
+	 * @param bond
+	 * @return true if a valid torsion identifier could be determined
+	 */
+	public boolean classify(TorsionDetail detail, StereoMolecule mol, int bond) {
+		if (!detail.createFragment(mol, bond))
+			return false;
+
+		String key = detail.getFragmentKey();
+		Classification classification = getClassification(key);
+		if (classification != null) {
+			detail.setClassification(classification.id, classification.fragmentAtom);
+			return true;
+			}
+
+		if (!detail.classifyFragment(mol))
+			return false;
+
+		if (!detail.hasStereoFeatures())
+			putClassification(key, new Classification(detail.getID(), detail.getFragmentTorsionAtoms()));
+
+		return true;
+		}
+
+	private synchronized Classification getClassification(String key) {
+		Classification classification = mClassificationMap.get(key);
+		if (classification == null)
+			mClassificationMissCount++;
+		else
+			mClassificationHitCount++;
+		return classification;
+		}
+
+	private synchronized void putClassification(String key, Classification classification) {
+		mClassificationMap.put(key, classification);
+		}
+
+	/**
+	 * @param key torsion ID prefixed by TorsionDB's supported modes
+	 * @return cached torsion info or null
+	 */
+	synchronized TorsionInfo getTorsionInfo(String key) {
+		TorsionInfo torsionInfo = mTorsionInfoMap.get(key);
+		if (torsionInfo == null)
+			mTorsionInfoMissCount++;
+		else
+			mTorsionInfoHitCount++;
+		return torsionInfo;
+		}
+
+	synchronized void putTorsionInfo(String key, TorsionInfo torsionInfo) {
+		mTorsionInfoMap.put(key, torsionInfo);
+		}
+
+	/**
+	 * @return number of classifications taken from the cache
+	 */
+	public synchronized int getClassificationHitCount() {
+		return mClassificationHitCount;
+		}
+
+	/**
+	 * @return number of classifications, which needed fragment canonization
+	 */
+	public synchronized int getClassificationMissCount() {
+		return mClassificationMissCount;
+		}
+
+	/**
+	 * @return number of torsion statistics lookups taken from the cache
+	 */
+	public synchronized int getTorsionInfoHitCount() {
+		return mTorsionInfoHitCount;
+		}
+
+	/**
+	 * @return number of torsion statistics lookups, which needed decoding the torsion data
+	 */
+	public synchronized int getTorsionInfoMissCount() {
+		return mTorsionInfoMissCount;
+		}
+
+	/**
+	 * @return fraction of classifications taken from the cache
+	 */
+	public synchronized double getClassificationHitRate() {
+		int count = mClassificationHitCount + mClassificationMissCount;
+		return (count == 0) ? 0.0 : (double)mClassificationHitCount / count;
+		}
+
+	/**
+	 * @return fraction of torsion statistics lookups taken from the cache
+	 */
+	public synchronized double getTorsionInfoHitRate() {
+		int count = mTorsionInfoHitCount + mTorsionInfoMissCount;
+		return (count == 0) ? 0.0 : (double)mTorsionInfoHitCount / count;
+		}
+
+	/**
+	 * Removes all cached classifications and torsion infos and resets all counters.
+	 */
+	public synchronized void clear() {
+		mClassificationMap.clear();
+		mTorsionInfoMap.clear();
+		mClassificationHitCount = 0;
+		mClassificationMissCount = 0;
+		mTorsionInfoHitCount = 0;
+		mTorsionInfoMissCount = 0;
+		}
+
+	private static class Classification {
+		final String id;
+		final int[] fragmentAtom;
+
+		Classification(String id, int[] fragmentAtom) {
+			this.id = id;
+			this.fragmentAtom = fragmentAtom;
+			}
+		}
+	}
@@ -37,7 +37,7 @@ import com.actelion.research.chem.Molecule;
 import com.actelion.research.chem.StereoMolecule;
 
 import java.io.*;
-import java.util.TreeMap;
+import java.util.Arrays;
 import com.actelion.research.chem.conf.TorsionDBData;
 
 public class TorsionDB {
@@ -66,9 +66,14 @@ public class TorsionDB {
 	private static TorsionDB sInstance;
 	private static String sDatabase;
 	private static String sExternalResourcePath;
+	private static volatile TorsionClassifier sClassifier;
 	private int mSupportedModes;
 	private int mMergeSpan;
-	private TreeMap<String,TorsionInfo> mTreeMap;
+	private String[] mTorsionID;
+	private int[] mPeakOffset,mBinOffset;
+	private short[] mAngle,mRange,mFrequency;
+	private byte[] mBin;
+	private TorsionInfo[] mTorsionInfo,mInvertedTorsionInfo;
 
 	/**
 	 * Use this method before initializing the TorsionDB, if you want to open the resource
@@ -79,6 +84,19 @@ public class TorsionDB {
 		sExternalResourcePath = path;
 		}
 
+	/**
+	 * Registers a classifier, which memoizes torsion classifications and torsion
+	 * statistics lookups across molecules and threads.
+	 * @param classifier null to classify every bond from scratch (default)
+	 */
+	public static void setClassifier(TorsionClassifier classifier) {
+		sClassifier = classifier;
+		}
+
+	public static TorsionClassifier getClassifier() {
+		return sClassifier;
+		}
+
 	/**
 	 * Initializes the in memory torsion database by reading torsion list,
 	 * associated torsion frequencies, torsion peak widths (ranges), and/or
@@ -211,64 +229,74 @@ public class TorsionDB {
 		}
 
 	private TorsionDB() {
-		mTreeMap = new TreeMap<String,TorsionInfo>();
+		mTorsionID = TorsionDBData.gettorsionIDData();
 		mSupportedModes = 0;
 		}
 
+	/**
+	 * Peaks are merged lazily, when the TorsionInfo of a torsion ID is created from the flat arrays.
+	 * @param mergeSpan
+	 */
 	private void mergeTorsions(int mergeSpan) {
 		mMergeSpan = mergeSpan;
-		for (TorsionInfo ti:mTreeMap.values())
-			ti.mergeTorsions(mergeSpan);
+		clearTorsionInfos();
 		}
 
-	
-private void init(int mode) {
-  mSupportedModes |= mode;
-
-  String[] tr = TorsionDBData.gettorsionIDData();
-  String[] ar = ((mode & MODE_ANGLES) == 0) ? null : TorsionDBData.gettorsionAngleData();
-  String[] rr = ((mode & MODE_ANGLES) == 0) ? null : TorsionDBData.gettorsionRangeData();
-  String[] fr = ((mode & MODE_ANGLES) == 0) ? null : TorsionDBData.gettorsionFrequencyData();
-  String[] br = ((mode & MODE_BINS) == 0) ? null : TorsionDBData.gettorsionBinsData();
-
-  for (int trLine = 0; trLine < tr.length; trLine++) {
-    String type = tr[trLine];
-    TorsionInfo torsionInfo = mTreeMap.get(type);
-		if (torsionInfo == null) {
-			torsionInfo = new TorsionInfo(getSymmetryType(type));
-			mTreeMap.put(type, torsionInfo);
+	private synchronized void clearTorsionInfos() {
+		mTorsionInfo = new TorsionInfo[mTorsionID.length];
+		mInvertedTorsionInfo = new TorsionInfo[mTorsionID.length];
 		}
 
-		if (ar != null) {
-			String[] angle = ar[trLine].split(",");
-			torsionInfo.angle = new short[angle.length];
-			for (int i=0; i<angle.length; i++)
-				torsionInfo.angle[i] = Short.parseShort(angle[i]);
-		}
-		if (rr != null) {
-			String[] range = rr[trLine].split(",");
-			torsionInfo.range = new short[range.length][2];
-			for (int i=0; i<range.length; i++) {
-				int index = range[i].indexOf('-', 1);
-				torsionInfo.range[i][0] = Short.parseShort(range[i].substring(0, index));
-				torsionInfo.range[i][1] = Short.parseShort(range[i].substring(index+1));
+	/**
+	 * Decodes the torsion data, which was generated at build time into TorsionDBData,
+	 * into flat arrays. For every torsion ID, i.e. for every index into the sorted
+	 * torsion ID table, the offset tables point to the entry's first peak or bin.
+	 * Ranges contain two values (low and high limit) per peak.
+	 * @param mode
+	 */
+	private void init(int mode) {
+		if ((mode & MODE_ANGLES) != 0) {
+			mPeakOffset = createOffsets(TorsionDBData.getTorsionPeakCounts(), mTorsionID.length);
+			int peakCount = mPeakOffset[mTorsionID.length];
+			mAngle = decodeShorts(TorsionDBData.getTorsionAngles(), peakCount);
+			mRange = decodeShorts(TorsionDBData.getTorsionRanges(), 2*peakCount);
+			mFrequency = decodeShorts(TorsionDBData.getTorsionFrequencies(), peakCount);
 			}
+		if ((mode & MODE_BINS) != 0) {
+			mBinOffset = createOffsets(TorsionDBData.getTorsionBinCounts(), mTorsionID.length);
+			short[] bin = decodeShorts(TorsionDBData.getTorsionBins(), mBinOffset[mTorsionID.length]);
+			mBin = new byte[bin.length];
+			for (int i=0; i<bin.length; i++)
+				mBin[i] = (byte)bin[i];
+			}
+
+		mSupportedModes |= mode;
+		clearTorsionInfos();
 		}
-		if (fr != null) {
-			String[] frequency = fr[trLine].split(",");
-			torsionInfo.frequency = new short[frequency.length];
-			for (int i=0; i<frequency.length; i++)
-				torsionInfo.frequency[i] = Byte.parseByte(frequency[i]);
+
+	private static int[] createOffsets(String[] countData, int size) {
+		short[] count = decodeShorts(countData, size);
+		int[] offset = new int[size+1];
+		for (int i=0; i<size; i++)
+			offset[i+1] = offset[i] + count[i];
+		return offset;
 		}
-		if (br != null) {
-			String[] binSize = br[trLine].split(",");
-			torsionInfo.binSize = new byte[binSize.length];
-			for (int i=0; i<binSize.length; i++)
-				torsionInfo.binSize[i] = Byte.parseByte(binSize[i]);
+
+	/**
+	 * @param data chunks of chars, each encoding one value shifted by VALUE_OFFSET
+	 * @param size total number of encoded values
+	 * @return decoded values
+	 */
+	private static short[] decodeShorts(String[] data, int size) {
+		short[] value = new short[size];
+		int index = 0;
+		for (String chunk:data)
+			for (int i=0; i<chunk.length() && index<size; i++)
+				value[index++] = (short)(chunk.charAt(i) - TorsionDBData.VALUE_OFFSET);
+		return value;
 		}
-  }
-}
-/**
+
+	/**
 	 * Returns an array of maxima of the smoothened torsion histogram
 	 * as short values in the range: 0 <= v < 360. Every v[i]
 	 * represents a bin from v-0.5 to v+0.5.
@@ -322,18 +350,68 @@ private void init(int mode) {
 	private TorsionInfo getTorsionInfo(String torsionID) {
 		if (torsionID == null)
 			return null;
-		TorsionInfo ti = mTreeMap.get(torsionID);
-		if (ti != null)
-			return ti;
-		if (isInverted(torsionID)) {
-			ti = mTreeMap.get(normalizeID(torsionID));
-			if (ti != null) {
-				ti = new TorsionInfo(ti); // TorsionInfo with inverted stereocenter(s)
-				mTreeMap.put(torsionID, ti);
+
+		TorsionClassifier classifier = sClassifier;
+		if (classifier == null)
+			return createTorsionInfo(torsionID);
+
+		String key = mSupportedModes + torsionID;	// keys must not match torsion infos created with fewer modes
+		TorsionInfo ti = classifier.getTorsionInfo(key);
+		if (ti == null) {
+			ti = createTorsionInfo(torsionID);
+			if (ti != null)
+				classifier.putTorsionInfo(key, ti);
+			}
+		return ti;
+		}
+
+	/**
+	 * Returns the TorsionInfo of a torsion ID, which is created from the flat arrays and merged
+	 * only once per ID. The database contains normalized IDs only. TorsionInfos with inverted
+	 * stereocenter(s) are derived.
+	 * @param torsionID
+	 * @return null, if torsion type was not found
+	 */
+	private TorsionInfo createTorsionInfo(String torsionID) {
+		boolean isInverted = isInverted(torsionID);
+		int index = Arrays.binarySearch(mTorsionID, isInverted ? normalizeID(torsionID) : torsionID);
+		if (index < 0)
+			return null;
+
+		synchronized (this) {
+			TorsionInfo ti = mTorsionInfo[index];
+			if (ti == null) {
+				ti = createTorsionInfo(index);
+				mTorsionInfo[index] = ti;
+				}
+			if (!isInverted)
 				return ti;
+
+			if (mInvertedTorsionInfo[index] == null)
+				mInvertedTorsionInfo[index] = new TorsionInfo(ti);
+			return mInvertedTorsionInfo[index];
+			}
+		}
+
+	private TorsionInfo createTorsionInfo(int index) {
+		TorsionInfo ti = new TorsionInfo(getSymmetryType(mTorsionID[index]));
+		if ((mSupportedModes & MODE_ANGLES) != 0) {
+			int offset = mPeakOffset[index];
+			int size = mPeakOffset[index+1] - offset;
+			ti.angle = Arrays.copyOfRange(mAngle, offset, offset+size);
+			ti.frequency = Arrays.copyOfRange(mFrequency, offset, offset+size);
+			ti.range = new short[size][2];
+			for (int i=0; i<size; i++) {
+				ti.range[i][0] = mRange[2*(offset+i)];
+				ti.range[i][1] = mRange[2*(offset+i)+1];
 				}
+			if (mMergeSpan != 0)
+				ti.mergeTorsions(mMergeSpan);
 			}
-		return null;
+		if ((mSupportedModes & MODE_BINS) != 0)
+			ti.binSize = Arrays.copyOfRange(mBin, mBinOffset[index], mBinOffset[index+1]);
+
+		return ti;
 		}
 
 	/**
@@ -364,7 +442,11 @@ private void init(int mode) {
 		if (detail == null)
 			detail = new TorsionDetail();
 
-		detail.classify(mol, bond);
+		TorsionClassifier classifier = sClassifier;
+		if (classifier == null)
+			detail.classify(mol, bond);
+		else
+			classifier.classify(detail, mol, bond);
 
 		if (torsionAtom != null) {
 			torsionAtom[0] = detail.getReferenceAtom(0);
@@ -629,352 +711,3 @@ private void init(int mode) {
 		return index;
 		}
 	}
-
-class TorsionInfo {
-	short[] angle;
-	short[][] range;
-	short[] frequency;
-	byte[] binSize;
-	int symmetryClass;
-
-	public TorsionInfo(int symmetryClass) {
-		this.symmetryClass = symmetryClass;
-		}
-
-	/**
-	 * Create TorsionInfo describing a fragment with inverted stereo situation.
-	 * @param ti TorsionInfo of non-symmetrical fragment
-	 */
-	public TorsionInfo(TorsionInfo ti) {
-		symmetryClass = ti.symmetryClass;
-		if (ti.angle != null) {
-			angle = new short[ti.angle.length];
-			for (int i=0; i<angle.length; i++)
-				angle[i] = (short)(360 - ti.angle[angle.length-i-1]);
-			}
-		if (ti.range != null) {
-			range = new short[ti.range.length][2];
-			for (int i=0; i<range.length; i++) {
-				range[i][0] = (short)(360 - ti.range[angle.length-i-1][1]);
-				range[i][1] = (short)(360 - ti.range[angle.length-i-1][0]);
-				}
-			}
-		if (ti.frequency != null) {
-			frequency = new short[ti.frequency.length];
-			for (int i=0; i<frequency.length; i++)
-				frequency[i] = ti.frequency[frequency.length-i-1];
-			}
-		if (ti.binSize != null) {
-			binSize = new byte[ti.binSize.length];
-			for (int i=0; i<binSize.length; i++)
-				binSize[i] = ti.binSize[binSize.length-i-1];
-			}
-		}
-
-	/**
-	 * Returns list of preferred angles (0 <= angle < 360).
-	 * If fragment is symmetrical, then the quarter or half circle
-	 * angle list is mirrored on the fly to complete the full circle.
-	 * @return
-	 */
-	public short[] get360DegreeAngles() {
-		int i1,i2,length;
-		short[] fullAngle = null;
-		switch (symmetryClass) {
-		case TorsionDetail.SYMMETRY_C1D2:
-			fullAngle = new short[2*angle.length];
-			for (int i=0; i<angle.length; i++) {
-				fullAngle[i] = angle[i];
-				fullAngle[angle.length+i] = (short)(180+angle[i]);
-				}
-			return fullAngle;
-		case TorsionDetail.SYMMETRY_D1D1:
-			i1 = (angle[0] == 0) ? 1 : 0;
-			i2 = (angle[angle.length-1] == 180) ? angle.length-1 : angle.length;
-			length = i2 - i1;
-			fullAngle = new short[angle.length + length];
-			for (int i=0; i<angle.length; i++)
-				fullAngle[i] = angle[i];
-			for (int i=i1; i<i2; i++)
-				fullAngle[fullAngle.length-1-i+i1] = (short)(360-angle[i]);
-			return fullAngle;
-		case TorsionDetail.SYMMETRY_D1D2_OR_D2D2:
-			i1 = (angle[0] == 0) ? 1 : 0;
-			i2 = (angle[angle.length-1] == 90) ? angle.length-1 : angle.length;
-			length = i2 - i1;
-			fullAngle = new short[2*angle.length + 2*length];
-			for (int i=0; i<angle.length; i++) {
-				fullAngle[i] = angle[i];
-				fullAngle[angle.length+length+i] = (short)(180+angle[i]);
-				}
-			for (int i=i1; i<i2; i++) {
-				fullAngle[angle.length+length-1-i+i1] = (short)(180-angle[i]);
-				fullAngle[fullAngle.length-1-i+i1] = (short)(360-angle[i]);
-				}
-			return fullAngle;
-		default:	// TorsionDetail.SYMMETRY_C1C1_OR_C1D1
-			return angle;
-			}
-		}
-
-	/**
-	 * Returns low and high peak limits, i.e. the angle ranges
-	 * with indices matching the array returned by get360DegreeAngles().
-	 * The second index
-	 * @return
-	 */
-	public short[][] get360DegreeRanges() {
-		short[][] fullRange = null;
-		int size = range.length;
-		switch (symmetryClass) {
-		case TorsionDetail.SYMMETRY_C1D2:
-			fullRange = new short[2*size][2];
-			for (int i=0; i<size; i++) {
-				fullRange[i][0] = range[i][0];
-				fullRange[i][1] = range[i][1];
-				fullRange[size+i][0] = (short)(180+range[i][0]);
-				fullRange[size+i][1] = (short)(180+range[i][1]);
-				}
-			return fullRange;
-		case TorsionDetail.SYMMETRY_D1D1:
-			int i1 = (angle[0] == 0) ? 1 : 0;
-			int i2 = (angle[size-1] == 180) ? size-1 : size;
-			int length = i2 - i1;
-			fullRange = new short[size+length][2];
-			for (int i=0; i<size; i++) {
-				fullRange[i][0] = range[i][0];
-				fullRange[i][1] = range[i][1];
-				}
-			for (int i=i1; i<i2; i++) {
-				fullRange[fullRange.length-1-i+i1][0] = (short)(360-range[i][1]);
-				fullRange[fullRange.length-1-i+i1][1] = (short)(360-range[i][0]);
-				}
-			return fullRange;
-		case TorsionDetail.SYMMETRY_D1D2_OR_D2D2:
-			i1 = (angle[0] == 0) ? 1 : 0;
-			i2 = (angle[size-1] == 90) ? size-1 : size;
-			length = i2 - i1;
-			fullRange = new short[2*size + 2*length][2];
-			for (int i=0; i<size; i++) {
-				fullRange[i][0] = range[i][0];
-				fullRange[i][1] = range[i][1];
-				fullRange[size+length+i][0] = (short)(180+range[i][0]);
-				fullRange[size+length+i][1] = (short)(180+range[i][1]);
-				}
-			for (int i=i1; i<i2; i++) {
-				fullRange[size+length-1-i+i1][0] = (short)(180-range[i][1]);
-				fullRange[size+length-1-i+i1][1] = (short)(180-range[i][0]);
-				fullRange[fullRange.length-1-i+i1][0] = (short)(360-range[i][1]);
-				fullRange[fullRange.length-1-i+i1][1] = (short)(360-range[i][0]);
-				}
-			return fullRange;
-		default:	// TorsionDetail.SYMMETRY_C1C1_OR_C1D1
-			return range;
-			}
-		}
-
-	/**
-	 * Returns list of preferred angle frequencies (0 <= angle < 360)
-	 * with indices matching the array returned by get360DegreeAngles().
-	 * @return
-	 */
-	public short[] get360DegreeFrequencies() {
-		short[] fullFrequency = null;
-		int size = frequency.length;
-		switch (symmetryClass) {
-		case TorsionDetail.SYMMETRY_C1D2:
-			fullFrequency = new short[2*size];
-			for (int i=0; i<size; i++) {
-				fullFrequency[i] = frequency[i];
-				fullFrequency[size+i] = frequency[i];
-				}
-			return fullFrequency;
-		case TorsionDetail.SYMMETRY_D1D1:
-			int i1 = (angle[0] == 0) ? 1 : 0;
-			int i2 = (angle[size-1] == 180) ? size-1 : size;
-			int length = i2 - i1;
-			fullFrequency = new short[size+length];
-			for (int i=0; i<size; i++)
-				fullFrequency[i] = frequency[i];
-			for (int i=i1; i<i2; i++)
-				fullFrequency[fullFrequency.length-1-i+i1] = frequency[i];
-			return fullFrequency;
-		case TorsionDetail.SYMMETRY_D1D2_OR_D2D2:
-			i1 = (angle[0] == 0) ? 1 : 0;
-			i2 = (angle[size-1] == 90) ? size-1 : size;
-			length = i2 - i1;
-			fullFrequency = new short[2*size + 2*length];
-			for (int i=0; i<size; i++) {
-				fullFrequency[i] = frequency[i];
-				fullFrequency[size+length+i] = frequency[i];
-				}
-			for (int i=i1; i<i2; i++) {
-				fullFrequency[size+length-1-i+i1] = frequency[i];
-				fullFrequency[fullFrequency.length-1-i+i1] = frequency[i];
-				}
-			return fullFrequency;
-		default:	// TorsionDetail.SYMMETRY_C1C1_OR_C1D1
-			return frequency;
-			}
-		}
-
-	public byte[] get72BinCounts() {
-		if (binSize.length == 72)   // SYMMETRY_C1C1_OR_C1D1
-			return binSize;
-
-		byte[] fullBin = new byte[72];
-
-		switch (symmetryClass) {
-		case TorsionDetail.SYMMETRY_C1D2:
-			for (int i=0; i<36; i++) {
-				fullBin[i] = binSize[i];
-				fullBin[i+36] = binSize[i];
-				}
-			break;
-		case TorsionDetail.SYMMETRY_D1D1:
-			for (int i=0; i<36; i++) {
-				fullBin[i] = binSize[i];
-				fullBin[i+36] = binSize[36-i];
-				}
-			break;
-		case TorsionDetail.SYMMETRY_D1D2_OR_D2D2:
-			for (int i=0; i<18; i++) {
-				fullBin[i] = binSize[i];
-				fullBin[i+18] = binSize[18-i];
-				fullBin[i+36] = binSize[i];
-				fullBin[i+54] = binSize[18-i];
-				}
-			break;
-			}
-		return fullBin;
-		}
-
-	public void mergeTorsions(int mergeSpan) {
-		int additionalFrequency = 0;
-
-		while (angle.length != 0) {
-			if (angle.length == 1) {
-				if (symmetryClass == TorsionDetail.SYMMETRY_C1D2
-				 || symmetryClass == TorsionDetail.SYMMETRY_C1C1_OR_C1D1)
-					break;
-				else if (symmetryClass == TorsionDetail.SYMMETRY_D1D1
-						&& (angle[0] == 0 || angle[0] == 180))
-					break;
-				else if (symmetryClass == TorsionDetail.SYMMETRY_D1D2_OR_D2D2
-						&& (angle[0] == 0 || angle[0] == 90))
-				break;
-				}
-
-			int startIndex = (angle[0] != 0
-						   && (symmetryClass == TorsionDetail.SYMMETRY_D1D1
-							|| symmetryClass == TorsionDetail.SYMMETRY_D1D2_OR_D2D2)) ? -1 : 0;
-
-			int minIndex = -1;
-			int minAngleDif = Integer.MAX_VALUE;
-			for (int i1 = startIndex; i1<angle.length; i1++) {
-				int i2 = i1 + 1;
-				int angle1 = (i1 >= 0) ? angle[i1] : -angle[0];
-				int angle2 = (i2 < angle.length) ? angle[i2]
-							: (symmetryClass == TorsionDetail.SYMMETRY_C1D2) ? angle[0] + 180
-							: (symmetryClass == TorsionDetail.SYMMETRY_D1D1) ? 360 - angle[angle[i1] == 180 ? i1-1 : i1]
-							: (symmetryClass == TorsionDetail.SYMMETRY_D1D2_OR_D2D2) ? 180 - angle[angle[i1] == 90 ? i1-1 : i1] : angle[0] + 360;
-				if (minAngleDif > angle2 - angle1) {
-					minAngleDif = angle2 - angle1;
-					minIndex = i1;
-					}
-				}
-
-			if (minAngleDif > mergeSpan)
-				break;
-
-			int i1 = minIndex;
-			int i2 = i1+1;
-			if (i1 == -1) { // angle[0] != 0: we have a symmetrical peak at -angle[0]
-				additionalFrequency += frequency[0];
-				angle[0] = 0;
-				frequency[0] *= 2;
-				range[0][0] = (short)-range[0][1];
-				}
-			else if (i2 < angle.length) {
-				int mergedAngle = mergedAngle(i1, i2, angle[i2]);
-				mergeAngles(mergedAngle, i1, i2, range[i1][0], range[i2][1]);
-				}
-			else if (symmetryClass == TorsionDetail.SYMMETRY_C1D2) {
-				i2 = 0;
-				int mergedAngle = mergedAngle(i1, i2, angle[i2] + 180);
-				if (mergedAngle<=180)
-					mergeAngles(mergedAngle, i1, i2, range[i1][0], range[i2][1] + 180);
-				else
-					mergeAngles(mergedAngle - 180, i2, i1, range[i2][0], range[i1][1] - 180);
-				}
-			else if (symmetryClass == TorsionDetail.SYMMETRY_D1D1) {
-				i2 = angle[i1] == 180 ? i1-1 : i1;
-				if (angle[i1] < 180) {  // we merge with a symmetrical peak
-					additionalFrequency += frequency[i1];
-					angle[i1] = 180;
-					frequency[i1] *= 2;
-					range[i1][1] = (short)(360 - range[i1][0]);
-					}
-				else {  // should not happen, because we should have caught the symmetrical situation one peak earlier first
-					System.out.println("WARNING: TorsionDB - Should have caught the symmetrical situation one peak earlier.");
-					int mergedAngle = mergedAngle(i1, i2, angle[i2]);
-					mergeAngles(mergedAngle, i2, i1, range[i2][0], range[i1][1]);
-					}
-				}
-			else if (symmetryClass == TorsionDetail.SYMMETRY_D1D2_OR_D2D2) {
-				i2 = angle[i1] == 90 ? i1-1 : i1;
-				if (angle[i1] < 90) {  // we merge with a symmetrical peak
-					additionalFrequency += frequency[i1];
-					angle[i1] = 90;
-					frequency[i1] *= 2;
-					range[i1][1] = (short)(180 - range[i1][0]);
-					}
-				else {  // should not happen, because we should have caught the symmetrical situation one peak earlier first
-					System.out.println("WARNING: TorsionDB - Should have caught the symmetrical situation one peak earlier.");
-					int mergedAngle = mergedAngle(i1, i2, angle[i2]);
-					mergeAngles(mergedAngle, i2, i1, range[i2][0], range[i1][1]);
-					}
-				}
-			else {	// TorsionDetail.SYMMETRY_C1C1_OR_C1D1
-				i2 = 0;
-				int mergedAngle = mergedAngle(i1, i2, angle[i2] + 360);
-				if (mergedAngle<=360)
-					mergeAngles(mergedAngle, i1, i2, range[i1][0], range[i2][1] + 360);
-				else
-					mergeAngles(mergedAngle - 360, i2, i1, range[i2][0], range[i1][1] - 360);
-				}
-			}
-
-		if (additionalFrequency != 0)
-			for (int i=0; i<frequency.length; i++)
-				frequency[i] = (short)Math.round(100f * (float)frequency[i] / (100f + additionalFrequency));
-		}
-
-	private int mergedAngle(int i1, int i2, int angle2) {
-		return Math.round(((float)angle[i1]*frequency[i1]+(float)angle2*frequency[i2]) / (frequency[i1] + frequency[i2]));
-		}
-
-	private void mergeAngles(int mergedAngle, int iTarget, int iDelete, int range1, int range2) {
-		angle[iTarget] = (short)mergedAngle;
-		frequency[iTarget] = (short)(frequency[iTarget] + frequency[iDelete]);
-		range[iTarget][0] = (short)range1;
-		range[iTarget][1] = (short)range2;
-
-		int newSize = angle.length - 1;
-		short[] newAngle = new short[newSize];
-		short[] newFrequency = new short[newSize];
-		short[][] newRange = new short[newSize][];
-		int iNew = 0;
-		for (int i=0; i<angle.length; i++) {
-			if (i != iDelete) {
-				newAngle[iNew] = angle[i];
-				newFrequency[iNew] = frequency[i];
-				newRange[iNew] = range[i];
-				iNew++;
-				}
-			}
-		angle = newAngle;
-		frequency = newFrequency;
-		range = newRange;
-		}
-	}
\ No newline at end of file
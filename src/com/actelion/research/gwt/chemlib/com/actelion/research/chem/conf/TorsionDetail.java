@@ -163,6 +163,17 @@ public class TorsionDetail {
 	 * @return true if a valid torsion identifier could be determined
 	 */
 	public boolean classify(StereoMolecule mol, int bond) {
+		return createFragment(mol, bond) && classifyFragment(mol);
+		}
+
+	/**
+	 * First classification step: Locates central and rear atoms and creates the torsion
+	 * fragment with all query features, but doesn't canonize it.
+	 * @param mol
+	 * @param bond
+	 * @return false, if bond doesn't qualify for a torsion classification
+	 */
+	boolean createFragment(StereoMolecule mol, int bond) {
 		mFragment.deleteMolecule();
 		mID = null;
 
@@ -330,6 +341,16 @@ public class TorsionDetail {
             	}
         	}
 
+        return true;
+        }
+
+	/**
+	 * Second classification step: Canonizes the fragment created by createFragment(),
+	 * normalizes stereo configuration, determines reference atoms and the torsion ID.
+	 * @param mol same molecule as passed to createFragment()
+	 * @return true if a valid torsion identifier could be determined
+	 */
+	boolean classifyFragment(StereoMolecule mol) {
     	mFragment.ensureHelperArrays(Molecule.cHelperSymmetrySimple | Molecule.cHelperBitIncludeNitrogenParities);
 //System.out.println("idcode:"+new Canonizer(mol).getIDCode()+" mol:"+mol.getAtoms()+" frag:"+mFragment.getAllAtoms());
     	// If we have a stereo center with unknown parity in the fragment(, which should only happen with 2D-molecules),
@@ -444,6 +465,86 @@ public class TorsionDetail {
 		}
 
 	/**
+	 * Creates a key that completely describes the uncanonized fragment created by createFragment()
+	 * together with its central and rear atoms. If the fragment has no stereo features,
+	 * then equal keys guarantee equal classification results in terms of fragment atoms.
+	 * @return
+	 */
+	String getFragmentKey() {
+		StringBuilder key = new StringBuilder();
+		for (int i=0; i<2; i++)
+			key.append((char)mToFragmentAtom[mCentralAtom[i]]).append((char)mToFragmentAtom[mRearAtom[i]]);
+		for (int atom=0; atom<mFragment.getAllAtoms(); atom++) {
+			int queryFeatures = mFragment.getAtomQueryFeatures(atom);
+			key.append((char)mFragment.getAtomicNo(atom))
+			   .append((char)(mFragment.getAtomCharge(atom)+128))
+			   .append((char)mFragment.getAtomMass(atom))
+			   .append((char)mFragment.getAtomRadical(atom))
+			   .append((char)mFragment.getAtomAbnormalValence(atom))
+			   .append((char)(queryFeatures >>> 16))
+			   .append((char)queryFeatures);
+			int[] atomList = mFragment.getAtomList(atom);
+			if (atomList != null)
+				for (int atomicNo:atomList)
+					key.append((char)atomicNo);
+			String label = mFragment.getAtomCustomLabel(atom);
+			if (label != null)
+				key.append(label);
+			key.append('|');
+			}
+		for (int bond=0; bond<mFragment.getAllBonds(); bond++) {
+			int queryFeatures = mFragment.getBondQueryFeatures(bond);
+			key.append((char)mFragment.getBondAtom(0, bond))
+			   .append((char)mFragment.getBondAtom(1, bond))
+			   .append((char)mFragment.getBondType(bond))
+			   .append((char)(queryFeatures >>> 16))
+			   .append((char)queryFeatures);
+			}
+		return key.toString();
+		}
+
+	/**
+	 * @return whether the fragment classified by classifyFragment() contains any stereo centers or stereo bonds
+	 */
+	boolean hasStereoFeatures() {
+		for (int atom=0; atom<mFragment.getAtoms(); atom++)
+			if (mFragment.getAtomParity(atom) != Molecule.cAtomParityNone)
+				return true;
+		for (int bond=0; bond<mFragment.getBonds(); bond++)
+			if (mFragment.getBondParity(bond) != Molecule.cBondParityNone)
+				return true;
+		return false;
+		}
+
+	/**
+	 * @return fragment atom indexes of central, rear and reference atoms after classifyFragment(); -1 for virtual reference atoms
+	 */
+	int[] getFragmentTorsionAtoms() {
+		int[] fragmentAtom = new int[6];
+		for (int i=0; i<2; i++) {
+			fragmentAtom[i] = mToFragmentAtom[mCentralAtom[i]];
+			fragmentAtom[2+i] = mToFragmentAtom[mRearAtom[i]];
+			fragmentAtom[4+i] = (mRefAtom[i] == -1) ? -1 : mToFragmentAtom[mRefAtom[i]];
+			}
+		return fragmentAtom;
+		}
+
+	/**
+	 * Completes a classification after createFragment() with the results of an earlier
+	 * classification of an identical stereo-free fragment. The fragment itself is not canonized.
+	 * @param id
+	 * @param fragmentAtom as returned by getFragmentTorsionAtoms() for the earlier fragment
+	 */
+	void setClassification(String id, int[] fragmentAtom) {
+		for (int i=0; i<2; i++) {
+			mCentralAtom[i] = mToMoleculeAtom[fragmentAtom[i]];
+			mRearAtom[i] = mToMoleculeAtom[fragmentAtom[2+i]];
+			mRefAtom[i] = (fragmentAtom[4+i] == -1) ? -1 : mToMoleculeAtom[fragmentAtom[4+i]];
+			}
+		mID = id;
+		}
+
+	/**
      * Tries to uniquely determine one of the terminal neighbor's of atom in mFragment
      * to serve as reference atom that any torsion angles are assigned to.
      * The logic is as follows: If we have one terminal neighbor, this is selected.
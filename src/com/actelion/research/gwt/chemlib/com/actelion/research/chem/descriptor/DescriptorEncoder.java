@@ -33,6 +33,8 @@
 
 package com.actelion.research.chem.descriptor;
 
+import java.util.Arrays;
+
 /**
  * DescriptorEncoder encodes int[] based descriptors
  * into byte arrays that may be used to instantiate Strings
@@ -52,6 +54,7 @@ public class DescriptorEncoder {
     private byte[]  mBytes;
     private int     mByteIndex,mAvailableBits,mTempData,mByteMask;
 	private int     mTempDataLong;
+	private int     mEndIndex,mRepeatCount,mRepeatCode;
 
     public DescriptorEncoder() {
     	if (sDecode == null) {
@@ -335,6 +338,257 @@ public class DescriptorEncoder {
     	return decodePairs(s.getBytes());
     	}
 
+    /**
+     * Encodes a sorted int[], e.g. a list of unfolded hash values, which may contain
+     * any int values including negative ones and duplicates. Only the first value and
+     * the differences between consecutive values are stored, each with the minimum
+     * number of bits needed.
+     * @param data int values in ascending order
+     * @return byte[] of encoded character sequence
+     */
+    public byte[] encodeSparse(int[] data) {
+        long[] delta = new long[data.length];
+        int sum = 0;
+        long max = 0;
+        for (int i=0; i<data.length; i++) {
+            delta[i] = (i == 0) ? (long)data[0] - Integer.MIN_VALUE : (long)data[i] - data[i-1];
+            sum += getNeededBits(delta[i]);
+            if (max < delta[i])
+                max = delta[i];
+            }
+
+        int sizeBits = Math.min(31, getNeededBits(data.length));
+        int dataBits = getNeededBits(getNeededBits(max));
+
+        encodeStart(5+sizeBits+3+sum+dataBits*data.length);
+
+        encodeBits(sizeBits, 5);
+        encodeBits(data.length, sizeBits);	// size of the array
+
+        encodeBits(dataBits, 3);	// bits needed to store the bits needed for next delta value
+
+        for (int i=0; i<data.length; i++) {
+            int bits = getNeededBits(delta[i]);
+            encodeBits(bits, dataBits);
+            encodeBits(delta[i], bits);
+            }
+        encodeBitsEnd();
+        encodeDuplicateBytes();
+        return mBytes;
+        }
+
+    /**
+     * Decodes a sorted int[] that was encoded with encodeSparse().
+     * @param bytes encoded character sequence
+     * @return int[] decoded int array
+     */
+    public int[] decodeSparse(byte[] bytes) {
+        if (bytes.length == 0)
+            return null;
+
+        bytes = decodeDuplicateBytes(bytes);
+        decodeStart(bytes);
+
+        int sizeBits = (int)decodeBitsLong(5);
+        int arraySize = (int)decodeBitsLong(sizeBits);	// size of the array
+
+        int dataBits = (int)decodeBitsLong(3);
+
+        int[] data = new int[arraySize];
+        long value = Integer.MIN_VALUE;
+        for (int i=0; i<arraySize; i++) {
+            int bits = (int)decodeBitsLong(dataBits);
+            value += decodeBitsLong(bits);
+            data[i] = (int)value;
+            }
+
+        return data;
+        }
+
+	private int getNeededBits(long no) {
+		int bits = 0;
+		while (no > 0) {
+			no >>= 1;
+			bits++;
+			}
+		return bits;
+		}
+
+	/**
+	 * Encodes many binary fingerprints of equal size, which are stored consecutively
+	 * in one int[], into one contiguous byte[]. The encoding of every fingerprint
+	 * is identical to the one created by encode(int[]).
+	 * @param data binary fingerprints; fingerprint i starts at i*descriptorSize
+	 * @param descriptorSize number of int values per fingerprint
+	 * @param offset int[fingerprintCount+1] receives start positions of all encodings plus the total length
+	 * @return byte[] of all encoded character sequences
+	 */
+	public byte[] encode(int[] data, int descriptorSize, int[] offset) {
+		int count = offset.length - 1;
+		byte[] buffer = new byte[Math.max(64, count * (32 * descriptorSize / BITS) / 2)];
+		byte[] bytes = new byte[(32 * descriptorSize + BITS - 1) / BITS];
+		int length = 0;
+		for (int i=0; i<count; i++) {
+			encodeStart(bytes);
+			for (int j=0; j<descriptorSize; j++)
+				encodeBits(data[i*descriptorSize+j], 32);
+			encodeBitsEnd();
+			buffer = appendCompacted(buffer, length);
+			offset[i] = length;
+			length = offset[i] + mByteIndex;
+			}
+		offset[count] = length;
+		return (buffer.length == length) ? buffer : Arrays.copyOf(buffer, length);
+		}
+
+	/**
+	 * Encodes many binary fingerprints of equal size, which are stored consecutively
+	 * in one long[], into one contiguous byte[]. The encoding of every fingerprint
+	 * is identical to the one created by encodeLong(long[]).
+	 * @param data binary fingerprints; fingerprint i starts at i*descriptorSize
+	 * @param descriptorSize number of long values per fingerprint
+	 * @param offset int[fingerprintCount+1] receives start positions of all encodings plus the total length
+	 * @return byte[] of all encoded character sequences
+	 */
+	public byte[] encodeLong(long[] data, int descriptorSize, int[] offset) {
+		int count = offset.length - 1;
+		byte[] buffer = new byte[Math.max(64, count * (64 * descriptorSize / BITS) / 2)];
+		byte[] bytes = new byte[(64 * descriptorSize + BITS - 1) / BITS];
+		int length = 0;
+		for (int i=0; i<count; i++) {
+			encodeStart(bytes);
+			for (int j=0; j<descriptorSize; j++)
+				encodeBits(data[i*descriptorSize+j], 64);
+			encodeBitsEnd();
+			buffer = appendCompacted(buffer, length);
+			offset[i] = length;
+			length = offset[i] + mByteIndex;
+			}
+		offset[count] = length;
+		return (buffer.length == length) ? buffer : Arrays.copyOf(buffer, length);
+		}
+
+	/**
+	 * Decodes many binary fingerprints from one byte[], e.g. a file's content, into one
+	 * preallocated int[] without creating any intermediate objects. Fingerprint i is decoded
+	 * from bytes[offset[i]] to bytes[offset[i+1]-1] into data starting at i*descriptorSize.
+	 * Encodings that are shorter than descriptorSize are padded with 0.
+	 * @param bytes encoded fingerprints as created by encode(int[]) or encode(int[],int,int[])
+	 * @param offset int[fingerprintCount+1] with start positions of all encodings plus the end position
+	 * @param data int[] of at least fingerprintCount*descriptorSize receiving the fingerprints
+	 * @param descriptorSize number of int values per fingerprint
+	 */
+	public void decode(byte[] bytes, int[] offset, int[] data, int descriptorSize) {
+		for (int i=0; i<offset.length-1; i++) {
+			decodeStart(bytes, offset[i], offset[i+1]);
+			for (int j=0; j<descriptorSize; j++)
+				data[i*descriptorSize+j] = (int)decodeBitsInPlace(32);
+			}
+		}
+
+	/**
+	 * Decodes many binary fingerprints from one byte[], e.g. a file's content, into one
+	 * preallocated long[] without creating any intermediate objects. Fingerprint i is decoded
+	 * from bytes[offset[i]] to bytes[offset[i+1]-1] into data starting at i*descriptorSize.
+	 * Encodings that are shorter than descriptorSize are padded with 0.
+	 * @param bytes encoded fingerprints as created by encodeLong(long[]) or encodeLong(long[],int,int[])
+	 * @param offset int[fingerprintCount+1] with start positions of all encodings plus the end position
+	 * @param data long[] of at least fingerprintCount*descriptorSize receiving the fingerprints
+	 * @param descriptorSize number of long values per fingerprint
+	 */
+	public void decodeLong(byte[] bytes, int[] offset, long[] data, int descriptorSize) {
+		for (int i=0; i<offset.length-1; i++) {
+			decodeStart(bytes, offset[i], offset[i+1]);
+			for (int j=0; j<descriptorSize; j++)
+				data[i*descriptorSize+j] = decodeBitsInPlace(64);
+			}
+		}
+
+	/**
+	 * Decodes many fragment/hash-value count lists from one byte[] into one preallocated byte[].
+	 * Count list i is decoded from bytes[offset[i]] to bytes[offset[i+1]-1] into data
+	 * starting at i*descriptorSize.
+	 * @param bytes count lists encoded by encodeCounts()
+	 * @param offset int[listCount+1] with start positions of all encodings plus the end position
+	 * @param data byte[] of at least listCount*descriptorSize receiving the count values
+	 * @param descriptorSize number of count values per list
+	 */
+	public void decodeCounts(byte[] bytes, int[] offset, byte[] data, int descriptorSize) {
+		for (int i=0; i<offset.length-1; i++) {
+			decodeStart(bytes, offset[i], offset[i+1]);
+			for (int j=0; j<descriptorSize; j++)
+				data[i*descriptorSize+j] = (byte)decodeBitsInPlace(6);
+			}
+		}
+
+	private void encodeStart(byte[] buffer) {
+		Arrays.fill(buffer, (byte)0);
+		mBytes = buffer;
+		mAvailableBits = BITS;
+		mByteIndex = 0;
+		}
+
+	/**
+	 * Replaces runs of first or last code characters in mBytes like encodeDuplicateBytes()
+	 * and appends the result to buffer at position length. mByteIndex is set to the compacted length.
+	 * @return buffer or a larger copy of it
+	 */
+	private byte[] appendCompacted(byte[] buffer, int length) {
+		int compactedLength = encodeDuplicateBytes(sCode[0], sCodeMultipleMin, mBytes.length);
+		compactedLength = encodeDuplicateBytes(sCode[sCode.length-1], sCodeMultipleMax, compactedLength);
+		if (length + compactedLength > buffer.length)
+			buffer = Arrays.copyOf(buffer, Math.max(2 * buffer.length, length + compactedLength));
+		System.arraycopy(mBytes, 0, buffer, length, compactedLength);
+		mByteIndex = compactedLength;
+		return buffer;
+		}
+
+	/**
+	 * Starts decoding bytes[start] to bytes[end-1], expanding duplicate byte codes on the fly.
+	 */
+	private void decodeStart(byte[] bytes, int start, int end) {
+		mBytes = bytes;
+		mByteIndex = start;
+		mEndIndex = end;
+		mRepeatCount = 0;
+		mTempData = nextDecodedValue();
+		mByteMask = 1 << (BITS - 1);
+		}
+
+	private int nextDecodedValue() {
+		if (mRepeatCount != 0) {
+			mRepeatCount--;
+			return mRepeatCode;
+			}
+		if (mByteIndex >= mEndIndex)
+			return 0;
+
+		byte code = mBytes[mByteIndex++];
+		int multiple = sDecodeMultiple[code];
+		if (multiple != 0) {
+			mRepeatCode = (multiple < 0) ? sDecode[sCode[0]] : sDecode[sCode[sCode.length-1]];
+			mRepeatCount = Math.abs(multiple) - 1;
+			return mRepeatCode;
+			}
+		return sDecode[code];
+		}
+
+	private long decodeBitsInPlace(int bits) {
+		long data = 0L;
+		while (bits != 0) {
+			if (mByteMask == 0) {
+				mTempData = nextDecodedValue();
+				mByteMask = 1 << (BITS - 1);
+				}
+			data <<= 1;
+			if ((mTempData & mByteMask) != 0)
+				data |= 1L;
+			mByteMask >>>= 1;
+			bits--;
+			}
+		return data;
+		}
+
 	private int getNeededBits(int no) {
 		int bits = 0;
 		while (no > 0) {
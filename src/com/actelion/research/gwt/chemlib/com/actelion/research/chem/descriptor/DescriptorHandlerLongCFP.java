@@ -81,13 +81,67 @@ public class DescriptorHandlerLongCFP extends AbstractDescriptorHandlerLongFP<St
         if (mol ==null)
             return null;
 
-        mol.ensureHelperArrays(Molecule.cHelperRings);
-        StereoMolecule fragment = new StereoMolecule(mol.getAtoms(), mol.getBonds());
+        int[] hash = new int[mol.getAtoms() * SPHERE_COUNT];
+        int hashCount = createSphereHashes(mol, hash);
 
         // byte[] descriptor = new byte[DESCRIPTOR_SIZE];
         final int len = DESCRIPTOR_SIZE / Long.SIZE;
         long[] data = new long[len];
 
+        for (int i=0; i<hashCount; i++) {
+            int h = (hash[i] & BurtleHasher.hashmask(HASH_BITS));
+
+            int index = len - h / Long.SIZE - 1;
+            int bitNo = h % 32;     // we need this strange 32 bit block handling to be compatible with the older 32-bit version
+            if (h % 64 >= 32)
+                bitNo += 32;
+            data[index] |= (1L << bitNo);
+            }
+
+        return data;
+        }
+
+    /**
+     * Creates the unfolded variant of this descriptor, which keeps the raw 32-bit sphere
+     * hashes instead of folding them into DESCRIPTOR_SIZE bits. The returned array is sorted
+     * in ascending order. If withCounts is true, every hash value is contained as often as
+     * the respective sphere fragment occurs in the molecule, otherwise every hash is contained
+     * once only. Use getSparseSimilarity() or getSparseSimilarityDice() for comparisons and
+     * encodeSparse()/decodeSparse() for persistence.
+     * @param mol
+     * @param withCounts whether to keep duplicate hashes as fragment counts
+     * @return sorted sphere hashes or null, if mol is null
+     */
+    public int[] createSparseDescriptor(StereoMolecule mol, boolean withCounts) {
+        if (mol ==null)
+            return null;
+
+        int[] hash = new int[mol.getAtoms() * SPHERE_COUNT];
+        int hashCount = createSphereHashes(mol, hash);
+        Arrays.sort(hash, 0, hashCount);
+
+        if (!withCounts && hashCount > 1) {
+            int uniqueCount = 1;
+            for (int i=1; i<hashCount; i++)
+                if (hash[i] != hash[uniqueCount-1])
+                    hash[uniqueCount++] = hash[i];
+            hashCount = uniqueCount;
+            }
+
+        return Arrays.copyOf(hash, hashCount);
+        }
+
+    /**
+     * Calculates the unfolded hash values of all sphere fragments of mol.
+     * @param mol
+     * @param hash receives the hash values; must hold at least mol.getAtoms()*SPHERE_COUNT values
+     * @return number of hash values written into hash
+     */
+    private int createSphereHashes(StereoMolecule mol, int[] hash) {
+        mol.ensureHelperArrays(Molecule.cHelperRings);
+        StereoMolecule fragment = new StereoMolecule(mol.getAtoms(), mol.getBonds());
+
+        int hashCount = 0;
 		int[] atomList = new int[mol.getAtoms()];
         boolean[] atomMask = new boolean[mol.getAtoms()];
         for (int rootAtom=0; rootAtom<mol.getAtoms(); rootAtom++) {
@@ -122,19 +176,12 @@ public class DescriptorHandlerLongCFP extends AbstractDescriptorHandlerLongFP<St
 
                 // take fragment as it is
                 String idcode = new Canonizer(fragment).getIDCode();
-                int h = BurtleHasher.hashlittle(idcode, HASH_INIT);
-                h = (h & BurtleHasher.hashmask(HASH_BITS));
-
-	            int index = len - h / Long.SIZE - 1;
-	            int bitNo = h % 32;     // we need this strange 32 bit block handling to be compatible with the older 32-bit version
-	            if (h % 64 >= 32)
-	            	bitNo += 32;
-	            data[index] |= (1L << bitNo);
-//System.out.println("atom:"+rootAtom+"\tsphere:"+sphere+"\thash:"+h+"\t"+idcode);
+                hash[hashCount++] = BurtleHasher.hashlittle(idcode, HASH_INIT);
+//System.out.println("atom:"+rootAtom+"\tsphere:"+sphere+"\thash:"+hash[hashCount-1]+"\t"+idcode);
                 }
             }
 
-        return data;
+        return hashCount;
         }
 
     @Override
@@ -152,6 +199,67 @@ public class DescriptorHandlerLongCFP extends AbstractDescriptorHandlerLongFP<St
 			 : (float)(1.0-Math.pow(1-Math.pow(value, CORRECTION_FACTOR) ,1.0/CORRECTION_FACTOR));
 	}
 
+    /**
+     * Calculates the Tanimoto similarity of two sparse descriptors created by
+     * createSparseDescriptor(). If the descriptors contain counts, then the
+     * similarity is the sum of minimum counts divided by the sum of maximum counts.
+     * Both arrays are merged in one pass, i.e. the effort is linear to the number
+     * of contained hashes rather than to the folded descriptor size.
+     * @param s1 sorted sphere hashes
+     * @param s2 sorted sphere hashes
+     * @return normalized similarity value
+     */
+    public float getSparseSimilarity(int[] s1, int[] s2) {
+        return s1 == null
+            || s2 == null
+            || s1.length == 0
+            || s2.length == 0 ? 0.0f
+        : normalizeValue(getSparseSimilarityTanimoto(s1, s2));
+    }
+
+    public static float getSparseSimilarityTanimoto(int[] s1, int[] s2) {
+        int sharedKeys = getSharedSparseKeys(s1, s2);
+        return (float)sharedKeys/(float)(s1.length+s2.length-sharedKeys);
+    }
+
+    public static float getSparseSimilarityDice(int[] s1, int[] s2) {
+        int sharedKeys = getSharedSparseKeys(s1, s2);
+        return 2f*sharedKeys/(float)(s1.length+s2.length);
+    }
+
+    /**
+     * @return number of matching entries of two sorted arrays, each entry being used once only
+     */
+    private static int getSharedSparseKeys(int[] s1, int[] s2) {
+        int sharedKeys = 0;
+        int i1 = 0;
+        int i2 = 0;
+        while (i1<s1.length && i2<s2.length) {
+            if (s1[i1] == s2[i2]) {
+                sharedKeys++;
+                i1++;
+                i2++;
+                }
+            else if (s1[i1] < s2[i2])
+                i1++;
+            else
+                i2++;
+            }
+        return sharedKeys;
+    }
+
+    public String encodeSparse(int[] s) {
+        return s == null ? null
+             : s.length == 0 ? FAILED_STRING
+             : new String(new DescriptorEncoder().encodeSparse(s));
+    }
+
+    public int[] decodeSparse(String s) {
+        return s == null ? null
+             : s.equals(FAILED_STRING) ? new int[0]
+             : new DescriptorEncoder().decodeSparse(s.getBytes());
+    }
+
     @Override
     public DescriptorHandler<long[], StereoMolecule> getThreadSafeCopy() {
     	return this;
@@ -0,0 +1,277 @@
+/*
+* Copyright (c) 1997 - 2016
+* Actelion Pharmaceuticals Ltd.
+* Gewerbestrasse 16
+* CH-4123 Allschwil, Switzerland
+*
+* All rights reserved.
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+* 3. Neither the name of the the copyright holder nor the
+*    names of its contributors may be used to endorse or promote products
+*    derived from this software without specific prior written permission.
+*
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+* ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+* WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+* ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+* (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+* LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+* ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+* (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+* SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*
+*/
+
+package com.actelion.research.chem.descriptor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * FingerprintClusterer clusters large sets of binary fingerprints, e.g. FragFp descriptors
+ * from SSSearcherWithIndex.createLongIndex() or SphereFp descriptors from DescriptorHandlerLongCFP,
+ * by their Tanimoto similarity. All fingerprints are packed into one long[] and sorted by
+ * their bit count. For every fingerprint only those fingerprints are compared, whose bit counts
+ * permit a similarity above the cutoff. Neighbor lists are built in blocks on multiple threads.
+ * Only pairs above the similarity cutoff are kept, i.e. no N*N matrix is ever created.
+ * Clusters are then formed either Butina style (molecules with most neighbors first) or by
+ * leader based sphere exclusion (molecules in original order).
+ */
+public class FingerprintClusterer {
+	public static final int MODE_BUTINA = 1;
+	public static final int MODE_SPHERE_EXCLUSION = 2;
+
+	private static final int BLOCK_SIZE = 1024;
+
+	private final int mWords,mCount;
+	private final long[] mFingerprint;	// all fingerprints in bit count order
+	private final int[] mBitCount;		// bit counts in bit count order
+	private final int[] mInputIndex;	// original index of every sorted fingerprint
+	private int mThreadCount;
+	private long mNeighborPairCount;
+	private int[] mClusterNo,mCentroid;
+
+	/**
+	 * @param fingerprint binary fingerprints of equal length, e.g. FragFp or SphereFp as long[]
+	 */
+	public FingerprintClusterer(long[][] fingerprint) {
+		mCount = fingerprint.length;
+		mWords = (mCount == 0) ? 0 : fingerprint[0].length;
+		mFingerprint = new long[mCount * mWords];
+		mBitCount = new int[mCount];
+		mInputIndex = new int[mCount];
+
+		int[] bitCount = new int[mCount];
+		for (int i=0; i<mCount; i++)
+			for (long word:fingerprint[i])
+				bitCount[i] += Long.bitCount(word);
+
+		sortByBitCount(bitCount);
+		for (int i=0; i<mCount; i++) {
+			mBitCount[i] = bitCount[mInputIndex[i]];
+			System.arraycopy(fingerprint[mInputIndex[i]], 0, mFingerprint, i*mWords, mWords);
+			}
+
+		mThreadCount = Runtime.getRuntime().availableProcessors();
+		}
+
+	/**
+	 * @param fingerprint binary fingerprints of equal length, e.g. FragFp as int[] from SSSearcherWithIndex
+	 */
+	public FingerprintClusterer(int[][] fingerprint) {
+		this(toLong(fingerprint));
+		}
+
+	private static long[][] toLong(int[][] fingerprint) {
+		long[][] longFingerprint = new long[fingerprint.length][];
+		for (int i=0; i<fingerprint.length; i++) {
+			longFingerprint[i] = new long[(fingerprint[i].length+1)/2];
+			for (int j=0; j<fingerprint[i].length; j++)
+				longFingerprint[i][j/2] |= ((j & 1) == 0) ? (long)fingerprint[i][j] << 32 : fingerprint[i][j] & 0xFFFFFFFFL;
+			}
+		return longFingerprint;
+		}
+
+	/**
+	 * @param threadCount number of threads used to build the neighbor lists; default is number of processors
+	 */
+	public void setThreadCount(int threadCount) {
+		mThreadCount = Math.max(1, threadCount);
+		}
+
+	/**
+	 * Clusters all fingerprints such that every cluster member has a Tanimoto similarity
+	 * of at least minSimilarity to its cluster's centroid.
+	 * @param minSimilarity Tanimoto similarity cutoff; must be larger than 0
+	 * @param mode MODE_BUTINA or MODE_SPHERE_EXCLUSION
+	 * @return number of clusters including singletons
+	 */
+	public int cluster(float minSimilarity, int mode) {
+		if (minSimilarity <= 0f || minSimilarity > 1f)
+			throw new IllegalArgumentException("minSimilarity must be within (0,1]");
+
+		int[][] neighbor = createNeighborLists(minSimilarity);
+
+		int[] order = new int[mCount];	// sorted fingerprint indexes in order of centroid preference
+		if (mode == MODE_BUTINA) {
+			int maxDegree = 0;
+			for (int[] n:neighbor)
+				maxDegree = Math.max(maxDegree, n.length);
+			int[] start = new int[maxDegree+2];	// counting sort by descending neighbor count
+			for (int[] n:neighbor)
+				start[maxDegree-n.length+1]++;
+			for (int i=1; i<start.length; i++)
+				start[i] += start[i-1];
+			for (int i=0; i<mCount; i++)
+				order[start[maxDegree-neighbor[i].length]++] = i;
+			}
+		else {
+			for (int i=0; i<mCount; i++)
+				order[mInputIndex[i]] = i;
+			}
+
+		mClusterNo = new int[mCount];
+		Arrays.fill(mClusterNo, -1);
+		int[] centroid = new int[mCount];
+		int clusterCount = 0;
+		for (int i:order) {
+			if (mClusterNo[mInputIndex[i]] == -1) {
+				mClusterNo[mInputIndex[i]] = clusterCount;
+				for (int j:neighbor[i])
+					if (mClusterNo[mInputIndex[j]] == -1)
+						mClusterNo[mInputIndex[j]] = clusterCount;
+				centroid[clusterCount++] = mInputIndex[i];
+				}
+			}
+
+		mCentroid = Arrays.copyOf(centroid, clusterCount);
+		return clusterCount;
+		}
+
+	/**
+	 * @return cluster index for every fingerprint in the order passed to the constructor
+	 */
+	public int[] getClusterNos() {
+		return mClusterNo;
+		}
+
+	/**
+	 * @return for every cluster the original index of its centroid fingerprint
+	 */
+	public int[] getCentroids() {
+		return mCentroid;
+		}
+
+	/**
+	 * @return number of fingerprint pairs above the similarity cutoff found by the last cluster() call
+	 */
+	public long getNeighborPairCount() {
+		return mNeighborPairCount;
+		}
+
+	private void sortByBitCount(int[] bitCount) {
+		int maxBitCount = 0;
+		for (int count:bitCount)
+			maxBitCount = Math.max(maxBitCount, count);
+		int[] start = new int[maxBitCount+2];
+		for (int count:bitCount)
+			start[count+1]++;
+		for (int i=1; i<start.length; i++)
+			start[i] += start[i-1];
+		for (int i=0; i<mCount; i++)
+			mInputIndex[start[bitCount[i]]++] = i;
+		}
+
+	/**
+	 * Finds all similar pairs using multiple threads. Every thread handles blocks of
+	 * fingerprints and compares them with all later fingerprints within the bit count bounds.
+	 * The resulting one-directional lists are then merged into symmetric neighbor lists.
+	 * @return neighbor list of every sorted fingerprint
+	 */
+	private int[][] createNeighborLists(final float minSimilarity) {
+		final int[][] upperNeighbor = new int[mCount][];
+		ExecutorService executor = Executors.newFixedThreadPool(mThreadCount);
+		ArrayList<Future<?>> futureList = new ArrayList<>();
+		for (int block=0; block<mCount; block+=BLOCK_SIZE) {
+			final int first = block;
+			final int last = Math.min(mCount, block+BLOCK_SIZE);
+			futureList.add(executor.submit(() -> {
+				int[] buffer = new int[64];
+				for (int i=first; i<last; i++)
+					upperNeighbor[i] = findUpperNeighbors(i, minSimilarity, buffer);
+				} ));
+			}
+		try {
+			for (Future<?> future:futureList)
+				future.get();
+			}
+		catch (InterruptedException | ExecutionException e) {
+			throw new RuntimeException(e);
+			}
+		finally {
+			executor.shutdown();
+			}
+
+		int[] degree = new int[mCount];
+		mNeighborPairCount = 0;
+		for (int i=0; i<mCount; i++) {
+			degree[i] += upperNeighbor[i].length;
+			for (int j:upperNeighbor[i])
+				degree[j]++;
+			mNeighborPairCount += upperNeighbor[i].length;
+			}
+
+		int[][] neighbor = new int[mCount][];
+		for (int i=0; i<mCount; i++)
+			neighbor[i] = new int[degree[i]];
+
+		Arrays.fill(degree, 0);
+		for (int i=0; i<mCount; i++) {
+			for (int j:upperNeighbor[i]) {
+				neighbor[i][degree[i]++] = j;
+				neighbor[j][degree[j]++] = i;
+				}
+			upperNeighbor[i] = null;
+			}
+
+		return neighbor;
+		}
+
+	private int[] findUpperNeighbors(int i, float minSimilarity, int[] buffer) {
+		int bitCount1 = mBitCount[i];
+		if (bitCount1 == 0)
+			return new int[0];
+
+		// Tanimoto cannot exceed bitCount1/bitCount2, if bitCount1 <= bitCount2; 1 added for float rounding
+		int maxBitCount = (int)Math.min(Integer.MAX_VALUE, 1 + Math.floor(bitCount1 / (double)minSimilarity));
+
+		int count = 0;
+		int offset1 = i * mWords;
+		for (int j=i+1; j<mCount && mBitCount[j]<=maxBitCount; j++) {
+			int offset2 = j * mWords;
+			int sharedKeys = 0;
+			for (int k=0; k<mWords; k++)
+				sharedKeys += Long.bitCount(mFingerprint[offset1+k] & mFingerprint[offset2+k]);
+			if ((float)sharedKeys / (float)(bitCount1+mBitCount[j]-sharedKeys) >= minSimilarity) {
+				if (count == buffer.length)
+					buffer = Arrays.copyOf(buffer, 2*count);
+				buffer[count++] = j;
+				}
+			}
+
+		return Arrays.copyOf(buffer, count);
+		}
+	}
@@ -0,0 +1,413 @@
+/*
+* Copyright (c) 1997 - 2016
+* Actelion Pharmaceuticals Ltd.
+* Gewerbestrasse 16
+* CH-4123 Allschwil, Switzerland
+*
+* All rights reserved.
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+* 3. Neither the name of the the copyright holder nor the
+*    names of its contributors may be used to endorse or promote products
+*    derived from this software without specific prior written permission.
+*
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+* ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+* WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+* ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+* (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+* LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+* ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+* (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+* SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*
+*/
+
+package com.actelion.research.chem.descriptor;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Random;
+
+import com.actelion.research.chem.SSSearcherWithIndex;
+
+/**
+ * FingerprintLSHIndex is an approximate similarity index for binary fingerprints stored
+ * as long[], e.g. FragFp or SphereFp. Every fingerprint is reduced to bandCount*rowsPerBand
+ * MinHash values, which approximate the Tanimoto similarity of the set bits. Fingerprints
+ * sharing all MinHash values of at least one band are candidates, which are then re-ranked
+ * with the exact SSSearcherWithIndex.getSimilarityTanimoto(). More bands increase recall,
+ * more rows per band increase selectivity. Use getRecall() to tune both against
+ * an exhaustive search on representative queries.<br>
+ * All fingerprints are packed into one long[]. Each band's buckets are kept as sorted 64-bit
+ * band keys with offsets into one int[] of fingerprint IDs. Band keys of newly added fingerprints
+ * are collected in a small unsorted delta, which searches scan linearly and which is merged
+ * into the buckets, when it exceeds 8*sqrt(n) (at least 1024) entries. Thus, insertion as well as
+ * search cost O(bandCount*sqrt(n)) at most. Adding and searching may happen concurrently.
+ */
+public class FingerprintLSHIndex {
+	private static final int VERSION = 1;
+	private static final long PRIME = 2147483647L;	// 2^31-1
+	private static final int MIN_DELTA_SIZE = 1024;
+
+	private final int mBandCount,mRowsPerBand,mWords;
+	private final long mSeed;
+	private final int[][] mPermutation;	// [hashIndex][bitNo] -> permuted bit position
+	private final long[][] mBucketKey;	// [band][bucket] sorted band keys
+	private final int[][] mBucketStart;	// [band][bucket] index of first ID in mBucketID; one more than buckets
+	private final int[][] mBucketID;	// [band] IDs of all buckets in bucket order
+	private long[] mFingerprint;	// [id*words+i]
+	private long[] mDeltaKey;	// [(id-mBucketCount)*bandCount+band] band keys not yet in buckets
+	private int mCount,mBucketCount;	// mBucketCount: number of fingerprints in the buckets
+
+	/**
+	 * @param words number of long values per fingerprint, e.g. 8 for FragFp, 16 for SphereFp
+	 * @param bandCount number of MinHash bands; higher values increase recall
+	 * @param rowsPerBand number of MinHash values per band; higher values reduce candidate count
+	 * @param seed seed for the MinHash permutations; indexes must use the same seed to be compatible
+	 */
+	public FingerprintLSHIndex(int words, int bandCount, int rowsPerBand, long seed) {
+		mWords = words;
+		mBandCount = bandCount;
+		mRowsPerBand = rowsPerBand;
+		mSeed = seed;
+
+		Random random = new Random(seed);
+		int bits = 64 * words;
+		mPermutation = new int[bandCount*rowsPerBand][bits];
+		for (int[] permutation:mPermutation) {
+			long a = 1 + (random.nextLong() >>> 1) % (PRIME - 1);
+			long b = (random.nextLong() >>> 1) % PRIME;
+			for (int bit=0; bit<bits; bit++)
+				permutation[bit] = (int)((a * (bit + 1) + b) % PRIME);
+			}
+
+		mBucketKey = new long[bandCount][0];
+		mBucketStart = new int[bandCount][1];
+		mBucketID = new int[bandCount][0];
+
+		mFingerprint = new long[1024 * words];
+		mDeltaKey = new long[MIN_DELTA_SIZE * bandCount];
+		}
+
+	/**
+	 * @return number of indexed fingerprints
+	 */
+	public synchronized int size() {
+		return mCount;
+		}
+
+	/**
+	 * Adds a fingerprint to the index.
+	 * @param fingerprint long[] of the length passed to the constructor
+	 * @return ID of the fingerprint, which is the number of fingerprints added before
+	 */
+	public int add(long[] fingerprint) {
+		if (fingerprint.length != mWords)
+			throw new IllegalArgumentException("Unexpected fingerprint length: "+fingerprint.length);
+
+		long[] bandKey = createBandKeys(fingerprint);
+		synchronized (this) {
+			int id = append(fingerprint, bandKey);
+			int deltaCount = mCount - mBucketCount;
+			if (deltaCount >= MIN_DELTA_SIZE && deltaCount >= 8 * Math.sqrt(mBucketCount))
+				mergeDelta();
+			return id;
+			}
+		}
+
+	public synchronized long[] getFingerprint(int id) {
+		return Arrays.copyOfRange(mFingerprint, id * mWords, (id + 1) * mWords);
+		}
+
+	/**
+	 * Retrieves candidates sharing at least one MinHash band with the query, re-ranks them with
+	 * the exact Tanimoto similarity and returns the most similar ones.
+	 * @param query fingerprint
+	 * @param maxResults maximum number of hits
+	 * @param minSimilarity minimum Tanimoto similarity of hits
+	 * @param hitID receives the IDs of the hits in order of decreasing similarity
+	 * @param hitSimilarity receives the hits' similarities; may be null
+	 * @return number of hits
+	 */
+	public int search(long[] query, int maxResults, float minSimilarity, int[] hitID, float[] hitSimilarity) {
+		long[] bandKey = createBandKeys(query);
+
+		int[] candidate;
+		int candidateCount = 0;
+		long[] fingerprint;
+		synchronized (this) {
+			int deltaCount = mCount - mBucketCount;
+			int[] bucket = new int[mBandCount];
+			for (int band=0; band<mBandCount; band++) {
+				bucket[band] = Arrays.binarySearch(mBucketKey[band], bandKey[band]);
+				if (bucket[band] >= 0)
+					candidateCount += mBucketStart[band][bucket[band]+1] - mBucketStart[band][bucket[band]];
+				}
+
+			candidate = new int[candidateCount + mBandCount * deltaCount];
+			candidateCount = 0;
+			for (int band=0; band<mBandCount; band++) {
+				if (bucket[band] >= 0) {
+					int start = mBucketStart[band][bucket[band]];
+					int count = mBucketStart[band][bucket[band]+1] - start;
+					System.arraycopy(mBucketID[band], start, candidate, candidateCount, count);
+					candidateCount += count;
+					}
+				}
+			for (int i=0; i<deltaCount; i++)
+				for (int band=0; band<mBandCount; band++)
+					if (mDeltaKey[i*mBandCount+band] == bandKey[band])
+						candidate[candidateCount++] = mBucketCount + i;
+
+			fingerprint = mFingerprint;	// only grows by copying; IDs below mCount are never changed
+			}
+		Arrays.sort(candidate, 0, candidateCount);
+
+		float[] similarity = new float[Math.max(1, maxResults)];
+		int hitCount = 0;
+		for (int i=0; i<candidateCount; i++)
+			if (i == 0 || candidate[i] != candidate[i-1])
+				hitCount = addHit(candidate[i], getSimilarity(query, fingerprint, candidate[i]), maxResults, minSimilarity, hitID, similarity, hitCount);
+
+		if (hitSimilarity != null)
+			System.arraycopy(similarity, 0, hitSimilarity, 0, hitCount);
+		return hitCount;
+		}
+
+	/**
+	 * Compares the query with every indexed fingerprint. Parameters and result are the same as with search().
+	 */
+	public int searchExhaustively(long[] query, int maxResults, float minSimilarity, int[] hitID, float[] hitSimilarity) {
+		int count;
+		long[] fingerprint;
+		synchronized (this) {
+			count = mCount;
+			fingerprint = mFingerprint;
+			}
+
+		float[] similarity = new float[Math.max(1, maxResults)];
+		int hitCount = 0;
+		for (int id=0; id<count; id++)
+			hitCount = addHit(id, getSimilarity(query, fingerprint, id), maxResults, minSimilarity, hitID, similarity, hitCount);
+
+		if (hitSimilarity != null)
+			System.arraycopy(similarity, 0, hitSimilarity, 0, hitCount);
+		return hitCount;
+		}
+
+	/**
+	 * Determines the fraction of the exhaustive search's hits, which are also found by search().
+	 * @param query representative query fingerprints
+	 * @param maxResults maximum number of hits per query
+	 * @param minSimilarity minimum Tanimoto similarity of hits
+	 * @return recall between 0.0 and 1.0
+	 */
+	public float getRecall(long[][] query, int maxResults, float minSimilarity) {
+		int[] hitID = new int[maxResults];
+		int[] exhaustiveHitID = new int[maxResults];
+		float[] exhaustiveSimilarity = new float[maxResults];
+		int foundCount = 0;
+		int expectedCount = 0;
+		for (long[] q:query) {
+			int hitCount = search(q, maxResults, minSimilarity, hitID, null);
+			int exhaustiveHitCount = searchExhaustively(q, maxResults, minSimilarity, exhaustiveHitID, exhaustiveSimilarity);
+			float lowestSimilarity = (exhaustiveHitCount == 0) ? 0f : exhaustiveSimilarity[exhaustiveHitCount-1];
+			for (int i=0; i<hitCount; i++)	// ties at the lowest similarity count as found
+				if (SSSearcherWithIndex.getSimilarityTanimoto(q, getFingerprint(hitID[i])) >= lowestSimilarity)
+					foundCount++;
+			expectedCount += exhaustiveHitCount;
+			}
+		return (expectedCount == 0) ? 1f : Math.min(1f, (float)foundCount / expectedCount);
+		}
+
+	/**
+	 * Writes fingerprints and parameters. Buckets are rebuilt when reading.
+	 * @param os
+	 * @throws IOException
+	 */
+	public synchronized void write(OutputStream os) throws IOException {
+		DataOutputStream dos = new DataOutputStream(os);
+		dos.writeInt(VERSION);
+		dos.writeInt(mWords);
+		dos.writeInt(mBandCount);
+		dos.writeInt(mRowsPerBand);
+		dos.writeLong(mSeed);
+		dos.writeInt(mCount);
+		for (int i=0; i<mCount*mWords; i++)
+			dos.writeLong(mFingerprint[i]);
+		dos.flush();
+		}
+
+	public static FingerprintLSHIndex read(InputStream is) throws IOException {
+		DataInputStream dis = new DataInputStream(is);
+		int version = dis.readInt();
+		if (version != VERSION)
+			throw new IOException("Unsupported index version: "+version);
+		int words = dis.readInt();
+		int bandCount = dis.readInt();
+		int rowsPerBand = dis.readInt();
+		long seed = dis.readLong();
+		int count = dis.readInt();
+		FingerprintLSHIndex index = new FingerprintLSHIndex(words, bandCount, rowsPerBand, seed);
+		long[] fingerprint = new long[words];
+		for (int i=0; i<count; i++) {
+			for (int j=0; j<words; j++)
+				fingerprint[j] = dis.readLong();
+			index.append(fingerprint, index.createBandKeys(fingerprint));
+			}
+		index.mergeDelta();
+		return index;
+		}
+
+	private float getSimilarity(long[] query, long[] fingerprint, int id) {
+		return SSSearcherWithIndex.getSimilarityTanimoto(query, fingerprint, id * mWords);
+		}
+
+	/**
+	 * Appends the fingerprint and its band keys to the delta, which is not yet part of the buckets.
+	 * @return ID of the fingerprint
+	 */
+	private int append(long[] fingerprint, long[] bandKey) {
+		if ((mCount+1) * mWords > mFingerprint.length)
+			mFingerprint = Arrays.copyOf(mFingerprint, 2 * mFingerprint.length);
+		System.arraycopy(fingerprint, 0, mFingerprint, mCount * mWords, mWords);
+
+		int deltaCount = mCount - mBucketCount;
+		if ((deltaCount+1) * mBandCount > mDeltaKey.length)
+			mDeltaKey = Arrays.copyOf(mDeltaKey, 2 * mDeltaKey.length);
+		System.arraycopy(bandKey, 0, mDeltaKey, deltaCount * mBandCount, mBandCount);
+
+		return mCount++;
+		}
+
+	/**
+	 * Merges the band keys of the delta into the sorted buckets. Within a bucket IDs stay ascending,
+	 * because all delta IDs are higher than the IDs already in the buckets.
+	 */
+	private void mergeDelta() {
+		int deltaCount = mCount - mBucketCount;
+		if (deltaCount == 0)
+			return;
+
+		for (int band=0; band<mBandCount; band++) {
+			long[] deltaKey = new long[deltaCount];
+			for (int i=0; i<deltaCount; i++)
+				deltaKey[i] = mDeltaKey[i*mBandCount+band];
+
+			long[] newKey = deltaKey.clone();
+			Arrays.sort(newKey);
+			int newKeyCount = 0;
+			for (int i=0; i<deltaCount; i++)
+				if (i == 0 || newKey[i] != newKey[i-1])
+					newKey[newKeyCount++] = newKey[i];
+
+			long[] oldKey = mBucketKey[band];
+			int[] oldStart = mBucketStart[band];
+			int[] oldToNewBucket = new int[oldKey.length];
+			long[] key = new long[oldKey.length + newKeyCount];
+			int keyCount = 0;
+			int i = 0;
+			int j = 0;
+			while (i < oldKey.length || j < newKeyCount) {
+				if (j == newKeyCount || (i < oldKey.length && oldKey[i] <= newKey[j])) {
+					if (j < newKeyCount && oldKey[i] == newKey[j])
+						j++;
+					oldToNewBucket[i] = keyCount;
+					key[keyCount++] = oldKey[i++];
+					}
+				else {
+					key[keyCount++] = newKey[j++];
+					}
+				}
+			key = Arrays.copyOf(key, keyCount);
+
+			int[] start = new int[keyCount+1];
+			for (int b=0; b<oldKey.length; b++)
+				start[oldToNewBucket[b]+1] += oldStart[b+1] - oldStart[b];
+			int[] deltaBucket = new int[deltaCount];
+			for (int d=0; d<deltaCount; d++) {
+				deltaBucket[d] = Arrays.binarySearch(key, deltaKey[d]);
+				start[deltaBucket[d]+1]++;
+				}
+			for (int b=0; b<keyCount; b++)
+				start[b+1] += start[b];
+
+			int[] bucketID = new int[mCount];
+			int[] index = Arrays.copyOf(start, keyCount);
+			for (int b=0; b<oldKey.length; b++) {
+				int count = oldStart[b+1] - oldStart[b];
+				System.arraycopy(mBucketID[band], oldStart[b], bucketID, index[oldToNewBucket[b]], count);
+				index[oldToNewBucket[b]] += count;
+				}
+			for (int d=0; d<deltaCount; d++)
+				bucketID[index[deltaBucket[d]]++] = mBucketCount + d;
+
+			mBucketKey[band] = key;
+			mBucketStart[band] = start;
+			mBucketID[band] = bucketID;
+			}
+
+		mBucketCount = mCount;
+		}
+
+	/**
+	 * Inserts a hit into the similarity sorted hit list, if it qualifies.
+	 * @return new hit count
+	 */
+	private int addHit(int id, float similarity, int maxResults, float minSimilarity, int[] hitID, float[] hitSimilarity, int hitCount) {
+		if (!(similarity >= minSimilarity)	// also rejects NaN of two empty fingerprints
+		 || maxResults == 0
+		 || (hitCount == maxResults && similarity <= hitSimilarity[hitCount-1]))
+			return hitCount;
+
+		int index = Math.min(hitCount, maxResults-1);
+		while (index > 0 && hitSimilarity[index-1] < similarity) {
+			hitID[index] = hitID[index-1];
+			hitSimilarity[index] = hitSimilarity[index-1];
+			index--;
+			}
+		hitID[index] = id;
+		hitSimilarity[index] = similarity;
+		return Math.min(hitCount+1, maxResults);
+		}
+
+	private long[] createBandKeys(long[] fingerprint) {
+		int[] minHash = new int[mPermutation.length];
+		Arrays.fill(minHash, Integer.MAX_VALUE);
+		for (int i=0; i<mWords; i++) {
+			long word = fingerprint[i];
+			while (word != 0) {
+				int bit = 64 * i + Long.numberOfTrailingZeros(word);
+				word &= word - 1;
+				for (int h=0; h<minHash.length; h++)
+					if (minHash[h] > mPermutation[h][bit])
+						minHash[h] = mPermutation[h][bit];
+				}
+			}
+
+		long[] bandKey = new long[mBandCount];
+		for (int band=0; band<mBandCount; band++) {
+			long key = band;
+			for (int row=0; row<mRowsPerBand; row++)
+				key = 31 * key + minHash[band*mRowsPerBand+row];
+			key ^= key >>> 33;	// final 64-bit mixing as in MurmurHash3
+			key *= 0xff51afd7ed558ccdL;
+			key ^= key >>> 33;
+			bandKey[band] = key;
+			}
+		return bandKey;
+		}
+	}
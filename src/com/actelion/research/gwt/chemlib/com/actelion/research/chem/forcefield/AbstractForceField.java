@@ -1,6 +1,8 @@
 package com.actelion.research.chem.forcefield;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import com.actelion.research.chem.StereoMolecule;
 
@@ -12,6 +14,8 @@ public abstract class AbstractForceField implements ForceField {
     public static final double MAXSTEP = 100.0;
     
 	protected ArrayList<ForceFieldChangeListener> listeners = new ArrayList<ForceFieldChangeListener>();
+	protected ArrayList<EarlyExitPolicy> mExitPolicies = new ArrayList<EarlyExitPolicy>();
+	protected MinimiserStatistics mStatistics;
     protected StereoMolecule mMol;
 	protected final int mDim; ;
 	protected double[] mPos;
@@ -57,6 +61,42 @@ public abstract class AbstractForceField implements ForceField {
 		listeners.add(listener);
 	}
 	
+	/**
+	 * Adds a policy, which may stop future minimisations before they converged.
+	 * If any policy stops the minimiser, then the current positions are kept
+	 * and minimise() returns 0.
+	 *  @param policy
+	 */
+	public void addEarlyExitPolicy(EarlyExitPolicy policy) {
+		mExitPolicies.add(policy);
+	}
+
+	public void removeEarlyExitPolicies() {
+		mExitPolicies.clear();
+	}
+
+	/**
+	 * Returns statistics of the most recent minimisation, e.g. the number of
+	 * iterations and energy evaluations, the time spent in the different phases
+	 * of the minimiser and why it stopped.
+	 *  @return statistics of the last minimisation or null, if there was none
+	 */
+	public MinimiserStatistics getStatistics() {
+		return mStatistics;
+	}
+
+	/**
+	 * Returns the energy contributions of the different kinds of energy terms.
+	 * Force fields that don't distinguish energy terms return the total energy only.
+	 *  @param pos The positions array representing the atoms positions in space.
+	 *  @return Energies by name of the energy term type.
+	 */
+	public Map<String,Double> getEnergyBreakdown(double[] pos) {
+		Map<String,Double> breakdown = new LinkedHashMap<String,Double>();
+		breakdown.put("total", getTotalEnergy(pos));
+		return breakdown;
+	}
+
 	public void addGradient(double[] grad) {
 		assert grad.length==mGrad.length;
 		updateGradient();
@@ -132,7 +172,9 @@ public abstract class AbstractForceField implements ForceField {
      *  @param maxIts The maximum number of iterations to run for.
      *  @param gradTol The gradient tolerance.
      *  @param funcTol The energy tolerance.
-     *  @return Return code, 0 on success.
+     *  @return Return code, 0 on success or if an EarlyExitPolicy stopped the
+     *      minimiser, 1 if maxIts was reached or the minimiser was interrupted,
+     *      2 if the line search failed. getStatistics() provides details.
      */
     public int minimise(int maxIts, double gradTol, double funcTol) {
 
@@ -160,6 +202,13 @@ public abstract class AbstractForceField implements ForceField {
     }
     
     public int run_minimiser(int maxIts, double gradTol, double funcTol) {
+		mStatistics = new MinimiserStatistics();
+		int res = run_minimiser(maxIts, gradTol, funcTol, mStatistics);
+		mStatistics.setEnergyBreakdown(getEnergyBreakdown(mPos));
+		return res;
+	}
+
+	private int run_minimiser(int maxIts, double gradTol, double funcTol, MinimiserStatistics stats) {
 		double sum,maxStep,fp;
 		mGrad = new double[mDim];
 		double[] dGrad = new double[mDim];
@@ -170,8 +219,9 @@ public abstract class AbstractForceField implements ForceField {
 		for (int i=0; i<mDim; i++)
 		         newPos[i] = mPos[i];
 		// evaluate the function and gradient in our current position:
-		fp = getTotalEnergy(mPos);
-		updateGradient();
+		fp = evaluateEnergy(mPos, stats);
+		stats.setInitialEnergy(fp);
+		evaluateGradient(stats);
 		zeroGradient();
 		sum = 0.0;
 		//memset(invHessian,0,dim*dim*sizeof(double));
@@ -189,12 +239,17 @@ public abstract class AbstractForceField implements ForceField {
 	     long t0 = System.currentTimeMillis();
 	     for (int iter=1; iter<=maxIts && !mIsInterrupted; iter++) {
 	         // do the line search:
-	         int status = linearSearch(mPos,fp,xi,newPos,maxStep);
-	         if (status < 0)
+	         long lineSearchStart = System.nanoTime();
+	         int status = linearSearch(mPos,fp,xi,newPos,maxStep,stats);
+	         stats.addLineSearch(System.nanoTime()-lineSearchStart, status != 0);
+	         if (status < 0) {
+	             stats.finish(MinimiserStatistics.TERMINATION_LINE_SEARCH, null);
 	             return 2;
+	         }
 	
 	         // save the function value for the next search:
 	         fp = mTotalEnergy;
+	         stats.addEnergy(fp);
 	
 	         // set the direction of this line and save the gradient:
 	         double test=0.0;
@@ -208,11 +263,12 @@ public abstract class AbstractForceField implements ForceField {
 	         }
 	
 	         if (test < TOLX) {
+	             stats.finish(MinimiserStatistics.TERMINATION_POSITION, null);
 	             return 0;
 	         }
 	
 	         // update the gradient:
-	         double gradScale = updateGradient();
+	         double gradScale = evaluateGradient(stats);
 	         zeroGradient();
 	         // is the gradient converged?
 	         test = 0.0;
@@ -226,10 +282,19 @@ public abstract class AbstractForceField implements ForceField {
 	         test /= term;
 	
 	         if (test < gradTol) {
+	             stats.finish(MinimiserStatistics.TERMINATION_GRADIENT, null);
 	             return 0;
 	         }
 	
+	         for (EarlyExitPolicy policy : mExitPolicies) {
+	             if (policy.isFinished(stats)) {
+	                 stats.finish(MinimiserStatistics.TERMINATION_EARLY_EXIT, policy);
+	                 return 0;
+	             }
+	         }
+	
 	         // compute hessian*dGrad:
+	         long hessianStart = System.nanoTime();
 	         double fac = 0, fae = 0, sumDGrad = 0, sumXi = 0;
 	         for(int i=0; i<mDim; i++) {
 	             int itab = i*mDim;
@@ -268,6 +333,7 @@ public abstract class AbstractForceField implements ForceField {
 	             for (int j=0; j<mDim; j++)
 	                 xi[i] -= invHessian[itab+j]*mGrad[j];
 	         }
+	         stats.addHessianUpdate(System.nanoTime()-hessianStart);
 	         long t1 = System.currentTimeMillis();
 	         timePassed = t1-t0;
 	         if(timePassed>=mTimeInterval) {
@@ -277,9 +343,25 @@ public abstract class AbstractForceField implements ForceField {
 	        	 t0=t1;
 	         }
 	     }
+	     stats.finish(mIsInterrupted ? MinimiserStatistics.TERMINATION_INTERRUPTED
+	    		 : MinimiserStatistics.TERMINATION_MAX_ITERATIONS, null);
 	     return 1;
 	 }
 
+	private double evaluateEnergy(double[] pos, MinimiserStatistics stats) {
+		long start = System.nanoTime();
+		double energy = getTotalEnergy(pos);
+		stats.addEnergyEvaluation(System.nanoTime()-start);
+		return energy;
+	}
+
+	private double evaluateGradient(MinimiserStatistics stats) {
+		long start = System.nanoTime();
+		double gradScale = updateGradient();
+		stats.addGradientEvaluation(System.nanoTime()-start);
+		return gradScale;
+	}
+
  /**
   *
   */
@@ -287,7 +369,8 @@ public abstract class AbstractForceField implements ForceField {
 	     double oldVal,
 	     double[] dir,
 	     double[] newPt,
-	     double maxStep) {
+	     double maxStep,
+	     MinimiserStatistics stats) {
 	     final int MAX_ITER_LINEAR_SEARCH = 1000;
 	     int ret = -1;
 	     double [] tmpPt = new double[mDim];
@@ -333,7 +416,7 @@ public abstract class AbstractForceField implements ForceField {
 	
 	         for(int i=0; i<mDim; i++)
 	             newPt[i]=oldPt[i]+lambda*dir[i];
-	         mTotalEnergy = getTotalEnergy(newPt);
+	         mTotalEnergy = evaluateEnergy(newPt, stats);
 	
 	         // we're converged on the function:
 	         if (mTotalEnergy-oldVal <= FUNCTOL*lambda*slope)
@@ -0,0 +1,17 @@
+package com.actelion.research.chem.forcefield;
+
+/**
+ * An EarlyExitPolicy may stop AbstractForceField's minimiser before it has converged,
+ * e.g. to trade accuracy for throughput when minimising many conformers.
+ * Atom positions are updated as if the minimiser had converged.
+ * Policies are asked after every iteration and should not keep any state
+ * of their own, such that one policy instance can be used by many force fields
+ * and threads.
+ */
+public interface EarlyExitPolicy {
+	/**
+	 * @param statistics statistics of the running minimisation
+	 * @return true if the minimiser should stop and keep the current positions
+	 */
+	public boolean isFinished(MinimiserStatistics statistics);
+}
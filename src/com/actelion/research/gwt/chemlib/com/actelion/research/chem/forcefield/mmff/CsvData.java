@@ -3,38 +3,38 @@ package com.actelion.research.chem.forcefield.mmff;
 public class CsvData {
 
 
-public static final String angleData = "2342\nint,int,int,int,float,float\n0,0,1,0,0.000,108.900\n0,1,1,1,0.851,109.608\n0,1,1,2,0.736,109.445\n0,1,1,3,0.777,107.517\n0,1,1,4,1.006,110.265\n0,1,1,5,0.636,110.549\n0,1,1,6,0.992,108.133\n0,1,1,8,0.777,108.290\n0,1,1,9,1.136,108.194\n0,1,1,10,1.050,109.960\n0,1,1,11,1.225,108.313\n0,1,1,12,1.056,108.679\n0,1,1,13,1.078,106.820\n0,1,1,14,0.980,109.945\n0,1,1,15,0.743,107.397\n0,1,1,17,1.089,108.578\n0,1,1,18,1.093,109.315\n0,1,1,19,0.755,115.436\n0,1,1,20,1.021,108.659\n0,1,1,22,1.001,110.125\n0,1,1,25,0.803,112.356\n0,1,1,26,0.833,109.879\n0,1,1,34,1.179,106.493\n0,1,1,37,0.756,108.617\n0,1,1,39,0.927,109.170\n0,1,1,40,1.130,108.678\n0,1,1,41,0.330,98.422\n0,1,1,43,1.135,108.019\n0,1,1,45,1.197,105.028\n0,1,1,54,1.173,106.424\n0,1,1,55,1.150,107.604\n0,1,1,56,1.199,110.371\n0,1,1,57,1.012,109.900\n0,1,1,58,1.179,106.327\n0,1,1,61,1.125,109.311\n0,1,1,63,1.006,110.058\n0,1,1,64,0.988,111.064\n0,1,1,67,1.216,104.557\n0,1,1,68,1.018,107.195\n0,1,1,73,1.160,104.658\n0,1,1,78,1.012,109.850\n0,1,1,80,0.947,113.327\n0,1,1,81,1.108,109.837\n0,2,1,2,1.113,111.453\n0,2,1,3,0.667,104.829\n0,2,1,4,1.022,109.873\n0,2,1,5,0.632,110.292\n0,2,1,6,1.074,108.699\n0,2,1,8,0.884,111.553\n0,2,1,9,1.118,109.577\n0,2,1,10,1.160,107.963\n0,2,1,11,1.192,110.419\n0,2,1,12,1.070,109.410\n0,2,1,15,1.078,109.560\n0,2,1,17,1.077,109.434\n0,2,1,18,1.188,105.110\n0,2,1,20,1.053,107.448\n0,2,1,22,0.942,114.020\n0,2,1,25,0.893,106.815\n0,2,1,26,1.029,99.065\n0,2,1,34,1.066,111.817\n0,2,1,37,0.985,111.446\n0,2,1,39,1.124,109.513\n0,2,1,40,1.149,108.270\n0,2,1,45,1.232,103.978\n0,2,1,63,0.935,114.692\n0,2,1,67,1.224,104.687\n0,3,1,3,0.974,111.746\n0,3,1,4,1.019,109.850\n0,3,1,5,0.650,108.385\n0,3,1,6,0.528,104.112\n0,3,1,8,1.197,105.837\n0,3,1,9,1.201,105.535\n0,3,1,10,0.634,102.655\n0,3,1,11,1.189,110.328\n0,3,1,12,1.136,106.064\n0,3,1,13,1.147,103.645\n0,3,1,14,1.048,106.404\n0,3,1,15,1.125,107.192\n0,3,1,17,1.092,108.602\n0,3,1,18,1.120,108.119\n0,3,1,20,0.969,111.830\n0,3,1,22,0.999,110.522\n0,3,1,26,0.742,116.555\n0,3,1,34,1.141,107.871\n0,3,1,37,1.011,109.833\n0,3,1,39,1.136,108.751\n0,3,1,40,1.174,106.941\n0,3,1,41,1.033,108.216\n0,3,1,45,1.221,104.281\n0,3,1,63,1.069,107.077\n0,3,1,64,1.028,109.186\n0,3,1,81,1.167,107.327\n0,4,1,4,0.954,114.186\n0,4,1,5,0.615,111.417\n0,4,1,6,1.273,109.977\n0,4,1,8,1.099,111.063\n0,4,1,9,1.187,106.750\n0,4,1,10,1.117,110.488\n0,4,1,13,1.021,110.047\n0,4,1,15,1.028,112.432\n0,4,1,18,1.187,105.351\n0,4,1,22,1.174,102.556\n0,4,1,26,0.853,108.999\n0,4,1,34,1.148,108.160\n0,4,1,37,0.993,111.424\n0,5,1,5,0.516,108.836\n0,5,1,6,0.781,108.577\n0,5,1,8,0.653,110.297\n0,5,1,9,0.733,109.894\n0,5,1,10,0.740,107.646\n0,5,1,11,0.875,107.897\n0,5,1,12,0.698,108.162\n0,5,1,13,0.613,106.049\n0,5,1,14,0.508,113.019\n0,5,1,15,0.576,109.609\n0,5,1,17,0.634,107.944\n0,5,1,18,0.663,106.855\n0,5,1,19,0.450,113.195\n0,5,1,20,0.706,111.000\n0,5,1,22,0.618,110.380\n0,5,1,25,0.487,109.486\n0,5,1,26,0.466,111.172\n0,5,1,34,0.872,106.224\n0,5,1,35,0.644,125.663\n0,5,1,37,0.627,109.491\n0,5,1,39,0.811,106.299\n0,5,1,40,0.719,109.870\n0,5,1,41,0.525,108.904\n0,5,1,43,0.692,109.083\n0,5,1,45,0.741,105.197\n0,5,1,46,0.719,106.735\n0,5,1,54,0.874,106.973\n0,5,1,55,0.861,108.507\n0,5,1,56,0.814,108.223\n0,5,1,57,0.626,110.420\n0,5,1,58,0.750,105.481\n0,5,1,61,0.710,109.227\n0,5,1,62,0.655,113.035\n0,5,1,63,0.621,110.467\n0,5,1,64,0.622,110.457\n0,5,1,67,0.732,106.474\n0,5,1,68,0.748,103.817\n0,5,1,72,0.547,116.576\n0,5,1,73,0.633,107.153\n0,5,1,78,0.640,109.078\n0,5,1,80,0.684,105.144\n0,5,1,81,0.721,107.870\n0,6,1,6,1.156,111.368\n0,6,1,8,1.333,112.223\n0,6,1,9,1.224,116.950\n0,6,1,10,1.432,108.568\n0,6,1,11,1.593,106.900\n0,6,1,15,1.273,112.012\n0,6,1,17,1.348,108.655\n0,6,1,19,0.906,117.214\n0,6,1,20,1.293,108.202\n0,6,1,22,1.287,108.913\n0,6,1,25,1.171,103.598\n0,6,1,26,0.888,118.433\n0,6,1,34,1.257,114.975\n0,6,1,37,0.878,107.978\n0,6,1,39,1.485,106.464\n0,6,1,40,1.371,110.779\n0,6,1,41,1.333,106.467\n0,6,1,45,1.523,104.438\n0,6,1,57,1.308,108.467\n0,6,1,63,1.351,106.535\n0,6,1,64,1.238,111.308\n0,8,1,8,1.203,110.856\n0,8,1,9,1.133,114.080\n0,8,1,10,1.258,108.683\n0,8,1,12,1.217,107.251\n0,8,1,15,1.120,112.356\n0,8,1,20,1.116,109.353\n0,8,1,25,1.143,98.698\n0,8,1,34,1.138,113.412\n0,8,1,37,1.090,110.992\n0,8,1,39,1.364,104.193\n0,8,1,40,0.964,123.962\n0,8,1,41,1.234,103.868\n0,8,1,43,1.137,113.596\n0,8,1,45,1.583,96.139\n0,8,1,57,1.038,114.266\n0,8,1,63,1.104,110.598\n0,8,1,64,1.156,108.127\n0,9,1,10,1.209,110.720\n0,9,1,12,1.173,109.152\n0,9,1,15,1.024,117.465\n0,9,1,25,1.060,102.432\n0,9,1,37,1.077,111.565\n0,9,1,40,1.084,116.728\n0,9,1,80,1.163,107.509\n0,10,1,10,1.191,111.995\n0,10,1,15,1.161,110.502\n0,10,1,17,1.269,105.509\n0,10,1,20,1.220,104.838\n0,10,1,22,1.132,109.262\n0,10,1,25,1.015,104.822\n0,10,1,37,1.107,110.423\n0,10,1,40,1.264,108.536\n0,10,1,41,1.087,110.961\n0,10,1,57,1.268,103.622\n0,11,1,11,1.638,106.081\n0,11,1,15,1.254,109.517\n0,11,1,20,1.243,107.637\n0,11,1,25,1.244,97.532\n0,11,1,34,1.338,108.669\n0,11,1,35,1.556,110.367\n0,11,1,37,1.151,112.278\n0,11,1,41,1.301,105.053\n0,11,1,45,1.550,100.991\n0,11,1,73,1.303,106.569\n0,11,1,75,0.884,114.378\n0,12,1,12,1.096,110.422\n0,12,1,15,1.146,111.064\n0,12,1,18,1.299,104.827\n0,12,1,19,0.932,108.971\n0,12,1,20,1.081,108.605\n0,12,1,22,1.097,108.028\n0,12,1,25,0.989,106.118\n0,12,1,37,1.076,109.030\n0,12,1,39,1.150,110.359\n0,12,1,45,1.353,101.430\n0,12,1,63,1.071,109.474\n0,12,1,64,1.093,108.338\n0,13,1,13,1.093,111.645\n0,13,1,20,1.084,106.534\n0,13,1,22,1.068,107.469\n0,13,1,45,1.305,101.383\n0,14,1,20,1.021,107.718\n0,15,1,15,1.147,111.896\n0,15,1,25,1.059,103.308\n0,15,1,34,1.222,107.318\n0,15,1,37,1.051,110.959\n0,15,1,40,1.149,111.005\n0,15,1,41,1.263,100.981\n0,15,1,63,1.060,110.596\n0,15,1,64,1.059,110.703\n0,15,1,73,1.289,105.029\n0,17,1,37,1.065,110.049\n0,18,1,20,1.121,107.960\n0,18,1,22,1.283,101.125\n0,18,1,37,1.203,104.390\n0,18,1,45,1.287,105.273\n0,18,1,64,1.093,109.683\n0,19,1,54,0.772,119.506\n0,20,1,20,1.229,99.084\n0,20,1,37,1.052,107.428\n0,20,1,45,1.169,106.335\n0,22,1,22,0.990,111.226\n0,22,1,25,0.885,107.293\n0,22,1,34,1.045,112.940\n0,22,1,37,1.037,108.586\n0,22,1,45,1.182,106.181\n0,25,1,25,0.551,127.138\n0,25,1,34,0.779,119.271\n0,25,1,37,0.784,113.945\n0,25,1,40,1.062,102.417\n0,25,1,58,0.916,110.234\n0,26,1,26,0.625,118.700\n0,34,1,34,1.216,109.167\n0,34,1,37,1.075,111.275\n0,34,1,41,1.048,112.238\n0,34,1,63,1.077,111.412\n0,34,1,73,1.142,110.240\n0,37,1,37,0.986,111.315\n0,37,1,40,1.129,109.188\n0,37,1,43,1.074,111.478\n0,37,1,45,1.259,102.800\n0,37,1,57,0.981,112.047\n0,37,1,64,1.175,102.239\n0,37,1,68,1.100,109.983\n0,37,1,78,1.005,110.638\n0,37,1,81,1.176,107.040\n0,39,1,39,1.260,108.547\n0,40,1,40,1.182,112.005\n0,40,1,55,1.322,105.786\n0,40,1,63,1.032,114.505\n0,40,1,64,1.000,116.376\n0,41,1,41,1.082,105.400\n0,41,1,63,1.061,107.112\n0,41,1,81,1.093,110.553\n0,45,1,45,1.391,102.088\n0,0,2,0,0.000,119.400\n1,0,2,0,0.000,118.200\n2,0,2,0,0.000,120.800\n3,0,2,0,0.000,62.600\n6,0,2,0,0.000,60.500\n0,1,2,1,0.752,118.043\n0,1,2,2,0.672,122.141\n1,1,2,2,0.684,116.929\n1,1,2,3,0.698,116.104\n0,1,2,4,0.828,125.045\n1,1,2,4,0.846,121.613\n0,1,2,5,0.446,120.108\n0,1,2,6,1.160,115.518\n0,1,2,10,1.015,116.707\n0,1,2,12,0.983,115.343\n0,1,2,13,0.964,115.395\n0,1,2,15,0.939,119.465\n0,1,2,17,0.883,121.868\n0,1,2,18,0.961,117.918\n0,1,2,20,0.880,118.310\n0,1,2,22,0.873,119.114\n0,1,2,30,0.826,124.605\n1,1,2,37,0.721,116.064\n0,1,2,40,0.982,118.515\n0,1,2,45,1.121,109.921\n0,1,2,56,1.006,117.192\n1,1,2,63,0.768,127.945\n1,1,2,64,0.966,113.884\n1,1,2,67,1.115,110.185\n1,2,2,2,0.747,121.550\n2,2,2,2,0.796,126.284\n6,2,2,2,0.173,60.549\n1,2,2,3,0.545,111.297\n2,2,2,3,0.893,118.456\n5,2,2,3,0.184,59.145\n1,2,2,4,0.902,121.053\n2,2,2,4,0.889,119.794\n0,2,2,5,0.535,121.004\n1,2,2,5,0.463,118.442\n0,2,2,6,1.117,121.267\n1,2,2,6,1.204,114.538\n1,2,2,9,0.960,123.536\n2,2,2,9,1.045,116.273\n0,2,2,10,1.003,120.828\n1,2,2,10,1.026,117.324\n0,2,2,11,1.089,119.100\n1,2,2,11,1.090,116.828\n0,2,2,12,0.931,120.132\n1,2,2,12,0.957,117.526\n0,2,2,13,0.867,122.717\n0,2,2,14,0.818,122.584\n1,2,2,14,0.819,122.344\n0,2,2,15,0.931,121.553\n1,2,2,15,0.949,119.466\n0,2,2,17,0.977,117.167\n0,2,2,18,1.044,114.561\n0,2,2,19,0.668,124.721\n0,2,2,20,0.931,117.784\n0,2,2,22,0.809,126.820\n3,2,2,22,0.149,66.165\n0,2,2,25,0.700,123.830\n0,2,2,34,1.066,116.151\n0,2,2,35,0.911,137.103\n1,2,2,37,0.598,117.508\n2,2,2,37,0.817,124.229\n1,2,2,39,0.976,122.360\n0,2,2,40,0.773,126.830\n1,2,2,40,0.976,120.132\n0,2,2,41,0.432,110.442\n0,2,2,43,1.144,111.808\n0,2,2,45,1.194,109.231\n1,2,2,45,1.062,113.984\n0,2,2,46,1.005,121.534\n0,2,2,55,0.995,121.154\n0,2,2,56,1.234,108.879\n0,2,2,62,0.808,135.269\n1,2,2,63,0.948,118.277\n1,2,2,64,0.866,123.528\n2,2,2,64,0.859,121.998\n1,2,2,67,1.132,112.136\n0,2,2,72,0.770,134.269\n1,2,2,81,1.078,116.541\n2,3,2,3,0.853,120.370\n2,3,2,4,0.878,119.739\n1,3,2,5,0.487,117.291\n1,3,2,6,1.142,116.738\n2,3,2,9,1.005,117.648\n1,3,2,10,1.039,115.698\n1,3,2,11,1.150,112.876\n1,3,2,12,0.997,114.732\n1,3,2,13,0.946,116.643\n1,3,2,14,0.891,117.111\n1,3,2,15,1.023,114.635\n1,3,2,20,0.870,119.265\n1,3,2,22,0.816,123.510\n1,3,2,30,1.025,112.209\n1,3,2,34,1.099,111.723\n1,3,2,35,1.141,118.767\n2,3,2,37,0.868,119.758\n1,3,2,40,1.024,116.408\n1,3,2,41,0.855,119.505\n1,3,2,43,1.046,114.257\n1,3,2,45,1.077,112.401\n1,3,2,46,1.066,114.841\n2,4,2,4,0.832,124.158\n0,4,2,5,0.573,121.000\n1,4,2,5,0.545,120.000\n2,4,2,9,0.973,120.845\n1,4,2,15,0.906,122.447\n1,4,2,18,0.947,119.537\n1,4,2,30,0.819,126.938\n2,4,2,37,0.864,121.093\n1,4,2,40,1.083,114.355\n1,4,2,45,1.158,109.426\n2,4,2,63,0.860,122.442\n0,5,2,5,0.365,119.523\n0,5,2,6,0.589,108.757\n1,5,2,9,0.643,117.000\n0,5,2,10,0.667,114.859\n0,5,2,11,0.795,108.186\n0,5,2,12,0.622,110.650\n0,5,2,13,0.566,113.513\n0,5,2,15,0.546,119.562\n0,5,2,17,0.492,124.000\n0,5,2,18,0.548,119.053\n0,5,2,22,0.534,120.000\n0,5,2,25,0.395,124.000\n0,5,2,30,0.572,120.000\n0,5,2,35,0.682,124.164\n1,5,2,37,0.491,117.423\n1,5,2,39,0.655,115.724\n0,5,2,40,0.568,112.322\n0,5,2,41,0.294,123.706\n0,5,2,45,0.728,107.774\n0,5,2,55,0.651,116.000\n0,5,2,62,0.568,125.344\n1,5,2,63,0.550,120.000\n1,5,2,64,0.546,120.000\n0,5,2,72,0.531,122.009\n1,5,2,81,0.665,115.000\n1,6,2,9,1.214,120.520\n0,6,2,10,1.311,115.921\n0,6,2,22,1.080,120.560\n0,6,2,35,1.172,132.391\n1,6,2,37,1.198,114.441\n0,6,2,40,1.239,119.073\n0,6,2,45,1.637,102.438\n1,9,2,10,1.098,119.802\n1,9,2,15,0.915,127.574\n2,9,2,37,0.981,119.536\n1,9,2,40,0.922,130.521\n0,10,2,12,1.144,112.723\n0,10,2,15,1.078,117.519\n0,10,2,25,1.144,100.818\n1,10,2,37,1.021,117.139\n0,10,2,40,0.988,126.034\n0,10,2,41,0.951,120.000\n0,12,2,12,1.012,119.105\n0,12,2,17,1.110,114.206\n0,12,2,18,1.201,110.553\n0,12,2,19,0.704,126.646\n0,12,2,20,0.903,120.563\n0,12,2,30,0.892,122.753\n1,12,2,37,0.976,116.136\n0,12,2,45,1.076,115.543\n0,13,2,18,1.132,113.616\n0,15,2,15,0.996,123.027\n0,15,2,35,0.950,133.654\n1,15,2,37,1.007,115.757\n0,15,2,40,0.895,128.924\n0,17,2,17,1.051,117.955\n1,18,2,37,1.183,106.608\n0,22,2,22,0.841,122.108\n3,22,2,22,0.180,58.963\n1,22,2,37,0.806,124.693\n1,30,2,37,0.849,123.816\n1,35,2,37,0.991,128.032\n0,40,2,40,0.949,128.436\n0,40,2,56,1.072,120.987\n1,40,2,63,0.922,124.268\n1,40,2,64,0.955,121.881\n0,40,2,72,0.820,135.317\n0,45,2,45,1.284,108.095\n2,64,2,64,0.888,120.342\n0,0,3,0,0.000,117.300\n1,0,3,0,0.000,115.800\n4,0,3,0,0.000,90.800\n7,0,3,0,0.000,91.100\n8,0,3,0,0.000,88.900\n0,1,3,1,1.151,118.016\n1,1,3,2,1.106,116.853\n1,1,3,3,1.214,114.612\n0,1,3,5,0.808,117.280\n0,1,3,6,1.043,109.716\n0,1,3,7,0.938,124.410\n0,1,3,9,0.978,119.788\n1,1,3,9,1.038,115.132\n0,1,3,10,0.984,112.735\n0,1,3,12,1.007,113.972\n0,1,3,15,1.024,113.612\n0,1,3,16,0.949,119.986\n0,1,3,18,0.732,134.097\n0,1,3,20,0.830,120.312\n0,1,3,22,0.928,115.001\n0,1,3,35,1.058,122.808\n1,1,3,37,1.051,115.191\n1,1,3,39,1.178,107.895\n0,1,3,40,0.979,118.457\n0,1,3,41,0.897,116.681\n0,1,3,43,1.046,113.731\n0,1,3,45,1.132,109.019\n0,1,3,51,1.160,116.573\n0,1,3,53,1.052,115.065\n0,1,3,54,1.135,111.322\n1,1,3,58,1.162,108.129\n0,1,3,62,1.119,111.523\n1,1,3,63,0.909,117.001\n1,1,3,64,0.887,118.253\n0,1,3,67,1.142,110.666\n0,1,3,74,1.010,116.851\n0,1,3,75,0.646,128.037\n2,2,3,2,0.976,112.562\n6,2,3,2,0.157,62.792\n2,2,3,3,0.957,113.239\n1,2,3,5,0.901,115.350\n1,2,3,6,0.932,106.510\n1,2,3,7,0.936,122.623\n1,2,3,9,0.831,122.253\n2,2,3,9,1.120,111.408\n1,2,3,10,1.042,111.721\n1,2,3,12,0.901,120.769\n1,2,3,15,1.057,112.105\n1,2,3,16,0.881,124.850\n1,2,3,22,0.969,113.027\n1,2,3,25,0.853,109.794\n2,2,3,37,0.973,112.935\n2,2,3,39,1.197,107.592\n1,2,3,40,0.910,123.437\n1,2,3,43,1.105,111.169\n1,2,3,53,1.082,114.032\n1,2,3,54,1.012,118.588\n1,2,3,55,1.186,107.278\n1,2,3,56,1.151,108.909\n2,2,3,63,0.918,116.947\n2,2,3,64,1.033,110.084\n1,2,3,67,1.022,117.597\n2,3,3,3,0.822,121.775\n8,3,3,3,1.280,89.965\n1,3,3,5,0.943,113.762\n1,3,3,6,0.935,103.030\n1,3,3,7,0.919,117.024\n1,3,3,9,1.050,115.704\n1,3,3,10,1.129,110.421\n1,3,3,12,1.053,111.492\n1,3,3,15,1.390,97.562\n1,3,3,16,1.092,111.888\n1,3,3,20,0.977,110.910\n1,3,3,22,1.010,110.295\n8,3,3,30,1.353,87.789\n2,3,3,37,0.932,114.949\n2,3,3,39,1.237,105.384\n1,3,3,40,1.003,117.124\n1,3,3,41,0.790,124.361\n1,3,3,45,0.919,121.023\n1,3,3,53,1.170,109.169\n2,3,3,63,0.981,112.685\n2,3,3,64,0.880,118.840\n1,3,3,67,1.119,111.860\n1,4,3,6,1.269,111.750\n1,4,3,7,1.126,120.852\n1,4,3,9,1.192,109.833\n2,4,3,37,0.964,114.081\n0,5,3,5,0.594,116.699\n0,5,3,6,0.819,108.253\n0,5,3,7,0.670,123.439\n0,5,3,9,0.623,119.491\n1,5,3,9,0.638,117.168\n0,5,3,10,0.874,111.761\n0,5,3,16,0.522,124.405\n1,5,3,37,0.564,116.400\n0,5,3,40,0.959,111.684\n0,5,3,53,0.644,118.000\n0,5,3,54,0.816,115.471\n1,5,3,63,0.559,118.000\n1,5,3,64,0.566,117.000\n0,5,3,67,0.700,113.698\n0,6,3,6,1.678,109.094\n0,6,3,7,1.155,124.425\n0,6,3,9,1.275,119.478\n1,6,3,9,1.416,111.868\n0,6,3,10,1.405,112.187\n0,6,3,16,1.269,116.317\n0,6,3,20,1.182,113.581\n4,6,3,20,1.495,93.130\n0,6,3,22,1.276,110.826\n7,6,3,30,1.530,93.191\n1,6,3,37,0.808,102.881\n1,6,3,39,1.611,104.655\n0,6,3,40,1.371,113.565\n0,6,3,41,1.477,102.658\n0,6,3,43,1.330,114.183\n0,6,3,48,1.315,115.328\n0,6,3,51,1.409,120.427\n0,6,3,54,1.495,110.510\n0,6,3,62,1.421,112.542\n1,6,3,63,1.339,109.082\n1,6,3,64,1.267,111.993\n1,6,3,80,1.256,113.698\n1,7,3,9,1.147,127.084\n0,7,3,10,0.907,127.152\n0,7,3,12,0.984,130.049\n0,7,3,15,1.101,123.313\n0,7,3,20,0.713,129.492\n0,7,3,22,1.093,121.851\n1,7,3,30,0.972,129.010\n1,7,3,37,0.734,119.968\n1,7,3,39,1.352,116.727\n0,7,3,41,1.281,112.087\n0,7,3,43,1.163,124.549\n0,7,3,48,1.114,127.879\n1,7,3,54,1.288,114.184\n0,7,3,55,1.258,120.056\n0,7,3,56,1.175,123.854\n1,7,3,58,1.323,117.081\n0,7,3,62,1.129,129.349\n1,7,3,63,1.036,126.456\n1,7,3,64,1.071,124.133\n1,7,3,78,0.955,132.047\n1,9,3,9,1.119,120.094\n2,9,3,9,1.021,124.131\n0,9,3,10,1.105,120.697\n1,9,3,10,1.154,116.608\n0,9,3,12,1.056,118.046\n0,9,3,15,1.036,119.679\n1,9,3,15,1.042,118.787\n1,9,3,16,0.936,127.665\n0,9,3,17,1.035,117.902\n0,9,3,18,1.121,114.698\n0,9,3,20,0.951,120.437\n0,9,3,22,1.040,116.861\n0,9,3,25,0.955,109.442\n0,9,3,35,1.054,134.470\n1,9,3,37,0.997,119.569\n2,9,3,37,1.060,114.740\n0,9,3,40,0.844,128.078\n1,9,3,40,1.018,124.152\n0,9,3,41,1.114,112.513\n0,9,3,45,1.497,102.140\n2,9,3,54,1.244,108.056\n1,9,3,57,1.038,118.096\n1,9,3,63,1.004,120.054\n1,9,3,64,1.053,117.060\n1,9,3,80,0.959,124.150\n0,10,3,10,1.612,114.923\n0,10,3,15,1.167,112.206\n0,10,3,16,1.005,123.150\n0,10,3,18,1.299,106.052\n0,10,3,20,1.019,115.213\n4,10,3,20,1.338,92.724\n0,10,3,22,1.076,113.651\n7,10,3,30,1.438,90.508\n0,10,3,35,1.223,122.649\n1,10,3,37,1.101,112.495\n1,10,3,39,1.434,104.419\n0,10,3,40,1.093,119.697\n0,10,3,43,1.144,115.929\n0,10,3,51,1.375,114.685\n0,10,3,55,1.286,109.590\n0,10,3,56,1.200,113.168\n1,10,3,63,1.075,114.623\n1,10,3,64,1.098,113.233\n1,10,3,78,1.182,109.543\n0,11,3,40,1.296,113.244\n0,11,3,75,0.850,120.964\n0,12,3,40,1.095,115.284\n1,12,3,63,0.965,117.217\n0,12,3,74,1.110,116.502\n0,15,3,15,1.109,115.620\n0,15,3,16,0.981,124.329\n0,15,3,17,1.191,110.607\n0,15,3,18,1.061,118.034\n4,15,3,20,1.345,91.041\n1,15,3,30,1.026,113.753\n1,15,3,37,1.037,113.305\n0,15,3,40,1.066,117.388\n1,15,3,57,0.896,122.260\n0,15,3,67,1.407,102.583\n0,15,3,74,1.076,119.117\n1,16,3,30,0.991,117.695\n0,16,3,35,1.030,130.230\n1,16,3,37,0.934,121.415\n1,16,3,39,1.004,123.196\n0,16,3,62,0.963,126.347\n1,16,3,63,1.006,117.454\n1,16,3,64,1.064,114.110\n0,17,3,17,0.939,123.528\n1,18,3,37,0.948,118.188\n4,20,3,20,1.495,94.800\n4,20,3,22,1.286,89.459\n7,20,3,37,1.282,89.733\n4,20,3,43,1.384,90.526\n0,22,3,22,0.932,115.334\n4,22,3,22,1.496,83.915\n1,22,3,37,0.940,114.995\n1,25,3,37,0.677,123.404\n0,25,3,67,0.661,131.520\n2,37,3,37,0.933,115.566\n1,37,3,40,0.987,118.790\n1,37,3,41,0.864,119.565\n1,37,3,43,1.125,110.383\n1,37,3,45,1.120,110.268\n1,37,3,54,1.033,117.645\n1,37,3,62,1.085,114.132\n2,37,3,63,0.934,116.163\n2,37,3,64,0.955,114.701\n1,37,3,67,1.084,114.460\n2,39,3,39,1.231,112.582\n0,40,3,40,1.146,117.002\n1,40,3,63,0.888,126.089\n1,40,3,64,1.145,110.889\n0,40,3,75,0.790,122.163\n0,45,3,53,1.382,105.849\n1,55,3,64,1.267,104.747\n2,64,3,64,0.989,113.280\n0,0,4,0,0.000,180.000\n1,0,4,0,0.000,180.000\n0,1,4,4,0.423,180.000\n0,1,4,42,0.463,180.000\n0,2,4,2,0.442,180.000\n1,2,4,4,0.432,180.000\n0,2,4,30,0.444,180.000\n1,2,4,42,0.474,180.000\n1,3,4,4,0.427,180.000\n1,3,4,42,0.469,180.000\n0,4,4,5,0.281,180.000\n0,4,4,6,0.551,180.000\n0,4,4,10,0.486,180.000\n1,4,4,37,0.430,180.000\n0,7,4,9,0.648,180.000\n1,9,4,42,0.537,180.000\n0,15,4,42,0.487,180.000\n0,20,4,42,0.469,180.000\n0,22,4,42,0.472,180.000\n1,37,4,42,0.472,180.000\n0,42,4,43,0.541,180.000\n1,42,4,63,0.474,180.000\n1,42,4,64,0.473,180.000\n0,0,6,0,0.000,110.400\n3,0,6,0,0.000,57.900\n4,0,6,0,0.000,90.200\n0,1,6,1,1.197,106.926\n0,1,6,2,0.967,103.614\n0,1,6,3,0.923,108.055\n0,1,6,6,1.884,103.905\n0,1,6,8,1.629,105.422\n0,1,6,9,1.628,106.496\n0,1,6,10,1.656,105.317\n0,1,6,15,1.480,111.230\n0,1,6,17,1.493,111.951\n0,1,6,18,1.370,116.346\n0,1,6,19,1.093,114.943\n0,1,6,20,1.316,112.833\n0,1,6,21,0.793,106.503\n0,1,6,22,1.391,109.759\n0,1,6,25,1.095,115.581\n0,1,6,26,1.170,112.081\n0,1,6,37,1.075,102.846\n0,1,6,40,1.719,103.733\n0,1,6,41,1.454,109.046\n0,1,6,43,1.642,105.462\n0,1,6,45,1.642,105.875\n0,1,6,63,1.449,109.545\n0,1,6,64,1.512,106.848\n0,2,6,2,1.354,113.339\n0,2,6,3,0.671,98.438\n0,2,6,18,1.365,117.169\n0,2,6,25,1.025,120.078\n0,2,6,29,0.816,105.727\n0,2,6,37,1.418,110.694\n0,2,6,57,1.341,114.785\n0,3,6,3,1.455,110.067\n0,3,6,4,1.409,112.404\n0,3,6,8,1.648,105.872\n0,3,6,10,1.596,108.437\n0,3,6,18,1.274,121.468\n0,3,6,19,1.019,119.840\n0,3,6,20,1.379,111.381\n4,3,6,20,1.748,91.216\n0,3,6,22,1.328,113.491\n0,3,6,24,0.583,111.948\n0,3,6,25,1.006,121.410\n0,3,6,29,0.876,111.417\n0,3,6,37,0.614,95.300\n0,3,6,64,1.424,111.483\n0,4,6,18,1.423,115.233\n0,6,6,21,1.362,95.697\n0,8,6,21,0.832,99.409\n0,9,6,21,1.115,101.592\n0,10,6,21,0.923,99.688\n0,18,6,18,1.334,125.242\n0,18,6,33,0.812,115.364\n0,18,6,37,1.429,114.473\n0,18,6,39,1.558,114.152\n0,18,6,43,1.710,108.479\n0,19,6,19,0.642,141.096\n0,19,6,21,0.597,118.204\n0,19,6,37,0.941,124.421\n4,20,6,20,1.339,89.100\n0,20,6,21,0.944,104.587\n0,20,6,37,1.394,110.394\n0,21,6,40,1.124,101.417\n0,21,6,43,1.058,103.253\n0,21,6,54,1.175,100.000\n0,21,6,55,1.139,101.000\n3,22,6,22,0.242,58.680\n3,22,6,43,0.279,57.087\n0,24,6,25,0.607,118.533\n0,25,6,25,0.777,129.375\n0,25,6,37,1.099,115.923\n0,26,6,37,1.090,116.692\n0,29,6,30,0.986,108.000\n0,29,6,37,0.726,105.409\n0,29,6,64,0.923,108.922\n0,37,6,37,1.462,108.967\n0,37,6,58,1.607,108.274\n0,0,8,0,0.000,110.400\n3,0,8,0,0.000,58.500\n4,0,8,0,0.000,95.000\n0,1,8,1,1.090,107.018\n0,1,8,6,1.297,102.829\n0,1,8,8,1.347,105.708\n0,1,8,9,1.182,114.240\n0,1,8,10,1.307,108.079\n0,1,8,15,1.085,118.283\n0,1,8,17,1.096,117.478\n0,1,8,19,0.779,122.759\n0,1,8,20,1.221,105.873\n0,1,8,22,1.147,109.200\n0,1,8,23,0.763,109.062\n0,1,8,25,0.865,117.482\n0,1,8,26,0.926,112.630\n0,1,8,40,1.363,105.609\n0,1,8,45,1.266,110.149\n0,1,8,46,1.265,111.092\n0,6,8,6,1.776,107.296\n0,6,8,17,1.664,105.334\n0,6,8,22,1.456,107.100\n0,6,8,23,0.861,100.510\n3,8,8,8,0.230,60.000\n0,8,8,23,0.792,108.917\n0,8,8,25,1.068,110.595\n0,8,8,26,1.047,110.816\n0,9,8,23,0.832,108.864\n4,10,8,20,1.805,84.690\n0,10,8,23,0.846,106.788\n0,12,8,22,1.227,107.439\n0,15,8,19,0.845,125.674\n4,17,8,17,1.198,110.056\n0,17,8,23,0.647,116.842\n0,19,8,23,0.542,112.000\n4,20,8,20,1.103,90.370\n0,20,8,23,0.684,113.359\n3,22,8,22,0.209,57.087\n0,22,8,23,0.697,110.033\n0,22,8,25,0.896,115.361\n0,23,8,23,0.595,105.998\n0,23,8,25,0.510,117.000\n0,23,8,26,0.553,110.959\n0,23,8,34,0.808,109.000\n0,23,8,39,0.757,111.820\n0,23,8,40,0.819,108.120\n0,23,8,43,0.857,106.222\n0,23,8,55,0.868,106.000\n0,23,8,56,0.876,105.092\n0,0,9,0,0.000,111.500\n1,0,9,0,0.000,109.100\n0,1,9,3,0.878,106.409\n0,1,9,9,1.306,110.005\n0,1,9,53,1.216,113.995\n0,1,9,67,1.391,106.413\n1,2,9,3,1.242,109.856\n1,2,9,9,1.306,112.528\n1,3,9,3,1.204,111.488\n1,3,9,4,1.194,113.272\n0,3,9,6,1.579,106.872\n0,3,9,8,1.386,108.822\n1,3,9,9,1.390,108.355\n0,3,9,10,1.365,109.548\n0,3,9,12,1.373,103.303\n0,3,9,15,1.265,110.780\n0,3,9,18,1.205,114.743\n0,3,9,20,1.198,109.751\n0,3,9,25,0.873,119.927\n0,3,9,27,0.818,108.779\n0,3,9,34,1.355,108.199\n0,3,9,35,1.511,109.907\n1,3,9,37,1.185,111.663\n1,3,9,39,1.396,108.538\n0,3,9,40,1.365,109.440\n0,3,9,41,1.169,112.551\n0,3,9,45,1.369,109.796\n1,3,9,53,1.351,110.578\n1,3,9,54,1.643,98.943\n0,3,9,55,1.431,106.195\n0,3,9,56,1.375,109.289\n1,3,9,57,1.125,115.780\n1,3,9,63,1.247,109.989\n1,3,9,64,1.302,106.461\n1,3,9,78,1.323,106.641\n1,3,9,81,1.567,101.581\n0,4,9,19,0.456,161.741\n1,4,9,67,1.402,108.868\n0,6,9,67,1.794,105.043\n0,9,9,10,1.518,109.154\n1,9,9,37,1.397,108.014\n0,9,9,40,1.594,106.413\n0,9,9,62,1.390,114.417\n1,9,9,63,1.320,112.325\n1,9,9,64,1.352,109.711\n1,37,9,53,1.343,110.162\n1,37,9,67,1.296,111.871\n0,40,9,67,1.538,108.056\n1,53,9,64,1.318,111.149\n0,0,10,0,0.000,117.500\n3,0,10,0,0.000,58.900\n4,0,10,0,0.000,92.900\n0,1,10,1,1.117,117.909\n0,1,10,2,1.004,118.916\n0,1,10,3,0.821,119.600\n0,1,10,6,1.179,108.865\n0,1,10,8,1.137,116.189\n0,1,10,9,1.132,117.005\n0,1,10,10,1.247,111.009\n0,1,10,17,1.014,122.388\n0,1,10,20,0.960,119.679\n0,1,10,25,0.745,125.390\n0,1,10,28,0.552,120.066\n0,1,10,37,1.038,116.332\n0,1,10,39,1.060,120.838\n0,1,10,40,1.194,113.314\n0,1,10,41,1.031,118.033\n0,1,10,45,1.268,109.599\n0,1,10,63,0.949,122.185\n0,1,10,64,0.960,121.315\n0,2,10,2,1.146,112.878\n0,2,10,3,1.000,120.703\n0,2,10,6,1.405,111.609\n0,2,10,20,1.132,111.544\n0,2,10,28,0.638,118.553\n0,2,10,37,0.977,121.506\n0,3,10,3,0.709,120.274\n0,3,10,4,0.864,130.236\n0,3,10,6,0.960,110.133\n0,3,10,8,1.168,116.075\n4,3,10,8,1.527,93.608\n0,3,10,9,1.174,116.443\n0,3,10,10,1.184,115.377\n0,3,10,13,0.998,118.867\n0,3,10,14,0.871,124.162\n0,3,10,15,1.076,118.969\n0,3,10,17,1.132,116.612\n0,3,10,20,0.936,122.540\n4,3,10,20,1.371,93.349\n0,3,10,22,0.975,120.929\n0,3,10,25,0.794,122.157\n0,3,10,26,0.848,117.912\n0,3,10,28,0.575,120.277\n0,3,10,34,1.251,112.201\n0,3,10,35,1.395,112.633\n0,3,10,37,1.023,118.596\n0,3,10,40,1.216,113.680\n0,3,10,41,1.098,115.913\n0,3,10,45,1.212,113.447\n0,3,10,63,1.091,115.381\n0,3,10,64,1.048,117.574\n0,4,10,20,0.816,131.702\n0,6,10,28,0.829,113.214\n0,6,10,37,1.393,111.476\n0,8,10,28,0.703,117.160\n0,8,10,37,1.167,115.599\n0,9,10,26,0.847,123.206\n0,9,10,28,0.751,114.501\n0,9,10,37,1.222,113.553\n0,9,10,39,1.310,115.309\n0,10,10,28,0.735,114.715\n0,10,10,41,1.237,113.743\n0,15,10,28,0.614,119.033\n4,20,10,20,1.381,91.694\n0,20,10,28,0.555,123.394\n0,20,10,37,1.006,117.703\n3,22,10,22,0.202,58.894\n0,22,10,28,0.605,119.583\n0,25,10,28,0.447,122.785\n0,28,10,28,0.435,115.630\n0,28,10,34,0.757,113.000\n0,28,10,35,0.836,114.000\n0,28,10,37,0.628,118.227\n0,28,10,40,0.754,113.000\n0,28,10,41,0.560,128.067\n0,28,10,63,0.640,118.099\n0,28,10,64,0.643,117.575\n0,37,10,40,1.232,112.412\n0,0,15,0,0.000,97.900\n4,0,15,0,0.000,80.200\n0,1,15,1,1.654,97.335\n0,1,15,2,1.321,97.853\n0,1,15,3,1.325,97.326\n0,1,15,4,1.344,97.370\n0,1,15,9,1.725,89.814\n0,1,15,15,1.377,100.316\n0,1,15,18,1.309,101.641\n0,1,15,19,1.007,102.069\n0,1,15,20,1.366,94.913\n0,1,15,22,1.268,99.768\n0,1,15,25,0.967,104.732\n0,1,15,30,1.379,95.613\n0,1,15,37,1.439,97.111\n0,1,15,40,1.555,94.643\n0,1,15,57,1.301,98.686\n0,1,15,63,1.304,98.330\n0,1,15,64,1.306,98.066\n0,1,15,71,0.931,96.494\n0,2,15,2,1.434,95.108\n0,2,15,3,1.318,98.813\n0,2,15,4,1.426,95.780\n0,2,15,15,1.457,97.789\n0,2,15,37,1.362,96.942\n0,2,15,43,1.709,90.872\n0,3,15,3,1.402,95.424\n0,3,15,6,1.804,94.075\n0,3,15,15,1.403,99.399\n4,3,15,20,1.666,79.842\n0,3,15,37,1.308,98.541\n0,3,15,63,1.390,96.051\n0,3,15,71,0.830,97.000\n0,6,15,37,1.679,97.231\n0,8,15,8,1.444,105.143\n0,8,15,37,1.446,98.976\n0,9,15,9,1.626,98.524\n0,9,15,64,1.504,97.105\n0,10,15,15,1.415,103.715\n0,12,15,37,1.428,97.534\n0,15,15,15,1.413,104.893\n0,15,15,18,1.563,99.173\n0,15,15,37,1.361,100.790\n0,15,15,64,1.332,102.040\n0,15,15,71,0.787,99.239\n4,20,15,30,1.978,73.428\n0,20,15,37,1.361,95.589\n0,25,15,25,0.947,99.505\n4,25,15,25,1.030,87.982\n0,25,15,26,1.002,96.851\n0,25,15,37,1.172,95.428\n0,26,15,37,1.144,96.710\n4,30,15,30,1.732,79.546\n0,37,15,37,1.295,98.802\n0,37,15,63,1.379,96.197\n0,37,15,64,1.286,99.423\n0,37,15,71,0.813,96.222\n0,71,15,71,0.734,93.377\n0,0,17,0,0.000,99.400\n4,0,17,0,0.000,78.400\n0,1,17,1,1.415,93.266\n0,1,17,2,1.387,94.732\n0,1,17,3,1.430,92.852\n0,1,17,6,1.863,92.132\n0,1,17,7,1.408,107.104\n0,1,17,8,1.661,91.498\n0,1,17,10,1.547,94.839\n0,1,17,20,1.453,91.368\n0,1,17,22,1.423,92.591\n0,1,17,37,1.376,94.911\n0,2,17,2,1.313,97.901\n0,2,17,7,1.478,105.412\n0,2,17,43,1.207,108.882\n0,3,17,7,1.513,103.431\n0,6,17,6,2.164,97.766\n0,6,17,7,1.850,107.431\n0,7,17,8,1.438,113.808\n0,7,17,10,1.525,110.549\n0,7,17,20,1.442,104.737\n0,7,17,22,1.449,104.928\n0,7,17,37,1.500,104.313\n4,8,17,20,1.891,78.354\n0,8,17,37,1.687,91.169\n0,37,17,37,1.487,91.633\n0,0,18,0,0.000,104.600\n4,0,18,0,0.000,80.300\n0,1,18,1,1.230,101.166\n0,1,18,2,1.264,100.420\n0,1,18,3,1.242,100.883\n0,1,18,6,1.744,95.671\n0,1,18,9,1.438,99.465\n0,1,18,20,1.224,101.315\n0,1,18,22,1.207,101.417\n0,1,18,32,1.446,107.066\n0,1,18,37,1.234,101.070\n0,1,18,43,1.449,98.014\n0,1,18,48,1.277,106.586\n0,1,18,62,1.374,102.402\n0,2,18,2,1.254,101.492\n0,2,18,6,1.664,98.668\n0,2,18,9,1.539,96.849\n0,2,18,32,1.422,108.979\n0,2,18,37,1.263,100.489\n0,2,18,48,1.083,116.668\n0,3,18,9,1.418,100.361\n0,3,18,32,1.557,103.453\n0,3,18,43,1.350,101.747\n0,6,18,6,1.922,103.052\n0,6,18,9,1.916,97.446\n0,6,18,32,1.837,108.063\n0,6,18,37,1.528,102.229\n0,6,18,43,1.644,103.815\n0,9,18,12,1.464,101.180\n0,9,18,32,1.583,109.945\n0,9,18,37,1.358,102.378\n0,9,18,43,1.323,109.227\n0,12,18,32,1.584,103.959\n0,12,18,37,1.376,98.976\n0,15,18,32,1.497,107.170\n0,15,18,37,1.324,101.399\n0,20,18,32,1.383,109.292\n0,20,18,37,1.108,106.508\n4,20,18,43,1.831,80.297\n0,22,18,32,1.465,105.247\n0,32,18,32,1.569,120.924\n0,32,18,37,1.497,105.280\n0,32,18,39,1.804,101.600\n0,32,18,43,1.569,108.548\n0,32,18,48,1.229,126.841\n0,32,18,55,1.509,112.548\n0,32,18,58,1.592,106.139\n0,32,18,62,1.326,121.426\n0,32,18,63,1.571,103.212\n0,32,18,64,1.634,101.771\n0,32,18,80,1.400,110.401\n0,37,18,37,1.157,104.380\n0,37,18,39,1.404,99.854\n0,37,18,43,1.416,99.200\n0,37,18,48,1.330,104.466\n0,37,18,55,1.397,100.926\n0,37,18,62,1.178,110.665\n0,37,18,63,1.202,102.735\n0,43,18,43,1.545,99.905\n0,43,18,64,1.285,104.868\n0,0,19,0,0.000,108.700\n4,0,19,0,0.000,89.900\n0,1,19,1,0.616,113.339\n0,1,19,5,0.390,110.795\n0,1,19,6,0.777,113.958\n0,1,19,8,0.716,111.521\n0,1,19,9,0.779,106.380\n0,1,19,12,0.729,108.947\n0,1,19,20,0.656,108.828\n0,1,19,40,0.754,108.858\n0,1,19,63,0.699,106.924\n0,1,19,75,0.530,111.633\n0,2,19,12,0.819,102.981\n0,5,19,5,0.258,108.699\n0,5,19,6,0.520,109.677\n0,5,19,8,0.461,109.070\n0,5,19,12,0.446,106.756\n0,6,19,6,1.051,111.280\n0,6,19,12,0.968,106.022\n0,6,19,37,0.870,108.096\n0,8,19,8,0.862,108.099\n0,8,19,12,0.786,110.683\n0,12,19,12,0.879,104.597\n0,15,19,15,0.816,108.681\n4,20,19,20,0.802,89.931\n0,37,19,37,0.726,105.045\n0,0,20,0,0.000,113.200\n4,0,20,0,0.000,88.800\n0,1,20,1,0.943,113.131\n0,1,20,3,0.906,114.940\n0,1,20,5,0.417,114.057\n0,1,20,6,1.231,110.677\n0,1,20,8,1.080,111.090\n0,1,20,10,1.100,110.057\n0,1,20,11,1.173,110.993\n0,1,20,12,0.976,114.773\n0,1,20,15,1.035,111.226\n0,1,20,18,0.978,115.383\n0,1,20,20,0.502,113.313\n0,1,20,22,0.915,115.201\n0,1,20,25,0.744,116.096\n0,1,20,26,0.721,117.611\n0,1,20,30,0.908,115.220\n0,1,20,34,1.090,110.505\n0,1,20,37,0.947,112.650\n0,1,20,41,0.973,111.787\n0,1,20,43,1.087,110.187\n0,1,20,45,1.132,108.074\n0,2,20,3,0.982,111.060\n0,2,20,5,0.596,113.035\n0,2,20,6,1.139,115.851\n0,2,20,12,0.951,116.750\n0,2,20,20,0.931,114.138\n0,3,20,3,0.982,109.919\n0,3,20,5,0.624,112.989\n0,3,20,6,1.157,113.611\n4,3,20,8,1.473,87.271\n0,3,20,10,1.016,113.988\n0,3,20,11,1.184,109.849\n0,3,20,12,0.969,114.891\n0,3,20,13,1.008,110.951\n0,3,20,20,0.849,118.273\n4,3,20,20,1.524,88.961\n0,3,20,34,1.137,107.667\n4,3,20,37,1.382,85.619\n0,3,20,43,0.960,116.707\n0,4,20,5,0.584,115.078\n0,4,20,20,0.920,115.312\n0,5,20,5,0.439,109.107\n0,5,20,6,0.818,111.352\n0,5,20,8,0.728,114.011\n0,5,20,9,0.657,112.826\n0,5,20,10,0.663,112.010\n0,5,20,12,0.339,114.117\n0,5,20,15,0.562,114.339\n0,5,20,17,0.561,113.000\n0,5,20,18,0.605,111.570\n0,5,20,20,0.564,113.940\n0,5,20,26,0.472,109.722\n0,5,20,30,0.688,116.038\n0,5,20,34,0.661,112.000\n0,5,20,37,0.552,115.670\n0,5,20,40,0.682,111.331\n0,5,20,43,0.655,111.686\n0,6,20,6,1.443,114.408\n0,6,20,10,1.225,116.666\n0,6,20,13,1.162,114.868\n0,6,20,20,1.109,116.117\n4,6,20,20,1.433,93.413\n0,6,20,22,1.106,117.205\n0,6,20,30,1.144,114.705\n4,6,20,30,1.658,87.873\n0,8,20,20,1.185,105.606\n4,8,20,20,1.486,91.244\n0,8,20,26,0.874,111.782\n0,9,20,20,1.103,109.640\n0,10,20,15,1.170,109.525\n0,10,20,17,1.127,110.564\n0,10,20,18,1.404,100.845\n0,10,20,20,1.032,113.170\n4,10,20,20,1.468,87.497\n4,10,20,30,1.507,86.657\n0,10,20,37,0.963,117.360\n0,11,20,11,1.504,108.020\n0,11,20,17,1.221,109.460\n0,11,20,20,1.051,116.673\n0,11,20,30,0.997,120.309\n0,12,20,12,1.020,117.603\n0,12,20,19,0.973,105.821\n0,12,20,20,0.866,118.108\n0,12,20,30,0.887,120.399\n0,13,20,13,1.077,113.361\n0,13,20,20,0.938,115.037\n0,14,20,20,0.837,112.888\n0,15,20,15,1.094,114.048\n0,15,20,20,1.058,109.793\n4,15,20,20,1.324,90.483\n0,15,20,30,0.960,115.468\n4,15,20,30,1.447,86.726\n4,17,20,17,1.309,94.977\n0,17,20,20,0.930,116.108\n0,18,20,20,1.007,113.480\n4,18,20,20,1.355,90.185\n0,18,20,41,1.241,102.656\n0,19,20,19,0.567,122.298\n4,19,20,19,0.921,88.477\n0,20,20,20,1.008,108.644\n4,20,20,20,1.149,90.294\n0,20,20,22,0.840,119.817\n4,20,20,22,1.364,86.669\n4,20,20,25,1.181,84.818\n0,20,20,30,0.994,109.745\n4,20,20,30,1.399,85.303\n0,20,20,34,1.069,111.143\n4,20,20,34,1.382,90.128\n0,20,20,37,0.833,119.709\n4,20,20,37,1.346,86.810\n0,20,20,40,1.097,110.254\n0,20,20,41,0.922,114.408\n0,20,20,43,0.964,116.540\n4,20,20,43,1.290,92.879\n0,20,20,45,1.083,110.090\n0,22,20,22,0.866,118.829\n4,22,20,22,1.649,79.399\n4,26,20,26,0.789,96.811\n0,26,20,34,0.843,113.805\n0,34,20,41,1.070,111.943\n0,37,20,43,0.954,117.365\n0,0,22,0,0.000,116.100\n3,0,22,0,0.000,59.400\n4,0,22,0,0.000,91.600\n0,1,22,1,0.903,116.483\n0,1,22,2,0.884,118.360\n0,1,22,3,0.836,121.424\n0,1,22,4,0.900,117.720\n0,1,22,5,0.604,111.788\n0,1,22,6,1.179,113.545\n0,1,22,8,0.973,117.469\n0,1,22,17,1.070,109.087\n0,1,22,18,1.097,108.265\n0,1,22,22,0.871,118.246\n0,1,22,37,0.882,118.041\n0,1,22,43,1.014,114.899\n3,2,22,2,0.263,48.820\n0,2,22,3,0.956,114.147\n0,2,22,4,0.784,126.957\n0,2,22,5,0.573,115.869\n0,2,22,6,1.012,123.319\n0,2,22,22,0.880,118.260\n3,2,22,22,0.166,60.845\n0,2,22,45,1.009,116.146\n0,3,22,3,0.819,122.977\n0,3,22,4,0.876,119.718\n0,3,22,5,0.559,116.738\n0,3,22,6,1.184,113.646\n0,3,22,8,1.072,112.261\n0,3,22,10,0.987,117.750\n0,3,22,12,0.930,118.047\n4,3,22,20,1.267,90.869\n0,3,22,22,0.861,119.252\n4,3,22,22,1.196,93.287\n4,3,22,30,1.301,89.217\n0,3,22,37,0.852,120.464\n0,3,22,40,1.033,114.288\n0,3,22,43,1.124,109.441\n0,3,22,45,1.117,110.033\n0,4,22,5,0.560,118.000\n0,4,22,6,1.200,113.650\n0,4,22,8,0.966,119.034\n0,4,22,15,0.931,120.455\n0,4,22,22,0.877,118.890\n0,4,22,45,1.089,112.227\n0,5,22,5,0.242,114.938\n0,5,22,6,0.683,117.836\n0,5,22,8,0.621,115.758\n0,5,22,10,0.658,113.806\n0,5,22,11,0.776,108.296\n0,5,22,12,0.620,109.865\n0,5,22,20,0.623,110.000\n0,5,22,22,0.583,117.875\n0,5,22,37,0.532,119.438\n0,5,22,40,0.653,112.855\n0,5,22,41,0.519,122.000\n0,5,22,43,0.658,112.128\n0,5,22,45,0.665,112.000\n0,6,22,12,1.136,118.409\n0,6,22,17,1.328,108.583\n0,6,22,18,1.381,107.009\n0,6,22,22,1.124,115.942\n3,6,22,22,0.205,60.711\n0,6,22,37,1.093,118.170\n3,6,22,43,0.179,68.138\n0,6,22,45,1.422,108.368\n0,8,22,22,0.925,120.144\n3,8,22,22,0.176,61.507\n0,10,22,22,0.916,121.411\n3,10,22,22,0.184,60.603\n0,11,22,11,1.610,102.859\n0,11,22,22,1.062,116.086\n0,12,22,12,1.067,114.988\n0,12,22,22,0.925,117.971\n0,13,22,13,1.085,113.473\n0,13,22,22,0.908,117.606\n0,15,22,22,0.918,120.404\n0,17,22,22,1.029,111.106\n0,18,22,22,1.078,109.054\n0,20,22,22,0.812,122.430\n4,20,22,22,1.198,92.930\n0,22,22,22,0.787,124.070\n3,22,22,22,0.171,60.000\n4,22,22,22,1.225,91.653\n0,22,22,30,0.777,124.514\n0,22,22,34,0.983,116.415\n0,22,22,37,0.847,120.135\n3,22,22,40,0.178,61.163\n0,22,22,41,0.886,118.045\n3,22,22,43,0.176,61.536\n0,22,22,45,1.022,114.380\n0,34,22,41,1.008,116.095\n0,37,22,37,0.846,120.774\n3,37,22,37,0.237,51.029\n0,37,22,43,0.936,119.789\n0,0,25,0,0.000,106.500\n4,0,25,0,0.000,89.100\n0,1,25,1,1.072,99.158\n0,1,25,3,1.268,91.423\n0,1,25,6,1.394,98.288\n0,1,25,8,1.150,101.775\n0,1,25,12,1.180,98.890\n0,1,25,15,1.074,103.431\n0,1,25,25,0.852,100.707\n0,1,25,32,1.186,107.891\n0,1,25,37,0.972,104.924\n0,1,25,40,1.358,93.644\n0,1,25,43,1.190,98.760\n0,1,25,71,0.537,109.363\n0,1,25,72,0.976,111.306\n0,2,25,6,1.302,102.892\n0,2,25,8,1.022,109.148\n0,2,25,10,1.629,85.839\n0,2,25,32,0.983,120.127\n0,2,25,72,0.863,119.249\n0,3,25,6,1.277,103.026\n0,3,25,32,1.164,109.307\n0,6,25,6,1.769,99.311\n0,6,25,8,1.419,104.161\n0,6,25,9,1.403,105.407\n0,6,25,10,1.448,102.194\n0,6,25,11,1.680,99.260\n0,6,25,12,1.489,98.818\n0,6,25,32,1.501,109.688\n0,6,25,37,1.312,102.280\n0,6,25,39,1.617,97.314\n0,6,25,40,1.380,105.601\n0,6,25,71,0.844,100.242\n0,6,25,72,1.219,112.058\n0,8,25,8,1.224,105.341\n0,8,25,10,1.214,104.893\n0,8,25,11,1.411,101.655\n0,8,25,20,1.010,108.094\n0,8,25,32,1.217,114.325\n0,8,25,37,1.106,104.742\n0,8,25,40,1.265,103.617\n0,8,25,72,0.977,117.767\n0,9,25,32,1.232,114.493\n0,10,25,10,1.346,98.856\n0,10,25,32,1.273,110.640\n0,10,25,72,1.021,114.624\n0,11,25,32,1.528,106.045\n0,12,25,12,1.303,99.224\n0,12,25,32,1.305,106.320\n0,15,25,15,1.113,107.673\n4,15,25,15,1.264,93.138\n0,15,25,32,1.248,107.964\n0,15,25,72,0.933,119.729\n4,20,25,20,1.220,85.039\n0,20,25,72,0.965,111.595\n0,25,25,72,0.890,106.612\n0,32,25,32,1.248,122.857\n0,32,25,37,1.097,113.430\n0,32,25,39,1.605,99.255\n0,32,25,40,1.122,119.057\n0,32,25,43,1.257,110.308\n0,32,25,57,1.219,108.740\n0,32,25,63,1.211,108.168\n0,32,25,71,0.642,117.733\n0,32,25,72,1.050,121.823\n0,37,25,37,0.947,107.124\n0,37,25,40,0.965,112.107\n0,37,25,72,0.868,118.776\n0,40,25,40,1.496,95.270\n0,40,25,72,1.035,114.441\n0,57,25,57,1.059,102.995\n0,63,25,63,1.032,102.950\n0,71,25,71,0.419,100.483\n0,0,26,0,0.000,98.100\n4,0,26,0,0.000,83.600\n0,1,26,1,1.085,98.054\n0,1,26,8,1.263,96.331\n0,1,26,10,1.115,102.175\n0,1,26,12,1.147,98.926\n0,1,26,15,1.141,100.260\n0,1,26,20,1.075,98.171\n0,1,26,26,0.997,92.571\n0,1,26,37,1.081,98.754\n0,1,26,71,0.672,97.353\n0,6,26,6,1.833,97.935\n0,6,26,11,1.663,100.061\n0,6,26,12,1.442,99.021\n0,8,26,8,1.189,105.662\n0,8,26,12,1.028,110.069\n0,8,26,34,1.509,93.096\n0,11,26,11,1.757,94.795\n0,12,26,15,1.271,99.730\n0,12,26,34,1.508,90.565\n0,12,26,40,1.165,103.783\n0,12,26,71,0.704,96.577\n0,15,26,26,1.047,96.592\n0,15,26,40,1.543,91.164\n4,20,26,20,1.252,83.624\n0,71,26,71,0.473,94.470\n0,0,30,0,0.000,134.200\n1,0,30,0,0.000,131.800\n4,0,30,0,0.000,97.700\n7,0,30,0,0.000,92.300\n1,2,30,3,0.778,128.756\n0,2,30,15,0.805,130.439\n0,2,30,20,0.727,132.187\n0,2,30,22,0.737,131.100\n1,2,30,30,0.751,132.225\n1,3,30,4,0.721,134.566\n1,3,30,5,0.410,135.975\n1,3,30,6,0.845,137.596\n1,3,30,20,0.714,130.677\n7,3,30,20,1.280,89.957\n1,3,30,30,0.857,122.418\n7,3,30,30,1.260,93.102\n0,4,30,20,0.690,136.444\n0,5,30,20,0.390,131.835\n0,5,30,30,0.364,132.652\n0,6,30,30,0.876,139.045\n0,15,30,15,0.876,130.718\n4,15,30,15,1.239,101.359\n0,15,30,30,0.782,132.228\n4,15,30,30,1.141,100.902\n4,20,30,30,1.117,95.513\n7,20,30,30,1.191,93.909\n0,20,30,40,0.769,134.526\n1,20,30,67,0.704,138.631\n4,22,30,22,1.179,93.007\n8,30,30,30,1.230,93.732\n0,30,30,40,0.706,145.470\n1,30,30,67,0.907,125.792\n0,0,34,0,0.000,109.400\n4,0,34,0,0.000,89.400\n0,1,34,1,0.862,112.251\n0,1,34,2,1.154,109.212\n0,1,34,8,1.330,106.399\n0,1,34,9,1.166,112.989\n0,1,34,10,1.388,104.291\n0,1,34,20,1.201,106.135\n0,1,34,26,0.913,112.004\n0,1,34,36,0.576,111.206\n0,1,34,37,1.141,109.045\n0,2,34,36,0.694,112.000\n0,8,34,36,0.796,109.753\n0,9,34,36,0.793,108.649\n0,10,34,36,0.828,108.000\n4,20,34,20,1.448,89.411\n0,20,34,36,0.665,112.526\n0,22,34,36,0.694,110.000\n0,36,34,36,0.578,107.787\n0,36,34,37,0.717,108.668\n0,36,34,43,0.840,108.000\n0,0,37,0,0.000,118.800\n1,0,37,0,0.000,115.900\n3,0,37,0,0.000,64.700\n4,0,37,0,0.000,91.800\n0,1,37,37,0.803,120.419\n0,1,37,38,0.992,118.432\n0,1,37,58,1.027,116.528\n0,1,37,63,0.837,123.024\n0,1,37,64,0.821,124.073\n0,1,37,69,1.038,115.506\n1,2,37,37,0.712,119.695\n1,2,37,38,1.029,117.220\n1,3,37,37,0.798,114.475\n7,3,37,37,1.320,90.784\n1,3,37,38,1.109,112.724\n1,3,37,58,1.134,111.566\n1,3,37,69,1.119,111.916\n1,4,37,37,0.906,119.614\n1,4,37,38,1.087,114.623\n0,5,37,37,0.563,120.571\n0,5,37,38,0.693,115.588\n0,5,37,58,0.699,113.316\n0,5,37,63,0.702,121.238\n0,5,37,64,0.523,121.446\n0,5,37,69,0.794,111.638\n0,5,37,78,0.563,119.432\n0,6,37,37,0.968,116.495\n0,6,37,38,1.324,115.886\n0,6,37,64,1.139,118.868\n1,9,37,37,0.974,121.003\n1,9,37,38,1.137,117.591\n0,10,37,37,1.025,117.918\n0,10,37,38,1.088,120.135\n0,10,37,58,1.077,120.925\n0,11,37,37,1.094,118.065\n0,11,37,38,1.223,117.328\n0,12,37,37,0.950,118.495\n0,12,37,38,1.126,113.859\n0,12,37,64,1.076,111.320\n0,13,37,37,0.917,118.117\n0,14,37,37,0.861,118.045\n0,15,37,37,0.755,121.037\n0,15,37,38,1.027,119.421\n0,15,37,64,0.976,117.125\n0,17,37,37,0.930,119.408\n0,17,37,38,1.179,110.828\n0,17,37,64,0.946,118.357\n0,18,37,37,1.029,113.991\n0,18,37,38,1.278,106.908\n0,18,37,64,0.975,117.029\n0,19,37,37,0.660,125.278\n0,20,37,37,0.744,129.614\n4,20,37,37,1.217,93.425\n0,22,37,37,0.805,125.777\n3,22,37,37,0.152,64.704\n0,22,37,38,0.904,124.494\n0,25,37,37,0.718,121.600\n0,26,37,37,0.691,122.967\n0,34,37,37,1.030,116.423\n0,34,37,64,1.074,113.905\n0,35,37,37,0.964,131.858\n0,35,37,38,1.187,124.980\n0,37,37,37,0.669,119.977\n1,37,37,37,0.864,122.227\n4,37,37,37,1.380,90.193\n0,37,37,38,0.596,126.139\n1,37,37,38,1.033,117.271\n0,37,37,39,1.038,117.619\n1,37,37,39,1.078,114.622\n0,37,37,40,1.045,121.633\n0,37,37,41,0.892,119.572\n0,37,37,43,1.013,117.860\n0,37,37,45,1.114,112.337\n0,37,37,46,0.999,120.038\n0,37,37,55,1.002,120.163\n0,37,37,56,1.020,117.801\n1,37,37,57,0.881,120.932\n0,37,37,58,1.014,120.052\n1,37,37,58,1.127,112.251\n0,37,37,61,1.072,115.515\n0,37,37,62,0.941,124.384\n0,37,37,63,0.478,111.243\n1,37,37,63,0.894,120.190\n0,37,37,64,0.423,112.567\n1,37,37,64,0.912,118.973\n1,37,37,67,1.064,114.980\n0,37,37,69,0.872,116.778\n1,37,37,69,1.042,116.438\n0,37,37,78,0.974,116.439\n0,37,37,81,1.034,115.664\n1,37,37,81,1.104,111.759\n0,38,37,38,0.725,128.938\n0,38,37,40,1.024,123.755\n0,38,37,43,1.165,115.355\n0,38,37,58,0.979,128.362\n1,38,37,58,1.257,111.356\n0,38,37,62,1.148,118.349\n0,38,37,63,1.095,115.386\n1,38,37,63,1.076,114.910\n0,38,37,64,1.070,116.605\n1,38,37,67,1.289,109.610\n0,40,37,58,1.103,119.417\n0,40,37,63,0.943,122.904\n0,40,37,64,0.931,123.541\n0,40,37,78,0.931,123.604\n0,41,37,58,0.967,120.535\n0,45,37,63,1.031,116.781\n0,45,37,64,1.156,110.199\n0,45,37,69,1.248,111.041\n0,58,37,62,1.016,125.987\n0,58,37,63,1.152,112.628\n0,58,37,64,1.291,106.250\n1,58,37,64,1.108,113.166\n0,58,37,78,1.188,110.842\n0,0,38,0,0.000,113.800\n0,37,38,37,1.085,115.406\n0,37,38,38,1.289,112.016\n0,37,38,63,1.230,110.181\n0,37,38,64,1.207,111.032\n0,37,38,69,1.238,114.692\n0,37,38,78,1.118,114.813\n0,38,38,38,1.343,118.516\n0,0,39,0,0.000,120.700\n1,0,39,0,0.000,125.400\n0,1,39,63,0.854,123.380\n0,1,39,65,1.111,118.049\n1,2,39,63,0.858,130.275\n1,2,39,65,0.900,133.220\n1,3,39,63,0.900,127.045\n1,3,39,65,1.126,118.909\n0,6,39,63,1.166,122.985\n0,6,39,65,1.396,117.707\n0,8,39,63,1.000,124.868\n0,8,39,65,1.057,127.145\n1,9,39,63,0.981,127.725\n1,9,39,65,1.170,122.487\n0,10,39,63,1.109,119.788\n0,10,39,65,1.118,124.961\n0,18,39,63,1.108,117.061\n0,23,39,63,0.551,127.770\n0,23,39,65,0.752,118.352\n0,23,39,78,0.581,124.000\n0,25,39,63,0.667,134.561\n0,25,39,65,0.944,118.135\n0,37,39,63,0.900,127.009\n1,37,39,63,0.922,125.312\n1,37,39,65,1.080,121.090\n0,40,39,63,0.984,126.832\n0,45,39,63,1.056,121.641\n0,45,39,65,1.354,112.464\n0,63,39,63,1.152,109.599\n1,63,39,63,0.887,128.078\n0,63,39,64,1.004,120.577\n1,63,39,64,0.899,126.936\n0,63,39,65,1.284,112.087\n1,63,39,65,1.146,117.990\n0,63,39,78,1.300,105.800\n0,64,39,65,1.007,126.117\n0,65,39,65,1.462,116.898\n0,0,40,0,0.000,115.000\n3,0,40,0,0.000,57.800\n0,1,40,1,1.064,113.703\n0,1,40,2,0.998,118.873\n0,1,40,3,1.007,118.319\n0,1,40,6,1.421,109.742\n0,1,40,9,1.203,113.198\n0,1,40,10,1.232,111.320\n0,1,40,11,1.436,104.665\n0,1,40,12,1.202,109.320\n0,1,40,20,1.047,114.970\n0,1,40,25,0.912,114.483\n0,1,40,28,0.689,112.374\n0,1,40,30,1.024,118.604\n0,1,40,37,0.835,107.349\n0,1,40,39,1.254,110.622\n0,1,40,40,1.183,114.011\n0,1,40,45,1.223,112.226\n0,1,40,46,1.025,122.982\n0,1,40,63,1.084,114.473\n0,1,40,64,1.064,115.483\n0,2,40,2,0.997,120.651\n0,2,40,3,0.981,121.660\n0,2,40,6,1.316,115.626\n0,2,40,9,1.118,119.196\n0,2,40,10,1.142,117.260\n0,2,40,19,0.732,128.087\n0,2,40,28,0.767,111.053\n0,2,40,37,1.049,117.022\n0,2,40,39,1.192,115.106\n0,2,40,40,1.060,122.253\n0,2,40,63,1.008,120.447\n0,3,40,3,0.883,128.240\n0,3,40,8,1.259,111.557\n0,3,40,9,1.106,119.822\n0,3,40,10,1.269,111.261\n0,3,40,12,1.146,112.718\n0,3,40,15,1.105,117.871\n0,3,40,20,1.130,112.139\n0,3,40,22,1.072,114.420\n0,3,40,25,0.820,121.724\n0,3,40,28,0.700,114.808\n0,3,40,37,1.056,116.655\n0,3,40,40,1.147,117.511\n0,3,40,64,1.132,113.602\n0,6,40,28,0.889,110.000\n0,8,40,28,0.764,111.915\n0,8,40,37,1.216,112.920\n0,8,40,63,1.351,108.085\n0,9,40,28,0.774,112.549\n0,9,40,37,1.236,112.751\n0,10,40,28,0.799,109.725\n0,10,40,37,1.316,108.686\n0,11,40,37,1.546,101.687\n0,15,40,15,1.154,121.497\n3,22,40,22,0.204,57.777\n0,22,40,37,1.066,114.220\n0,22,40,63,1.126,112.006\n0,25,40,28,0.485,120.000\n0,25,40,37,0.868,117.977\n0,26,40,28,0.506,118.000\n0,26,40,37,0.812,122.336\n0,28,40,28,0.560,109.160\n0,28,40,30,0.656,119.230\n0,28,40,37,0.662,110.288\n0,28,40,39,0.789,110.951\n0,28,40,40,0.782,111.731\n0,28,40,45,0.674,120.000\n0,28,40,54,0.738,118.714\n0,28,40,63,0.670,116.188\n0,28,40,64,0.659,117.057\n0,28,40,78,0.618,119.829\n0,37,40,37,1.004,119.018\n0,37,40,45,1.376,106.579\n0,37,40,54,1.394,107.777\n0,37,40,63,1.060,116.867\n0,45,40,64,1.283,111.332\n0,45,40,78,1.410,105.678\n0,46,40,64,1.189,116.345\n0,0,41,0,0.000,118.300\n0,1,41,32,1.209,114.689\n0,1,41,72,1.024,114.936\n0,2,41,32,1.309,115.461\n0,3,41,32,1.210,114.810\n0,5,41,32,0.912,113.960\n0,6,41,72,1.319,113.899\n0,9,41,72,1.089,117.795\n0,10,41,72,1.039,121.240\n0,20,41,32,1.090,120.965\n0,22,41,32,1.079,122.748\n0,32,41,32,1.181,130.600\n0,32,41,37,1.136,118.871\n0,32,41,41,1.401,107.694\n0,37,41,72,1.035,114.919\n0,55,41,72,0.982,123.972\n0,62,41,72,1.052,120.425\n0,72,41,72,0.912,130.128\n0,72,41,80,1.094,112.175\n0,0,43,0,0.000,113.300\n0,1,43,1,1.109,110.353\n0,1,43,2,1.052,114.321\n0,1,43,3,0.938,121.050\n0,1,43,4,0.927,123.204\n0,1,43,18,1.116,115.011\n0,1,43,25,0.853,115.637\n0,1,43,28,0.646,113.739\n0,1,43,37,1.083,112.511\n0,1,43,45,1.140,115.034\n0,1,43,64,1.025,116.188\n0,2,43,18,1.227,110.268\n0,3,43,18,1.011,121.488\n0,3,43,20,1.053,113.913\n4,3,43,20,1.327,93.575\n0,3,43,28,0.626,117.464\n0,4,43,28,0.616,122.000\n0,4,43,45,1.253,112.373\n0,6,43,18,1.673,104.311\n3,6,43,22,0.279,54.827\n0,6,43,28,0.868,110.000\n0,6,43,37,1.519,105.833\n0,6,43,43,1.603,108.652\n0,8,43,18,1.511,104.036\n0,8,43,28,0.794,110.320\n0,15,43,15,1.558,103.008\n0,15,43,18,1.409,108.458\n0,17,43,18,1.367,111.904\n0,18,43,18,1.144,120.463\n0,18,43,20,0.961,123.768\n4,18,43,20,1.451,92.867\n0,18,43,22,1.171,112.379\n0,18,43,28,0.628,116.881\n0,18,43,34,1.324,111.347\n0,18,43,37,1.185,112.132\n0,18,43,43,1.379,109.036\n0,18,43,64,1.108,116.279\n0,20,43,28,0.626,115.000\n3,22,43,22,0.209,57.032\n0,25,43,28,0.468,118.274\n0,28,43,28,0.477,112.596\n0,28,43,34,0.810,110.000\n0,28,43,37,0.669,113.350\n0,28,43,64,0.658,115.293\n0,0,44,0,0.000,91.600\n0,63,44,63,1.962,88.495\n0,63,44,65,2.261,94.137\n0,63,44,78,1.738,86.270\n0,63,44,80,1.748,86.194\n0,65,44,65,1.530,101.147\n0,65,44,80,1.629,93.534\n0,78,44,78,0.903,119.401\n0,0,45,0,0.000,116.700\n0,1,45,32,1.260,118.182\n0,2,45,32,1.294,118.082\n0,3,45,32,1.343,115.589\n0,6,45,32,1.787,111.682\n0,8,45,32,1.515,115.695\n0,9,45,32,1.339,123.850\n0,10,45,32,1.578,112.194\n0,20,45,32,1.245,118.893\n0,22,45,32,1.293,117.503\n0,32,45,32,1.467,128.036\n0,32,45,37,1.298,117.857\n0,32,45,39,1.715,107.633\n0,32,45,40,1.497,116.432\n0,32,45,43,1.545,113.711\n0,32,45,63,1.335,116.765\n0,32,45,64,1.330,116.908\n0,32,45,78,1.394,114.962\n0,0,46,0,0.000,111.000\n0,1,46,7,1.440,110.492\n0,2,46,7,1.489,112.709\n0,7,46,8,1.724,109.817\n0,7,46,37,1.519,110.569\n0,7,46,40,1.650,111.405\n0,0,48,0,0.000,118.400\n0,3,48,18,1.065,122.928\n0,18,48,28,0.736,113.969\n0,0,49,0,0.000,111.400\n0,50,49,50,0.522,111.433\n0,0,51,0,0.000,111.400\n0,3,51,52,0.913,111.360\n0,0,53,0,0.000,180.000\n0,3,53,47,0.574,180.000\n0,9,53,47,0.649,180.000\n0,0,54,0,0.000,119.500\n1,0,54,0,0.000,115.700\n0,1,54,1,0.923,121.439\n0,1,54,3,0.707,124.083\n0,1,54,36,0.294,122.881\n0,3,54,6,1.376,115.398\n1,3,54,9,1.128,114.457\n0,3,54,36,0.685,119.698\n1,3,54,40,1.105,116.439\n0,6,54,36,0.826,115.000\n0,9,54,40,1.195,123.403\n0,36,54,36,0.300,113.943\n0,0,55,0,0.000,120.800\n0,1,55,1,0.951,119.946\n0,1,55,36,0.307,126.448\n0,1,55,37,1.032,117.035\n0,1,55,57,0.751,120.606\n0,1,55,80,0.972,121.082\n0,2,55,3,1.041,116.994\n0,2,55,36,0.621,120.000\n0,2,55,57,1.047,118.847\n0,3,55,9,1.053,121.298\n0,3,55,36,0.567,124.000\n0,3,55,57,0.953,123.573\n0,3,55,62,1.041,122.163\n0,6,55,36,0.833,114.000\n0,6,55,57,1.408,112.958\n0,8,55,36,0.656,122.000\n0,8,55,57,1.259,113.209\n0,9,55,57,1.001,126.373\n0,18,55,36,0.578,125.000\n0,18,55,57,1.054,122.320\n0,36,55,36,0.355,117.729\n0,36,55,37,0.623,120.405\n0,36,55,41,0.485,134.689\n0,36,55,57,0.663,119.499\n0,36,55,64,0.632,118.000\n0,36,55,80,0.684,115.880\n0,37,55,57,1.110,115.816\n0,41,55,57,0.911,126.801\n0,57,55,62,1.054,123.366\n0,57,55,64,1.026,119.465\n0,0,56,0,0.000,119.100\n0,1,56,36,0.472,123.585\n0,1,56,57,0.774,119.267\n0,2,56,9,1.181,116.311\n0,2,56,36,0.582,124.037\n0,2,56,57,1.029,118.607\n0,3,56,36,0.585,121.521\n0,3,56,57,0.885,126.567\n0,8,56,36,0.785,111.009\n0,8,56,57,1.288,110.357\n0,9,56,36,0.683,120.258\n0,9,56,57,1.186,115.661\n0,36,56,36,0.450,117.534\n0,36,56,37,0.602,120.000\n0,36,56,57,0.646,120.649\n0,36,56,63,0.579,123.766\n0,36,56,80,0.625,120.000\n0,37,56,57,1.058,115.912\n0,57,56,63,1.019,118.915\n0,0,57,0,0.000,120.900\n1,0,57,0,0.000,118.100\n0,1,57,55,1.017,117.865\n1,3,57,55,1.085,115.034\n0,5,57,55,0.674,116.747\n0,6,57,55,1.279,119.257\n1,9,57,55,0.980,128.143\n0,12,57,55,1.058,118.327\n0,15,57,55,0.983,123.646\n0,25,57,55,0.790,122.889\n1,37,57,55,0.967,121.379\n0,55,57,55,0.855,126.476\n1,55,57,63,1.016,118.800\n1,55,57,64,1.039,117.166\n0,56,57,56,1.342,120.010\n0,0,58,0,0.000,119.000\n1,0,58,0,0.000,119.900\n0,1,58,37,1.003,119.236\n0,1,58,64,0.961,121.070\n1,3,58,37,0.983,121.506\n0,6,58,37,1.371,114.370\n0,18,58,37,1.005,120.665\n0,36,58,37,0.650,118.713\n0,36,58,63,0.650,118.000\n0,36,58,64,0.620,120.051\n0,37,58,37,0.996,122.710\n1,37,58,37,1.036,118.260\n0,37,58,63,1.087,116.989\n0,37,58,64,1.061,117.942\n0,0,59,0,0.000,105.600\n0,63,59,63,1.273,106.313\n0,63,59,65,1.750,107.755\n0,63,59,78,1.713,101.179\n0,63,59,80,1.599,105.341\n0,65,59,65,1.754,107.683\n0,65,59,78,1.644,107.142\n0,65,59,82,1.864,103.624\n0,0,61,0,0.000,180.000\n0,1,61,60,0.475,180.000\n0,37,61,42,0.536,180.000\n0,37,61,60,0.484,180.000\n0,0,62,0,0.000,108.300\n0,1,62,18,1.316,109.273\n0,2,62,23,0.817,105.542\n0,3,62,3,1.318,106.821\n0,3,62,18,1.311,111.144\n0,3,62,55,1.528,102.414\n0,9,62,18,1.515,107.660\n0,18,62,37,1.229,114.618\n0,18,62,41,1.366,108.722\n0,18,62,63,1.427,106.284\n0,18,62,64,1.317,110.366\n0,0,63,0,0.000,123.300\n1,0,63,0,0.000,124.300\n0,1,63,39,0.935,121.832\n0,1,63,44,0.902,122.101\n0,1,63,59,1.175,115.253\n0,1,63,64,0.737,131.378\n0,1,63,66,0.865,127.610\n1,2,63,39,1.027,117.864\n1,2,63,59,0.987,127.524\n1,2,63,64,0.730,133.818\n1,2,63,66,0.828,132.383\n1,3,63,39,0.900,125.395\n1,3,63,44,0.935,120.481\n1,3,63,59,1.158,117.219\n1,3,63,64,0.766,130.065\n1,3,63,66,0.950,123.049\n1,4,63,44,0.848,126.602\n1,4,63,59,1.211,114.804\n1,4,63,64,0.795,127.817\n0,5,63,39,0.617,121.127\n0,5,63,44,0.393,126.141\n0,5,63,59,0.784,114.076\n0,5,63,64,0.577,131.721\n0,5,63,66,0.643,125.134\n0,5,63,78,0.482,130.000\n0,5,63,81,0.588,124.000\n0,6,63,39,1.234,120.509\n0,6,63,59,1.564,113.514\n0,6,63,64,0.951,131.301\n1,9,63,39,1.068,121.741\n1,9,63,44,0.963,124.598\n1,9,63,64,0.804,134.237\n1,9,63,66,0.912,133.020\n0,10,63,39,1.084,120.356\n0,10,63,44,1.112,115.732\n0,10,63,59,1.307,116.218\n0,10,63,64,0.867,128.750\n0,10,63,66,0.981,127.617\n0,12,63,39,1.111,114.439\n0,12,63,44,1.035,119.321\n0,12,63,64,0.838,126.226\n0,12,63,66,0.980,122.280\n0,15,63,39,1.064,117.958\n0,15,63,44,0.952,125.654\n0,15,63,64,0.813,129.284\n0,15,63,66,0.962,124.490\n0,18,63,44,1.110,116.077\n0,18,63,64,0.740,135.028\n0,19,63,39,0.647,132.369\n0,19,63,64,0.517,141.986\n0,25,63,39,0.597,139.439\n0,25,63,66,0.776,122.699\n0,35,63,59,1.351,124.475\n0,35,63,64,0.808,145.098\n0,37,63,39,1.011,132.046\n1,37,63,39,0.934,123.481\n0,37,63,44,0.764,133.930\n1,37,63,44,0.915,121.637\n0,37,63,59,1.041,124.836\n1,37,63,59,1.214,114.211\n0,37,63,64,0.679,122.881\n1,37,63,64,0.742,131.784\n0,37,63,66,0.742,140.668\n1,37,63,66,0.871,128.130\n0,38,63,39,1.022,124.814\n0,38,63,64,0.910,126.513\n0,39,63,39,0.910,131.461\n1,39,63,39,1.105,119.174\n0,39,63,40,1.112,119.261\n1,39,63,44,1.144,114.126\n0,39,63,45,1.166,115.115\n1,39,63,57,0.931,123.222\n0,39,63,58,1.042,123.231\n1,39,63,63,0.949,122.353\n0,39,63,64,0.813,107.255\n1,39,63,64,0.943,123.441\n0,39,63,66,1.012,110.865\n1,39,63,66,1.095,120.834\n0,40,63,44,0.943,125.881\n0,40,63,59,1.298,117.078\n0,40,63,64,0.845,130.865\n0,40,63,66,0.940,130.926\n0,44,63,45,1.125,114.633\n0,44,63,56,1.030,120.178\n0,44,63,62,0.991,122.899\n1,44,63,63,0.894,123.341\n0,44,63,64,0.853,108.480\n0,44,63,66,0.854,114.516\n0,44,63,72,0.915,129.129\n0,44,63,78,1.217,106.254\n0,44,63,81,1.278,108.400\n0,45,63,59,1.467,108.824\n0,45,63,64,0.940,122.725\n0,45,63,66,1.164,116.157\n0,56,63,66,0.875,134.888\n1,57,63,66,0.945,123.246\n0,58,63,64,0.965,122.522\n0,59,63,64,1.035,110.108\n0,59,63,66,1.181,115.592\n0,62,63,66,0.976,128.662\n1,63,63,64,0.776,129.499\n1,63,63,66,0.929,124.689\n0,66,63,72,0.911,129.610\n0,0,64,0,0.000,121.400\n1,0,64,0,0.000,121.700\n0,1,64,63,0.776,128.041\n0,1,64,64,0.766,128.061\n0,1,64,65,0.963,120.640\n0,1,64,66,0.952,120.685\n0,1,64,81,1.050,114.735\n0,1,64,82,1.013,117.414\n1,2,64,63,0.861,122.947\n1,2,64,64,0.816,125.433\n1,2,64,65,0.907,125.781\n1,2,64,66,1.010,118.540\n1,2,64,82,0.923,124.473\n1,3,64,63,0.828,124.890\n1,3,64,64,0.774,128.286\n1,3,64,65,0.973,120.954\n1,3,64,66,0.949,121.821\n1,3,64,81,0.995,118.754\n1,4,64,63,0.845,123.889\n1,4,64,64,0.804,126.131\n1,4,64,65,1.036,117.401\n1,4,64,66,1.010,118.254\n0,5,64,63,0.501,126.170\n0,5,64,64,0.546,127.405\n0,5,64,65,0.664,118.412\n0,5,64,66,0.699,120.478\n0,5,64,78,0.482,127.331\n0,5,64,81,0.605,120.000\n0,5,64,82,0.597,122.000\n0,6,64,63,1.112,120.985\n0,6,64,64,1.043,123.922\n0,6,64,65,1.348,115.506\n0,6,64,66,1.156,123.890\n1,9,64,64,0.959,120.924\n1,9,64,65,1.098,119.529\n1,9,64,66,1.013,123.743\n0,10,64,63,0.937,123.695\n0,10,64,64,0.893,125.735\n0,10,64,65,1.016,124.788\n0,10,64,66,1.065,121.125\n0,12,64,63,0.845,126.259\n0,12,64,64,0.869,124.058\n0,12,64,65,1.020,120.198\n0,12,64,66,0.971,122.900\n0,13,64,63,0.845,123.004\n0,13,64,64,0.883,120.111\n0,15,64,63,0.870,124.581\n0,15,64,64,0.882,123.309\n0,15,64,65,1.008,121.049\n0,15,64,66,0.990,121.826\n0,18,64,65,1.065,118.404\n0,18,64,66,1.067,118.002\n0,37,64,63,0.906,117.966\n0,37,64,64,0.854,136.087\n1,37,64,64,0.772,128.673\n0,37,64,65,0.799,134.844\n1,37,64,65,0.942,122.866\n0,37,64,66,0.845,130.337\n0,37,64,78,0.706,135.432\n0,37,64,81,0.917,124.856\n0,37,64,82,0.946,123.684\n1,37,64,82,1.000,119.086\n0,38,64,63,0.988,121.242\n0,38,64,64,0.858,129.014\n0,38,64,65,0.989,127.335\n0,38,64,66,1.022,124.454\n0,39,64,64,1.086,114.312\n0,39,64,65,1.060,122.481\n1,39,64,65,1.204,114.188\n1,39,64,66,1.170,115.157\n0,40,64,63,0.948,123.538\n0,40,64,64,0.928,123.853\n0,40,64,65,0.958,129.125\n0,40,64,81,1.035,123.154\n0,40,64,82,1.183,115.934\n0,43,64,63,0.885,126.749\n0,43,64,64,0.898,124.876\n0,43,64,65,1.024,123.706\n0,43,64,66,1.017,123.409\n0,45,64,63,0.981,120.063\n0,45,64,64,0.921,123.014\n0,45,64,65,1.276,110.521\n0,45,64,66,1.199,113.371\n0,55,64,64,0.907,124.405\n0,55,64,65,1.002,125.220\n1,57,64,65,1.020,117.950\n1,57,64,66,0.959,121.017\n0,58,64,63,1.075,115.646\n0,58,64,64,0.815,131.812\n0,58,64,66,0.978,126.562\n0,62,64,64,0.885,126.560\n0,62,64,65,1.073,121.703\n0,63,64,64,0.866,108.239\n1,63,64,64,0.827,124.584\n0,63,64,66,1.038,111.621\n0,63,64,78,1.172,105.176\n0,63,64,81,1.164,110.895\n0,63,64,82,1.395,101.902\n0,64,64,64,0.967,115.037\n0,64,64,65,0.916,113.570\n1,64,64,66,1.003,118.067\n0,64,64,78,1.194,103.479\n0,64,64,82,1.210,108.553\n0,65,64,66,1.055,115.369\n0,65,64,81,1.168,116.240\n0,66,64,66,0.932,129.624\n0,0,65,0,0.000,104.500\n0,39,65,64,1.738,101.550\n0,39,65,66,1.589,106.360\n0,39,65,82,1.740,101.208\n0,44,65,64,1.430,103.829\n0,44,65,66,1.366,110.552\n0,44,65,78,1.419,104.213\n0,59,65,64,1.788,103.452\n0,59,65,81,1.774,104.872\n0,0,66,0,0.000,106.900\n0,63,66,64,1.206,103.779\n0,63,66,66,1.406,106.735\n0,63,66,78,1.339,105.365\n0,63,66,81,1.408,106.806\n0,64,66,65,1.709,107.658\n0,65,66,66,1.932,111.306\n0,0,67,0,0.000,119.900\n1,0,67,0,0.000,116.600\n0,1,67,3,0.982,120.683\n0,1,67,9,1.178,115.581\n0,1,67,32,1.233,119.589\n0,1,67,67,1.257,111.574\n1,2,67,32,1.118,126.320\n1,2,67,67,1.231,113.438\n0,3,67,23,0.567,128.000\n0,3,67,32,1.290,120.945\n1,3,67,37,1.122,113.631\n1,9,67,30,1.142,118.899\n0,9,67,32,1.325,125.531\n1,9,67,37,1.186,115.979\n0,23,67,32,0.805,120.000\n1,30,67,32,1.370,114.854\n1,32,67,37,1.240,120.019\n0,32,67,67,1.504,117.327\n1,37,67,67,1.310,110.017\n0,0,68,0,0.000,108.800\n0,1,68,1,1.159,108.238\n0,1,68,23,0.772,107.200\n0,1,68,32,0.958,110.757\n0,23,68,23,0.650,104.892\n0,23,68,32,0.659,112.977\n0,0,69,0,0.000,120.300\n0,32,69,37,1.123,121.777\n0,32,69,38,1.486,117.217\n0,37,69,37,1.223,116.447\n0,38,69,38,1.122,125.930\n0,31,70,31,0.658,103.978\n0,0,73,0,0.000,106.600\n0,1,73,32,1.590,100.180\n0,1,73,72,1.481,96.166\n0,32,73,32,1.665,115.012\n0,32,73,72,1.326,115.134\n0,0,74,0,0.000,113.000\n0,3,74,7,1.357,113.010\n0,0,75,0,0.000,94.900\n0,1,75,3,1.138,96.779\n0,3,75,19,1.044,91.970\n0,3,75,71,0.729,95.899\n0,0,76,0,0.000,107.600\n0,76,76,76,1.434,109.889\n0,76,76,78,1.493,103.519\n0,78,76,78,1.235,109.421\n0,0,77,0,0.000,109.500\n0,32,77,32,1.652,109.472\n0,0,78,0,0.000,121.900\n1,0,78,0,0.000,126.100\n0,1,78,78,0.744,130.960\n0,1,78,81,0.938,121.477\n1,3,78,78,0.827,125.468\n1,3,78,81,0.922,123.748\n0,5,78,76,0.584,123.407\n0,5,78,78,0.546,128.000\n0,5,78,79,0.617,122.000\n0,5,78,81,0.542,109.881\n1,9,78,78,0.863,129.501\n1,9,78,81,0.991,125.857\n0,37,78,76,0.770,137.282\n0,37,78,78,0.803,128.249\n0,37,78,81,0.864,128.714\n0,38,78,78,0.844,130.617\n0,38,78,81,1.023,123.532\n0,39,78,64,0.734,138.714\n0,39,78,78,1.202,109.426\n0,40,78,76,0.930,130.150\n0,40,78,78,0.778,135.746\n0,40,78,81,1.058,121.251\n0,44,78,63,0.677,141.902\n0,44,78,64,0.663,142.589\n0,44,78,66,0.816,134.701\n0,44,78,78,1.089,111.702\n0,45,78,76,1.199,114.467\n0,45,78,78,0.915,125.050\n0,45,78,81,1.216,112.926\n0,59,78,64,0.963,128.471\n0,59,78,65,1.097,128.375\n0,59,78,78,1.443,105.916\n0,63,78,64,0.942,117.779\n0,64,78,65,0.835,131.530\n0,64,78,78,1.038,111.834\n0,66,78,78,1.030,118.376\n0,76,78,76,1.245,113.179\n0,76,78,78,1.159,111.900\n0,78,78,78,1.336,99.459\n0,78,78,81,1.302,105.130\n0,79,78,81,1.217,114.792\n0,0,79,0,0.000,103.400\n0,78,79,81,1.569,102.043\n0,79,79,81,1.625,104.857\n0,0,80,0,0.000,121.900\n1,0,80,0,0.000,128.200\n0,1,80,81,0.864,127.147\n1,3,80,81,0.886,128.181\n0,5,80,81,0.651,125.682\n0,18,80,81,1.032,120.869\n0,41,80,81,0.909,125.057\n0,44,80,55,0.918,127.755\n0,44,80,81,1.184,112.411\n0,55,80,59,1.254,120.263\n0,55,80,81,0.991,127.612\n0,56,80,81,1.003,126.038\n0,59,80,81,1.439,112.030\n0,81,80,81,1.205,108.609\n0,0,81,0,0.000,119.500\n0,1,81,63,0.996,120.129\n0,1,81,64,0.978,119.970\n0,1,81,78,0.879,126.535\n0,1,81,79,1.144,116.113\n0,1,81,80,0.895,126.324\n1,2,81,78,0.927,125.080\n1,2,81,80,0.895,128.399\n1,9,81,78,1.015,124.270\n1,9,81,80,1.106,120.028\n0,36,81,64,0.522,130.295\n0,36,81,66,0.583,128.738\n0,36,81,78,0.578,124.658\n0,36,81,80,0.575,124.787\n0,37,81,64,0.929,122.408\n1,37,81,64,0.983,119.722\n0,37,81,65,1.184,114.158\n1,37,81,65,1.281,110.477\n1,37,81,78,0.884,126.208\n1,37,81,80,0.940,123.333\n0,63,81,64,1.115,114.945\n0,64,81,65,1.075,122.099\n0,64,81,80,1.143,113.176\n0,66,81,80,1.067,122.250\n0,78,81,80,0.957,110.556\n0,79,81,80,1.379,107.936\n0,32,82,59,1.666,114.660\n0,32,82,64,1.075,131.706\n0,32,82,65,1.238,129.293\n0,59,82,64,1.563,105.660\n0,64,82,65,1.281,112.955\n";
+public static final String angleData = "\u0946&\u0089 !\u0089 !\u0089 !\u0089 !\u0086#!\u0086#\"                                                                                                                                                                                                                                                                                             !\"#&  !! !           !   !!!!\"&!\"%!\" ! !!\" ! ! !  ! !     #   !\"! !   !    !!\"! !\"\"!!\"!!!!!!!!!!!\"!!!!!\" !\"!!!\"!!\"  !           !!     !! !!   !  !!\"!   !        !    !  ! #!!!  !!  \" !$'( !!    !        !!       ! !!   \"&\"!!!!\"!!!!!!\"\"!!!!!!\"\"!\"(!!!!!!!!!!(\"\"!!!!\"\"!!!!\"    !  !   !!    !   $ '!!       !!!!     !!!   !  ! !!!!\" !  !!      !\" !  \"!!!!     $ ' !!     !!!   !     $!! !  ! !! !! !$$'$ $!! \"!!!!!!\"\"!\" !!  !\" !   ! !!!   ! !   ! !! #$                                     $                   $      ##          #$                    #    $   $  $ #            !    !!!!  !         !!   !!  !!!!! !  !  !!!! ! #$                            $       $                        $  #            $                           $               $  $   $      $                     $   $                                    $                      $                      $  $                            $     $ $                       $  $ $      $$              $ $$  $  $ $ $$ $ $ $   $  $$    #$            #     #        $ $$                           # #  # #          $ #$   # #   #  $                                                $  $                    $                      $  !$'!   !!!!!'!'     $ $$' !$( ! $             $      !#$      !!!'!!!!!          !!                     $ #        !$ ! !       ! !   ! !! !  !    !  ! !           !          !  !!!!    !!         !!    ! ! !    #                                                     #                                                        $    #          $       #                                                !    ! !                                                     ! !  !   ! !!  !  !      !                          !     !!!!!!!!!!!!          !!!!                      ! ! ! ! !   ! ! ! ! ! !       !         !    !!  !      !!!!!!!!!!!!!!           !!!                  ! !    !      !!               !!      !      !                      !    !!  !! ! !! !                              !  !!    !!                                 ! !                !!!!     ! !!!            !!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"##########################$$$$$$$$$$$$$%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%&&&&&&&&&&&&&&&&&&&&&((((((((((((((((()))))))**********+++++++++++,,,,,,,,,,,,----./////////12222234446666699999:BBBBBEEEEEEEEEGHHHHIIIM     !!!!!!!!!!!!!!!!!!!!!!!!\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"######################$$$$$$$$$$$%%%%%%%%%%%%%%%%%%%%%%%%%&&&&&&&))))******,,,,,,,,-////12666>CHHHHHM`     !!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"######################$$$$%%%%%%%%%%%%%%&&&&&&&&&&&&&&&&&&&&&&'''''''''''''''''''')))))))))))))))))))))))))*******************++,,,///////////000000012444466699EEEEEEEEEEGHHHHMW`  !!\"\"\"\"##$$$$')/46EJJJ   !!!!!!!!!!!!!!!!!!!!!!!\"\"\"\"\"\"\"##############$&()*22222333444555566899:===EE   !!!!!!!!!!!!!!!!&&&&(((()**,/11344666777777777  !!!!\"\"############################$$&))))))EEHU   !!!!!!!!!!!!!!!!!!\"\"\"\"\"\"#########################$&&(())))**/444669<<<<<<<<E  !!!!!!!!!!!!!!!!!!\"\"\"\"\"\"#######&(())*,/////449999:>EEEEg  !!!!!!!!!!\"\"\"#&&'''''((E  !!!!!!!!!!!!\"\"\"\"\"\"###&&&&&)))),,//4446@@@@@@@@@@@EEEEEEEKK  !!!!!!!!!!\"%%%%&&&((,/4E  !!!!!!!!!!!!!!!!!!!!\"\"\"\"\"#############$$%%%%%%%%%%%%%%%%&&&&&&&&((()*******++++,,,,--./////1122233444444444444444466::BE   !!!!!!!!!!!!\"\"\"\"\"\"\"\"###############$$$$$$%%%%%%%%%%%%%&&&&&&&&((**++,,--/12446666666666BEEE  !!!!!!!!!!!!!\"\"\"\"\"##&&&&&&&&&&&&(((((((()***+,,////449@@@@@@@@@EEEHHY_g  !!!!!!!!!&&&(((+,,,,//4g    \"\"\"\"\"#######$%%&////44446>>>  !!!!!!!!!\"()*446DDD    !!!!!!\"\"#####$$%%%%%%%&&&))***++,,,-.///1112223446669:BBCCEEEEEEEEEEEEEEEEEEEEEEEEEEEEEFFFFFFFFFFHHHHIMMMZZZZZ EEEEEEF  !!\"\"##&&(())**277799EEEHMM_______`a  !!!!!!!!!!!!!!!!!!!\"\"\"\"\"\"\"\"\"\"\"#############&((())**+/66699::<<<<<<<<<<EEEEMMN !!\"#%&)*46@@@EW^hh !!!!!!!!!!\"####$$&&&&&((//1222222222469<<<< ____aan !\"#&()*46@@@@@@@@ !\"''' #2 R # #)  !!!####&)D !!!!!\"\"\"####&&(()22DDDDDDEIYY !!\"\"\"##(())DDDDDEY  !#%&),/9EWWWX  !!#&2DDDEEEE ____aaa !EE !\"###)2222  !!!!!\"\"\"\"#####$$$%%%%%%%&&&))))*****,,,,////223399CCEEEEEEEEEEFFGGGGGGGGGGGGHHHHLLLLLLLLLMMMXYZ[[^__b  !!!!!!\"\"\"\"\"#####$$$$%%%%%%%&&&&)))****,,,,--////22EEEEEEEEEEFFFFGGGGHHHHHKKKKMMMMWWYYZZZ^^______`````aab GGGLLL[[ ____`a  !!!!\"\"###)))7>@@E !!!77 @@EF? !!@@ # !## lln @  !!##%%%%))EEEFFGGHHHLLLLMMM[[[_``bllnno no  !#%2ILLWWX[q !!!!!\"\"))DDDDEEEEEE_``bno@@@[`!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"################################################################################################################################################################################################################################################$$$$$$$$$$$$$$$$$$$$$$$&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&((((((((((((((((((((((((((((((((((((((((((((((((()))))))))))))))))))))))))))))))))))))))))))))))))*******************************************************************************//////////////////////////////////////////////////////////11111111111111111111111111222222222222222222222222222222222222222222222222222222222222333333333333333333333333334444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444466666666666666666666666666666666666666666666666666666666666666666666666666666666666666666666669999999999999999999999999999999999999999999999999999999999999999999999999::::::::::::::::::::::::::>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>BBBBBBBBBBBBBBBBBBBBBEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEFFFFFFFFGGGGGGGGGGGGGGGGGGGGGGGGGGGGGGGGGGGGGHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHIIIIIIIIIIIIIIIIIIIKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKLLLLLLLLMMMMMMMMMMMMMMMMMMNNNNNNPPPQQSSUUUVVVVVVVVVVVVWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWXXXXXXXXXXXXXXXXXXXYYYYYYYYYYYYYYYZZZZZZZZZZZZZZ[[[[[[[[]]]]^^^^^^^^^^^_______________________________________________________________________________________________________``````````````````````````````````````````````````````````````````````````````````````````````````````````aaaaaaaaabbbbbbbcccccccccccccccccccddddddeeeeefiiiiijjkkkkllllmmnnnnnnnnnnnnnnnnnnnnnnnnnnnnnnnnnnnnnnnnnoooppppppppppppppqqqqqqqqqqqqqqqqqqqqqqqqqqrrrrr !\"#$%&()*+,-./123469:BEGHIKMVWXYZ]_`cdinpq\"#$%&()*+,/12469:BEGHM_c#$%&()*+,-./1246:BEGHIM_`q$%&()*-/26:BE%&()*+,-./123469:BCEGHIKMNVWXYZ]^_`cdhinpq&()*+/13469:BEGHIMY_`()*,/49BEGHIKMY_`*,/9EHp*/1469EHIY+/49BCEIMik,/23469EGM_`-46M4/9BEHI_`iE46EM`V4EM69BEM9BEHZ:BEI_iEHKMY`dnqGHW_`I_qM     !\"\"#$$%&*,-/1246>EHMX_`c\"\"\"###$$%%&&))**++,,-..//1234669BCEEGHHIKMMNWX^_``chq#$%&)*+,-./46>BCEHIKMN$%%)/2>EHM_%&)*+,-/1269>CEGHIMW^_`hq)*6CEHM*/EH,/9EHI,1234>EM2/CEH1E66EEEHX_`hM`     !\"#%&'))*,/0246CEGHIKMSUVZ^_`cjk\"\"#%&'))*,/069EGHKUVWX_`c##%&')*,/046>EGHIMU_`c&')E%&'))*0EHUV_`c&'))*0446>EGHIKPSV^_`p)*,/46>EGIKPVWXZ^_`n))**,//012469CEEHHIMVY_`p*/02446>CEGHKSWX_`nHkH_j/0124>EHYcj>CEG^_`1E46EK66EEcEHIKMV^_`cGH_`kU``  $J\"$>J$J%&*E)JJJJJK_`   !\"#&()*/1234569:EHIKM_`\"#29=EY#$(*2344689=E`255552AEGK35E45EHKVW6K99EE>E`EZ   !&()*/134679:HMN&167(79:747631774767979:BGHKWX  #)Uc#)#$&()*,/249;BCEGHIMUVWXY_`nq3cc*EH^_`Ucc`   !\"#&()*149<EGHIM_`\"#&4<E#$&(()*-./14469:<BCEHIM_`4<E<E:<EG<I<4<E6<<<BCEHI_`H  !\"#$)/23469>EHY_`g\"#$/EK#&/4E_gE(E)`/E/2E`g>E99:EE>E_`gg  !\"#&'(*46E\"'K'&'(*46E4EE  !\"#&)46@EKP^\"&)@EP)@K&)@EK,@EK@E@E@EK@@EGKPWZ^_`pEGKPW^_K`  !%&(),4H_k,%&(,&,E(,,/4E  !#%&(*+,/2469:>BEIKM#%&,4#%&(*+,-44BEK%4%&()*,/124:>BEHK&*-446>>44:4/1244>E+14>,34>-44/44>>1444I3344669>>BBEEHIKKM66:BIK   !\"#$%&(126EK\"#$%&66M#$%&(*,466>EHKM%&(/6M%&(*+,46EHIKM,1266EKM6666+6,6-666666666>BEHIKMIEEK  !#&(,/9@EHKgh&(*@h&@&()*+,@EGHgh(*+4@EHh@*@h@,@//@h4hh@EGHKY_ghEHhHhY_g  !(*,/4:Eg&+,(,B+/BHg:H4g    #/46>$%&44>>44>>//>>>>Hc6>Hc  !\"()*4:DEDDDD4DDDEK    EFZ_`eEFEEFZeEFEFZ_`enEF`EFEFZEFEF`EEEF`EF`EF`EEEEEFEEE`EFEEEFFGGHIKMNWXYZZ]^__``ceenqqFHKZZ^__`cZ_`nZ_`e^_``n EF_`enF  _a_a_a_a_a_a_a__an_a__a__a__``aanaa  !\"#&)*+,49<>EGHMN_`\"#&)*3<EGH_#()*,/469<EH`<<E_<E<EE/6E_<E<E<>EGHMV_`nEMV_`n` @h@@@hhh@@@EIhhhhp !\"#$29<EM`2244<<M26<EK2</222446<BEK`<6<<BE` _anpapn @@@@@@@@@@EGHK_`n ''(EH 2< R T OO  !#D&)DHDHD !DEYp#DY)DY^DYDYYDYDEIY`pYY^` DY)DYDYDYDYDEY_pY_  WWWWWWWWWW_`X  E`EEEE_`EE_` _anpanr \\J\\ 27#2W2EI_`  GL[`bG[`bGL[`bL[`GL[`bnqG[`GL`bGL[`bGL`bGL`bL`G`Gb[`GGLL[[``bbG`GGHLMYZ_``bbL[`bMX^_`bhnq[`bbb``bb`bh  _`abqr_`abr_`abq_`ab_`abnqr_`ab`ab_`ab_`ab_`_`abab_``aabnqrr_`ab`aab_`aqr_`ab_`ab`aab_`b`a``bnqr`abnrbqb `br`bn`q `bnqab  #)@c@c7@E>@E@@Ecc !7@7@ EFEF? @h@h ' #3g lnn @  nqnqlnoqnqlnqnq`nlnq_`bnlnq`an`annlnnqq qq  qqqqqWq[qqqq _`nopnpnp`bnp``aanp`apppp[`a`a \u0373\u0300\u0329\u040e\u029c\u0400\u0329\u0490\u043a\u04e9\u0440\u0456\u03f4\u0307\u0461\u0465\u0313\u041d\u0409\u0343\u0361\u04bb\u0314\u03bf\u048a\u016a\u048f\u04cd\u04b5\u049e\u04cf\u0414\u04bb\u0485\u040e\u03fc\u04e0\u041a\u04a8\u0414\u03d3\u0474\u0479\u02bb\u041e\u0298\u0452\u0394\u047e\u04a8\u04c8\u044e\u0456\u0455\u04c4\u043d\u03ce\u039d\u0425\u044a\u03f9\u0484\u049d\u04f0\u03c7\u04e8\u03ee\u041b\u02aa\u0230\u04cd\u04d1\u029a\u04c5\u0490\u049b\u0438\u0485\u0464\u0480\u03e9\u0407\u0306\u0495\u0413\u0490\u04b6\u0429\u04e5\u044d\u0424\u04af\u03da\u0287\u0519\u046b\u04c3\u047d\u041d\u0424\u04c3\u04b6\u0375\u049c\u0401\u0224\u032d\u02ad\u02fd\u0304\u038b\u02da\u0285\u021c\u0260\u029a\u02b7\u01e2\u02e2\u028a\u0207\u01f2\u0388\u02a4\u0293\u034b\u02ef\u022d\u02d4\u0305\u02ef\u038a\u037d\u034e\u0292\u030e\u02e6\u02af\u028d\u028e\u02fc\u030c\u0243\u0299\u02a0\u02cc\u02f1\u04a4\u0555\u04e8\u05b8\u0659\u0519\u0564\u03aa\u052d\u0527\u04b3\u0398\u0509\u038e\u05ed\u057b\u0555\u0613\u053c\u0567\u04f6\u04d3\u048d\u050a\u04e1\u0480\u047c\u0497\u0492\u0462\u0574\u03e4\u04f2\u0491\u064f\u042e\u0470\u04a4\u04d9\u04b5\u0420\u0444\u0455\u045c\u04ab\u04c7\u04a9\u0515\u04e4\u048c\u0417\u0473\u0510\u045f\u0514\u0686\u0506\u04fb\u04fc\u055a\u0634\u049f\u0535\u062e\u0537\u0394\u0468\u049a\u0533\u03c4\u0459\u0469\u03fd\u0454\u049e\u0569\u044f\u0465\u0465\u045c\u044c\u0539\u041d\u049b\u0443\u04e6\u043b\u049d\u050f\u0444\u0443\u0529\u0449\u0481\u0523\u04d3\u0527\u0465\u0324\u04ed\u043c\u04b1\u03fe\u0395\u0435\u042d\u04be\u0247\u032b\u0330\u0446\u03b4\u0291\u04e0\u0453\u0438\u0455\u0496\u03fa\u0489\u0452\u050b\u03f5\u04b7\u046c\u040d\u04b8\u050c\u04be\u054a\u0428\u0408\u045a\u0445\u0465\u058f     \u0310\u02c0\u02cc\u02da\u035c\u036e\u01de\u04a8\u0417\u03f7\u03e4\u03cb\u0393\u03e1\u0390\u0389\u035a\u02f1\u03f6\u0481\u040e\u0320\u03e6\u047b\u030b\u033c\u00cd\u0241\u039d\u00d8\u03a6\u0399\u0237\u01ef\u047d\u04d4\u03e0\u0435\u040b\u0422\u0461\u0462\u03c3\u03dd\u0383\u0352\u0353\u03c3\u03d5\u03f1\u0434\u02bc\u03c3\u0349\u00b5\u02dc\u044a\u03af\u0276\u0351\u03f0\u0325\u03f0\u01d0\u0498\u04ca\u0446\u040d\u0403\u04f2\u0348\u03d4\u0382\u037b\u048c\u0322\u0456\u0375\u038e\u0207\u0496\u040d\u042f\u049e\u0405\u03d2\u039b\u041f\u0386\u0350\u0421\u046b\u0495\u0384\u0420\u0377\u0436\u0455\u044a\u0360\u025d\u0241\u03ed\u03aa\u03d3\u0353\u0380\u045b\u04a6\u037c\u018d\u026d\u02a3\u02bb\u033b\u028e\u0256\u0242\u020c\u0244\u0236\u01ab\u025c\u02ca\u020b\u02af\u0258\u0146\u02f8\u02ab\u0258\u0246\u0242\u0233\u02b9\u04de\u053f\u0458\u04b4\u04ce\u04f7\u0685\u046a\u03b3\u03f5\u03ba\u0498\u0456\u0498\u041d\u03fc\u03d7\u0414\u0476\u04d1\u02e0\u03a7\u039c\u03f0\u0454\u048c\u0404\u03d6\u040f\u039f\u043b\u04bf\u0369\u00d4\u0346\u0371\u03ff\u03d5\u0450\u03ba\u03db\u0354\u0524\u0398     \u049f\u0472\u04de\u0348\u0433\u03ca\u03f2\u042e\u03f8\u040f\u0420\u03d5\u02fc\u035e\u03c0\u0442\u043b\u04ba\u03f3\u03a1\u0436\u048c\u04a8\u043c\u048f\u04aa\u047f\u03ad\u0397\u0496\u0412\u02a6\u03f0\u00bd\u03dd\u03a5\u03c4\u03c8\u035f\u0480\u0432\u03a5\u0441\u0391\u03e9\u0375\u03ed\u04cd\u03ae\u0471\u045a\u0414\u04c2\u049f\u03b6\u0429\u041e\u0356\u0520\u03cf\u03c7\u03b7\u043a\u0489\u043d\u058e\u0464\u03f1\u0412\u0569\u03c4\u04f5\u040b\u0336\u03b7\u04b2\u03f5\u0390\u047f\u0515\u0486\u04c8\u03e4\u0272\u0353\u02be\u028f\u029e\u038a\u022a\u0254\u03df\u02a4\u0350\u024f\u0256\u02dc\u06ae\u04a3\u051b\u05a8\u059d\u0515\u04be\u05f7\u051c\u061a\u0348\u066b\u057b\u05e5\u0552\u0543\u05a1\u05f7\u05ad\u055b\u0513\u0508\u049b\u03ab\u03f8\u046d\u02e9\u0465\u03ec\u02fe\u0568\u0521\u04ab\u047a\u0528\u050a\u04b7\u054b\u0489\u042c\u044f\u03db\u047f\u041d\u0471\u04a2\u0440\u042c\u0432\u03c8\u042b\u0481\u03d7\u0430\u03db\u043e\u0405\u0444\u036c\u041a\u047a\u05f9\u04fc\u042e\u040c\u043d\u03df\u066c\u04af\u040d\u0533\u041b\u055a\u0454\u05be\u04e7\u046d\u05ba\u0465\u0498\u057f\u0526\u04d0\u0453\u046a\u04be\u0530\u0372\u0467\u03e5\u0476\u0475\u03f5\u04c7\u0445\u0561\u0422\u042d\u044a\u03a0\u059f\u0454\u03ff\u0426\u03c6\u040c\u03e3\u040e\u0448\u03cb\u03d4\u05f7\u0526\u0522\u0588\u03c4\u05f8\u03cc\u02c5\u02b5\u03c5\u03fb\u0380\u0485\u0480\u0429\u045d\u03c6\u03db\u045c\u04ef\u049a\u0398\u0499\u0336\u0586\u0513\u03fd  \u01c7\u01ef\u01da\u01d0\u01dc\u01fa\u01cb\u01f5\u0139\u0247\u0206\u01ce\u02a8\u0239\u0207\u01f5\u01f8\u01f8\u023d\u01fa\u01f9   \u04cd\u03e7\u03bb\u077c\u067d\u067c\u0698\u05e8\u05f5\u057a\u0465\u0544\u0339\u058f\u0467\u04b2\u0453\u06d7\u05ce\u068a\u068a\u05c9\u0608\u056a\u02bf\u0575\u0421\u0350\u05aa\u055d\u05cf\u05a1\u0690\u065c\u051a\u041b\u0583\u06f4\u0550\u0267\u040e\u038c\u0286\u05b0\u05af\u0572\u0360\u047b\u03bb\u0556\u034c\u05b5\u0636\u06ce\u02a2\u0275\u03cd\u055b\u03d0\u0592\u0484\u0442\u04b7\u0493\u0112\u0137\u027f\u0329\u046b\u0462\u03fa\u02f6\u03bb\u05d6\u0667   \u0462\u0531\u0563\u04be\u053b\u045d\u0468\u032b\u04e5\u049b\u031b\u0381\u03be\u0573\u0512\u0511\u0710\u06a0\u05d0\u037d\u0106\u0338\u044c\u0437\u0360\u072d\u036e\u04eb\u036d\u04ce\u02a7\u023e\u046f\u02cc\u00f1\u02d9\u03a0\u0273\u021e\u0249\u0348\u0315\u0353\u0379\u0384\u038c  \u038e\u053a\u04e0\u058f\u04fa\u053a\u04d4\u04ca\u064b\u058a\u058e\u0575\u057d\u0511\u04d5\u04ce\u0389\u0352\u056b\u0607\u04c1\u0594\u0575\u04b1\u0579\u0567\u068b\u05b7\u057f\u0485\u04ff\u0536\u054b\u063f\u01e8\u059a\u0722\u060e\u0595\u065a\u058e\u0548\u0568\u055f\u0530\u0622\u0546   \u047d\u040c\u0355\u04bb\u0491\u048c\u04ff\u0416\u03e0\u0309\u0248\u042e\u0444\u04ca\u0427\u0514\u03d5\u03e0\u049a\u0408\u059d\u048c\u029e\u03f1\u02e5\u0380\u03e0\u04b0\u0617\u04b6\u04c0\u0406\u0387\u0454\u048c\u03c8\u057b\u03ef\u033a\u0370\u025f\u0503\u0593\u041f\u04e0\u046a\u04dc\u0463\u0438\u0350\u035d\u0591\u02df\u04af\u036f\u030f\u04e6\u053e\u02ff\u04f5\u0286\u0585\u024b\u040e\u00ea\u027d\u01df\u01d3\u0315\u0364\u0294\u0312\u0250\u02a0\u02a3\u04f0  \u0696\u0549\u054d\u0560\u06dd\u0581\u053d\u040f\u0576\u0514\u03e7\u0583\u05bf\u0633\u0535\u0538\u053a\u03c3\u05ba\u0546\u05b2\u05d1\u0572\u06cd\u059a\u072c\u059b\u06a2\u053c\u058e\u035e\u06af\u05c4\u05c6\u067a\u0600\u05a7\u05b4\u05a5\u063b\u0571\u0554\u0333\u07da\u0571\u03d3\u0426\u040a\u04b4\u0498\u06e4\u052f\u0583\u0526\u034d\u02fe  \u05a7\u058b\u05b6\u0767\u05a0\u069d\u062b\u05cd\u05af\u0580\u0541\u05e6\u04d7\u0609\u0894\u075a\u05be\u0615\u05c2\u05c9\u05fc\u0783\u06b7\u05ef  \u04ee\u0510\u04fa\u06f0\u05be\u04e8\u04d7\u05c6\u04f2\u05c9\u051d\u057e\u0506\u06a0\u0623\u05ae\u050f\u045b\u05aa\u0635\u0566\u07a2\u079c\u074d\u0618\u068c\u05d8\u064f\u056e\u054b\u0650\u0580\u05f9\u054c\u0587\u0474\u0747\u05d9\u0641\u05f9\u072c\u0641\u04ed\u0605\u0658\u054e\u0643\u0682\u0598\u04a5\u059c\u05a8\u0552\u0595\u04ba\u04d2\u0629\u0525  \u0288\u01a6\u0329\u02ec\u032b\u02f9\u02b0\u0312\u02db\u0232\u0353\u0122\u0228\u01ed\u01de\u043b\u03e8\u0386\u037e\u0332\u038f\u0350\u0342\u02f6  \u03cf\u03aa\u01c1\u04ef\u0458\u046c\u04b5\u03f0\u042b\u03f2\u0216\u03b3\u0308\u02f1\u03ac\u0462\u03d3\u03ed\u045f\u048c\u03f6\u0274\u0493\u03d7\u03c3\u03f6\u0290\u04a5\u05e1\u0418\u04c0\u03e9\u0410\u0371\u0614\u0491\u0586\u03e0\u0268\u03b8\u01d7\u0352\u02f8\u02b1\u02b7\u0173\u0252\u0251\u027d\u0254\u01f8\u02d0\u02b5\u0248\u02ca\u02af\u05c3\u04e9\u04aa\u0475\u05b9\u0472\u0498\u069a\u04c1\u05ee\u038a\u046f\u04b2\u0487\u059c\u0428\u05dc\u0603\u03e3\u0600\u04e5\u043b\u0405\u041c\u03ed\u0382\u0397\u0455\u03ca\u0365\u0466\u0442\u054c\u03e0\u05c7\u053d\u03c2\u040f\u056b\u04f9\u0257\u03b9\u0410\u049d\u0368\u0574\u04bd\u0402\u0597\u044d\u0586\u0361\u0562\u0469\u03ba\u03e4\u052a\u045b\u0382\u0691\u0335\u036b\u044e\u03da   \u03a7\u0394\u0364\u03a4\u027c\u04bb\u03ed\u044e\u0469\u0387\u0392\u0416\u0127\u03dc\u0330\u025d\u0414\u0390\u00c6\u0411\u0353\u038c\u024f\u04c0\u0450\u03fb\u03c2\u0513\u037d\u04cc\u0535\u0374\u0429\u0484\u047d\u0250\u04d0\u03e6\u03c3\u038d\u0461\u0112\u02cb\u028d\u02b2\u0328\u028c\u028f\u0267\u0234\u02ad\u0227\u02b2\u02b9\u0490\u0550\u0585\u0484\u00ed\u0465\u00d3\u05ae\u03bd\u00d0\u03b4\u00d8\u066a\u0446\u044b\u03bd\u045d\u03ac\u03b6\u0425\u0456\u034c\u04ce\u0333\u00cb\u04e9\u0329\u03f7\u036f\u00d2\u0396\u00d0\u041e\u0410\u036e\u010d\u03c8  \u0450\u0514\u0592\u049e\u04bc\u0452\u0374\u04c2\u03ec\u056e\u04c6\u0239\u03f0\u0536\u041e\u067d\u03f7\u037f\u051d\u04ac\u0709\u05ab\u059b\u05c8\u06b0\u05f1\u05fd\u0540\u0671\u0584\u036c\u04e3\u04e8\u04de\u05a3\u0412\u04e1\u0472\u0511\u03f1\u04f0\u0562\u0519\u041d\u0618\u0537\u0539\u0479\u0510\u0500\u03c5\u04e4\u03e5\u039a\u0500\u0469\u0665\u0482\u0509\u04e3\u04db\u02a2\u043a\u03d3\u03e5\u0384\u05f8\u042b\u0443\u0428\u01c3  \u045d\u050f\u047b\u049b\u0495\u0453\u0405\u0459\u02c0\u0749\u069f\u05c2\u04c5\u0424\u0605\u06fd\u0517\u0604\u04ad\u02e0\u0437\u0627\u0504\u01f9    \u032a\u0345\u02f7\u0301\u030f\u02f1\u01ba\u036d\u02ea\u0520\u0379\u050c\u02d2\u01a6\u018c\u038c\u038c\u04f7\u032e\u0495\u047d\u04c7\u0321\u02e0\u04bb\u04ee\u02e2\u03ab  \u037e\u04a2\u0552\u04ae\u058c\u04d1\u03b1\u0260\u0495\u02d6\u033c\u0339\u035c\u05c8\u02b9\u02d6\u0262\u02ed\u0368    \u0343\u0400\u0423\u0365\u0355\u042e\u02e8\u0425\u033e\u0548\u0475\u048e\u047f\u03aa\u045f\u0253\u02d5\u02db\u02de\u022b\u033a\u0253\u03e8\u054c\u0493\u03ee\u0491\u0421\u0460\u0455\u0466\u04e7\u03d6\u0486\u0454\u03b5\u037d\u0313\u0423\u03f0\u03c2\u04bb\u03d2\u0425\u051e\u03ef\u02b4\u0308\u04e1\u0345\u00b8\u03a8\u02ee\u02d3\u0426\u0452\u03e4\u04c3\u02bd\u0380\u0584\u0274\u0429\u042e\u0456\u0435\u039c\u0415\u047a\u0407\u040a\u041c\u0391\u0416\u0487\u0450\u03cd\u01fe\u039e\u01c7\u03b0\u0448\u0388\u0432\u03ee\u042a\u0470\u02f5\u0420\u04ad\u03f3\u0509\u049c\u0467\u0454\u044e\u0529\u046f\u03cf\u03c3\u03c3\u03e7\u0427\u04a4\u0500\u0418\u04a0\u052b\u0474\u04c4 \u045d\u0529\u04ee\u04d7\u04f6\u047e\u055f  \u0376\u0477\u037a\u03a4\u03a4\u0486\u04ae\u0594\u0408\u0441\u03f5\u04b2\u0475\u047e\u0474\u0247\u0310\u0265\u02bb\u03d0\u03a4\u03ba\u0458\u03f8\u0440\u056a\u04a0\u0397\u040c\u03a3\u0524\u049a\u0534\u040f\u05d6  \u0448\u0406\u040f\u05ad\u04d3\u04f0\u05bc\u04d2\u0437\u03b0\u02d1\u0420\u0363\u0506\u04bf\u04e7\u0421\u045c\u0448\u0405\u03f5\u0544\u047e\u0496\u02fc\u031f\u0439\u04c8\u0444\u0410\u0393\u050b\u0472\u0515\u049a\u0471\u048a\u0450\u0354\u02dc\u0440\u049b\u048c\u0399\u031c\u04e0\u0567\u0326\u04f4\u033f\u0544\u062a\u04a2\u00ec\u044a\u0486\u0205\u0384\u021a\u034c\u0250\u02b0\u02b6\u0335\u032e\u02c2\u0302\u02be\u02b3\u028a\u040c\u0580\u0592\u0444\u0523\u05a2\u04c5 \u04d9\u0420\u053d\u04da\u03b0\u0547\u0461\u042f\u0462\u0457\u04bd\u0490\u0599\u042b\u03f6\u043c\u03b0\u0466 \u0475\u043c\u03ca\u03bf\u047c\u0375\u02a6\u045b\u0494\u0421\u04eb\u0413\u043d\u054f\u0292\u0288\u0505\u06a9\u0137\u0384\u060f\u0663\u0607\u033a\u0636\u05a1\u0577\u0498\u03e1\u05cb\u04b3\u0294\u054c\u04c1\u0583\u0474\u0292\u00f1\u01f4\u01fd\u034a\u02bd\u02b2 \u07ca\u08f5\u06ea\u06f4\u061a\u067d\u03a7 \u050c\u052e\u055f\u071b\u060b\u055b\u064a\u04fd\u052d\u05db\u0532\u06d3\u05f9\u0629\u0557\u0552\u0592 \u05c0\u05f1\u06dc\u060f\u0692 \u0449\u0300 \u022a \u03b1 \u025e\u02a9  \u03bb\u02e3\u0146\u0580\u0488\u02cd\u0471\u035a\u04cb\u014c \u03d7\u0153\u0428\u030f\u03ec\u0431\u028d\u0437\u043d\u0257\u03d9\u0431\u0361\u05a0\u02b0\u050b\u0409\u0262\u043e\u0183\u028f\u0205\u02b7\u0298\u02cc\u0476\u03af\u043e\u0422 \u01f8\u0326\u04bd\u0266\u0425\u0269\u0395\u0331\u0528\u02cb\u04c2\u01e2\u027a\u02a6\u0263\u0291\u0442\u041b  \u0419\u045d\u02c2\u051f\u03f4\u0442\u03f7\u0336\u03e7\u0377\u0418\u042f\u055e  \u040b\u03e1\u03f7\u057b\u040d\u02aa\u02aa\u028c\u0404\u042c\u045f\u0445 \u0519\u06f6\u06d1\u065f\u06fa\u068c\u0768 \u01fb\u0238\u0204 \u0544\u0351\u0546\u053f\u0618\u060b\u04ed\u0576\u05b3\u0545  \u03c7\u03a6\u04b7\u0301\u0381\u0423\u03fb\u02fa\u035c\u03a4\u03c7\u04a6\u031e\u03d6\u0370\u04db\u033b\u0289\u01a9\u0330\u0261\u02a3\u0202\u026c\u04f2\u063c\u03d7\u044c\u03e3\u0344\u03b0\u045c\u0478\u053b\u0383\u03f5\u0477\u042b\u0366\u03f4\u0448\u03d8\u034d\u03e2\u0476\u0304\u02a7\u0225\u0275\u0328\u0567\u0348\u0413\u03c6\u031c\u03b3\u0431\u04de\u02c7\u0306\u0306\u0387\u041e\u03ae\u03ae\u0471\u0478\u0498\u04ae\u03c3\u0432\u03d5\u034d\u03cf\u0414\u0467\u03cf\u0532\u036d\u03cc\u0485\u0426\u03ff\u039e\u0375\u0376\u03b3\u04e1\u051e\u05db\u03cc\u04ac\u038b\u03d1\u03e5\u042b\u04bd\u03f0\u0328\u03c1\u03af  \u0328\u031e\u03e3\u03d8\u043a\u0415\u037d\u0350\u03ab\u0412\u03bb\u035c\u0326\u03ed\u03d5\u0403\u036d\u0344\u042c\u0412\u0215\u0242\u02b8\u02db\u0202\u027d\u0275\u0478\u0433\u0564\u04a4\u03df\u046a\u0415\u03c9\u039d\u0418\u0449\u036d\u0385\u041c\u03eb\u036d\u0393\u0386\u0392\u0410\u03fe\u0449\u044b\u03aa\u0376\u0324\u033f\u03ce\u036d\u02e2\u03b5\u03d2\u0408\u03fc\u037a\u03fd\u041e\u045e\u0444\u04d4\u04b2\u03d4\u03c0\u03de\u042b\u04bf\u0395\u03a2\u0420\u0419\u03f5\u03b9\u051c\u04cf\u03ab\u040a\u041c\u03df\u0453\u034f\u03f2\u0395\u0451\u0382\u035b\u042e\u04b4\u04ac\u0593\u03e7\u03b4\u040b\u04ca\u04da\u043f\u04b0\u03c4 \u06ea\u0655\u06ec\u05b6\u0576\u05ab\u071c\u070e \u04d6\u059e\u055b\u05a0\u06cd\u07ac  \u03f6\u04ba\u04f1\u0509\u047e\u04ef\u0257\u052a\u0482\u0496\u054d\u04c2\u0345\u057a\u04f8\u0600\u053e \u04a7\u0324\u03de\u02aa\u02b3 \u0483\u05ee\u04e7\u0482\u02b2 \u0656\u05e9\u06a1\u054e \u056d \u0492\u0434\u02f9 \u05ba\u05f5\u04f3 \u0694  \u0308\u03ca\u035b\u03ba\u0268\u0242\u0289\u023e\u037f\u03ff\u0322\u0343\u0380\u036c\u041f\u02fe\u04d2\u03c2\u032a\u0442\u02c5\u02b7\u0350\u0461\u04cf\u03b3\u04e0\u03e3\u0469\u05c3\u03ce\u0363\u042e\u0426\u04fd\u04a7\u0558\u0536\u04e1 \u0641\u0679  \u0380\u0396\u02ab\u0428\u03ad\u03b6\u04c0\u0506\u03ff\u040b\u05bf\u04d5 \u0404\u03f2\u038f\u0498\u039f\u03bf\u039f\u0417\u0472\u022a\u0267\u0262\u025f\u03c1\u03f7\u04c0\u0521\u0394\u03cc\u047b\u0453\u0497\u044b\u03dd\u0583\u06a2\u0453\u04f6\u063b\u0521!\ua984!\uac48!\uaba5!\ua41d!\uaed9!\uaff5!\ua685!\ua722!\ua6c2!\uada8!\ua739!\ua8a7!\ua164!\uad99!\ua3a5!\ua842!\uab23!\uc30c!\ua893!\uae4d!\ub704!\uad57!\ua01d!\ua869!\uaa92!\ua8a6!\u8096!\ua613!\u9a64!\u9fd8!\ua474!\uaf43!\uad6c!\u9f77!\uab1f!\uae0a!\ub1f8!\u988d!\ua2db!\u98f2!\uad3a!\ubacf!\uad2d!\ub37d!\u999d!\uad51!\uaef4!\ua8bb!\ub3e1!\uac29!\ua5db!\uaf73!\uab82!\uac18!\uab9a!\u9ab6!\ua3d8!\ubd84!\ua15f!\u8319!\ub4e9!\ub376!\uabe9!\ua70e!\u964a!\uc024!\u990f!\ub4a2!\uad3a!\ua781!\u96d0!\u9d8d!\u9c5f!\u911f!\uaf18!\u9e70!\u94fd!\u9fc4!\ua2d8!\ua85a!\ua677!\ub4f6!\uafda!\uc76b!\ua57f!\uad29!\ua8ef!\ua1dd!\ua6d8!\u9779!\ua265!\uaaa2!\ua35f!\ube2a!\ub359!\uadb9!\ub1f7!\ua11e!\uafb8!\uadff!\ub750!\u9ba7!\u90bc!\ua9e7!\ua6a0!\ub360!\ua944!\ua841!\uaef9!\uad66!\ua49e!\ua599!\ua6a2!\u9e61!\ub99b!\uac49!\ua5c8!\ua187!\uba4b!\ub1b8!\uaf4c!\uabce!\ub264!\u9f10!\ueaff!\uabd3!\u9f5b!\uad4e!\ua988!\uaa3b!\u9b0d!\ua10f!\ua1fd!\ua7fb!\ua6df!\uaf74!\u9c29!\uaacb!\ub9ab!\uafa3!\uaf99!\ua00a!\u95a9!\uc780!\ua2b1!\uaa36!\u9ad8!\ua57e!\ub328!\ub67f!\uc8f6!\ua838!\ua1b4!\ub5ac!\ua88f!\uc9fe!\ua6ca!\ua991!\u94ce!\ucec1!\uc13f!\ua5ea!\ua000!\ub0db!\ua003!\u9816!\ua7d3!\ua047!\ub2ec!\ub128!\ubdc0!\ua8ab!\ua313!\ub704!\uab49!\u81aa!\ubb24!\ub1b0!\u9721!\ue45a!\u95dc!\ubbdc!\u77ab!\ube7a!\ub026!\ua67f!\ub0a0!\uaa80!\ucaf9!\u9040!\ub3ed!\uc818!\ua415!\ub59b!\uafc6!\u9c45!\u99a6!\uaaee!\u9996!\uaf77!\ua818!\ub191!\u94e6!\u9e81!\uabed!\ua495!\u7d1c!\ua89d!\uaf3f!\ub6b6!\u9a7d!\u8a9f!\ua069!\ubeea!\uaf76!\ub1f8!\u999b!\ua9cb!\ua85d!\ua61c!\u9ea6!\uaa06!\uaf37!\u8c56!\uabc2!\ua752!\ub43d!\ua046!\ua3ed!\u8c27!\ua4e6!\ub538!\u93ac!\ua356!\ub18f!\ub1bd!\u8a95!\ub024!\ub08f!\u9a65!\uae01!\ua5d8!\u8b25!\u97e6!\u9b59!\uac93!\ud2f2!\u832c!\ua3c4!\u9f7f!\ub29a!\ua33d!\ub94c!\ua84a!\u9ee5!\uf0c2!\ud207!\ubd39!\u9031!\uaeba!\ucfcc!\uaa8f!\ub2cb!\ub68e!\ub354!\uaec0!\ub2f3!\uaaa4!\ub396!\u91b0!\ub5cf!\u8f7f!\uadbf!\ub04e!\ua240!\ua823!\ub5a5!\u9d5a!\ubf69!\uc6b8!\u9bd8!\ua288!\uaff9!\u8ee8!\ud288!\ucdd8!\ud800 \uf4a8 \uec74!\ucd3b!\udd3d!\uc8e1!\uc5a8!\ue895!\udb2d!\ud54c!\uc35e!\uc803!\uc2af!\uc2e3!\ud2c9!\udc2c!\uccbe!\uce46!\ud16a!\ue6dd!\uc580!\ucf13!\uad81!\uc9e8!\uf3e9!\ubcfc!\uae89!\udaee!\ued6c \ueca5!\ub2e1!\uced8 \ue729!\ud8fd!\ud412!\ud8cc!\uceca!\ud9d3!\ubf8a!\ue2b0!\uc651!\ud81c!\uca6c!\ud15c!\uc87c!\ud564!\ucb36!\udf7d!\udef8!\ude08!\udaf1!\ud2ca!\uc9cf!\ubfa1!\ue751!\ucc38!\uef84!\u0295!\ue3d6!\uc5d7\"\u17af!\ucb24!\ue565!\ude18!\uef8e!\ud564!\uaf8a!\ub4e0!\uaacf!\ubd60!\udade!\ud962!\ua96f\"\u1085!\uce25!\ue2a8!\udcae!\ub628\"\u0c9d!\uc75d!\ud652!\ud3db!\uca4b!\uc822!\ucbb0!\uc412!\ub90c!\uc04c!\uc7c3!\uc997!\ubfeb!\ud201!\ue296!\ub671!\ub48b!\ud00f!\ud3ee!\uc6d8!\ud2f1!\ube71!\ub731!\uc0b9!\ue51e!\ud8c8!\ud4e0!\ud82d!\ude6f!\ud311!\ueffa!\ud925!\ubed3!\uab92!\ude6a!\ud303!\ua8f5!\uc928!\uc0cb!\ua6ba!\ub05a!\ubb89!\ud32a!\ue480!\ud12d!\ud4e0!\ue480!\ud4e0!\ue524!\ucacf!\uc42c!\ub6e2!\ue35a!\ua51e!\uc540!\ue9c0!\ud4e0!\ud4e0!\udcb9!\uc158!\ud6e8!\uc4f1!\ud710\"\u0547!\ubf29!\ud141!\u9046!\ud41a!\uf276!\ud310!\ufdf9!\ub873!\ucb2f!\u89f2!\uc9b3!\uec72!\ud4e0!\ud161!\ube3e!\uaff9!\ueed6!\ud713!\udfa1!\uc5c8!\uc377!\ubbf0!\ue0b3\"\u0a36!\uc44d!\uf7bc!\ucce3!\ua090!\udd1c \ue673!\ue735!\ue3c8!\uf440!\uf5d4!\ud8bb!\ue58c!\udc39\"\u10b5!\ua65f!\ud636!\uca54!\uc478!\u62d0!\u63fc!\u5b64!\ucd20!\uc895!\ubfd4!\uca40!\uacb4!\ue61a!\ud40c!\uc1dc!\ub87f!\ubd54!\ubbec!\ud4d2\"\u0bf1!\ud618!\uc159!\udfd8!\uc217!\ua597!\uced9!\uc7e9!\ubc63!\ua9fb!\uc77d!\uc199!\ub2fa!\ua681!\ub3c3!\uc929!\uce0d!\ub06a!\uc893!\uf445!\ub7d2 \uf568!\uba77!\uc2b6!\ua02e!\udf1f!\uddad!\ub350!\ub489!\ud7e1!\ub609!\ue7d2!\ub9a3!\uad02!\ub947!\ua468!\ue24d!\ub261!\ubd90!\ucf5c!\ua32e!\ua98d!\uc8f3!\uae24!\ucb7d!\udbcf!\u5f8d!\ubc82!\u9296!\uc940!\uc418!\uaf75!\ub3a4!\u7d3a!\ub530!\ub15e!\uaef7!\u570d!\uc125!\u9bc8!\uc9a4!\ue5e9!\ud8df!\uaa91!\ub84d!\ud058!\ub514!\ub4a6!\ud834!\uad29!\ubdc1!\uc7fb!\ua6fd!\ue24f!\ud2e3!\uc9d0!\ub4b1!\ue615!\uc6d0!\ub464!\ucd10!\uc32f!\ucd10!\uc928!\ubc42!\uaa46!\ue629!\ud2d6!\ub51c!\ub65b!\uc67d!\ubbcd!\u6bea!\ub10a!\u6c27!\u9201!\u98ef!\ubbbd!\u9122!\ube27!\uc2a0!\ud68b!\uafce!\ub7be!\uaa3a!\ub599!\ubc42!\uf08c!\uf0d0!\ufc21!\ue1d1!\uf9f4!\udc1b!\uf812!\ud4c0!\uc817!\ub5f7!\ue6a5!\uf3a7!\ube28!\ud518!\ue3ee!\uc979!\uf965!\uee18!\ue505\"\u03ef!\ud53e!\ue503!\ud799!\uc7a0!\ucd3e!\ud39f!\ud023!\uf2d1!\uccae!\uc02a!\ud695!\uc89d!\uaba2\"\u0d66!\ud331!\uc054!\uf46e!\ue518!\ub7a1!\u8f1c!\ua638!\ucd70!\ud516!\uc964!\ue516!\uc10b!\ub66e!\ue12e!\u9e64!\uc22d!\u6a54!\ubc13!\u61ac!\udf39!\ub78f!\u9803!\ud3b1!\uc4f9!\uc01d!\uac36!\uba30!\ubfdf!\uba71!\uac07!\uba7c!\ud8a4!\uc274!\uca01!\uc736!\uc3c4!\ue5c9!\ub02f!\ucd32!\u63c1!\ubc79!\ubab9!\ucaac!\uddb4!\u90d7!\ud16d!\ucbdf!\ufcd6!\uda67!\ue15c!\uedab!\ucaee!\ubdde!\ue2a8!\ucdcc!\u7270!\u5d93!\u5ea5!\u61be!\uc2a6!\u47eb!\uc153!\ue22c\"\u01e0!\uc38e!\ud026!\ud32d!\uaf4f!\uaedc!\ucbad!\ubdf4!\uc5e3!\uc02d!\ubf3c!\ub7e6!\uc92a!\ueca9!\ub149!\udd53!\u9d99!\u994b!\ubaa0\"\ubf40\"\ubf40\"\ubf40\"\ubf40\"\ubf40\"\ubf40\"\ubf40\"\ubf40\"\ubf40\"\ubf40\"\ubf40\"\ubf40\"\ubf40\"\ubf40\"\ubf40\"\ubf40\"\ubf40\"\ubf40\"\ubf40\"\ubf40\"\ubf40\"\ubf40\"\ubf40!\uaf60 \ue24c!\u6078!\ua1ce!\u94de!\ua637!\u9601!\u9bee!\ua020!\u9b85!\ub29e!\ub56f!\uc69a!\uc11f!\ub8e1!\ua027!\uacdf!\uc39d!\ub5f1!\u91de!\u9555!\uaa16!\u9c16!\u9db3!\uac09!\ua180!\ubadb!\u80a6!\uc9d1!\ud52e!\u9d1f!\ub086!\uc081!\uae13!\ub734!\u9db0!\ua7b5!\uda9c!\ud440!\ub335!\u6470!\ubb73!\ub56c!\uda62!\ub359!\u7464!\ub39b!\uc241!\u75f1!\u8471!\u8cf8!\u8588!\ue95a!\uc2c4!\ubf49!\ube08!\ua7df\"\u2748!\ucddc!\ue625!\u5c2c!\u98ab!\uaf5a!\u8c49!\u9375!\u86c0!\u8aa8 \ue558 \udf1f!\ucf25!\uf97f!\uc4f3!\uc7f4!\ua600!\u9be1!\ua99a!\ua9c7!\ua712!\uaf60 \ue4a4!\u7338!\ua22a!\u91cd!\u9d0c!\ube60!\ua64f!\uce2b!\ucb06!\udfa7!\u9db1!\uaab0!\uaa26!\ucb0a!\ub816!\u9ca9!\uae65!\ub214!\ua340!\u9b96!\ua27c!\u88be \uea80!\ua995!\ub023!\ub100!\ua960!\u4af2!\ua144!\ua3cf!\ueb0a!\uae08!\uc88a!\ub5a0!\u6122!\ubaef \udf1f!\uadf1!\uc2c1!\u9e2e!\uc928!\ub18f!\ua9e8!\ub4ec!\ua678!\u9f0e!\u9e30!\u9aa4!\ub3ac!\uaa4c!\u9fc9!\uadd5!\ubd6b!\u9fcd!\uad40!\ub7b0!\ub3a0!\uba98!\ua198!\ua936!\ua763!\uac0c!\u93a7!\ub0dc!\uc057!\uacd7!\ud497!\ua90b!\ua6c7!\uad73!\ub44f!\ua81a!\uaba0!\ub7c7!\uad04!\ub012!\u829f!\u9ef3!\uab09!\uc464!\uadc5!\u9ffd!\ua0b1!\u8ced\"\u77ed!\ua964!\u9a73!\uaa82!\ua60e!\u9fcd!\ubf11!\ub6e5!\uacaf!\uae72!\ub51f!\ua638!\ub24d!\ucb1c \ue634!\u6b04!\uccb5!\ud0a4!\ud350!\ua961!\uc5fd!\uc92d!\ub1c1!\ude34!\ud39f!\ue9ee!\ud522!\uc68c!\ud826!\ubac2!\ucd31!\uac3f!\udd69!\uda03!\ub90e!\ud79f!\ub419!\ub3d8!\ucf39!\udac2!\ud5f2!\ufcdc!\uae55!\uc58b!\u6dc8!\uc6fb!\uc2d1!\ud073!\ue522!\ud0d9!\uc7a4!\udecc!\u6cc5!\ud881!\udd4d!\uccb8!\ud5f5!\ub669!\ub819!\ucf64!\ubc30!\uc4e9!\ubb47!\uc2d5!\ucb66\"\u0296!\uba5e!\ub394!\uc9c8!\uc3af!\ue166!\ubf65!\ubbb1!\uc28d!\uc03b!\ubc6f!\ud119!\u664e!\ue222!\ucbe7 \ue62e!\ud33f!\udfc1!\uc3ce!\ub988!\ubd70!\ucdf3!\ub988!\uf463!\ucd73!\ucb67!\ub73c!\u7e8c!\u3968!\u7c57!\u7e5d!\u7c4e!\u7c7a!\u5ef6!\u87fc!\u8d29!\u8ed5!\u72e1!\u85d8!\u993c!\u759d!\u7b77!\u71d3!\u819e!\u803a!\u7f32!\u790e!\u73a4!\u821d!\u7644!\u7e1d!\u7ace!\u6318!\u74e0!\u6f9b!\u8467!\u3802!\u810d!\u7753!\u7b08!\u7bef!\u9ad7!\u82c0!\u80fc!\u7b71!\u9543!\u7d1e!\u99dd!\u8385!\u89d6!\u8eb8!\u83c7!\u1ef4!\u7585!\u84d1!\u57ce!\u7a73!\u74e4!\u79e6!\u36da!\u8212!\u77e5!\u847f!\u77fe!\u6ce1!\u8468!\u3260!\u6c72!\u722c!\u6ad4!\u6804!\ua280!\u658a!\u7297!\u6508!\u69cf!\u72df!\u7e8d!\u9be4!\ua972!\u9427!\u7e06!\ua3c7!\ubcb0!\uaff5!\u9941!\u9a00!\u9799!\u3232!\u6441!\u6611!\u98b8!\u39cc!\u8b4e!\u8864!\u8a33!\u75d7!\u84a9!\u8be3!\u8c49!\ua25a!\u8aee!\u7efe!\ua07a!\u9022!\u8c94!\u818c!\u7a71!\ua9d3!\u88a9!\uc7dc!\u8829!\u943d!\u8d93!\u92ac!\u7cc6!\ua63f!\u8f75!\u95a7!\u8b5c!\uad99!\u900a!\uaacb!\u9637!\u82c0!\ua2c2!\u8c37!\uab0c!\ua02c!\u39c9!\u9b3f!\ud87c!\u9b60!\u8d00!\ua824!\uef99!\ub7c4!\u9ebb!\uda72!\u934c!\u8dab!\uaf61!\u97dc!\u862e!\u83a0!\u9832!\u8a5e!\ub069!\u916f!\u8661!\u99c4!\ua8bc!\u5f4c!\ubadb!\ub0eb!\ubd46!\ub3c1!\u9fac!\ua9b3!\ua93c!\ua95a!\ua1cc!\ub431!\u9265!\ua8bb!\uac8d!\uaa2e!\ua124!\ub2d0!\u9e46!\ua660!\ua663!\ub07b!\u98b5!\ua8a9!\u5f6b!\u9a75!\uba50!\u5b00!\uba0b!\uc11c!\ubda9!\ub075!\ub212!\uae09!\ub1b1!\uc075!\ub29a!\uc2d7!\ubac1!\uc221!\uc5a0!\ucb8b!\uc234!\uafc9!\ub82a!\ub4cb!\uae8b!\ua64a!\ub1f4!\ub9ab!\uc4ab!\uc82e!\ubdfa!\uad7f!\ub97d!\ubbeb!\u5507!\ubd64!\uad39!\uc0eb!\ub187!\uce21!\u5ba1!\ua4b3!\u4e93!\uc803!\uc1a6!\uc290!\uaa53!\ub318!\ubd7b!\ub8da!\ub5aa!\ubde5!\ubec3!\ub988!\ub3f2!\ubd34!\uacba!\uc566!\ub5a0!\uc3f6!\ub303!\ub466!\ubf08!\uc7da!\uc0d4!\uc5b5!\u6d05!\uc9f5!\uc031!\u5761!\u9ca6!\u648c!\ub4c6!\uac68!\uabf5!\ub004!\u8a0d!\uba32!\u55e9!\u52a1!\uca90!\ua614!\uabb4!\uc7e1!\ud615!\ucb83!\u9d7d!\ucd7c!\ud66f!\ubaf1!\uc17d!\ub918!\ubda0!\uad01!\u6193!\uc32c!\u52e6!\u7321!\uc5ac!\ubb68!\u6069!\u9120!\uddda!\u59bd!\ua884!\u60d6!\ud429!\u52ad!\u4b72!\uacd1!\u4d57!\ub247!\u6030!\ud3bd!\u533a!\uaece!\ubf08!\uc75c!\u6aef!\uae2a!\ud04d!\u3647!\u7a4b!\ubcad!\ub567!\uca95!\uc5a4 \ue828!\u65f0!\uc723!\uce78!\uda70!\ucbf8!\ub4cc!\ubba9!\ucafd!\uaa3f!\ua709!\uce06!\ucd39!\uc0f3 \ubed4!\ube03!\uf00d!\uc4bd!\ue1d7!\uce14 \uedcd!\uc5d2!\ue081!\ud3c6!\uc822!\ubc0e!\ub6a5!\ucc16!\ucd3f!\u6315!\ud1f4!\u6c87!\u5ca1!\ud6b0!\ube90!\uaba1!\uadf1!\ucd10!\ubc12!\ud11a!\ud6a7!\ud08a!\ub683!\uc11a!\ucc6c!\uc44e!\ubcae!\ua728!\uad49!\uadd0!\ucc93!\ud2ae!\ub8f7!\udcb0!\ub620!\ub5a0!\ucea9!\ua847!\ua221!\uc506 \ued47!\ucdba!\u0a4a!\ua770!\ud570 \uf063!\uda63 \uecdb!\u91eb!\uc596!\uc14c!\uccf3!\ubb61!\ucb86!\ud674!\ub222!\uaa1e!\ude5e!\u6b22!\ue4c6 \uea80!\u6625!\ue682!\uc6df!\ud567 \uef0b!\ucd3d \uf080!\ubeec!\uc59f!\ud7e6 \uc775!\ud40d!\ua024!\u5c2c!\u8376!\u653f!\u8010!\u8daf!\u826a!\u9427!\u8983!\ua593!\u99fc!\u6dec!\u81e8!\uab53!\ub2ea!\u920c!\uaa7c!\u4f6f!\ud55f!\ud1f1!\u9292!\uab1b!\u840f!\u9701!\u9bdf!\u8f52!\u83dc!\u8222!\uac98!\u8fa8!\u7c42!\u9ca1!\u87b2!\ub5da!\u9b9d!\u99dd!\u8d37!\ua65e!\ubeb5!\u9946!\u94e1!\ucc27!\ubf5d!\u8248!\ub050!\ubfe0!\u9e5d!\u83b8!\u9f70!\ua4b9!\u6bf2!\ua5dc!\ud3d1!\u4c4f!\ub40b!\ua094!\ue009!\ubb36!\u83d7!\ud131!\uaf04!\ua8e4!\ua6a8!\ucc05!\udbff!\ua294!\ub60b!\ud018!\u7446!\ubf29!\u9273!\u9246!\u88a3!\u7f54!\u46b0!\u7f26!\u786b!\u8f3f!\u828e!\u87c4!\u7f9b!\u69bb!\u81e2!\u7c69!\u7eaf!\u86fd!\u82ed!\u9cde!\uae15!\u6bc8!\u726b!\u85b2!\u61e5!\u9587!\u7961!\u7970!\u643c!\u46c8!\u7126\"\u0c58\"\u02f8!\u7dc4!\u68ac!\uf714!\ufda7\"\u047b\"<\"\u04a1\"\u0dc6\"\u1347\"\u199c!\ufe95!\u5f85!\ude52!\u6bce\"\u151c\"\u031b\"\u064c\"\u1f45!\ufebe!\u8c0f\"\u04a4!\u8a46!\u7539!\u6ef5\"\u0d9e\"\u1da7!\u6b6f!\u6e44\"\u385e!\ueb80!\uab78!\u5d58!\ub69b!\uaabc!\u9fbf!\ub97d!\u9783!\u9eb7!\ub5a4!\ub286!\uaa15!\ub5a0!\uacd9!\ua889!\ua600!\u5d63!\ub7ae!\uadd0!\ua52b!\ua89c!\ua600!\ud030!\uc4dc \ufcdc!\u66b8!\ud683!\ucec0!\uc750!\ue0b0!\ue4c9!\uc352!\ud3af!\uca04!\ubf4b!\u62c0!\ub874!\ub3ee!\ub54c!\ud35e!\ubfdf!\ud71b!\uc3a4!\ubac4!\ud9b6!\uda86!\ub436!\ud2a8!\uc72f!\uc4ce!\ud074!\ud8cb!\ucb77!\uccbe!\ud567!\ud87d!\ucd51!\uca70!\uceff!\ubce3!\ub2f8!\ucd85!\ucd3d!\ud8ed!\ud29d!\uc9a5!\ud290!\ub10c!\uce75!\ubd67!\ua1bc!\uc945!\ue97e!\ufa6e!\u6d11!\ueb71 \ufce0!\ue66e!\udb20!\ue077!\uc6e7!\ubd11\"\u0332!\ue854!\ud4c9!\udd93!\u6071!\uecdb!\uca37!\ucb93!\ubfde!\udb41!\ud334!\ucc84!\ub6f1!\ud506!\ud583!\ucc49!\ud884!\ud514!\ub69b!\uc35b!\ue600!\ub2ab!\ud59e!\ub7d7!\ud0dd!\uc144!\uc84a!\uc6f6!\uc6f7!\uc3f0!\ub4af!\uf7ca!\ue38b!\uc2bb!\uf58a!\ub31c!\uce6d!\uc2da!\uc0fe!\uc79d!\uac4a!\ud299!\ue038!\ue2b5!\ue2f4!\ud6f7!\uc84d!\uae97!\ub1e1!\uec43!\ub814!\u9f2a!\uba2e!\ub11a!\ubca8!\uc2ee!\ub5b0!\uae85!\ub1d8!\uc024!\uc09d!\ucf14!\ud79c!\ue9f8!\ue214!\ucd41!\ufd03\"\u0884!\uf065!\ud09d!\ue089!\ucbeb!\ue7e4!\uf0c9!\uf30d!\ude97!\ud40c!\ue841!\uc965!\uf33a!\uce70!\ue480\"\u0dc1!\ucd97!\uf041!\ue9a0!\ud922!\uef90!\udb49!\ub770!\uac3f!\uf46e!\ud721!\ueff8!\ub5f7!\ucd06!\u9d68!\uecc5!\uc8c2!\uc158 \ue1e8!\ubc47!\ud079!\uce4f!\uacce!\uba4e!\ub2f8!\u98f9!\uab28!\uc13a!\ubf53!\ub716!\ucf6c!\ua375!\ub03e!\ubd7b!\ub682!\ue086!\ubf49!\uc33b!\ud76b!\udb5c!\uc3ca!\ud1bc!\uca2c!\uf477!\ub1ed!\uc93e!\uc1c2!\uddad!\ud69f!\uf510!\ub3e5!\ud42e!\ub2bd!\ub86e!\ucc8f!\ub62b!\ubf14!\udb9c!\uc098!\uc7cf!\ucb27!\ubbe2!\uadd0!\ub54b!\ub938!\ua655!\ub7c5!\ub88f!\uacbd!\ua8ae!\u8d57!\udab9 \ue1d1!\ube4c!\ub5a6!\ud4e0!\uccf9!\ucd10!\ude00!\uaa88!\ud1de!\uaef0!\ub187!\ub493!\ud4e0!\ucfda!\uc5fc!\uc961!\ud435!\ud10a!\ua073!\ua521!\uc8a3!\ub304!\u9cee!\uc699!\uce3c!\uc021!\uc118!\uc325!\uc09a!\ubd48!\ubd0b!\ucc43!\ud9b8!\ud8a5!\udf9c!\ufe48!\ud077!\ua4ce!\uc107!\ue464!\ud689!\ufc70!\ub64f!\ubab4!\uaf31!\ubeb1!\ud8fa!\ue164!\uc163!\uc3d5!\ubc6b!\ub79f!\uc17a!\uc5fc!\uaedc!\udab0!\ubd19!\u6da7!\ucaf8!\udcb0!\ub715!\u9797 \ud64b!\uadd0!\u9d89!\ua88c!\u9684!\uaf10!\u9280!\ua7ca!\ub540!\ud6af!\ue398!\u6ae3!\ub71b!\uc8b1!\ub313!\ub624!\uaa0c!\uc657!\uc158 \udee8!\uce22!\ub7f4!\uadd0!\ubae6!\uc27d!\u65f0!\u59cf!\u6fd9!\u511e!\u50d2!\u8b3b!\u6d7e!\ud289!\uc7fc!\ucdc6!\ucd62!\uc3a5!\ub462!\uc40f!\ue3ea!\ub662!\ud08d!\ucb1f!\uf444!\ucc81!\ua491!\uc6f0!\ubc4f!\uc83d!\uc8cc!\uc132!\ub1b8!\uafbc!\ub865!\uad19!\ub009!\ub34d!\ucea0!\ue050!\ubd51!\ub348!\ub369!\ub348!\ub320\"\ubf40\"\ubf40\"\ubf40!\ud2ec!\uc414!\uda7f!\ue4d3!\ue021!\uc2e6!\ubf39!\ud3b2!\uc6f7!\uc158!\ue22b!\ubd37!\ud800!\ud4aa!\uee10!\uc94b!\ud73e!\ud91a!\uc922!\ud4e0!\ud05f!\ud9f2!\ue480!\ue2d5!\udd53!\ubd70!\ub95e!\udcb0!\uba59!\uedc5!\ue868!\uddf0!\ucc01!\ud675\"\u0e41!\ud2eb!\ucd10!\uc4c8!\uc488!\uef71!\ue206!\ud2c9!\ud15c!\ue2e1!\ud203!\uc677!\ue4a5!\ucf6f!\udad1!\uee87!\ub1c1!\uaf35!\ud5e2!\uc3ed!\ucb3e!\ud4e0!\ud769!\ue396!\ud4e0!\uc4e8!\ud0a3!\ud864!\ucd74!\ucc89!\uc17a!\uc82b!\ud1f9!\uf4af!\uce57!\ue31e!\ue029!\uda43!\uee2c!\ud030!\uc9ce!\ud4ea!\ud0f8!\ud47c!\ud1e4!\ud90e!\udac2!\ubee2!\ud779!\ucfd9!\ucd10!\ud513!\udf76!\uce14!\uc91d!\uccd6!\u9ca0!\u9f69!\ua50b!\u8b5b!\u9b9d!\ua4c3!\ua2a6!\u94e8\"\ubf40\"\ubf40\"\ubf40\"\ubf40!\ua72c!\uaaf9!\u9c66!\ua165!\ub248!\u902e!\ua4ac!\ubfda!\ua8d2!\u9f4c!\uaf3e!\ue1c4!\ue5ac!\udc08!\udd15!\uc255\"\u0152!\uf29a!\ucc88!\uf244\"\u0ada\"\u053f!\ue9f3!\ud6c1!\uca03!\ufc31!\ue0c9!\ueeaa!\uc094!\uf369!\ud947!\uecdd!\ubdbc\"\u02a9!\ue8ee!\ufbf0!\ue480!\ud6dd!\ubb8a\"\u0105!\udbad!\ue6d6\"\u0c7d\"\u07bc!\ud644!\uc434!\uc61a!\uf70e!\uf2a1!\ubf27!\ud239!\ued32!\uddc8!\ucce6!\ueaf6!\uf924!\ue66a!\uc58d\"\u0f94\"\u0531\"\u2ac2\"\u20cf!\udf6b!\ue65b\"\u36ea\"\u03ee!\ue279\"\u0b4a!\udb45!\ue7c4!\ube43!\ue021\"\u02e8\"\u259c!\uf4a2!\ue7ae!\uee51\"\u01a5!\ud1a6!\ud1fd!\ubdee!\uc1cb!\ue176!\ue17f!\ude11!\ua317!\ue251!\ub131!\ud822!\uebd9!\uc976!\uff51!\uff8e!\ubfe9!\ud592!\ue033!\ue1ed!\ua7e0!\ubf74!\uf889!\u9f2e!\ua790!\ua938!\udf85!\uc5dd\"\u0f08!\ue18e!\udeba!\uae3c!\uc3a8!\uf6b6!\uf9fb!\ue731!\ufa6a!\uda58!\udb84!\uf449!\uf45d!\ud760!\ud78d!\uc04f!\ucac6!\ue063!\uea19!\ueb75!\ucf2c!\ue659!\ue7fa!\uf53e!\ud89a!\udbfd!\ud002!\ue411!\uecd3!\ucab9!\uce0e!\uecfa!\uf1cd!\uceac!\ud6be!\uf183!\ud4e0!\udcb0!\ud8b9!\ue432!\uc352!\ue412!\ud87c!\ud309!\ue37f!\ue34f!\ueb47!\ue794!\ud945!\ued53!\ue4ba!\ud5a6!\ue034!\ue09c!\ud54f!\ue6c5!\ue1cd!\ud8f9!\udc02!\ucea4!\ucd12!\uccee\"\u13b7!\uf6c1\"\u0edc!\ue012!\ufd41\"\u1128!\ue7d8!\ue344!\ud14e!\ud9ba!\uf816!\uf187!\ue646!\ubea8!\ude91!\ube2c!\uc1f5!\ue2b2!\ue3ed!\uf885!\ue132!\uc4fe!\uef3d!\ue7ec!\ue35a!\ue231!\ud51f!\ue0a6!\uafd9!\ubafb!\ue615!\ue944!\uccde!\ud8d9!\uc3de\"\u0304!\uee82!\uee80!\udb87!\ua6ef!\ue6c8!\ub425!\u9af8!\ub14f!\u8e2e!\uc17d!\ubbc2!\ucd53!\u9457!\ua829!\uc2c9!\uc630!\ufa78!\u9854!\u8cce!\u9f98!\u8b78!\u95b5!\uaff8!\u9735!\u943c!\u99c8!\ua1b4!\u9583!\ua10f!\u9bb5!\ua156!\ua4aa!\ub2ea!\ud47c!\uc798!\ud78b!\uc39d!\ud345!\ub3f6!\ued90!\ubb3e!\uf420!\ud891!\ubbff!\ud093!\uea7b!\uc52b!\ud4e0!\uc0c6!\ud4f3!\uca6f!\uade1!\ua920!\ua6ee!\ua2e0!\ub0c5!\u99dc!\ub971!\ud60c!\udbd1!\uca01!\uc6ff!\uec0a!\u964a!\ua088!\u8774!\u77c6!\uc164!\uc1de!\ub988!\ub992!\u72d4!\u7a2b!\u6762!\u76bb!\ua470!\uad61!\u947f!\uab8d!\uabdc!\uabc0!\udc4c!\uecb4!\uffb0!\udaa5!\uea3c!\ue384!\ue22f!\uf420!\udcb0!\uad59!\uf9fd!\uebc1\"\u1862!\uf519!\uf6ea!\ufe59!\ue2ac\"\u1dfa!\uab92!\ufc86\"\u1262!\ud9c3\"\u2a6e\"\u2d1d\"\u0e4d!\ub476!\ubf43!\ue89a!\ub93e!\uf5f7!\uf597!\u9ddc!\ucc33\"\u01ea!\ub4fa!\uce88!\uba3b!\ub53c!\u84a3!\u9aca!\uc088!\u9408!\u8ebb!\u99b9!\udc4c!\uf4e8!\uf0cb!\uf4d5!\ueb12!\ud845!\ue8a1!\uf32b!\ub73b!\ud5e7!\uf29c!\uec76!\ub5be!\ua861!\ud2ec!\ud561!\ud4c2!\uee67!\uc5b1!\ued94!\ue8b8!\uf5af!\ue58e!\ud4fc!\ufd17!\uf702!\ue712!\ue793!\ude48!\ud3ca!\ube0e!\uafad!\ued20!\ue1e5!\uc121!\udd13!\uba38!\uddaa!\uaffc!\ua5c0!\uc004\"\u029a!\uf92d!\u9cdc!\ub95b";
 
-public static final String atomData = "95\nint,int,int,int,int,int,int,int,int\n1,6,4,4,0,0,0,0,0\n2,6,3,4,0,2,0,0,1\n3,6,3,4,0,2,0,0,1\n4,6,2,4,0,3,0,1,1\n5,1,1,1,0,0,0,0,0\n6,8,2,2,1,0,0,0,0\n7,8,1,2,0,2,0,0,0\n8,7,3,3,1,0,0,0,0\n9,7,2,3,0,2,0,0,1\n10,7,3,3,1,1,0,0,0\n11,9,1,1,1,0,0,0,0\n12,17,1,1,1,0,0,0,0\n13,35,1,1,1,0,0,0,0\n14,53,1,1,1,0,0,0,0\n15,16,2,2,1,0,0,0,0\n16,16,1,2,0,2,0,0,0\n17,16,3,4,0,2,0,0,0\n18,16,4,4,0,0,0,0,0\n19,14,4,4,0,0,0,0,0\n20,6,4,4,0,0,0,0,0\n21,1,1,1,0,0,0,0,0\n22,6,4,4,0,0,0,0,0\n23,1,1,1,0,0,0,0,0\n24,1,1,1,0,0,0,0,0\n25,15,4,4,0,0,0,0,0\n26,15,3,3,1,0,0,0,0\n27,1,1,1,0,0,0,0,0\n28,1,1,1,0,0,0,0,0\n29,1,1,1,0,0,0,0,0\n30,6,3,4,0,2,0,0,1\n31,1,1,1,0,0,0,0,0\n32,8,1,12,1,1,0,0,0\n33,1,1,1,0,0,0,0,0\n34,7,4,4,0,0,0,0,0\n35,8,1,1,1,1,0,0,0\n36,1,1,1,0,0,0,0,0\n37,6,3,4,0,2,1,0,1\n38,7,2,3,0,2,1,0,0\n39,7,3,3,1,1,1,0,1\n40,7,3,3,1,0,0,0,0\n41,6,3,4,0,1,0,0,0\n42,7,1,3,0,3,0,0,0\n43,7,3,3,1,0,0,0,0\n44,16,2,2,1,1,1,0,0\n45,7,3,4,0,2,0,0,0\n46,7,2,3,0,2,0,0,0\n47,7,1,2,0,2,0,0,0\n48,7,2,2,0,0,0,0,0\n49,8,3,3,0,0,0,0,0\n50,1,1,1,0,0,0,0,0\n51,8,2,3,0,2,0,0,0\n52,1,1,1,0,0,0,0,0\n53,7,2,4,0,2,0,1,0\n54,7,3,4,0,2,0,0,1\n55,7,3,34,0,1,0,0,0\n56,7,3,34,0,1,0,0,0\n57,6,3,4,0,2,0,0,1\n58,7,3,4,0,1,1,0,1\n59,8,2,2,1,1,1,0,0\n60,6,1,3,0,3,0,0,0\n61,7,2,4,0,3,0,1,0\n62,7,2,2,1,0,0,0,0\n63,6,3,4,0,2,1,0,1\n64,6,3,4,0,2,1,0,1\n65,7,2,3,0,2,1,0,0\n66,7,2,3,0,2,1,0,0\n67,7,3,4,0,2,0,0,1\n68,7,4,4,0,0,0,0,0\n69,7,3,4,0,1,1,0,0\n70,8,2,2,1,0,0,0,0\n71,1,1,1,0,0,0,0,0\n72,16,1,1,1,1,0,0,0\n73,16,3,3,0,0,0,0,0\n74,16,2,4,0,2,0,0,0\n75,15,2,3,0,2,0,0,1\n76,7,2,2,1,0,0,0,0\n77,17,4,4,0,0,0,0,0\n78,6,3,4,0,2,1,0,1\n79,7,2,3,0,2,1,0,0\n80,6,3,4,0,2,0,0,1\n81,7,3,4,0,1,1,0,1\n82,7,3,4,0,1,1,0,0\n87,26,0,0,0,0,0,0,0\n88,26,0,0,0,0,0,0,0\n89,9,0,0,0,0,0,0,0\n90,17,0,0,0,0,0,0,0\n91,35,0,0,0,0,0,0,0\n92,3,0,0,0,0,0,0,0\n93,11,0,0,0,0,0,0,0\n94,19,0,0,0,0,0,0,0\n95,30,0,0,0,0,0,0,0\n96,20,0,0,0,0,0,0,0\n97,29,0,0,0,0,0,0,0\n98,29,0,0,0,0,0,0,0\n99,12,0,0,0,0,0,0,0\n";
+public static final String atomData = "\u007f)\u0089 !\u0089 !\u0089 !\u0089 !\u0089 !\u0089 !\u0089 !\u0089 !\u0089 !!\"#$%&'()*+,-./0123456789:;<=>?@ABCDEFGHIJKLMNOPQRSTUVWXYZ[\\]^_`abcdefghijklmnopqrwxyz{|}~\u007f\u0080\u0081\u0082\u0083&&&&!((''')1CU0000.&!&!!//!!!&!(!'(!&'''&''0''''(!(!''''&'(&''&&'''''(!000/'1&'&''::)1C#+3>4==,$##\"!\"!#\"#!!!!\"!#$$$!$!!$#!!!#!!!$!!#\"###!#\"#\"!\"#!\"!\"#####\"!\"\"##\"\"#$#\"!!#\"\"\"$#\"###             $$$$!\"\"###!!!!\"\"$$$$!$!!$#!!!$!,!$!!$###$##\"$#\"\"#!#!$$BB$$\"#$\"$$##$$$\"!!#$#\"$$#$$$                  ! ! !!!!!!          !     !  !   !!  !!              !  !       ! !   !                    \"\"#  \" \"!     \"\"            \" !  ! \"\"! !# !\"\"\"   \" \"\"!!\"!!## \"\"\"\"\" !  ! \"\"  \"\"\"!!                                                 !!!    !             !!   !!!!  !        !! !!                !                                                !       !                                   !!!    !                    !      ! !              !  !!    !!  !       !  ! !!              ";
 
-public static final String bciData = "498\nint,int,int,float\n0,1,1,0.0000\n0,1,2,-0.1382\n0,1,3,-0.0610\n0,1,4,-0.2000\n0,1,5,0.0000\n0,1,6,-0.2800\n0,1,8,-0.2700\n0,1,9,-0.2460\n0,1,10,-0.3001\n0,1,11,-0.3400\n0,1,12,-0.2900\n0,1,13,-0.2300\n0,1,14,-0.1900\n0,1,15,-0.2300\n0,1,17,-0.1935\n0,1,18,-0.1052\n0,1,19,0.0805\n0,1,20,0.0000\n0,1,22,-0.0950\n0,1,25,0.0000\n0,1,26,-0.1669\n0,1,34,-0.5030\n0,1,35,-0.4274\n0,1,37,-0.1435\n0,1,39,-0.2556\n0,1,40,-0.3691\n0,1,41,0.1060\n0,1,43,-0.3557\n0,1,45,-0.2402\n0,1,46,-0.3332\n0,1,54,-0.3461\n0,1,55,-0.4895\n0,1,56,-0.3276\n0,1,57,-0.1050\n0,1,58,-0.4880\n0,1,61,-0.2657\n0,1,62,-0.2000\n0,1,63,-0.1800\n0,1,64,-0.1810\n0,1,67,-0.0990\n0,1,68,-0.2560\n0,1,72,-0.5500\n0,1,73,-0.0877\n0,1,75,-0.2550\n0,1,78,-0.1680\n0,1,80,-0.1440\n0,1,81,-0.5140\n0,2,2,0.0000\n1,2,2,0.0000\n1,2,3,-0.0144\n0,2,4,-0.0650\n1,2,4,-0.0650\n0,2,5,0.1500\n0,2,6,-0.0767\n1,2,9,-0.1710\n0,2,10,-0.1090\n0,2,11,-0.1495\n0,2,12,-0.1400\n0,2,13,-0.1100\n0,2,14,-0.0900\n0,2,15,-0.1010\n0,2,17,-0.0560\n0,2,18,0.0170\n0,2,19,0.2290\n0,2,20,0.1160\n0,2,22,0.0400\n0,2,25,0.1470\n0,2,30,-0.0310\n0,2,34,-0.3560\n0,2,35,-0.3500\n1,2,37,0.0284\n1,2,39,0.0310\n0,2,40,-0.1000\n0,2,41,0.2500\n0,2,43,-0.1910\n0,2,45,-0.2044\n0,2,46,-0.2940\n0,2,55,-0.3410\n0,2,56,-0.3030\n0,2,62,-0.0500\n1,2,63,-0.0450\n1,2,64,-0.0460\n1,2,67,0.0360\n0,2,72,-0.4500\n1,2,81,-0.3790\n1,3,3,0.0000\n1,3,4,-0.1050\n0,3,5,0.0600\n0,3,6,-0.1500\n0,3,7,-0.5700\n0,3,9,-0.4500\n1,3,9,-0.2110\n0,3,10,-0.0600\n0,3,11,-0.2220\n0,3,12,-0.2090\n0,3,15,-0.1410\n0,3,16,-0.3800\n0,3,17,-0.0960\n0,3,18,-0.0230\n0,3,20,0.0530\n0,3,22,0.0000\n0,3,25,0.1070\n1,3,30,-0.0710\n0,3,35,-0.3610\n1,3,37,0.0862\n1,3,39,-0.0090\n0,3,40,-0.0500\n0,3,41,0.1470\n0,3,43,-0.2363\n0,3,45,-0.1650\n0,3,48,-0.4300\n0,3,51,-0.9500\n0,3,53,-0.0134\n0,3,54,-0.4000\n1,3,54,-0.3290\n0,3,55,-0.3810\n0,3,56,-0.3430\n1,3,57,-0.0100\n1,3,58,-0.3930\n0,3,62,-0.0300\n1,3,63,-0.0850\n1,3,64,-0.0860\n0,3,67,-0.0040\n0,3,74,-0.3190\n0,3,75,-0.2474\n1,3,78,-0.0730\n1,3,80,-0.0490\n0,4,5,0.1770\n0,4,6,-0.0430\n0,4,7,-0.4870\n0,4,9,-0.3000\n1,4,9,-0.1060\n0,4,10,-0.0440\n0,4,15,-0.0360\n0,4,20,0.1810\n0,4,22,0.1050\n0,4,30,0.0340\n1,4,37,0.0730\n0,4,40,-0.0640\n0,4,42,-0.5571\n0,4,43,-0.1260\n1,4,63,0.0200\n1,4,64,0.0190\n0,5,19,0.2000\n0,5,20,0.0000\n0,5,22,-0.1000\n0,5,30,-0.1500\n0,5,37,-0.1500\n0,5,41,0.2203\n0,5,57,-0.1500\n0,5,63,-0.1500\n0,5,64,-0.1500\n0,5,78,-0.1500\n0,5,80,-0.1500\n0,6,6,0.0000\n0,6,8,-0.1000\n0,6,9,-0.0630\n0,6,10,0.0355\n0,6,15,0.0070\n0,6,17,0.0520\n0,6,18,0.1837\n0,6,19,0.2974\n0,6,20,0.2579\n0,6,21,0.4000\n0,6,22,0.1480\n0,6,24,0.5000\n0,6,25,0.2712\n0,6,26,0.1010\n0,6,29,0.4500\n0,6,30,0.0770\n0,6,33,0.5000\n0,6,37,0.0825\n0,6,39,0.1390\n0,6,40,-0.0210\n0,6,41,0.2950\n0,6,43,-0.0830\n0,6,45,-0.0090\n0,6,54,-0.1810\n0,6,55,-0.2330\n0,6,57,0.1380\n0,6,58,-0.2450\n0,6,63,0.0630\n0,6,64,0.0620\n0,7,17,0.5000\n0,7,46,0.1618\n0,7,74,0.5000\n0,8,8,0.0000\n0,8,9,-0.0530\n0,8,10,0.0090\n0,8,12,-0.0510\n0,8,15,0.0170\n0,8,17,0.0620\n0,8,19,0.3470\n0,8,20,0.2096\n0,8,22,0.1580\n0,8,23,0.3600\n0,8,25,0.2679\n0,8,26,0.1110\n0,8,34,-0.2380\n0,8,39,0.1490\n0,8,40,-0.0110\n0,8,43,-0.0730\n0,8,45,-0.0070\n0,8,46,-0.1760\n0,8,55,-0.2230\n0,8,56,-0.1850\n0,9,9,0.0000\n0,9,10,0.0620\n0,9,12,0.0020\n0,9,15,0.0700\n0,9,18,0.1880\n0,9,19,0.4000\n0,9,20,0.2870\n0,9,25,0.3180\n0,9,27,0.4000\n0,9,34,-0.1850\n0,9,35,-0.1500\n1,9,37,0.1790\n1,9,39,0.2020\n0,9,40,0.0420\n0,9,41,0.3580\n0,9,45,0.0460\n0,9,53,0.3179\n0,9,54,-0.1180\n0,9,55,-0.1700\n0,9,56,-0.1320\n1,9,57,0.2010\n0,9,62,0.1810\n1,9,63,0.1260\n1,9,64,0.1250\n0,9,67,0.2070\n1,9,78,0.1380\n1,9,81,-0.2080\n0,10,10,0.0000\n0,10,13,0.0060\n0,10,14,0.0360\n0,10,15,0.0080\n0,10,17,0.0530\n0,10,20,0.2250\n0,10,22,0.1490\n0,10,25,0.2560\n0,10,26,0.1020\n0,10,28,0.3700\n0,10,34,-0.2470\n0,10,35,-0.2120\n0,10,37,0.1170\n0,10,39,0.1400\n0,10,40,-0.0200\n0,10,41,0.2960\n0,10,45,-0.0160\n0,10,63,0.0640\n0,10,64,0.0630\n0,11,20,0.2980\n0,11,22,0.2317\n0,11,25,0.3290\n0,11,26,0.1750\n0,11,37,0.1900\n0,11,40,0.0530\n0,12,15,0.0680\n0,12,18,0.1860\n0,12,19,0.3701\n0,12,20,0.2900\n0,12,22,0.2273\n0,12,25,0.3160\n0,12,26,0.2112\n0,12,37,0.1770\n0,12,40,0.0400\n0,12,57,0.1990\n0,12,63,0.1240\n0,12,64,0.1230\n0,13,20,0.2190\n0,13,22,0.1430\n0,13,37,0.1110\n0,13,64,0.0570\n0,14,20,0.1890\n0,14,37,0.0810\n0,15,15,0.0000\n0,15,18,0.1180\n0,15,19,0.3300\n0,15,20,0.2170\n0,15,22,0.1410\n0,15,25,0.2480\n0,15,26,0.0940\n0,15,30,0.0700\n0,15,37,0.1015\n0,15,40,-0.0280\n0,15,43,-0.0900\n0,15,57,0.1310\n0,15,63,0.0560\n0,15,64,0.0550\n0,15,71,0.1800\n0,16,16,0.0000\n0,17,17,0.0000\n0,17,20,0.1720\n0,17,22,0.0960\n0,17,37,0.0640\n0,17,43,-0.1350\n0,18,18,0.0000\n0,18,20,0.0990\n0,18,22,0.0230\n0,18,32,-0.6500\n0,18,37,-0.0090\n0,18,39,0.0140\n0,18,43,-0.1380\n0,18,48,-0.5895\n0,18,55,-0.3580\n0,18,58,-0.3700\n0,18,62,0.2099\n0,18,63,-0.0620\n0,18,64,-0.0630\n0,18,80,-0.0260\n0,19,19,0.0000\n0,19,20,-0.1130\n0,19,37,-0.2210\n0,19,40,-0.3580\n0,19,63,-0.2740\n0,19,75,-0.3490\n0,20,20,0.0000\n0,20,22,-0.0760\n0,20,25,0.0310\n0,20,26,-0.1230\n0,20,30,-0.1380\n0,20,34,-0.4720\n0,20,37,-0.1080\n0,20,40,-0.2450\n0,20,41,0.0710\n0,20,43,-0.3070\n0,20,45,-0.2410\n0,22,22,0.0000\n0,22,30,-0.0710\n0,22,34,-0.3960\n0,22,37,-0.0320\n0,22,40,-0.1690\n0,22,41,0.1470\n0,22,43,-0.2310\n0,22,45,-0.1650\n0,23,39,-0.2700\n0,23,62,-0.4000\n0,23,67,-0.2920\n0,23,68,-0.3600\n0,25,25,0.0000\n0,25,32,-0.7000\n0,25,37,-0.1390\n0,25,39,-0.1160\n0,25,40,-0.2760\n0,25,43,-0.3380\n0,25,57,-0.1170\n0,25,63,-0.1920\n0,25,71,-0.0362\n0,25,72,-0.6773\n0,26,26,0.0000\n0,26,34,-0.3490\n0,26,37,0.0150\n0,26,40,-0.1220\n0,26,71,0.0960\n0,28,40,-0.4000\n0,28,43,-0.4200\n0,28,48,-0.4000\n0,30,30,0.0000\n0,30,40,-0.0980\n1,30,67,0.0670\n0,31,70,-0.4300\n0,32,41,0.6500\n0,32,45,0.5200\n0,32,67,0.6330\n0,32,68,0.7500\n0,32,69,0.7500\n0,32,73,0.3500\n0,32,77,0.4500\n0,32,82,0.6330\n0,34,36,0.4500\n0,34,37,0.3640\n0,34,43,0.1650\n0,35,37,0.3290\n0,35,63,0.2760\n0,36,54,-0.4000\n0,36,55,-0.4500\n0,36,56,-0.4500\n0,36,58,-0.4570\n4,36,58,-0.4500\n0,36,81,-0.4500\n0,37,37,0.0000\n1,37,37,0.0000\n0,37,38,-0.3100\n0,37,39,0.0230\n1,37,39,0.0230\n0,37,40,-0.1000\n0,37,41,0.1790\n0,37,43,-0.1990\n0,37,45,-0.1330\n0,37,46,-0.3020\n0,37,55,-0.3490\n0,37,56,-0.3110\n1,37,57,0.0220\n0,37,58,-0.3610\n1,37,58,-0.3610\n4,37,58,-0.3500\n0,37,61,-0.1380\n0,37,62,0.0020\n0,37,63,0.0000\n1,37,63,-0.0530\n0,37,64,0.0000\n1,37,64,-0.0540\n1,37,67,0.0280\n0,37,69,-0.0895\n0,37,78,-0.0410\n0,37,81,-0.3870\n1,37,81,-0.3870\n0,38,38,0.0000\n0,38,63,0.2570\n0,38,64,0.2560\n0,38,69,0.3380\n0,38,78,0.2690\n1,39,39,0.0000\n0,39,40,-0.1600\n0,39,45,-0.1560\n0,39,63,-0.1516\n1,39,63,-0.0760\n0,39,64,-0.0770\n1,39,64,-0.0770\n0,39,65,-0.4180\n0,39,78,-0.0640\n0,40,40,0.0000\n0,40,45,0.0040\n0,40,46,-0.1650\n0,40,54,-0.1600\n0,40,63,0.0840\n0,40,64,0.0830\n0,40,78,0.0960\n0,41,41,0.0000\n0,41,55,-0.5280\n0,41,62,-0.1770\n0,41,72,-0.5000\n0,41,80,-0.1960\n0,42,61,0.4920\n0,43,43,0.0000\n0,43,45,0.0660\n0,43,64,0.1450\n0,44,63,0.0400\n0,44,65,-0.2207\n0,44,78,0.0690\n0,44,80,0.0930\n0,45,63,0.0800\n0,45,64,0.0790\n0,45,78,0.0920\n0,47,53,0.3700\n0,49,50,0.5673\n0,51,52,0.5000\n0,55,57,0.3544\n0,55,62,0.3510\n0,55,64,0.2950\n0,55,80,0.3320\n0,56,57,0.4000\n0,56,63,0.2580\n0,56,80,0.2700\n4,57,58,-0.4000\n1,57,63,-0.0750\n1,57,64,-0.0760\n0,58,63,0.3080\n0,58,64,0.3070\n0,59,63,0.1400\n0,59,65,-0.1209\n0,59,78,0.1690\n0,59,80,0.1930\n0,59,82,0.2380\n0,60,61,0.3700\n0,62,63,-0.0550\n0,62,64,-0.0560\n0,63,63,0.0000\n1,63,63,0.0000\n0,63,64,0.0000\n0,63,66,-0.3381\n0,63,72,-0.4000\n0,63,78,0.0120\n0,63,81,-0.3340\n0,64,64,0.0000\n0,64,65,-0.2888\n0,64,66,-0.2272\n0,64,78,0.0130\n0,64,81,-0.3330\n0,64,82,0.0820\n0,65,66,0.0000\n0,65,78,0.3070\n0,65,81,-0.0390\n0,65,82,0.3760\n0,66,66,0.0000\n0,66,78,0.2990\n0,66,81,-0.0470\n0,71,75,-0.0958\n0,72,73,0.4500\n0,76,76,0.0000\n0,76,78,0.4000\n0,78,78,0.0000\n1,78,78,0.0000\n0,78,79,-0.3030\n0,78,81,-0.3500\n0,79,81,-0.0430\n0,80,81,-0.4000\n";
+public static final String bciData = "\u0212$\u0089 !\u0089 !\u0089 !\u0086$!                                                !! !  !               !!        !!! !!!    !          ! !!        !  !! !!   !!    !     !   !!                                                                          !!       ! !! !!                                                                                                                               !                  $  !  !       ! !$   ! !!   !     !   ! !                                   $!!           !                       !    !!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"##########################################$$$$$$$$$$$$$$$$%%%%%%%%%%%&&&&&&&&&&&&&&&&&&&&&&&&&&&&&'''(((((((((((((((((((()))))))))))))))))))))))))))*******************++++++,,,,,,,,,,,,----..///////////////01111122222222222222333333444444444446666666677779999999999:::::<<<>>>?@@@@@@@@BBBCCDDDDDDEEEEEEEEEEEEEEEEEEEEEEEEEEEFFFFFGGGGGGGGGHHHHHHHIIIIIJKKKLLLLMMMOQSWWWWXXXYYYZZ[[[[[\\^^_______``````aaaabbbghllnnnnop!\"#$%&()*+,-./123469:BCEGHIKMNVWXYZ]^_`cdhiknpq\"\"#$$%&)*+,-./123469>BCEGHIKMNWX^_`chq#$%&'))*+,/012469>CEGHIKMPSUVVWXYZ^_`cjknp%&'))*/46>EHJK_`346>EIY_`np&()*/12345689:=>AEGHIKMVWYZ_`1Nj()*,/134679:BGHKMNWX)*,/2349;BCEGHIMUVWXY^_`cnq*-./1469:<BCEGHIM_`469:EH/23469:EHY_`46E`4E/23469:>EHKY_`g0146EK246@EGKPWZ^_`p34EH_k469:>BEHIKM6>BEHIKMG^cd9@EGHKY_gh:BEHgHKP>HcfIMcdeimrDEKE_VWXZZqEEFGGHIKMNWXYZZZ]^__``cenqqF_`enGHM__``anHMNV_`nIW^hp]KM`_anp_`nURTY^`pY_pZ_`_`_anpr]_`__`bhnq`abnqrbnqrbnqkilnnnoqqq \ufaba\ufdbe\uf850 \uf530\uf594\uf684\uf467\uf2d8\uf4cc\uf724\uf8b4\uf724\uf891\ufc04\u0345 \ufc6a \uf99b\uec7a\uef6e\ufa85\uf624\uf1b5\u0444\uf23b\uf6be\uf31c\uf29b\ued01\uf354\ufc06\ued10\uf5bf\uf850\uf918\uf90e\ufc42\uf620\ueaa4\ufcb3\uf62a\uf990\ufa80\uec0c  \uff90\ufd96\ufd96\u05fc\ufd21\uf972\ufbde\ufa49\ufaa8\ufbd4\ufc9c\ufc2e\ufdf0\u00ca\u0912\u04a8\u01b0\u05de\ufeea\uf238\uf274\u013c\u0156\ufc38\u09e4\uf8aa\uf824\uf4a4\uf2ce\uf44a\ufe2c\ufe5e\ufe54\u0188\uee8c\uf152 \ufc06\u0278\ufa44\ue9dc\uee8c\uf7e2\ufdc8\uf774\uf7f6\ufa9e\uf148\ufc60\uff3a\u0232 \u044e\ufd5a\uf206\u037e\uffc6\ufe2c\u05de\uf6e5\uf9ae\uef54\udb04\uff9a\uf080\uf346\uf13e\uf2ba\uffbc\uf0c6\ufef4\ufcce\ufcc4\ufff8\uf3aa\uf676\ufd46\ufe36\u070a\ufe72\ued1a\uf468\ufbfc\ufe68\ufeb8\u0732\u043a\u0174\u02fa\ufda0\uea5d\ufb34\u00e8\u00de\u07f0 \ufc38\ufa44\ufa44\u08bb\ufa44\ufa44\ufa44\ufa44\ufa44 \ufc38\ufdaa\u0183f\u0228\u074d\u0bbe\u0a33\u0fc0\u05e8\u13a8\u0ab8\u0412\u11b4\u0322\u13a8\u0359\u058e\uff4e\u0ba6\ufce2\uffc6\uf90e\uf706\u0584\uf68e\u0296\u028c\u13a8\u0672\u13a8 \ufe0ez\ufe22\u00ca\u028c\u0dae\u0850\u064c\u0e30\u0a97\u0476\uf6d4\u05f2\uffb2\ufd46\uffda\uf940\uf76a\uf8e6 \u028c4\u02dc\u0778\u0fc0\u0b56\u0c8c\u0fc0\uf8e6\ufa44\u071e\u0804\u01c4\u0e1c\u01ec\u0c8b\ufb84\uf97c\ufaf8\u07fa\u0732\u050c\u0502\u0836\u0584\uf800 \\\u0188p\u0232\u08ea\u05f2\u0a20\u041c\u0e94\uf67a\uf7d8\u04b2\u0598\uff58\u0bb0\uff80\u02a0\u0296\u0bc4\u092d\u0cfa\u06f6\u078c\u0232\u02c8\u0764\u0e95\u0b74\u0901\u0c78\u0860\u070a\u01b0\u07e6\u04f8\u04ee\u08ae\u05b6\u0476\u025a\u0782\u034a \u04bc\u0d04\u089a\u05a2\u09d0\u03cc\u02dc\u0417\uff08\ufc9c\u053e\u0250\u0246\u0728  \u06d8\u03e0\u02a0\ufada \u03fe\u0106\ue6bc\uffc6\u00ac\ufabc\ue919\uf224\uf1ac\u0853\ufdb4\ufdaa\uff1c \ufbb6\uf77e\uf224\uf56c\uf27e \ufd28\u0156\ufb52\ufabc\uedb0\ufbe8\uf68e\u02e6\uf422\uf6b6 \ufd5a\uf0a8\ufee0\uf986\u05de\uf71a\uf9ae\uf594\uf080\uf4b8\uf210 \ue4c8\ufab2\ufb98\uf558\uf2ec\ufb8e\uf8a0\ufeb6\ue5ab \uf27e\u00b6\ufb5c\u03e0\uf080\uefb8\uf080 \ufc4c\u02be\uef54\u1984\u1470\u18da\u1d6c\u1d6c\u0dcc\u11b4\u18da\u11b4\u0e58\u0692\u0cfa\u0ae8\uf080\uee8c\uee8c\uee46\uee8c\uee8c  \uf404\u0106\u0106\ufc38\u071e\uf85a\ufaee\uf454\uf27e\uf3fa\u00fc\uf206\uf206\uf274\ufabc4 \ufe0e \ufe04\u0138\ufca1\ufe86\uf102\uf102 \u0a2a\u0a20\u0d54\u0aa2 \uf9e0\ufa08\ufa34\ufd28\ufd1e\ufd1e\uefcc\ufda0 H\uf9ae\uf9e0\u0368\u035e\u03e0 \ueb80\uf936\uec98\uf878\u1358 \u02b4\u05ca\u01b0\uf781\u02d2\u03c2\u0340\u0336\u03b8\u0e94\u1649\u13a8\u0df8\u0dd6\u0ba6\u0d18\u0fc0\u0a34\u0aac\uf080\ufd32\ufd28\u0c28\u0c1e\u0598\ufb67\u06ba\u07aa\u096c\u0e94\ufdfa\ufdf0   \uf2eb\uf080\u0098\uf314 \uf4d8\uf740\u00a2\uf31e\u0354 \u0c1e\ufe9a\u0ed0 \u0bce\ufe4a\ufc62\u11b4 \u0fc0  \uf44a\uf274\ufe72\uf080";
 
-public static final String bndkData = "58\nint,int,float,float\n1,6,1.084,5.15\n1,7,1.001,7.35\n1,8,0.947,9.10\n1,9,0.92,10.6\n1,14,1.48,2.3\n1,15,1.415,2.95\n1,16,1.326,4.30\n1,17,1.28,4.3\n1,35,1.41,4.2\n1,53,1.60,2.7\n6,6,1.512,3.80\n6,7,1.439,4.55\n6,8,1.393,5.40\n6,9,1.353,6.20\n6,14,1.86,2.6\n6,15,1.84,2.7\n6,16,1.812,2.85\n6,17,1.781,2.75\n6,35,1.94,2.6\n6,53,2.16,1.4\n7,7,1.283,6.00\n7,8,1.333,5.90\n7,9,1.36,5.9\n7,14,1.74,3.7\n7,15,1.65,4.8\n7,16,1.674,3.75\n7,17,1.75,3.5\n7,35,1.90,2.9\n7,53,2.10,1.6\n8,8,1.48,3.6\n8,9,1.42,4.6\n8,14,1.63,5.2\n8,15,1.66,4.7\n8,16,1.470,9.90\n8,17,1.70,4.1\n8,35,1.85,3.4\n8,53,2.05,1.6\n9,14,1.57,6.4\n9,15,1.54,7.1\n9,16,1.55,6.9\n14,14,2.32,1.3\n14,15,2.25,1.5\n14,16,2.15,2.0\n14,17,2.02,3.1\n14,35,2.19,2.1\n14,53,2.44,1.5\n15,15,2.21,1.7\n15,16,2.10,2.4\n15,17,2.03,3.0\n15,35,2.21,2.0\n15,53,2.47,1.4\n16,16,2.052,2.50\n16,17,2.04,2.9\n16,35,2.24,1.9\n16,53,2.40,1.7\n17,17,1.99,3.5\n35,35,2.28,2.4\n53,53,2.67,1.6\n";
+public static final String bndkData = "Z$\u0089 !\u0089 !\u0086#!\u0086\"!!!!!!!!!!!&&&&&&&&&&'''''''''(((((((()))....../////00001CU&'()./01CU&'()./01CU'()./01CU()./01CU./0./01CU/01CU01CU1CU\u045c\u0409\u03d3\u03b8\u05e8\u05a7\u054e\u0520\u05a2\u0660\u0608\u05bf\u0591\u0569\u0764\u0750\u0734\u0715\u07b4\u0890\u0523\u0555\u0570\u06ec\u0692\u06aa\u06f6\u078c\u0854\u05e8\u05ac\u067e\u069c\u05de\u06c4\u075a\u0822\u0642\u0624\u062e\u0930\u08ea\u0886\u0804\u08ae\u09a8\u08c2\u0854\u080e\u08c2\u09c6\u0824\u0818\u08e0\u0980\u07e6\u0908\u0a8e\u0223\u02ff\u03ae\u0444\u0106\u0147\u01ce\u01ce\u01c4\u012e\u019c\u01e7\u023c\u028c\u0124\u012e\u013d\u0133\u0124\u00ac\u0278\u026e\u026e\u0192\u0200\u0197\u017e\u0142\u00c0\u0188\u01ec\u0228\u01f6\u03fe\u01ba\u0174\u00c0\u02a0\u02e6\u02d2\u00a2\u00b6\u00e8\u0156\u00f2\u00b6\u00ca\u0110\u014c\u00e8\u00ac\u011a\u0142\u00de\u00ca\u017e\u0110\u00c0";
 
-public static final String bondData = "493\nint,int,int,float,float\n0,1,1,4.258,1.508\n0,1,2,4.539,1.482\n0,1,3,4.190,1.492\n0,1,4,4.707,1.459\n0,1,5,4.766,1.093\n0,1,6,5.047,1.418\n0,1,8,5.084,1.451\n0,1,9,4.763,1.458\n0,1,10,4.664,1.436\n0,1,11,6.011,1.360\n0,1,12,2.974,1.773\n0,1,13,2.529,1.949\n0,1,14,1.706,2.090\n0,1,15,2.893,1.805\n0,1,17,2.841,1.813\n0,1,18,3.258,1.772\n0,1,19,2.866,1.830\n0,1,20,4.650,1.504\n0,1,22,4.286,1.482\n0,1,25,2.980,1.810\n0,1,26,2.790,1.830\n0,1,34,3.844,1.480\n0,1,35,7.915,1.307\n0,1,37,4.957,1.486\n0,1,39,6.114,1.445\n0,1,40,4.922,1.446\n0,1,41,3.830,1.510\n0,1,43,3.971,1.472\n0,1,45,3.844,1.480\n0,1,46,3.813,1.482\n0,1,54,4.267,1.461\n0,1,55,4.646,1.454\n0,1,56,4.166,1.453\n0,1,57,4.669,1.461\n0,1,58,4.329,1.451\n0,1,61,4.845,1.424\n0,1,62,4.456,1.444\n0,1,63,4.481,1.471\n0,1,64,4.518,1.469\n0,1,67,4.188,1.459\n0,1,68,4.217,1.479\n0,1,72,2.956,1.801\n0,1,73,2.608,1.839\n0,1,75,2.547,1.858\n0,1,78,4.593,1.465\n0,1,80,4.373,1.477\n0,1,81,4.512,1.441\n0,2,2,9.505,1.333\n1,2,2,5.310,1.430\n1,2,3,4.565,1.468\n0,2,4,9.538,1.297\n1,2,4,5.657,1.415\n0,2,5,5.170,1.083\n0,2,6,5.520,1.373\n1,2,9,6.385,1.360\n0,2,10,6.329,1.362\n0,2,11,6.283,1.350\n0,2,12,3.390,1.720\n0,2,13,3.413,1.854\n0,2,14,2.062,2.025\n0,2,15,3.896,1.720\n0,2,17,3.247,1.773\n0,2,18,3.789,1.728\n0,2,19,3.052,1.811\n0,2,20,4.593,1.465\n0,2,22,4.926,1.448\n0,2,25,3.750,1.742\n0,2,30,8.166,1.331\n0,2,34,5.207,1.407\n0,2,35,10.343,1.250\n1,2,37,5.007,1.449\n1,2,39,6.164,1.368\n0,2,40,6.110,1.370\n0,2,41,3.746,1.505\n0,2,43,4.928,1.420\n0,2,45,4.725,1.430\n0,2,46,7.466,1.325\n0,2,55,6.164,1.368\n0,2,56,6.246,1.365\n0,2,62,7.105,1.336\n1,2,63,6.030,1.400\n1,2,64,5.754,1.411\n1,2,67,4.685,1.432\n0,2,72,4.179,1.700\n1,2,81,6.357,1.361\n1,3,3,4.418,1.489\n1,3,4,5.135,1.438\n0,3,5,4.650,1.101\n0,3,6,5.801,1.355\n0,3,7,12.950,1.222\n0,3,9,10.077,1.290\n1,3,9,6.273,1.364\n0,3,10,5.829,1.369\n0,3,11,6.570,1.340\n0,3,12,3.449,1.715\n0,3,15,3.536,1.748\n0,3,16,4.735,1.665\n0,3,17,2.888,1.808\n0,3,18,3.394,1.760\n0,3,20,3.298,1.530\n0,3,22,4.593,1.465\n0,3,25,3.164,1.792\n1,3,30,4.481,1.471\n0,3,35,11.012,1.237\n1,3,37,4.488,1.457\n1,3,39,5.978,1.375\n0,3,40,6.110,1.370\n0,3,41,4.286,1.482\n0,3,43,4.928,1.420\n0,3,45,4.531,1.440\n0,3,48,5.412,1.398\n0,3,51,8.562,1.290\n0,3,53,7.637,1.320\n0,3,54,10.333,1.280\n1,3,54,2.771,1.563\n0,3,55,4.886,1.422\n0,3,56,4.907,1.421\n1,3,57,5.492,1.422\n1,3,58,5.163,1.409\n0,3,62,7.568,1.322\n1,3,63,5.468,1.423\n1,3,64,5.288,1.431\n0,3,67,8.217,1.304\n0,3,74,5.204,1.639\n0,3,75,4.191,1.710\n1,3,78,5.705,1.413\n1,3,80,6.719,1.375\n0,4,4,15.206,1.200\n0,4,5,5.726,1.065\n0,4,6,7.193,1.328\n0,4,7,14.916,1.176\n0,4,9,15.589,1.172\n1,4,9,7.041,1.338\n0,4,10,6.824,1.345\n0,4,15,4.330,1.690\n0,4,20,5.178,1.436\n0,4,22,5.400,1.426\n0,4,30,10.227,1.282\n1,4,37,5.445,1.424\n0,4,42,16.582,1.160\n0,4,43,6.947,1.341\n1,4,63,5.633,1.416\n1,4,64,5.492,1.422\n0,5,19,2.254,1.485\n0,5,20,4.852,1.093\n0,5,22,5.191,1.082\n0,5,30,5.176,1.086\n0,5,37,5.306,1.084\n0,5,41,3.256,1.144\n0,5,57,5.633,1.076\n0,5,63,5.531,1.080\n0,5,64,5.506,1.080\n0,5,78,5.506,1.080\n0,5,80,5.633,1.076\n0,6,6,4.088,1.449\n0,6,8,5.059,1.450\n0,6,9,4.491,1.395\n0,6,10,5.982,1.410\n0,6,15,4.757,1.661\n0,6,17,5.779,1.608\n0,6,18,5.326,1.630\n0,6,19,4.661,1.660\n0,6,20,5.623,1.433\n0,6,21,7.794,0.972\n0,6,22,4.556,1.433\n0,6,24,7.403,0.981\n0,6,25,5.243,1.630\n0,6,26,5.481,1.618\n0,6,29,7.839,0.973\n0,6,30,9.359,1.271\n0,6,33,7.143,0.986\n0,6,37,5.614,1.376\n0,6,39,4.629,1.388\n0,6,40,4.609,1.389\n0,6,41,6.754,1.342\n0,6,43,3.937,1.426\n0,6,45,4.321,1.404\n0,6,54,5.117,1.365\n0,6,55,4.772,1.381\n0,6,57,7.128,1.330\n0,6,58,4.792,1.380\n0,6,63,7.324,1.324\n0,6,64,6.664,1.345\n0,7,17,8.770,1.500\n0,7,46,9.329,1.235\n0,7,74,9.129,1.490\n0,8,8,3.264,1.420\n0,8,9,4.581,1.342\n0,8,10,3.909,1.378\n0,8,12,3.371,1.761\n0,8,15,4.060,1.652\n0,8,17,3.901,1.663\n0,8,19,4.254,1.700\n0,8,20,5.107,1.456\n0,8,22,4.223,1.457\n0,8,23,6.490,1.019\n0,8,25,4.629,1.660\n0,8,26,4.027,1.699\n0,8,34,3.775,1.386\n0,8,39,3.435,1.408\n0,8,40,3.710,1.390\n0,8,43,3.977,1.374\n0,8,45,4.267,1.358\n0,8,46,5.519,1.301\n0,8,55,4.229,1.360\n0,8,56,3.995,1.373\n0,9,9,7.256,1.243\n1,9,9,3.808,1.384\n0,9,10,4.480,1.347\n0,9,12,3.635,1.739\n0,9,15,3.791,1.671\n0,9,18,4.465,1.626\n0,9,19,3.687,1.741\n0,9,20,4.401,1.447\n0,9,25,5.379,1.619\n0,9,27,6.230,1.026\n0,9,34,3.223,1.423\n0,9,35,5.095,1.366\n1,9,37,5.529,1.393\n1,9,39,4.685,1.337\n0,9,40,4.382,1.352\n0,9,41,5.650,1.388\n0,9,45,4.857,1.329\n0,9,53,7.291,1.242\n0,9,54,4.991,1.323\n0,9,55,3.825,1.383\n0,9,56,4.602,1.341\n1,9,57,6.824,1.345\n0,9,62,4.749,1.334\n1,9,63,6.824,1.345\n1,9,64,5.458,1.396\n0,9,67,6.752,1.258\n1,9,78,6.644,1.351\n1,9,81,3.909,1.378\n0,10,10,3.977,1.374\n0,10,13,3.110,1.878\n0,10,14,1.967,2.029\n0,10,15,3.593,1.686\n0,10,17,3.930,1.661\n0,10,20,4.240,1.456\n0,10,22,4.970,1.418\n0,10,25,3.820,1.714\n0,10,26,3.651,1.727\n0,10,28,6.663,1.015\n0,10,34,3.960,1.375\n0,10,35,4.898,1.375\n0,10,37,5.482,1.395\n0,10,39,4.382,1.352\n0,10,40,3.841,1.382\n0,10,41,7.466,1.325\n0,10,45,3.524,1.402\n0,10,63,6.137,1.369\n0,10,64,5.952,1.376\n0,11,20,6.339,1.348\n0,11,22,5.296,1.389\n0,11,25,6.019,1.583\n0,11,26,6.204,1.575\n0,11,37,6.511,1.342\n0,11,40,4.187,1.440\n0,12,15,2.978,2.031\n0,12,18,2.808,2.051\n0,12,19,2.838,2.050\n0,12,20,2.859,1.751\n0,12,22,3.056,1.750\n0,12,25,3.063,2.023\n0,12,26,2.448,2.100\n0,12,37,3.378,1.721\n0,12,40,3.737,1.731\n0,12,57,3.714,1.694\n0,12,63,3.413,1.718\n0,12,64,3.649,1.699\n0,13,20,2.767,1.920\n0,13,22,2.928,1.902\n0,13,37,3.031,1.891\n0,13,64,3.031,1.891\n0,14,20,0.884,2.332\n0,14,37,1.781,2.075\n0,15,15,2.531,2.050\n0,15,18,2.214,2.094\n0,15,19,2.022,2.146\n0,15,20,2.757,1.822\n0,15,22,3.802,1.727\n0,15,25,2.319,2.112\n0,15,26,2.359,2.106\n0,15,30,3.750,1.731\n0,15,37,3.565,1.765\n0,15,40,3.859,1.666\n0,15,43,3.221,1.717\n0,15,57,3.993,1.713\n0,15,63,3.724,1.733\n0,15,64,3.548,1.747\n0,15,71,4.014,1.341\n0,17,20,2.397,1.865\n0,17,22,2.566,1.844\n0,17,37,3.098,1.787\n0,17,43,4.900,1.601\n0,18,20,3.172,1.780\n0,18,22,2.757,1.822\n0,18,32,10.748,1.450\n0,18,37,3.281,1.770\n0,18,39,3.504,1.693\n0,18,43,3.301,1.710\n0,18,48,6.186,1.540\n0,18,55,4.432,1.628\n0,18,58,2.568,1.783\n0,18,62,5.510,1.570\n0,18,63,3.524,1.749\n0,18,64,3.856,1.723\n0,18,80,4.150,1.702\n0,19,20,2.288,1.900\n0,19,37,3.072,1.809\n0,19,40,4.470,1.686\n0,19,63,3.219,1.795\n0,19,75,1.600,2.226\n0,20,20,3.663,1.526\n0,20,22,4.251,1.484\n0,20,25,2.718,1.838\n0,20,26,2.588,1.853\n0,20,30,3.977,1.507\n0,20,34,4.171,1.460\n0,20,37,3.740,1.516\n0,20,40,4.784,1.427\n0,20,41,4.286,1.482\n0,20,43,3.737,1.487\n0,20,45,3.844,1.480\n0,22,22,3.969,1.499\n0,22,30,3.785,1.513\n0,22,34,4.103,1.464\n0,22,37,4.481,1.471\n0,22,40,4.188,1.459\n0,22,41,5.071,1.441\n0,22,43,4.070,1.466\n0,22,45,4.311,1.452\n0,23,39,7.112,1.012\n0,23,62,6.339,1.026\n0,23,67,6.610,1.019\n0,23,68,5.899,1.038\n0,25,25,1.514,2.253\n0,25,32,8.296,1.510\n0,25,37,3.586,1.755\n0,25,39,4.370,1.676\n0,25,40,4.629,1.660\n0,25,43,3.237,1.762\n0,25,57,4.356,1.699\n0,25,63,3.711,1.745\n0,25,71,3.001,1.411\n0,25,72,3.744,1.950\n0,26,26,1.414,2.279\n0,26,34,3.395,1.748\n0,26,37,3.207,1.788\n0,26,40,4.870,1.646\n0,26,71,2.959,1.415\n0,28,40,6.576,1.018\n0,28,43,6.265,1.028\n0,28,48,6.413,1.024\n0,30,30,9.579,1.343\n1,30,30,5.355,1.428\n0,30,40,8.447,1.298\n1,30,67,5.274,1.404\n0,31,70,7.880,0.969\n0,32,41,9.756,1.261\n0,32,45,9.420,1.233\n0,32,67,7.926,1.269\n0,32,68,4.398,1.348\n0,32,69,6.098,1.261\n0,32,73,8.427,1.510\n0,32,77,10.648,1.450\n0,32,82,8.594,1.252\n0,34,36,6.163,1.028\n0,34,37,4.347,1.450\n0,34,43,4.401,1.351\n0,35,37,9.767,1.262\n0,35,63,12.760,1.207\n0,36,54,6.529,1.022\n0,36,55,6.744,1.014\n0,36,56,6.490,1.017\n0,36,58,6.610,1.019\n0,36,81,6.980,1.016\n0,37,37,5.573,1.374\n1,37,37,5.178,1.436\n0,37,38,5.737,1.333\n0,37,39,5.978,1.375\n1,37,39,5.650,1.388\n0,37,40,6.168,1.398\n0,37,41,4.537,1.468\n0,37,43,4.764,1.428\n0,37,45,4.705,1.431\n0,37,46,6.191,1.367\n0,37,55,6.615,1.352\n0,37,56,5.055,1.414\n1,37,57,5.092,1.440\n0,37,58,7.432,1.326\n1,37,58,5.055,1.414\n0,37,61,5.724,1.385\n0,37,62,7.137,1.335\n0,37,63,6.095,1.372\n1,37,63,5.178,1.436\n0,37,64,6.161,1.379\n1,37,64,5.265,1.432\n1,37,67,4.725,1.430\n0,37,69,5.396,1.352\n0,37,78,6.719,1.375\n0,37,81,3.987,1.471\n1,37,81,4.531,1.440\n0,38,38,5.002,1.246\n0,38,63,7.299,1.330\n0,38,64,6.978,1.340\n0,38,69,5.036,1.321\n0,38,78,6.218,1.366\n0,39,40,4.101,1.367\n0,39,45,3.524,1.402\n0,39,63,6.301,1.364\n1,39,63,6.137,1.369\n0,39,64,6.357,1.361\n1,39,64,5.482,1.395\n0,39,65,5.513,1.339\n0,39,78,6.137,1.369\n0,40,40,4.248,1.359\n0,40,45,4.305,1.356\n0,40,46,4.727,1.335\n0,40,54,6.817,1.256\n0,40,63,6.733,1.348\n0,40,64,6.644,1.351\n0,40,78,5.900,1.378\n0,41,41,5.029,1.443\n0,41,55,5.577,1.391\n0,41,62,7.137,1.335\n0,41,72,4.519,1.678\n0,41,80,5.222,1.434\n0,42,61,16.223,1.087\n0,43,43,4.211,1.361\n0,43,45,3.710,1.390\n0,43,64,5.389,1.399\n0,44,63,3.589,1.717\n0,44,65,3.374,1.684\n0,44,78,3.711,1.734\n0,44,80,3.910,1.719\n0,45,63,5.119,1.411\n0,45,64,5.076,1.413\n0,45,78,5.724,1.385\n0,47,53,12.192,1.140\n0,49,50,6.812,0.991\n0,51,52,7.100,0.987\n0,55,57,7.227,1.319\n0,55,62,3.977,1.374\n0,55,64,5.529,1.393\n0,55,80,7.500,1.324\n0,56,57,4.137,1.383\n0,56,63,5.900,1.378\n0,56,80,6.470,1.357\n1,57,63,5.400,1.426\n1,57,64,5.135,1.438\n0,58,63,6.794,1.346\n0,58,64,6.164,1.368\n0,59,63,5.787,1.360\n0,59,65,4.756,1.388\n0,59,78,6.127,1.364\n0,59,80,7.064,1.332\n0,59,82,3.855,1.431\n0,60,61,15.749,1.170\n0,62,63,6.947,1.341\n0,62,64,6.273,1.364\n1,63,63,5.729,1.412\n0,63,64,7.118,1.377\n0,63,66,8.326,1.313\n0,63,72,4.503,1.679\n0,63,78,7.434,1.352\n0,63,81,7.778,1.316\n0,64,64,4.313,1.418\n1,64,64,4.926,1.448\n0,64,65,8.258,1.335\n0,64,66,4.456,1.369\n0,64,78,5.492,1.422\n0,64,81,5.824,1.381\n0,64,82,6.794,1.346\n0,65,66,7.243,1.323\n0,65,78,8.447,1.298\n0,65,81,5.223,1.313\n0,65,82,5.622,1.297\n0,66,66,3.874,1.368\n0,66,78,6.385,1.360\n0,66,81,3.960,1.375\n0,67,67,6.085,1.280\n0,71,75,2.852,1.423\n0,72,73,2.628,2.035\n0,76,76,4.286,1.357\n0,76,78,6.824,1.345\n0,78,78,5.573,1.374\n0,78,79,8.890,1.287\n0,78,81,5.046,1.381\n0,79,79,6.408,1.269\n0,79,81,4.305,1.356\n0,80,81,8.237,1.335\n";
+public static final String bondData = "\u020d%\u0089 !\u0089 !\u0089 !\u0086#!\u0086#!                                                !! !  !               !!        !!! !!!    !          ! !!        !  !! !!   !!     !     !  !!                                                                !          !!       ! !! !!                                                                                                                          ! !                    !  !       ! !   ! !!   !        ! !                                   !!          !      !                       !!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"##########################################$$$$$$$$$$$$$$$$%%%%%%%%%%%&&&&&&&&&&&&&&&&&&&&&&&&&&&&&'''(((((((((((((((((((())))))))))))))))))))))))))))*******************++++++,,,,,,,,,,,,----..///////////////1111222222222222233333444444444446666666677779999999999:::::<<<>>>>?@@@@@@@@BBBCCDDDDDEEEEEEEEEEEEEEEEEEEEEEEEEEFFFFFGGGGGGGGHHHHHHHIIIIIJKKKLLLLMMMOQSWWWWXXXYYZZ[[[[[\\^^______```````aaaabbbcghllnnnoop!\"#$%&()*+,-./123469:BCEGHIKMNVWXYZ]^_`cdhiknpq\"\"#$$%&)*+,-./123469>BCEGHIKMNWX^_`chq#$%&'))*+,/012469>CEGHIKMPSUVVWXYZ^_`cjknp$%&'))*/46>EJK_`346>EIY_`np&()*/12345689:=>AEGHIKMVWYZ_`1Nj()*,/134679:BGHKMNWX))*,/2349;BCEGHIMUVWXY^_`cnq*-./1469:<BCEGHIM_`469:EH/23469:EHY_`46E`4E/23469:>EHKY_`g46EK46@EGKPWZ^_`p4EH_k469:>BEHIKM6>BEHIKMG^cd9@EGHKY_gh:BEHgHKP>>HcfIMcdeimrDEKE_VWXZqEEFGGHIKMNWXYZZ]^__``cenqqF_`enHM__``anHMNV_`nIW^hp]KM`_anp_`nURTY^`pY_p_`_`_anpr]_`_`bhnq``abnqrbnqrbnqckilnnoqoqq\u10c2\u11db\u107e\u1283\u12be\u13d7\u13fc\u12bb\u1258\u179b\u0bbe\u0a01\u06ca\u0b6d\u0b39\u0cda\u0b52\u124a\u10de\u0bc4\u0b06\u0f24\u1f0b\u137d\u1802\u135a\u0f16\u0fa3\u0f24\u0f05\u10cb\u1246\u1066\u125d\u1109\u130d\u1188\u11a1\u11c6\u107c\u1099\u0bac\u0a50\u0a13\u1211\u1135\u11c0\u2541\u14de\u11f5\u2562\u1639\u1452\u15b0\u1911\u18d9\u18ab\u0d5e\u0d75\u082e\u0f58\u0ccf\u0eed\u0c0c\u1211\u135e\u0ec6\u2006\u1477\u2887\u13af\u1834\u17fe\u0ec2\u1360\u1295\u1d4a\u1834\u1886\u1be1\u17ae\u169a\u126d\u1073\u18f5\u1162\u142f\u124a\u16c9\u32b6\u277d\u18a1\u16e5\u19ca\u0d99\u0df0\u129f\u0b68\u0d62\u0d02\u1211\u0c7c\u11a1\u2b24\u11a8\u177a\u17fe\u10de\u1360\u11d3\u1544\u2192\u1df5\u287d\u0af3\u1336\u134b\u1594\u144b\u1db0\u157c\u14c8\u2039\u1474\u107f\u1669\u1a5f\u3b86\u167e\u1c39\u3a64\u3d05\u1ba1\u1ac8\u110a\u145a\u1538\u2813\u1565\u40e6\u1b43\u1621\u1594\u08ee\u1314\u1467\u1458\u14da\u0cd8\u1621\u15bb\u15a2\u15a2\u1621\u1018\u13e3\u11ab\u177e\u12b5\u16b3\u14ee\u1255\u1617\u1e92\u11ec\u1d0b\u149b\u1589\u1ebf\u24af\u1c07\u160e\u1235\u1221\u1a82\u0f81\u1101\u141d\u12c4\u1bf8\u12d8\u1cbc\u1a28\u2262\u2491\u23c9\u0ce0\u1205\u0f65\u0d4b\u0ffc\u0f5d\u10be\u1413\u109f\u197a\u1235\u0fdb\u0edf\u0d8b\u0e9e\u0fa9\u10cb\u15af\u10a5\u0fbb\u1c78\u0f00\u11a0\u0e53\u0eef\u1191\u0e87\u1151\u1523\u1876\u0cb7\u1407\u15b9\u126d\u113e\u1632\u1319\u1c9b\u139f\u0f11\u121a\u1ac8\u12ad\u1ac8\u1572\u1a80\u1a14\u0f65\u0fa9\u0c46\u07cf\u0e29\u0f7a\u10b0\u138a\u0f0c\u0e63\u1a27\u0f98\u1342\u158a\u113e\u0f21\u1d4a\u0de4\u1819\u1760\u18e3\u14d0\u17a3\u185c\u198f\u107b\u0bc2\u0b18\u0b36\u0b4b\u0c10\u0c17\u09b0\u0d52\u0eb9\u0ea2\u0d75\u0e61\u0aef\u0b90\u0bf7\u0bf7\u0394\u0715\u0a03\u08c6\u0806\u0ae5\u0efa\u092f\u0957\u0ec6\u0e0d\u0f33\u0cb5\u0fb9\u0eac\u0dfc\u0fce\u097d\u0a26\u0c3a\u1344\u0c84\u0ae5\u2a1c\u0cf1\u0dd0\u0d05\u184a\u1170\u0a28\u15a6\u0de4\u0f30\u1056\u0910\u0c20\u1196\u0cb3\u0660\u0e6f\u10bb\u0abe\u0a3c\u0fa9\u106b\u0ebc\u12d0\u10de\u0eb9\u0f24\u0fa1\u0ee9\u1027\u11a1\u107c\u13ef\u1006\u10f7\u1be8\u18e3\u19f2\u172b\u060a\u2088\u0e22\u1132\u1235\u0cc5\u1124\u0e9f\u0bd9\u0ec0\u05a6\u0d63\u0ca7\u1326\u0baf\u19d0\u1899\u192d\u258b\u150b\u211f\u14ba\u1ee8\u263c\u24ec\u1f16\u114e\u17f2\u210b\u29b8\u21b2\u1833\u111b\u1151\u2647\u31f8\u19a1\u1a78\u197a\u19f2\u1b64\u15e5\u145a\u1689\u177a\u1632\u1838\u11d9\u12bc\u1281\u184f\u19f7\u13df\u1404\u1d28\u13df\u167c\u1c01\u17ef\u145a\u1831\u14b1\u1295\u1534\u1a5f\u0fb3\u11d3\u13aa\u1ca3\u1b62\u13cc\u186a\u1025\u0de4\u18bd\u1819\u18f5\u158a\u15a9\u1819\u10b8\u10f1\u1297\u1ac1\u1a6d\u1a14\u172c\u13c5\u15e9\u1c01\u11c7\u1486\u3f7f\u1093\u0e9e\u152d\u0e25\u0d4e\u0e9f\u0f66\u141f\u13f4\u167c\u2fc0\u1abc\u1bdc\u1c5b\u0fa9\u15b9\u1d6c\u1049\u172c\u1966\u1538\u142f\u1aaa\u1834\u16bb\u12b4\u180f\u1bb8\u0f2f\u3da5\u1b43\u18a1\u1681\u1bee\u20a6\u11b7\u1d2a\u1e82\u10f9\u135e\u2062\u1188\u1594\u16e0\u1aaa\u1c6b\u211f\u1487\u1616\u0f42\u1911\u0f98\u17e5\u0b44\u0a64\u10de\u1ac8\u15e5\u22da\u13d6\u1928\u10f1\u204d\u0604\u05ea\u05f4\u05d3\u0465\u05aa\u05cb\u05d2\u05bc\u0570\u070d\u07bd\u084a\u072d\u0735\u070c\u0746\u0600\u05ea\u0732\u0746\u05e8\u053b\u05ee\u05c5\u05c6\u0606\u05e0\u05e8\u05ea\u05d5\u05ce\u05cd\u05d5\u05cb\u05b0\u05c4\u05df\u05dd\u05d3\u05e7\u0729\u074f\u0762\u05d9\u05e5\u05c1\u0555\u05b6\u05dc\u0531\u05a7\u045b\u057d\u0570\u0572\u0566\u06d8\u075e\u0809\u06d8\u070d\u06e0\u0733\u05d9\u05c8\u06ee\u0553\u059f\u0502\u05c9\u0578\u057a\u0601\u05ac\u05b6\u054d\u0578\u0575\u0558\u0598\u05a3\u05b8\u06c4\u0571\u05f1\u05be\u046d\u056b\u04e6\u052a\u0574\u0579\u055c\u06d3\u06f4\u06a1\u0730\u0700\u061a\u05d9\u0720\u05df\u04f5\u05d1\u057f\u057a\u05ea\u05ac\u05c0\u0596\u052a\u0548\u0520\u063b\u05ae\u05ad\u05ae\u05a1\u054a\u05af\u05b7\u0538\u0687\u06ce\u05a5\u057f\u04d0\u0449\u0550\u04b8\u04b4\u055a\u0561\u06ba\u05bc\u05b2\u0522\u05b0\u04a8\u055d\u05a8\u05ae\u05ed\u0465\u045a\u045e\u045c\u0498\u0454\u0458\u0458\u0458\u0454\u05c9\u05ca\u0593\u05a2\u069d\u0668\u067e\u069c\u05b9\u03ec\u05b9\u03f5\u067e\u0672\u03ed\u0517\u03fa\u0580\u058c\u058d\u055e\u05b2\u059c\u0575\u0585\u0552\u0584\u054c\u0561\u05fc\u04f3\u05f2\u05ac\u055e\u0582\u0701\u0694\u069f\u06c4\u05d0\u05d1\u041b\u069c\u06c3\u058a\u05a0\u058e\u057e\u056e\u0535\u0570\u057d\u04fb\u0588\u0563\u06eb\u06a7\u067a\u06ed\u05c7\u0673\u0422\u05af\u0576\u0591\u0559\u0568\u058c\u0551\u04fa\u054b\u0587\u055d\u0561\u0556\u0561\u0594\u050a\u0567\u0582\u057e\u0776\u080d\u06b6\u069d\u05d0\u05aa\u06d2\u06df\u0417\u057f\u057f\u0593\u0568\u0586\u054d\u059a\u0579\u0580\u0564\u058d\u064f\u0647\u055e\u05c0\u080f\u0823\u0822\u06f7\u06f6\u0807\u0854\u06d9\u06e3\u06be\u06d6\u06c3\u07a0\u078e\u0783\u0783\u093c\u083b\u0822\u084e\u0882\u073e\u06df\u0860\u085a\u06e3\u0705\u06a2\u06d5\u06d1\u06e5\u06f3\u055d\u0769\u0754\u071b\u0661\u0714\u073e\u05ca\u070a\u06bd\u06ce\u0624\u067c\u0717\u0642\u06f5\u06db\u06c6\u078c\u0731\u06b6\u0723\u08d2\u0616\u05ec\u074e\u075d\u0603\u05d4\u060c\u05b3\u05ea\u05ef\u05e8\u05fb\u0609\u05d8\u05df\u05d3\u05c1\u05da\u05cc\u0414\u0422\u041b\u042e\u08ed\u0606\u06fb\u06ac\u069c\u0702\u06c3\u06f1\u05a3\u07be\u0907\u06f4\u071c\u068e\u05a7\u041a\u0424\u0420\u055f\u05b4\u0532\u059c\u03e9\u050d\u04f1\u0515\u0564\u050d\u0606\u05ca\u0504\u0424\u05ca\u0567\u050e\u04d7\u041e\u0416\u0419\u041b\u0418\u057e\u05bc\u0555\u057f\u058c\u0596\u05dc\u05b4\u05b7\u0577\u0568\u05a6\u05c0\u054e\u05a6\u0589\u0557\u057c\u05bc\u0583\u05b8\u05b6\u0568\u057f\u05df\u05c0\u04fe\u0552\u055c\u0549\u0576\u0577\u059a\u0574\u0579\u0571\u0593\u055b\u0579\u056f\u056c\u0557\u0508\u0564\u0567\u0582\u05c3\u058f\u0557\u06ae\u05ba\u045f\u0571\u058e\u0597\u06d5\u06b4\u06e6\u06d7\u05a3\u05a5\u0589\u0494\u03ff\u03fb\u0547\u057e\u0591\u054c\u0587\u0582\u056d\u05b2\u05be\u0562\u0578\u0570\u058c\u0574\u0554\u05b7\u04b2\u055d\u0574\u05a4\u0581\u0541\u06af\u0568\u0544\u05aa\u05c8\u0557\u0579\u05ae\u0585\u0562\u054b\u0532\u0541\u0531\u0578\u0570\u057f\u0520\u05af\u0813\u056d\u0561\u057e\u0527\u0585\u0515\u056c\u0557";
 
-public static final String covradData = "18\nint,float,float\n1,0.33,2.20\n3,1.34,0.97\n6,0.77,2.50\n7,0.73,3.07\n8,0.72,3.50\n9,0.74,4.12\n11,1.54,1.01\n12,1.30,1.23\n14,1.15,1.74\n15,1.09,2.06\n16,1.03,2.44\n17,1.01,2.83\n19,1.96,0.91\n20,1.74,1.04\n29,1.38,1.75\n30,1.31,1.66\n35,1.15,2.74\n53,1.33,2.21\n";
+public static final String covradData = "2#\u0089 !\u0086\"!\u0086\"!!#&'()+,./0134=>CUA\u00a6mihj\u00ba\u00a2\u0093\u008d\u0087\u0085\u00e4\u00ce\u00aa\u00a3\u0093\u00a5\u00fc\u0081\u011a\u0153\u017e\u01bc\u0085\u009b\u00ce\u00ee\u0114\u013b{\u0088\u00cf\u00c6\u0132\u00fd";
 
-public static final String defData = "99\nint,int,int,int,int\n1,1,1,1,0\n2,2,2,1,0\n3,3,3,1,0\n4,4,4,1,0\n5,5,5,5,0\n6,6,6,6,0\n7,7,7,6,0\n8,8,8,8,0\n9,9,9,8,0\n10,10,10,8,0\n11,11,11,11,0\n12,12,12,12,0\n13,13,13,13,0\n14,14,14,14,0\n15,15,15,15,0\n16,16,16,15,0\n17,17,17,15,0\n18,18,18,15,0\n19,19,19,19,0\n20,20,1,1,0\n21,21,21,5,0\n22,22,22,1,0\n23,23,23,5,0\n24,24,24,5,0\n25,25,25,25,0\n26,26,26,25,0\n27,27,28,5,0\n28,28,28,5,0\n29,29,29,5,0\n30,30,2,1,0\n31,31,31,31,0\n32,32,7,6,0\n33,33,21,5,0\n34,34,8,8,0\n35,35,6,6,0\n36,36,36,5,0\n37,37,2,1,0\n38,38,9,8,0\n39,39,10,8,0\n40,40,10,8,0\n41,41,3,1,0\n42,42,42,8,0\n43,43,10,8,0\n44,44,16,15,0\n45,45,10,8,0\n46,46,9,8,0\n47,47,42,8,0\n48,48,9,8,0\n49,49,6,6,0\n50,50,21,5,0\n51,51,7,6,0\n52,52,21,5,0\n53,53,42,8,0\n54,54,9,8,0\n55,55,10,8,0\n56,56,10,8,0\n57,57,2,1,0\n58,58,10,8,0\n59,59,6,6,0\n60,60,4,1,0\n61,61,42,8,0\n62,62,10,8,0\n63,63,2,1,0\n64,64,2,1,0\n65,65,9,8,0\n66,66,9,8,0\n67,67,9,8,0\n68,68,8,8,0\n69,69,9,8,0\n70,70,70,70,70\n71,71,5,5,0\n72,72,16,15,0\n73,73,18,15,0\n74,74,17,15,0\n75,75,26,25,0\n76,76,9,8,0\n77,77,12,12,0\n78,78,2,1,0\n79,79,9,8,0\n80,80,2,1,0\n81,81,10,8,0\n82,82,9,8,0\n83,0,0,0,0\n84,0,0,0,0\n85,0,0,0,0\n86,0,0,0,0\n87,87,87,87,87\n88,88,88,88,88\n89,89,89,89,89\n90,90,90,90,90\n91,91,91,91,91\n92,92,92,92,92\n93,93,93,93,93\n94,94,94,94,94\n95,95,95,95,95\n96,96,96,96,96\n97,97,97,97,97\n98,98,98,98,98\n99,99,99,99,99\n";
+public static final String defData = "\u0083%\u0089 !\u0089 !\u0089 !\u0089 !\u0089 !!\"#$%&'()*+,-./0123456789:;<=>?@ABCDEFGHIJKLMNOPQRSTUVWXYZ[\\]^_`abcdefghijklmnopqrstuvwxyz{|}~\u007f\u0080\u0081\u0082\u0083!\"#$%&'()*+,-./0123456789:;<=>?@ABCDEFGHIJKLMNOPQRSTUVWXYZ[\\]^_`abcdefghijklmnopqr    wxyz{|}~\u007f\u0080\u0081\u0082\u0083!\"#$%&'()*+,-./0123!56789:<<=\"?'5(&D\")**#J*0*)J)&5'5J)**\"*&$J*\"\")))()f%021:),\")\"*)    wxyz{|}~\u007f\u0080\u0081\u0082\u0083!!!!%&&(((+,-.////3!%!%%99%%%!?&%(&%!(((!((/((((&%&%((((!(&!((!!(((((f%///9(,!(!((    wxyz{|}~\u007f\u0080\u0081\u0082\u0083                                                                     f                wxyz{|}~\u007f\u0080\u0081\u0082\u0083";
 
-public static final String dfsbData = "30\nint,int,int,float,float\n0,1,0,0.15,0.15\n0,1,1,0.10,0.30\n0,1,2,0.05,0.35\n0,1,3,0.05,0.35\n0,1,4,0.05,0.35\n1,1,1,0.30,0.30\n1,1,2,0.30,0.50\n1,1,3,0.30,0.50\n1,1,4,0.30,0.50\n2,1,2,0.50,0.50\n2,1,3,0.50,0.50\n2,1,4,0.50,0.50\n3,1,3,0.50,0.50\n3,1,4,0.50,0.50\n4,1,4,0.50,0.50\n0,2,0,0.00,0.00\n0,2,1,0.00,0.15\n0,2,2,0.00,0.15\n0,2,3,0.00,0.15\n0,2,4,0.00,0.15\n1,2,1,0.30,0.30\n1,2,2,0.25,0.25\n1,2,3,0.25,0.25\n1,2,4,0.25,0.25\n2,2,2,0.25,0.25\n2,2,3,0.25,0.25\n2,2,4,0.25,0.25\n3,2,3,0.25,0.25\n3,2,4,0.25,0.25\n4,2,4,0.25,0.25\n";
+public static final String dfsbData = ">%\u0089 !\u0089 !\u0089 !\u0086\"!\u0086\"!     !!!!\"\"\"##$     !!!!\"\"\"##$!!!!!!!!!!!!!!!\"\"\"\"\"\"\"\"\"\"\"\"\"\"\" !\"#$!\"#$\"#$#$$ !\"#$!\"#$\"#$#$$/*%%%>>>>RRRRRR     >999999999/>CCC>RRRRRRRRR ////>999999999";
 
-public static final String herschbachlaurieData = "25\nint,int,float,float,float\n0,0,1.26,0.025,0.025\n0,1,1.66,0.30,0.36\n0,2,1.84,0.38,0.58\n0,3,1.98,0.49,0.65\n0,4,2.03,0.51,0.80\n0,5,2.03,0.25,0.81\n0,30,1.85,0.15,0.53\n0,40,1.84,0.61,0.61\n0,50,1.78,0.97,0.62\n1,1,1.91,0.68,0.68\n1,2,2.28,0.74,0.92\n1,3,2.35,0.85,1.02\n1,4,2.33,0.68,1.12\n1,5,2.50,0.97,1.22\n1,30,2.08,1.14,0.97\n1,40,2.34,1.17,1.08\n2,2,2.41,1.18,1.18\n2,3,2.52,1.02,1.28\n2,4,2.61,1.28,1.40\n2,5,2.60,0.84,1.24\n3,3,2.58,1.41,1.35\n3,4,2.66,0.86,1.48\n3,5,2.75,1.14,1.55\n4,4,2.85,1.62,1.62\n4,5,2.76,1.25,1.51\n";
+public static final String herschbachlaurieData = "9%\u0089 !\u0089 !\u0086\"!\u0086#!\u0086#!         !!!!!!!\"\"\"\"###$$ !\"#$%>HR!\"#$%>H\"#$%#$%$%\u009e\u00c6\u00d8\u00e6\u00eb\u00eb\u00d9\u00d8\u00d2\u00df\u0104\u010b\u0109\u011a\u00f0\u010a\u0111\u011c\u0125\u0124\u0122\u012a\u0133\u013d\u01349\u014c\u019c\u020a\u021e\u011a\u00b6\u0282\u03ea\u02c8\u0304\u0372\u02c8\u03ea\u0494\u04b2\u04bc\u041c\u0520\u0368\u05a2\u037c\u0494\u0674\u05029\u0188\u0264\u02aa\u0340\u034a\u0232\u0282\u028c\u02c8\u03b8\u041c\u0480\u04e4\u03ea\u0458\u04bc\u0520\u0598\u04f8\u0566\u05e8\u062e\u0674\u0606";
 
-public static final String outofplaneData = "117\nint,int,int,int,float\n0,2,0,0,0.020\n1,2,1,2,0.030\n1,2,2,2,0.027\n1,2,2,3,0.026\n1,2,2,5,0.013\n1,2,2,37,0.032\n2,2,2,5,0.013\n2,2,3,5,0.012\n2,2,5,5,0.006\n2,2,5,6,0.027\n2,2,5,37,0.017\n2,2,5,40,0.012\n2,2,5,41,0.008\n0,3,0,0,0.130\n1,3,1,7,0.146\n1,3,2,7,0.138\n1,3,3,7,0.134\n1,3,5,7,0.122\n1,3,6,7,0.141\n1,3,7,10,0.129\n1,3,7,37,0.138\n2,3,5,7,0.113\n2,3,5,9,0.081\n2,3,6,7,0.127\n2,3,7,10,0.116\n3,3,5,7,0.113\n3,3,6,7,0.127\n5,3,5,7,0.103\n5,3,5,9,0.074\n5,3,5,54,0.078\n5,3,6,7,0.119\n5,3,7,10,0.102\n5,3,9,40,0.067\n6,3,7,37,0.127\n7,3,10,10,0.113\n7,3,20,20,0.151\n9,3,40,40,0.057\n0,8,0,0,0.000\n0,10,0,0,-0.020\n1,10,1,3,-0.02\n1,10,3,6,-0.033\n1,10,3,28,-0.02\n3,10,3,28,-0.030\n3,10,28,28,-0.019\n0,17,0,0,0.000\n0,26,0,0,0.000\n0,30,0,0,0.010\n5,30,20,30,0.008\n0,37,0,0,0.035\n1,37,37,37,0.040\n2,37,37,37,0.031\n3,37,37,37,0.027\n5,37,37,37,0.015\n5,37,37,38,0.046\n5,37,37,63,0.008\n5,37,37,64,0.012\n5,37,37,69,0.016\n5,37,38,38,0.084\n6,37,37,37,0.048\n15,37,37,37,0.025\n37,37,37,40,0.046\n0,39,0,0,0.020\n1,39,63,63,0.012\n23,39,63,63,-0.014\n23,39,63,65,0.021\n23,39,65,65,0.062\n0,40,0,0,-0.005\n1,40,28,37,-0.006\n2,40,28,28,-0.007\n3,40,28,28,-0.007\n28,40,28,37,0.004\n0,41,0,0,0.180\n1,41,32,32,0.178\n2,41,32,32,0.161\n5,41,32,32,0.158\n0,43,0,0,0.000\n0,45,0,0,0.150\n0,49,0,0,0.000\n50,49,50,50,0.000\n0,54,0,0,0.020\n1,54,3,36,0.016\n3,54,36,36,0.018\n0,55,0,0,0.020\n1,55,36,57,0.020\n36,55,36,57,0.020\n0,56,0,0,0.020\n1,56,36,57,0.020\n36,56,36,57,0.020\n0,57,0,0,0.080\n5,57,55,55,0.038\n56,57,56,56,0.158\n0,58,0,0,0.025\n0,63,0,0,0.050\n5,63,39,64,0.019\n5,63,39,66,0.068\n5,63,44,64,0.014\n5,63,44,66,0.055\n5,63,59,64,0.033\n5,63,59,66,0.085\n37,63,39,64,0.010\n0,64,0,0,0.040\n5,64,63,64,0.006\n5,64,63,66,0.043\n5,64,64,65,0.052\n5,64,65,66,0.094\n37,64,63,64,-0.011\n0,67,0,0,0.070\n0,69,0,0,0.070\n32,69,37,37,0.067\n0,73,0,0,0.000\n0,78,0,0,0.045\n5,78,78,81,0.046\n0,80,0,0,0.080\n5,80,81,81,0.057\n0,81,0,0,0.025\n36,81,78,80,0.016\n0,82,0,0,0.000\n";
+public static final String outofplaneData = "\u0095%\u0089 !\u0089 !\u0089 !\u0089 !\u0086#! !!!!!\"\"\"\"\"\"\" !!!!!!!\"\"\"\"##%%%%%%&'')  !!!##   % !\"#%%%%%%&/E !777 !\"#< !\"%   R !# !D !D %X  %%%%%%E %%%%E  @  % % D \"\"\"\"\"\"\"\"\"\"\"\"\"########################(******1:>>EEEEEEEEEEEEEGGGGGHHHHHIIIIKMQQVVVWWWXXXYYYZ________``````ceeinnppqqr !\"\"\"\"\"#%%%%% !\"#%&''%%&'%&%%%&')'*4H  !###<   4 EEEEEEEEFEEE ___a <<<< @@@   R #D DD DD WX  GGLL[[G __`a_  E  n q n  \"\"#%E%%%&EHI '''''*E')'*''')V'*HE*4H  #&<<<   > EEEEF_`eFEEH __aa E<<E @@@   R DD YY YY WX  `b`b`b` `bab`  E  q q p 4>;:-@-,&;1,(\u00a2\u00b2\u00aa\u00a6\u009a\u00ad\u00a1\u00aa\u0091q\u009f\u0094\u0091\u009f\u0087jn\u0097\u0086c\u009f\u0091\u00b7Y \u000c\u000c\uffff\u000c\u0002\r  *(CH?;/N(,0tP9N4,\u00125^\u001b\u001a\u0019\u0019$\u00d4\u00d2\u00c1\u00be \u00b6  402444444pF\u00be9R3d.WAu*H&KT~\u0015ffc MNpY90 ";
 
-public static final String pbciData = "99\nint,float,float\n1,0.000,0.000\n2,-0.135,0.000\n3,-0.095,0.000\n4,-0.200,0.000\n5,-0.023,0.000\n6,-0.243,0.000\n7,-0.687,0.000\n8,-0.253,0.000\n9,-0.306,0.000\n10,-0.244,0.000\n11,-0.317,0.000\n12,-0.304,0.000\n13,-0.238,0.000\n14,-0.208,0.000\n15,-0.236,0.000\n16,-0.475,0.000\n17,-0.191,0.000\n18,-0.118,0.000\n19,0.094,0.000\n20,-0.019,0.000\n21,0.157,0.000\n22,-0.095,0.000\n23,0.193,0.000\n24,0.257,0.000\n25,0.012,0.000\n26,-0.142,0.000\n27,0.094,0.000\n28,0.058,0.000\n29,0.207,0.000\n30,-0.166,0.000\n31,0.161,0.000\n32,-0.732,0.500\n33,0.257,0.000\n34,-0.491,0.000\n35,-0.456,0.500\n36,-0.031,0.000\n37,-0.127,0.000\n38,-0.437,0.000\n39,-0.104,0.000\n40,-0.264,0.000\n41,0.052,0.000\n42,-0.757,0.000\n43,-0.326,0.000\n44,-0.237,0.000\n45,-0.260,0.000\n46,-0.429,0.000\n47,-0.418,0.000\n48,-0.525,0.000\n49,-0.283,0.000\n50,0.284,0.000\n51,-1.046,0.000\n52,-0.546,0.000\n53,-0.048,0.000\n54,-0.424,0.000\n55,-0.476,0.000\n56,-0.438,0.000\n57,-0.105,0.000\n58,-0.488,0.000\n59,-0.337,0.000\n60,-0.635,0.000\n61,-0.265,0.000\n62,-0.125,0.250\n63,-0.180,0.000\n64,-0.181,0.000\n65,-0.475,0.000\n66,-0.467,0.000\n67,-0.099,0.000\n68,-0.135,0.000\n69,-0.099,0.000\n70,-0.269,0.000\n71,-0.071,0.000\n72,-0.580,0.500\n73,-0.200,0.000\n74,-0.301,0.000\n75,-0.255,0.000\n76,-0.568,0.250\n77,-0.282,0.000\n78,-0.168,0.000\n79,-0.471,0.000\n80,-0.144,0.000\n81,-0.514,0.000\n82,-0.099,0.000\n83,0.000,0.000\n84,0.000,0.000\n85,0.000,0.000\n86,0.000,0.000\n87,2.000,0.000\n88,3.000,0.000\n89,-1.000,0.000\n90,-1.000,0.000\n91,-1.000,0.000\n92,1.000,0.000\n93,1.000,0.000\n94,1.000,0.000\n95,2.000,0.000\n96,2.000,0.000\n97,1.000,0.000\n98,2.000,0.000\n99,2.000,0.000\n";
+public static final String pbciData = "\u0083#\u0089 !\u0086#!\u0086#!!\"#$%&'()*+,-./0123456789:;<=>?@ABCDEFGHIJKLMNOPQRSTUVWXYZ[\\]^_`abcdefghijklmnopqrstuvwxyz{|}~\u007f\u0080\u0081\u0082\u0083 \uff99\uffc1\uff58\u0009\uff2d\ufd71\uff23\ufeee\uff2c\ufee3\ufef0\uff32\uff50\uff34\ufe45\uff61\uffaa~\r\u00bd\uffc1\u00e1\u0121,\uff92~Z\u00ef\uff7a\u00c1\ufd44\u0121\ufe35\ufe58\u0001\uffa1\ufe6b\uffb8\uff18T\ufd2b\ufeda\uff33\uff1c\ufe73\ufe7e\ufe13\uff05\u013c\ufc0a\ufdfe\ufff0\ufe78\ufe44\ufe6a\uffb7\ufe38\ufecf\ufda5\uff17\uffa3\uff6c\uff6b\ufe45\ufe4d\uffbd\uff99\uffbd\uff13\uffd9\ufddc\uff58\ufef3\uff21\ufde8\uff06\uff78\ufe49\uff90\ufe1e\uffbd    \u07f0\u0bd8\ufc38\ufc38\ufc38\u0408\u0408\u0408\u07f0\u07f0\u0408\u07f0\u07f0                               \u0214  \u0214                          \u011a         \u0214   \u011a                       ";
 
-public static final String stbnData = "282\nint,int,int,int,float,float\n0,1,1,1,0.206,0.206\n0,1,1,2,0.136,0.197\n0,1,1,3,0.211,0.092\n0,1,1,5,0.227,0.070\n0,1,1,6,0.173,0.417\n0,1,1,8,0.136,0.282\n0,1,1,10,0.187,0.338\n0,1,1,11,0.209,0.633\n0,1,1,12,0.176,0.386\n0,1,1,15,0.139,0.217\n0,1,1,34,0.236,0.436\n0,1,1,37,0.152,0.260\n0,1,1,39,0.144,0.595\n0,1,1,41,0.122,0.051\n0,1,1,56,0.262,0.451\n0,1,1,68,0.186,0.125\n0,2,1,2,0.282,0.282\n0,2,1,3,0.206,0.022\n0,2,1,5,0.234,0.088\n0,2,1,6,0.183,0.387\n0,2,1,8,0.214,0.363\n0,3,1,5,0.157,0.115\n0,3,1,6,-0.036,0.456\n0,3,1,10,0.038,0.195\n0,5,1,5,0.115,0.115\n0,5,1,6,0.013,0.436\n0,5,1,8,0.027,0.358\n0,5,1,9,0.040,0.418\n0,5,1,10,0.043,0.261\n0,5,1,11,0.003,0.452\n0,5,1,12,-0.018,0.380\n0,5,1,15,0.018,0.255\n0,5,1,18,0.121,0.218\n0,5,1,20,0.069,0.327\n0,5,1,22,0.055,0.267\n0,5,1,34,-0.003,0.342\n0,5,1,37,0.074,0.287\n0,5,1,39,0.092,0.607\n0,5,1,40,0.023,0.335\n0,5,1,41,0.093,0.118\n0,5,1,54,0.016,0.343\n0,5,1,55,0.030,0.397\n0,5,1,56,0.031,0.384\n0,5,1,68,0.041,0.216\n0,6,1,6,0.320,0.320\n0,6,1,37,0.310,0.160\n0,11,1,11,0.586,0.586\n0,12,1,12,0.508,0.508\n0,1,2,1,0.250,0.250\n0,1,2,2,0.203,0.207\n2,1,2,2,0.222,0.269\n2,1,2,3,0.244,0.292\n0,1,2,5,0.215,0.128\n2,1,2,37,0.246,0.260\n1,2,2,2,0.250,0.219\n2,2,2,3,0.155,0.112\n0,2,2,5,0.207,0.157\n1,2,2,5,0.267,0.159\n0,2,2,6,0.118,0.576\n2,2,2,37,0.143,0.172\n0,2,2,40,0.289,0.390\n0,2,2,41,0.191,-0.047\n1,3,2,5,0.264,0.156\n0,5,2,5,0.140,0.140\n0,5,2,6,0.213,0.502\n2,5,2,37,0.153,0.288\n0,5,2,40,0.070,0.463\n0,5,2,41,0.191,0.005\n0,1,3,1,0.358,0.358\n2,1,3,2,0.246,0.409\n2,1,3,3,0.303,0.145\n0,1,3,5,0.321,0.183\n0,1,3,6,0.338,0.732\n0,1,3,7,0.154,0.856\n0,1,3,10,0.223,0.732\n2,1,3,37,0.217,0.207\n1,2,3,5,0.407,0.159\n1,2,3,6,0.429,0.473\n1,2,3,7,0.214,0.794\n1,2,3,9,0.227,0.610\n1,2,3,10,0.298,0.600\n1,3,3,5,0.251,0.133\n1,3,3,6,0.066,0.668\n1,3,3,7,-0.093,0.866\n0,5,3,5,0.126,0.126\n0,5,3,6,0.174,0.734\n0,5,3,7,0.032,0.805\n0,5,3,9,0.037,0.669\n0,5,3,10,0.169,0.619\n0,5,3,40,0.087,0.685\n0,5,3,54,0.098,0.210\n0,6,3,7,0.494,0.578\n4,6,3,20,1.179,0.752\n2,6,3,37,0.350,0.175\n0,7,3,10,0.771,0.353\n0,7,3,20,0.865,-0.181\n2,7,3,37,0.707,0.007\n0,9,3,40,0.680,0.260\n0,10,3,10,1.050,1.050\n4,20,3,20,0.536,0.536\n0,40,3,40,0.482,0.482\n0,1,6,1,0.309,0.309\n0,1,6,2,0.157,0.375\n0,1,6,3,-0.153,0.252\n0,1,6,21,0.256,0.143\n0,1,6,37,0.163,0.375\n0,2,6,3,-0.228,0.052\n0,2,6,29,0.259,0.163\n4,3,6,20,0.456,0.379\n0,3,6,24,0.215,0.064\n0,3,6,37,-0.225,-0.320\n0,8,6,21,0.304,0.055\n0,10,6,21,0.419,0.158\n0,18,6,33,0.309,0.120\n4,20,6,20,0.739,0.739\n0,29,6,37,0.130,0.241\n0,31,6,31,0.227,0.227\n0,1,8,1,0.312,0.312\n0,1,8,6,0.212,0.354\n0,1,8,23,0.309,0.135\n0,6,8,23,0.418,0.020\n4,20,8,20,0.653,0.653\n0,20,8,23,0.128,0.122\n0,23,8,23,0.190,0.190\n0,1,9,3,0.326,0.580\n0,3,9,27,0.464,0.222\n0,1,10,1,0.063,0.063\n0,1,10,3,-0.021,0.340\n0,1,10,6,-0.024,0.374\n0,1,10,28,0.155,-0.051\n0,3,10,3,-0.219,-0.219\n0,3,10,6,0.497,0.513\n0,3,10,28,0.137,0.066\n0,28,10,28,0.081,0.081\n0,1,15,1,0.125,0.125\n0,1,15,15,0.012,0.238\n0,1,15,37,0.048,0.229\n0,1,15,71,0.080,-0.012\n0,15,15,71,0.172,-0.068\n0,37,15,71,0.187,-0.027\n0,71,15,71,0.045,0.045\n0,1,18,1,0.023,0.023\n0,1,18,6,0.003,0.213\n0,1,18,32,-0.091,0.390\n0,1,18,43,-0.008,0.607\n0,6,18,6,0.088,0.088\n0,6,18,32,0.123,0.369\n0,32,18,32,0.404,0.404\n0,32,18,43,0.384,0.281\n0,43,18,43,0.428,0.428\n0,1,20,5,0.290,0.098\n0,1,20,20,0.179,0.004\n0,3,20,5,-0.049,0.171\n4,3,20,20,0.607,0.437\n0,5,20,5,0.182,0.182\n0,5,20,6,0.051,0.312\n0,5,20,8,0.072,0.226\n0,5,20,12,0.014,0.597\n0,5,20,20,0.101,0.079\n0,5,20,30,0.108,0.123\n4,6,20,20,0.823,0.396\n4,8,20,20,0.701,0.369\n0,12,20,20,0.310,0.000\n4,20,20,20,0.283,0.283\n4,20,20,30,0.340,0.529\n0,1,22,5,0.067,0.174\n0,1,22,22,0.199,0.039\n0,5,22,5,0.254,0.254\n0,5,22,22,0.181,0.108\n5,22,22,22,0.000,0.000\n0,5,26,5,-0.121,-0.121\n0,5,30,20,0.251,0.007\n0,5,30,30,0.267,0.054\n4,20,30,30,0.413,0.705\n0,1,34,1,0.202,0.202\n0,1,34,36,0.160,-0.009\n0,36,34,36,0.087,0.087\n0,1,37,37,0.485,0.311\n1,2,37,37,0.321,0.235\n1,3,37,37,0.179,0.217\n0,5,37,37,0.279,0.250\n0,5,37,38,0.267,0.389\n0,5,37,63,0.216,0.434\n0,5,37,64,0.167,0.364\n0,5,37,69,0.273,0.391\n0,6,37,37,0.830,0.339\n0,15,37,37,0.650,0.259\n0,37,37,37,-0.411,-0.411\n0,37,37,38,-0.424,-0.466\n0,37,37,40,0.429,0.901\n0,37,37,63,-0.173,-0.215\n0,37,37,64,-0.229,-0.229\n0,37,37,69,-0.244,-0.555\n0,38,37,38,-0.516,-0.516\n0,37,38,37,-0.342,-0.342\n0,37,38,38,-0.164,-1.130\n0,1,39,63,0.313,0.500\n0,23,39,63,-0.131,0.422\n0,23,39,65,-0.122,0.281\n0,63,39,63,0.469,0.469\n0,63,39,65,0.741,0.506\n0,65,39,65,0.706,0.706\n0,1,40,28,0.238,0.091\n0,1,40,37,0.153,0.590\n0,2,40,28,0.342,0.156\n0,3,40,28,0.228,0.104\n0,28,40,28,0.094,0.094\n0,28,40,37,0.186,0.423\n0,1,41,32,0.503,0.943\n0,2,41,32,0.594,0.969\n0,5,41,32,0.276,0.852\n0,32,41,32,0.652,0.652\n0,18,43,23,0.377,0.057\n0,23,43,23,0.082,0.082\n0,63,44,63,0.591,0.591\n0,63,44,65,0.857,0.978\n0,50,49,50,0.072,0.072\n0,1,54,3,0.192,-0.051\n0,1,54,36,0.240,0.079\n0,3,54,36,0.005,0.127\n0,36,54,36,0.148,0.148\n0,1,55,36,0.189,0.033\n0,1,55,57,0.166,0.211\n0,36,55,36,0.106,0.106\n0,36,55,57,0.093,0.080\n0,1,56,36,0.211,-0.040\n0,1,56,57,0.026,0.386\n0,36,56,36,0.101,0.101\n0,36,56,57,0.108,0.068\n0,5,57,55,0.043,0.420\n0,55,57,55,0.125,0.125\n0,56,57,56,0.431,0.431\n0,58,57,58,0.732,0.732\n0,63,59,63,0.497,0.497\n0,63,59,65,0.723,0.874\n0,5,63,39,0.009,0.654\n0,5,63,44,-0.015,0.446\n0,5,63,59,0.067,0.588\n0,5,63,64,0.055,0.370\n0,5,63,66,0.110,0.464\n0,37,63,39,0.178,0.523\n0,37,63,64,-0.045,0.497\n0,39,63,64,0.422,0.409\n0,39,63,66,0.436,0.525\n0,44,63,64,0.581,0.426\n0,44,63,66,0.542,0.365\n0,59,63,64,0.852,0.332\n0,59,63,66,0.775,0.300\n0,5,64,63,0.086,0.345\n0,5,64,64,0.085,0.369\n0,5,64,65,0.051,0.436\n0,5,64,66,0.113,0.452\n0,37,64,63,0.059,0.299\n0,37,64,64,0.277,0.377\n0,63,64,64,0.206,0.030\n0,63,64,66,0.171,0.078\n0,64,64,65,0.079,0.403\n0,65,64,66,0.406,0.066\n0,39,65,64,0.528,0.644\n0,39,65,66,0.397,0.258\n0,44,65,64,0.816,0.543\n0,59,65,64,1.177,0.594\n0,63,66,64,0.213,-0.173\n0,63,66,66,0.234,0.077\n0,64,66,65,-0.149,0.383\n0,65,66,66,0.199,0.101\n0,1,68,1,0.217,0.217\n0,1,68,23,0.285,0.050\n0,1,68,32,-0.047,0.503\n0,23,68,23,0.145,0.145\n0,23,68,32,-0.182,0.504\n0,32,69,37,1.018,0.418\n0,37,69,37,-0.169,-0.169\n0,31,70,31,0.210,0.210\n0,5,78,78,0.279,0.250\n0,5,78,81,0.083,0.250\n0,78,78,81,-0.398,0.314\n0,5,80,81,-0.101,0.691\n0,81,80,81,0.732,0.732\n0,36,81,78,0.021,0.368\n0,36,81,80,0.018,0.422\n0,78,81,80,0.366,0.419\n";
+public static final String stbnData = "\u013a&\u0089 !\u0089 !\u0089 !\u0089 !\u0086#!\u0086#!                                                  \"\" \"!\" ! \"  !  \"   \"\"    \"!!!!!!!!        $\"  \"  $        $     $      $                               $      $$ $$    %   $    !!                                                                                                      !!!!!!!!!!!!!!!!\"\"\"\"\"###%%%%%%%%%%%%%%%%%%%%&&+,!!!!!!\"\"\"\"\"\"\"\"#%%%%%!!!!!!!!\"\"\"\"\"###%%%%%%%&&&''')*4H!!!!!\"\"###(*24=?!!!&447!#!!!!###<!!!!/Eg!!!!&&@@K!!##%%%%%%&(,44!!%%6%%%4!!D!\"#%%%%%&/EEEEEEFEE!77__a!!\"#<<!\"%@27__R!!#D!!DD!!DD%WXZ__%%%%%EEGGLL[[%%%%EE__`aGGL[__`a!!!77@E?%%n%qDDn!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"#################################&&&&&&&&&&&&&&&&((((((())********///////22222222244444444444444466666:>>>BBBEEEEEEEEEEEEEEEEEFFGGGGGGHHHHHHIIIIKKLLQVVVVWWWWXXXXYYYY[[_____________``````````aaaabbbbdddddeefnnnppqqq!\"#%&(*+,/BEGIXd\"#%&(%&*%&()*+,/246BEGHIVWXd&E+,!\"\"#%E\"#%%&EHI%%&EHI!\"#%&'*E%&')*%&'%&')*HV'4E*4EH*4H!\"#5E#=48E55A4E?!&77477#;!#&<#&<<!/Egggg!&@K&@@KK%4%4%&(,4>4444>%6%66%4>>!DDEEEEF_`eEEEFH_`eFEF__a_aa<E<<<E@@@@77_aR#DDDDYDYDYDYWWXZ_aGL[`bG``b`b`b_`ab_``bab`b```bab!7@7@EE?nqqqqnpp\u00ee\u00a8\u00f3\u0103\u00cd\u00a8\u00db\u00f1\u00d0\u00ab\u010c\u00b8\u00b0\u009a\u0126\u00da\u013a\u00ee\u010a\u00d7\u00f6\u00bd\ufffcF\u0093-;HK#\u000e2\u0099eW\u001dj|7}0>?I\u0160\u0156\u026a\u021c\u011a\u00eb\u00fe\u0114\u00f7\u0116\u011a\u00bb\u00ef\u012b\u0096\u00af\u0141\u00df\u0128\u00ac\u00f5\u00b9f\u00df\u0186\u0116\u014f\u0161\u0172\u00ba\u00ff\u00f9\u01b7\u01cd\u00f6\u0103\u014a\u011bb\uffc3\u009e\u00ce@E\u00c9w\u0082\u020e\u04bb\u017e\u0323\u0381\u02e3\u02c8\u043a\u0238\u0202\u0155\u00bd\uff87\u0120\u00c3\uff3c\u0123\u01e8\u00f7\uff3f\u0150\u01c3\u0155\u0303\u00a2\u0103\u0158\u00f4\u0155\u01c2\u02ad\u00a0\u00de\u0166\u01f0_\u000b\u0008\u00bb\uff45\u0211\u00a9q\u009d,Pp\u00cc\u00dbM7#\uffc5\u0018x\u009b\u01b4\u01a0\u01cc\u0142\u00d3\uffef\u027f\u00d6Sh.\u0085\u008c\u0357\u02dd\u0156\u013b\u0174c\u00e7\u011e\u00d5 \uffa7\u011b\u012b\u01bd\u00ea\u00c0w\u0205\u0161\u00d3\u0137\u012b\u00f8\u00c7\u0131\u035e\u02aa\ufe85\ufe78\u01cd\uff73\uff3b\uff2c\ufe1c\ufeca\uff7c\u0159\uff9d\uffa6\u01f5\u0305\u02e2\u010e\u00b9\u0176\u0104~\u00da\u0217\u0272\u0134\u02ac\u0199r\u026f\u0379h\u00e0\u0110%\u00b4\u00dd\u00c6\u008a}\u00f3:\u0085\u008cK\u009d\u01cf\u02fc\u0211\u02f3)\u0011cW\u008e\u00d2\ufff3\u01c6\u01d4\u0265\u023e\u0374\u0327vuS\u0091[\u0135\u00ee\u00cbo\u01b6\u0230\u01ad\u0350\u04b9\u00f5\u010a\uff8b\u00e7\u00f9\u013d\ufff1\u00b1\uff6a\u041a\uff77\u00f2\u0137s\ufe92\uffbb\u02fc52\u018e\u00ee\u00e5|f\u01c1\u013a\u0172\u0299\u01a2\u00f9\u01d4\u0124\u0273S\u01e3\u009d\u013a6x\u01a3\u018b\u0093\u01e8\u00e3\u0093\u01d4\u0186\u01c2\u0125\u01e4\u019c\u011f\u00fa\u0167\u012b\u0176\u013f\u027f\u016f\u0096\u0177\u01ad\u01a0\u00f8\u0160\u00c0\u026a\u021c\u011a\u00ef\u012d\u0144\u00a0\u0124\u00fb\u0090\u00bd\u00bf\u0260\u00cc\u01a6\ufff1\u00bc\u00ac\u0216\u0140\u01ef%\u0186\u01b9\u00b1\u00d7\u02fc\u0378\u02fc\u00ef\u00bf\u01f9\u033a\u0282\u0278\u00a5\u02bc\u0382\u009e\u02fe\u0345\u02bd\u028b\u02cd\u00f2\u0262\u0310\u00cf\u0181\uff6b'\u0124\u043a\u0238\u0202\u0155\u0197\u011c\u00af\u0197T\u00c3\u019b`\ufee0W\u00be\u0098\u0303\u0111\u0103\u0158\u0182\u00a74\u02ad\u009a\u00de\u0264\u00fe_\u0174\u0196\uffed\uff45\u0221bq\u009d\u010e\u0105\u0014\uffdc\u0005M7\u00f5\u01a6\u027fx\u0191\u01b4\u0139\u01cc\u0082$\u00cb\u01d5\u00d6\u0158\u0102\u0275o\u009b\u01ac\u0191 \u013b\u0231\u00ceG\u011e\u008c \uffa7'V\u02e1\u00ea\u0017w\u0157\u010b\u00f9\u011a\u01a5\u01d2\u018c\u01a7\u0173\u0123\ufe85\ufe4e\u03a5\uff49\uff3b\ufdf5\ufe1c\ufeca\ufbb6\u0214\u01c6\u0139\u01f5\u021a\u02e2{\u026e\u00bc\u0088~\u01c7\u03cf\u03e9\u0374\u02acYr\u026f\u03f2h\uffedo\u009f\u00b4A\u00f3\u008ap\ufff8\u01a2\u0085d\u01c4\u009d\u01cf\u02fc\u0211\u038a\u02ae\u01de\u026c\u0192\u01f0\u022b\u0211\u01b9\u022d\u01ca\u018d\u016c\u014c\u0179\u0191\u01d4\u01e4\u014b\u0199>n\u01b3b\u02a4\u0122\u023f\u0272\uff73m\u019f\u0085\u00f9R\u0217\u00b1\u0218\u01c2\uff77\u00f2\u011a\u011a\u015a\u02d3\u02fc\u0190\u01c6\u01c3";
 
-public static final String torsionData = "926\nint,int,int,int,int,float,float,float\n0,0,1,1,0,0.000,0.000,0.300\n5,0,1,1,0,0.200,-0.800,1.500\n0,1,1,1,1,0.103,0.681,0.332\n5,1,1,1,1,0.144,-0.547,1.126\n0,1,1,1,2,-0.295,0.438,0.584\n0,1,1,1,3,0.066,-0.156,0.143\n0,1,1,1,5,0.639,-0.630,0.264\n0,1,1,1,6,-0.688,1.757,0.477\n5,1,1,1,6,0.000,0.000,0.054\n0,1,1,1,8,-1.420,-0.092,1.101\n5,1,1,1,8,0.000,-0.158,0.323\n0,1,1,1,11,0.593,0.662,1.120\n0,1,1,1,12,-0.678,0.417,0.624\n0,1,1,1,15,-0.714,0.698,0.000\n0,1,1,1,34,-0.647,0.550,0.590\n0,2,1,1,5,0.321,-0.411,0.144\n0,3,1,1,3,0.443,0.000,-1.140\n0,3,1,1,5,-0.256,0.058,0.000\n0,3,1,1,6,-0.679,-0.029,0.000\n0,5,1,1,5,0.284,-1.386,0.314\n0,5,1,1,6,-0.654,1.072,0.279\n0,5,1,1,8,-0.744,-1.235,0.337\n0,5,1,1,10,0.000,0.000,0.427\n0,5,1,1,11,0.000,0.516,0.291\n0,5,1,1,12,0.678,-0.602,0.398\n0,5,1,1,15,1.142,-0.644,0.367\n0,5,1,1,25,0.000,0.000,0.295\n0,5,1,1,34,0.692,-0.530,0.278\n0,5,1,1,37,0.000,0.000,0.389\n0,5,1,1,39,0.000,0.000,0.278\n0,5,1,1,41,0.000,0.000,-0.141\n0,5,1,1,56,0.000,0.000,0.324\n0,5,1,1,68,0.000,0.000,0.136\n0,6,1,1,6,0.408,1.397,0.961\n5,6,1,1,6,0.313,-1.035,1.631\n0,8,1,1,8,1.055,0.834,0.000\n0,11,1,1,11,-0.387,-0.543,1.405\n0,12,1,1,12,0.000,0.000,0.893\n0,15,1,1,15,-0.177,0.000,0.049\n0,0,1,2,0,0.000,0.000,0.000\n2,0,1,2,0,0.000,0.000,0.000\n5,0,1,2,0,0.000,0.000,0.000\n0,0,1,2,2,0.000,0.000,-0.650\n5,0,1,2,2,0.000,0.000,-0.650\n0,1,1,2,1,0.419,0.296,0.282\n0,1,1,2,2,-0.494,0.274,-0.630\n0,1,1,2,5,0.075,0.000,0.358\n0,2,1,2,2,-0.293,0.115,-0.508\n0,2,1,2,5,0.301,0.104,0.507\n0,3,1,2,1,0.565,-0.554,0.234\n0,3,1,2,2,-0.577,-0.482,-0.427\n0,3,1,2,5,0.082,0.000,0.123\n0,5,1,2,1,0.000,-0.184,0.220\n0,5,1,2,2,0.501,-0.410,-0.535\n2,5,1,2,2,0.000,0.000,0.055\n2,5,1,2,3,0.000,0.000,-0.108\n0,5,1,2,5,-0.523,-0.228,0.208\n2,5,1,2,37,0.000,0.000,0.000\n0,6,1,2,1,-0.467,0.000,0.490\n0,6,1,2,2,0.425,0.168,-0.875\n0,6,1,2,5,0.000,0.136,0.396\n0,8,1,2,1,-0.504,0.371,0.557\n0,8,1,2,2,0.541,0.539,-1.009\n0,8,1,2,5,0.000,0.204,0.464\n0,0,1,3,0,0.000,0.400,0.300\n2,0,1,3,0,0.000,0.500,0.350\n5,0,1,3,0,0.000,0.000,0.000\n0,0,1,3,1,0.000,0.000,0.550\n0,0,1,3,5,0.000,0.200,0.700\n0,0,1,3,7,0.000,0.400,0.400\n0,1,1,3,1,0.103,0.177,0.545\n0,1,1,3,5,-0.072,0.316,0.674\n0,1,1,3,6,-0.117,-0.333,0.202\n0,1,1,3,7,0.825,0.139,0.325\n0,1,1,3,10,-0.927,1.112,1.388\n0,2,1,3,5,0.663,-0.167,0.426\n0,2,1,3,7,-0.758,0.112,0.563\n0,5,1,3,1,-0.073,0.085,0.531\n2,5,1,3,2,0.000,0.000,0.115\n2,5,1,3,3,0.000,0.000,0.446\n0,5,1,3,5,-0.822,0.501,1.008\n0,5,1,3,6,0.000,-0.624,0.330\n0,5,1,3,7,0.659,-1.407,0.308\n0,5,1,3,10,-0.412,0.693,0.087\n2,5,1,3,37,0.000,0.000,0.056\n0,5,1,3,43,0.000,1.027,0.360\n0,5,1,3,51,0.000,1.543,0.350\n0,5,1,3,53,0.000,0.501,0.000\n0,5,1,3,74,0.000,0.513,-0.344\n0,5,1,3,75,0.000,0.511,-0.186\n0,6,1,3,6,0.447,0.652,0.318\n0,6,1,3,7,-0.395,0.730,-0.139\n0,10,1,3,7,0.338,2.772,2.145\n0,10,1,3,10,0.548,0.000,1.795\n0,0,1,4,0,0.000,0.000,0.000\n0,0,1,6,0,0.000,0.000,0.200\n5,0,1,6,0,0.000,-0.200,0.400\n0,1,1,6,1,-0.681,0.755,0.755\n5,1,1,6,1,0.000,0.243,-0.596\n0,1,1,6,3,-0.547,0.000,0.320\n0,1,1,6,21,0.000,0.270,0.237\n0,2,1,6,21,0.102,0.460,-0.128\n0,3,1,6,21,-1.652,-1.660,0.283\n0,5,1,6,1,0.571,0.319,0.570\n0,5,1,6,2,0.000,0.000,0.306\n0,5,1,6,3,0.572,0.000,-0.304\n0,5,1,6,21,0.596,-0.276,0.346\n0,5,1,6,25,0.000,0.000,0.061\n0,5,1,6,37,0.000,0.000,0.106\n0,5,1,6,45,0.000,0.000,-0.174\n0,6,1,6,1,0.229,-0.710,0.722\n5,6,1,6,1,0.000,0.000,0.040\n0,6,1,6,21,1.488,-3.401,-0.320\n0,37,1,6,21,0.712,1.320,-0.507\n0,0,1,8,0,0.000,-0.300,0.500\n5,0,1,8,0,0.000,0.000,0.297\n0,1,1,8,1,-0.439,0.786,0.272\n5,1,1,8,1,0.115,-0.390,0.658\n0,1,1,8,6,-0.608,0.339,1.496\n0,1,1,8,23,-0.428,0.323,0.280\n0,2,1,8,23,0.594,-0.409,0.155\n0,5,1,8,1,0.393,-0.385,0.562\n0,5,1,8,6,0.598,-0.158,0.399\n0,5,1,8,23,-0.152,-0.440,0.357\n0,0,1,9,0,0.000,0.000,0.000\n5,0,1,9,0,0.000,0.000,0.000\n0,5,1,9,3,0.204,-0.335,-0.352\n0,5,1,9,53,0.000,0.000,0.097\n0,0,1,10,0,0.000,0.000,0.300\n5,0,1,10,0,0.000,0.000,0.000\n0,0,1,10,3,0.000,0.000,1.000\n0,1,1,10,3,-1.027,0.694,0.948\n0,1,1,10,6,0.159,-0.552,0.198\n0,1,1,10,28,0.552,-0.380,0.326\n0,3,1,10,3,3.100,-2.529,1.494\n0,3,1,10,28,0.079,0.280,0.402\n0,5,1,10,1,0.000,0.000,0.779\n0,5,1,10,3,-2.099,1.363,0.021\n0,5,1,10,6,-0.162,0.832,0.552\n0,5,1,10,28,-0.616,0.000,0.274\n0,0,1,15,0,0.000,0.000,0.400\n5,0,1,15,0,0.000,0.000,0.336\n0,1,1,15,1,-1.047,0.170,0.398\n0,1,1,15,15,-1.438,0.263,0.501\n0,1,1,15,71,-0.376,-0.133,0.288\n0,5,1,15,1,1.143,-0.231,0.447\n0,5,1,15,15,1.555,-0.323,0.456\n0,5,1,15,37,0.000,0.000,0.459\n0,5,1,15,71,0.229,0.203,0.440\n0,0,1,17,0,0.000,0.000,0.350\n5,0,1,17,0,0.000,0.000,0.000\n0,5,1,17,1,0.000,0.000,0.536\n0,5,1,17,7,0.000,0.000,0.212\n0,0,1,18,0,0.000,0.000,0.100\n5,0,1,18,0,0.000,0.000,0.112\n0,5,1,18,1,0.000,0.000,0.000\n0,5,1,18,6,0.000,0.000,0.099\n0,5,1,18,32,0.000,0.585,0.388\n0,5,1,18,43,0.000,-0.412,0.121\n0,5,1,18,48,0.000,0.000,0.195\n0,5,1,18,62,0.000,0.000,-0.088\n0,0,1,19,0,0.000,0.000,0.150\n5,0,1,19,0,0.000,0.000,0.179\n0,5,1,19,5,0.000,0.000,0.196\n0,5,1,19,6,0.000,0.000,0.176\n0,5,1,19,12,0.000,0.000,0.152\n0,0,1,20,0,0.000,0.000,0.350\n5,0,1,20,0,0.000,0.000,0.350\n0,5,1,20,5,0.000,0.000,0.344\n0,5,1,20,20,0.000,0.000,0.361\n0,0,1,22,0,0.000,0.000,0.236\n5,0,1,22,0,0.000,0.000,0.236\n0,0,1,25,0,0.000,0.000,0.300\n5,0,1,25,0,0.000,0.000,0.251\n0,1,1,25,1,0.000,-0.207,0.232\n0,1,1,25,32,0.000,0.288,0.218\n0,5,1,25,1,0.000,0.152,0.235\n0,5,1,25,6,0.000,0.000,0.495\n0,5,1,25,32,0.000,-0.130,0.214\n0,5,1,25,43,0.000,0.000,0.466\n0,5,1,25,72,0.000,0.000,0.243\n0,0,1,26,0,0.000,0.000,0.450\n5,0,1,26,0,0.000,0.000,0.376\n0,5,1,26,12,0.000,0.000,0.439\n0,5,1,26,71,0.000,0.000,0.472\n0,0,1,34,0,0.000,0.000,0.250\n5,0,1,34,0,0.000,0.000,0.198\n0,1,1,34,36,0.000,0.000,0.187\n0,5,1,34,1,0.000,0.000,0.247\n0,5,1,34,36,0.000,0.000,0.259\n0,0,1,37,0,0.000,0.000,0.200\n5,0,1,37,0,0.000,0.000,0.000\n0,1,1,37,37,0.000,0.449,0.000\n0,5,1,37,37,0.000,-0.420,0.391\n0,6,1,37,37,0.000,0.000,0.150\n0,0,1,39,0,0.000,0.000,0.000\n5,0,1,39,0,0.000,0.000,0.000\n0,1,1,39,63,0.000,-0.080,-0.056\n0,5,1,39,63,0.000,0.000,-0.113\n0,0,1,40,0,0.000,0.000,0.250\n5,0,1,40,0,0.000,0.000,0.297\n0,5,1,40,28,0.000,-0.097,0.203\n0,5,1,40,37,0.000,0.000,0.329\n0,0,1,41,0,0.000,0.600,0.000\n0,1,1,41,32,0.000,1.263,0.000\n0,5,1,41,32,0.000,0.000,-0.106\n0,5,1,41,72,0.000,0.632,0.000\n0,0,1,43,0,0.000,0.000,0.150\n5,0,1,43,0,0.000,0.000,0.297\n0,5,1,43,18,0.357,-0.918,0.000\n0,5,1,43,25,0.000,0.000,0.061\n0,5,1,43,28,-0.249,0.382,0.343\n0,0,1,45,0,0.000,0.000,0.100\n0,5,1,45,32,0.000,0.000,0.125\n0,0,1,46,0,0.000,0.000,-0.500\n0,5,1,46,7,0.000,0.000,-0.540\n0,0,1,54,0,0.000,0.000,0.000\n2,0,1,54,0,0.000,0.000,0.000\n5,0,1,54,0,0.000,0.000,0.000\n0,5,1,54,3,0.000,0.000,-0.315\n0,5,1,54,36,0.000,0.000,0.315\n0,0,1,55,0,0.000,0.000,0.000\n5,0,1,55,0,0.000,0.000,0.000\n0,5,1,55,36,0.000,-0.058,0.084\n0,5,1,55,57,0.000,-0.058,-0.092\n0,0,1,56,0,0.000,0.000,-0.300\n0,1,1,56,36,0.875,0.668,-0.015\n0,1,1,56,57,-0.870,0.775,-0.406\n0,5,1,56,36,-0.958,-0.629,-0.372\n0,5,1,56,57,0.952,-0.715,-0.483\n0,0,1,57,0,0.000,0.000,0.000\n5,0,1,57,0,0.000,0.000,0.000\n0,0,1,58,0,0.000,0.000,0.000\n0,0,1,62,0,0.000,0.000,0.250\n0,5,1,62,18,0.000,0.000,0.270\n0,0,1,63,0,0.000,0.000,0.000\n5,0,1,63,0,0.000,0.000,0.000\n0,0,1,64,0,0.000,0.000,0.000\n5,0,1,64,0,0.000,0.000,0.000\n0,0,1,67,0,0.000,0.000,0.000\n5,0,1,67,0,0.000,0.000,0.000\n0,0,1,68,0,0.000,0.000,0.400\n0,1,1,68,1,-0.117,0.090,0.751\n0,1,1,68,23,0.373,0.153,0.635\n0,1,1,68,32,-0.090,-0.169,0.075\n0,5,1,68,1,0.134,-0.112,0.329\n0,5,1,68,23,-0.361,-0.202,0.560\n0,5,1,68,32,0.072,0.218,0.093\n0,0,1,73,0,0.000,0.000,0.500\n0,5,1,73,32,0.000,0.000,0.509\n0,5,1,73,72,0.000,0.000,0.443\n0,0,1,75,0,0.000,0.000,0.000\n0,0,1,78,0,0.000,0.000,0.000\n0,0,1,80,0,0.000,0.000,0.000\n0,0,1,81,0,0.000,0.000,0.000\n0,0,2,2,0,0.000,12.000,0.000\n1,0,2,2,0,0.000,1.800,0.000\n5,0,2,2,0,0.000,12.000,0.000\n0,1,2,2,1,-0.403,12.000,0.000\n0,1,2,2,2,0.000,12.000,0.000\n1,1,2,2,2,-0.418,2.089,-0.310\n0,1,2,2,5,0.000,12.000,0.000\n1,1,2,2,5,0.412,2.120,0.269\n1,2,2,2,2,0.094,1.621,0.877\n0,2,2,2,5,0.000,12.000,0.000\n1,2,2,2,5,0.317,1.421,-0.870\n0,3,2,2,5,0.000,12.000,0.000\n0,5,2,2,5,0.000,12.000,0.000\n1,5,2,2,5,-0.406,1.767,0.000\n0,5,2,2,6,0.000,12.000,0.000\n0,5,2,2,37,0.000,12.000,0.000\n0,5,2,2,40,0.000,12.000,0.000\n0,5,2,2,41,0.000,12.000,0.000\n0,5,2,2,45,0.000,12.000,0.000\n0,5,2,2,62,0.000,12.000,0.000\n1,0,2,3,0,0.000,2.500,0.000\n1,1,2,3,1,0.136,1.798,0.630\n1,1,2,3,5,0.497,2.405,0.357\n1,1,2,3,6,-0.211,1.925,-0.131\n1,1,2,3,7,-0.401,2.028,-0.318\n1,1,2,3,10,-0.084,2.214,-0.610\n1,2,2,3,1,-0.325,1.553,-0.487\n1,2,2,3,5,-0.295,2.024,-0.590\n1,2,2,3,6,-0.143,1.466,0.000\n1,2,2,3,7,0.362,1.978,0.000\n1,2,2,3,9,0.296,1.514,0.481\n1,2,2,3,10,0.095,1.583,0.380\n1,5,2,3,1,0.213,1.728,-0.042\n1,5,2,3,5,-0.208,1.622,0.223\n1,5,2,3,6,0.359,1.539,0.194\n1,5,2,3,7,0.000,2.046,0.000\n1,5,2,3,9,-0.290,1.519,-0.470\n1,5,2,3,10,0.000,1.395,0.227\n1,0,2,4,0,0.000,0.000,0.000\n0,0,2,6,0,0.000,3.100,0.000\n2,0,2,6,0,0.000,3.600,0.000\n5,0,2,6,0,0.000,3.600,0.000\n0,2,2,6,1,-1.953,3.953,-1.055\n0,2,2,6,3,-1.712,2.596,-0.330\n0,2,2,6,29,-0.215,2.810,-0.456\n0,5,2,6,1,1.951,3.936,1.130\n0,5,2,6,3,1.719,2.628,0.360\n0,5,2,6,29,0.216,2.808,0.456\n1,0,2,9,0,0.000,1.800,0.000\n0,0,2,10,0,0.000,6.000,0.000\n2,0,2,10,0,0.000,6.000,0.000\n5,0,2,10,0,0.000,6.000,0.000\n0,0,2,15,0,0.000,1.423,0.000\n2,0,2,15,0,0.000,1.423,0.000\n5,0,2,15,0,0.000,1.423,0.000\n0,0,2,17,0,0.000,1.423,0.000\n0,0,2,18,0,0.000,0.000,0.000\n2,0,2,18,0,0.000,0.000,0.000\n5,0,2,18,0,0.000,0.000,0.000\n0,0,2,19,0,0.000,0.000,0.000\n0,0,2,20,0,0.000,0.000,0.000\n2,0,2,20,0,0.000,0.000,0.000\n0,0,2,22,0,0.000,0.000,0.000\n2,0,2,22,0,0.000,0.000,0.000\n5,0,2,22,0,0.000,0.000,0.000\n0,0,2,25,0,0.000,0.000,0.000\n0,0,2,30,0,0.000,12.000,0.000\n0,0,2,34,0,0.000,0.000,0.000\n2,0,2,34,0,0.000,0.000,0.000\n1,0,2,37,0,0.000,2.000,0.000\n1,1,2,37,37,0.000,2.952,-0.079\n1,2,2,37,37,0.000,1.542,0.434\n1,5,2,37,37,0.000,1.308,-0.357\n1,0,2,39,0,0.000,6.000,0.000\n0,0,2,40,0,0.000,3.700,0.000\n2,0,2,40,0,0.000,3.600,0.000\n5,0,2,40,0,0.000,3.600,0.000\n0,2,2,40,28,0.000,3.756,-0.530\n0,5,2,40,28,0.073,3.698,0.291\n0,0,2,41,0,0.000,1.200,0.000\n2,0,2,41,0,0.000,1.800,0.000\n0,2,2,41,32,0.000,1.235,0.000\n0,5,2,41,32,0.000,1.231,0.000\n0,0,2,43,0,0.000,3.600,0.000\n2,0,2,43,0,0.000,3.600,0.000\n0,0,2,45,0,0.000,2.200,0.000\n2,0,2,45,0,0.000,1.800,0.000\n0,2,2,45,32,0.000,2.212,0.000\n0,5,2,45,32,0.000,2.225,0.000\n0,0,2,46,0,0.000,1.800,0.000\n2,0,2,46,0,0.000,1.800,0.000\n0,0,2,55,0,0.000,4.800,0.000\n0,0,2,56,0,0.000,4.800,0.000\n0,0,2,62,0,0.000,8.000,0.000\n0,2,2,62,23,1.693,7.903,0.532\n0,5,2,62,23,-1.696,7.897,-0.482\n1,0,2,63,0,0.000,1.800,0.000\n1,0,2,64,0,0.000,1.800,0.000\n1,0,2,67,0,0.000,1.800,0.000\n1,0,2,81,0,0.000,4.800,0.000\n1,0,3,3,0,0.000,0.600,0.000\n4,0,3,3,0,0.000,1.800,0.000\n1,1,3,3,1,-0.486,0.714,0.000\n1,1,3,3,6,-0.081,-0.125,0.132\n1,1,3,3,7,1.053,1.327,0.000\n1,5,3,3,6,0.000,0.188,0.436\n1,5,3,3,7,0.000,0.177,-0.412\n1,6,3,3,6,0.269,0.437,0.000\n1,6,3,3,7,-0.495,0.793,-0.318\n1,7,3,3,7,-0.260,1.084,0.193\n0,0,3,6,0,0.000,5.500,0.000\n2,0,3,6,0,0.000,5.500,0.000\n4,0,3,6,0,0.000,3.600,0.000\n5,0,3,6,0,0.000,3.600,0.000\n0,1,3,6,1,-1.244,5.482,0.365\n0,1,3,6,24,-1.166,5.078,-0.545\n0,1,3,6,37,-0.677,5.854,0.521\n2,2,3,6,24,0.256,4.519,0.258\n2,3,3,6,24,1.663,4.073,0.094\n0,5,3,6,1,0.526,5.631,0.691\n0,5,3,6,2,0.159,6.586,0.216\n0,5,3,6,24,-2.285,4.737,0.468\n0,7,3,6,0,0.700,6.500,-0.400\n0,7,3,6,1,0.682,7.184,-0.935\n0,7,3,6,2,-0.168,6.572,-0.151\n0,7,3,6,24,1.662,6.152,-0.058\n0,7,3,6,37,0.635,5.890,-0.446\n2,37,3,6,24,0.000,3.892,-0.094\n0,0,3,9,0,0.000,16.000,0.000\n1,0,3,9,0,0.000,1.800,0.000\n5,0,3,9,0,0.000,12.000,0.000\n0,2,3,9,27,0.000,16.000,0.000\n0,5,3,9,1,0.687,16.152,0.894\n0,5,3,9,27,0.000,16.000,0.000\n0,40,3,9,1,-0.758,18.216,-0.188\n0,40,3,9,27,0.000,16.000,0.000\n0,0,3,10,0,0.000,6.000,0.000\n2,0,3,10,0,0.000,6.000,0.000\n4,0,3,10,0,0.000,6.000,0.000\n5,0,3,10,0,0.000,6.000,0.000\n0,1,3,10,1,0.647,6.159,0.507\n0,1,3,10,6,-1.035,8.791,1.464\n0,1,3,10,28,-0.294,5.805,1.342\n2,2,3,10,28,-0.287,7.142,0.120\n0,5,3,10,1,-0.183,6.314,1.753\n0,5,3,10,3,-0.751,5.348,0.209\n0,5,3,10,28,-0.388,5.972,0.459\n0,7,3,10,1,-0.319,6.294,-0.147\n0,7,3,10,3,0.776,-0.585,-0.145\n0,7,3,10,6,1.107,8.631,-0.452\n0,7,3,10,28,1.435,4.975,-0.454\n0,10,3,10,28,0.000,3.495,1.291\n0,0,3,15,0,0.000,1.423,0.000\n2,0,3,15,0,0.000,1.423,0.000\n4,0,3,15,0,0.000,1.423,0.000\n5,0,3,15,0,0.000,1.423,0.000\n0,0,3,17,0,0.000,1.423,0.000\n5,0,3,17,0,0.000,1.423,0.000\n0,0,3,18,0,0.000,0.000,0.000\n2,0,3,18,0,0.000,0.000,0.000\n0,0,3,20,0,0.000,0.000,-0.300\n2,0,3,20,0,0.000,0.000,0.000\n4,0,3,20,0,0.000,0.000,-0.300\n5,0,3,20,0,0.000,0.000,0.000\n0,7,3,20,0,0.000,0.400,0.400\n0,7,3,20,5,0.000,0.000,-0.131\n0,7,3,20,20,0.000,0.000,0.000\n0,20,3,20,5,0.000,0.000,0.085\n0,20,3,20,20,0.000,0.000,0.000\n0,0,3,22,0,0.000,0.000,0.000\n2,0,3,22,0,0.000,0.000,0.000\n4,0,3,22,0,0.000,0.000,0.000\n5,0,3,22,0,0.000,0.000,0.000\n0,7,3,22,0,0.000,0.400,0.400\n0,0,3,25,0,0.000,0.000,0.000\n2,0,3,25,0,0.000,0.000,0.000\n1,0,3,30,0,0.000,1.800,0.000\n4,0,3,30,0,0.000,1.800,0.000\n1,0,3,37,0,0.000,2.500,0.000\n4,0,3,37,0,0.000,1.800,0.000\n1,1,3,37,37,0.000,2.428,0.000\n1,6,3,37,37,0.000,1.743,0.000\n1,7,3,37,37,0.000,2.256,0.000\n1,43,3,37,37,-0.241,3.385,-0.838\n1,0,3,39,0,0.000,5.500,0.000\n0,0,3,40,0,0.000,3.900,0.000\n2,0,3,40,0,0.000,3.600,0.000\n5,0,3,40,0,0.000,3.600,0.000\n0,5,3,40,28,-1.477,4.362,0.902\n0,9,3,40,28,1.496,4.369,-0.417\n0,40,3,40,28,0.178,3.149,0.778\n0,0,3,41,0,0.000,1.800,0.000\n2,0,3,41,0,0.000,1.800,0.000\n0,0,3,43,0,0.000,4.500,0.000\n2,0,3,43,0,0.000,3.600,0.000\n4,0,3,43,0,0.000,3.600,0.000\n5,0,3,43,0,0.000,3.600,0.000\n0,1,3,43,18,1.712,3.309,0.233\n0,1,3,43,28,-0.414,4.168,-0.875\n0,7,3,43,18,-0.880,5.091,-0.129\n0,7,3,43,28,0.536,5.276,-0.556\n2,37,3,43,18,-0.701,4.871,1.225\n2,37,3,43,28,-0.086,5.073,0.878\n0,0,3,45,0,0.000,1.800,0.000\n2,0,3,45,0,0.000,1.800,0.000\n0,0,3,48,0,0.000,0.000,0.892\n0,0,3,51,0,0.000,13.500,0.000\n0,1,3,51,52,0.000,13.549,0.000\n0,0,3,54,0,0.000,8.000,0.000\n1,0,3,54,0,0.000,2.500,0.000\n5,0,3,54,0,0.000,12.000,0.000\n0,5,3,54,1,0.000,8.000,0.000\n0,5,3,54,36,0.000,8.000,0.000\n0,0,3,55,0,0.000,4.800,0.000\n2,0,3,55,0,0.000,4.800,0.000\n0,0,3,56,0,0.000,4.800,0.000\n2,0,3,56,0,0.000,4.800,0.000\n1,0,3,57,0,0.000,2.500,0.000\n1,0,3,58,0,0.000,4.800,0.000\n0,0,3,62,0,0.000,3.600,0.000\n2,0,3,62,0,0.000,3.600,0.000\n5,0,3,62,0,0.000,3.600,0.000\n1,0,3,63,0,0.000,2.500,0.000\n1,0,3,64,0,0.000,2.500,0.000\n0,0,3,67,0,0.000,12.000,0.000\n0,0,3,74,0,0.000,19.000,0.000\n0,1,3,74,7,0.000,19.349,0.000\n0,0,3,75,0,0.000,19.000,0.000\n0,1,3,75,71,0.000,18.751,0.000\n1,0,3,78,0,0.000,2.500,0.000\n1,0,3,80,0,0.000,2.500,0.000\n0,0,6,6,0,0.000,-2.000,0.000\n5,0,6,6,0,0.000,-2.000,0.000\n0,0,6,8,0,0.900,-1.100,-0.500\n5,0,6,8,0,0.000,0.000,0.274\n0,21,6,8,1,0.261,-0.330,-0.542\n0,21,6,8,23,1.503,-1.853,-0.476\n0,0,6,9,0,0.000,3.600,0.000\n5,0,6,9,0,0.000,3.600,0.000\n0,0,6,10,0,1.200,0.500,-1.000\n0,21,6,10,1,0.875,0.180,-0.733\n0,21,6,10,3,0.529,0.000,-1.163\n0,0,6,15,0,0.000,-4.000,0.000\n0,0,6,17,0,0.000,1.423,0.000\n5,0,6,17,0,0.000,1.423,0.000\n0,0,6,18,0,0.000,0.000,0.100\n5,0,6,18,0,0.000,0.000,0.103\n0,33,6,18,1,-0.520,-0.471,-0.267\n0,33,6,18,6,-1.623,0.204,0.438\n0,33,6,18,32,1.616,0.425,0.191\n0,0,6,19,0,0.000,0.000,0.150\n5,0,6,19,0,0.000,0.000,0.165\n0,21,6,19,1,-0.620,-0.329,0.303\n0,21,6,19,5,0.683,0.220,0.000\n0,0,6,20,0,0.000,0.000,0.400\n4,0,6,20,0,0.000,0.000,0.217\n5,0,6,20,0,0.000,0.000,0.217\n0,20,6,20,5,0.000,0.000,-0.079\n4,20,6,20,20,0.000,0.000,0.000\n0,0,6,22,0,0.000,0.000,0.217\n0,0,6,25,0,0.000,0.000,0.650\n5,0,6,25,0,0.000,0.000,0.231\n0,1,6,25,1,-1.704,-0.452,0.556\n0,1,6,25,6,0.000,0.000,0.777\n0,1,6,25,32,1.205,0.914,0.612\n0,24,6,25,6,-3.209,-7.622,1.065\n0,24,6,25,32,-5.891,-3.332,0.290\n0,0,6,26,0,0.000,0.000,0.346\n0,0,6,30,0,0.000,3.600,0.000\n2,0,6,30,0,0.000,3.600,0.000\n0,0,6,37,0,0.000,3.200,0.000\n5,0,6,37,0,0.000,3.600,0.000\n0,1,6,37,37,0.000,4.382,0.000\n0,3,6,37,37,0.000,2.576,0.000\n0,29,6,37,37,0.000,2.801,0.000\n0,0,6,39,0,0.000,0.000,0.000\n0,0,6,40,0,0.000,0.000,0.274\n0,0,6,41,0,0.000,3.600,0.000\n0,0,6,43,0,0.000,0.000,0.274\n0,0,6,45,0,0.000,6.000,0.000\n0,1,6,45,32,0.000,6.208,0.000\n0,0,6,54,0,0.000,3.600,0.000\n0,0,6,55,0,0.000,3.600,0.000\n0,0,6,57,0,0.000,3.600,0.000\n0,0,6,58,0,0.000,3.600,0.000\n0,0,6,63,0,0.000,3.600,0.000\n0,0,6,64,0,0.000,3.600,0.000\n0,0,8,8,0,0.000,0.000,0.375\n5,0,8,8,0,0.000,0.000,0.375\n0,0,8,9,0,0.000,3.600,0.000\n5,0,8,9,0,0.000,3.600,0.000\n0,0,8,10,0,0.000,0.000,0.000\n4,0,8,10,0,0.000,0.000,0.000\n0,0,8,15,0,0.000,0.000,0.424\n0,0,8,17,0,0.000,1.423,0.000\n4,0,8,17,0,0.000,1.423,0.000\n5,0,8,17,0,0.000,1.423,0.000\n0,0,8,19,0,0.000,0.000,0.225\n0,0,8,20,0,0.000,0.000,0.350\n4,0,8,20,0,0.000,0.000,0.300\n5,0,8,20,0,0.000,0.000,0.297\n0,20,8,20,5,0.000,0.120,0.472\n4,20,8,20,20,0.000,-0.097,0.200\n0,23,8,20,5,-0.101,-0.324,0.371\n0,23,8,20,20,0.107,0.253,0.151\n0,0,8,22,0,0.000,0.000,0.297\n0,0,8,25,0,0.000,0.000,0.316\n5,0,8,25,0,0.000,0.000,0.316\n0,0,8,26,0,0.000,0.000,0.474\n5,0,8,26,0,0.000,0.000,0.474\n0,0,8,34,0,0.000,0.000,0.250\n0,0,8,39,0,0.000,0.000,0.000\n0,0,8,40,0,0.000,0.000,0.375\n0,0,8,43,0,0.000,0.000,0.375\n0,0,8,45,0,0.000,3.600,0.000\n0,0,8,46,0,0.000,3.600,0.000\n0,0,8,55,0,0.000,3.600,0.000\n0,0,8,56,0,0.000,3.600,0.000\n0,0,9,9,0,0.000,12.000,0.000\n1,0,9,9,0,0.000,1.800,0.000\n5,0,9,9,0,0.000,12.000,0.000\n0,0,9,10,0,0.000,6.000,0.000\n5,0,9,10,0,0.000,6.000,0.000\n0,0,9,15,0,0.000,1.423,0.000\n0,0,9,18,0,0.000,0.000,0.000\n0,0,9,19,0,0.000,0.000,0.000\n0,0,9,20,0,0.000,0.000,0.000\n0,0,9,25,0,0.000,0.000,0.000\n0,0,9,34,0,0.000,0.000,0.000\n5,0,9,34,0,0.000,0.000,0.000\n1,0,9,37,0,0.000,1.800,0.000\n1,0,9,39,0,0.000,6.000,0.000\n0,0,9,40,0,0.000,3.600,0.000\n0,0,9,41,0,0.000,4.800,0.000\n0,0,9,45,0,0.000,1.800,0.000\n0,0,9,54,0,0.000,12.000,0.000\n0,0,9,55,0,0.000,4.800,0.000\n0,0,9,56,0,0.000,4.800,0.000\n1,0,9,57,0,0.000,1.800,0.000\n0,0,9,62,0,0.000,3.600,0.000\n1,0,9,63,0,0.000,1.800,0.000\n1,0,9,64,0,0.000,1.800,0.000\n0,0,9,67,0,0.000,12.000,0.000\n1,0,9,78,0,0.000,1.800,0.000\n1,0,9,81,0,0.000,4.800,0.000\n0,0,10,10,0,0.000,0.000,0.000\n5,0,10,10,0,0.000,0.000,0.000\n0,0,10,15,0,0.000,0.000,0.000\n0,0,10,17,0,0.000,4.743,0.000\n0,0,10,20,0,0.000,0.000,0.000\n4,0,10,20,0,0.000,0.000,0.000\n5,0,10,20,0,0.000,0.000,0.000\n0,0,10,22,0,0.000,0.000,0.000\n0,0,10,25,0,0.000,0.000,0.000\n0,0,10,26,0,0.000,0.000,0.000\n5,0,10,26,0,0.000,0.000,0.000\n0,0,10,34,0,0.000,0.000,0.000\n0,0,10,37,0,0.000,6.000,0.000\n0,0,10,39,0,0.000,0.000,0.000\n0,0,10,40,0,0.000,0.000,0.000\n5,0,10,40,0,0.000,0.000,0.000\n0,0,10,41,0,0.000,6.000,0.000\n0,0,10,45,0,0.000,6.000,0.000\n0,0,10,63,0,0.000,6.000,0.000\n0,0,10,64,0,0.000,6.000,0.000\n0,0,15,15,0,-1.400,-8.300,1.000\n5,0,15,15,0,0.000,-8.000,0.000\n0,1,15,15,1,-1.663,-8.408,1.433\n0,1,15,15,71,-1.088,-8.245,0.411\n0,0,15,18,0,0.000,0.000,0.160\n0,0,15,19,0,0.000,0.000,0.255\n5,0,15,19,0,0.000,0.000,0.255\n0,0,15,20,0,0.000,0.000,0.336\n4,0,15,20,0,0.000,0.000,0.336\n0,0,15,22,0,0.000,0.000,0.336\n0,0,15,25,0,0.000,0.000,0.358\n4,0,15,25,0,0.000,0.000,0.358\n0,0,15,26,0,0.000,0.000,0.537\n0,0,15,30,0,0.000,1.423,0.000\n4,0,15,30,0,0.000,1.423,0.000\n0,0,15,37,0,0.000,1.300,0.000\n5,0,15,37,0,0.000,1.423,0.000\n0,1,15,37,37,0.000,2.177,0.000\n0,71,15,37,37,0.000,0.505,0.333\n0,0,15,40,0,0.000,0.000,0.424\n0,0,15,43,0,0.000,0.000,0.424\n0,0,15,57,0,0.000,1.423,0.000\n0,0,15,63,0,0.000,1.423,0.000\n0,0,15,64,0,0.000,1.423,0.000\n0,0,17,20,0,0.000,0.000,0.000\n4,0,17,20,0,0.000,0.000,0.000\n5,0,17,20,0,0.000,0.000,0.000\n0,0,17,22,0,0.000,0.000,0.000\n0,0,17,37,0,0.000,1.423,0.000\n0,0,17,43,0,0.000,3.795,0.000\n0,0,18,20,0,0.000,0.000,0.112\n4,0,18,20,0,0.000,0.000,0.112\n5,0,18,20,0,0.000,0.000,0.112\n0,0,18,22,0,0.000,0.000,0.112\n0,0,18,37,0,0.000,-1.200,-0.300\n0,32,18,37,37,-0.173,-0.965,-0.610\n0,39,18,37,37,0.000,-0.760,0.227\n0,43,18,37,37,0.228,-1.741,-0.371\n0,0,18,39,0,0.000,0.000,0.500\n0,32,18,39,63,0.000,0.687,0.680\n0,37,18,39,63,0.000,-0.513,0.357\n0,0,18,43,0,0.000,0.000,0.350\n4,0,18,43,0,0.000,0.000,0.141\n5,0,18,43,0,0.000,0.000,0.141\n0,1,18,43,1,-0.914,-0.482,0.179\n0,1,18,43,3,-0.392,-2.724,0.312\n0,1,18,43,28,-1.508,-1.816,-0.175\n0,1,18,43,37,0.823,-1.220,-0.770\n0,32,18,43,1,1.588,1.499,1.410\n0,32,18,43,3,0.653,0.254,0.000\n0,32,18,43,28,0.528,0.342,0.000\n0,32,18,43,37,0.812,1.513,1.266\n0,37,18,43,1,-1.139,-0.703,1.088\n0,37,18,43,28,-2.014,-1.646,-2.068\n0,37,18,43,37,-1.519,-0.328,1.437\n0,43,18,43,28,3.011,-1.405,2.038\n0,0,18,48,0,0.000,0.000,0.400\n0,1,18,48,28,1.767,1.606,0.408\n0,32,18,48,28,-1.463,-2.548,0.310\n0,0,18,55,0,0.000,0.000,0.000\n0,0,18,58,0,0.000,0.000,0.000\n0,0,18,62,0,0.000,0.000,0.500\n0,1,18,62,1,-0.403,-0.273,0.440\n0,32,18,62,1,0.291,0.385,0.582\n0,0,18,63,0,0.000,0.000,0.000\n0,0,18,64,0,0.000,0.000,0.000\n0,0,18,80,0,0.000,0.000,0.000\n0,0,19,20,0,0.000,0.000,0.179\n4,0,19,20,0,0.000,0.000,0.179\n0,0,19,37,0,0.000,0.000,0.000\n0,0,19,40,0,0.000,0.000,0.225\n0,0,19,63,0,0.000,0.000,0.000\n0,0,19,75,0,0.000,0.000,0.000\n0,0,20,20,0,0.000,0.000,0.200\n4,0,20,20,0,0.000,0.000,0.000\n5,0,20,20,0,0.000,0.000,0.236\n0,1,20,20,5,0.067,0.081,0.347\n0,1,20,20,20,-0.063,-0.064,0.140\n0,3,20,20,5,0.000,0.000,0.083\n0,3,20,20,20,0.000,0.000,0.000\n0,5,20,20,5,0.000,0.000,0.424\n0,5,20,20,6,0.000,0.000,-0.080\n0,5,20,20,8,0.000,0.127,0.450\n0,5,20,20,12,-0.072,-0.269,0.439\n0,5,20,20,20,-0.057,0.000,0.307\n4,6,20,20,20,0.000,0.000,0.000\n4,8,20,20,20,0.000,-0.091,0.192\n0,12,20,20,20,0.077,0.202,0.183\n4,20,20,20,20,0.000,0.000,0.000\n0,0,20,22,0,0.000,0.000,0.236\n4,0,20,22,0,0.000,0.000,0.236\n0,0,20,25,0,0.000,0.000,0.251\n4,0,20,25,0,0.000,0.000,0.251\n0,0,20,26,0,0.000,0.000,0.376\n4,0,20,26,0,0.000,0.000,0.376\n5,0,20,26,0,0.000,0.000,0.376\n0,0,20,30,0,0.000,0.000,0.000\n2,0,20,30,0,0.000,0.000,0.000\n4,0,20,30,0,0.000,0.000,0.000\n0,0,20,30,30,0.000,0.000,-0.500\n0,0,20,34,0,0.000,0.000,0.198\n4,0,20,34,0,0.000,0.000,0.198\n0,0,20,37,0,0.000,0.000,0.000\n4,0,20,37,0,0.000,0.000,0.000\n0,0,20,40,0,0.000,0.000,0.297\n0,0,20,41,0,0.000,0.000,0.000\n0,0,20,43,0,0.000,0.000,0.297\n4,0,20,43,0,0.000,0.000,0.297\n0,0,20,45,0,0.000,0.000,0.000\n0,0,22,22,0,0.000,0.000,0.236\n4,0,22,22,0,0.000,0.000,0.236\n5,0,22,22,0,0.000,0.000,0.236\n0,0,22,30,0,0.000,0.000,0.000\n4,0,22,30,0,0.000,0.000,0.000\n0,0,22,34,0,0.000,0.000,0.198\n0,0,22,37,0,0.000,0.000,0.000\n0,0,22,40,0,0.000,0.000,0.297\n0,0,22,41,0,0.000,0.000,0.000\n0,0,22,43,0,0.000,0.000,0.297\n5,0,22,43,0,0.000,0.000,0.297\n0,0,22,45,0,0.000,0.000,0.000\n0,0,25,25,0,0.000,0.000,0.267\n0,0,25,37,0,0.000,0.000,0.000\n5,0,25,37,0,0.000,0.000,0.000\n0,0,25,39,0,0.000,0.000,0.000\n0,0,25,40,0,0.000,0.000,0.316\n5,0,25,40,0,0.000,0.000,0.316\n0,0,25,43,0,0.000,0.000,0.250\n0,1,25,43,1,-2.686,-1.512,0.591\n0,1,25,43,28,-3.730,-0.531,0.000\n0,32,25,43,1,2.108,1.896,0.965\n0,32,25,43,28,2.977,0.732,-0.502\n0,0,25,57,0,0.000,0.000,0.000\n0,0,25,63,0,0.000,0.000,0.000\n0,0,26,26,0,0.000,0.000,0.600\n5,0,26,26,0,0.000,0.000,0.600\n0,0,26,34,0,0.000,0.000,0.316\n5,0,26,34,0,0.000,0.000,0.316\n0,0,26,37,0,0.000,1.423,0.000\n0,0,26,40,0,0.000,0.000,0.474\n0,0,30,30,0,0.000,12.000,0.000\n1,0,30,30,0,0.000,1.800,0.000\n4,0,30,30,0,0.000,1.800,0.000\n0,0,30,40,0,0.000,3.600,0.000\n1,0,30,67,0,0.000,1.800,0.000\n0,0,34,37,0,0.000,0.000,0.000\n0,0,34,43,0,0.000,0.000,0.250\n0,0,37,37,0,0.000,7.000,0.000\n1,0,37,37,0,0.000,2.000,0.000\n4,0,37,37,0,0.000,6.000,0.000\n5,0,37,37,0,0.000,6.000,0.000\n0,1,37,37,5,0.000,7.000,0.000\n0,1,37,37,37,0.000,7.000,0.000\n0,2,37,37,5,0.000,7.000,0.000\n0,2,37,37,37,0.000,7.000,0.000\n0,3,37,37,5,0.000,7.000,0.000\n0,3,37,37,37,0.000,7.000,0.000\n0,5,37,37,5,0.000,7.000,0.000\n0,5,37,37,6,0.000,7.000,0.000\n0,5,37,37,15,0.000,7.000,0.000\n0,5,37,37,18,0.000,7.000,0.000\n0,5,37,37,37,0.000,7.000,0.000\n0,5,37,37,40,0.000,7.000,0.000\n0,5,37,37,43,0.000,7.000,0.000\n0,6,37,37,37,0.000,7.000,0.000\n0,15,37,37,37,0.000,7.000,0.000\n0,18,37,37,37,0.000,7.000,0.000\n0,37,37,37,37,0.000,7.000,0.000\n0,37,37,37,40,0.000,7.000,0.000\n0,37,37,37,43,0.000,7.000,0.000\n0,0,37,38,0,0.000,7.000,0.000\n0,0,37,39,0,0.000,3.600,0.000\n1,0,37,39,0,0.000,6.000,0.000\n0,0,37,40,0,0.000,4.000,0.000\n5,0,37,40,0,0.000,3.600,0.000\n0,37,37,40,1,0.000,4.336,0.370\n0,37,37,40,28,0.715,2.628,3.355\n0,0,37,41,0,0.000,1.800,0.000\n0,0,37,43,0,0.000,2.000,1.800\n5,0,37,43,0,0.000,3.600,0.000\n0,37,37,43,18,0.372,2.284,2.034\n0,37,37,43,28,0.000,1.694,1.508\n0,0,37,45,0,0.000,1.800,0.000\n0,0,37,46,0,0.000,1.800,0.000\n0,0,37,55,0,0.000,4.800,0.000\n0,0,37,56,0,0.000,4.800,0.000\n1,0,37,57,0,0.000,1.800,0.000\n0,0,37,58,0,0.000,6.000,0.000\n1,0,37,58,0,0.000,4.800,0.000\n0,0,37,62,0,0.000,3.600,0.000\n0,0,37,63,0,0.000,7.000,0.000\n1,0,37,63,0,0.000,1.800,0.000\n0,0,37,64,0,0.000,7.000,0.000\n1,0,37,64,0,0.000,1.800,0.000\n1,0,37,67,0,0.000,1.800,0.000\n0,0,37,69,0,0.000,7.000,0.000\n0,0,37,78,0,0.000,6.000,0.000\n0,0,37,81,0,0.000,6.000,0.000\n1,0,37,81,0,0.000,4.800,0.000\n0,0,38,38,0,0.000,7.000,0.000\n0,0,38,58,0,0.000,7.000,0.000\n0,0,38,63,0,0.000,7.000,0.000\n0,0,38,64,0,0.000,7.000,0.000\n0,0,38,69,0,0.000,6.000,0.000\n0,0,38,78,0,0.000,6.000,0.000\n0,0,39,40,0,0.000,0.000,0.000\n0,0,39,45,0,0.000,6.000,0.000\n0,0,39,63,0,0.000,4.000,0.000\n1,0,39,63,0,0.000,6.000,0.000\n5,0,39,63,0,0.000,3.600,0.000\n0,1,39,63,5,0.000,4.000,0.000\n0,1,39,63,64,0.000,4.000,0.000\n0,18,39,63,5,0.000,4.000,0.000\n0,18,39,63,64,0.000,4.000,0.000\n0,63,39,63,5,0.000,4.000,0.000\n0,63,39,63,64,0.000,4.000,0.000\n0,0,39,64,0,0.000,3.600,0.000\n1,0,39,64,0,0.000,6.000,0.000\n0,0,39,65,0,0.000,4.000,0.000\n0,0,39,78,0,0.000,3.600,0.000\n0,0,40,40,0,0.000,0.000,0.375\n0,0,40,45,0,0.000,3.600,0.000\n0,0,40,46,0,0.000,3.600,0.000\n0,0,40,54,0,0.000,3.600,0.000\n2,0,40,54,0,0.000,3.600,0.000\n0,0,40,63,0,0.000,3.600,0.000\n0,0,40,64,0,0.000,3.600,0.000\n0,0,40,78,0,0.000,3.600,0.000\n0,0,41,41,0,0.000,1.800,0.000\n0,0,41,55,0,0.000,4.800,0.000\n0,0,41,62,0,0.000,3.600,0.000\n0,0,41,80,0,0.000,1.800,0.000\n0,0,43,43,0,0.000,0.000,0.375\n0,0,43,45,0,0.000,3.600,0.000\n0,0,43,64,0,0.000,3.600,0.000\n0,0,44,57,0,0.000,7.000,0.000\n0,0,44,63,0,0.000,7.000,0.000\n0,0,44,65,0,0.000,7.000,0.000\n0,0,44,78,0,0.000,2.846,0.000\n0,0,44,80,0,0.000,2.846,0.000\n0,0,45,63,0,0.000,1.800,0.000\n0,0,45,64,0,0.000,1.800,0.000\n0,0,45,78,0,0.000,1.800,0.000\n0,0,55,57,0,0.000,10.000,0.000\n2,0,55,57,0,0.000,4.800,0.000\n5,0,55,57,0,0.000,4.800,0.000\n0,1,55,57,5,0.423,12.064,0.090\n0,1,55,57,55,-0.428,12.044,0.000\n0,36,55,57,5,-0.268,8.077,-0.806\n0,36,55,57,55,0.273,8.025,0.692\n0,0,55,62,0,0.000,3.600,0.000\n0,0,55,64,0,0.000,4.800,0.000\n0,0,55,80,0,0.000,4.800,0.000\n0,0,56,57,0,0.000,6.000,0.000\n0,1,56,57,56,0.000,6.886,-0.161\n0,36,56,57,56,0.000,4.688,0.107\n0,0,56,63,0,0.000,4.800,0.000\n0,0,56,80,0,0.000,4.800,0.000\n1,0,57,63,0,0.000,1.800,0.000\n1,0,57,64,0,0.000,1.800,0.000\n0,0,58,63,0,0.000,6.000,0.000\n0,0,58,64,0,0.000,6.000,0.000\n0,0,59,63,0,0.000,7.000,0.000\n0,0,59,65,0,0.000,7.000,0.000\n0,0,59,78,0,0.000,3.600,0.000\n0,0,59,80,0,0.000,3.600,0.000\n0,0,59,82,0,0.000,3.600,0.000\n0,0,62,63,0,0.000,3.600,0.000\n0,0,62,64,0,0.000,3.600,0.000\n1,0,63,63,0,0.000,1.800,0.000\n0,0,63,64,0,0.000,7.000,0.000\n0,5,63,64,5,0.000,7.000,0.000\n0,5,63,64,64,0.000,7.000,0.000\n0,39,63,64,5,0.000,7.000,0.000\n0,39,63,64,64,0.000,7.000,0.000\n0,0,63,66,0,0.000,7.000,0.000\n0,0,63,78,0,0.000,6.000,0.000\n0,0,63,81,0,0.000,6.000,0.000\n0,0,64,64,0,0.000,7.000,0.000\n1,0,64,64,0,0.000,1.800,0.000\n0,5,64,64,5,0.000,7.000,0.000\n0,5,64,64,63,0.000,7.000,0.000\n0,63,64,64,63,0.000,7.000,0.000\n0,0,64,65,0,0.000,7.000,0.000\n0,0,64,66,0,0.000,7.000,0.000\n0,0,64,78,0,0.000,6.000,0.000\n0,0,64,81,0,0.000,6.000,0.000\n5,0,64,81,0,0.000,6.000,0.000\n0,0,64,82,0,0.000,6.000,0.000\n0,0,65,66,0,0.000,7.000,0.000\n0,0,65,78,0,0.000,6.000,0.000\n0,0,65,81,0,0.000,6.000,0.000\n0,0,65,82,0,0.000,6.000,0.000\n0,0,66,66,0,0.000,7.000,0.000\n0,0,66,78,0,0.000,6.000,0.000\n0,0,66,81,0,0.000,6.000,0.000\n0,0,67,67,0,0.000,12.000,0.000\n5,0,67,67,0,0.000,12.000,0.000\n0,0,76,76,0,0.000,3.600,0.000\n0,0,76,78,0,0.000,3.600,0.000\n0,0,78,78,0,0.000,7.000,0.000\n0,0,78,79,0,0.000,6.000,0.000\n0,0,78,81,0,0.000,4.000,0.000\n0,0,79,79,0,0.000,6.000,0.000\n0,0,79,81,0,0.000,6.000,0.000\n0,0,80,81,0,0.000,4.000,0.000\n";
+public static final String torsionData = "\u03be(\u0089 !\u0089 !\u0089 !\u0089 !\u0089 !\u0086#!\u0086#!\u0086#! % %    % %                       %     \"% %          \"\" \"       \"%           \"\"    \"           % %            %   % %       %   %           %        %   %       %    %   % %        %   %    %    %   %       %        \"%   %        %    % % %               !%  ! !! !  !      !!!!!!!!!!!!!!!!!!! \"%      ! \"% \"%  \"%  \" \"%   \"!!!!! \"%   \"   \" \"   \"     !!!!!$!!!!!!!! \"$%   \"\"        \" !%      \"$%   \"         \"$% % \" \"$%      \"$%  \"!$!$!!!!! \"%    \" \"$%    \"\" \"    !%   \" \"!! \"%!!     !! % %   %     % %    %   $% $  %       \" %                % % $  $%  $% $    % %         !% %      %!!      ! !! !! %   $%   %    %     %    % $  $  $ %        $%    $%         $%                        $     $%         $$ $ $ $ $% \"$  $ $   $  $% $     %   %  %        % %   !$ !   !$%                     ! %    %      ! !  ! !!   !         !%       !      \"                   \"%            !!         !         !       %         %          !!!!!!!!!!!!!\"###%%%%%%%%%%%%%%&&(+,/     !!!\"\"###%%%%%%&&&(((      !!!!!\"\"%%%%%%%%%%%%%&&**   !!!!\"#%%%%%%%&&&E  !!!!\"%%%  %%   !!!##%%%%  !!!%%%%  %%  %%%%%%  %%%  %%    !!%%%%%  %%  !%%  !%&  !%  %% !%%  %%% % %   %%  %% !!%%    %       !!!%%% %%       !!!!!\"\"\"#%%%%%%%% !!!!!\"\"\"\"\"\"%%%%%%    \"\"\"%%%                      !\"%    \"%  \"%    \"%     \"%      !!!%%&&'    !!!\"#%%%'''''E   \"%%HH    !!!\"%%%''''*            '''44    '      !&'K    %)H      !!''EE    !   %%             ! !      55   55     AAA  55   44   !!!88     !#=     !                    4477                                                              !!             !g                @GK @E   !!!!@@@@EEEK !@   !@            !!##%%%%%&(,4                                       !!@@                   !!\"\"##%%%%%%%&/2EEE     EE   EE                            !!22__                              !!DD    !D               %%GG     %%_                       !!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"###################################################################################################################################&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&((((((((((((((((((((((((((((((()))))))))))))))))))))))))))********************////////////////////////11111122222222222222222222222222222222222223333334444444444444444444444444444444444446666666666669999999999999::::::>>>>>BBEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEFFFFFFGGGGGGGGGGGGGGGHHHHHHHHIIIIKKKLLLLLMMMWWWWWWWWWWXXXXXYYZZ[[[[[^^_________```````````aaaabbbccllnnnoop!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"##############################$&&&&&&&&&&&&&&&&&&&(((((((((())))************/////////11112222222233333444466999999999::::BBBBBEEEEEGGGGHHHHIIIIKKKKKMMNNVVVVVWWWWXXXXXYYZ^^__``ccdddddddiiiknpq\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"##################$&&&&&&&&&)***///12223446669>BBEEEEGHHHHHIIIIKKMMMMNNWX^^^_`cq##########&&&&&&&&&&&&&&&&&&))))))))****************////11224444444446666699>>EEEEEEGHHHHHHIIKKKKKKKKKKMMPSSVVVVVWWXXYZ^^^_`cjjkknp&&(((())***/112222233334444469999999:>>EEEEEGHIKMMVWYZ_`(())**/11134444444699::BGHKMNWX)))**/2349BBEGHIMVWXY^_`cnq**/144469::BEGHHIM_`////23344699:>>EEEEHKY_`4446EK4446EEEEGGGKKKKKKKKKKKKKKKPPPWZ^^^_`p44EH_k44444444444444446699:::>>>>BBEEHIKKM666>>BEHIKKM9EEGHHKKKKKY_::BBEH>>>HcEKEEEEEEEEEEEEEEEEEEEEEEEFGGHHHHIKKKKMNWXYZZ^__``cenqqFZ_`enHM_________``anHMNVV_`nIW^pKM`Y_anp_`nYYYYYYY^`pYYY_p_`_`_anpr_`_`````bnq`````abnqqrbnqrbnqcclnnoqoqq  !!\"#%&&((+,/B%#%&%&(*+,/9BEGIXd&&(+,/   \"\"!\"%\"%!\"%!\"\"#%E!\"%!\"%   !%'!%&'*%'!\"#%&'*EKSUjk&''*   !!#555!\"#59EM!!55  !!&77!&7  #U  ##&<#<!#&<  !/g!/Eg  !'  !&@KP^  %&,  %4    !@!&@Kh  ,g  D!D  EEE  __  <E @@h  29< @ '   #D  DY DYDY    2       !7@!7@ @h       !\"\"%%\"%%%%%&EHIM^ !%&'*!%&')*!%&')*    !#=!#=                      EEE    <<  @@    @@     77      !&'&'&''    !8E88!\"8 !\"8E8   ;!;!;    !&<<!#<!#&<<             %4%4           EEEE    <<<      2<2<2<    T   !D             ' g      !7   !#     !&@  !%   %4   !&@&@     EEE     @                    %4%4                                                              !g             EE                EEE __   !#<E!#<E!<E< <<   !!            %4%4%&(,44444          >                            !<!<                   %E%E%E%&/2EHKEEEEHK     !<   2<                            %`%`%`                              %W%W    XX               %`%`     %__                        \u00e8\u0087\u00b0\ufef9b\u029f\ufd70 \ufa94 \u0271\ufd7a\ufd56\ufd99\u0161\u01db\uff20\ufd79\u013c\ufd92\ufd38  \u02c6\u0496 \u02d4     \u01b8\u0159\u043f\ufe9d \uff6f     \u01c3\ufe32k\ufefb\u014d\u0255\ufddfr \u0215  \ufe15 \ufe4d\u01c9 \ufe28\u023d       \u0087\uffd8\uffab\u0359\ufc81\u02b7\ufd2a\uffd7  \ufcea \u02b3\ufe84      \u01df\ufe95\u0172\u0244   \ufd77 \ufdfd \u0086\uf9ac\u025b \u025c\u0274   \u0105 \u05f0\u02e8  \ufe69\u0093\ufdc0\ufe74\u0272\u01a9\u0276\uff88  \u00ec    \ufc1d\u00bf\u0248\u0c3co \uf7ed\uff7e\ufdb8  \ufc09\ufa82\ufea8\u0497\u0633 \u0105                                                            \u0185 \uff27              \u038b\ufcba\ufc62\u03d8            \uffab\u0195\uffc6\u00a6\ufeb7h          \ufe8d \ufe7e \u01bc~ \u015d  \ufe8a       \u00a8\u0211\uff4d\ufe8f\uffcc\ufedb\ufef9\uff91\u018a\u0148\u007f\u00f5\uff50\u0187 \ufefe     \uf87f\uf970\uff49\u07bf\u06d7\u00f8                              i               \u06bd\uf980      \ufe3a\uffcf\u043d  \u012d\ufe31\uff1c    \ufb44\ufb92\ufd7b\u0120\u069f\u022e\u00bf\uf733\u02dc\u02ca\uff78\u069e\u029b     \u02cf \ufd2a     \u02a7\ufc15\ufefa\uff01\uff69\ufd31\ufe9c\ufee1\u0328\u0473\u05bb                                \uff2f    \ufa5b\u05f8\u00d2      \u06d0\ufe82\ufcb0\u0238\ufd63\uffca                              \u03a4 \u0125\u05ff  \u04d0\u038b\u0231     \ufe18\uf9c9\u0670  \ufdb4\u02cb        \uf978 \u04d5\uf397\ue91d                                    \uffbb\u008b                                                            \ufaa8 \uf9a1\ufbe0                               \uff73 \u0104      \ufc8e\ufe98\ufa3c\u0357\u0654\u02ad\u0230\u034c\ufbad\uf842\ufa31\u0be3 \u0707\ufa69   \ufe8d\u0143            c\uffe1     \uffd8\uffe7  m                                        \uf5a2\uf18e\u085c\u0bc1                                            \u02eb   \u0194                                                                 \u01c7\ufe74\uff14\u0131                                                         \ufd00\u02c9\ufdfd\u01d6\uff84\ufdaa\u06fd \uffc4\uff82\u02b6\u01c1\u02da\u0246\ufe85 Z\u0003\ufab6\u0450\ufb4d \u0224\ufdc6\ufd9c \ufe0e     \u0595\ufc15\u0362\ufe01       \u0148\u0132 \u0093\u0088\ufdf6\ufe3e \uff68\ufe86  \uff3c  \u00c8\u00a8\u0193\u023b\u00ec\u01b0\u0214  \u00e8\u01b0\u00d1\u015c\ufed3\u00ab\u0478\uff79\u0090u  \u0215\ufdb0\ufaa1\u02d5 \u0423\u0627\u0215\u0221\u021f\u02ac\u02fa\u0af4   \uff58\u0313\u0113 \u012e\u01ec\uf9a4\u015f  \uff0c   \ufd5a \uf2d7\u0548\ufef4 \u0332\ufe9a\u0173\u0163\ufe87\ufe9f\uff82\ufe68  \ufed1    \u02d6\ufdf8\ufea4\uf63f\u0138 \u0573\u0360   \u00ca\u0127\uff9b\uff39\ufedd \u00eb        \u0269\ufe84               \uff51\u0140\u00b8 \uff9e             \u01e1\ufe7c   \uffd0   \uffbf \u0278\u050f \u0298  \ufc8a \u019e           \uffe6\uffe6 \u02bc\u0327\ufdab\ufd55            z\u00b9\uff77\uffb0\uff56\u00fa       \u2f00\u0728\u2f00\u2f00\u2f00\u0849\u2f00\u0868\u0675\u2f00\u05ad\u2f00\u2f00\u0707\u2f00\u2f00\u2f00\u2f00\u2f00\u2f00\u09e4\u0726\u0985\u07a5\u080c\u08c6\u0631\u0808\u05da\u07da\u060a\u064f\u06e0\u0676\u0623\u081e\u060f\u0593 \u0c3c\u0e30\u0e30\u0f91\u0a44\u0b1a\u0f80\u0a64\u0b18\u0728\u1790\u1790\u1790\u05af\u05af\u05af\u05af          \u2f00  \u07f0\u0ba8\u0626\u053c\u1790\u0e94\u0e30\u0e30\u0ecc\u0e92\u04d0\u0728\u04f3\u04ef\u0e30\u0e30\u08b8\u0728\u08c4\u08d1\u0728\u0728\u12e0\u12e0\u1f60\u1eff\u1ef9\u0728\u0728\u0728\u12e0\u0278\u0728\u02ea\uffa3\u054f\u00dc\u00d1\u01d5\u0339\u045c\u159c\u159c\u0e30\u0e30\u158a\u13f6\u16fe\u11c7\u1009\u161f\u19da\u12a1\u1984\u1c30\u19cc\u1828\u1722\u0f54\u3ea0\u0728\u2f00\u3ea0\u3f38\u3ea0\u4748\u3ea0\u1790\u1790\u1790\u1790\u182f\u2277\u16cd\u1c06\u18ca\u1504\u1774\u18b6\ufdd7\u21d7\u138f\u0dc7\u05af\u05af\u05af\u05af\u05af\u05af      \u01b0        \u01b0  \u0728\u0728\u09e4\u0728\u099c\u06ef\u08f0\u0d59\u159c\u0f5c\u0e30\u0e30\u112a\u1131\u0c6d\u0728\u0728\u11b4\u0e30\u0e30\u0e30\u0d0d\u1068\u1403\u14bc\u1327\u13f1\u0728\u0728 \u34dc\u350d\u1f60\u09e4\u2f00\u1f60\u1f60\u12e0\u12e0\u12e0\u12e0\u09e4\u12e0\u0e30\u0e30\u0e30\u09e4\u09e4\u2f00\u4a58\u4bb5\u4a58\u495f\u09e4\u09e4\uf850\uf850\ufbd4 \ufed6\uf8e3\u0e30\u0e30\u0214\u00d4 \uf080\u05af\u05af  \ufe49\u00ec\u01c9  \ufed7\u00fc        \ufe5c \u03b2\ue25a\uf31c \u0e30\u0e30\u0ca0\u0e30\u113e\u0a30\u0b11  \u0e30 \u1790\u1860\u0e30\u0e30\u0e30\u0e30\u0e30\u0e30  \u0e30\u0e30   \u05af\u05af\u05af    \u0098\uffbf\ufedc\u011d         \u0e30\u0e30\u0e30\u0e30\u2f00\u0728\u2f00\u1790\u1790\u05af      \u0728\u1790\u0e30\u12e0\u0728\u2f00\u12e0\u12e0\u0728\u0e30\u0728\u0728\u2f00\u0728\u12e0   \u12a7        \u1790   \u1790\u1790\u1790\u1790\udfb4\ue0e0\udf48\udfeb         \u05af\u05af\u0534\u05af\u08a1\u0219  \u05af\u05af\u05af    \u05af\u0ef3    \ufb70\ufc5b\ufd28\uf953 \u02cf\ufe1f   \ufe3e\uf57c\uf908\ufb5c\u05fb\u011e\u0176\u0609\ufd61\uf9b2\ufed8\ufaa3 \u0666\uf62c   \uff0f\u01a1            q\uffe0    \u009f\uff13  \uffc5\u00ea                                        \ufa38\ufe0d\u0788\u02fc      \u05af \u2f00\u0728\u0728\u0e30\u0728  \u1b78\u07f0\u1790\u1790\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u0e30\u1790\u0fc0\u0e30\u1110\u0a64\u0728\u07f0\u0e30\u090c\u06be\u0728\u0728\u12e0\u12e0\u0728\u1790\u12e0\u0e30\u1b78\u0728\u1b78\u0728\u0728\u1b78\u1790\u1790\u12e0\u1b78\u1b78\u1b78\u1b78\u1790\u1790 \u1790\u0fc0\u1790\u0e30\u0fc0\u0fc0\u0fc0\u0fc0\u0fc0\u0fc0\u0e30\u1790\u0fc0\u0e30 \u0e30\u0e30\u0e30\u0e30\u0e30\u0e30\u0e30\u0728\u12e0\u0e30\u0728 \u0e30\u0e30\u1b78\u1b78\u1b78\u0b3e\u0b3e\u0728\u0728\u0728\u2730\u12e0\u12e0\u2f40\u2f2c\u1fad\u1f79\u0e30\u12e0\u12e0\u1790\u1b06\u1270\u12e0\u12e0\u0728\u0728\u1790\u1790\u1b78\u1b78\u0e30\u0e30\u0e30\u0e30\u0e30\u0728\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1790\u1790\u1b78\u0728\u1b78\u1b78\u1b78\u1b78\u1b78\u1790\u1790\u1790\u1790\u1b78\u1790\u1790\u1790\u1b78\u1790\u1790\u2f00\u2f00\u0e30\u0e30\u1b78\u1790\u0fc0\u1790\u1790\u0fc0\u014c\u05fc\u016c\u0486\u0268\u00af\u0128\u01fdV\u046d\u0163\u0480\u0290 \u026e\u00b0\ufbac  \u015a\u0137\u0171\u01cb\u0143\u01ae\u018f\u0147\u0136\u01a5\u0136\uff93\u0164\u00a8\u03e1\u067f \u059d\u039dQ   \ufd96\ufd96\u013a\ufdaa\u0186\ufe24\u021b\u010a\ufe75\u009b\u00fc\ufe09W\uffb4\u00f0 \u020a\ufcb5\u01ac\u024d\ufc2f\u01f0\u014c\u017e \u0246\u02dc\u01b0\u0241\u02c2\u00ea\u0165\u058c\u01ca\u0253\u0233\u0093\u01de\u0410\u016a\u0154wX\u0188\u017e \ufec8\uff66\u015e\uff95\u0881\u0723 \u00e8\u01b0\u0313\ufdcc\u0160\u010d\uffa0\u013b\u025a\u0152\ufef0\u017a]\u008a\uff72\u02f2H\ufee0\ufe25\u0214\u0149\u0130\u02b2\u05f8\u0138\u00bb\u0252\u01af\u0185  \ufec0\u0081\u014c \u0408\u03d4\u00e6\u0166\u05f6\u01b2\u032b5\u0248\u0132\u01b0\u0170\u01ae\u0215\u0140\u01df\u01e8\u01eb\u01d8\u017e \u0238\u00f4\u0084\u0090 \u0083\u01a4\u0099\u00e3\uffc8\u00b6\u00d3\u00e4\u00d0\u00b8\u017e\u017e\u0178\u0189\u010c\u010c\u014c\u011b\u0108\u00fa\u010b\u020f\u00f6\u01f2\u0113\u01e2\u0198\u01d7\u01f8\u011a\u00e6\u00db\u0117\u0123\u00e8  \u01a7\u00b6  \uffe8\uffaf\u011a\u0149\u00eb\u0169  \uffb6 \u00b6\u0149 ]\u0177\u0084\u009d\ufe2c\ufe04   \ufee5\u015b  t\uffc4\ufef4\u0011\ufe8a\ufeac\ufe3d   \u011a\u012e      \u01b0\u030f\u029bk\u0169\u0250}\u0214\u021d\u01db         \ufeea \u012d\u038d \ufcba          \u0296\u0185\uff9d\ufee2\ufdbe\ufe39\ufdd2  \u0201\u019c\ufff6\u00ff\u00e2 \ufe4a\u0103    \ufc01\ufed6\ufe58\u048a\u0188\u01e8                      \uffd1\u01d2\ufebb    \ufe0e\u0143               \u0234\ufe3e       \u00a4 \u01d4\ufe84 \ufee2\u00e1    \u018d\ufdff\u0229\u0122~\u02d3\u00f8\u01f4\ufe90\ufc79\uff89\uffe6\ufe62\uffc2    \u039e \uff64     \u021b\u05d8\u055e\u0098\u06f9\u00f1\u01eb\uff8d\uff8f\ufe5c\ufe5a\u052b        \ufef4 \ufef4 \u01b0\uff9d u     \u01b0         \ufcda    \u03a6\ufe7f\u032a      \u0109\ufcb5\uff9f\ufdf4\u04e9\u038e  \u039c                           \ufe2c\u0132\ufe02\ufe44  \ufc38\ufd43\ufb95   \u0084\u0087\uff15\u01d6\u00df\u00b6\u00c5\u014f \u01b0\u00f9\u00f9\uffd1 \u00f9\u02aa\u0107\u024c\u0329\u0284\u0449\u0142\u017a        \u0132 \u0132        \u0197\u0197    \u01c8   \u0101\u017e\u014c\u0149\u01f8\u00e8\u0193\u00b7\u0149\u015c\u015c\u01fa\u01fa\u011a \u0197\u0197                                                   \u0408 \u05b9\u01bb\u00c0\u011f\u011f\u0170\u0170\u0170\u0186\u0186\u0239     \u016d\u01c8\u01c8         \u0090\u0090\u0090\u0090\ufef4\ufdbe\u0103\ufead\u0214\u02c8\u0185\u017e\u00ad\u00ad\u00d3\u0158\uff71\ufd1e\u05a2  \u0512\u0460\uf80c\u05bd\u0816\u01b0\u01b8\u0156  \u0214\u01d8\u0266   \u00d3\u00d3 \u0101  \u00e8 \u010c\u017b\u00acs \u01c8\uffd0\u01e2\u01d7\u0153 \u00e0\u00d7 \u010c\u010c\u011b\u011b\u0198\u0198\u0198   \ufe2c\u00e6\u00e6  \u0149 \u0149\u0149 \u010c\u010c\u010c  \u00e6 \u0149 \u0149\u0149 \u012b   \u015c\u015c\u011a\u026f \u03e5\ufe2a  \u0278\u0278\u015c\u015c \u01fa      \u011a                            \u0192\u0d3b \u0728 \u0812\u0604                                      \u0197           \u0197             z \ufcfa\u02d4    \uff7f\u008b                                                  ";
 
-public static final String vanderwaalsData = "95\nint,float,float,float,float,char\n1,1.050,2.490,3.890,1.282,'-'\n2,1.350,2.490,3.890,1.282,'-'\n3,1.100,2.490,3.890,1.282,'-'\n4,1.300,2.490,3.890,1.282,'-'\n5,0.250,0.800,4.200,1.209,'-'\n6,0.700,3.150,3.890,1.282,'A'\n7,0.650,3.150,3.890,1.282,'A'\n8,1.150,2.820,3.890,1.282,'A'\n9,0.900,2.820,3.890,1.282,'A'\n10,1.000,2.820,3.890,1.282,'A'\n11,0.350,3.480,3.890,1.282,'A'\n12,2.300,5.100,3.320,1.345,'A'\n13,3.400,6.000,3.190,1.359,'A'\n14,5.500,6.950,3.080,1.404,'A'\n15,3.000,4.800,3.320,1.345,'A'\n16,3.900,4.800,3.320,1.345,'A'\n17,2.700,4.800,3.320,1.345,'-'\n18,2.100,4.800,3.320,1.345,'-'\n19,4.500,4.200,3.320,1.345,'-'\n20,1.050,2.490,3.890,1.282,'-'\n21,0.150,0.800,4.200,1.209,'D'\n22,1.100,2.490,3.890,1.282,'-'\n23,0.150,0.800,4.200,1.209,'D'\n24,0.150,0.800,4.200,1.209,'D'\n25,1.600,4.500,3.320,1.345,'-'\n26,3.600,4.500,3.320,1.345,'A'\n27,0.150,0.800,4.200,1.209,'D'\n28,0.150,0.800,4.200,1.209,'D'\n29,0.150,0.800,4.200,1.209,'D'\n30,1.350,2.490,3.890,1.282,'-'\n31,0.150,0.800,4.200,1.209,'D'\n32,0.750,3.150,3.890,1.282,'A'\n33,0.150,0.800,4.200,1.209,'D'\n34,1.000,2.820,3.890,1.282,'-'\n35,1.500,3.150,3.890,1.282,'A'\n36,0.150,0.800,4.200,1.209,'D'\n37,1.350,2.490,3.890,1.282,'-'\n38,0.850,2.820,3.890,1.282,'A'\n39,1.100,2.820,3.890,1.282,'-'\n40,1.000,2.820,3.890,1.282,'A'\n41,1.100,2.490,3.890,1.282,'-'\n42,1.000,2.820,3.890,1.282,'A'\n43,1.000,2.820,3.890,1.282,'A'\n44,3.000,4.800,3.320,1.345,'A'\n45,1.150,2.820,3.890,1.282,'-'\n46,1.300,2.820,3.890,1.282,'-'\n47,1.000,2.820,3.890,1.282,'A'\n48,1.200,2.820,3.890,1.282,'A'\n49,1.000,3.150,3.890,1.282,'-'\n50,0.150,0.800,4.200,1.209,'D'\n51,0.400,3.150,3.890,1.282,'-'\n52,0.150,0.800,4.200,1.209,'D'\n53,1.000,2.820,3.890,1.282,'-'\n54,1.300,2.820,3.890,1.282,'-'\n55,0.800,2.820,3.890,1.282,'-'\n56,0.800,2.820,3.890,1.282,'-'\n57,1.000,2.490,3.890,1.282,'-'\n58,0.800,2.820,3.890,1.282,'-'\n59,0.650,3.150,3.890,1.282,'A'\n60,1.800,2.490,3.890,1.282,'A'\n61,0.800,2.820,3.890,1.282,'A'\n62,1.300,2.820,3.890,1.282,'A'\n63,1.350,2.490,3.890,1.282,'-'\n64,1.350,2.490,3.890,1.282,'-'\n65,1.000,2.820,3.890,1.282,'A'\n66,0.750,2.820,3.890,1.282,'A'\n67,0.950,2.820,3.890,1.282,'A'\n68,0.900,2.820,3.890,1.282,'A'\n69,0.950,2.820,3.890,1.282,'A'\n70,0.870,3.150,3.890,1.282,'A'\n71,0.150,0.800,4.200,1.209,'D'\n72,4.000,4.800,3.320,1.345,'A'\n73,3.000,4.800,3.320,1.345,'-'\n74,3.000,4.800,3.320,1.345,'-'\n75,4.000,4.500,3.320,1.345,'A'\n76,1.200,2.820,3.890,1.282,'A'\n77,1.500,5.100,3.320,1.345,'A'\n78,1.350,2.490,3.890,1.282,'-'\n79,1.000,2.820,3.890,1.282,'A'\n80,1.000,2.490,3.890,1.282,'-'\n81,0.800,2.820,3.890,1.282,'-'\n82,0.950,2.820,3.890,1.282,'A'\n87,0.450,6.000,4.000,1.400,'-'\n88,0.550,6.000,4.000,1.400,'-'\n89,1.400,3.480,3.890,1.282,'A'\n90,4.500,5.100,3.320,1.345,'A'\n91,6.000,6.000,3.190,1.359,'A'\n92,0.150,2.000,4.000,1.300,'-'\n93,0.400,3.500,4.000,1.300,'-'\n94,1.000,5.000,4.000,1.300,'-'\n95,0.430,6.000,4.000,1.400,'-'\n96,0.900,5.000,4.000,1.400,'-'\n97,0.350,6.000,4.000,1.400,'-'\n98,0.400,6.000,4.000,1.400,'-'\n99,0.350,3.500,4.000,1.300,'-'\n";
+public static final String vanderwaalsData = "\u007f&\u0089 !\u0086#!\u0086#!\u0086#!\u0086#!\u0083 !!\"#$%&'()*+,-./0123456789:;<=>?@ABCDEFGHIJKLMNOPQRSTUVWXYZ[\\]^_`abcdefghijklmnopqrwxyz{|}~\u007f\u0080\u0081\u0082\u0083\u043a\u0566\u046c\u0534\u011a\u02dc\u02aa\u049e\u03a4\u0408\u017e\u091c\u0d68\u159c\u0bd8\u0f5c\u0aac\u0854\u11b4\u043a\u00b6\u046c\u00b6\u00b6\u0660\u0e30\u00b6\u00b6\u00b6\u0566\u00b6\u030e\u00b6\u0408\u05fc\u00b6\u0566\u0372\u046c\u0408\u046c\u0408\u0408\u0bd8\u049e\u0534\u0408\u04d0\u0408\u00b6\u01b0\u00b6\u0408\u0534\u0340\u0340\u0408\u0340\u02aa\u0728\u0340\u0534\u0566\u0566\u0408\u030e\u03d6\u03a4\u03d6\u0386\u00b6\u0fc0\u0bd8\u0bd8\u0fc0\u04d0\u05fc\u0566\u0408\u0408\u0340\u03d6\u01e2\u0246\u0598\u11b4\u1790\u00b6\u01b0\u0408\u01ce\u03a4\u017e\u01b0\u017e\u09da\u09da\u09da\u09da\u0340\u0c6e\u0c6e\u0b24\u0b24\u0b24\u0db8\u140c\u1790\u1b46\u12e0\u12e0\u12e0\u12e0\u1088\u09da\u0340\u09da\u0340\u0340\u11b4\u11b4\u0340\u0340\u0340\u09da\u0340\u0c6e\u0340\u0b24\u0c6e\u0340\u09da\u0b24\u0b24\u0b24\u09da\u0b24\u0b24\u12e0\u0b24\u0b24\u0b24\u0b24\u0c6e\u0340\u0c6e\u0340\u0b24\u0b24\u0b24\u0b24\u09da\u0b24\u0c6e\u09da\u0b24\u0b24\u09da\u09da\u0b24\u0b24\u0b24\u0b24\u0b24\u0c6e\u0340\u12e0\u12e0\u12e0\u11b4\u0b24\u140c\u09da\u0b24\u09da\u0b24\u0b24\u1790\u1790\u0db8\u140c\u1790\u07f0\u0dcc\u13a8\u1790\u13a8\u1790\u1790\u0dcc\u0f52\u0f52\u0f52\u0f52\u1088\u0f52\u0f52\u0f52\u0f52\u0f52\u0f52\u0d18\u0c96\u0c28\u0d18\u0d18\u0d18\u0d18\u0d18\u0f52\u1088\u0f52\u1088\u1088\u0d18\u0d18\u1088\u1088\u1088\u0f52\u1088\u0f52\u1088\u0f52\u0f52\u1088\u0f52\u0f52\u0f52\u0f52\u0f52\u0f52\u0f52\u0d18\u0f52\u0f52\u0f52\u0f52\u0f52\u1088\u0f52\u1088\u0f52\u0f52\u0f52\u0f52\u0f52\u0f52\u0f52\u0f52\u0f52\u0f52\u0f52\u0f52\u0f52\u0f52\u0f52\u0f52\u0f52\u0f52\u1088\u0d18\u0d18\u0d18\u0d18\u0f52\u0d18\u0f52\u0f52\u0f52\u0f52\u0f52\u0fc0\u0fc0\u0f52\u0d18\u0c96\u0fc0\u0fc0\u0fc0\u0fc0\u0fc0\u0fc0\u0fc0\u0fc0\u0522\u0522\u0522\u0522\u04d9\u0522\u0522\u0522\u0522\u0522\u0522\u0561\u056f\u059c\u0561\u0561\u0561\u0561\u0561\u0522\u04d9\u0522\u04d9\u04d9\u0561\u0561\u04d9\u04d9\u04d9\u0522\u04d9\u0522\u04d9\u0522\u0522\u04d9\u0522\u0522\u0522\u0522\u0522\u0522\u0522\u0561\u0522\u0522\u0522\u0522\u0522\u04d9\u0522\u04d9\u0522\u0522\u0522\u0522\u0522\u0522\u0522\u0522\u0522\u0522\u0522\u0522\u0522\u0522\u0522\u0522\u0522\u0522\u04d9\u0561\u0561\u0561\u0561\u0522\u0561\u0522\u0522\u0522\u0522\u0522\u0598\u0598\u0522\u0561\u056f\u0534\u0534\u0534\u0598\u0598\u0598\u0598\u0534MMMMMaaaaaaaaaaaMMMMdMddMadddMdadMadMaMaMaaaMMaaMdMdMMMMMMaaaaMMaaaaaadaMMaaaMaMMaMMaaaMMMMMMMM";
 
-public static final String n94s_outofplaneData = "117\nint,int,int,int,float\n0,2,0,0,0.020\n1,2,1,2,0.030\n1,2,2,2,0.027\n1,2,2,3,0.026\n1,2,2,5,0.013\n1,2,2,37,0.032\n2,2,2,5,0.013\n2,2,3,5,0.012\n2,2,5,5,0.006\n2,2,5,6,0.027\n2,2,5,37,0.017\n2,2,5,40,0.012\n2,2,5,41,0.008\n0,3,0,0,0.130\n1,3,1,7,0.146\n1,3,2,7,0.138\n1,3,3,7,0.134\n1,3,5,7,0.122\n1,3,6,7,0.141\n1,3,7,10,0.129\n1,3,7,37,0.138\n2,3,5,7,0.113\n2,3,5,9,0.081\n2,3,6,7,0.127\n2,3,7,10,0.116\n3,3,5,7,0.113\n3,3,6,7,0.127\n5,3,5,7,0.103\n5,3,5,9,0.074\n5,3,5,54,0.078\n5,3,6,7,0.119\n5,3,7,10,0.102\n5,3,9,40,0.067\n6,3,7,37,0.127\n7,3,10,10,0.113\n7,3,20,20,0.151\n9,3,40,40,0.057\n0,8,0,0,0.000\n0,10,0,0,0.015\n1,10,1,3,0.015\n1,10,3,6,0.015\n1,10,3,28,0.015\n3,10,3,28,0.015\n3,10,28,28,0.015\n0,17,0,0,0.000\n0,26,0,0,0.000\n0,30,0,0,0.010\n5,30,20,30,0.008\n0,37,0,0,0.035\n1,37,37,37,0.040\n2,37,37,37,0.031\n3,37,37,37,0.027\n5,37,37,37,0.015\n5,37,37,38,0.046\n5,37,37,63,0.008\n5,37,37,64,0.012\n5,37,37,69,0.016\n5,37,38,38,0.084\n6,37,37,37,0.048\n15,37,37,37,0.025\n37,37,37,40,0.046\n0,39,0,0,0.020\n1,39,63,63,0.012\n23,39,63,63,-0.014\n23,39,63,65,0.021\n23,39,65,65,0.062\n0,40,0,0,0.030\n1,40,28,37,0.030\n2,40,28,28,0.030\n3,40,28,28,0.030\n28,40,28,37,0.030\n0,41,0,0,0.180\n1,41,32,32,0.178\n2,41,32,32,0.161\n5,41,32,32,0.158\n0,43,0,0,0.000\n0,45,0,0,0.150\n0,49,0,0,0.000\n50,49,50,50,0.000\n0,54,0,0,0.020\n1,54,3,36,0.016\n3,54,36,36,0.018\n0,55,0,0,0.020\n1,55,36,57,0.020\n36,55,36,57,0.020\n0,56,0,0,0.020\n1,56,36,57,0.020\n36,56,36,57,0.020\n0,57,0,0,0.080\n5,57,55,55,0.038\n56,57,56,56,0.158\n0,58,0,0,0.025\n0,63,0,0,0.050\n5,63,39,64,0.019\n5,63,39,66,0.068\n5,63,44,64,0.014\n5,63,44,66,0.055\n5,63,59,64,0.033\n5,63,59,66,0.085\n37,63,39,64,0.010\n0,64,0,0,0.040\n5,64,63,64,0.006\n5,64,63,66,0.043\n5,64,64,65,0.052\n5,64,65,66,0.094\n37,64,63,64,-0.01\n0,67,0,0,0.070\n0,69,0,0,0.070\n32,69,37,37,0.067\n0,73,0,0,0.000\n0,78,0,0,0.045\n5,78,78,81,0.046\n0,80,0,0,0.080\n5,80,81,81,0.057\n0,81,0,0,0.025\n36,81,78,80,0.016\n0,82,0,0,0.000\n";
+public static final String n94s_outofplaneData = "\u0095%\u0089 !\u0089 !\u0089 !\u0089 !\u0086#! !!!!!\"\"\"\"\"\"\" !!!!!!!\"\"\"\"##%%%%%%&'')  !!!##   % !\"#%%%%%%&/E !777 !\"#< !\"%   R !# !D !D %X  %%%%%%E %%%%E  @  % % D \"\"\"\"\"\"\"\"\"\"\"\"\"########################(******1:>>EEEEEEEEEEEEEGGGGGHHHHHIIIIKMQQVVVWWWXXXYYYZ________``````ceeinnppqqr !\"\"\"\"\"#%%%%% !\"#%&''%%&'%&%%%&')'*4H  !###<   4 EEEEEEEEFEEE ___a <<<< @@@   R #D DD DD WX  GGLL[[G __`a_  E  n q n  \"\"#%E%%%&EHI '''''*E')'*''')V'*HE*4H  #&<<<   > EEEEF_`eFEEH __aa E<<E @@@   R DD YY YY WX  `b`b`b` `bab`  E  q q p 4>;:-@-,&;1,(\u00a2\u00b2\u00aa\u00a6\u009a\u00ad\u00a1\u00aa\u0091q\u009f\u0094\u0091\u009f\u0087jn\u0097\u0086c\u009f\u0091\u00b7Y //////  *(CH?;/N(,0tP9N4,\u00125^>>>>>\u00d4\u00d2\u00c1\u00be \u00b6  402444444pF\u00be9R3d.WAu*H&KT~\u0016ffc MNpY90 ";
 
-public static final String n94s_torsionData = "926\nint,int,int,int,int,float,float,float\n0,0,1,1,0,0.000,0.000,0.300\n5,0,1,1,0,0.200,-0.800,1.500\n0,1,1,1,1,0.103,0.681,0.332\n5,1,1,1,1,0.144,-0.547,1.126\n0,1,1,1,2,-0.295,0.438,0.584\n0,1,1,1,3,0.066,-0.156,0.143\n0,1,1,1,5,0.639,-0.630,0.264\n0,1,1,1,6,-0.688,1.757,0.477\n5,1,1,1,6,0.000,0.000,0.054\n0,1,1,1,8,-1.420,-0.092,1.101\n5,1,1,1,8,0.000,-0.158,0.323\n0,1,1,1,11,0.593,0.662,1.120\n0,1,1,1,12,-0.678,0.417,0.624\n0,1,1,1,15,-0.714,0.698,0.000\n0,1,1,1,34,-0.647,0.550,0.590\n0,2,1,1,5,0.321,-0.411,0.144\n0,3,1,1,3,0.443,0.000,-1.140\n0,3,1,1,5,-0.256,0.058,0.000\n0,3,1,1,6,-0.679,-0.029,0.000\n0,5,1,1,5,0.284,-1.386,0.314\n0,5,1,1,6,-0.654,1.072,0.279\n0,5,1,1,8,-0.744,-1.235,0.337\n0,5,1,1,10,0.000,0.000,0.418\n0,5,1,1,11,0.000,0.516,0.291\n0,5,1,1,12,0.678,-0.602,0.398\n0,5,1,1,15,1.142,-0.644,0.367\n0,5,1,1,25,0.000,0.000,0.295\n0,5,1,1,34,0.692,-0.530,0.278\n0,5,1,1,37,0.000,0.000,0.389\n0,5,1,1,39,0.000,0.000,0.278\n0,5,1,1,41,0.000,0.000,-0.141\n0,5,1,1,56,0.000,0.000,0.324\n0,5,1,1,68,0.000,0.000,0.136\n0,6,1,1,6,0.408,1.397,0.961\n5,6,1,1,6,0.313,-1.035,1.631\n0,8,1,1,8,1.055,0.834,0.000\n0,11,1,1,11,-0.387,-0.543,1.405\n0,12,1,1,12,0.000,0.000,0.893\n0,15,1,1,15,-0.177,0.000,0.049\n0,0,1,2,0,0.000,0.000,0.000\n2,0,1,2,0,0.000,0.000,0.000\n5,0,1,2,0,0.000,0.000,0.000\n0,0,1,2,2,0.000,0.000,-0.650\n5,0,1,2,2,0.000,0.000,-0.650\n0,1,1,2,1,0.419,0.296,0.282\n0,1,1,2,2,-0.494,0.274,-0.630\n0,1,1,2,5,0.075,0.000,0.358\n0,2,1,2,2,-0.293,0.115,-0.508\n0,2,1,2,5,0.301,0.104,0.507\n0,3,1,2,1,0.565,-0.554,0.234\n0,3,1,2,2,-0.577,-0.482,-0.427\n0,3,1,2,5,0.082,0.000,0.123\n0,5,1,2,1,0.000,-0.184,0.220\n0,5,1,2,2,0.501,-0.410,-0.535\n2,5,1,2,2,0.000,0.000,0.055\n2,5,1,2,3,0.000,0.000,-0.108\n0,5,1,2,5,-0.523,-0.228,0.208\n2,5,1,2,37,0.000,0.000,0.000\n0,6,1,2,1,-0.467,0.000,0.490\n0,6,1,2,2,0.425,0.168,-0.875\n0,6,1,2,5,0.000,0.136,0.396\n0,8,1,2,1,-0.504,0.371,0.557\n0,8,1,2,2,0.541,0.539,-1.009\n0,8,1,2,5,0.000,0.204,0.464\n0,0,1,3,0,0.000,0.400,0.300\n2,0,1,3,0,0.000,0.500,0.350\n5,0,1,3,0,0.000,0.000,0.000\n0,0,1,3,1,0.000,0.000,0.550\n0,0,1,3,5,0.000,0.200,0.700\n0,0,1,3,7,0.000,0.400,0.400\n0,1,1,3,1,0.103,0.177,0.545\n0,1,1,3,5,-0.072,0.316,0.674\n0,1,1,3,6,-0.117,-0.333,0.202\n0,1,1,3,7,0.825,0.139,0.325\n0,1,1,3,10,-0.763,1.244,0.986\n0,2,1,3,5,0.663,-0.167,0.426\n0,2,1,3,7,-0.758,0.112,0.563\n0,5,1,3,1,-0.073,0.085,0.531\n2,5,1,3,2,0.000,0.000,0.115\n2,5,1,3,3,0.000,0.000,0.446\n0,5,1,3,5,-0.822,0.501,1.008\n0,5,1,3,6,0.000,-0.624,0.330\n0,5,1,3,7,0.659,-1.407,0.308\n0,5,1,3,10,-0.687,1.244,0.136\n2,5,1,3,37,0.000,0.000,0.056\n0,5,1,3,43,0.000,1.027,0.360\n0,5,1,3,51,0.000,1.543,0.350\n0,5,1,3,53,0.000,0.501,0.000\n0,5,1,3,74,0.000,0.513,-0.344\n0,5,1,3,75,0.000,0.511,-0.186\n0,6,1,3,6,0.447,0.652,0.318\n0,6,1,3,7,-0.395,0.730,-0.139\n0,10,1,3,7,0.530,2.905,2.756\n0,10,1,3,10,0.465,-0.241,1.850\n0,0,1,4,0,0.000,0.000,0.000\n0,0,1,6,0,0.000,0.000,0.200\n5,0,1,6,0,0.000,-0.200,0.400\n0,1,1,6,1,-0.681,0.755,0.755\n5,1,1,6,1,0.000,0.243,-0.596\n0,1,1,6,3,-0.547,0.000,0.320\n0,1,1,6,21,0.000,0.270,0.237\n0,2,1,6,21,0.102,0.460,-0.128\n0,3,1,6,21,-1.652,-1.660,0.283\n0,5,1,6,1,0.571,0.319,0.570\n0,5,1,6,2,0.000,0.000,0.306\n0,5,1,6,3,0.572,0.000,-0.304\n0,5,1,6,21,0.596,-0.276,0.346\n0,5,1,6,25,0.000,0.000,0.061\n0,5,1,6,37,0.000,0.000,0.106\n0,5,1,6,45,0.000,0.000,-0.174\n0,6,1,6,1,0.229,-0.710,0.722\n5,6,1,6,1,0.000,0.000,0.040\n0,6,1,6,21,1.488,-3.401,-0.320\n0,37,1,6,21,0.712,1.320,-0.507\n0,0,1,8,0,0.000,-0.300,0.500\n5,0,1,8,0,0.000,0.000,0.297\n0,1,1,8,1,-0.439,0.786,0.272\n5,1,1,8,1,0.115,-0.390,0.658\n0,1,1,8,6,-0.608,0.339,1.496\n0,1,1,8,23,-0.428,0.323,0.280\n0,2,1,8,23,0.594,-0.409,0.155\n0,5,1,8,1,0.393,-0.385,0.562\n0,5,1,8,6,0.598,-0.158,0.399\n0,5,1,8,23,-0.152,-0.440,0.357\n0,0,1,9,0,0.000,0.000,0.000\n5,0,1,9,0,0.000,0.000,0.000\n0,5,1,9,3,0.204,-0.335,-0.352\n0,5,1,9,53,0.000,0.000,0.097\n0,0,1,10,0,0.000,0.000,0.300\n5,0,1,10,0,0.000,0.000,0.000\n0,0,1,10,3,0.000,0.000,1.000\n0,1,1,10,3,-0.884,0.578,0.818\n0,1,1,10,6,0.000,-0.379,0.565\n0,1,1,10,28,0.750,-0.404,0.369\n0,3,1,10,3,3.219,-2.699,1.875\n0,3,1,10,28,0.207,0.461,0.324\n0,5,1,10,1,0.000,0.000,0.706\n0,5,1,10,3,-2.334,1.517,-0.065\n0,5,1,10,6,0.000,0.688,0.665\n0,5,1,10,28,-0.982,-0.207,0.166\n0,0,1,15,0,0.000,0.000,0.400\n5,0,1,15,0,0.000,0.000,0.336\n0,1,1,15,1,-1.047,0.170,0.398\n0,1,1,15,15,-1.438,0.263,0.501\n0,1,1,15,71,-0.376,-0.133,0.288\n0,5,1,15,1,1.143,-0.231,0.447\n0,5,1,15,15,1.555,-0.323,0.456\n0,5,1,15,37,0.000,0.000,0.459\n0,5,1,15,71,0.229,0.203,0.440\n0,0,1,17,0,0.000,0.000,0.350\n5,0,1,17,0,0.000,0.000,0.000\n0,5,1,17,1,0.000,0.000,0.536\n0,5,1,17,7,0.000,0.000,0.212\n0,0,1,18,0,0.000,0.000,0.100\n5,0,1,18,0,0.000,0.000,0.112\n0,5,1,18,1,0.000,0.000,0.000\n0,5,1,18,6,0.000,0.000,0.099\n0,5,1,18,32,0.000,0.585,0.388\n0,5,1,18,43,0.000,-0.412,0.121\n0,5,1,18,48,0.000,0.000,0.195\n0,5,1,18,62,0.000,0.000,-0.088\n0,0,1,19,0,0.000,0.000,0.150\n5,0,1,19,0,0.000,0.000,0.179\n0,5,1,19,5,0.000,0.000,0.196\n0,5,1,19,6,0.000,0.000,0.176\n0,5,1,19,12,0.000,0.000,0.152\n0,0,1,20,0,0.000,0.000,0.350\n5,0,1,20,0,0.000,0.000,0.350\n0,5,1,20,5,0.000,0.000,0.344\n0,5,1,20,20,0.000,0.000,0.361\n0,0,1,22,0,0.000,0.000,0.236\n5,0,1,22,0,0.000,0.000,0.236\n0,0,1,25,0,0.000,0.000,0.300\n5,0,1,25,0,0.000,0.000,0.251\n0,1,1,25,1,0.000,-0.207,0.232\n0,1,1,25,32,0.000,0.288,0.218\n0,5,1,25,1,0.000,0.152,0.235\n0,5,1,25,6,0.000,0.000,0.495\n0,5,1,25,32,0.000,-0.130,0.214\n0,5,1,25,43,0.000,0.000,0.466\n0,5,1,25,72,0.000,0.000,0.243\n0,0,1,26,0,0.000,0.000,0.450\n5,0,1,26,0,0.000,0.000,0.376\n0,5,1,26,12,0.000,0.000,0.439\n0,5,1,26,71,0.000,0.000,0.472\n0,0,1,34,0,0.000,0.000,0.250\n5,0,1,34,0,0.000,0.000,0.198\n0,1,1,34,36,0.000,0.000,0.187\n0,5,1,34,1,0.000,0.000,0.247\n0,5,1,34,36,0.000,0.000,0.259\n0,0,1,37,0,0.000,0.000,0.200\n5,0,1,37,0,0.000,0.000,0.000\n0,1,1,37,37,0.000,0.449,0.000\n0,5,1,37,37,0.000,-0.420,0.391\n0,6,1,37,37,0.000,0.000,0.150\n0,0,1,39,0,0.000,0.000,0.000\n5,0,1,39,0,0.000,0.000,0.000\n0,1,1,39,63,0.000,-0.080,-0.056\n0,5,1,39,63,0.000,0.000,-0.113\n0,0,1,40,0,0.000,0.000,0.250\n5,0,1,40,0,0.000,0.000,0.297\n0,5,1,40,28,0.000,-0.105,0.000\n0,5,1,40,37,0.000,0.000,0.468\n0,0,1,41,0,0.000,0.600,0.000\n0,1,1,41,32,0.000,1.263,0.000\n0,5,1,41,32,0.000,0.000,-0.106\n0,5,1,41,72,0.000,0.632,0.000\n0,0,1,43,0,0.000,0.000,0.150\n5,0,1,43,0,0.000,0.000,0.297\n0,5,1,43,18,0.357,-0.918,0.000\n0,5,1,43,25,0.000,0.000,0.061\n0,5,1,43,28,-0.249,0.382,0.343\n0,0,1,45,0,0.000,0.000,0.100\n0,5,1,45,32,0.000,0.000,0.125\n0,0,1,46,0,0.000,0.000,-0.500\n0,5,1,46,7,0.000,0.000,-0.540\n0,0,1,54,0,0.000,0.000,0.000\n2,0,1,54,0,0.000,0.000,0.000\n5,0,1,54,0,0.000,0.000,0.000\n0,5,1,54,3,0.000,0.000,-0.315\n0,5,1,54,36,0.000,0.000,0.315\n0,0,1,55,0,0.000,0.000,0.000\n5,0,1,55,0,0.000,0.000,0.000\n0,5,1,55,36,0.000,-0.058,0.084\n0,5,1,55,57,0.000,-0.058,-0.092\n0,0,1,56,0,0.000,0.000,-0.300\n0,1,1,56,36,0.875,0.668,-0.015\n0,1,1,56,57,-0.870,0.775,-0.406\n0,5,1,56,36,-0.958,-0.629,-0.372\n0,5,1,56,57,0.952,-0.715,-0.483\n0,0,1,57,0,0.000,0.000,0.000\n5,0,1,57,0,0.000,0.000,0.000\n0,0,1,58,0,0.000,0.000,0.000\n0,0,1,62,0,0.000,0.000,0.250\n0,5,1,62,18,0.000,0.000,0.270\n0,0,1,63,0,0.000,0.000,0.000\n5,0,1,63,0,0.000,0.000,0.000\n0,0,1,64,0,0.000,0.000,0.000\n5,0,1,64,0,0.000,0.000,0.000\n0,0,1,67,0,0.000,0.000,0.000\n5,0,1,67,0,0.000,0.000,0.000\n0,0,1,68,0,0.000,0.000,0.400\n0,1,1,68,1,-0.117,0.090,0.751\n0,1,1,68,23,0.373,0.153,0.635\n0,1,1,68,32,-0.090,-0.169,0.075\n0,5,1,68,1,0.134,-0.112,0.329\n0,5,1,68,23,-0.361,-0.202,0.560\n0,5,1,68,32,0.072,0.218,0.093\n0,0,1,73,0,0.000,0.000,0.500\n0,5,1,73,32,0.000,0.000,0.509\n0,5,1,73,72,0.000,0.000,0.443\n0,0,1,75,0,0.000,0.000,0.000\n0,0,1,78,0,0.000,0.000,0.000\n0,0,1,80,0,0.000,0.000,0.000\n0,0,1,81,0,0.000,0.000,0.000\n0,0,2,2,0,0.000,12.000,0.000\n1,0,2,2,0,0.000,1.800,0.000\n5,0,2,2,0,0.000,12.000,0.000\n0,1,2,2,1,-0.403,12.000,0.000\n0,1,2,2,2,0.000,12.000,0.000\n1,1,2,2,2,-0.418,2.089,-0.310\n0,1,2,2,5,0.000,12.000,0.000\n1,1,2,2,5,0.412,2.120,0.269\n1,2,2,2,2,0.094,1.621,0.877\n0,2,2,2,5,0.000,12.000,0.000\n1,2,2,2,5,0.317,1.421,-0.870\n0,3,2,2,5,0.000,12.000,0.000\n0,5,2,2,5,0.000,12.000,0.000\n1,5,2,2,5,-0.406,1.767,0.000\n0,5,2,2,6,0.000,12.000,0.000\n0,5,2,2,37,0.000,12.000,0.000\n0,5,2,2,40,0.000,12.000,0.000\n0,5,2,2,41,0.000,12.000,0.000\n0,5,2,2,45,0.000,12.000,0.000\n0,5,2,2,62,0.000,12.000,0.000\n1,0,2,3,0,0.000,2.500,0.000\n1,1,2,3,1,0.136,1.798,0.630\n1,1,2,3,5,0.497,2.405,0.357\n1,1,2,3,6,-0.211,1.925,-0.131\n1,1,2,3,7,-0.401,2.028,-0.318\n1,1,2,3,10,0.000,2.237,-0.610\n1,2,2,3,1,-0.325,1.553,-0.487\n1,2,2,3,5,-0.295,2.024,-0.590\n1,2,2,3,6,-0.143,1.466,0.000\n1,2,2,3,7,0.362,1.978,0.000\n1,2,2,3,9,0.296,1.514,0.481\n1,2,2,3,10,0.000,1.599,0.380\n1,5,2,3,1,0.213,1.728,-0.042\n1,5,2,3,5,-0.208,1.622,0.223\n1,5,2,3,6,0.359,1.539,0.194\n1,5,2,3,7,0.000,2.046,0.000\n1,5,2,3,9,-0.290,1.519,-0.470\n1,5,2,3,10,0.000,1.409,0.254\n1,0,2,4,0,0.000,0.000,0.000\n0,0,2,6,0,0.000,3.100,0.000\n2,0,2,6,0,0.000,3.600,0.000\n5,0,2,6,0,0.000,3.600,0.000\n0,2,2,6,1,-1.953,3.953,-1.055\n0,2,2,6,3,-1.712,2.596,-0.330\n0,2,2,6,29,-0.215,2.810,-0.456\n0,5,2,6,1,1.951,3.936,1.130\n0,5,2,6,3,1.719,2.628,0.360\n0,5,2,6,29,0.216,2.808,0.456\n1,0,2,9,0,0.000,1.800,0.000\n0,0,2,10,0,0.000,6.000,0.000\n2,0,2,10,0,0.000,6.000,0.000\n5,0,2,10,0,0.000,6.000,0.000\n0,0,2,15,0,0.000,1.423,0.000\n2,0,2,15,0,0.000,1.423,0.000\n5,0,2,15,0,0.000,1.423,0.000\n0,0,2,17,0,0.000,1.423,0.000\n0,0,2,18,0,0.000,0.000,0.000\n2,0,2,18,0,0.000,0.000,0.000\n5,0,2,18,0,0.000,0.000,0.000\n0,0,2,19,0,0.000,0.000,0.000\n0,0,2,20,0,0.000,0.000,0.000\n2,0,2,20,0,0.000,0.000,0.000\n0,0,2,22,0,0.000,0.000,0.000\n2,0,2,22,0,0.000,0.000,0.000\n5,0,2,22,0,0.000,0.000,0.000\n0,0,2,25,0,0.000,0.000,0.000\n0,0,2,30,0,0.000,12.000,0.000\n0,0,2,34,0,0.000,0.000,0.000\n2,0,2,34,0,0.000,0.000,0.000\n1,0,2,37,0,0.000,2.000,0.000\n1,1,2,37,37,0.000,2.952,-0.079\n1,2,2,37,37,0.000,1.542,0.434\n1,5,2,37,37,0.000,1.308,-0.357\n1,0,2,39,0,0.000,6.000,0.000\n0,0,2,40,0,0.000,3.700,0.000\n2,0,2,40,0,0.000,3.600,0.000\n5,0,2,40,0,0.000,3.600,0.000\n0,2,2,40,28,0.000,3.305,-0.530\n0,5,2,40,28,0.139,3.241,0.139\n0,0,2,41,0,0.000,1.200,0.000\n2,0,2,41,0,0.000,1.800,0.000\n0,2,2,41,32,0.000,1.235,0.000\n0,5,2,41,32,0.000,1.231,0.000\n0,0,2,43,0,0.000,3.600,0.000\n2,0,2,43,0,0.000,3.600,0.000\n0,0,2,45,0,0.000,2.200,0.000\n2,0,2,45,0,0.000,1.800,0.000\n0,2,2,45,32,0.000,2.212,0.000\n0,5,2,45,32,0.000,2.225,0.000\n0,0,2,46,0,0.000,1.800,0.000\n2,0,2,46,0,0.000,1.800,0.000\n0,0,2,55,0,0.000,4.800,0.000\n0,0,2,56,0,0.000,4.800,0.000\n0,0,2,62,0,0.000,8.000,0.000\n0,2,2,62,23,1.693,7.903,0.532\n0,5,2,62,23,-1.696,7.897,-0.482\n1,0,2,63,0,0.000,1.800,0.000\n1,0,2,64,0,0.000,1.800,0.000\n1,0,2,67,0,0.000,1.800,0.000\n1,0,2,81,0,0.000,4.800,0.000\n1,0,3,3,0,0.000,0.600,0.000\n4,0,3,3,0,0.000,1.800,0.000\n1,1,3,3,1,-0.486,0.714,0.000\n1,1,3,3,6,-0.081,-0.125,0.132\n1,1,3,3,7,1.053,1.327,0.000\n1,5,3,3,6,0.000,0.188,0.436\n1,5,3,3,7,0.000,0.177,-0.412\n1,6,3,3,6,0.269,0.437,0.000\n1,6,3,3,7,-0.495,0.793,-0.318\n1,7,3,3,7,-0.260,1.084,0.193\n0,0,3,6,0,0.000,5.500,0.000\n2,0,3,6,0,0.000,5.500,0.000\n4,0,3,6,0,0.000,3.600,0.000\n5,0,3,6,0,0.000,3.600,0.000\n0,1,3,6,1,-1.244,5.482,0.365\n0,1,3,6,24,-1.166,5.078,-0.545\n0,1,3,6,37,-0.677,5.854,0.521\n2,2,3,6,24,0.256,4.519,0.258\n2,3,3,6,24,1.663,4.073,0.094\n0,5,3,6,1,0.526,5.631,0.691\n0,5,3,6,2,0.159,6.586,0.216\n0,5,3,6,24,-2.285,4.737,0.468\n0,7,3,6,0,0.700,6.500,-0.400\n0,7,3,6,1,0.682,7.184,-0.935\n0,7,3,6,2,-0.168,6.572,-0.151\n0,7,3,6,24,1.662,6.152,-0.058\n0,7,3,6,37,0.635,5.890,-0.446\n2,37,3,6,24,0.000,3.892,-0.094\n0,0,3,9,0,0.000,16.000,0.000\n1,0,3,9,0,0.000,1.800,0.000\n5,0,3,9,0,0.000,12.000,0.000\n0,2,3,9,27,0.000,16.000,0.000\n0,5,3,9,1,0.687,16.152,0.894\n0,5,3,9,27,0.000,16.000,0.000\n0,40,3,9,1,-0.704,18.216,0.000\n0,40,3,9,27,0.000,16.000,0.178\n0,0,3,10,0,0.000,6.000,0.000\n2,0,3,10,0,0.000,6.000,0.000\n4,0,3,10,0,0.000,6.000,0.000\n5,0,3,10,0,0.000,6.000,0.000\n0,1,3,10,1,0.831,6.061,0.522\n0,1,3,10,6,-1.152,8.588,1.511\n0,1,3,10,28,-0.259,5.934,1.326\n2,2,3,10,28,0.000,6.561,0.294\n0,5,3,10,1,-0.195,6.304,1.722\n0,5,3,10,3,-0.705,5.383,0.234\n0,5,3,10,28,-0.417,5.981,0.511\n0,7,3,10,1,-0.491,6.218,0.000\n0,7,3,10,3,0.733,-0.543,-0.163\n0,7,3,10,6,1.234,8.372,-0.539\n0,7,3,10,28,1.168,4.857,-0.341\n0,10,3,10,28,0.000,3.706,1.254\n0,0,3,15,0,0.000,1.423,0.000\n2,0,3,15,0,0.000,1.423,0.000\n4,0,3,15,0,0.000,1.423,0.000\n5,0,3,15,0,0.000,1.423,0.000\n0,0,3,17,0,0.000,1.423,0.000\n5,0,3,17,0,0.000,1.423,0.000\n0,0,3,18,0,0.000,0.000,0.000\n2,0,3,18,0,0.000,0.000,0.000\n0,0,3,20,0,0.000,0.000,-0.300\n2,0,3,20,0,0.000,0.000,0.000\n4,0,3,20,0,0.000,0.000,-0.300\n5,0,3,20,0,0.000,0.000,0.000\n0,7,3,20,0,0.000,0.400,0.400\n0,7,3,20,5,0.000,0.000,-0.131\n0,7,3,20,20,0.000,0.000,0.000\n0,20,3,20,5,0.000,0.000,0.085\n0,20,3,20,20,0.000,0.000,0.000\n0,0,3,22,0,0.000,0.000,0.000\n2,0,3,22,0,0.000,0.000,0.000\n4,0,3,22,0,0.000,0.000,0.000\n5,0,3,22,0,0.000,0.000,0.000\n0,7,3,22,0,0.000,0.400,0.400\n0,0,3,25,0,0.000,0.000,0.000\n2,0,3,25,0,0.000,0.000,0.000\n1,0,3,30,0,0.000,1.800,0.000\n4,0,3,30,0,0.000,1.800,0.000\n1,0,3,37,0,0.000,2.500,0.000\n4,0,3,37,0,0.000,1.800,0.000\n1,1,3,37,37,0.000,2.428,0.000\n1,6,3,37,37,0.000,1.743,0.000\n1,7,3,37,37,0.000,2.256,0.000\n1,43,3,37,37,-0.241,3.385,-0.838\n1,0,3,39,0,0.000,5.500,0.000\n0,0,3,40,0,0.000,3.900,0.000\n2,0,3,40,0,0.000,3.600,0.000\n5,0,3,40,0,0.000,3.600,0.000\n0,5,3,40,28,-1.355,3.964,0.800\n0,9,3,40,28,1.045,3.785,-0.291\n0,40,3,40,28,0.508,2.985,0.809\n0,0,3,41,0,0.000,1.800,0.000\n2,0,3,41,0,0.000,1.800,0.000\n0,0,3,43,0,0.000,4.500,0.000\n2,0,3,43,0,0.000,3.600,0.000\n4,0,3,43,0,0.000,3.600,0.000\n5,0,3,43,0,0.000,3.600,0.000\n0,1,3,43,18,1.712,3.309,0.233\n0,1,3,43,28,-0.414,4.168,-0.875\n0,7,3,43,18,-0.880,5.091,-0.129\n0,7,3,43,28,0.536,5.276,-0.556\n2,37,3,43,18,-0.701,4.871,1.225\n2,37,3,43,28,-0.086,5.073,0.878\n0,0,3,45,0,0.000,1.800,0.000\n2,0,3,45,0,0.000,1.800,0.000\n0,0,3,48,0,0.000,0.000,0.892\n0,0,3,51,0,0.000,13.500,0.000\n0,1,3,51,52,0.000,13.549,0.000\n0,0,3,54,0,0.000,8.000,0.000\n1,0,3,54,0,0.000,2.500,0.000\n5,0,3,54,0,0.000,12.000,0.000\n0,5,3,54,1,0.000,8.000,0.000\n0,5,3,54,36,0.000,8.000,0.000\n0,0,3,55,0,0.000,4.800,0.000\n2,0,3,55,0,0.000,4.800,0.000\n0,0,3,56,0,0.000,4.800,0.000\n2,0,3,56,0,0.000,4.800,0.000\n1,0,3,57,0,0.000,2.500,0.000\n1,0,3,58,0,0.000,4.800,0.000\n0,0,3,62,0,0.000,3.600,0.000\n2,0,3,62,0,0.000,3.600,0.000\n5,0,3,62,0,0.000,3.600,0.000\n1,0,3,63,0,0.000,2.500,0.000\n1,0,3,64,0,0.000,2.500,0.000\n0,0,3,67,0,0.000,12.000,0.000\n0,0,3,74,0,0.000,19.000,0.000\n0,1,3,74,7,0.000,19.349,0.000\n0,0,3,75,0,0.000,19.000,0.000\n0,1,3,75,71,0.000,18.751,0.000\n1,0,3,78,0,0.000,2.500,0.000\n1,0,3,80,0,0.000,2.500,0.000\n0,0,6,6,0,0.000,-2.000,0.000\n5,0,6,6,0,0.000,-2.000,0.000\n0,0,6,8,0,0.900,-1.100,-0.500\n5,0,6,8,0,0.000,0.000,0.274\n0,21,6,8,1,0.261,-0.330,-0.542\n0,21,6,8,23,1.503,-1.853,-0.476\n0,0,6,9,0,0.000,3.600,0.000\n5,0,6,9,0,0.000,3.600,0.000\n0,0,6,10,0,1.200,0.500,-1.000\n0,21,6,10,1,0.829,0.000,-0.730\n0,21,6,10,3,0.675,-0.185,-1.053\n0,0,6,15,0,0.000,-4.000,0.000\n0,0,6,17,0,0.000,1.423,0.000\n5,0,6,17,0,0.000,1.423,0.000\n0,0,6,18,0,0.000,0.000,0.100\n5,0,6,18,0,0.000,0.000,0.103\n0,33,6,18,1,-0.520,-0.471,-0.267\n0,33,6,18,6,-1.623,0.204,0.438\n0,33,6,18,32,1.616,0.425,0.191\n0,0,6,19,0,0.000,0.000,0.150\n5,0,6,19,0,0.000,0.000,0.165\n0,21,6,19,1,-0.620,-0.329,0.303\n0,21,6,19,5,0.683,0.220,0.000\n0,0,6,20,0,0.000,0.000,0.400\n4,0,6,20,0,0.000,0.000,0.217\n5,0,6,20,0,0.000,0.000,0.217\n0,20,6,20,5,0.000,0.000,-0.079\n4,20,6,20,20,0.000,0.000,0.000\n0,0,6,22,0,0.000,0.000,0.217\n0,0,6,25,0,0.000,0.000,0.650\n5,0,6,25,0,0.000,0.000,0.231\n0,1,6,25,1,-1.704,-0.452,0.556\n0,1,6,25,6,0.000,0.000,0.777\n0,1,6,25,32,1.205,0.914,0.612\n0,24,6,25,6,-3.209,-7.622,1.065\n0,24,6,25,32,-5.891,-3.332,0.290\n0,0,6,26,0,0.000,0.000,0.346\n0,0,6,30,0,0.000,3.600,0.000\n2,0,6,30,0,0.000,3.600,0.000\n0,0,6,37,0,0.000,3.200,0.000\n5,0,6,37,0,0.000,3.600,0.000\n0,1,6,37,37,0.000,4.382,0.000\n0,3,6,37,37,0.000,2.576,0.000\n0,29,6,37,37,0.000,2.801,0.000\n0,0,6,39,0,0.000,0.000,0.000\n0,0,6,40,0,0.000,0.000,0.274\n0,0,6,41,0,0.000,3.600,0.000\n0,0,6,43,0,0.000,0.000,0.274\n0,0,6,45,0,0.000,6.000,0.000\n0,1,6,45,32,0.000,6.208,0.000\n0,0,6,54,0,0.000,3.600,0.000\n0,0,6,55,0,0.000,3.600,0.000\n0,0,6,57,0,0.000,3.600,0.000\n0,0,6,58,0,0.000,3.600,0.000\n0,0,6,63,0,0.000,3.600,0.000\n0,0,6,64,0,0.000,3.600,0.000\n0,0,8,8,0,0.000,0.000,0.375\n5,0,8,8,0,0.000,0.000,0.375\n0,0,8,9,0,0.000,3.600,0.000\n5,0,8,9,0,0.000,3.600,0.000\n0,0,8,10,0,0.000,0.000,0.000\n4,0,8,10,0,0.000,0.000,0.000\n0,0,8,15,0,0.000,0.000,0.424\n0,0,8,17,0,0.000,1.423,0.000\n4,0,8,17,0,0.000,1.423,0.000\n5,0,8,17,0,0.000,1.423,0.000\n0,0,8,19,0,0.000,0.000,0.225\n0,0,8,20,0,0.000,0.000,0.350\n4,0,8,20,0,0.000,0.000,0.300\n5,0,8,20,0,0.000,0.000,0.297\n0,20,8,20,5,0.000,0.120,0.472\n4,20,8,20,20,0.000,-0.097,0.200\n0,23,8,20,5,-0.101,-0.324,0.371\n0,23,8,20,20,0.107,0.253,0.151\n0,0,8,22,0,0.000,0.000,0.297\n0,0,8,25,0,0.000,0.000,0.316\n5,0,8,25,0,0.000,0.000,0.316\n0,0,8,26,0,0.000,0.000,0.474\n5,0,8,26,0,0.000,0.000,0.474\n0,0,8,34,0,0.000,0.000,0.250\n0,0,8,39,0,0.000,0.000,0.000\n0,0,8,40,0,0.000,0.000,0.375\n0,0,8,43,0,0.000,0.000,0.375\n0,0,8,45,0,0.000,3.600,0.000\n0,0,8,46,0,0.000,3.600,0.000\n0,0,8,55,0,0.000,3.600,0.000\n0,0,8,56,0,0.000,3.600,0.000\n0,0,9,9,0,0.000,12.000,0.000\n1,0,9,9,0,0.000,1.800,0.000\n5,0,9,9,0,0.000,12.000,0.000\n0,0,9,10,0,0.000,6.000,0.000\n5,0,9,10,0,0.000,6.000,0.000\n0,0,9,15,0,0.000,1.423,0.000\n0,0,9,18,0,0.000,0.000,0.000\n0,0,9,19,0,0.000,0.000,0.000\n0,0,9,20,0,0.000,0.000,0.000\n0,0,9,25,0,0.000,0.000,0.000\n0,0,9,34,0,0.000,0.000,0.000\n5,0,9,34,0,0.000,0.000,0.000\n1,0,9,37,0,0.000,1.800,0.000\n1,0,9,39,0,0.000,6.000,0.000\n0,0,9,40,0,0.000,3.600,0.000\n0,0,9,41,0,0.000,4.800,0.000\n0,0,9,45,0,0.000,1.800,0.000\n0,0,9,54,0,0.000,12.000,0.000\n0,0,9,55,0,0.000,4.800,0.000\n0,0,9,56,0,0.000,4.800,0.000\n1,0,9,57,0,0.000,1.800,0.000\n0,0,9,62,0,0.000,3.600,0.000\n1,0,9,63,0,0.000,1.800,0.000\n1,0,9,64,0,0.000,1.800,0.000\n0,0,9,67,0,0.000,12.000,0.000\n1,0,9,78,0,0.000,1.800,0.000\n1,0,9,81,0,0.000,4.800,0.000\n0,0,10,10,0,0.000,0.000,0.000\n5,0,10,10,0,0.000,0.000,0.000\n0,0,10,15,0,0.000,0.000,0.000\n0,0,10,17,0,0.000,4.743,0.000\n0,0,10,20,0,0.000,0.000,0.000\n4,0,10,20,0,0.000,0.000,0.000\n5,0,10,20,0,0.000,0.000,0.000\n0,0,10,22,0,0.000,0.000,0.000\n0,0,10,25,0,0.000,0.000,0.000\n0,0,10,26,0,0.000,0.000,0.000\n5,0,10,26,0,0.000,0.000,0.000\n0,0,10,34,0,0.000,0.000,0.000\n0,0,10,37,0,0.000,6.000,0.000\n0,0,10,39,0,0.000,0.000,0.000\n0,0,10,40,0,0.000,0.000,0.000\n5,0,10,40,0,0.000,0.000,0.000\n0,0,10,41,0,0.000,6.000,0.000\n0,0,10,45,0,0.000,6.000,0.000\n0,0,10,63,0,0.000,6.000,0.000\n0,0,10,64,0,0.000,6.000,0.000\n0,0,15,15,0,-1.400,-8.300,1.000\n5,0,15,15,0,0.000,-8.000,0.000\n0,1,15,15,1,-1.663,-8.408,1.433\n0,1,15,15,71,-1.088,-8.245,0.411\n0,0,15,18,0,0.000,0.000,0.160\n0,0,15,19,0,0.000,0.000,0.255\n5,0,15,19,0,0.000,0.000,0.255\n0,0,15,20,0,0.000,0.000,0.336\n4,0,15,20,0,0.000,0.000,0.336\n0,0,15,22,0,0.000,0.000,0.336\n0,0,15,25,0,0.000,0.000,0.358\n4,0,15,25,0,0.000,0.000,0.358\n0,0,15,26,0,0.000,0.000,0.537\n0,0,15,30,0,0.000,1.423,0.000\n4,0,15,30,0,0.000,1.423,0.000\n0,0,15,37,0,0.000,1.300,0.000\n5,0,15,37,0,0.000,1.423,0.000\n0,1,15,37,37,0.000,2.177,0.000\n0,71,15,37,37,0.000,0.505,0.333\n0,0,15,40,0,0.000,0.000,0.424\n0,0,15,43,0,0.000,0.000,0.424\n0,0,15,57,0,0.000,1.423,0.000\n0,0,15,63,0,0.000,1.423,0.000\n0,0,15,64,0,0.000,1.423,0.000\n0,0,17,20,0,0.000,0.000,0.000\n4,0,17,20,0,0.000,0.000,0.000\n5,0,17,20,0,0.000,0.000,0.000\n0,0,17,22,0,0.000,0.000,0.000\n0,0,17,37,0,0.000,1.423,0.000\n0,0,17,43,0,0.000,3.795,0.000\n0,0,18,20,0,0.000,0.000,0.112\n4,0,18,20,0,0.000,0.000,0.112\n5,0,18,20,0,0.000,0.000,0.112\n0,0,18,22,0,0.000,0.000,0.112\n0,0,18,37,0,0.000,-1.200,-0.300\n0,32,18,37,37,-0.173,-0.965,-0.610\n0,39,18,37,37,0.000,-0.760,0.227\n0,43,18,37,37,0.228,-1.741,-0.371\n0,0,18,39,0,0.000,0.000,0.500\n0,32,18,39,63,0.000,0.687,0.680\n0,37,18,39,63,0.000,-0.513,0.357\n0,0,18,43,0,0.000,0.000,0.350\n4,0,18,43,0,0.000,0.000,0.141\n5,0,18,43,0,0.000,0.000,0.141\n0,1,18,43,1,-0.914,-0.482,0.179\n0,1,18,43,3,-0.392,-2.724,0.312\n0,1,18,43,28,-1.508,-1.816,-0.175\n0,1,18,43,37,0.823,-1.220,-0.770\n0,32,18,43,1,1.588,1.499,1.410\n0,32,18,43,3,0.653,0.254,0.000\n0,32,18,43,28,0.528,0.342,0.000\n0,32,18,43,37,0.812,1.513,1.266\n0,37,18,43,1,-1.139,-0.703,1.088\n0,37,18,43,28,-2.014,-1.646,-2.068\n0,37,18,43,37,-1.519,-0.328,1.437\n0,43,18,43,28,3.011,-1.405,2.038\n0,0,18,48,0,0.000,0.000,0.400\n0,1,18,48,28,1.767,1.606,0.408\n0,32,18,48,28,-1.463,-2.548,0.310\n0,0,18,55,0,0.000,0.000,0.000\n0,0,18,58,0,0.000,0.000,0.000\n0,0,18,62,0,0.000,0.000,0.500\n0,1,18,62,1,-0.403,-0.273,0.440\n0,32,18,62,1,0.291,0.385,0.582\n0,0,18,63,0,0.000,0.000,0.000\n0,0,18,64,0,0.000,0.000,0.000\n0,0,18,80,0,0.000,0.000,0.000\n0,0,19,20,0,0.000,0.000,0.179\n4,0,19,20,0,0.000,0.000,0.179\n0,0,19,37,0,0.000,0.000,0.000\n0,0,19,40,0,0.000,0.000,0.225\n0,0,19,63,0,0.000,0.000,0.000\n0,0,19,75,0,0.000,0.000,0.000\n0,0,20,20,0,0.000,0.000,0.200\n4,0,20,20,0,0.000,0.000,0.000\n5,0,20,20,0,0.000,0.000,0.236\n0,1,20,20,5,0.067,0.081,0.347\n0,1,20,20,20,-0.063,-0.064,0.140\n0,3,20,20,5,0.000,0.000,0.083\n0,3,20,20,20,0.000,0.000,0.000\n0,5,20,20,5,0.000,0.000,0.424\n0,5,20,20,6,0.000,0.000,-0.080\n0,5,20,20,8,0.000,0.127,0.450\n0,5,20,20,12,-0.072,-0.269,0.439\n0,5,20,20,20,-0.057,0.000,0.307\n4,6,20,20,20,0.000,0.000,0.000\n4,8,20,20,20,0.000,-0.091,0.192\n0,12,20,20,20,0.077,0.202,0.183\n4,20,20,20,20,0.000,0.000,0.000\n0,0,20,22,0,0.000,0.000,0.236\n4,0,20,22,0,0.000,0.000,0.236\n0,0,20,25,0,0.000,0.000,0.251\n4,0,20,25,0,0.000,0.000,0.251\n0,0,20,26,0,0.000,0.000,0.376\n4,0,20,26,0,0.000,0.000,0.376\n5,0,20,26,0,0.000,0.000,0.376\n0,0,20,30,0,0.000,0.000,0.000\n2,0,20,30,0,0.000,0.000,0.000\n4,0,20,30,0,0.000,0.000,0.000\n0,0,20,30,30,0.000,0.000,-0.500\n0,0,20,34,0,0.000,0.000,0.198\n4,0,20,34,0,0.000,0.000,0.198\n0,0,20,37,0,0.000,0.000,0.000\n4,0,20,37,0,0.000,0.000,0.000\n0,0,20,40,0,0.000,0.000,0.297\n0,0,20,41,0,0.000,0.000,0.000\n0,0,20,43,0,0.000,0.000,0.297\n4,0,20,43,0,0.000,0.000,0.297\n0,0,20,45,0,0.000,0.000,0.000\n0,0,22,22,0,0.000,0.000,0.236\n4,0,22,22,0,0.000,0.000,0.236\n5,0,22,22,0,0.000,0.000,0.236\n0,0,22,30,0,0.000,0.000,0.000\n4,0,22,30,0,0.000,0.000,0.000\n0,0,22,34,0,0.000,0.000,0.198\n0,0,22,37,0,0.000,0.000,0.000\n0,0,22,40,0,0.000,0.000,0.297\n0,0,22,41,0,0.000,0.000,0.000\n0,0,22,43,0,0.000,0.000,0.297\n5,0,22,43,0,0.000,0.000,0.297\n0,0,22,45,0,0.000,0.000,0.000\n0,0,25,25,0,0.000,0.000,0.267\n0,0,25,37,0,0.000,0.000,0.000\n5,0,25,37,0,0.000,0.000,0.000\n0,0,25,39,0,0.000,0.000,0.000\n0,0,25,40,0,0.000,0.000,0.316\n5,0,25,40,0,0.000,0.000,0.316\n0,0,25,43,0,0.000,0.000,0.250\n0,1,25,43,1,-2.686,-1.512,0.591\n0,1,25,43,28,-3.730,-0.531,0.000\n0,32,25,43,1,2.108,1.896,0.965\n0,32,25,43,28,2.977,0.732,-0.502\n0,0,25,57,0,0.000,0.000,0.000\n0,0,25,63,0,0.000,0.000,0.000\n0,0,26,26,0,0.000,0.000,0.600\n5,0,26,26,0,0.000,0.000,0.600\n0,0,26,34,0,0.000,0.000,0.316\n5,0,26,34,0,0.000,0.000,0.316\n0,0,26,37,0,0.000,1.423,0.000\n0,0,26,40,0,0.000,0.000,0.474\n0,0,30,30,0,0.000,12.000,0.000\n1,0,30,30,0,0.000,1.800,0.000\n4,0,30,30,0,0.000,1.800,0.000\n0,0,30,40,0,0.000,3.600,0.000\n1,0,30,67,0,0.000,1.800,0.000\n0,0,34,37,0,0.000,0.000,0.000\n0,0,34,43,0,0.000,0.000,0.250\n0,0,37,37,0,0.000,7.000,0.000\n1,0,37,37,0,0.000,2.000,0.000\n4,0,37,37,0,0.000,6.000,0.000\n5,0,37,37,0,0.000,6.000,0.000\n0,1,37,37,5,0.000,7.000,0.000\n0,1,37,37,37,0.000,7.000,0.000\n0,2,37,37,5,0.000,7.000,0.000\n0,2,37,37,37,0.000,7.000,0.000\n0,3,37,37,5,0.000,7.000,0.000\n0,3,37,37,37,0.000,7.000,0.000\n0,5,37,37,5,0.000,7.000,0.000\n0,5,37,37,6,0.000,7.000,0.000\n0,5,37,37,15,0.000,7.000,0.000\n0,5,37,37,18,0.000,7.000,0.000\n0,5,37,37,37,0.000,7.000,0.000\n0,5,37,37,40,0.000,7.000,0.000\n0,5,37,37,43,0.000,7.000,0.000\n0,6,37,37,37,0.000,7.000,0.000\n0,15,37,37,37,0.000,7.000,0.000\n0,18,37,37,37,0.000,7.000,0.000\n0,37,37,37,37,0.000,7.000,0.000\n0,37,37,37,40,0.000,7.000,0.000\n0,37,37,37,43,0.000,7.000,0.000\n0,0,37,38,0,0.000,7.000,0.000\n0,0,37,39,0,0.000,3.600,0.000\n1,0,37,39,0,0.000,6.000,0.000\n0,0,37,40,0,0.000,4.000,0.000\n5,0,37,40,0,0.000,3.600,0.000\n0,37,37,40,1,0.000,4.095,0.382\n0,37,37,40,28,0.698,2.542,3.072\n0,0,37,41,0,0.000,1.800,0.000\n0,0,37,43,0,0.000,2.000,1.800\n5,0,37,43,0,0.000,3.600,0.000\n0,37,37,43,18,0.372,2.284,2.034\n0,37,37,43,28,0.000,1.694,1.508\n0,0,37,45,0,0.000,1.800,0.000\n0,0,37,46,0,0.000,1.800,0.000\n0,0,37,55,0,0.000,4.800,0.000\n0,0,37,56,0,0.000,4.800,0.000\n1,0,37,57,0,0.000,1.800,0.000\n0,0,37,58,0,0.000,6.000,0.000\n1,0,37,58,0,0.000,4.800,0.000\n0,0,37,62,0,0.000,3.600,0.000\n0,0,37,63,0,0.000,7.000,0.000\n1,0,37,63,0,0.000,1.800,0.000\n0,0,37,64,0,0.000,7.000,0.000\n1,0,37,64,0,0.000,1.800,0.000\n1,0,37,67,0,0.000,1.800,0.000\n0,0,37,69,0,0.000,7.000,0.000\n0,0,37,78,0,0.000,6.000,0.000\n0,0,37,81,0,0.000,6.000,0.000\n1,0,37,81,0,0.000,4.800,0.000\n0,0,38,38,0,0.000,7.000,0.000\n0,0,38,58,0,0.000,7.000,0.000\n0,0,38,63,0,0.000,7.000,0.000\n0,0,38,64,0,0.000,7.000,0.000\n0,0,38,69,0,0.000,6.000,0.000\n0,0,38,78,0,0.000,6.000,0.000\n0,0,39,40,0,0.000,0.000,0.000\n0,0,39,45,0,0.000,6.000,0.000\n0,0,39,63,0,0.000,4.000,0.000\n1,0,39,63,0,0.000,6.000,0.000\n5,0,39,63,0,0.000,3.600,0.000\n0,1,39,63,5,0.000,4.000,0.000\n0,1,39,63,64,0.000,4.000,0.000\n0,18,39,63,5,0.000,4.000,0.000\n0,18,39,63,64,0.000,4.000,0.000\n0,63,39,63,5,0.000,4.000,0.000\n0,63,39,63,64,0.000,4.000,0.000\n0,0,39,64,0,0.000,3.600,0.000\n1,0,39,64,0,0.000,6.000,0.000\n0,0,39,65,0,0.000,4.000,0.000\n0,0,39,78,0,0.000,3.600,0.000\n0,0,40,40,0,0.000,0.000,0.375\n0,0,40,45,0,0.000,3.600,0.000\n0,0,40,46,0,0.000,3.600,0.000\n0,0,40,54,0,0.000,3.600,0.000\n2,0,40,54,0,0.000,3.600,0.000\n0,0,40,63,0,0.000,3.600,0.000\n0,0,40,64,0,0.000,3.600,0.000\n0,0,40,78,0,0.000,3.600,0.000\n0,0,41,41,0,0.000,1.800,0.000\n0,0,41,55,0,0.000,4.800,0.000\n0,0,41,62,0,0.000,3.600,0.000\n0,0,41,80,0,0.000,1.800,0.000\n0,0,43,43,0,0.000,0.000,0.375\n0,0,43,45,0,0.000,3.600,0.000\n0,0,43,64,0,0.000,3.600,0.000\n0,0,44,57,0,0.000,7.000,0.000\n0,0,44,63,0,0.000,7.000,0.000\n0,0,44,65,0,0.000,7.000,0.000\n0,0,44,78,0,0.000,2.846,0.000\n0,0,44,80,0,0.000,2.846,0.000\n0,0,45,63,0,0.000,1.800,0.000\n0,0,45,64,0,0.000,1.800,0.000\n0,0,45,78,0,0.000,1.800,0.000\n0,0,55,57,0,0.000,10.000,0.000\n2,0,55,57,0,0.000,4.800,0.000\n5,0,55,57,0,0.000,4.800,0.000\n0,1,55,57,5,0.423,12.064,0.090\n0,1,55,57,55,-0.428,12.044,0.000\n0,36,55,57,5,-0.268,8.077,-0.806\n0,36,55,57,55,0.273,8.025,0.692\n0,0,55,62,0,0.000,3.600,0.000\n0,0,55,64,0,0.000,4.800,0.000\n0,0,55,80,0,0.000,4.800,0.000\n0,0,56,57,0,0.000,6.000,0.000\n0,1,56,57,56,0.000,6.886,-0.161\n0,36,56,57,56,0.000,4.688,0.107\n0,0,56,63,0,0.000,4.800,0.000\n0,0,56,80,0,0.000,4.800,0.000\n1,0,57,63,0,0.000,1.800,0.000\n1,0,57,64,0,0.000,1.800,0.000\n0,0,58,63,0,0.000,6.000,0.000\n0,0,58,64,0,0.000,6.000,0.000\n0,0,59,63,0,0.000,7.000,0.000\n0,0,59,65,0,0.000,7.000,0.000\n0,0,59,78,0,0.000,3.600,0.000\n0,0,59,80,0,0.000,3.600,0.000\n0,0,59,82,0,0.000,3.600,0.000\n0,0,62,63,0,0.000,3.600,0.000\n0,0,62,64,0,0.000,3.600,0.000\n1,0,63,63,0,0.000,1.800,0.000\n0,0,63,64,0,0.000,7.000,0.000\n0,5,63,64,5,0.000,7.000,0.000\n0,5,63,64,64,0.000,7.000,0.000\n0,39,63,64,5,0.000,7.000,0.000\n0,39,63,64,64,0.000,7.000,0.000\n0,0,63,66,0,0.000,7.000,0.000\n0,0,63,78,0,0.000,6.000,0.000\n0,0,63,81,0,0.000,6.000,0.000\n0,0,64,64,0,0.000,7.000,0.000\n1,0,64,64,0,0.000,1.800,0.000\n0,5,64,64,5,0.000,7.000,0.000\n0,5,64,64,63,0.000,7.000,0.000\n0,63,64,64,63,0.000,7.000,0.000\n0,0,64,65,0,0.000,7.000,0.000\n0,0,64,66,0,0.000,7.000,0.000\n0,0,64,78,0,0.000,6.000,0.000\n0,0,64,81,0,0.000,6.000,0.000\n5,0,64,81,0,0.000,6.000,0.000\n0,0,64,82,0,0.000,6.000,0.000\n0,0,65,66,0,0.000,7.000,0.000\n0,0,65,78,0,0.000,6.000,0.000\n0,0,65,81,0,0.000,6.000,0.000\n0,0,65,82,0,0.000,6.000,0.000\n0,0,66,66,0,0.000,7.000,0.000\n0,0,66,78,0,0.000,6.000,0.000\n0,0,66,81,0,0.000,6.000,0.000\n0,0,67,67,0,0.000,12.000,0.000\n5,0,67,67,0,0.000,12.000,0.000\n0,0,76,76,0,0.000,3.600,0.000\n0,0,76,78,0,0.000,3.600,0.000\n0,0,78,78,0,0.000,7.000,0.000\n0,0,78,79,0,0.000,6.000,0.000\n0,0,78,81,0,0.000,4.000,0.000\n0,0,79,79,0,0.000,6.000,0.000\n0,0,79,81,0,0.000,6.000,0.000\n0,0,80,81,0,0.000,4.000,0.000\n";
+public static final String n94s_torsionData = "\u03be(\u0089 !\u0089 !\u0089 !\u0089 !\u0089 !\u0086#!\u0086#!\u0086#! % %    % %                       %     \"% %          \"\" \"       \"%           \"\"    \"           % %            %   % %       %   %           %        %   %       %    %   % %        %   %    %    %   %       %        \"%   %        %    % % %               !%  ! !! !  !      !!!!!!!!!!!!!!!!!!! \"%      ! \"% \"%  \"%  \" \"%   \"!!!!! \"%   \"   \" \"   \"     !!!!!$!!!!!!!! \"$%   \"\"        \" !%      \"$%   \"         \"$% % \" \"$%      \"$%  \"!$!$!!!!! \"%    \" \"$%    \"\" \"    !%   \" \"!! \"%!!     !! % %   %     % %    %   $% $  %       \" %                % % $  $%  $% $    % %         !% %      %!!      ! !! !! %   $%   %    %     %    % $  $  $ %        $%    $%         $%                        $     $%         $$ $ $ $ $% \"$  $ $   $  $% $     %   %  %        % %   !$ !   !$%                     ! %    %      ! !  ! !!   !         !%       !      \"                   \"%            !!         !         !       %         %          !!!!!!!!!!!!!\"###%%%%%%%%%%%%%%&&(+,/     !!!\"\"###%%%%%%&&&(((      !!!!!\"\"%%%%%%%%%%%%%&&**   !!!!\"#%%%%%%%&&&E  !!!!\"%%%  %%   !!!##%%%%  !!!%%%%  %%  %%%%%%  %%%  %%    !!%%%%%  %%  !%%  !%&  !%  %% !%%  %%% % %   %%  %% !!%%    %       !!!%%% %%       !!!!!\"\"\"#%%%%%%%% !!!!!\"\"\"\"\"\"%%%%%%    \"\"\"%%%                      !\"%    \"%  \"%    \"%     \"%      !!!%%&&'    !!!\"#%%%'''''E   \"%%HH    !!!\"%%%''''*            '''44    '      !&'K    %)H      !!''EE    !   %%             ! !      55   55     AAA  55   44   !!!88     !#=     !                    4477                                                              !!             !g                @GK @E   !!!!@@@@EEEK !@   !@            !!##%%%%%&(,4                                       !!@@                   !!\"\"##%%%%%%%&/2EEE     EE   EE                            !!22__                              !!DD    !D               %%GG     %%_                       !!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"###################################################################################################################################&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&((((((((((((((((((((((((((((((()))))))))))))))))))))))))))********************////////////////////////11111122222222222222222222222222222222222223333334444444444444444444444444444444444446666666666669999999999999::::::>>>>>BBEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEFFFFFFGGGGGGGGGGGGGGGHHHHHHHHIIIIKKKLLLLLMMMWWWWWWWWWWXXXXXYYZZ[[[[[^^_________```````````aaaabbbccllnnnoop!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"##############################$&&&&&&&&&&&&&&&&&&&(((((((((())))************/////////11112222222233333444466999999999::::BBBBBEEEEEGGGGHHHHIIIIKKKKKMMNNVVVVVWWWWXXXXXYYZ^^__``ccdddddddiiiknpq\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"##################$&&&&&&&&&)***///12223446669>BBEEEEGHHHHHIIIIKKMMMMNNWX^^^_`cq##########&&&&&&&&&&&&&&&&&&))))))))****************////11224444444446666699>>EEEEEEGHHHHHHIIKKKKKKKKKKMMPSSVVVVVWWXXYZ^^^_`cjjkknp&&(((())***/112222233334444469999999:>>EEEEEGHIKMMVWYZ_`(())**/11134444444699::BGHKMNWX)))**/2349BBEGHIMVWXY^_`cnq**/144469::BEGHHIM_`////23344699:>>EEEEHKY_`4446EK4446EEEEGGGKKKKKKKKKKKKKKKPPPWZ^^^_`p44EH_k44444444444444446699:::>>>>BBEEHIKKM666>>BEHIKKM9EEGHHKKKKKY_::BBEH>>>HcEKEEEEEEEEEEEEEEEEEEEEEEEFGGHHHHIKKKKMNWXYZZ^__``cenqqFZ_`enHM_________``anHMNVV_`nIW^pKM`Y_anp_`nYYYYYYY^`pYYY_p_`_`_anpr_`_`````bnq`````abnqqrbnqrbnqcclnnoqoqq  !!\"#%&&((+,/B%#%&%&(*+,/9BEGIXd&&(+,/   \"\"!\"%\"%!\"%!\"\"#%E!\"%!\"%   !%'!%&'*%'!\"#%&'*EKSUjk&''*   !!#555!\"#59EM!!55  !!&77!&7  #U  ##&<#<!#&<  !/g!/Eg  !'  !&@KP^  %&,  %4    !@!&@Kh  ,g  D!D  EEE  __  <E @@h  29< @ '   #D  DY DYDY    2       !7@!7@ @h       !\"\"%%\"%%%%%&EHIM^ !%&'*!%&')*!%&')*    !#=!#=                      EEE    <<  @@    @@     77      !&'&'&''    !8E88!\"8 !\"8E8   ;!;!;    !&<<!#<!#&<<             %4%4           EEEE    <<<      2<2<2<    T   !D             ' g      !7   !#     !&@  !%   %4   !&@&@     EEE     @                    %4%4                                                              !g             EE                EEE __   !#<E!#<E!<E< <<   !!            %4%4%&(,44444          >                            !<!<                   %E%E%E%&/2EHKEEEEHK     !<   2<                            %`%`%`                              %W%W    XX               %`%`     %__                        \u00e8\u0087\u00b0\ufef9b\u029f\ufd70 \ufa94 \u0271\ufd7a\ufd56\ufd99\u0161\u01db\uff20\ufd79\u013c\ufd92\ufd38  \u02c6\u0496 \u02d4     \u01b8\u0159\u043f\ufe9d \uff6f     \u01c3\ufe32k\ufefb\u014d\u0255\ufddfr \u0215  \ufe15 \ufe4d\u01c9 \ufe28\u023d       \u0087\uffd8\uffab\u0359\ufd25\u02b7\ufd2a\uffd7  \ufcea \u02b3\ufd71      \u01df\ufe95\u0232\u01f1   \ufd77 \ufdfd \u0086\uf9ac\u025b \u025c\u0274   \u0105 \u05f0\u02e8  \ufe69\u0093\ufdc0\ufe74\u0272\u01a9\u0276\uff88  \u00ec    \ufcac \u030e\u0cb3\u00ef \uf702 \ufc4a  \ufc09\ufa82\ufea8\u0497\u0633 \u0105                                                            \u0185 \uff27              \u038b\ufcba\ufc62\u03d8            \uffab\u0195\uffc6\u00a6\ufeb7h          \ufe8d \ufe7e \u01bc~ \u015d  \ufe8a       \u00a8\u0211\uff4d\ufe8f \ufedb\ufef9\uff91\u018a\u0148 \u00f5\uff50\u0187 \ufefe     \uf87f\uf970\uff49\u07bf\u06d7\u00f8                              \u00ab               \u06bd\uf980      \ufe3a\uffcf\u043d  \u012d\ufe31\uff1c    \ufb44\ufb92\ufd7b\u0120\u069f\u022e\u00bf\uf733\u02dc\u02ca\uff78\u069e\u029b     \u02cf \ufd60     \u035f\ufba0\uff1d \uff5d\ufd5f\ufe7f\ufe35\u02fd\u04f2\u04b0                                \uff2f    \ufad5\u0435\u021c      \u06d0\ufe82\ufcb0\u0238\ufd63\uffca                              \u03a4 \u0125\u05ff  \u04d0\u035d\u02c3     \ufe18\uf9c9\u0670  \ufdb4\u02cb        \uf978 \u04d5\uf397\ue91d                                    \uffbb\u008b                                                            \ufaa8 \uf9a1\ufbe0                               \uff73 \u0104      \ufc8e\ufe98\ufa3c\u0357\u0654\u02ad\u0230\u034c\ufbad\uf842\ufa31\u0be3 \u0707\ufa69   \ufe8d\u0143            c\uffe1     \uffd8\uffe7  m                                        \uf5a2\uf18e\u085c\u0bc1                                            \u02da   \u0194                                                                 \u01c7\ufe74\uff14\u0131                                                         \ufd00\u02c9\ufdfd\u01d6\uff84\ufdaa\u06fd \uffc4\uff82\u02b6\u01c1\u02da\u0246\ufe85 Z\u0003\ufab6\u0450\ufb4d \u0224\ufdc6\ufd9c \ufe0e     \u0595\ufc15\u0362\ufe01       \u0148\u0132 \u0093\u0088\ufdf6\ufe3e \uff68\ufe86  \uff3c  \u00c8\u00a8\u0193\u023b\u00ec\u01b0\u0214  \u00e8\u01b0\u00d1\u015c\ufed3\u00ab\u04fc\uff79\u0090u  \u0215\ufdb0\ufaa1\u04fc \u0423\u0627\u0215\u0221\u021f\u02ac\u02fa\u0b79\uff2f  \uff58\u0313\u0113 \u012e\u01ec\uf9a4\u015f  \uff0c   \ufd5a \uf2d7\u0548\ufef4 \u0332\ufe9a\u0173\u0163\ufe87\ufe9f\uff82\ufe68  \ufed1    \u0262\ufea5\ufe8c\uf595\u01ed \u060d\u02d0\uff51  \u00ca\u0127\uff9b\uff39\ufedd \u00eb        \u0269\ufe84               \uff51\u0140\u00b8 \uff9e             \u01e1\ufe7c   \uffd0   \uffb7 \u0278\u050f \u0298  \ufc8a \u019e           \uffe6\uffe6 \u02bc\u0327\ufdab\ufd55            z\u00b9\uff77\uffb0\uff56\u00fa       \u2f00\u0728\u2f00\u2f00\u2f00\u0849\u2f00\u0868\u0675\u2f00\u05ad\u2f00\u2f00\u0707\u2f00\u2f00\u2f00\u2f00\u2f00\u2f00\u09e4\u0726\u0985\u07a5\u080c\u08dd\u0631\u0808\u05da\u07da\u060a\u065f\u06e0\u0676\u0623\u081e\u060f\u05a1 \u0c3c\u0e30\u0e30\u0f91\u0a44\u0b1a\u0f80\u0a64\u0b18\u0728\u1790\u1790\u1790\u05af\u05af\u05af\u05af          \u2f00  \u07f0\u0ba8\u0626\u053c\u1790\u0e94\u0e30\u0e30\u0d09\u0cc9\u04d0\u0728\u04f3\u04ef\u0e30\u0e30\u08b8\u0728\u08c4\u08d1\u0728\u0728\u12e0\u12e0\u1f60\u1eff\u1ef9\u0728\u0728\u0728\u12e0\u0278\u0728\u02ea\uffa3\u054f\u00dc\u00d1\u01d5\u0339\u045c\u159c\u159c\u0e30\u0e30\u158a\u13f6\u16fe\u11c7\u1009\u161f\u19da\u12a1\u1984\u1c30\u19cc\u1828\u1722\u0f54\u3ea0\u0728\u2f00\u3ea0\u3f38\u3ea0\u4748\u3ea0\u1790\u1790\u1790\u1790\u17cd\u21ac\u174e\u19c1\u18c0\u1527\u177d\u186a\ufe01\u20d4\u1319\u0e9a\u05af\u05af\u05af\u05af\u05af\u05af      \u01b0        \u01b0  \u0728\u0728\u09e4\u0728\u099c\u06ef\u08f0\u0d59\u159c\u0f5c\u0e30\u0e30\u0f9c\u0ee9\u0bc9\u0728\u0728\u11b4\u0e30\u0e30\u0e30\u0d0d\u1068\u1403\u14bc\u1327\u13f1\u0728\u0728 \u34dc\u350d\u1f60\u09e4\u2f00\u1f60\u1f60\u12e0\u12e0\u12e0\u12e0\u09e4\u12e0\u0e30\u0e30\u0e30\u09e4\u09e4\u2f00\u4a58\u4bb5\u4a58\u495f\u09e4\u09e4\uf850\uf850\ufbd4 \ufed6\uf8e3\u0e30\u0e30\u0214 \uff67\uf080\u05af\u05af  \ufe49\u00ec\u01c9  \ufed7\u00fc        \ufe5c \u03b2\ue25a\uf31c \u0e30\u0e30\u0ca0\u0e30\u113e\u0a30\u0b11  \u0e30 \u1790\u1860\u0e30\u0e30\u0e30\u0e30\u0e30\u0e30  \u0e30\u0e30   \u05af\u05af\u05af    \u0098\uffbf\ufedc\u011d         \u0e30\u0e30\u0e30\u0e30\u2f00\u0728\u2f00\u1790\u1790\u05af      \u0728\u1790\u0e30\u12e0\u0728\u2f00\u12e0\u12e0\u0728\u0e30\u0728\u0728\u2f00\u0728\u12e0   \u12a7        \u1790   \u1790\u1790\u1790\u1790\udfb4\ue0e0\udf48\udfeb         \u05af\u05af\u0534\u05af\u08a1\u0219  \u05af\u05af\u05af    \u05af\u0ef3    \ufb70\ufc5b\ufd28\uf953 \u02cf\ufe1f   \ufe3e\uf57c\uf908\ufb5c\u05fb\u011e\u0176\u0609\ufd61\uf9b2\ufed8\ufaa3 \u0666\uf62c   \uff0f\u01a1            q\uffe0    \u009f\uff13  \uffc5\u00ea                                        \ufa38\ufe0d\u0788\u02fc      \u05af \u2f00\u0728\u0728\u0e30\u0728  \u1b78\u07f0\u1790\u1790\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u0e30\u1790\u0fc0\u0e30\u101f\u0a0e\u0728\u07f0\u0e30\u090c\u06be\u0728\u0728\u12e0\u12e0\u0728\u1790\u12e0\u0e30\u1b78\u0728\u1b78\u0728\u0728\u1b78\u1790\u1790\u12e0\u1b78\u1b78\u1b78\u1b78\u1790\u1790 \u1790\u0fc0\u1790\u0e30\u0fc0\u0fc0\u0fc0\u0fc0\u0fc0\u0fc0\u0e30\u1790\u0fc0\u0e30 \u0e30\u0e30\u0e30\u0e30\u0e30\u0e30\u0e30\u0728\u12e0\u0e30\u0728 \u0e30\u0e30\u1b78\u1b78\u1b78\u0b3e\u0b3e\u0728\u0728\u0728\u2730\u12e0\u12e0\u2f40\u2f2c\u1fad\u1f79\u0e30\u12e0\u12e0\u1790\u1b06\u1270\u12e0\u12e0\u0728\u0728\u1790\u1790\u1b78\u1b78\u0e30\u0e30\u0e30\u0e30\u0e30\u0728\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1790\u1790\u1b78\u0728\u1b78\u1b78\u1b78\u1b78\u1b78\u1790\u1790\u1790\u1790\u1b78\u1790\u1790\u1790\u1b78\u1790\u1790\u2f00\u2f00\u0e30\u0e30\u1b78\u1790\u0fc0\u1790\u1790\u0fc0\u014c\u05fc\u016c\u0486\u0268\u00af\u0128\u01fdV\u046d\u0163\u0480\u0290 \u026e\u00b0\ufbac  \u015a\u0137\u0171\u01c2\u0143\u01ae\u018f\u0147\u0136\u01a5\u0136\uff93\u0164\u00a8\u03e1\u067f \u059d\u039dQ   \ufd96\ufd96\u013a\ufdaa\u0186\ufe24\u021b\u010a\ufe75\u009b\u00fc\ufe09W\uffb4\u00f0 \u020a\ufcb5\u01ac\u024d\ufc2f\u01f0\u014c\u017e \u0246\u02dc\u01b0\u0241\u02c2\u00ea\u0165\u03fa\u01ca\u0253\u0233\u0093\u01de\u0410\u016a\u0154\u00a8X\u0188\u017e \ufec8\uff66\u015e\uff95\u0ae4\u075a \u00e8\u01b0\u0313\ufdcc\u0160\u010d\uffa0\u013b\u025a\u0152\ufef0\u017a]\u008a\uff72\u02f2H\ufee0\ufe25\u0214\u0149\u0130\u02b2\u05f8\u0138\u00bb\u0252\u01af\u0185  \ufec0\u0081\u014c \u0408\u0352\u0255\u0191\u0773\u0164\u02e2\uffdf\u02b9\u00c6\u01b0\u0170\u01ae\u0215\u0140\u01df\u01e8\u01eb\u01d8\u017e \u0238\u00f4\u0084\u0090 \u0083\u01a4\u0099\u00e3\uffc8\u00b6\u00d3\u00e4\u00d0\u00b8\u017e\u017e\u0178\u0189\u010c\u010c\u014c\u011b\u0108\u00fa\u010b\u020f\u00f6\u01f2\u0113\u01e2\u0198\u01d7\u01f8\u011a\u00e6\u00db\u0117\u0123\u00e8  \u01a7\u00b6  \uffe8\uffaf\u011a\u0149 \u01f4  \uffb6 \u00b6\u0149 ]\u0177\u0084\u009d\ufe2c\ufe04   \ufee5\u015b  t\uffc4\ufef4\u0011\ufe8a\ufeac\ufe3d   \u011a\u012e      \u01b0\u030f\u029bk\u0169\u0250}\u0214\u021d\u01db         \ufeea \u012d\u038d \ufcba          \u0296\u0185\uff9d\ufee2\ufdbe\ufe39\ufdd2  \u0201\u019c\ufff6\u00ff\u00e2 \ufe4a\u011e    \ufc01\ufed6\ufe58\u048a\u0188\u01e8                      \uffd1\u01d2\ufebb    \ufe0e\u00ab               \u0234\ufe3e       \u00a4 \u01d4\ufe84 \ufee2\u00e1    \u018d\ufdff\u0229\u0122~\u02d3\u00f8\u01f4\ufe90\ufc79\uff89\uffe6\ufe62\uffc2    \u039e  \u00d2    \u022a\u0607\u054e\u0146\u06da\u010a\u021f \uff7d\ufe05\ufecb\u0506        \ufef4 \ufef4 \u01b0\uff9d u     \u01b0         \ufcda    \u0340\ufefd\u0349      \u0109\ufcb5\uff9f\ufdf4\u04e9\u038e  \u039c                           \ufe2c\u0132\ufe02\ufe44  \ufc38\ufd46\ufc03   \u0084\u0087\uff15\u01d6\u00df\u00b6\u00c5\u014f \u01b0\u00f9\u00f9\uffd1 \u00f9\u02aa\u0107\u024c\u0329\u0284\u0449\u0142\u017a        \u0132 \u0132        \u0197\u0197    \u01c8   \u0101\u017e\u014c\u0149\u01f8\u00e8\u0193\u00b7\u0149\u015c\u015c\u01fa\u01fa\u011a \u0197\u0197                                                   \u0408 \u05b9\u01bb\u00c0\u011f\u011f\u0170\u0170\u0170\u0186\u0186\u0239     \u016d\u01c8\u01c8         \u0090\u0090\u0090\u0090\ufef4\ufdbe\u0103\ufead\u0214\u02c8\u0185\u017e\u00ad\u00ad\u00d3\u0158\uff71\ufd1e\u05a2  \u0512\u0460\uf80c\u05bd\u0816\u01b0\u01b8\u0156  \u0214\u01d8\u0266   \u00d3\u00d3 \u0101  \u00e8 \u010c\u017b\u00acs \u01c8\uffd0\u01e2\u01d7\u0153 \u00e0\u00d7 \u010c\u010c\u011b\u011b\u0198\u0198\u0198   \ufe2c\u00e6\u00e6  \u0149 \u0149\u0149 \u010c\u010c\u010c  \u00e6 \u0149 \u0149\u0149 \u012b   \u015c\u015c\u011a\u026f \u03e5\ufe2a  \u0278\u0278\u015c\u015c \u01fa      \u011a                            \u019e\u0c20 \u0728 \u0812\u0604                                      \u0197           \u0197             z \ufcfa\u02d4    \uff7f\u008b                                                  ";
 
-public static final String n94s_torsionPlusData = "930\nint,int,int,int,int,float,float,float\n0,0,1,1,0,0.000,0.000,0.300\n5,0,1,1,0,0.200,-0.800,1.500\n0,1,1,1,1,0.103,0.681,0.332\n5,1,1,1,1,0.144,-0.547,1.126\n0,1,1,1,2,-0.295,0.438,0.584\n0,1,1,1,3,0.066,-0.156,0.143\n0,1,1,1,5,0.639,-0.630,0.264\n0,1,1,1,6,-0.688,1.757,0.477\n5,1,1,1,6,0.000,0.000,0.054\n0,1,1,1,8,-1.420,-0.092,1.101\n5,1,1,1,8,0.000,-0.158,0.323\n0,1,1,1,11,0.593,0.662,1.120\n0,1,1,1,12,-0.678,0.417,0.624\n0,1,1,1,15,-0.714,0.698,0.000\n0,1,1,1,34,-0.647,0.550,0.590\n0,2,1,1,5,0.321,-0.411,0.144\n0,3,1,1,3,0.443,0.000,-1.140\n0,3,1,1,5,-0.256,0.058,0.000\n0,3,1,1,6,-0.679,-0.029,0.000\n0,5,1,1,5,0.284,-1.386,0.314\n0,5,1,1,6,-0.654,1.072,0.279\n0,5,1,1,8,-0.744,-1.235,0.337\n0,5,1,1,10,0.000,0.000,0.418\n0,5,1,1,11,0.000,0.516,0.291\n0,5,1,1,12,0.678,-0.602,0.398\n0,5,1,1,15,1.142,-0.644,0.367\n0,5,1,1,25,0.000,0.000,0.295\n0,5,1,1,34,0.692,-0.530,0.278\n0,5,1,1,37,0.000,0.000,0.389\n0,5,1,1,39,0.000,0.000,0.278\n0,5,1,1,41,0.000,0.000,-0.141\n0,5,1,1,56,0.000,0.000,0.324\n0,5,1,1,68,0.000,0.000,0.136\n0,6,1,1,6,0.408,1.397,0.961\n5,6,1,1,6,0.313,-1.035,1.631\n0,8,1,1,8,1.055,0.834,0.000\n0,11,1,1,11,-0.387,-0.543,1.405\n0,12,1,1,12,0.000,0.000,0.893\n0,15,1,1,15,-0.177,0.000,0.049\n0,0,1,2,0,0.000,0.000,0.000\n2,0,1,2,0,0.000,0.000,0.000\n5,0,1,2,0,0.000,0.000,0.000\n0,0,1,2,2,0.000,0.000,-0.650\n5,0,1,2,2,0.000,0.000,-0.650\n0,1,1,2,1,0.419,0.296,0.282\n0,1,1,2,2,-0.494,0.274,-0.630\n0,1,1,2,5,0.075,0.000,0.358\n0,2,1,2,2,-0.293,0.115,-0.508\n0,2,1,2,5,0.301,0.104,0.507\n0,3,1,2,1,0.565,-0.554,0.234\n0,3,1,2,2,-0.577,-0.482,-0.427\n0,3,1,2,5,0.082,0.000,0.123\n0,5,1,2,1,0.000,-0.184,0.220\n0,5,1,2,2,0.501,-0.410,-0.535\n2,5,1,2,2,0.000,0.000,0.055\n2,5,1,2,3,0.000,0.000,-0.108\n0,5,1,2,5,-0.523,-0.228,0.208\n2,5,1,2,37,0.000,0.000,0.000\n0,6,1,2,1,-0.467,0.000,0.490\n0,6,1,2,2,0.425,0.168,-0.875\n0,6,1,2,5,0.000,0.136,0.396\n0,8,1,2,1,-0.504,0.371,0.557\n0,8,1,2,2,0.541,0.539,-1.009\n0,8,1,2,5,0.000,0.204,0.464\n0,0,1,3,0,0.000,0.400,0.300\n2,0,1,3,0,0.000,0.500,0.350\n5,0,1,3,0,0.000,0.000,0.000\n0,0,1,3,1,0.000,0.000,0.550\n0,0,1,3,5,0.000,0.200,0.700\n0,0,1,3,7,0.000,0.400,0.400\n0,1,1,3,1,0.103,0.177,0.545\n0,1,1,3,5,-0.072,0.316,0.674\n0,1,1,3,6,-0.117,-0.333,0.202\n0,1,1,3,7,0.825,0.139,0.325\n0,1,1,3,10,-0.763,1.244,0.986\n0,2,1,3,5,0.663,-0.167,0.426\n0,2,1,3,7,-0.758,0.112,0.563\n0,5,1,3,1,-0.073,0.085,0.531\n2,5,1,3,2,0.000,0.000,0.115\n2,5,1,3,3,0.000,0.000,0.446\n0,5,1,3,5,-0.822,0.501,1.008\n0,5,1,3,6,0.000,-0.624,0.330\n0,5,1,3,7,0.659,-1.407,0.308\n0,5,1,3,10,-0.687,1.244,0.136\n2,5,1,3,37,0.000,0.000,0.056\n0,5,1,3,43,0.000,1.027,0.360\n0,5,1,3,51,0.000,1.543,0.350\n0,5,1,3,53,0.000,0.501,0.000\n0,5,1,3,74,0.000,0.513,-0.344\n0,5,1,3,75,0.000,0.511,-0.186\n0,6,1,3,6,0.447,0.652,0.318\n0,6,1,3,7,-0.395,0.730,-0.139\n0,10,1,3,7,0.530,2.905,2.756\n0,10,1,3,10,0.465,-0.241,1.850\n0,0,1,4,0,0.000,0.000,0.000\n0,0,1,6,0,0.000,0.000,0.200\n5,0,1,6,0,0.000,-0.200,0.400\n0,1,1,6,1,-0.681,0.755,0.755\n5,1,1,6,1,0.000,0.243,-0.596\n0,1,1,6,3,-0.547,0.000,0.320\n0,1,1,6,21,0.000,0.270,0.237\n0,2,1,6,21,0.102,0.460,-0.128\n0,3,1,6,21,-1.652,-1.660,0.283\n0,5,1,6,1,0.571,0.319,0.570\n0,5,1,6,2,0.000,0.000,0.306\n0,5,1,6,3,0.572,0.000,-0.304\n0,5,1,6,21,0.596,-0.276,0.346\n0,5,1,6,25,0.000,0.000,0.061\n0,5,1,6,37,0.000,0.000,0.106\n0,5,1,6,45,0.000,0.000,-0.174\n0,6,1,6,1,0.229,-0.710,0.722\n5,6,1,6,1,0.000,0.000,0.040\n0,6,1,6,21,1.488,-3.401,-0.320\n0,37,1,6,21,0.712,1.320,-0.507\n0,0,1,8,0,0.000,-0.300,0.500\n5,0,1,8,0,0.000,0.000,0.297\n0,1,1,8,1,-0.439,0.786,0.272\n5,1,1,8,1,0.115,-0.390,0.658\n0,1,1,8,6,-0.608,0.339,1.496\n0,1,1,8,23,-0.428,0.323,0.280\n0,2,1,8,23,0.594,-0.409,0.155\n0,5,1,8,1,0.393,-0.385,0.562\n0,5,1,8,6,0.598,-0.158,0.399\n0,5,1,8,23,-0.152,-0.440,0.357\n0,0,1,9,0,0.000,0.000,0.000\n5,0,1,9,0,0.000,0.000,0.000\n0,5,1,9,3,0.204,-0.335,-0.352\n0,5,1,9,53,0.000,0.000,0.097\n0,0,1,10,0,0.000,0.000,0.300\n5,0,1,10,0,0.000,0.000,0.000\n0,0,1,10,3,0.000,0.000,1.000\n0,1,1,10,3,-0.884,0.578,0.818\n0,1,1,10,6,0.000,-0.379,0.565\n0,1,1,10,28,0.750,-0.404,0.369\n0,3,1,10,3,3.219,-2.699,1.875\n0,3,1,10,28,0.207,0.461,0.324\n0,5,1,10,1,0.000,0.000,0.706\n0,5,1,10,3,-2.334,1.517,-0.065\n0,5,1,10,6,0.000,0.688,0.665\n0,5,1,10,28,-0.982,-0.207,0.166\n0,0,1,15,0,0.000,0.000,0.400\n5,0,1,15,0,0.000,0.000,0.336\n0,1,1,15,1,-1.047,0.170,0.398\n0,1,1,15,15,-1.438,0.263,0.501\n0,1,1,15,71,-0.376,-0.133,0.288\n0,5,1,15,1,1.143,-0.231,0.447\n0,5,1,15,15,1.555,-0.323,0.456\n0,5,1,15,37,0.000,0.000,0.459\n0,5,1,15,71,0.229,0.203,0.440\n0,0,1,17,0,0.000,0.000,0.350\n5,0,1,17,0,0.000,0.000,0.000\n0,5,1,17,1,0.000,0.000,0.536\n0,5,1,17,7,0.000,0.000,0.212\n0,0,1,18,0,0.000,0.000,0.100\n5,0,1,18,0,0.000,0.000,0.112\n0,5,1,18,1,0.000,0.000,0.000\n0,5,1,18,6,0.000,0.000,0.099\n0,5,1,18,32,0.000,0.585,0.388\n0,5,1,18,43,0.000,-0.412,0.121\n0,5,1,18,48,0.000,0.000,0.195\n0,5,1,18,62,0.000,0.000,-0.088\n0,0,1,19,0,0.000,0.000,0.150\n5,0,1,19,0,0.000,0.000,0.179\n0,5,1,19,5,0.000,0.000,0.196\n0,5,1,19,6,0.000,0.000,0.176\n0,5,1,19,12,0.000,0.000,0.152\n0,0,1,20,0,0.000,0.000,0.350\n5,0,1,20,0,0.000,0.000,0.350\n0,5,1,20,5,0.000,0.000,0.344\n0,5,1,20,20,0.000,0.000,0.361\n0,0,1,22,0,0.000,0.000,0.236\n5,0,1,22,0,0.000,0.000,0.236\n0,0,1,25,0,0.000,0.000,0.300\n5,0,1,25,0,0.000,0.000,0.251\n0,1,1,25,1,0.000,-0.207,0.232\n0,1,1,25,32,0.000,0.288,0.218\n0,5,1,25,1,0.000,0.152,0.235\n0,5,1,25,6,0.000,0.000,0.495\n0,5,1,25,32,0.000,-0.130,0.214\n0,5,1,25,43,0.000,0.000,0.466\n0,5,1,25,72,0.000,0.000,0.243\n0,0,1,26,0,0.000,0.000,0.450\n5,0,1,26,0,0.000,0.000,0.376\n0,5,1,26,12,0.000,0.000,0.439\n0,5,1,26,71,0.000,0.000,0.472\n0,0,1,34,0,0.000,0.000,0.250\n5,0,1,34,0,0.000,0.000,0.198\n0,1,1,34,36,0.000,0.000,0.187\n0,5,1,34,1,0.000,0.000,0.247\n0,5,1,34,36,0.000,0.000,0.259\n0,0,1,37,0,0.000,0.000,0.200\n5,0,1,37,0,0.000,0.000,0.000\n0,1,1,37,37,0.000,0.449,0.000\n0,5,1,37,37,0.000,-0.420,0.391\n0,6,1,37,37,0.000,0.000,0.150\n0,0,1,39,0,0.000,0.000,0.000\n5,0,1,39,0,0.000,0.000,0.000\n0,1,1,39,63,0.000,-0.080,-0.056\n0,5,1,39,63,0.000,0.000,-0.113\n0,0,1,40,0,0.000,0.000,0.250\n5,0,1,40,0,0.000,0.000,0.297\n0,5,1,40,28,0.000,-0.105,0.000\n0,5,1,40,37,0.000,0.000,0.468\n0,0,1,41,0,0.000,0.600,0.000\n0,1,1,41,32,0.000,1.263,0.000\n0,5,1,41,32,0.000,0.000,-0.106\n0,5,1,41,72,0.000,0.632,0.000\n0,0,1,43,0,0.000,0.000,0.150\n5,0,1,43,0,0.000,0.000,0.297\n0,5,1,43,18,0.357,-0.918,0.000\n0,5,1,43,25,0.000,0.000,0.061\n0,5,1,43,28,-0.249,0.382,0.343\n0,0,1,45,0,0.000,0.000,0.100\n0,5,1,45,32,0.000,0.000,0.125\n0,0,1,46,0,0.000,0.000,-0.500\n0,5,1,46,7,0.000,0.000,-0.540\n0,0,1,54,0,0.000,0.000,0.000\n2,0,1,54,0,0.000,0.000,0.000\n5,0,1,54,0,0.000,0.000,0.000\n0,5,1,54,3,0.000,0.000,-0.315\n0,5,1,54,36,0.000,0.000,0.315\n0,0,1,55,0,0.000,0.000,0.000\n5,0,1,55,0,0.000,0.000,0.000\n0,5,1,55,36,0.000,-0.058,0.084\n0,5,1,55,57,0.000,-0.058,-0.092\n0,0,1,56,0,0.000,0.000,-0.300\n0,1,1,56,36,0.875,0.668,-0.015\n0,1,1,56,57,-0.870,0.775,-0.406\n0,5,1,56,36,-0.958,-0.629,-0.372\n0,5,1,56,57,0.952,-0.715,-0.483\n0,0,1,57,0,0.000,0.000,0.000\n5,0,1,57,0,0.000,0.000,0.000\n0,0,1,58,0,0.000,0.000,0.000\n0,0,1,62,0,0.000,0.000,0.250\n0,5,1,62,18,0.000,0.000,0.270\n0,0,1,63,0,0.000,0.000,0.000\n5,0,1,63,0,0.000,0.000,0.000\n0,0,1,64,0,0.000,0.000,0.000\n5,0,1,64,0,0.000,0.000,0.000\n0,0,1,67,0,0.000,0.000,0.000\n5,0,1,67,0,0.000,0.000,0.000\n0,0,1,68,0,0.000,0.000,0.400\n0,1,1,68,1,-0.117,0.090,0.751\n0,1,1,68,23,0.373,0.153,0.635\n0,1,1,68,32,-0.090,-0.169,0.075\n0,5,1,68,1,0.134,-0.112,0.329\n0,5,1,68,23,-0.361,-0.202,0.560\n0,5,1,68,32,0.072,0.218,0.093\n0,0,1,73,0,0.000,0.000,0.500\n0,5,1,73,32,0.000,0.000,0.509\n0,5,1,73,72,0.000,0.000,0.443\n0,0,1,75,0,0.000,0.000,0.000\n0,0,1,78,0,0.000,0.000,0.000\n0,0,1,80,0,0.000,0.000,0.000\n0,0,1,81,0,0.000,0.000,0.000\n0,0,2,2,0,0.000,12.000,0.000\n1,0,2,2,0,0.000,1.800,0.000\n5,0,2,2,0,0.000,12.000,0.000\n0,1,2,2,1,-0.403,12.000,0.000\n0,1,2,2,2,0.000,12.000,0.000\n1,1,2,2,2,-0.418,2.089,-0.310\n0,1,2,2,5,0.000,12.000,0.000\n1,1,2,2,5,0.412,2.120,0.269\n1,2,2,2,2,0.094,1.621,0.877\n0,2,2,2,5,0.000,12.000,0.000\n1,2,2,2,5,0.317,1.421,-0.870\n0,3,2,2,5,0.000,12.000,0.000\n0,5,2,2,5,0.000,12.000,0.000\n1,5,2,2,5,-0.406,1.767,0.000\n0,5,2,2,6,0.000,12.000,0.000\n0,5,2,2,37,0.000,12.000,0.000\n0,5,2,2,40,0.000,12.000,0.000\n0,5,2,2,41,0.000,12.000,0.000\n0,5,2,2,45,0.000,12.000,0.000\n0,5,2,2,62,0.000,12.000,0.000\n1,0,2,3,0,0.000,2.500,0.000\n1,1,2,3,1,0.136,1.798,0.630\n1,1,2,3,5,0.497,2.405,0.357\n1,1,2,3,6,-0.211,1.925,-0.131\n1,1,2,3,7,-0.401,2.028,-0.318\n1,1,2,3,10,0.000,2.237,-0.610\n1,2,2,3,1,-0.325,1.553,-0.487\n1,2,2,3,5,-0.295,2.024,-0.590\n1,2,2,3,6,-0.143,1.466,0.000\n1,2,2,3,7,0.362,1.978,0.000\n1,2,2,3,9,0.296,1.514,0.481\n1,2,2,3,10,0.000,1.599,0.380\n1,5,2,3,1,0.213,1.728,-0.042\n1,5,2,3,5,-0.208,1.622,0.223\n1,5,2,3,6,0.359,1.539,0.194\n1,5,2,3,7,0.000,2.046,0.000\n1,5,2,3,9,-0.290,1.519,-0.470\n1,5,2,3,10,0.000,1.409,0.254\n1,0,2,4,0,0.000,0.000,0.000\n0,0,2,6,0,0.000,3.100,0.000\n2,0,2,6,0,0.000,3.600,0.000\n5,0,2,6,0,0.000,3.600,0.000\n0,2,2,6,1,-1.953,3.953,-1.055\n0,2,2,6,3,-1.712,2.596,-0.330\n0,2,2,6,29,-0.215,2.810,-0.456\n0,5,2,6,1,1.951,3.936,1.130\n0,5,2,6,3,1.719,2.628,0.360\n0,5,2,6,29,0.216,2.808,0.456\n1,0,2,9,0,0.000,1.800,0.000\n0,0,2,10,0,0.000,6.000,0.000\n2,0,2,10,0,0.000,6.000,0.000\n5,0,2,10,0,0.000,6.000,0.000\n0,0,2,15,0,0.000,1.423,0.000\n2,0,2,15,0,0.000,1.423,0.000\n5,0,2,15,0,0.000,1.423,0.000\n0,0,2,17,0,0.000,1.423,0.000\n0,0,2,18,0,0.000,0.000,0.000\n2,0,2,18,0,0.000,0.000,0.000\n5,0,2,18,0,0.000,0.000,0.000\n0,0,2,19,0,0.000,0.000,0.000\n0,0,2,20,0,0.000,0.000,0.000\n2,0,2,20,0,0.000,0.000,0.000\n0,0,2,22,0,0.000,0.000,0.000\n2,0,2,22,0,0.000,0.000,0.000\n5,0,2,22,0,0.000,0.000,0.000\n0,0,2,25,0,0.000,0.000,0.000\n0,0,2,30,0,0.000,12.000,0.000\n0,0,2,34,0,0.000,0.000,0.000\n2,0,2,34,0,0.000,0.000,0.000\n1,0,2,37,0,0.000,2.000,0.000\n1,1,2,37,37,0.000,2.952,-0.079\n1,2,2,37,37,0.000,1.542,0.434\n1,5,2,37,37,0.000,1.308,-0.357\n1,0,2,39,0,0.000,6.000,0.000\n0,0,2,40,0,0.000,3.700,0.000\n2,0,2,40,0,0.000,3.600,0.000\n5,0,2,40,0,0.000,3.600,0.000\n0,2,2,40,28,0.000,3.305,-0.530\n0,5,2,40,28,0.139,3.241,0.139\n0,0,2,41,0,0.000,1.200,0.000\n2,0,2,41,0,0.000,1.800,0.000\n0,2,2,41,32,0.000,1.235,0.000\n0,5,2,41,32,0.000,1.231,0.000\n0,0,2,43,0,0.000,3.600,0.000\n2,0,2,43,0,0.000,3.600,0.000\n0,0,2,45,0,0.000,2.200,0.000\n2,0,2,45,0,0.000,1.800,0.000\n0,2,2,45,32,0.000,2.212,0.000\n0,5,2,45,32,0.000,2.225,0.000\n0,0,2,46,0,0.000,1.800,0.000\n2,0,2,46,0,0.000,1.800,0.000\n0,0,2,55,0,0.000,4.800,0.000\n0,0,2,56,0,0.000,4.800,0.000\n0,0,2,62,0,0.000,8.000,0.000\n0,2,2,62,23,1.693,7.903,0.532\n0,5,2,62,23,-1.696,7.897,-0.482\n1,0,2,63,0,0.000,1.800,0.000\n1,0,2,64,0,0.000,1.800,0.000\n1,0,2,67,0,0.000,1.800,0.000\n1,0,2,81,0,0.000,4.800,0.000\n1,0,3,3,0,0.000,0.600,0.000\n4,0,3,3,0,0.000,1.800,0.000\n1,1,3,3,1,-0.486,0.714,0.000\n1,1,3,3,6,-0.081,-0.125,0.132\n1,1,3,3,7,1.053,1.327,0.000\n1,5,3,3,6,0.000,0.188,0.436\n1,5,3,3,7,0.000,0.177,-0.412\n1,6,3,3,6,0.269,0.437,0.000\n1,6,3,3,7,-0.495,0.793,-0.318\n1,7,3,3,7,-0.260,1.084,0.193\n0,0,3,6,0,0.000,5.500,0.000\n2,0,3,6,0,0.000,5.500,0.000\n4,0,3,6,0,0.000,3.600,0.000\n5,0,3,6,0,0.000,3.600,0.000\n0,1,3,6,1,-1.244,5.482,0.365\n0,1,3,6,24,-1.166,5.078,-0.545\n0,1,3,6,37,-0.677,5.854,0.521\n2,2,3,6,24,0.256,4.519,0.258\n2,3,3,6,24,1.663,4.073,0.094\n0,5,3,6,1,0.526,5.631,0.691\n0,5,3,6,2,0.159,6.586,0.216\n0,5,3,6,24,-2.285,4.737,0.468\n0,7,3,6,0,0.700,6.500,-0.400\n0,7,3,6,1,0.682,7.184,-0.935\n0,7,3,6,2,-0.168,6.572,-0.151\n0,7,3,6,24,1.662,6.152,-0.058\n0,7,3,6,37,0.635,5.890,-0.446\n2,37,3,6,24,0.000,3.892,-0.094\n0,0,3,9,0,0.000,16.000,0.000\n1,0,3,9,0,0.000,1.800,0.000\n5,0,3,9,0,0.000,12.000,0.000\n0,2,3,9,27,0.000,16.000,0.000\n0,5,3,9,1,0.687,16.152,0.894\n0,5,3,9,27,0.000,16.000,0.000\n0,40,3,9,1,-0.704,18.216,0.000\n0,40,3,9,27,0.000,16.000,0.178\n0,0,3,10,0,0.000,6.000,0.000\n2,0,3,10,0,0.000,6.000,0.000\n4,0,3,10,0,0.000,6.000,0.000\n5,0,3,10,0,0.000,6.000,0.000\n0,1,3,10,1,0.831,6.061,0.522\n0,1,3,10,6,-1.152,8.588,1.511\n0,1,3,10,28,-0.259,5.934,1.326\n2,2,3,10,28,0.000,6.561,0.294\n0,5,3,10,1,-0.195,6.304,1.722\n0,5,3,10,3,-0.705,5.383,0.234\n0,5,3,10,28,-0.417,5.981,0.511\n0,7,3,10,1,-0.491,6.218,0.000\n0,7,3,10,3,0.733,-0.543,-0.163\n0,7,3,10,6,1.234,8.372,-0.539\n0,7,3,10,28,1.168,4.857,-0.341\n0,10,3,10,28,0.000,3.706,1.254\n0,0,3,15,0,0.000,1.423,0.000\n2,0,3,15,0,0.000,1.423,0.000\n4,0,3,15,0,0.000,1.423,0.000\n5,0,3,15,0,0.000,1.423,0.000\n0,0,3,17,0,0.000,1.423,0.000\n5,0,3,17,0,0.000,1.423,0.000\n0,0,3,18,0,0.000,0.000,0.000\n2,0,3,18,0,0.000,0.000,0.000\n0,0,3,20,0,0.000,0.000,-0.300\n2,0,3,20,0,0.000,0.000,0.000\n4,0,3,20,0,0.000,0.000,-0.300\n5,0,3,20,0,0.000,0.000,0.000\n0,7,3,20,0,0.000,0.400,0.400\n0,7,3,20,5,0.000,0.000,-0.131\n0,7,3,20,20,0.000,0.000,0.000\n0,20,3,20,5,0.000,0.000,0.085\n0,20,3,20,20,0.000,0.000,0.000\n0,0,3,22,0,0.000,0.000,0.000\n2,0,3,22,0,0.000,0.000,0.000\n4,0,3,22,0,0.000,0.000,0.000\n5,0,3,22,0,0.000,0.000,0.000\n0,7,3,22,0,0.000,4.200,1.900\n0,0,3,25,0,0.000,0.000,0.000\n2,0,3,25,0,0.000,0.000,0.000\n1,0,3,30,0,0.000,1.800,0.000\n4,0,3,30,0,0.000,1.800,0.000\n1,0,3,37,0,0.000,2.500,0.000\n4,0,3,37,0,0.000,1.800,0.000\n1,1,3,37,37,0.000,2.428,0.000\n1,6,3,37,37,0.000,1.743,0.000\n1,7,3,37,37,0.000,2.256,0.000\n1,43,3,37,37,-0.241,3.385,-0.838\n1,0,3,39,0,0.000,5.500,0.000\n0,0,3,40,0,0.000,3.900,0.000\n2,0,3,40,0,0.000,3.600,0.000\n5,0,3,40,0,0.000,3.600,0.000\n0,5,3,40,28,-1.355,3.964,0.800\n0,9,3,40,28,1.045,3.785,-0.291\n0,40,3,40,28,0.508,2.985,0.809\n0,0,3,41,0,0.000,1.800,0.000\n2,0,3,41,0,0.000,1.800,0.000\n0,0,3,43,0,0.000,4.500,0.000\n2,0,3,43,0,0.000,3.600,0.000\n4,0,3,43,0,0.000,3.600,0.000\n5,0,3,43,0,0.000,3.600,0.000\n0,1,3,43,18,1.712,3.309,0.233\n0,1,3,43,28,-0.414,4.168,-0.875\n0,7,3,43,18,-0.880,5.091,-0.129\n0,7,3,43,28,0.536,5.276,-0.556\n2,37,3,43,18,-0.701,4.871,1.225\n2,37,3,43,28,-0.086,5.073,0.878\n0,0,3,45,0,0.000,1.800,0.000\n2,0,3,45,0,0.000,1.800,0.000\n0,0,3,48,0,0.000,0.000,0.892\n0,0,3,51,0,0.000,13.500,0.000\n0,1,3,51,52,0.000,13.549,0.000\n0,0,3,54,0,0.000,8.000,0.000\n1,0,3,54,0,0.000,2.500,0.000\n5,0,3,54,0,0.000,12.000,0.000\n0,5,3,54,1,0.000,8.000,0.000\n0,5,3,54,36,0.000,8.000,0.000\n0,0,3,55,0,0.000,4.800,0.000\n2,0,3,55,0,0.000,4.800,0.000\n0,0,3,56,0,0.000,4.800,0.000\n2,0,3,56,0,0.000,4.800,0.000\n1,0,3,57,0,0.000,2.500,0.000\n1,0,3,58,0,0.000,4.800,0.000\n0,0,3,62,0,0.000,3.600,0.000\n2,0,3,62,0,0.000,3.600,0.000\n5,0,3,62,0,0.000,3.600,0.000\n1,0,3,63,0,0.000,2.500,0.000\n1,0,3,64,0,0.000,2.500,0.000\n0,0,3,67,0,0.000,12.000,0.000\n0,0,3,74,0,0.000,19.000,0.000\n0,1,3,74,7,0.000,19.349,0.000\n0,0,3,75,0,0.000,19.000,0.000\n0,1,3,75,71,0.000,18.751,0.000\n1,0,3,78,0,0.000,2.500,0.000\n1,0,3,80,0,0.000,2.500,0.000\n0,0,6,6,0,0.000,-2.000,0.000\n5,0,6,6,0,0.000,-2.000,0.000\n0,0,6,8,0,0.900,-1.100,-0.500\n5,0,6,8,0,0.000,0.000,0.274\n0,21,6,8,1,0.261,-0.330,-0.542\n0,21,6,8,23,1.503,-1.853,-0.476\n0,0,6,9,0,0.000,3.600,0.000\n5,0,6,9,0,0.000,3.600,0.000\n0,0,6,10,0,1.200,0.500,-1.000\n0,21,6,10,1,0.829,0.000,-0.730\n0,21,6,10,3,0.675,-0.185,-1.053\n0,0,6,15,0,0.000,-4.000,0.000\n0,0,6,17,0,0.000,1.423,0.000\n5,0,6,17,0,0.000,1.423,0.000\n0,0,6,18,0,0.000,0.000,0.100\n5,0,6,18,0,0.000,0.000,0.103\n0,33,6,18,1,-0.520,-0.471,-0.267\n0,33,6,18,6,-1.623,0.204,0.438\n0,33,6,18,32,1.616,0.425,0.191\n0,0,6,19,0,0.000,0.000,0.150\n5,0,6,19,0,0.000,0.000,0.165\n0,21,6,19,1,-0.620,-0.329,0.303\n0,21,6,19,5,0.683,0.220,0.000\n0,0,6,20,0,0.000,0.000,0.400\n4,0,6,20,0,0.000,0.000,0.217\n5,0,6,20,0,0.000,0.000,0.217\n0,20,6,20,5,0.000,0.000,-0.079\n4,20,6,20,20,0.000,0.000,0.000\n0,0,6,22,0,0.000,0.000,0.217\n0,0,6,25,0,0.000,0.000,0.650\n5,0,6,25,0,0.000,0.000,0.231\n0,1,6,25,1,-1.704,-0.452,0.556\n0,1,6,25,6,0.000,0.000,0.777\n0,1,6,25,32,1.205,0.914,0.612\n0,24,6,25,6,-3.209,-7.622,1.065\n0,24,6,25,32,-5.891,-3.332,0.290\n0,0,6,26,0,0.000,0.000,0.346\n0,0,6,30,0,0.000,3.600,0.000\n2,0,6,30,0,0.000,3.600,0.000\n0,0,6,37,0,0.000,3.200,0.000\n5,0,6,37,0,0.000,3.600,0.000\n0,1,6,37,37,0.000,4.382,0.000\n0,3,6,37,37,0.000,2.576,0.000\n0,29,6,37,37,0.000,2.801,0.000\n0,0,6,39,0,0.000,0.000,0.000\n0,0,6,40,0,0.000,0.000,0.274\n0,0,6,41,0,0.000,3.600,0.000\n0,0,6,43,0,0.000,0.000,0.274\n0,0,6,45,0,0.000,6.000,0.000\n0,1,6,45,32,0.000,6.208,0.000\n0,0,6,54,0,0.000,3.600,0.000\n0,0,6,55,0,0.000,3.600,0.000\n0,0,6,57,0,0.000,3.600,0.000\n0,0,6,58,0,0.000,3.600,0.000\n0,0,6,63,0,0.000,3.600,0.000\n0,0,6,64,0,0.000,3.600,0.000\n0,0,8,8,0,0.000,0.000,0.375\n5,0,8,8,0,0.000,0.000,0.375\n0,0,8,9,0,0.000,3.600,0.000\n5,0,8,9,0,0.000,3.600,0.000\n0,0,8,10,0,0.000,0.000,0.000\n4,0,8,10,0,0.000,0.000,0.000\n0,0,8,15,0,0.000,0.000,0.424\n0,0,8,17,0,0.000,1.423,0.000\n4,0,8,17,0,0.000,1.423,0.000\n5,0,8,17,0,0.000,1.423,0.000\n0,0,8,19,0,0.000,0.000,0.225\n0,0,8,20,0,0.000,0.000,0.350\n4,0,8,20,0,0.000,0.000,0.300\n5,0,8,20,0,0.000,0.000,0.297\n0,20,8,20,5,0.000,0.120,0.472\n4,20,8,20,20,0.000,-0.097,0.200\n0,23,8,20,5,-0.101,-0.324,0.371\n0,23,8,20,20,0.107,0.253,0.151\n0,0,8,22,0,0.000,0.000,0.297\n0,0,8,25,0,0.000,0.000,0.316\n5,0,8,25,0,0.000,0.000,0.316\n0,0,8,26,0,0.000,0.000,0.474\n5,0,8,26,0,0.000,0.000,0.474\n0,0,8,34,0,0.000,0.000,0.250\n0,0,8,39,0,0.000,0.000,0.000\n0,0,8,40,0,0.000,0.000,0.375\n0,0,8,43,0,0.000,0.000,0.375\n0,0,8,45,0,0.000,3.600,0.000\n0,0,8,46,0,0.000,3.600,0.000\n0,0,8,55,0,0.000,3.600,0.000\n0,0,8,56,0,0.000,3.600,0.000\n0,0,9,9,0,0.000,12.000,0.000\n1,0,9,9,0,0.000,1.800,0.000\n5,0,9,9,0,0.000,12.000,0.000\n0,0,9,10,0,0.000,6.000,0.000\n5,0,9,10,0,0.000,6.000,0.000\n0,0,9,15,0,0.000,1.423,0.000\n0,0,9,18,0,0.000,0.000,0.000\n0,0,9,19,0,0.000,0.000,0.000\n0,0,9,20,0,0.000,0.000,0.000\n0,0,9,25,0,0.000,0.000,0.000\n0,0,9,34,0,0.000,0.000,0.000\n5,0,9,34,0,0.000,0.000,0.000\n1,0,9,37,0,0.000,1.800,0.000\n1,0,9,39,0,0.000,6.000,0.000\n0,0,9,40,0,0.000,3.600,0.000\n0,0,9,41,0,0.000,4.800,0.000\n0,0,9,45,0,0.000,1.800,0.000\n0,0,9,54,0,0.000,12.000,0.000\n0,0,9,55,0,0.000,4.800,0.000\n0,0,9,56,0,0.000,4.800,0.000\n1,0,9,57,0,0.000,1.800,0.000\n0,0,9,62,0,0.000,3.600,0.000\n1,0,9,63,0,0.000,1.800,0.000\n1,0,9,64,0,0.000,1.800,0.000\n0,0,9,67,0,0.000,12.000,0.000\n1,0,9,78,0,0.000,1.800,0.000\n1,0,9,81,0,0.000,4.800,0.000\n0,0,10,10,0,0.000,0.000,0.000\n5,0,10,10,0,0.000,0.000,0.000\n0,0,10,15,0,0.000,0.000,0.000\n0,0,10,17,0,0.000,4.743,0.000\n0,0,10,20,0,0.000,0.000,0.000\n4,0,10,20,0,0.000,0.000,0.000\n5,0,10,20,0,0.000,0.000,0.000\n0,0,10,22,0,0.000,0.000,0.000\n0,0,10,25,0,0.000,0.000,0.000\n0,0,10,26,0,0.000,0.000,0.000\n5,0,10,26,0,0.000,0.000,0.000\n0,0,10,34,0,0.000,0.000,0.000\n0,0,10,37,0,0.000,2.700,0.000\n0,0,10,39,0,0.000,0.000,0.000\n0,0,10,40,0,0.000,0.000,0.000\n5,0,10,40,0,0.000,0.000,0.000\n0,0,10,41,0,0.000,6.000,0.000\n0,0,10,45,0,0.000,6.000,0.000\n0,0,10,63,0,0.000,0.600,0.000\n0,3,10,63,44,-10.200,7.000,0.000\n0,0,10,64,0,0.000,1.200,0.000\n0,28,10,64,63,2.400,2.900,0.000\n0,0,15,15,0,-1.400,-8.300,1.000\n5,0,15,15,0,0.000,-8.000,0.000\n0,1,15,15,1,-1.663,-8.408,1.433\n0,1,15,15,71,-1.088,-8.245,0.411\n0,0,15,18,0,0.000,0.000,0.160\n0,0,15,19,0,0.000,0.000,0.255\n5,0,15,19,0,0.000,0.000,0.255\n0,0,15,20,0,0.000,0.000,0.336\n4,0,15,20,0,0.000,0.000,0.336\n0,0,15,22,0,0.000,0.000,0.336\n0,0,15,25,0,0.000,0.000,0.358\n4,0,15,25,0,0.000,0.000,0.358\n0,0,15,26,0,0.000,0.000,0.537\n0,0,15,30,0,0.000,1.423,0.000\n4,0,15,30,0,0.000,1.423,0.000\n0,0,15,37,0,0.000,3.000,0.000\n5,0,15,37,0,0.000,1.423,0.000\n0,1,15,37,37,0.000,2.177,0.000\n0,71,15,37,37,0.000,0.505,0.333\n0,0,15,40,0,0.000,0.000,0.424\n0,0,15,43,0,0.000,0.000,0.424\n0,0,15,57,0,0.000,1.423,0.000\n0,0,15,63,0,0.000,1.423,0.000\n0,0,15,64,0,0.000,1.423,0.000\n0,0,17,20,0,0.000,0.000,0.000\n4,0,17,20,0,0.000,0.000,0.000\n5,0,17,20,0,0.000,0.000,0.000\n0,0,17,22,0,0.000,0.000,0.000\n0,0,17,37,0,0.000,1.423,0.000\n0,0,17,43,0,0.000,3.795,0.000\n0,0,18,20,0,0.000,0.000,0.112\n4,0,18,20,0,0.000,0.000,0.112\n5,0,18,20,0,0.000,0.000,0.112\n0,0,18,22,0,0.000,0.000,0.112\n0,0,18,37,0,0.000,-1.200,-0.300\n0,32,18,37,37,-0.173,-0.965,-0.610\n0,39,18,37,37,0.000,-0.760,0.227\n0,43,18,37,37,0.228,-1.741,-0.371\n0,0,18,39,0,0.000,0.000,0.500\n0,32,18,39,63,0.000,0.687,0.680\n0,37,18,39,63,0.000,-0.513,0.357\n0,0,18,43,0,0.000,0.000,0.350\n4,0,18,43,0,0.000,0.000,0.141\n5,0,18,43,0,0.000,0.000,0.141\n0,1,18,43,1,-0.914,-0.482,0.179\n0,1,18,43,3,-0.392,-2.724,0.312\n0,1,18,43,28,-1.508,-1.816,-0.175\n0,1,18,43,37,0.823,-1.220,-0.770\n0,32,18,43,1,1.588,1.499,1.410\n0,32,18,43,3,0.653,0.254,0.000\n0,32,18,43,28,0.528,0.342,0.000\n0,32,18,43,37,0.812,1.513,1.266\n0,37,18,43,1,-1.139,-0.703,1.088\n0,37,18,43,28,-2.014,-1.646,-2.068\n0,37,18,43,37,-1.519,-0.328,1.437\n0,43,18,43,28,3.011,-1.405,2.038\n0,0,18,48,0,0.000,0.000,0.400\n0,1,18,48,28,1.767,1.606,0.408\n0,32,18,48,28,-1.463,-2.548,0.310\n0,0,18,55,0,0.000,0.000,0.000\n0,0,18,58,0,0.000,0.000,0.000\n0,0,18,62,0,0.000,0.000,0.500\n0,1,18,62,1,-0.403,-0.273,0.440\n0,32,18,62,1,0.291,0.385,0.582\n0,0,18,63,0,0.000,0.000,0.000\n0,0,18,64,0,0.000,0.000,0.000\n0,0,18,80,0,0.000,0.000,0.000\n0,0,19,20,0,0.000,0.000,0.179\n4,0,19,20,0,0.000,0.000,0.179\n0,0,19,37,0,0.000,0.000,0.000\n0,0,19,40,0,0.000,0.000,0.225\n0,0,19,63,0,0.000,0.000,0.000\n0,0,19,75,0,0.000,0.000,0.000\n0,0,20,20,0,0.000,0.000,0.200\n4,0,20,20,0,0.000,0.000,0.000\n5,0,20,20,0,0.000,0.000,0.236\n0,1,20,20,5,0.067,0.081,0.347\n0,1,20,20,20,-0.063,-0.064,0.140\n0,3,20,20,5,0.000,0.000,0.083\n0,3,20,20,20,0.000,0.000,0.000\n0,5,20,20,5,0.000,0.000,0.424\n0,5,20,20,6,0.000,0.000,-0.080\n0,5,20,20,8,0.000,0.127,0.450\n0,5,20,20,12,-0.072,-0.269,0.439\n0,5,20,20,20,-0.057,0.000,0.307\n4,6,20,20,20,0.000,0.000,0.000\n4,8,20,20,20,0.000,-0.091,0.192\n0,12,20,20,20,0.077,0.202,0.183\n4,20,20,20,20,0.000,0.000,0.000\n0,0,20,22,0,0.000,0.000,0.236\n4,0,20,22,0,0.000,0.000,0.236\n0,0,20,25,0,0.000,0.000,0.251\n4,0,20,25,0,0.000,0.000,0.251\n0,0,20,26,0,0.000,0.000,0.376\n4,0,20,26,0,0.000,0.000,0.376\n5,0,20,26,0,0.000,0.000,0.376\n0,0,20,30,0,0.000,0.000,0.000\n2,0,20,30,0,0.000,0.000,0.000\n4,0,20,30,0,0.000,0.000,0.000\n0,0,20,30,30,0.000,0.000,-0.500\n0,0,20,34,0,0.000,0.000,0.198\n4,0,20,34,0,0.000,0.000,0.198\n0,0,20,37,0,0.000,0.000,0.000\n4,0,20,37,0,0.000,0.000,0.000\n0,0,20,40,0,0.000,0.000,0.297\n0,0,20,41,0,0.000,0.000,0.000\n0,0,20,43,0,0.000,0.000,0.297\n4,0,20,43,0,0.000,0.000,0.297\n0,0,20,45,0,0.000,0.000,0.000\n0,0,22,22,0,0.000,0.000,0.236\n4,0,22,22,0,0.000,0.000,0.236\n5,0,22,22,0,0.000,0.000,0.236\n0,0,22,30,0,0.000,0.000,0.000\n4,0,22,30,0,0.000,0.000,0.000\n0,0,22,34,0,0.000,0.000,0.198\n0,0,22,37,0,0.000,0.500,-2.800\n0,0,22,40,0,0.000,0.000,0.297\n0,0,22,41,0,0.000,0.000,0.000\n0,0,22,43,0,0.000,0.000,0.297\n5,0,22,43,0,0.000,0.000,0.297\n0,0,22,45,0,0.000,0.000,0.000\n0,0,25,25,0,0.000,0.000,0.267\n0,0,25,37,0,0.000,0.000,0.000\n5,0,25,37,0,0.000,0.000,0.000\n0,0,25,39,0,0.000,0.000,0.000\n0,0,25,40,0,0.000,0.000,0.316\n5,0,25,40,0,0.000,0.000,0.316\n0,0,25,43,0,0.000,0.000,0.250\n0,1,25,43,1,-2.686,-1.512,0.591\n0,1,25,43,28,-3.730,-0.531,0.000\n0,32,25,43,1,2.108,1.896,0.965\n0,32,25,43,28,2.977,0.732,-0.502\n0,0,25,57,0,0.000,0.000,0.000\n0,0,25,63,0,0.000,0.000,0.000\n0,0,26,26,0,0.000,0.000,0.600\n5,0,26,26,0,0.000,0.000,0.600\n0,0,26,34,0,0.000,0.000,0.316\n5,0,26,34,0,0.000,0.000,0.316\n0,0,26,37,0,0.000,1.423,0.000\n0,0,26,40,0,0.000,0.000,0.474\n0,0,30,30,0,0.000,12.000,0.000\n1,0,30,30,0,0.000,1.800,0.000\n4,0,30,30,0,0.000,1.800,0.000\n0,0,30,40,0,0.000,3.600,0.000\n1,0,30,67,0,0.000,1.800,0.000\n0,0,34,37,0,0.000,0.000,0.000\n0,0,34,43,0,0.000,0.000,0.250\n0,0,37,37,0,0.000,7.000,0.000\n1,0,37,37,0,0.000,2.000,0.000\n4,0,37,37,0,0.000,6.000,0.000\n5,0,37,37,0,0.000,6.000,0.000\n0,1,37,37,5,0.000,7.000,0.000\n0,1,37,37,37,0.000,7.000,0.000\n0,2,37,37,5,0.000,7.000,0.000\n0,2,37,37,37,0.000,7.000,0.000\n0,3,37,37,5,0.000,7.000,0.000\n0,3,37,37,37,0.000,7.000,0.000\n0,5,37,37,5,0.000,7.000,0.000\n0,5,37,37,6,0.000,7.000,0.000\n0,5,37,37,15,0.000,7.000,0.000\n0,5,37,37,18,0.000,7.000,0.000\n0,5,37,37,37,0.000,7.000,0.000\n0,5,37,37,40,0.000,7.000,0.000\n0,5,37,37,43,0.000,7.000,0.000\n0,6,37,37,37,0.000,7.000,0.000\n0,15,37,37,37,0.000,7.000,0.000\n0,18,37,37,37,0.000,7.000,0.000\n0,37,37,37,37,0.000,7.000,0.000\n0,37,37,37,40,0.000,7.000,0.000\n0,37,37,37,43,0.000,7.000,0.000\n0,0,37,38,0,0.000,7.000,0.000\n0,0,37,39,0,0.000,3.600,0.000\n1,0,37,39,0,0.000,2.600,0.000\n0,0,37,40,0,0.000,4.000,0.000\n5,0,37,40,0,0.000,3.600,0.000\n0,37,37,40,1,0.000,4.095,0.382\n0,37,37,40,28,0.698,2.542,3.072\n0,0,37,41,0,0.000,1.800,0.000\n0,0,37,43,0,0.000,2.000,1.800\n5,0,37,43,0,0.000,3.600,0.000\n0,37,37,43,18,0.372,2.284,2.034\n0,37,37,43,28,0.000,1.694,1.508\n0,0,37,45,0,0.000,1.800,0.000\n0,0,37,46,0,0.000,1.800,0.000\n0,0,37,55,0,0.000,4.800,0.000\n0,0,37,56,0,0.000,4.800,0.000\n1,0,37,57,0,0.000,1.800,0.000\n0,0,37,58,0,0.000,6.000,0.000\n1,0,37,58,0,0.000,4.800,0.000\n0,0,37,62,0,0.000,3.600,0.000\n0,0,37,63,0,0.000,7.000,0.000\n1,0,37,63,0,0.000,1.800,0.000\n1,37,37,63,39,0.000,3.000,4.100\n1,37,37,63,44,0.000,3.000,2.100\n0,0,37,64,0,0.000,7.000,0.000\n1,0,37,64,0,0.000,1.800,0.000\n1,0,37,67,0,0.000,1.800,0.000\n0,0,37,69,0,0.000,7.000,0.000\n0,0,37,78,0,0.000,6.000,0.000\n0,0,37,81,0,0.000,6.000,0.000\n1,0,37,81,0,0.000,4.800,0.000\n0,0,38,38,0,0.000,7.000,0.000\n0,0,38,58,0,0.000,7.000,0.000\n0,0,38,63,0,0.000,7.000,0.000\n0,0,38,64,0,0.000,7.000,0.000\n0,0,38,69,0,0.000,6.000,0.000\n0,0,38,78,0,0.000,6.000,0.000\n0,0,39,40,0,0.000,0.000,0.000\n0,0,39,45,0,0.000,6.000,0.000\n0,0,39,63,0,0.000,4.000,0.000\n1,0,39,63,0,0.000,6.000,0.000\n5,0,39,63,0,0.000,3.600,0.000\n0,1,39,63,5,0.000,4.000,0.000\n0,1,39,63,64,0.000,4.000,0.000\n0,18,39,63,5,0.000,4.000,0.000\n0,18,39,63,64,0.000,4.000,0.000\n0,63,39,63,5,0.000,4.000,0.000\n0,63,39,63,64,0.000,4.000,0.000\n0,0,39,64,0,0.000,3.600,0.000\n1,0,39,64,0,0.000,6.000,0.000\n0,0,39,65,0,0.000,4.000,0.000\n0,0,39,78,0,0.000,3.600,0.000\n0,0,40,40,0,0.000,0.000,0.375\n0,0,40,45,0,0.000,3.600,0.000\n0,0,40,46,0,0.000,3.600,0.000\n0,0,40,54,0,0.000,3.600,0.000\n2,0,40,54,0,0.000,3.600,0.000\n0,0,40,63,0,0.000,3.600,0.000\n0,0,40,64,0,0.000,3.600,0.000\n0,0,40,78,0,0.000,3.600,0.000\n0,0,41,41,0,0.000,1.800,0.000\n0,0,41,55,0,0.000,4.800,0.000\n0,0,41,62,0,0.000,3.600,0.000\n0,0,41,80,0,0.000,1.800,0.000\n0,0,43,43,0,0.000,0.000,0.375\n0,0,43,45,0,0.000,3.600,0.000\n0,0,43,64,0,0.000,3.600,0.000\n0,0,44,57,0,0.000,7.000,0.000\n0,0,44,63,0,0.000,7.000,0.000\n0,0,44,65,0,0.000,7.000,0.000\n0,0,44,78,0,0.000,2.846,0.000\n0,0,44,80,0,0.000,2.846,0.000\n0,0,45,63,0,0.000,1.800,0.000\n0,0,45,64,0,0.000,1.800,0.000\n0,0,45,78,0,0.000,1.800,0.000\n0,0,55,57,0,0.000,10.000,0.000\n2,0,55,57,0,0.000,4.800,0.000\n5,0,55,57,0,0.000,4.800,0.000\n0,1,55,57,5,0.423,12.064,0.090\n0,1,55,57,55,-0.428,12.044,0.000\n0,36,55,57,5,-0.268,8.077,-0.806\n0,36,55,57,55,0.273,8.025,0.692\n0,0,55,62,0,0.000,3.600,0.000\n0,0,55,64,0,0.000,4.800,0.000\n0,0,55,80,0,0.000,4.800,0.000\n0,0,56,57,0,0.000,6.000,0.000\n0,1,56,57,56,0.000,6.886,-0.161\n0,36,56,57,56,0.000,4.688,0.107\n0,0,56,63,0,0.000,4.800,0.000\n0,0,56,80,0,0.000,4.800,0.000\n1,0,57,63,0,0.000,1.800,0.000\n1,0,57,64,0,0.000,1.800,0.000\n0,0,58,63,0,0.000,6.000,0.000\n0,0,58,64,0,0.000,6.000,0.000\n0,0,59,63,0,0.000,7.000,0.000\n0,0,59,65,0,0.000,7.000,0.000\n0,0,59,78,0,0.000,3.600,0.000\n0,0,59,80,0,0.000,3.600,0.000\n0,0,59,82,0,0.000,3.600,0.000\n0,0,62,63,0,0.000,3.600,0.000\n0,0,62,64,0,0.000,3.600,0.000\n1,0,63,63,0,0.000,1.800,0.000\n0,0,63,64,0,0.000,7.000,0.000\n0,5,63,64,5,0.000,7.000,0.000\n0,5,63,64,64,0.000,7.000,0.000\n0,39,63,64,5,0.000,7.000,0.000\n0,39,63,64,64,0.000,7.000,0.000\n0,0,63,66,0,0.000,7.000,0.000\n0,0,63,78,0,0.000,6.000,0.000\n0,0,63,81,0,0.000,6.000,0.000\n0,0,64,64,0,0.000,7.000,0.000\n1,0,64,64,0,0.000,1.800,0.000\n0,5,64,64,5,0.000,7.000,0.000\n0,5,64,64,63,0.000,7.000,0.000\n0,63,64,64,63,0.000,7.000,0.000\n0,0,64,65,0,0.000,7.000,0.000\n0,0,64,66,0,0.000,7.000,0.000\n0,0,64,78,0,0.000,6.000,0.000\n0,0,64,81,0,0.000,6.000,0.000\n5,0,64,81,0,0.000,6.000,0.000\n0,0,64,82,0,0.000,6.000,0.000\n0,0,65,66,0,0.000,7.000,0.000\n0,0,65,78,0,0.000,6.000,0.000\n0,0,65,81,0,0.000,6.000,0.000\n0,0,65,82,0,0.000,6.000,0.000\n0,0,66,66,0,0.000,7.000,0.000\n0,0,66,78,0,0.000,6.000,0.000\n0,0,66,81,0,0.000,6.000,0.000\n0,0,67,67,0,0.000,12.000,0.000\n5,0,67,67,0,0.000,12.000,0.000\n0,0,76,76,0,0.000,3.600,0.000\n0,0,76,78,0,0.000,3.600,0.000\n0,0,78,78,0,0.000,7.000,0.000\n0,0,78,79,0,0.000,6.000,0.000\n0,0,78,81,0,0.000,4.000,0.000\n0,0,79,79,0,0.000,6.000,0.000\n0,0,79,81,0,0.000,6.000,0.000\n0,0,80,81,0,0.000,4.000,0.000\n";
+public static final String n94s_torsionPlusData = "\u03c2(\u0089 !\u0089 !\u0089 !\u0089 !\u0089 !\u0086#!\u0086#!\u0086#! % %    % %                       %     \"% %          \"\" \"       \"%           \"\"    \"           % %            %   % %       %   %           %        %   %       %    %   % %        %   %    %    %   %       %        \"%   %        %    % % %               !%  ! !! !  !      !!!!!!!!!!!!!!!!!!! \"%      ! \"% \"%  \"%  \" \"%   \"!!!!! \"%   \"   \" \"   \"     !!!!!$!!!!!!!! \"$%   \"\"        \" !%      \"$%   \"         \"$% % \" \"$%      \"$%  \"!$!$!!!!! \"%    \" \"$%    \"\" \"    !%   \" \"!! \"%!!     !! % %   %     % %    %   $% $  %       \" %                % % $  $%  $% $    % %         !% %      %!!      ! !! !! %   $%   %    %       %    % $  $  $ %        $%    $%         $%                        $     $%         $$ $ $ $ $% \"$  $ $   $  $% $     %   %  %        % %   !$ !   !$%                     ! %    %      ! !  !!! !!   !         !%       !      \"                   \"%            !!         !         !       %         %          !!!!!!!!!!!!!\"###%%%%%%%%%%%%%%&&(+,/     !!!\"\"###%%%%%%&&&(((      !!!!!\"\"%%%%%%%%%%%%%&&**   !!!!\"#%%%%%%%&&&E  !!!!\"%%%  %%   !!!##%%%%  !!!%%%%  %%  %%%%%%  %%%  %%    !!%%%%%  %%  !%%  !%&  !%  %% !%%  %%% % %   %%  %% !!%%    %       !!!%%% %%       !!!!!\"\"\"#%%%%%%%% !!!!!\"\"\"\"\"\"%%%%%%    \"\"\"%%%                      !\"%    \"%  \"%    \"%     \"%      !!!%%&&'    !!!\"#%%%'''''E   \"%%HH    !!!\"%%%''''*            '''44    '      !&'K    %)H      !!''EE    !   %%             ! !      55   55     AAA  55   44   !!!88     !#=     !                    4477                                                           # <  !!             !g                @GK @E   !!!!@@@@EEEK !@   !@            !!##%%%%%&(,4                                       !!@@                   !!\"\"##%%%%%%%&/2EEE     EE   EE          EE                  !!22__                              !!DD    !D               %%GG     %%_                       !!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"###################################################################################################################################&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&((((((((((((((((((((((((((((((()))))))))))))))))))))))))))**********************////////////////////////11111122222222222222222222222222222222222223333334444444444444444444444444444444444446666666666669999999999999::::::>>>>>BBEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEFFFFFFGGGGGGGGGGGGGGGHHHHHHHHIIIIKKKLLLLLMMMWWWWWWWWWWXXXXXYYZZ[[[[[^^_________```````````aaaabbbccllnnnoop!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"##############################$&&&&&&&&&&&&&&&&&&&(((((((((())))************/////////11112222222233333444466999999999::::BBBBBEEEEEGGGGHHHHIIIIKKKKKMMNNVVVVVWWWWXXXXXYYZ^^__``ccdddddddiiiknpq\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"##################$&&&&&&&&&)***///12223446669>BBEEEEGHHHHHIIIIKKMMMMNNWX^^^_`cq##########&&&&&&&&&&&&&&&&&&))))))))****************////11224444444446666699>>EEEEEEGHHHHHHIIKKKKKKKKKKMMPSSVVVVVWWXXYZ^^^_`cjjkknp&&(((())***/112222233334444469999999:>>EEEEEGHIKMMVWYZ_`(())**/11134444444699::BGHKMNWX)))**/2349BBEGHIMVWXY^_`cnq**/144469::BEGHHIM__``////23344699:>>EEEEHKY_`4446EK4446EEEEGGGKKKKKKKKKKKKKKKPPPWZ^^^_`p44EH_k44444444444444446699:::>>>>BBEEHIKKM666>>BEHIKKM9EEGHHKKKKKY_::BBEH>>>HcEKEEEEEEEEEEEEEEEEEEEEEEEFGGHHHHIKKKKMNWXYZZ^____``cenqqFZ_`enHM_________``anHMNVV_`nIW^pKM`Y_anp_`nYYYYYYY^`pYYY_p_`_`_anpr_`_`````bnq`````abnqqrbnqrbnqcclnnoqoqq  !!\"#%&&((+,/B%#%&%&(*+,/9BEGIXd&&(+,/   \"\"!\"%\"%!\"%!\"\"#%E!\"%!\"%   !%'!%&'*%'!\"#%&'*EKSUjk&''*   !!#555!\"#59EM!!55  !!&77!&7  #U  ##&<#<!#&<  !/g!/Eg  !'  !&@KP^  %&,  %4    !@!&@Kh  ,g  D!D  EEE  __  <E @@h  29< @ '   #D  DY DYDY    2       !7@!7@ @h       !\"\"%%\"%%%%%&EHIM^ !%&'*!%&')*!%&')*    !#=!#=                      EEE    <<  @@    @@     77      !&'&'&''    !8E88!\"8 !\"8E8   ;!;!;    !&<<!#<!#&<<             %4%4           EEEE    <<<      2<2<2<    T   !D             ' g      !7   !#     !&@  !%   %4   !&@&@     EEE     @                    %4%4                                                           L _  !g             EE                EEE __   !#<E!#<E!<E< <<   !!            %4%4%&(,44444          >                            !<!<                   %E%E%E%&/2EHKEEEEHK     !<   2<          GL                  %`%`%`                              %W%W    XX               %`%`     %__                        \u00e8\u0087\u00b0\ufef9b\u029f\ufd70 \ufa94 \u0271\ufd7a\ufd56\ufd99\u0161\u01db\uff20\ufd79\u013c\ufd92\ufd38  \u02c6\u0496 \u02d4     \u01b8\u0159\u043f\ufe9d \uff6f     \u01c3\ufe32k\ufefb\u014d\u0255\ufddfr \u0215  \ufe15 \ufe4d\u01c9 \ufe28\u023d       \u0087\uffd8\uffab\u0359\ufd25\u02b7\ufd2a\uffd7  \ufcea \u02b3\ufd71      \u01df\ufe95\u0232\u01f1   \ufd77 \ufdfd \u0086\uf9ac\u025b \u025c\u0274   \u0105 \u05f0\u02e8  \ufe69\u0093\ufdc0\ufe74\u0272\u01a9\u0276\uff88  \u00ec    \ufcac \u030e\u0cb3\u00ef \uf702 \ufc4a  \ufc09\ufa82\ufea8\u0497\u0633 \u0105                                                            \u0185 \uff27              \u038b\ufcba\ufc62\u03d8            \uffab\u0195\uffc6\u00a6\ufeb7h          \ufe8d \ufe7e \u01bc~ \u015d  \ufe8a       \u00a8\u0211\uff4d\ufe8f \ufedb\ufef9\uff91\u018a\u0148 \u00f5\uff50\u0187 \ufefe     \uf87f\uf970\uff49\u07bf\u06d7\u00f8                              \u00ab               \u06bd\uf980      \ufe3a\uffcf\u043d  \u012d\ufe31\uff1c    \ufb44\ufb92\ufd7b\u0120\u069f\u022e\u00bf\uf733\u02dc\u02ca\uff78\u069e\u029b     \u02cf \ufd60     \u035f\ufba0\uff1d \uff5d\ufd5f\ufe7f\ufe35\u02fd\u04f2\u04b0                                \uff2f    \ufad5\u0435\u021c      \u06d0\ufe82\ufcb0\u0238\ufd63\uffca                              \u03a4 \u0125\u05ff  \u04d0\u035d\u02c3     \ufe18\uf9c9\u0670  \ufdb4\u02cb        \uf978 \u04d5\uf397\ue91d                                    \uffbb\u008b                                                           \ud848 \u0980\ufaa8 \uf9a1\ufbe0                               \uff73 \u0104      \ufc8e\ufe98\ufa3c\u0357\u0654\u02ad\u0230\u034c\ufbad\uf842\ufa31\u0be3 \u0707\ufa69   \ufe8d\u0143            c\uffe1     \uffd8\uffe7  m                                        \uf5a2\uf18e\u085c\u0bc1                                            \u02da   \u0194                                                                   \u01c7\ufe74\uff14\u0131                                                         \ufd00\u02c9\ufdfd\u01d6\uff84\ufdaa\u06fd \uffc4\uff82\u02b6\u01c1\u02da\u0246\ufe85 Z\u0003\ufab6\u0450\ufb4d \u0224\ufdc6\ufd9c \ufe0e     \u0595\ufc15\u0362\ufe01       \u0148\u0132 \u0093\u0088\ufdf6\ufe3e \uff68\ufe86  \uff3c  \u00c8\u00a8\u0193\u023b\u00ec\u01b0\u0214  \u00e8\u01b0\u00d1\u015c\ufed3\u00ab\u04fc\uff79\u0090u  \u0215\ufdb0\ufaa1\u04fc \u0423\u0627\u0215\u0221\u021f\u02ac\u02fa\u0b79\uff2f  \uff58\u0313\u0113 \u012e\u01ec\uf9a4\u015f  \uff0c   \ufd5a \uf2d7\u0548\ufef4 \u0332\ufe9a\u0173\u0163\ufe87\ufe9f\uff82\ufe68  \ufed1    \u0262\ufea5\ufe8c\uf595\u01ed \u060d\u02d0\uff51  \u00ca\u0127\uff9b\uff39\ufedd \u00eb        \u0269\ufe84               \uff51\u0140\u00b8 \uff9e             \u01e1\ufe7c   \uffd0   \uffb7 \u0278\u050f \u0298  \ufc8a \u019e           \uffe6\uffe6 \u02bc\u0327\ufdab\ufd55            z\u00b9\uff77\uffb0\uff56\u00fa       \u2f00\u0728\u2f00\u2f00\u2f00\u0849\u2f00\u0868\u0675\u2f00\u05ad\u2f00\u2f00\u0707\u2f00\u2f00\u2f00\u2f00\u2f00\u2f00\u09e4\u0726\u0985\u07a5\u080c\u08dd\u0631\u0808\u05da\u07da\u060a\u065f\u06e0\u0676\u0623\u081e\u060f\u05a1 \u0c3c\u0e30\u0e30\u0f91\u0a44\u0b1a\u0f80\u0a64\u0b18\u0728\u1790\u1790\u1790\u05af\u05af\u05af\u05af          \u2f00  \u07f0\u0ba8\u0626\u053c\u1790\u0e94\u0e30\u0e30\u0d09\u0cc9\u04d0\u0728\u04f3\u04ef\u0e30\u0e30\u08b8\u0728\u08c4\u08d1\u0728\u0728\u12e0\u12e0\u1f60\u1eff\u1ef9\u0728\u0728\u0728\u12e0\u0278\u0728\u02ea\uffa3\u054f\u00dc\u00d1\u01d5\u0339\u045c\u159c\u159c\u0e30\u0e30\u158a\u13f6\u16fe\u11c7\u1009\u161f\u19da\u12a1\u1984\u1c30\u19cc\u1828\u1722\u0f54\u3ea0\u0728\u2f00\u3ea0\u3f38\u3ea0\u4748\u3ea0\u1790\u1790\u1790\u1790\u17cd\u21ac\u174e\u19c1\u18c0\u1527\u177d\u186a\ufe01\u20d4\u1319\u0e9a\u05af\u05af\u05af\u05af\u05af\u05af      \u01b0        \u1088  \u0728\u0728\u09e4\u0728\u099c\u06ef\u08f0\u0d59\u159c\u0f5c\u0e30\u0e30\u0f9c\u0ee9\u0bc9\u0728\u0728\u11b4\u0e30\u0e30\u0e30\u0d0d\u1068\u1403\u14bc\u1327\u13f1\u0728\u0728 \u34dc\u350d\u1f60\u09e4\u2f00\u1f60\u1f60\u12e0\u12e0\u12e0\u12e0\u09e4\u12e0\u0e30\u0e30\u0e30\u09e4\u09e4\u2f00\u4a58\u4bb5\u4a58\u495f\u09e4\u09e4\uf850\uf850\ufbd4 \ufed6\uf8e3\u0e30\u0e30\u0214 \uff67\uf080\u05af\u05af  \ufe49\u00ec\u01c9  \ufed7\u00fc        \ufe5c \u03b2\ue25a\uf31c \u0e30\u0e30\u0ca0\u0e30\u113e\u0a30\u0b11  \u0e30 \u1790\u1860\u0e30\u0e30\u0e30\u0e30\u0e30\u0e30  \u0e30\u0e30   \u05af\u05af\u05af    \u0098\uffbf\ufedc\u011d         \u0e30\u0e30\u0e30\u0e30\u2f00\u0728\u2f00\u1790\u1790\u05af      \u0728\u1790\u0e30\u12e0\u0728\u2f00\u12e0\u12e0\u0728\u0e30\u0728\u0728\u2f00\u0728\u12e0   \u12a7        \u0aac   \u1790\u1790\u0278\u1b78\u04d0\u0b74\udfb4\ue0e0\udf48\udfeb         \u05af\u05af\u0bd8\u05af\u08a1\u0219  \u05af\u05af\u05af    \u05af\u0ef3    \ufb70\ufc5b\ufd28\uf953 \u02cf\ufe1f   \ufe3e\uf57c\uf908\ufb5c\u05fb\u011e\u0176\u0609\ufd61\uf9b2\ufed8\ufaa3 \u0666\uf62c   \uff0f\u01a1            q\uffe0    \u009f\uff13  \uffc5\u00ea                           \u0214            \ufa38\ufe0d\u0788\u02fc      \u05af \u2f00\u0728\u0728\u0e30\u0728  \u1b78\u07f0\u1790\u1790\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u0e30\u0a48\u0fc0\u0e30\u101f\u0a0e\u0728\u07f0\u0e30\u090c\u06be\u0728\u0728\u12e0\u12e0\u0728\u1790\u12e0\u0e30\u1b78\u0728\u0bd8\u0bd8\u1b78\u0728\u0728\u1b78\u1790\u1790\u12e0\u1b78\u1b78\u1b78\u1b78\u1790\u1790 \u1790\u0fc0\u1790\u0e30\u0fc0\u0fc0\u0fc0\u0fc0\u0fc0\u0fc0\u0e30\u1790\u0fc0\u0e30 \u0e30\u0e30\u0e30\u0e30\u0e30\u0e30\u0e30\u0728\u12e0\u0e30\u0728 \u0e30\u0e30\u1b78\u1b78\u1b78\u0b3e\u0b3e\u0728\u0728\u0728\u2730\u12e0\u12e0\u2f40\u2f2c\u1fad\u1f79\u0e30\u12e0\u12e0\u1790\u1b06\u1270\u12e0\u12e0\u0728\u0728\u1790\u1790\u1b78\u1b78\u0e30\u0e30\u0e30\u0e30\u0e30\u0728\u1b78\u1b78\u1b78\u1b78\u1b78\u1b78\u1790\u1790\u1b78\u0728\u1b78\u1b78\u1b78\u1b78\u1b78\u1790\u1790\u1790\u1790\u1b78\u1790\u1790\u1790\u1b78\u1790\u1790\u2f00\u2f00\u0e30\u0e30\u1b78\u1790\u0fc0\u1790\u1790\u0fc0\u014c\u05fc\u016c\u0486\u0268\u00af\u0128\u01fdV\u046d\u0163\u0480\u0290 \u026e\u00b0\ufbac  \u015a\u0137\u0171\u01c2\u0143\u01ae\u018f\u0147\u0136\u01a5\u0136\uff93\u0164\u00a8\u03e1\u067f \u059d\u039dQ   \ufd96\ufd96\u013a\ufdaa\u0186\ufe24\u021b\u010a\ufe75\u009b\u00fc\ufe09W\uffb4\u00f0 \u020a\ufcb5\u01ac\u024d\ufc2f\u01f0\u014c\u017e \u0246\u02dc\u01b0\u0241\u02c2\u00ea\u0165\u03fa\u01ca\u0253\u0233\u0093\u01de\u0410\u016a\u0154\u00a8X\u0188\u017e \ufec8\uff66\u015e\uff95\u0ae4\u075a \u00e8\u01b0\u0313\ufdcc\u0160\u010d\uffa0\u013b\u025a\u0152\ufef0\u017a]\u008a\uff72\u02f2H\ufee0\ufe25\u0214\u0149\u0130\u02b2\u05f8\u0138\u00bb\u0252\u01af\u0185  \ufec0\u0081\u014c \u0408\u0352\u0255\u0191\u0773\u0164\u02e2\uffdf\u02b9\u00c6\u01b0\u0170\u01ae\u0215\u0140\u01df\u01e8\u01eb\u01d8\u017e \u0238\u00f4\u0084\u0090 \u0083\u01a4\u0099\u00e3\uffc8\u00b6\u00d3\u00e4\u00d0\u00b8\u017e\u017e\u0178\u0189\u010c\u010c\u014c\u011b\u0108\u00fa\u010b\u020f\u00f6\u01f2\u0113\u01e2\u0198\u01d7\u01f8\u011a\u00e6\u00db\u0117\u0123\u00e8  \u01a7\u00b6  \uffe8\uffaf\u011a\u0149 \u01f4  \uffb6 \u00b6\u0149 ]\u0177\u0084\u009d\ufe2c\ufe04   \ufee5\u015b  t\uffc4\ufef4\u0011\ufe8a\ufeac\ufe3d   \u011a\u012e      \u01b0\u030f\u029bk\u0169\u0250}\u0214\u021d\u01db         \ufeea \u012d\u038d \ufcba          \u0296\u0185\uff9d\ufee2\ufdbe\ufe39\ufdd2  \u0201\u019c\ufff6\u00ff\u00e2 \ufe4a\u011e    \ufc01\ufed6\ufe58\u048a\u0188\u01e8                      \uffd1\u01d2\ufebb    \ufe0e\u00ab               \u0234\ufe3e       \u00a4 \u01d4\ufe84 \ufee2\u00e1    \u018d\ufdff\u0229\u0122~\u02d3\u00f8\u01f4\ufe90\ufc79\uff89\uffe6\ufe62\uffc2    \u039e  \u00d2    \u022a\u0607\u054e\u0146\u06da\u010a\u021f \uff7d\ufe05\ufecb\u0506        \ufef4 \ufef4 \u01b0\uff9d u     \u078c         \ufcda    \u0340\ufefd\u0349      \u0109\ufcb5\uff9f\ufdf4\u04e9\u038e  \u039c                           \ufe2c\u0132\ufe02\ufe44  \ufc38\ufd46\ufc03   \u0084\u0087\uff15\u01d6\u00df\u00b6\u00c5\u014f \u01b0\u00f9\u00f9\uffd1 \u00f9\u02aa\u0107\u024c\u0329\u0284\u0449\u0142\u017a        \u0132 \u0132        \u0197\u0197    \u01c8   \u0101\u017e\u014c\u0149\u01f8\u00e8\u0193\u00b7\u0149\u015c\u015c\u01fa\u01fa\u011a \u0197\u0197                                                     \u0408 \u05b9\u01bb\u00c0\u011f\u011f\u0170\u0170\u0170\u0186\u0186\u0239     \u016d\u01c8\u01c8         \u0090\u0090\u0090\u0090\ufef4\ufdbe\u0103\ufead\u0214\u02c8\u0185\u017e\u00ad\u00ad\u00d3\u0158\uff71\ufd1e\u05a2  \u0512\u0460\uf80c\u05bd\u0816\u01b0\u01b8\u0156  \u0214\u01d8\u0266   \u00d3\u00d3 \u0101  \u00e8 \u010c\u017b\u00acs \u01c8\uffd0\u01e2\u01d7\u0153 \u00e0\u00d7 \u010c\u010c\u011b\u011b\u0198\u0198\u0198   \ufe2c\u00e6\u00e6  \u0149 \u0149\u0149 \u010c\u010c\u010c  \u00e6\uf530\u0149 \u0149\u0149 \u012b   \u015c\u015c\u011a\u026f \u03e5\ufe2a  \u0278\u0278\u015c\u015c \u01fa      \u011a                            \u019e\u0c20 \u0728 \u0812\u0604          \u1024\u0854                            \u0197           \u0197             z \ufcfa\u02d4    \uff7f\u008b                                                  ";
 
 }
@@ -38,6 +38,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 
 import com.actelion.research.chem.StereoMolecule;
 import com.actelion.research.chem.forcefield.AbstractForceField;
@@ -53,6 +54,12 @@ import com.actelion.research.chem.forcefield.AbstractForceField;
  * and whether a constant or a distance-dependent dielectric model should
  * be used (default: linear).
  *
+ * Topology: Atom typing, charge assignment and the parameterisation of
+ * energy terms only depend on the molecule and not on its coordinates.
+ * To calculate many conformers of the same molecule, an MMFFTopology can
+ * be created once and bound to every conformer, see
+ * ForceFieldMMFF94(MMFFTopology, StereoMolecule) and MMFFBatchMinimiser.
+ *
  * Tables: The Tables object contains a collection of parameter tables.
  * These are added statically to the ForceField class to allow all
  * ForceField instances to select which single instance of parameter
@@ -83,6 +90,13 @@ import com.actelion.research.chem.forcefield.AbstractForceField;
  *      torsional angle energy terms.
  *  - "van der waals": A boolean, default True, for whether to include the
  *      nonbonded van der Waals energy terms.
+ *  - "neighbour list": A boolean, default False, for whether the nonbonded
+ *      terms are taken from a NeighbourList, which is rebuilt from the
+ *      current positions whenever atoms moved too far. In this mode the
+ *      "nonbonded cutoff" defaults to 9.0 angstrom and applies to the
+ *      current rather than the initial atom distances.
+ *  - "neighbour skin": A double, the skin distance of the neighbour list
+ *      (default: 2.0 angstrom).
  */
 /**
  * @author joel
@@ -102,6 +116,7 @@ public final class ForceFieldMMFF94 extends AbstractForceField {
     private final MMFFMolecule mMMFFMol;
     public static Map<String, Tables> mTables = new HashMap<String, Tables>();
     private List<EnergyTerm> mEnergies = new ArrayList<EnergyTerm>();
+    private MMFFEvaluator mEvaluator;
 
     
     /**
@@ -119,51 +134,39 @@ public final class ForceFieldMMFF94 extends AbstractForceField {
     	super(m);
     	mMMFFMol = new com.actelion.research.chem.forcefield.mmff.MMFFMolecule(m);
     	mMol.ensureHelperArrays(StereoMolecule.cHelperRings);
-        Tables table = mTables.get(tablename);
-
-        double nonBondedThresh = options.containsKey("nonbonded cutoff")
-            ? ((Double)options.get("nonbonded cutoff")).doubleValue()
-            : 100.0;
-
-        double dielConst = options.containsKey("dielectric constant")
-            ? ((Double)options.get("dielectric constant")).doubleValue() : 1.0;
-
-        boolean dielModel = options.containsKey("dielectric model")
-            ? ((String)options.get("dielectric model")).equals("distance")
-            : false;
-
-
-
-        Separation sep = new Separation(mMMFFMol);
+        MMFFTopology topology = new MMFFTopology(mMMFFMol, tablename,
+                options, true);
+        mEnergies.addAll(topology.getEnergyTerms(mMMFFMol));
 
-        if (!options.containsKey("angle bend")
-                || (Boolean)options.get("angle bend"))
-            mEnergies.addAll(AngleBend.findIn(table, mMMFFMol));
-
-        if (!options.containsKey("bond stretch")
-                || (Boolean)options.get("bond stretch"))
-        	mEnergies.addAll(BondStretch.findIn(table, mMMFFMol));
-
-        if (!options.containsKey("electrostatic")
-                || (Boolean)options.get("electrostatic"))
-        	mEnergies.addAll(Electrostatic.findIn(table, mMMFFMol, sep,
-                        nonBondedThresh, dielModel, dielConst));
-
-        if (!options.containsKey("out of plane")
-                || (Boolean)options.get("out of plane"))
-        	mEnergies.addAll(OutOfPlane.findIn(table, mMMFFMol));
-
-        if (!options.containsKey("stretch bend")
-                || (Boolean)options.get("stretch bend"))
-        	mEnergies.addAll(StretchBend.findIn(table,mMMFFMol));
-
-        if (!options.containsKey("torsion angle")
-                || (Boolean)options.get("torsion angle"))
-        	mEnergies.addAll(TorsionAngle.findIn(table, mMMFFMol));
+        NeighbourList neighbourList = topology.createNeighbourList();
+        if (neighbourList != null)
+            mEnergies.add(neighbourList);
+    }
 
-        if (!options.containsKey("van der waals")
-                || (Boolean)options.get("van der waals"))
-        	mEnergies.addAll(VanDerWaals.findIn(table, mMMFFMol, sep, nonBondedThresh));
+    /**
+     * Forcefield constructor for one conformer of a molecule, whose
+     * topology was created before. This skips atom typing, charge
+     * assignment and the parameterisation of energy terms, such that
+     * force fields for many conformers can be created quickly. The
+     * conformer must have the same atoms in the same order as the molecule
+     * the topology was created from.
+     *  @param topology The topology of the molecule.
+     *  @param conformer The conformer to construct the forcefield on.
+     */
+    public ForceFieldMMFF94(MMFFTopology topology, StereoMolecule conformer) {
+        super(conformer);
+        mMol.ensureHelperArrays(StereoMolecule.cHelperRings);
+        topology.checkConformer(mMol);
+        mMMFFMol = topology.getMMFFMolecule();
+        mEnergies.addAll(topology.getEnergyTerms(mMol));
+
+        // The evaluator is shared, unless nonbonded terms were cut off.
+        if (mEnergies.size() == topology.getTermCount())
+            mEvaluator = topology.getEvaluator();
+
+        NeighbourList neighbourList = topology.createNeighbourList();
+        if (neighbourList != null)
+            addEnergyTerm(neighbourList);
     }
 
     /**
@@ -197,10 +200,8 @@ public final class ForceFieldMMFF94 extends AbstractForceField {
 
     @Override
     public double updateGradient() {
-        mGrad = new double[mDim];
-
-        for (EnergyTerm engy : mEnergies) 
-            engy.getGradient(mPos, mGrad);
+        Arrays.fill(mGrad, 0.0);
+        getEvaluator().addGradient(mPos, mGrad);
         double maxGrad = -1e8;
         double gradScale = 0.1;
         for (int i=0; i<mDim; i++) {
@@ -263,10 +264,36 @@ public final class ForceFieldMMFF94 extends AbstractForceField {
         
     
     public double getTotalEnergy(double[] pos) {
-        double total = 0.0;
-        for (EnergyTerm term : mEnergies)
-            total += term.getEnergy(pos);
-        return total;
+        return getEvaluator().getEnergy(pos);
+    }
+
+    /**
+     * Returns the energy contributions of the different kinds of energy
+     * terms. The keys are the names used for the options to include
+     * term types, e.g. "angle bend", and "other" for any other terms.
+     *  @param pos The positions array representing the atoms positions in
+     *      space.
+     *  @return Energies by name of the energy term type.
+     */
+    @Override
+    public Map<String, Double> getEnergyBreakdown(double[] pos) {
+        double[] energy = getEvaluator().getEnergies(pos);
+        Map<String, Double> breakdown = new LinkedHashMap<String, Double>();
+        for (int i=0; i<energy.length; i++)
+            breakdown.put(MMFFEvaluator.TERM_TYPE_NAME[i], energy[i]);
+        return breakdown;
+    }
+
+    /**
+     * Returns the evaluator, which packs the energy terms into flat arrays
+     * for fast energy and gradient calculations. It is created when first
+     * needed and recreated after energy terms were added.
+     *  @return The evaluator of all energy terms.
+     */
+    public MMFFEvaluator getEvaluator() {
+        if (mEvaluator == null)
+            mEvaluator = new MMFFEvaluator(mEnergies);
+        return mEvaluator;
     }
     
     
@@ -317,5 +344,6 @@ public final class ForceFieldMMFF94 extends AbstractForceField {
 	
 	public void addEnergyTerm(EnergyTerm term) {
 		mEnergies.add(term);
+		mEvaluator = null;
 	}
 }
\ No newline at end of file
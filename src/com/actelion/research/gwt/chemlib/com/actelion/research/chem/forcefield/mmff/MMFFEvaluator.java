@@ -0,0 +1,772 @@
+/*
+* Copyright (c) 1997 - 2016
+* Actelion Pharmaceuticals Ltd.
+* Gewerbestrasse 16
+* CH-4123 Allschwil, Switzerland
+*
+* All rights reserved.
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+* 3. Neither the name of the the copyright holder nor the
+*    names of its contributors may be used to endorse or promote products
+*    derived from this software without specific prior written permission.
+*
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+* ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+* WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+* ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+* (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+* LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+* ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+* (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+* SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*
+*/
+
+package com.actelion.research.chem.forcefield.mmff;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The MMFFEvaluator computes the total energy and gradient of a list of
+ * energy terms. Terms of the seven MMFF94 types are packed into flat
+ * arrays of atom indices and parameters per type and are evaluated in
+ * tight loops without allocating any objects. The arithmetic of every
+ * term type is the same as in its EnergyTerm implementation, such that
+ * energies and gradients agree with summing up the individual terms.
+ * Any other energy terms (e.g. a PositionConstraint) are evaluated
+ * through the EnergyTerm interface after the packed terms.
+ */
+public final class MMFFEvaluator {
+    /**
+     * Names of the energy term types in the order of getEnergies(). The
+     * names match the ForceFieldMMFF94 options for including term types.
+     */
+    public static final String[] TERM_TYPE_NAME = { "angle bend",
+        "bond stretch", "electrostatic", "out of plane", "stretch bend",
+        "torsion angle", "van der waals", "other" };
+
+    private static final double BOND_C1 = 143.9325;
+    private static final double BOND_CS = -2.0;
+    private static final double BOND_C3 = 7.0 / 12.0;
+    private static final double ANGLE_CB = -0.006981317;
+
+    private final int[] mAngleAtom;
+    private final double[] mAngleKa;
+    private final double[] mAngleTheta0;
+    private final boolean[] mAngleIsLinear;
+
+    private final int[] mBondAtom;
+    private final double[] mBondKb;
+    private final double[] mBondR0;
+
+    private final int[] mOopAtom;
+    private final double[] mOopKoop;
+
+    private final int[] mStbnAtom;
+    private final double[] mStbnTheta0;
+    private final double[] mStbnKbaIJK;
+    private final double[] mStbnKbaKJI;
+    private final double[] mStbnR0i;
+    private final double[] mStbnR0k;
+
+    private final int[] mTorsionAtom;
+    private final double[] mTorsionV1;
+    private final double[] mTorsionV2;
+    private final double[] mTorsionV3;
+
+    private final NonbondedTerms mNonbonded;
+
+    private final EnergyTerm[] mOtherTerms;
+
+    /**
+     * Packs the given energy terms. Terms, which are added to the list
+     * later, are not considered.
+     *  @param terms The energy terms of a force field.
+     */
+    public MMFFEvaluator(List<EnergyTerm> terms) {
+        List<AngleBend> angles = new ArrayList<AngleBend>();
+        List<BondStretch> bonds = new ArrayList<BondStretch>();
+        List<Electrostatic> eles = new ArrayList<Electrostatic>();
+        List<OutOfPlane> oops = new ArrayList<OutOfPlane>();
+        List<StretchBend> stbns = new ArrayList<StretchBend>();
+        List<TorsionAngle> torsions = new ArrayList<TorsionAngle>();
+        List<VanDerWaals> vdws = new ArrayList<VanDerWaals>();
+        List<EnergyTerm> others = new ArrayList<EnergyTerm>();
+
+        // exact class comparison, because subclasses may override the
+        // energy or gradient
+        for (EnergyTerm term : terms) {
+            if (term.getClass() == AngleBend.class)
+                angles.add((AngleBend)term);
+            else if (term.getClass() == BondStretch.class)
+                bonds.add((BondStretch)term);
+            else if (term.getClass() == Electrostatic.class)
+                eles.add((Electrostatic)term);
+            else if (term.getClass() == OutOfPlane.class)
+                oops.add((OutOfPlane)term);
+            else if (term.getClass() == StretchBend.class)
+                stbns.add((StretchBend)term);
+            else if (term.getClass() == TorsionAngle.class)
+                torsions.add((TorsionAngle)term);
+            else if (term.getClass() == VanDerWaals.class)
+                vdws.add((VanDerWaals)term);
+            else
+                others.add(term);
+        }
+
+        mAngleAtom = new int[3*angles.size()];
+        mAngleKa = new double[angles.size()];
+        mAngleTheta0 = new double[angles.size()];
+        mAngleIsLinear = new boolean[angles.size()];
+        for (int i=0; i<angles.size(); i++) {
+            AngleBend term = angles.get(i);
+            mAngleAtom[3*i    ] = term.a1;
+            mAngleAtom[3*i + 1] = term.a2;
+            mAngleAtom[3*i + 2] = term.a3;
+            mAngleKa[i] = term.ka;
+            mAngleTheta0[i] = term.theta0;
+            mAngleIsLinear[i] = term.isLinear;
+        }
+
+        mBondAtom = new int[2*bonds.size()];
+        mBondKb = new double[bonds.size()];
+        mBondR0 = new double[bonds.size()];
+        for (int i=0; i<bonds.size(); i++) {
+            BondStretch term = bonds.get(i);
+            mBondAtom[2*i    ] = term.a1;
+            mBondAtom[2*i + 1] = term.a2;
+            mBondKb[i] = term.kb;
+            mBondR0[i] = term.r0;
+        }
+
+        mNonbonded = new NonbondedTerms();
+        for (Electrostatic term : eles)
+            mNonbonded.addElectrostatic(term.a1, term.a2, term.charge_term,
+                    (term.rel == Separation.Relation.ONE_FOUR ? 0.75 : 1.0),
+                    term.distModel);
+        for (VanDerWaals term : vdws)
+            mNonbonded.addVanDerWaals(term.a1, term.a2, term.rstar_ij,
+                    term.well_depth);
+
+        mOopAtom = new int[4*oops.size()];
+        mOopKoop = new double[oops.size()];
+        for (int i=0; i<oops.size(); i++) {
+            OutOfPlane term = oops.get(i);
+            mOopAtom[4*i    ] = term.ac;
+            mOopAtom[4*i + 1] = term.a1;
+            mOopAtom[4*i + 2] = term.a2;
+            mOopAtom[4*i + 3] = term.a3;
+            mOopKoop[i] = term.koop;
+        }
+
+        mStbnAtom = new int[3*stbns.size()];
+        mStbnTheta0 = new double[stbns.size()];
+        mStbnKbaIJK = new double[stbns.size()];
+        mStbnKbaKJI = new double[stbns.size()];
+        mStbnR0i = new double[stbns.size()];
+        mStbnR0k = new double[stbns.size()];
+        for (int i=0; i<stbns.size(); i++) {
+            StretchBend term = stbns.get(i);
+            mStbnAtom[3*i    ] = term.a1;
+            mStbnAtom[3*i + 1] = term.a2;
+            mStbnAtom[3*i + 2] = term.a3;
+            mStbnTheta0[i] = term.theta0;
+            mStbnKbaIJK[i] = term.kba_ijk;
+            mStbnKbaKJI[i] = term.kba_kji;
+            mStbnR0i[i] = term.r0i;
+            mStbnR0k[i] = term.r0k;
+        }
+
+        mTorsionAtom = new int[4*torsions.size()];
+        mTorsionV1 = new double[torsions.size()];
+        mTorsionV2 = new double[torsions.size()];
+        mTorsionV3 = new double[torsions.size()];
+        for (int i=0; i<torsions.size(); i++) {
+            TorsionAngle term = torsions.get(i);
+            mTorsionAtom[4*i    ] = term.a1;
+            mTorsionAtom[4*i + 1] = term.a2;
+            mTorsionAtom[4*i + 2] = term.a3;
+            mTorsionAtom[4*i + 3] = term.a4;
+            mTorsionV1[i] = term.v1;
+            mTorsionV2[i] = term.v2;
+            mTorsionV3[i] = term.v3;
+        }
+
+        mOtherTerms = others.toArray(new EnergyTerm[others.size()]);
+    }
+
+    /**
+     * Returns the number of packed energy terms plus the number of other
+     * energy terms.
+     *  @return The number of energy terms.
+     */
+    public int getTermCount() {
+        return mAngleKa.length + mBondKb.length
+             + mNonbonded.getElectrostaticCount() + mOopKoop.length
+             + mStbnTheta0.length + mTorsionV1.length
+             + mNonbonded.getVanDerWaalsCount() + mOtherTerms.length;
+    }
+
+    /**
+     * Calculates the total energy of all energy terms.
+     *  @param pos The atoms current positions array.
+     *  @return The total energy.
+     */
+    public double getEnergy(double[] pos) {
+        double total = 0.0;
+        total = addAngleBendEnergies(pos, total);
+        total = addBondStretchEnergies(pos, total);
+        total = mNonbonded.addElectrostaticEnergies(pos, total);
+        total = addOutOfPlaneEnergies(pos, total);
+        total = addStretchBendEnergies(pos, total);
+        total = addTorsionAngleEnergies(pos, total);
+        total = mNonbonded.addVanDerWaalsEnergies(pos, total);
+        for (EnergyTerm term : mOtherTerms)
+            total += term.getEnergy(pos);
+        return total;
+    }
+
+    /**
+     * Calculates the energies of all energy terms per term type. The
+     * electrostatic and van der Waals energies include those of a
+     * NeighbourList.
+     *  @param pos The atoms current positions array.
+     *  @return The energies in the order of TERM_TYPE_NAME.
+     */
+    public double[] getEnergies(double[] pos) {
+        double[] energy = new double[TERM_TYPE_NAME.length];
+        energy[0] = addAngleBendEnergies(pos, 0.0);
+        energy[1] = addBondStretchEnergies(pos, 0.0);
+        energy[2] = mNonbonded.addElectrostaticEnergies(pos, 0.0);
+        energy[3] = addOutOfPlaneEnergies(pos, 0.0);
+        energy[4] = addStretchBendEnergies(pos, 0.0);
+        energy[5] = addTorsionAngleEnergies(pos, 0.0);
+        energy[6] = mNonbonded.addVanDerWaalsEnergies(pos, 0.0);
+        for (EnergyTerm term : mOtherTerms) {
+            if (term instanceof NeighbourList) {
+                NeighbourList list = (NeighbourList)term;
+                energy[2] += list.getElectrostaticEnergy(pos);
+                energy[6] += list.getVanDerWaalsEnergy(pos);
+            } else {
+                energy[7] += term.getEnergy(pos);
+            }
+        }
+        return energy;
+    }
+
+    /**
+     * Calculates the gradients of all energy terms and adds them to the
+     * gradients array. The array is not cleared before.
+     *  @param pos The atoms current positions array.
+     *  @param grad the atoms current gradients array.
+     */
+    public void addGradient(double[] pos, double[] grad) {
+        addAngleBendGradients(pos, grad);
+        addBondStretchGradients(pos, grad);
+        mNonbonded.addElectrostaticGradients(pos, grad);
+        addOutOfPlaneGradients(pos, grad);
+        addStretchBendGradients(pos, grad);
+        addTorsionAngleGradients(pos, grad);
+        mNonbonded.addVanDerWaalsGradients(pos, grad);
+        for (EnergyTerm term : mOtherTerms)
+            term.getGradient(pos, grad);
+    }
+
+    private double addAngleBendEnergies(double[] pos, double total) {
+        final double c2 = Constants.MDYNE_A_TO_KCAL_MOL * Constants.DEG2RAD
+            * Constants.DEG2RAD;
+        for (int t=0; t<mAngleKa.length; t++) {
+            final int p1 = 3*mAngleAtom[3*t];
+            final int p2 = 3*mAngleAtom[3*t + 1];
+            final int p3 = 3*mAngleAtom[3*t + 2];
+            final double ka = mAngleKa[t];
+
+            final double x1 = pos[p1] - pos[p2];
+            final double y1 = pos[p1 + 1] - pos[p2 + 1];
+            final double z1 = pos[p1 + 2] - pos[p2 + 2];
+            final double x3 = pos[p3] - pos[p2];
+            final double y3 = pos[p3 + 1] - pos[p2 + 1];
+            final double z3 = pos[p3 + 2] - pos[p2 + 2];
+            final double theta = Math.acos((x1*x3 + y1*y3 + z1*z3)
+                / (Math.sqrt(x1*x1 + y1*y1 + z1*z1)
+                 * Math.sqrt(x3*x3 + y3*y3 + z3*z3)));
+
+            if (mAngleIsLinear[t]) {
+                total += Constants.MDYNE_A_TO_KCAL_MOL*ka*(1.0 + Math.cos(theta));
+            }
+            else {
+                final double angle = Math.toDegrees(theta) - mAngleTheta0[t];
+                total += 0.5*c2*ka*angle*angle*(1.0 + ANGLE_CB*angle);
+            }
+        }
+        return total;
+    }
+
+    private void addAngleBendGradients(double[] pos, double[] grad) {
+        final double c2 = Constants.MDYNE_A_TO_KCAL_MOL * Constants.DEG2RAD
+            * Constants.DEG2RAD;
+        for (int t=0; t<mAngleKa.length; t++) {
+            final int p1 = 3*mAngleAtom[3*t];
+            final int p2 = 3*mAngleAtom[3*t + 1];
+            final int p3 = 3*mAngleAtom[3*t + 2];
+            final double ka = mAngleKa[t];
+
+            final double x0 = pos[p1] - pos[p2];
+            final double y0 = pos[p1 + 1] - pos[p2 + 1];
+            final double z0 = pos[p1 + 2] - pos[p2 + 2];
+            final double x1 = pos[p3] - pos[p2];
+            final double y1 = pos[p3 + 1] - pos[p2 + 1];
+            final double z1 = pos[p3 + 2] - pos[p2 + 2];
+            final double dist0 = Math.sqrt(x0*x0 + y0*y0 + z0*z0);
+            final double dist1 = Math.sqrt(x1*x1 + y1*y1 + z1*z1);
+
+            double r0x = 0.0, r0y = 0.0, r0z = 0.0;
+            if (dist0 > 0.0) {
+                r0x = x0/dist0;
+                r0y = y0/dist0;
+                r0z = z0/dist0;
+            }
+            double r1x = 0.0, r1y = 0.0, r1z = 0.0;
+            if (dist1 > 0.0) {
+                r1x = x1/dist1;
+                r1y = y1/dist1;
+                r1z = z1/dist1;
+            }
+
+            final double cosTheta = (r0x*r1x + r0y*r1y + r0z*r1z)
+                / (Math.sqrt(r0x*r0x + r0y*r0y + r0z*r0z)
+                 * Math.sqrt(r1x*r1x + r1y*r1y + r1z*r1z));
+
+            final double sinThetaSq = 1.0 - cosTheta*cosTheta;
+            double sinTheta = 1.0e-8;
+            if (sinThetaSq > 0.0)
+                sinTheta = Math.sqrt(sinThetaSq);
+
+            final double angleTerm = Constants.RAD2DEG * Math.acos(cosTheta) - mAngleTheta0[t];
+
+            double dE_dTheta = Constants.RAD2DEG*c2*ka*angleTerm
+                * (1.0 + 1.5*ANGLE_CB*angleTerm);
+            if (mAngleIsLinear[t])
+                dE_dTheta = -Constants.MDYNE_A_TO_KCAL_MOL * ka * sinTheta;
+
+            final double dCos_dS0 = 1.0/dist0*(r1x - cosTheta*r0x);
+            final double dCos_dS1 = 1.0/dist0*(r1y - cosTheta*r0y);
+            final double dCos_dS2 = 1.0/dist0*(r1z - cosTheta*r0z);
+            final double dCos_dS3 = 1.0/dist1*(r0x - cosTheta*r1x);
+            final double dCos_dS4 = 1.0/dist1*(r0y - cosTheta*r1y);
+            final double dCos_dS5 = 1.0/dist1*(r0z - cosTheta*r1z);
+
+            grad[p1    ] += dE_dTheta*dCos_dS0/(-sinTheta);
+            grad[p1 + 1] += dE_dTheta*dCos_dS1/(-sinTheta);
+            grad[p1 + 2] += dE_dTheta*dCos_dS2/(-sinTheta);
+
+            grad[p2    ] += dE_dTheta*(-dCos_dS0 - dCos_dS3)/(-sinTheta);
+            grad[p2 + 1] += dE_dTheta*(-dCos_dS1 - dCos_dS4)/(-sinTheta);
+            grad[p2 + 2] += dE_dTheta*(-dCos_dS2 - dCos_dS5)/(-sinTheta);
+
+            grad[p3    ] += dE_dTheta*dCos_dS3/(-sinTheta);
+            grad[p3 + 1] += dE_dTheta*dCos_dS4/(-sinTheta);
+            grad[p3 + 2] += dE_dTheta*dCos_dS5/(-sinTheta);
+        }
+    }
+
+    private double addBondStretchEnergies(double[] pos, double total) {
+        for (int t=0; t<mBondKb.length; t++) {
+            final int p1 = 3*mBondAtom[2*t];
+            final int p2 = 3*mBondAtom[2*t + 1];
+            final double dx = pos[p1] - pos[p2];
+            final double dy = pos[p1 + 1] - pos[p2 + 1];
+            final double dz = pos[p1 + 2] - pos[p2 + 2];
+            final double dist = Math.sqrt(dx*dx + dy*dy + dz*dz);
+            final double r0 = mBondR0[t];
+            final double diff = (dist - r0)*(dist - r0);
+            total += 0.5*BOND_C1*mBondKb[t]*diff
+                * (1.0 + BOND_CS*(dist - r0) + BOND_C3*BOND_CS*BOND_CS*diff);
+        }
+        return total;
+    }
+
+    private void addBondStretchGradients(double[] pos, double[] grad) {
+        for (int t=0; t<mBondKb.length; t++) {
+            final int p1 = 3*mBondAtom[2*t];
+            final int p2 = 3*mBondAtom[2*t + 1];
+            final double dx = pos[p1] - pos[p2];
+            final double dy = pos[p1 + 1] - pos[p2 + 1];
+            final double dz = pos[p1 + 2] - pos[p2 + 2];
+            final double dist = Math.sqrt(dx*dx + dy*dy + dz*dz);
+
+            if (dist > 0.0) {
+                final double distTerm = dist - mBondR0[t];
+                final double dE_dr = Constants.MDYNE_A_TO_KCAL_MOL*mBondKb[t]*distTerm
+                    * (1.0 + 1.5*BOND_CS*distTerm
+                    + 2.0*BOND_C3*BOND_CS*BOND_CS*distTerm*distTerm);
+                for (int i=0; i<3; i++) {
+                    grad[p1 + i] += dE_dr*(pos[p1 + i] - pos[p2 + i])/dist;
+                    grad[p2 + i] -= dE_dr*(pos[p1 + i] - pos[p2 + i])/dist;
+                }
+            }
+        }
+    }
+
+    private double addOutOfPlaneEnergies(double[] pos, double total) {
+        final double c2 = Constants.MDYNE_A_TO_KCAL_MOL * Constants.DEG2RAD
+            * Constants.DEG2RAD;
+        for (int t=0; t<mOopKoop.length; t++) {
+            final int pc = 3*mOopAtom[4*t];
+            final int p1 = 3*mOopAtom[4*t + 1];
+            final int p2 = 3*mOopAtom[4*t + 2];
+            final int p3 = 3*mOopAtom[4*t + 3];
+
+            double jix = pos[p1] - pos[pc];
+            double jiy = pos[p1 + 1] - pos[pc + 1];
+            double jiz = pos[p1 + 2] - pos[pc + 2];
+            double len = Math.sqrt(jix*jix + jiy*jiy + jiz*jiz);
+            if (len > 0.0) { jix /= len; jiy /= len; jiz /= len; }
+            else { jix = 0.0; jiy = 0.0; jiz = 0.0; }
+
+            double jkx = pos[p2] - pos[pc];
+            double jky = pos[p2 + 1] - pos[pc + 1];
+            double jkz = pos[p2 + 2] - pos[pc + 2];
+            len = Math.sqrt(jkx*jkx + jky*jky + jkz*jkz);
+            if (len > 0.0) { jkx /= len; jky /= len; jkz /= len; }
+            else { jkx = 0.0; jky = 0.0; jkz = 0.0; }
+
+            double jlx = pos[p3] - pos[pc];
+            double jly = pos[p3 + 1] - pos[pc + 1];
+            double jlz = pos[p3 + 2] - pos[pc + 2];
+            len = Math.sqrt(jlx*jlx + jly*jly + jlz*jlz);
+            if (len > 0.0) { jlx /= len; jly /= len; jlz /= len; }
+            else { jlx = 0.0; jly = 0.0; jlz = 0.0; }
+
+            double nx = jiy*jkz - jiz*jky;
+            double ny = jiz*jkx - jix*jkz;
+            double nz = jix*jky - jiy*jkx;
+            len = Math.sqrt(nx*nx + ny*ny + nz*nz);
+            if (len > 0.0) { nx /= len; ny /= len; nz /= len; }
+            else { nx = 0.0; ny = 0.0; nz = 0.0; }
+
+            final double chi = Constants.RAD2DEG * Math.asin(nx*jlx + ny*jly + nz*jlz);
+            total += 0.5 * c2 * mOopKoop[t] * chi * chi;
+        }
+        return total;
+    }
+
+    private void addOutOfPlaneGradients(double[] pos, double[] grad) {
+        final double c2 = Constants.MDYNE_A_TO_KCAL_MOL * Constants.DEG2RAD
+            * Constants.DEG2RAD;
+        for (int t=0; t<mOopKoop.length; t++) {
+            final int pc = 3*mOopAtom[4*t];
+            final int p1 = 3*mOopAtom[4*t + 1];
+            final int p2 = 3*mOopAtom[4*t + 2];
+            final int p3 = 3*mOopAtom[4*t + 3];
+
+            double jix = pos[p1] - pos[pc];
+            double jiy = pos[p1 + 1] - pos[pc + 1];
+            double jiz = pos[p1 + 2] - pos[pc + 2];
+            final double dji = Math.sqrt(jix*jix + jiy*jiy + jiz*jiz);
+            if (dji > 0.0) { jix /= dji; jiy /= dji; jiz /= dji; }
+            else { jix = 0.0; jiy = 0.0; jiz = 0.0; }
+
+            double jkx = pos[p2] - pos[pc];
+            double jky = pos[p2 + 1] - pos[pc + 1];
+            double jkz = pos[p2 + 2] - pos[pc + 2];
+            final double djk = Math.sqrt(jkx*jkx + jky*jky + jkz*jkz);
+            if (djk > 0.0) { jkx /= djk; jky /= djk; jkz /= djk; }
+            else { jkx = 0.0; jky = 0.0; jkz = 0.0; }
+
+            double jlx = pos[p3] - pos[pc];
+            double jly = pos[p3 + 1] - pos[pc + 1];
+            double jlz = pos[p3 + 2] - pos[pc + 2];
+            final double djl = Math.sqrt(jlx*jlx + jly*jly + jlz*jlz);
+            if (djl > 0.0) { jlx /= djl; jly /= djl; jlz /= djl; }
+            else { jlx = 0.0; jly = 0.0; jlz = 0.0; }
+
+            // n = -rji x rjk
+            double nx = (-jiy)*jkz - (-jiz)*jky;
+            double ny = (-jiz)*jkx - (-jix)*jkz;
+            double nz = (-jix)*jky - (-jiy)*jkx;
+            final double len = Math.sqrt(nx*nx + ny*ny + nz*nz);
+            if (len > 0.0) { nx /= len; ny /= len; nz /= len; }
+            else { nx = 0.0; ny = 0.0; nz = 0.0; }
+
+            final double sinChi = jlx*nx + jly*ny + jlz*nz;
+            final double cosChiSq = 1.0 - sinChi*sinChi;
+            final double cosChi = Math.max(cosChiSq > 0.0
+                    ? Math.sqrt(cosChiSq) : 0.0, 1.0e-8);
+            final double chi = Constants.RAD2DEG * Math.asin(sinChi);
+            final double cosTheta = jix*jkx + jiy*jky + jiz*jkz;
+            final double sinThetaSq = Math.max(1.0 - cosTheta * cosTheta, 1.0e-8);
+            final double sinTheta = Math.max(sinThetaSq > 0.0
+                    ? Math.sqrt(sinThetaSq) : 0.0, 1.0e-8);
+            final double dE_dChi = Constants.RAD2DEG * c2 * mOopKoop[t] * chi;
+
+            // t1 = rjl x rjk, t2 = rji x rjl, t3 = rjk x rji
+            final double t1x = jly*jkz - jlz*jky;
+            final double t1y = jlz*jkx - jlx*jkz;
+            final double t1z = jlx*jky - jly*jkx;
+            final double t2x = jiy*jlz - jiz*jly;
+            final double t2y = jiz*jlx - jix*jlz;
+            final double t2z = jix*jly - jiy*jlx;
+            final double t3x = jky*jiz - jkz*jiy;
+            final double t3y = jkz*jix - jkx*jiz;
+            final double t3z = jkx*jiy - jky*jix;
+
+            final double term1 = cosChi * sinTheta;
+            final double term2 = sinChi / (cosChi * sinThetaSq);
+
+            final double tg1x = (t1x/term1 - (jix - jkx*cosTheta) * term2) / dji;
+            final double tg1y = (t1y/term1 - (jiy - jky*cosTheta) * term2) / dji;
+            final double tg1z = (t1z/term1 - (jiz - jkz*cosTheta) * term2) / dji;
+            final double tg3x = (t2x/term1 - (jkx - jix*cosTheta) * term2) / djk;
+            final double tg3y = (t2y/term1 - (jky - jiy*cosTheta) * term2) / djk;
+            final double tg3z = (t2z/term1 - (jkz - jiz*cosTheta) * term2) / djk;
+            final double tg4x = (t3x/term1 - jlx*sinChi/cosChi) / djl;
+            final double tg4y = (t3y/term1 - jly*sinChi/cosChi) / djl;
+            final double tg4z = (t3z/term1 - jlz*sinChi/cosChi) / djl;
+
+            grad[p1    ] +=  dE_dChi *  tg1x;
+            grad[p1 + 1] +=  dE_dChi *  tg1y;
+            grad[p1 + 2] +=  dE_dChi *  tg1z;
+            grad[pc    ] += -dE_dChi * (tg1x + tg3x + tg4x);
+            grad[pc + 1] += -dE_dChi * (tg1y + tg3y + tg4y);
+            grad[pc + 2] += -dE_dChi * (tg1z + tg3z + tg4z);
+            grad[p2    ] +=  dE_dChi *  tg3x;
+            grad[p2 + 1] +=  dE_dChi *  tg3y;
+            grad[p2 + 2] +=  dE_dChi *  tg3z;
+            grad[p3    ] +=  dE_dChi *  tg4x;
+            grad[p3 + 1] +=  dE_dChi *  tg4y;
+            grad[p3 + 2] +=  dE_dChi *  tg4z;
+        }
+    }
+
+    private double addStretchBendEnergies(double[] pos, double total) {
+        for (int t=0; t<mStbnTheta0.length; t++) {
+            final int p1 = 3*mStbnAtom[3*t];
+            final int p2 = 3*mStbnAtom[3*t + 1];
+            final int p3 = 3*mStbnAtom[3*t + 2];
+
+            final double x1 = pos[p1] - pos[p2];
+            final double y1 = pos[p1 + 1] - pos[p2 + 1];
+            final double z1 = pos[p1 + 2] - pos[p2 + 2];
+            final double x3 = pos[p3] - pos[p2];
+            final double y3 = pos[p3 + 1] - pos[p2 + 1];
+            final double z3 = pos[p3 + 2] - pos[p2 + 2];
+            final double dist1 = Math.sqrt(x1*x1 + y1*y1 + z1*z1);
+            final double dist2 = Math.sqrt(x3*x3 + y3*y3 + z3*z3);
+            final double theta = Math.acos((x1*x3 + y1*y3 + z1*z3) / (dist1 * dist2));
+            final double factor = Constants.MDYNE_A_TO_KCAL_MOL * Constants.DEG2RAD
+                * (Math.toDegrees(theta) - mStbnTheta0[t]);
+
+            total += factor*(dist1 - mStbnR0i[t])*mStbnKbaIJK[t]
+                   + factor*(dist2 - mStbnR0k[t])*mStbnKbaKJI[t];
+        }
+        return total;
+    }
+
+    private void addStretchBendGradients(double[] pos, double[] grad) {
+        final double c5 = Constants.MDYNE_A_TO_KCAL_MOL * Constants.DEG2RAD;
+        for (int t=0; t<mStbnTheta0.length; t++) {
+            final int p1 = 3*mStbnAtom[3*t];
+            final int p2 = 3*mStbnAtom[3*t + 1];
+            final int p3 = 3*mStbnAtom[3*t + 2];
+            final double kba_ijk = mStbnKbaIJK[t];
+            final double kba_kji = mStbnKbaKJI[t];
+
+            double x12 = pos[p1] - pos[p2];
+            double y12 = pos[p1 + 1] - pos[p2 + 1];
+            double z12 = pos[p1 + 2] - pos[p2 + 2];
+            double x32 = pos[p3] - pos[p2];
+            double y32 = pos[p3 + 1] - pos[p2 + 1];
+            double z32 = pos[p3 + 2] - pos[p2 + 2];
+            final double dist1 = Math.sqrt(x12*x12 + y12*y12 + z12*z12);
+            final double dist2 = Math.sqrt(x32*x32 + y32*y32 + z32*z32);
+            if (dist1 > 0.0) { x12 /= dist1; y12 /= dist1; z12 /= dist1; }
+            else { x12 = 0.0; y12 = 0.0; z12 = 0.0; }
+            if (dist2 > 0.0) { x32 /= dist2; y32 /= dist2; z32 /= dist2; }
+            else { x32 = 0.0; y32 = 0.0; z32 = 0.0; }
+
+            final double cosTheta = x12*x32 + y12*y32 + z12*z32;
+            final double sinThetaSq = 1.0 - cosTheta*cosTheta;
+            final double sinTheta = Math.max(sinThetaSq > 0.0
+                    ? Math.sqrt(sinThetaSq) : 0.0, 1.0e-8);
+            final double angleTerm = Constants.RAD2DEG * Math.acos(cosTheta) - mStbnTheta0[t];
+            final double distTerm = Constants.RAD2DEG
+                    * (kba_ijk * (dist1 - mStbnR0i[t])
+                    +  kba_kji * (dist2 - mStbnR0k[t]));
+
+            final double dCos_dS1 = 1.0 / dist1 * (x32 - cosTheta * x12);
+            final double dCos_dS2 = 1.0 / dist1 * (y32 - cosTheta * y12);
+            final double dCos_dS3 = 1.0 / dist1 * (z32 - cosTheta * z12);
+
+            final double dCos_dS4 = 1.0 / dist2 * (x12 - cosTheta * x32);
+            final double dCos_dS5 = 1.0 / dist2 * (y12 - cosTheta * y32);
+            final double dCos_dS6 = 1.0 / dist2 * (z12 - cosTheta * z32);
+
+            grad[p1    ] += c5 * (x12 * kba_ijk
+                * angleTerm + dCos_dS1 / (-sinTheta) * distTerm);
+            grad[p1 + 1] += c5 * (y12 * kba_ijk
+                * angleTerm + dCos_dS2 / (-sinTheta) * distTerm);
+            grad[p1 + 2] += c5 * (z12 * kba_ijk
+                * angleTerm + dCos_dS3 / (-sinTheta) * distTerm);
+
+            grad[p2    ] += c5 * ((-x12 * kba_ijk
+                - x32 * kba_kji) * angleTerm
+                + (-dCos_dS1 - dCos_dS4) / (-sinTheta) * distTerm);
+            grad[p2 + 1] += c5 * ((-y12 * kba_ijk
+                - y32 * kba_kji) * angleTerm
+                + (-dCos_dS2 - dCos_dS5) / (-sinTheta) * distTerm);
+            grad[p2 + 2] += c5 * ((-z12 * kba_ijk
+                - z32 * kba_kji) * angleTerm
+                + (-dCos_dS3 - dCos_dS6) / (-sinTheta) * distTerm);
+
+            grad[p3    ] += c5 * (x32 * kba_kji
+                * angleTerm + dCos_dS4 / (-sinTheta) * distTerm);
+            grad[p3 + 1] += c5 * (y32 * kba_kji
+                * angleTerm + dCos_dS5 / (-sinTheta) * distTerm);
+            grad[p3 + 2] += c5 * (z32 * kba_kji
+                * angleTerm + dCos_dS6 / (-sinTheta) * distTerm);
+        }
+    }
+
+    private double addTorsionAngleEnergies(double[] pos, double total) {
+        for (int t=0; t<mTorsionV1.length; t++) {
+            final int p1 = 3*mTorsionAtom[4*t];
+            final int p2 = 3*mTorsionAtom[4*t + 1];
+            final int p3 = 3*mTorsionAtom[4*t + 2];
+            final int p4 = 3*mTorsionAtom[4*t + 3];
+
+            // r1 = p2-p1, r2 = p2-p3, r3 = p3-p2, r4 = p3-p4
+            final double r1x = pos[p2] - pos[p1];
+            final double r1y = pos[p2 + 1] - pos[p1 + 1];
+            final double r1z = pos[p2 + 2] - pos[p1 + 2];
+            final double r2x = pos[p2] - pos[p3];
+            final double r2y = pos[p2 + 1] - pos[p3 + 1];
+            final double r2z = pos[p2 + 2] - pos[p3 + 2];
+            final double r3x = pos[p3] - pos[p2];
+            final double r3y = pos[p3 + 1] - pos[p2 + 1];
+            final double r3z = pos[p3 + 2] - pos[p2 + 2];
+            final double r4x = pos[p3] - pos[p4];
+            final double r4y = pos[p3 + 1] - pos[p4 + 1];
+            final double r4z = pos[p3 + 2] - pos[p4 + 2];
+
+            final double t1x = r1y*r2z - r1z*r2y;
+            final double t1y = r1z*r2x - r1x*r2z;
+            final double t1z = r1x*r2y - r1y*r2x;
+            final double t2x = r3y*r4z - r3z*r4y;
+            final double t2y = r3z*r4x - r3x*r4z;
+            final double t2z = r3x*r4y - r3y*r4x;
+            final double cosPhi = (t1x*t2x + t1y*t2y + t1z*t2z)
+                / (Math.sqrt(t1x*t1x + t1y*t1y + t1z*t1z)
+                 * Math.sqrt(t2x*t2x + t2y*t2y + t2z*t2z));
+
+            final double cos2Phi = 2.0 * cosPhi * cosPhi - 1.0;
+            final double cos3Phi = cosPhi * (2.0 * cos2Phi - 1.0);
+
+            total += 0.5 * (mTorsionV1[t]*(1.0 + cosPhi)
+                          + mTorsionV2[t]*(1.0 - cos2Phi)
+                          + mTorsionV3[t]*(1.0 + cos3Phi));
+        }
+        return total;
+    }
+
+    private void addTorsionAngleGradients(double[] pos, double[] grad) {
+        for (int t=0; t<mTorsionV1.length; t++) {
+            final int p1 = 3*mTorsionAtom[4*t];
+            final int p2 = 3*mTorsionAtom[4*t + 1];
+            final int p3 = 3*mTorsionAtom[4*t + 2];
+            final int p4 = 3*mTorsionAtom[4*t + 3];
+
+            // r0 = p1-p2, r1 = p3-p2, r2 = p2-p3, r3 = p4-p3
+            final double r0x = pos[p1] - pos[p2];
+            final double r0y = pos[p1 + 1] - pos[p2 + 1];
+            final double r0z = pos[p1 + 2] - pos[p2 + 2];
+            final double r1x = pos[p3] - pos[p2];
+            final double r1y = pos[p3 + 1] - pos[p2 + 1];
+            final double r1z = pos[p3 + 2] - pos[p2 + 2];
+            final double r2x = pos[p2] - pos[p3];
+            final double r2y = pos[p2 + 1] - pos[p3 + 1];
+            final double r2z = pos[p2 + 2] - pos[p3 + 2];
+            final double r3x = pos[p4] - pos[p3];
+            final double r3y = pos[p4 + 1] - pos[p3 + 1];
+            final double r3z = pos[p4 + 2] - pos[p3 + 2];
+
+            double t0x = r0y*r1z - r0z*r1y;
+            double t0y = r0z*r1x - r0x*r1z;
+            double t0z = r0x*r1y - r0y*r1x;
+            double t1x = r2y*r3z - r2z*r3y;
+            double t1y = r2z*r3x - r2x*r3z;
+            double t1z = r2x*r3y - r2y*r3x;
+
+            final double d0 = Math.sqrt(t0x*t0x + t0y*t0y + t0z*t0z);
+            final double d1 = Math.sqrt(t1x*t1x + t1y*t1y + t1z*t1z);
+
+            if (Math.abs(d0) < 0.00001 || Math.abs(d1) < 0.00001)
+                continue;
+
+            t0x /= d0; t0y /= d0; t0z /= d0;
+            t1x /= d1; t1y /= d1; t1z /= d1;
+
+            final double cosPhi = t0x*t1x + t0y*t1y + t0z*t1z;
+            final double sinPhiSq = 1.0 - cosPhi * cosPhi;
+            final double sinPhi = ((sinPhiSq > 0.0) ? Math.sqrt(sinPhiSq) : 0.0);
+            final double sin2Phi = 2.0 * sinPhi * cosPhi;
+            final double sin3Phi = 3.0 * sinPhi - 4.0 * sinPhi * sinPhiSq;
+            final double dE_dPhi = 0.5 * (-(mTorsionV1[t]) * sinPhi
+                    + 2.0 * mTorsionV2[t] * sin2Phi
+                    - 3.0 * mTorsionV3[t] * sin3Phi);
+            final double sinTerm = -dE_dPhi * (Math.abs(sinPhi) < 0.00001
+                    ? (1.0 / cosPhi) : (1.0 / sinPhi));
+
+            final double dCos_dT0 = 1.0 / d0 * (t1x - cosPhi * t0x);
+            final double dCos_dT1 = 1.0 / d0 * (t1y - cosPhi * t0y);
+            final double dCos_dT2 = 1.0 / d0 * (t1z - cosPhi * t0z);
+            final double dCos_dT3 = 1.0 / d1 * (t0x - cosPhi * t1x);
+            final double dCos_dT4 = 1.0 / d1 * (t0y - cosPhi * t1y);
+            final double dCos_dT5 = 1.0 / d1 * (t0z - cosPhi * t1z);
+
+            grad[p1    ] += sinTerm * (dCos_dT2 * r1y - dCos_dT1 * r1z);
+            grad[p1 + 1] += sinTerm * (dCos_dT0 * r1z - dCos_dT2 * r1x);
+            grad[p1 + 2] += sinTerm * (dCos_dT1 * r1x - dCos_dT0 * r1y);
+
+            grad[p2    ] += sinTerm * (dCos_dT1 * (r1z - r0z)
+                    + dCos_dT2 * (r0y - r1y)
+                    + dCos_dT4 * (-r3z)
+                    + dCos_dT5 * (r3y));
+            grad[p2 + 1] += sinTerm * (dCos_dT0 * (r0z - r1z)
+                    + dCos_dT2 * (r1x - r0x)
+                    + dCos_dT3 * (r3z)
+                    + dCos_dT5 * (-r3x));
+            grad[p2 + 2] += sinTerm * (dCos_dT0 * (r1y - r0y)
+                    + dCos_dT1 * (r0x - r1x)
+                    + dCos_dT3 * (-r3y)
+                    + dCos_dT4 * (r3x));
+
+            grad[p3    ] += sinTerm * (dCos_dT1 * (r0z)
+                    + dCos_dT2 * (-r0y)
+                    + dCos_dT4 * (r3z - r2z)
+                    + dCos_dT5 * (r2y - r3y));
+            grad[p3 + 1] += sinTerm * (dCos_dT0 * (-r0z)
+                    + dCos_dT2 * (r0x)
+                    + dCos_dT3 * (r2z - r3z)
+                    + dCos_dT5 * (r3x - r2x));
+            grad[p3 + 2] += sinTerm * (dCos_dT0 * (r0y)
+                    + dCos_dT1 * (-r0x)
+                    + dCos_dT3 * (r3y - r2y)
+                    + dCos_dT4 * (r2x - r3x));
+
+            grad[p4    ] += sinTerm * (dCos_dT4 * r2z - dCos_dT5 * r2y);
+            grad[p4 + 1] += sinTerm * (dCos_dT5 * r2x - dCos_dT3 * r2z);
+            grad[p4 + 2] += sinTerm * (dCos_dT3 * r2y - dCos_dT4 * r2x);
+        }
+    }
+}
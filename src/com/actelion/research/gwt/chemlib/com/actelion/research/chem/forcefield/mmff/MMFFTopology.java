@@ -0,0 +1,309 @@
+/*
+* Copyright (c) 1997 - 2016
+* Actelion Pharmaceuticals Ltd.
+* Gewerbestrasse 16
+* CH-4123 Allschwil, Switzerland
+*
+* All rights reserved.
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+* 3. Neither the name of the the copyright holder nor the
+*    names of its contributors may be used to endorse or promote products
+*    derived from this software without specific prior written permission.
+*
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+* ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+* WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+* ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+* (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+* LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+* ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+* (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+* SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*
+*/
+
+
+package com.actelion.research.chem.forcefield.mmff;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.actelion.research.chem.ExtendedMolecule;
+import com.actelion.research.chem.StereoMolecule;
+import com.actelion.research.chem.forcefield.EarlyExitPolicy;
+
+/**
+ * The MMFF topology holds all parts of a force field, which don't depend
+ * on the atom coordinates: the MMFF atom types, partial charges, atom
+ * separations and the parameterised energy terms. Creating these is the
+ * expensive part of constructing a ForceFieldMMFF94. A topology is created
+ * once per molecule and can then be bound to any number of conformers of
+ * that molecule, either with the ForceFieldMMFF94(MMFFTopology,
+ * StereoMolecule) constructor or with the minimise() methods.
+ *
+ * Nonbonded terms are found for all atom pairs. The "nonbonded cutoff" is
+ * applied when binding a conformer using the conformer's coordinates, such
+ * that a bound force field has exactly the same energy terms as one
+ * constructed from the conformer directly. Options are the same as for
+ * ForceFieldMMFF94.
+ *
+ * A topology is not changed by binding conformers and may be shared by
+ * several threads.
+ */
+public final class MMFFTopology {
+    private final MMFFMolecule mMMFFMol;
+    private final List<EnergyTerm> mTerms = new ArrayList<EnergyTerm>();
+    private final double mNonbondedCutoff;
+    private final boolean mCutoffApplied;
+    private final NeighbourList mNeighbourList;
+    private MMFFEvaluator mEvaluator;
+
+    /**
+     * Topology constructor.
+     *  @param mol The molecule, any conformer of which can be used.
+     *  @param tablename The string name for the Tables to be used. There
+     *      must be a table with this name that has been loaded with
+     *      "loadTable()".
+     *  @param options A Map containing the ForceField options and values.
+     *      See ForceFieldMMFF94 for a list of options.
+     */
+    public MMFFTopology(StereoMolecule mol, String tablename,
+            Map<String, Object> options) {
+        this(new MMFFMolecule(mol), tablename, options, false);
+    }
+
+    /**
+     * Finds and parameterises the energy terms of a molecule.
+     *  @param mol The molecule.
+     *  @param tablename The string name for the Tables to be used.
+     *  @param options A Map containing the ForceField options and values.
+     *  @param applyCutoff True if the nonbonded cutoff is applied to the
+     *      coordinates of mol, which binds the topology to mol's
+     *      coordinates.
+     */
+    MMFFTopology(MMFFMolecule mol, String tablename,
+            Map<String, Object> options, boolean applyCutoff) {
+        mMMFFMol = mol;
+        Tables table = ForceFieldMMFF94.table(tablename);
+
+        boolean neighbourList = options.containsKey("neighbour list")
+            ? ((Boolean)options.get("neighbour list")).booleanValue()
+            : false;
+
+        double nonBondedThresh = options.containsKey("nonbonded cutoff")
+            ? ((Double)options.get("nonbonded cutoff")).doubleValue()
+            : neighbourList ? NeighbourList.DEFAULT_CUTOFF : 100.0;
+
+        double skin = options.containsKey("neighbour skin")
+            ? ((Double)options.get("neighbour skin")).doubleValue()
+            : NeighbourList.DEFAULT_SKIN;
+
+        double dielConst = options.containsKey("dielectric constant")
+            ? ((Double)options.get("dielectric constant")).doubleValue() : 1.0;
+
+        boolean dielModel = options.containsKey("dielectric model")
+            ? ((String)options.get("dielectric model")).equals("distance")
+            : false;
+
+        mNonbondedCutoff = nonBondedThresh;
+        mCutoffApplied = applyCutoff || neighbourList;
+        double findCutoff = applyCutoff ? nonBondedThresh
+                : Double.POSITIVE_INFINITY;
+
+        Separation sep = new Separation(mol);
+
+        if (!options.containsKey("angle bend")
+                || (Boolean)options.get("angle bend"))
+            mTerms.addAll(AngleBend.findIn(table, mol));
+
+        if (!options.containsKey("bond stretch")
+                || (Boolean)options.get("bond stretch"))
+            mTerms.addAll(BondStretch.findIn(table, mol));
+
+        boolean includeEle = !options.containsKey("electrostatic")
+                || (Boolean)options.get("electrostatic");
+        boolean includeVdw = !options.containsKey("van der waals")
+                || (Boolean)options.get("van der waals");
+
+        if (includeEle && !neighbourList)
+            mTerms.addAll(Electrostatic.findIn(table, mol, sep,
+                        findCutoff, dielModel, dielConst));
+
+        if (!options.containsKey("out of plane")
+                || (Boolean)options.get("out of plane"))
+            mTerms.addAll(OutOfPlane.findIn(table, mol));
+
+        if (!options.containsKey("stretch bend")
+                || (Boolean)options.get("stretch bend"))
+            mTerms.addAll(StretchBend.findIn(table, mol));
+
+        if (!options.containsKey("torsion angle")
+                || (Boolean)options.get("torsion angle"))
+            mTerms.addAll(TorsionAngle.findIn(table, mol));
+
+        if (includeVdw && !neighbourList)
+            mTerms.addAll(VanDerWaals.findIn(table, mol, sep, findCutoff));
+
+        mNeighbourList = (includeVdw || includeEle) && neighbourList
+            ? new NeighbourList(table, mol, sep, nonBondedThresh, skin,
+                    includeVdw, includeEle, dielModel, dielConst)
+            : null;
+    }
+
+    /**
+     * Returns the MMFF molecule, which holds the atom types.
+     *  @return The MMFF molecule.
+     */
+    public MMFFMolecule getMMFFMolecule() {
+        return mMMFFMol;
+    }
+
+    /**
+     * Returns the number of energy terms of the topology, which doesn't
+     * include the neighbour list, if one is used.
+     *  @return The number of energy terms.
+     */
+    public int getTermCount() {
+        return mTerms.size();
+    }
+
+    /**
+     * Checks whether a molecule matches the topology, i.e. whether it has
+     * the same atoms in the same order.
+     *  @param mol The molecule with ensured helper arrays.
+     *  @throws IllegalArgumentException if the molecule doesn't match.
+     */
+    void checkConformer(ExtendedMolecule mol) {
+        boolean matches = mol.getAllAtoms() == mMMFFMol.getAllAtoms();
+        for (int atom=0; matches && atom<mol.getAllAtoms(); atom++)
+            matches = mol.getAtomicNo(atom) == mMMFFMol.getAtomicNo(atom);
+        if (!matches)
+            throw new IllegalArgumentException("conformer doesn't match the force field topology");
+    }
+
+    /**
+     * Returns the energy terms for a conformer, i.e. all terms but the
+     * nonbonded terms, whose atoms are further apart than the nonbonded
+     * cutoff in the conformer. The neighbour list is not included.
+     *  @param conformer The conformer with ensured helper arrays.
+     *  @return A new list of the energy terms.
+     */
+    List<EnergyTerm> getEnergyTerms(ExtendedMolecule conformer) {
+        if (mCutoffApplied)
+            return new ArrayList<EnergyTerm>(mTerms);
+
+        List<EnergyTerm> terms = new ArrayList<EnergyTerm>(mTerms.size());
+        for (EnergyTerm term : mTerms) {
+            if (term.getClass() == Electrostatic.class) {
+                Electrostatic ele = (Electrostatic)term;
+                if (!(new Vector3(conformer, ele.a1, ele.a2).length() < mNonbondedCutoff))
+                    continue;
+            } else if (term.getClass() == VanDerWaals.class) {
+                VanDerWaals vdw = (VanDerWaals)term;
+                if (!(new Vector3(conformer, vdw.a1, vdw.a2).length() < mNonbondedCutoff))
+                    continue;
+            }
+            terms.add(term);
+        }
+        return terms;
+    }
+
+    /**
+     * Returns a new neighbour list sharing the parameters of the topology.
+     *  @return The neighbour list, or null if none is used.
+     */
+    NeighbourList createNeighbourList() {
+        return mNeighbourList == null ? null : new NeighbourList(mNeighbourList);
+    }
+
+    /**
+     * Returns the evaluator of all energy terms of the topology, which is
+     * shared by all bound force fields, which keep all nonbonded terms.
+     *  @return The evaluator.
+     */
+    synchronized MMFFEvaluator getEvaluator() {
+        if (mEvaluator == null)
+            mEvaluator = new MMFFEvaluator(mTerms);
+        return mEvaluator;
+    }
+
+    /**
+     * Minimises a conformer using default parameter values for the number
+     * of iterations, energy tolerance and gradient tolerance.
+     *  @param conformer The conformer to be minimised.
+     *  @return The energy of the conformer after minimisation.
+     */
+    public double minimise(StereoMolecule conformer) {
+        return minimise(conformer, 4000, 1e-4, 1e-6);
+    }
+
+    /**
+     * Minimises a conformer with a force field bound to this topology.
+     * If the minimisation succeeds, then the conformer's coordinates are
+     * updated. Otherwise they are kept, as with ForceFieldMMFF94.minimise().
+     *  @param conformer The conformer to be minimised.
+     *  @param maxIts The maximum number of iterations to run for.
+     *  @param gradTol The gradient tolerance.
+     *  @param funcTol The energy tolerance.
+     *  @param policies Optional policies, which may stop the minimisation
+     *      early.
+     *  @return The energy of the conformer's coordinates after
+     *      minimisation.
+     */
+    public double minimise(StereoMolecule conformer, int maxIts,
+            double gradTol, double funcTol, EarlyExitPolicy... policies) {
+        ForceFieldMMFF94 ff = new ForceFieldMMFF94(this, conformer);
+        for (EarlyExitPolicy policy : policies)
+            ff.addEarlyExitPolicy(policy);
+        return minimise(ff, conformer, maxIts, gradTol, funcTol);
+    }
+
+    /**
+     * Minimises a conformer with its bound force field.
+     *  @return The energy of the conformer's coordinates after
+     *      minimisation.
+     */
+    static double minimise(ForceFieldMMFF94 ff, StereoMolecule conformer,
+            int maxIts, double gradTol, double funcTol) {
+        if (ff.minimise(maxIts, gradTol, funcTol) == 0)
+            return ff.getTotalEnergy();
+
+        double[] pos = new double[3*conformer.getAllAtoms()];
+        for (int i=0; i<conformer.getAllAtoms(); i++) {
+            pos[3*i    ] = conformer.getAtomX(i);
+            pos[3*i + 1] = conformer.getAtomY(i);
+            pos[3*i + 2] = conformer.getAtomZ(i);
+        }
+        return ff.getTotalEnergy(pos);
+    }
+
+    /**
+     * Minimises several conformers one after the other. Use
+     * MMFFBatchMinimiser to minimise conformers in parallel.
+     *  @param conformers The conformers to be minimised.
+     *  @param maxIts The maximum number of iterations to run for.
+     *  @param gradTol The gradient tolerance.
+     *  @param funcTol The energy tolerance.
+     *  @param policies Optional policies, which may stop the minimisation
+     *      of any conformer early.
+     *  @return The energies of the conformers after minimisation.
+     */
+    public double[] minimise(StereoMolecule[] conformers, int maxIts,
+            double gradTol, double funcTol, EarlyExitPolicy... policies) {
+        double[] energy = new double[conformers.length];
+        for (int i=0; i<conformers.length; i++)
+            energy[i] = minimise(conformers[i], maxIts, gradTol, funcTol,
+                    policies);
+        return energy;
+    }
+}
@@ -0,0 +1,359 @@
+/*
+* Copyright (c) 1997 - 2016
+* Actelion Pharmaceuticals Ltd.
+* Gewerbestrasse 16
+* CH-4123 Allschwil, Switzerland
+*
+* All rights reserved.
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+* 3. Neither the name of the the copyright holder nor the
+*    names of its contributors may be used to endorse or promote products
+*    derived from this software without specific prior written permission.
+*
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+* ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+* WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+* ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+* (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+* LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+* ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+* (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+* SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*
+*/
+
+package com.actelion.research.chem.forcefield.mmff;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * The NeighbourList is a single energy term, which comprises the van der
+ * Waals and electrostatic interactions of all atom pairs closer than a
+ * cutoff distance. In contrast to VanDerWaals.findIn() and
+ * Electrostatic.findIn(), which select atom pairs once from the initial
+ * geometry, the pairs are selected from the current positions.
+ *
+ * A Verlet list of all pairs within cutoff plus skin distance is built
+ * using a cell list, which takes linear time in the number of atoms. It
+ * is rebuilt automatically whenever an energy or gradient is requested
+ * for positions, where any atom has moved more than half of the skin
+ * distance since the last build. Only pairs closer than the cutoff
+ * contribute. To keep the energy surface smooth, interactions are
+ * switched off continuously within SWITCH_WIDTH below the cutoff.
+ * Thus, energies and gradients never depend on when the list was built.
+ */
+public class NeighbourList implements EnergyTerm {
+    public static final double DEFAULT_CUTOFF = 9.0;
+    public static final double DEFAULT_SKIN = 2.0;
+    public static final double SWITCH_WIDTH = 1.0;
+
+    private static final int RELATION_EXCLUDED = 0;
+    private static final int RELATION_ONE_FOUR = 1;
+    private static final int RELATION_ONE_X = 2;
+
+    private final int mAtoms;
+    private final double mCutoff;
+    private final double mListDistance;
+    private final double mMaxMove2;
+    private final boolean mIncludeVdw;
+    private final boolean mIncludeEle;
+    private final boolean mDistModel;
+    private final double mDielConst;
+    private final double[] mCharge;
+    private final int[][] mRelatedAtom;
+    private final int mTypeCount;
+    private final int[] mTypeIndex;
+    private final double[] mVdwRStar;
+    private final double[] mVdwWellDepth;
+    private final NonbondedTerms mTerms;
+
+    private double[] mBuildPos;
+    private int mBuildCount;
+
+    private int mHashMask;
+    private int[] mBucketStart;
+    private int[] mBucket;
+    private int[] mSortedAtom;
+    private int[] mCellX;
+    private int[] mCellY;
+    private int[] mCellZ;
+
+    /**
+     * Construct a neighbour list for the nonbonded terms of a molecule.
+     *  @param table The tables parameter object.
+     *  @param mol The molecule.
+     *  @param sep The separations table for molecule mol.
+     *  @param cutoff The nonbonded cutoff distance.
+     *  @param skin The skin distance added to the cutoff for the list.
+     *  @param includeVdw Whether van der Waals terms are included.
+     *  @param includeEle Whether electrostatic terms are included.
+     *  @param distModel The distance model to use, true for "distance"
+     *      and false for "constant".
+     *  @param dielConst The dielectric constant.
+     */
+    public NeighbourList(Tables table, MMFFMolecule mol, Separation sep,
+            double cutoff, double skin, boolean includeVdw,
+            boolean includeEle, boolean distModel, double dielConst) {
+        mAtoms = mol.getAllAtoms();
+        mCutoff = cutoff;
+        mListDistance = cutoff + skin;
+        mMaxMove2 = 0.25 * skin * skin;
+        mIncludeVdw = includeVdw;
+        mIncludeEle = includeEle;
+        mDistModel = distModel;
+        mDielConst = dielConst;
+        mCharge = includeEle ? com.actelion.research.chem.forcefield.mmff.type.Charge.getCharges(table, mol) : null;
+
+        // van der Waals parameters only depend on the atom types
+        int[] typeAtom = new int[mAtoms];
+        int typeCount = 0;
+        mTypeIndex = new int[mAtoms];
+        for (int atom=0; atom<mAtoms; atom++) {
+            int index = 0;
+            while (index < typeCount && mol.getAtomType(typeAtom[index])
+                    != mol.getAtomType(atom))
+                index++;
+            if (index == typeCount)
+                typeAtom[typeCount++] = atom;
+            mTypeIndex[atom] = index;
+        }
+        mTypeCount = typeCount;
+        mVdwRStar = new double[typeCount * typeCount];
+        mVdwWellDepth = new double[typeCount * typeCount];
+        if (includeVdw) {
+            for (int i=0; i<typeCount; i++) {
+                for (int j=0; j<typeCount; j++) {
+                    VanDerWaals vdw = new VanDerWaals(table, mol, typeAtom[i], typeAtom[j]);
+                    mVdwRStar[i*typeCount + j] = vdw.rstar_ij;
+                    mVdwWellDepth[i*typeCount + j] = vdw.well_depth;
+                }
+            }
+        }
+        mTerms = new NonbondedTerms();
+        mTerms.setCutoff(cutoff, SWITCH_WIDTH);
+
+        // 1,2 and 1,3 related atoms are excluded, 1,4 related atoms are
+        // stored with their lowest bit set
+        int[] count = new int[mAtoms];
+        for (Map.Entry<SortedPair, Separation.Relation> entry : sep.table.entrySet())
+            if (entry.getKey().a != entry.getKey().b
+                    && entry.getValue() != Separation.Relation.ONE_X)
+                count[entry.getKey().a]++;
+        mRelatedAtom = new int[mAtoms][];
+        for (int atom=0; atom<mAtoms; atom++)
+            mRelatedAtom[atom] = new int[count[atom]];
+        Arrays.fill(count, 0);
+        for (Map.Entry<SortedPair, Separation.Relation> entry : sep.table.entrySet()) {
+            SortedPair pair = entry.getKey();
+            Separation.Relation relation = entry.getValue();
+            if (pair.a != pair.b && relation != Separation.Relation.ONE_X)
+                mRelatedAtom[pair.a][count[pair.a]++] = (pair.b << 1)
+                    | (relation == Separation.Relation.ONE_FOUR ? 1 : 0);
+        }
+
+        allocateCells();
+    }
+
+    /**
+     * Construct an empty neighbour list, which shares the parameters of
+     * another neighbour list of the same molecule. This allows to evaluate
+     * several conformers of a molecule without recalculating charges and
+     * van der Waals parameters.
+     *  @param template The neighbour list whose parameters are shared.
+     */
+    public NeighbourList(NeighbourList template) {
+        mAtoms = template.mAtoms;
+        mCutoff = template.mCutoff;
+        mListDistance = template.mListDistance;
+        mMaxMove2 = template.mMaxMove2;
+        mIncludeVdw = template.mIncludeVdw;
+        mIncludeEle = template.mIncludeEle;
+        mDistModel = template.mDistModel;
+        mDielConst = template.mDielConst;
+        mCharge = template.mCharge;
+        mRelatedAtom = template.mRelatedAtom;
+        mTypeCount = template.mTypeCount;
+        mTypeIndex = template.mTypeIndex;
+        mVdwRStar = template.mVdwRStar;
+        mVdwWellDepth = template.mVdwWellDepth;
+        mTerms = new NonbondedTerms();
+        mTerms.setCutoff(mCutoff, SWITCH_WIDTH);
+        allocateCells();
+    }
+
+    private void allocateCells() {
+        int hashSize = 16;
+        while (hashSize < 2 * mAtoms)
+            hashSize <<= 1;
+        mHashMask = hashSize - 1;
+        mBucketStart = new int[hashSize + 1];
+        mBucket = new int[mAtoms];
+        mSortedAtom = new int[mAtoms];
+        mCellX = new int[mAtoms];
+        mCellY = new int[mAtoms];
+        mCellZ = new int[mAtoms];
+    }
+
+    /**
+     * Returns how often the pair list has been built.
+     *  @return The number of list builds.
+     */
+    public int getBuildCount() {
+        return mBuildCount;
+    }
+
+    /**
+     * Returns the number of atom pairs currently in the list, including
+     * pairs between cutoff and cutoff plus skin distance.
+     *  @return The number of van der Waals and electrostatic pairs.
+     */
+    public int getPairCount() {
+        return mTerms.getVanDerWaalsCount() + mTerms.getElectrostaticCount();
+    }
+
+    /**
+     * Rebuilds the pair list, if it was not built yet or if any atom has
+     * moved more than half of the skin distance since the last build.
+     *  @param pos The atoms current positions array.
+     *  @return True if the list was rebuilt.
+     */
+    public boolean update(double[] pos) {
+        if (mBuildPos != null) {
+            boolean moved = false;
+            for (int i=0; i<3*mAtoms && !moved; i+=3) {
+                double dx = pos[i] - mBuildPos[i];
+                double dy = pos[i + 1] - mBuildPos[i + 1];
+                double dz = pos[i + 2] - mBuildPos[i + 2];
+                moved = (dx*dx + dy*dy + dz*dz > mMaxMove2);
+            }
+            if (!moved)
+                return false;
+        }
+
+        build(pos);
+        return true;
+    }
+
+    @Override
+    public double getEnergy(double[] pos) {
+        update(pos);
+        double total = mTerms.addElectrostaticEnergies(pos, 0.0);
+        return mTerms.addVanDerWaalsEnergies(pos, total);
+    }
+
+    double getElectrostaticEnergy(double[] pos) {
+        update(pos);
+        return mTerms.addElectrostaticEnergies(pos, 0.0);
+    }
+
+    double getVanDerWaalsEnergy(double[] pos) {
+        update(pos);
+        return mTerms.addVanDerWaalsEnergies(pos, 0.0);
+    }
+
+    @Override
+    public void getGradient(double[] pos, double[] grad) {
+        update(pos);
+        mTerms.addElectrostaticGradients(pos, grad);
+        mTerms.addVanDerWaalsGradients(pos, grad);
+    }
+
+    private void build(double[] pos) {
+        if (mBuildPos == null)
+            mBuildPos = new double[3*mAtoms];
+        System.arraycopy(pos, 0, mBuildPos, 0, 3*mAtoms);
+        mTerms.clear();
+
+        Arrays.fill(mBucketStart, 0);
+        for (int atom=0; atom<mAtoms; atom++) {
+            mCellX[atom] = (int)Math.floor(pos[3*atom] / mListDistance);
+            mCellY[atom] = (int)Math.floor(pos[3*atom + 1] / mListDistance);
+            mCellZ[atom] = (int)Math.floor(pos[3*atom + 2] / mListDistance);
+            mBucket[atom] = hash(mCellX[atom], mCellY[atom], mCellZ[atom]);
+            mBucketStart[mBucket[atom] + 1]++;
+        }
+        for (int i=1; i<mBucketStart.length; i++)
+            mBucketStart[i] += mBucketStart[i - 1];
+        for (int atom=0; atom<mAtoms; atom++)
+            mSortedAtom[mBucketStart[mBucket[atom]]++] = atom;
+        // shift start indexes back, which were incremented while placing the atoms
+        for (int i=mBucketStart.length-1; i>0; i--)
+            mBucketStart[i] = mBucketStart[i - 1];
+        mBucketStart[0] = 0;
+
+        // same cell with lower atom indexes and the 13 adjacent cells in
+        // forward direction cover every pair closer than the cell size once
+        for (int atom=0; atom<mAtoms; atom++) {
+            int cx = mCellX[atom];
+            int cy = mCellY[atom];
+            int cz = mCellZ[atom];
+            addPairsInCell(pos, atom, cx, cy, cz, true);
+            for (int x=cx; x<=cx+1; x++)
+                for (int y=(x==cx)?cy:cy-1; y<=cy+1; y++)
+                    for (int z=(x==cx && y==cy)?cz+1:cz-1; z<=cz+1; z++)
+                        addPairsInCell(pos, atom, x, y, z, false);
+        }
+
+        mBuildCount++;
+    }
+
+    private int hash(int x, int y, int z) {
+        return ((x * 73856093) ^ (y * 19349663) ^ (z * 83492791)) & mHashMask;
+    }
+
+    private void addPairsInCell(double[] pos, int atom1, int x, int y, int z,
+            boolean lowerOnly) {
+        final double maxDist2 = mListDistance * mListDistance;
+        int bucket = hash(x, y, z);
+        for (int i=mBucketStart[bucket]; i<mBucketStart[bucket + 1]; i++) {
+            int atom2 = mSortedAtom[i];
+            if (mCellX[atom2] != x || mCellY[atom2] != y || mCellZ[atom2] != z
+                    || (lowerOnly && atom2 >= atom1))
+                continue;
+
+            double dx = pos[3*atom1] - pos[3*atom2];
+            double dy = pos[3*atom1 + 1] - pos[3*atom2 + 1];
+            double dz = pos[3*atom1 + 2] - pos[3*atom2 + 2];
+            if (dx*dx + dy*dy + dz*dz < maxDist2)
+                addPair(Math.min(atom1, atom2), Math.max(atom1, atom2));
+        }
+    }
+
+    private void addPair(int a1, int a2) {
+        int relation = getRelation(a1, a2);
+        if (relation == RELATION_EXCLUDED)
+            return;
+
+        if (mIncludeVdw) {
+            int index = mTypeIndex[a1] * mTypeCount + mTypeIndex[a2];
+            mTerms.addVanDerWaals(a1, a2, mVdwRStar[index], mVdwWellDepth[index]);
+        }
+
+        if (mIncludeEle
+                && Math.abs(mCharge[a1]) > 0.00001
+                && Math.abs(mCharge[a2]) > 0.00001)
+            mTerms.addElectrostatic(a2, a1, mCharge[a2] * mCharge[a1] / mDielConst,
+                    relation == RELATION_ONE_FOUR ? 0.75 : 1.0, mDistModel);
+    }
+
+    /**
+     * @param a1 lower atom index
+     * @param a2 higher atom index
+     */
+    private int getRelation(int a1, int a2) {
+        for (int related : mRelatedAtom[a2])
+            if ((related >> 1) == a1)
+                return ((related & 1) != 0) ? RELATION_ONE_FOUR : RELATION_EXCLUDED;
+        return RELATION_ONE_X;
+    }
+}
@@ -57,39 +57,39 @@ public final class Tables {
     public final com.actelion.research.chem.forcefield.mmff.table.VanDerWaals vdws;     // Van der Waals.
 
     /**
-     * Construct a new Tables object. Takes several string paths to CSV
-     * files to be used for the different parameter tables.
-     *  @param csv_angle Path to the angles parameter table. The angle
+     * Construct a new Tables object. Takes the parameter tables in the
+     * compact encoding of ParameterTable, as generated into CsvData.
+     *  @param csv_angle The angles parameter table. The angle
      *      table holds ideal angle and force constant values.
-     *  @param csv_atom Path to the atoms parameter table. This table
+     *  @param csv_atom The atoms parameter table. This table
      *      specifies the chemical, topological and geometrical properties
      *      associated with each of the MMFF atom types.
-     *  @param csv_bci Path to the bond charge increments table. This
+     *  @param csv_bci The bond charge increments table. This
      *      table is used for the MMFF partial charge computation.
-     *  @param csv_bndk Path to the bond length and default force
+     *  @param csv_bndk The bond length and default force
      *      constants table. Used as fallback values if bond parameters
      *      are not found in csv_bond.
-     *  @param csv_bond Path to the bond parameters table. Holds the ideal
+     *  @param csv_bond The bond parameters table. Holds the ideal
      *      length and force constants for bonds between MMFF atom typed
      *      atoms.
-     *  @param csv_covrad Path to the CovRad CSV table.
-     *  @param csv_dfsb Path to the Dfsb CSV table. Holds the default
+     *  @param csv_covrad The CovRad table.
+     *  @param csv_dfsb The Dfsb table. Holds the default
      *      stretch bend parameters.
-     *  @param csv_def Path to the default types table. Holds fallback
+     *  @param csv_def The default types table. Holds fallback
      *      MMFF types for atoms. Used to help find matches for energy
      *      terms in their parameter tables.
-     *  @param csv_hblaurie Path to the HerschbachLaurie table. Parameters
+     *  @param csv_hblaurie The HerschbachLaurie table. Parameters
      *      table for Badger's rule.
-     *  @param csv_oop Path to the out of plane parameters table. Holds
+     *  @param csv_oop The out of plane parameters table. Holds
      *      the force constant parameter.
-     *  @param csv_pbci Path to the partial bond charge increments and
+     *  @param csv_pbci The partial bond charge increments and
      *      formal charge adjustments table.
-     *  @param csv_stbn Path to the stretch bend parameters table. Holds
+     *  @param csv_stbn The stretch bend parameters table. Holds
      *      the force constants for both i-j-k and k-j-i atom
      *      configurations.
-     *  @param csv_torsion Path to the torsional parameters table. Holds
+     *  @param csv_torsion The torsional parameters table. Holds
      *      the three force constants for given MMFF atom types.
-     *  @param csv_vdws Path to the van der Waals parameters table.
+     *  @param csv_vdws The van der Waals parameters table.
      */
     public Tables(
                 String csv_angle,
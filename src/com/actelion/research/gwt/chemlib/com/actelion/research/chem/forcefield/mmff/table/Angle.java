@@ -34,8 +34,8 @@
 package com.actelion.research.chem.forcefield.mmff.table;
 
 import com.actelion.research.chem.forcefield.mmff.Constants;
-import com.actelion.research.chem.forcefield.mmff.Csv;
 import com.actelion.research.chem.forcefield.mmff.MMFFMolecule;
+import com.actelion.research.chem.forcefield.mmff.ParameterTable;
 import com.actelion.research.chem.forcefield.mmff.Search;
 import com.actelion.research.chem.forcefield.mmff.Tables;
 
@@ -48,22 +48,22 @@ import com.actelion.research.chem.forcefield.mmff.Tables;
 public final class Angle implements com.actelion.research.chem.forcefield.mmff.Searchable {
     // Sort order: 4, 2, 1, 3
     // angle type, i type, j type, k type, ka, theta0
-    private final Object[][] table;
+    private final ParameterTable table;
     private final Tables t;
 
-    public Angle(Tables t, String csvpath) {
-        table = Csv.readFile(csvpath);
+    public Angle(Tables t, String data) {
+        table = new ParameterTable(data, 2, 1, 3, 0);
         this.t = t;
     }
 
     @Override
     public int get(int row, int col) {
-        return ((Number) table[row][col]).intValue();
+        return table.get(row, col);
     }
 
     @Override
     public int length() {
-        return table.length;
+        return table.length();
     }
 
     /**
@@ -72,7 +72,7 @@ public final class Angle implements com.actelion.research.chem.forcefield.mmff.S
      *  @return The force constant.
      */
     public double ka(int index) {
-        return ((Number) table[index][4]).doubleValue();
+        return table.getDouble(index, 4);
     }
 
     /**
@@ -82,7 +82,7 @@ public final class Angle implements com.actelion.research.chem.forcefield.mmff.S
      *  @return The force constant.
      */
     public double theta(int index) {
-        return ((Number) table[index][5]).doubleValue();
+        return table.getDouble(index, 5);
     }
 
     /**
@@ -112,8 +112,7 @@ public final class Angle implements com.actelion.research.chem.forcefield.mmff.S
             if (a1tf > a3tf)
                 a1tf = Search.s(a3tf, a3tf = a1tf);
 
-            index = Search.binary(new int[]{2,1,3,0},
-                    new int[]{a2t,a1tf,a3tf,angt}, this);
+            index = table.find(a2t, a1tf, a3tf, angt);
         }
         return index;
     }
@@ -33,7 +33,7 @@
 
 package com.actelion.research.chem.forcefield.mmff.table;
 
-import com.actelion.research.chem.forcefield.mmff.Csv;
+import com.actelion.research.chem.forcefield.mmff.ParameterTable;
 import com.actelion.research.chem.forcefield.mmff.Tables;
 
 /**
@@ -42,20 +42,20 @@ import com.actelion.research.chem.forcefield.mmff.Tables;
  * and geometrical properties associated with each of the MMFF atom types.
  */
 public final class Atom implements com.actelion.research.chem.forcefield.mmff.Searchable {
-    private final int[][] table;
+    private final ParameterTable table;
 
-    public Atom(Tables t, String csvpath) {
-        table = Csv.readIntsFile(csvpath);
+    public Atom(Tables t, String data) {
+        table = new ParameterTable(data, 0);
     }
 
     @Override
     public int get(int row, int col) {
-        return table[row][col];
+        return table.get(row, col);
     }
 
     @Override
     public int length() {
-        return table.length;
+        return table.length();
     }
 
     /**
@@ -64,7 +64,7 @@ public final class Atom implements com.actelion.research.chem.forcefield.mmff.Se
      *  @return The ASPEC value for the atom.
      */
     public int aspec(int type) {
-        return table[index(type)][1];
+        return table.get(index(type), 1);
     }
 
     /**
@@ -73,7 +73,7 @@ public final class Atom implements com.actelion.research.chem.forcefield.mmff.Se
      *  @return The CRD value for the atom.
      */
     public int crd(int type) {
-        return table[index(type)][2];
+        return table.get(index(type), 2);
     }
 
     /**
@@ -82,7 +82,7 @@ public final class Atom implements com.actelion.research.chem.forcefield.mmff.Se
      *  @return The VAL type for the atom.
      */
     public int val(int type) {
-        return table[index(type)][3];
+        return table.get(index(type), 3);
     }
 
     /**
@@ -91,7 +91,7 @@ public final class Atom implements com.actelion.research.chem.forcefield.mmff.Se
      *  @return The PILP type for the atom.
      */
     public int pilp(int type) {
-        return table[index(type)][4];
+        return table.get(index(type), 4);
     }
 
     /**
@@ -100,7 +100,7 @@ public final class Atom implements com.actelion.research.chem.forcefield.mmff.Se
      *  @return The MLTB type for the atom.
      */
     public int mltb(int type) {
-        return table[index(type)][5];
+        return table.get(index(type), 5);
     }
 
     /**
@@ -109,7 +109,7 @@ public final class Atom implements com.actelion.research.chem.forcefield.mmff.Se
      *  @return The Arom bool for the atom.
      */
     public boolean arom(int type) {
-        return table[index(type)][6] > 0;
+        return table.get(index(type), 6) > 0;
     }
 
     /**
@@ -119,7 +119,7 @@ public final class Atom implements com.actelion.research.chem.forcefield.mmff.Se
      */
     public boolean linear(int type) {
         int idx = index(type);
-        return idx >= 0 ? table[idx][7] > 0 : false;
+        return idx >= 0 ? table.get(idx, 7) > 0 : false;
     }
 
     /**
@@ -128,7 +128,7 @@ public final class Atom implements com.actelion.research.chem.forcefield.mmff.Se
      *  @return The SBMB boolean for the atom.
      */
     public boolean sbmb(int type) {
-        return table[index(type)][8] > 0;
+        return table.get(index(type), 8) > 0;
     }
 
     /**
@@ -137,6 +137,6 @@ public final class Atom implements com.actelion.research.chem.forcefield.mmff.Se
      *  @return An index in the atprop table, or -1 if no index was found.
      */
     private int index(int type) {
-        return com.actelion.research.chem.forcefield.mmff.Search.binary(0, type, this);
+        return table.find(type);
     }
 }
@@ -33,7 +33,7 @@
 
 package com.actelion.research.chem.forcefield.mmff.table;
 
-import com.actelion.research.chem.forcefield.mmff.Csv;
+import com.actelion.research.chem.forcefield.mmff.ParameterTable;
 import com.actelion.research.chem.forcefield.mmff.Tables;
 
 /**
@@ -42,18 +42,28 @@ import com.actelion.research.chem.forcefield.mmff.Tables;
  * empirical rules for bond-stretching force constants.
  */
 public final class Bndk implements com.actelion.research.chem.forcefield.mmff.Searchable {
-    private final Object[][] table;
+    private final ParameterTable table;
 
-    public Bndk(Tables t, String csvpath) {
-        table = Csv.readFile(csvpath);
+    public Bndk(Tables t, String data) {
+        table = new ParameterTable(data, 0, 1);
     }
 
     public int get(int row, int col) {
-        return ((Number) table[row][col]).intValue();
+        return table.get(row, col);
     }
 
     public int length() {
-        return table.length;
+        return table.length();
+    }
+
+    /**
+     * Returns the index of the row for two atomic numbers.
+     *  @param a1no The lower atomic number.
+     *  @param a2no The higher atomic number.
+     *  @return The index in the table, or -1 if there is no entry.
+     */
+    public int index(int a1no, int a2no) {
+        return table.find(a1no, a2no);
     }
 
     /**
@@ -63,7 +73,7 @@ public final class Bndk implements com.actelion.research.chem.forcefield.mmff.Se
      *  @return The value of 'r0' at index.
      */
     public double r0(int index) {
-        return ((Number) table[index][2]).doubleValue();
+        return table.getDouble(index, 2);
     }
 
     /**
@@ -72,6 +82,6 @@ public final class Bndk implements com.actelion.research.chem.forcefield.mmff.Se
      *  @return The value of 'kb' at index.
      */
     public double kb(int index) {
-        return ((Number) table[index][3]).doubleValue();
+        return table.getDouble(index, 3);
     }
 }
@@ -33,8 +33,8 @@
 
 package com.actelion.research.chem.forcefield.mmff.table;
 
-import com.actelion.research.chem.forcefield.mmff.Csv;
 import com.actelion.research.chem.forcefield.mmff.MMFFMolecule;
+import com.actelion.research.chem.forcefield.mmff.ParameterTable;
 import com.actelion.research.chem.forcefield.mmff.PeriodicTable;
 import com.actelion.research.chem.forcefield.mmff.Tables;
 
@@ -44,22 +44,22 @@ import com.actelion.research.chem.forcefield.mmff.Tables;
  * interactions.
  */
 public final class Bond implements com.actelion.research.chem.forcefield.mmff.Searchable {
-    private final Object[][] table;
+    private final ParameterTable table;
     private final Tables t;
 
-    public Bond(Tables t, String csvpath) {
-        table = Csv.readFile(csvpath);
+    public Bond(Tables t, String data) {
+        table = new ParameterTable(data, 1, 2, 0);
         this.t = t;
     }
 
     @Override
     public int get(int row, int col) {
-        return ((Number) table[row][col]).intValue();
+        return table.get(row, col);
     }
 
     @Override
     public int length() {
-        return table.length;
+        return table.length();
     }
 
     /**
@@ -68,7 +68,7 @@ public final class Bond implements com.actelion.research.chem.forcefield.mmff.Se
      *  @return 'r0' for that index.
      */
     public double r0(int index) {
-        return ((Number) table[index][4]).doubleValue();
+        return table.getDouble(index, 4);
     }
 
     /**
@@ -77,7 +77,7 @@ public final class Bond implements com.actelion.research.chem.forcefield.mmff.Se
      *  @return 'kb' for that index.
      */
     public double kb(int index) {
-        return ((Number) table[index][3]).doubleValue();
+        return table.getDouble(index, 3);
     }
 
     /**
@@ -98,8 +98,7 @@ public final class Bond implements com.actelion.research.chem.forcefield.mmff.Se
             a1t = com.actelion.research.chem.forcefield.mmff.Search.s(a2t, a2t = a1t);
 
         // Search the bond tabke for the atom types and bond type.
-        int index = com.actelion.research.chem.forcefield.mmff.Search.binary(new int[]{1,2,0},
-                new int[]{a1t, a2t, bondt}, this);
+        int index = table.find(a1t, a2t, bondt);
 
         if (index >= 0)
             // Return r0 if it is in the table.
@@ -111,8 +110,8 @@ public final class Bond implements com.actelion.research.chem.forcefield.mmff.Se
             if (a1no > a2no)
                 a1no = com.actelion.research.chem.forcefield.mmff.Search.s(a2no, a2no = a1no);
 
-            int a1cri = com.actelion.research.chem.forcefield.mmff.Search.binary(0, a1no, t.covrad);
-            int a2cri = com.actelion.research.chem.forcefield.mmff.Search.binary(0, a2no, t.covrad);
+            int a1cri = t.covrad.index(a1no);
+            int a2cri = t.covrad.index(a2no);
 
             double r0_i = t.covrad.r0(a1cri);
             double r0_j = t.covrad.r0(a2cri);
@@ -143,8 +142,7 @@ public final class Bond implements com.actelion.research.chem.forcefield.mmff.Se
             a1t = com.actelion.research.chem.forcefield.mmff.Search.s(a2t, a2t = a1t);
 
         // Search the bond tabke for the atom types and bond type.
-        int index = com.actelion.research.chem.forcefield.mmff.Search.binary(new int[]{1,2,0},
-                new int[]{a1t, a2t, bondt}, this);
+        int index = table.find(a1t, a2t, bondt);
 
         if (index >= 0) {
             // Return r0 if it is in the table.
@@ -159,8 +157,7 @@ public final class Bond implements com.actelion.research.chem.forcefield.mmff.Se
             double r0 = r0(mol, atom1, atom2);
 
             // Search Bndk.
-            int bndk_idx = com.actelion.research.chem.forcefield.mmff.Search.binary(new int[]{0, 1},
-                    new int[]{a1no, a2no}, t.bndk);
+            int bndk_idx = t.bndk.index(a1no, a2no);
 
             if (bndk_idx >= 0) {
                 // Found a value in Bndk.
@@ -168,10 +165,8 @@ public final class Bond implements com.actelion.research.chem.forcefield.mmff.Se
                 return t.bndk.kb(bndk_idx) * coeff;
             } else {
                 // Fall back to HerschbachLaurie.
-                int bidx = com.actelion.research.chem.forcefield.mmff.Search.binary(new int[]{0,1},
-                        new int[]{PeriodicTable.rowtm(a1no),
-                            PeriodicTable.rowtm(a2no)},
-                        t.hblaurie);
+                int bidx = t.hblaurie.index(PeriodicTable.rowtm(a1no),
+                        PeriodicTable.rowtm(a2no));
                 return Math.pow(10.0, -(r0 - t.hblaurie.fget(bidx, 2))
                         / t.hblaurie.fget(bidx, 3));
             }
@@ -33,18 +33,17 @@
 
 package com.actelion.research.chem.forcefield.mmff.table;
 
-import com.actelion.research.chem.forcefield.mmff.Csv;
+import com.actelion.research.chem.forcefield.mmff.ParameterTable;
 import com.actelion.research.chem.forcefield.mmff.Search;
-import com.actelion.research.chem.forcefield.mmff.Searchable;
 import com.actelion.research.chem.forcefield.mmff.Tables;
 
 public class Charge {
-    private final Object[][] pbci;
-    private final Object[][] bci;
+    private final ParameterTable pbci;
+    private final ParameterTable bci;
 
-    public Charge(Tables t, String csv_pbci, String csv_bci) {
-        pbci = Csv.readFile(csv_pbci);
-        bci = Csv.readFile(csv_bci);
+    public Charge(Tables t, String data_pbci, String data_bci) {
+        pbci = new ParameterTable(data_pbci);
+        bci = new ParameterTable(data_bci, 1, 2);
     }
 
     /**
@@ -53,11 +52,11 @@ public class Charge {
      *  @return The formal charge adjustment as a double.
      */
     public double getFcadj(int type) {
-        return ((Number) pbci[type-1][2]).doubleValue();
+        return pbci.getDouble(type-1, 2);
     }
 
     public double getPbci(int type) {
-        return ((Number) pbci[type-1][1]).doubleValue();
+        return pbci.getDouble(type-1, 1);
     }
 
     /**
@@ -73,17 +72,10 @@ public class Charge {
         int atl = a1t > a2t ? a2t : a1t;
         int ath = a1t > a2t ? a1t : a2t;
 
-        int a1lo = bci_binary_search(1, atl, 0, bci.length, true);
-        int a1hi = bci_binary_search(1, atl, 0, bci.length, false);
+        int a2lo = bci.find(atl, ath);
+        int a2hi = bci.findLast(atl, ath);
 
-        // Couldn't find the first atom type.
-        if (a1lo == -1 || a1hi == -1)
-            return getPbci(a1t) - getPbci(a2t);
-
-        int a2lo = bci_binary_search(2, ath, a1lo, a1hi+1, true);
-        int a2hi = bci_binary_search(2, ath, a1lo, a1hi+1, false);
-
-        // couldn't find the second atom type.
+        // Couldn't find the atom types.
         if (a2lo == -1 || a2hi == -1)
             return getPbci(a1t) - getPbci(a2t);
 
@@ -98,7 +90,7 @@ public class Charge {
 
     /**
      * Binary search in the bci table. This is a wrapper function around
-     * 'binary_search' which just passes a SearchArray object for bci.
+     * 'binary_search' which passes the bci table.
      *  @param col The column in the array to search, it should be an
      *      integer value.
      *  @param val The value to be searched for.
@@ -113,26 +105,18 @@ public class Charge {
      */
     public int bci_binary_search(int col, int val, int lo, int hi,
             boolean findlow) {
-        return Search.binary(col, val, lo, hi, findlow, new Searchable(){
-            public int get(int row, int col) {
-                return ((Number) bci[row][col]).intValue();
-            }
-
-            public int length() {
-                return bci.length;
-            }
-        });
+        return Search.binary(col, val, lo, hi, findlow, bci);
     }
 
     public double get_bci_f(int row, int col) {
-        return ((Number) bci[row][col]).doubleValue();
+        return bci.getDouble(row, col);
     }
 
     public int get_bci_n(int row, int col) {
-        return ((Number) bci[row][col]).intValue();
+        return bci.get(row, col);
     }
 
     public int get_bci_len() {
-        return bci.length;
+        return bci.length();
     }
 }
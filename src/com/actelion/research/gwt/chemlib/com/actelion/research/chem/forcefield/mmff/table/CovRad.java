@@ -33,7 +33,7 @@
 
 package com.actelion.research.chem.forcefield.mmff.table;
 
-import com.actelion.research.chem.forcefield.mmff.Csv;
+import com.actelion.research.chem.forcefield.mmff.ParameterTable;
 import com.actelion.research.chem.forcefield.mmff.Tables;
 
 /**
@@ -41,20 +41,29 @@ import com.actelion.research.chem.forcefield.mmff.Tables;
  * and 'r0'.
  */
 public final class CovRad implements com.actelion.research.chem.forcefield.mmff.Searchable {
-    private final Object[][] table;
+    private final ParameterTable table;
 
-    public CovRad(Tables t, String csvpath) {
-        table = Csv.readFile(csvpath);
+    public CovRad(Tables t, String data) {
+        table = new ParameterTable(data, 0);
     }
 
     @Override
     public int get(int row, int col) {
-        return ((Number) table[row][col]).intValue();
+        return table.get(row, col);
     }
 
     @Override
     public int length() {
-        return table.length;
+        return table.length();
+    }
+
+    /**
+     * Returns the index of the row for a given atomic number.
+     *  @param atno The atomic number.
+     *  @return The index in the table, or -1 if there is no entry.
+     */
+    public int index(int atno) {
+        return table.find(atno);
     }
 
     /**
@@ -64,7 +73,7 @@ public final class CovRad implements com.actelion.research.chem.forcefield.mmff.
      *  @return The value of 'r0'.
      */
     public double r0(int index) {
-        return ((Number) table[index][1]).doubleValue();
+        return table.getDouble(index, 1);
     }
 
     /**
@@ -74,6 +83,6 @@ public final class CovRad implements com.actelion.research.chem.forcefield.mmff.
      *  @return The value of 'chi'.
      */
     public double chi(int index) {
-        return ((Number) table[index][2]).doubleValue();
+        return table.getDouble(index, 2);
     }
 }
@@ -33,7 +33,7 @@
 
 package com.actelion.research.chem.forcefield.mmff.table;
 
-import com.actelion.research.chem.forcefield.mmff.Csv;
+import com.actelion.research.chem.forcefield.mmff.ParameterTable;
 import com.actelion.research.chem.forcefield.mmff.Tables;
 
 /**
@@ -46,7 +46,11 @@ import com.actelion.research.chem.forcefield.mmff.Tables;
 public final class Def {
     public final int[][] table;
 
-    public Def(Tables t, String csvpath) {
-        table = Csv.readIntsFile(csvpath);
+    public Def(Tables t, String data) {
+        ParameterTable parameters = new ParameterTable(data);
+        table = new int[parameters.length()][5];
+        for (int row=0; row<table.length; row++)
+            for (int col=0; col<5; col++)
+                table[row][col] = parameters.get(row, col);
     }
 }
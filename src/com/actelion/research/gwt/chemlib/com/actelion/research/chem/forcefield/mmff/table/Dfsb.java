@@ -33,28 +33,28 @@
 
 package com.actelion.research.chem.forcefield.mmff.table;
 
-import com.actelion.research.chem.forcefield.mmff.Csv;
 import com.actelion.research.chem.forcefield.mmff.MMFFMolecule;
+import com.actelion.research.chem.forcefield.mmff.ParameterTable;
 import com.actelion.research.chem.forcefield.mmff.PeriodicTable;
 import com.actelion.research.chem.forcefield.mmff.Search;
 import com.actelion.research.chem.forcefield.mmff.Searchable;
 import com.actelion.research.chem.forcefield.mmff.Tables;
 
 public final class Dfsb implements Searchable {
-    private final Object[][] table;
+    private final ParameterTable table;
 
-    public Dfsb(Tables t, String csvpath) {
-        table = Csv.readFile(csvpath);
+    public Dfsb(Tables t, String data) {
+        table = new ParameterTable(data, 1, 0, 2);
     }
 
     @Override
     public int get(int row, int col) {
-        return ((Number) table[row][col]).intValue();
+        return table.get(row, col);
     }
 
     @Override
     public int length() {
-        return table.length;
+        return table.length();
     }
 
     /**
@@ -74,8 +74,7 @@ public final class Dfsb implements Searchable {
         if (a1r > a3r)
             a1r = Search.s(a3r, a3r = a1r);
 
-        return Search.binary(new int[]{1,0,2},
-                new int[]{a2r,a1r,a3r}, this);
+        return table.find(a2r, a1r, a3r);
     }
 
     /**
@@ -92,6 +91,6 @@ public final class Dfsb implements Searchable {
         int at = a1r > a3r ? 4 : 3;
         int idx = index(mol, a1, a2, a3);
 
-        return idx >= 0 ? ((Number) table[idx][at]).doubleValue() : 0.0;
+        return idx >= 0 ? table.getDouble(idx, at) : 0.0;
     }
 }
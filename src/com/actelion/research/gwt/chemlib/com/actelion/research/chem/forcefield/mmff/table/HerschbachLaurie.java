@@ -33,7 +33,7 @@
 
 package com.actelion.research.chem.forcefield.mmff.table;
 
-import com.actelion.research.chem.forcefield.mmff.Csv;
+import com.actelion.research.chem.forcefield.mmff.ParameterTable;
 import com.actelion.research.chem.forcefield.mmff.Tables;
 
 /**
@@ -42,20 +42,30 @@ import com.actelion.research.chem.forcefield.mmff.Tables;
  * stretching parameters.
  */
 public final class HerschbachLaurie implements com.actelion.research.chem.forcefield.mmff.Searchable {
-    private final Object[][] table;
+    private final ParameterTable table;
 
-    public HerschbachLaurie(Tables t, String csvpath) {
-        table = Csv.readFile(csvpath);
+    public HerschbachLaurie(Tables t, String data) {
+        table = new ParameterTable(data, 0, 1);
     }
 
     @Override
     public int get(int row, int col) {
-        return ((Number) table[row][col]).intValue();
+        return table.get(row, col);
     }
 
     @Override
     public int length() {
-        return table.length;
+        return table.length();
+    }
+
+    /**
+     * Returns the index of the row for two periodic table rows.
+     *  @param row1 The periodic table row of the first atom.
+     *  @param row2 The periodic table row of the second atom.
+     *  @return The index in the table, or -1 if there is no entry.
+     */
+    public int index(int row1, int row2) {
+        return table.find(row1, row2);
     }
 
     /**
@@ -65,6 +75,6 @@ public final class HerschbachLaurie implements com.actelion.research.chem.forcef
      *  @return The floating point value at (row,col).
      */
     public double fget(int row, int col) {
-        return ((Number) table[row][col]).doubleValue();
+        return table.getDouble(row, col);
     }
 }
@@ -35,32 +35,31 @@ package com.actelion.research.chem.forcefield.mmff.table;
 
 import java.util.Arrays;
 
-import com.actelion.research.chem.forcefield.mmff.Csv;
 import com.actelion.research.chem.forcefield.mmff.MMFFMolecule;
-import com.actelion.research.chem.forcefield.mmff.Search;
+import com.actelion.research.chem.forcefield.mmff.ParameterTable;
 import com.actelion.research.chem.forcefield.mmff.Searchable;
 import com.actelion.research.chem.forcefield.mmff.Tables;
 
 public class OutOfPlane implements Searchable {
-    private final Object[][] table;
+    private final ParameterTable table;
     private final Tables t;
 
     /**
      *
      */
-    public OutOfPlane(Tables t, String csvpath) {
-        table = Csv.readFile(csvpath);
+    public OutOfPlane(Tables t, String data) {
+        table = new ParameterTable(data, 1, 0, 2, 3);
         this.t = t;
     }
 
     @Override
     public int get(int row, int col) {
-        return ((Number) table[row][col]).intValue();
+        return table.get(row, col);
     }
 
     @Override
     public int length() {
-        return table.length;
+        return table.length();
     }
 
     /**
@@ -87,16 +86,15 @@ public class OutOfPlane implements Searchable {
                 nbrf[n] = t.def.table[nbr[n]-1][i+1];
             Arrays.sort(nbrf);
 
-            int index = Search.binary(new int[]{1,0,2,3},
-                new int[]{act,nbrf[0],nbrf[1],nbrf[2]}, this);
+            int index = table.find(act, nbrf[0], nbrf[1], nbrf[2]);
 
             if (index >= 0)
-                return ((Number) table[index][4]).doubleValue();
+                return table.getDouble(index, 4);
         }
         return 0.0;
     }
 
     public double getKoop(int index) {
-        return ((Number) table[index][4]).doubleValue();
+        return table.getDouble(index, 4);
     }
 }
@@ -33,28 +33,28 @@
 
 package com.actelion.research.chem.forcefield.mmff.table;
 
-import com.actelion.research.chem.forcefield.mmff.Csv;
 import com.actelion.research.chem.forcefield.mmff.MMFFMolecule;
+import com.actelion.research.chem.forcefield.mmff.ParameterTable;
 import com.actelion.research.chem.forcefield.mmff.Search;
 import com.actelion.research.chem.forcefield.mmff.Tables;
 
 public final class Stbn implements com.actelion.research.chem.forcefield.mmff.Searchable {
-    private final Object[][] table;
+    private final ParameterTable table;
     private final Tables t;
 
-    public Stbn(Tables t, String csvpath) {
-        table = Csv.readFile(csvpath);
+    public Stbn(Tables t, String data) {
+        table = new ParameterTable(data, 2, 1, 3, 0);
         this.t = t;
     }
 
     @Override
     public int get(int row, int col) {
-        return ((Number) table[row][col]).intValue();
+        return table.get(row, col);
     }
 
     @Override
     public int length() {
-        return table.length;
+        return table.length();
     }
 
     /**
@@ -75,8 +75,7 @@ public final class Stbn implements com.actelion.research.chem.forcefield.mmff.Se
         if (a1t > a3t)
             a1t = Search.s(a3t, a3t = a1t);
 
-        return Search.binary(new int[]{2,1,3,0},
-                new int[]{a2t,a1t,a3t,angt}, this);
+        return table.find(a2t, a1t, a3t, angt);
     }
 
     /**
@@ -97,7 +96,7 @@ public final class Stbn implements com.actelion.research.chem.forcefield.mmff.Se
         int at = a1t > a3t || a1t == a3t && b1t < b2t ? 1 : 0;
 
         if (idx >= 0)
-            return ((Number) table[idx][4+at]).doubleValue();
+            return table.getDouble(idx, 4+at);
 
         return t.dfsb.kb(mol, a1, a2, a3);
     }
@@ -33,27 +33,26 @@
 
 package com.actelion.research.chem.forcefield.mmff.table;
 
-import com.actelion.research.chem.forcefield.mmff.Csv;
 import com.actelion.research.chem.forcefield.mmff.MMFFMolecule;
+import com.actelion.research.chem.forcefield.mmff.ParameterTable;
 import com.actelion.research.chem.forcefield.mmff.PeriodicTable;
-import com.actelion.research.chem.forcefield.mmff.Search;
 import com.actelion.research.chem.forcefield.mmff.Tables;
 
 public final class Torsion implements com.actelion.research.chem.forcefield.mmff.Searchable {
     // indices: 0, 1, 2, 3, 4
     // Sort order: 2, 3, 1, 4, 0
     // angle type, i type, j type, k type, l type, V1, V2, V3
-    private final Object[][] table;
+    private final ParameterTable table;
     private final Tables t;
 
-    public Torsion(Tables t, String csvpath) {
-        table = Csv.readFile(csvpath);
+    public Torsion(Tables t, String data) {
+        table = new ParameterTable(data, 2, 3, 1, 4, 0);
         this.t = t;
     }
 
     @Override
     public int get(int row, int col) {
-        return ((Number) table[row][col]).intValue();
+        return table.get(row, col);
     }
 
     public static <T> T s(T a, T b) {
@@ -62,7 +61,7 @@ public final class Torsion implements com.actelion.research.chem.forcefield.mmff
 
     @Override
     public int length() {
-        return table.length;
+        return table.length();
     }
 
 
@@ -72,9 +71,9 @@ public final class Torsion implements com.actelion.research.chem.forcefield.mmff
         public double v3;
 
         public Kb(int index) {
-            v1 = ((Number) table[index][5]).doubleValue();
-            v2 = ((Number) table[index][6]).doubleValue();
-            v3 = ((Number) table[index][7]).doubleValue();
+            v1 = table.getDouble(index, 5);
+            v2 = table.getDouble(index, 6);
+            v3 = table.getDouble(index, 7);
         }
 
         public Kb() {
@@ -110,8 +109,7 @@ public final class Torsion implements com.actelion.research.chem.forcefield.mmff
      *      was found.
      */
     public int index(int a1t, int a2t, int a3t, int a4t, int tort) {
-        return Search.binary(new int[]{2,3,1,4,0},
-                new int[]{a2t,a3t,a1t,a4t,tort}, this);
+        return table.find(a2t, a3t, a1t, a4t, tort);
     }
 
     /**
@@ -33,7 +33,7 @@
 
 package com.actelion.research.chem.forcefield.mmff.table;
 
-import com.actelion.research.chem.forcefield.mmff.Csv;
+import com.actelion.research.chem.forcefield.mmff.ParameterTable;
 import com.actelion.research.chem.forcefield.mmff.Tables;
 
 public final class VanDerWaals implements com.actelion.research.chem.forcefield.mmff.Searchable {
@@ -45,20 +45,20 @@ public final class VanDerWaals implements com.actelion.research.chem.forcefield.
     // power      B       Beta     DARAD      DAEPS\n"
     // 0.25       0.2     12.      0.8        0.5\n"
 
-    private final Object[][] table;
+    private final ParameterTable table;
 
-    public VanDerWaals(Tables t, String csvpath) {
-        table = Csv.readFile(csvpath);
+    public VanDerWaals(Tables t, String data) {
+        table = new ParameterTable(data, 0);
     }
 
     @Override
     public int get(int row, int col) {
-        return ((Number) table[row][col]).intValue();
+        return table.get(row, col);
     }
 
     @Override
     public int length() {
-        return table.length;
+        return table.length();
     }
 
     /**
@@ -67,7 +67,7 @@ public final class VanDerWaals implements com.actelion.research.chem.forcefield.
      *  @return alpha-i.
      */
     public double alpha_i(int type) {
-        return ((Number) table[index(type)][1]).doubleValue();
+        return table.getDouble(index(type), 1);
     }
 
     /**
@@ -76,7 +76,7 @@ public final class VanDerWaals implements com.actelion.research.chem.forcefield.
      *  @return N-i.
      */
     public double n_i(int type) {
-        return ((Number) table[index(type)][2]).doubleValue();
+        return table.getDouble(index(type), 2);
     }
 
     /**
@@ -85,7 +85,7 @@ public final class VanDerWaals implements com.actelion.research.chem.forcefield.
      *  @return A-i.
      */
     public double a_i(int type) {
-        return ((Number) table[index(type)][3]).doubleValue();
+        return table.getDouble(index(type), 3);
     }
 
     /**
@@ -94,7 +94,7 @@ public final class VanDerWaals implements com.actelion.research.chem.forcefield.
      *  @return G-i.
      */
     public double g_i(int type) {
-        return ((Number) table[index(type)][4]).doubleValue();
+        return table.getDouble(index(type), 4);
     }
 
     /**
@@ -103,7 +103,7 @@ public final class VanDerWaals implements com.actelion.research.chem.forcefield.
      *  @return DA.
      */
     public char da(int type) {
-        return ((Character) table[index(type)][5]).charValue();
+        return table.getChar(index(type), 5);
     }
 
     /**
@@ -113,8 +113,8 @@ public final class VanDerWaals implements com.actelion.research.chem.forcefield.
      */
     public double r_star(int type) {
         int idx = index(type);
-        return ((Number) table[idx][3]).doubleValue()
-            * Math.pow(((Number) table[idx][1]).doubleValue(), power);
+        return table.getDouble(idx, 3)
+            * Math.pow(table.getDouble(idx, 1), power);
     }
 
     /**
@@ -123,6 +123,6 @@ public final class VanDerWaals implements com.actelion.research.chem.forcefield.
      *  @return An index in the atprop table, or -1 if no index was found.
      */
     private int index(int type) {
-        return com.actelion.research.chem.forcefield.mmff.Search.binary(0, type, this);
+        return table.find(type);
     }
 }
@@ -1,19 +1,14 @@
 package com.actelion.research.chem.mcs;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Arrays;
 import java.util.List;
 
-import com.actelion.research.calc.ArrayUtilsCalc;
 import com.actelion.research.chem.ExtendedMoleculeFunctions;
 import com.actelion.research.chem.Molecule;
 import com.actelion.research.chem.RingCollection;
 import com.actelion.research.chem.SSSearcher;
 import com.actelion.research.chem.StereoMolecule;
-import com.actelion.research.util.datamodel.IntVec;
 
 /*
 * Copyright (c) 1997 - 2016
@@ -47,6 +42,14 @@ import com.actelion.research.util.datamodel.IntVec;
 * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
 *
 */
+/**
+ * MCSFast grows common substructures of frag and mol bond by bond, starting from every single bond
+ * of frag (or ring, depending on the ring status) and always extending the largest candidate;
+ * of equally large candidates the one added last is taken.
+ * Bond sets are packed long[] bitsets in a BondSetPool, which is reused for all calls of set().
+ * A candidate is validated by extending the molecule match of the solution it was grown from
+ * with SSSearcher's atom and bond similarity; only if this fails, a full sub-structure search is done.
+ */
 public class MCSFast {
 	
 	public static final int PAR_CLEAVE_RINGS=0; 
@@ -55,38 +58,44 @@ public class MCSFast {
 	
 	public static final int PAR_KEEP_AROMATIC_RINGS=2; 
 	
-	private static final boolean DEBUG = false;
-	
-	private static final int CAPACITY = (60+60)*10; 
+	private static final int MATCH_MODE = SSSearcher.cDefaultMatchMode;
 	
 	private StereoMolecule mol;
 	
 	private StereoMolecule frag;
 	
-	private HashSet<IntVec> hsIndexFragCandidates;
-	
-	private HashSet<IntVec> hsIndexFragGarbage;
+	private BondSetPool pool;
 	
-	private HashSet<IntVec> hsIndexFragSolution;
+	// all solutions of the current molecule pair in the order they were found
+	private List<Integer> liSolutionFound;
 	
 	private SSSearcher sss;
 	
-	private ComparatorBitsSet comparatorBitsSet;
-	
 	private StereoMolecule molMCS;
 	
 	private boolean considerAromaticRings;
 	
 	private boolean considerRings;
 	
-	// The largest valid solutions.
-	private List<IntVec> liMCSSolutions;
+	// for every fragment bond the bits to be set, when the bond is added to a bond set
+	private long[][] arrBondMask;
+	
+	// scratch arrays for the current fragment and molecule
+	private long[] set;
+	
+	private int[] arrMapAtomFragToSub;
+	
+	private int[] arrMapBondFragToSub;
+	
+	private int[] arrMapAtomSubToFrag;
 	
-	private HashMap<Integer, List<int []>> hmRingBnd_ListRingBnds;
+	private boolean[] arrAtomInSet;
 	
-	private HashMap<Integer, List<int []>> hmAromaticRingBnd_ListRingBnds;
+	private MatchExtender extender;
 	
-	private RingCollection ringCollection;
+	private int fullSearches;
+	
+	private int incrementalMatches;
 	
 	public MCSFast() {
 		this(PAR_CLEAVE_RINGS);
@@ -112,21 +121,13 @@ public class MCSFast {
 			break;
 		}
 		
-		hsIndexFragCandidates = new HashSet<IntVec>(CAPACITY);
-		
-		hsIndexFragGarbage = new HashSet<IntVec>(CAPACITY);
+		pool = new BondSetPool();
 		
-		hsIndexFragSolution = new HashSet<IntVec>(CAPACITY);
-		
-		liMCSSolutions = new ArrayList<IntVec>(CAPACITY);
+		liSolutionFound = new ArrayList<Integer>();
 		
 		sss = new SSSearcher();
 		
-		comparatorBitsSet = new ComparatorBitsSet();
-		
-		hmRingBnd_ListRingBnds = new HashMap<Integer, List<int []>>();
-		
-		hmAromaticRingBnd_ListRingBnds = new HashMap<Integer, List<int []>>();
+		extender = new MatchExtender();
 	}
 	
 	public void set(StereoMolecule mol, StereoMolecule frag) {
@@ -141,129 +142,99 @@ public class MCSFast {
 	
 	private void init(){
 		
-		hsIndexFragCandidates.clear();
+		frag.ensureHelperArrays(Molecule.cHelperRings);
 		
-		hsIndexFragGarbage.clear();
+		mol.ensureHelperArrays(Molecule.cHelperRings);
 		
-		hsIndexFragSolution.clear();
+		int bonds = frag.getBonds();
 		
-		liMCSSolutions.clear();
+		pool.reset(bonds);
 		
-		hmRingBnd_ListRingBnds.clear();
+		liSolutionFound.clear();
 		
-		hmAromaticRingBnd_ListRingBnds.clear();
+		int words = pool.getWords();
 		
-		initCandidates();
+		if(set == null || set.length != words) {
+			set = new long[words];
+		}
+		
+		arrMapAtomFragToSub = ensureSize(arrMapAtomFragToSub, frag.getAtoms());
+		arrMapAtomSubToFrag = ensureSize(arrMapAtomSubToFrag, frag.getAtoms());
+		arrMapBondFragToSub = ensureSize(arrMapBondFragToSub, bonds);
+		
+		if(arrAtomInSet == null || arrAtomInSet.length < frag.getAtoms()) {
+			arrAtomInSet = new boolean[frag.getAtoms()];
+		}
+		
+		fullSearches = 0;
+		
+		incrementalMatches = 0;
+		
+		extender.init(frag, pool, arrMapAtomFragToSub, arrMapBondFragToSub);
 		
+		initBondMasks();
+		
+		initCandidates();
 	}
 	
-	private void initCandidates(){
+	private static int [] ensureSize(int [] a, int size){
+		return (a == null || a.length < size) ? new int [size] : a;
+	}
+	
+	private void initBondMasks(){
 		
-		ringCollection = frag.getRingSet();
+		int bonds = frag.getBonds();
 		
-		int rings = ringCollection.getSize();
-						
-		for (int i = 0; i < rings; i++) {
-			
-			int [] arrIndexBnd = ringCollection.getRingBonds(i);
-			
-			for (int j = 0; j < arrIndexBnd.length; j++) {
-				
-				if(!hmRingBnd_ListRingBnds.containsKey(arrIndexBnd[j])){
-					
-					hmRingBnd_ListRingBnds.put(arrIndexBnd[j], new ArrayList<int []>());
-					
-				}
-				
-				List<int []> li = hmRingBnd_ListRingBnds.get(arrIndexBnd[j]);
-				
-				li.add(arrIndexBnd);
-				
-			}
-			
-			if(ringCollection.isAromatic(i)){
-				
-				for (int j = 0; j < arrIndexBnd.length; j++) {
-					
-					if(!hmAromaticRingBnd_ListRingBnds.containsKey(arrIndexBnd[j])){
-						
-						hmAromaticRingBnd_ListRingBnds.put(arrIndexBnd[j], new ArrayList<int []>());
-						
-					}
-					
-					List<int []> li = hmAromaticRingBnd_ListRingBnds.get(arrIndexBnd[j]);
-					
-					li.add(arrIndexBnd);
-					
-				}
-			}
-			
-			
+		int words = pool.getWords();
+		
+		arrBondMask = new long[bonds][words];
+		
+		for (int i = 0; i < bonds; i++) {
+			arrBondMask[i][i >>> 6] |= 1L << i;
 		}
 		
-		// Array length for bit list.
-		int nInts = (int)(((double)frag.getBonds() / Integer.SIZE) + ((double)(Integer.SIZE-1)/Integer.SIZE));
+		if(!considerRings && !considerAromaticRings) {
+			return;
+		}
 		
-		// The vector is used as bit vector.
-		// For each bond one bit.
-		for (int i = 0; i < frag.getBonds(); i++) {
-			
-			IntVec iv = new IntVec(nInts);
+		RingCollection ringCollection = frag.getRingSet();
+		
+		for (int i = 0; i < ringCollection.getSize(); i++) {
 			
-			setBitAndAddRelatedRingBonds(i, iv);
+			if(!considerRings && !ringCollection.isAromatic(i)) {
+				continue;
+			}
 			
-			hsIndexFragCandidates.add(iv);
+			int [] arrIndexBnd = ringCollection.getRingBonds(i);
 			
+			for (int j = 0; j < arrIndexBnd.length; j++) {
+				for (int k = 0; k < arrIndexBnd.length; k++) {
+					arrBondMask[arrIndexBnd[j]][arrIndexBnd[k] >>> 6] |= 1L << arrIndexBnd[k];
+				}
+			}
 		}
 	}
 	
-	
-	private void setBitAndAddRelatedRingBonds(int bit, IntVec iv){
-		if(!considerAromaticRings && !considerRings) {
-			iv.setBit(bit);
-			
-		} else if(considerRings) {
-			
-			iv.setBit(bit);
+	private void initCandidates(){
+		
+		// One candidate per bond (including its rings, if rings are kept).
+		for (int i = 0; i < frag.getBonds(); i++) {
 			
-			if(hmRingBnd_ListRingBnds.containsKey(bit)){
-				List<int []> li = hmRingBnd_ListRingBnds.get(bit);
-				
-				for (int i = 0; i < li.size(); i++) {
-					int [] a = li.get(i);
-					
-					for (int j = 0; j < a.length; j++) {
-						iv.setBit(a[j]);
-					}
-				}
-				
-			}
+			System.arraycopy(arrBondMask[i], 0, set, 0, set.length);
 			
-		} else if(considerAromaticRings) {
+			int entry = pool.getOrAdd(set);
 			
-			iv.setBit(bit);
-			if(hmAromaticRingBnd_ListRingBnds.containsKey(bit)){
-				
-				List<int []> li = hmAromaticRingBnd_ListRingBnds.get(bit);
-				
-				for (int i = 0; i < li.size(); i++) {
-					int [] a = li.get(i);
-					
-					for (int j = 0; j < a.length; j++) {
-						iv.setBit(a[j]);
-					}
-				}
+			if(pool.getState(entry) == BondSetPool.NEW) {
+				pool.pushCandidate(entry);
 			}
 		}
-		
-		iv.calculateHashCode();
 	}
 	
 	/**
 	 * Checks first fragment for being sub structure of molecule. If true, frag is returned.
-	 * @return
+	 * @return entries of all solutions, which are not part of a larger solution, or null
 	 */
-	private List<IntVec> getAllSolutionsForCommonSubstructures (){
+	private List<Integer> getAllSolutionsForCommonSubstructures (){
 		
 		sss.setMolecule(mol);
 		
@@ -272,94 +243,55 @@ public class MCSFast {
 		sss.setFragment(frag);
 		
 		// The MCS is the complete fragment.
-		try {
-			if(sss.findFragmentInMolecule()>0){
-				molMCS = frag;
-				
-				List<IntVec> liIndexFragCandidates = new ArrayList<IntVec>(hsIndexFragCandidates);
-				
-				IntVec iv = liIndexFragCandidates.get(0);
-				
-				iv.setBits(0, iv.sizeBits());
-				
-				iv.calculateHashCode();
-				
-				List<IntVec> li = new ArrayList<IntVec>();
-				
-				li.add(iv);
-				
-				return li;
-			}
-		} catch (Exception e) {
-			// TODO Auto-generated catch block
-			e.printStackTrace();
-		}
-				
-		int maxSizeCandidates = 0;
-		
-		while(!hsIndexFragCandidates.isEmpty()){
+		if(sss.isFragmentInMolecule()){
 			
-			List<IntVec> liIndexFragCandidates = new ArrayList<IntVec>(hsIndexFragCandidates);
+			Arrays.fill(set, 0);
 			
-			Collections.sort(liIndexFragCandidates, comparatorBitsSet);
+			for (int i = 0; i < frag.getBonds(); i++) {
+				set[i >>> 6] |= 1L << i;
+			}
 			
-			IntVec iv = liIndexFragCandidates.get(liIndexFragCandidates.size()-1);
+			int entry = pool.getOrAdd(set);
 			
-			hsIndexFragCandidates.remove(iv);
+			pool.setState(entry, BondSetPool.SOLUTION);
 			
-			if(DEBUG) {
-				System.out.println("Bits set " + iv.getBitsSet());
-				
-				if(iv.getBitsSet() == frag.getBonds()){
-					System.out.println("Full structure in iv.");
-				}
-			}
+			List<Integer> li = new ArrayList<Integer>();
+			
+			li.add(entry);
 			
-			StereoMolecule fragSub = getSubFrag(frag, iv);
+			return li;
+		}
+		
+		int entry;
+		
+		while((entry = pool.pollLargestCandidate()) != -1){
 			
-			sss.setFragment(fragSub);
+			int [] match = findMatch(entry);
 			
-			if(sss.findFragmentInMolecule()>0){
-
-				hsIndexFragSolution.add(iv);
-
-				removeAllSubSolutions(iv);
+			if(match != null){
 				
-				if(iv.getBitsSet() != frag.getBonds()) {
-					List<IntVec> liIV = getAllPlusOneAtomCombinations(iv, frag);
-					
-					for (IntVec ivPlus : liIV) {
-						
-						if(DEBUG) {
-							if(ivPlus.getBitsSet() == frag.getBonds()){
-								System.out.println("Full structure in ivPlus.");
-							}
-						}
-						
-						if((!hsIndexFragGarbage.contains(ivPlus)) && (!hsIndexFragSolution.contains(ivPlus))){
-							
-							hsIndexFragCandidates.add(ivPlus);	
-						}
-						
-					}
-					
-					if(DEBUG)
-						System.out.println("tsIndexFragCandidates " + hsIndexFragCandidates.size());
-				}
+				pool.setState(entry, BondSetPool.SOLUTION);
+				
+				pool.setMatch(entry, match);
 				
-				if(maxSizeCandidates < hsIndexFragCandidates.size())
-					maxSizeCandidates = hsIndexFragCandidates.size();
+				liSolutionFound.add(entry);
+				
+				pool.removeCandidatesInSolution(entry);
+				
+				if(pool.getBitCount(entry) != frag.getBonds()) {
+					addAllPlusOneBondCombinations(entry);
+				}
 				
 			} else {
-				hsIndexFragGarbage.add(iv);
+				pool.setState(entry, BondSetPool.GARBAGE);
 			}
 		}
 		
-		if(hsIndexFragSolution.size()==0){
+		if(liSolutionFound.size()==0){
 			return null;
 		}
 		
-		return getFinalSolutionSet(hsIndexFragSolution);
+		return getFinalSolutionSet(liSolutionFound);
 	}
 	
 	/**
@@ -368,22 +300,21 @@ public class MCSFast {
 	 */
 	public List<StereoMolecule> getAllCommonSubstructures (){
 		
-		List<IntVec> liIndexFragSolution = getAllSolutionsForCommonSubstructures();
+		List<Integer> liSolution = getAllSolutionsForCommonSubstructures();
 		
-		if(liIndexFragSolution==null){
+		if(liSolution==null){
 			return null;
 		}
 		
-		Collections.sort(liIndexFragSolution, comparatorBitsSet);
-		
-		IntVec ivMCS = liIndexFragSolution.get(liIndexFragSolution.size()-1);
+		int [] arrSolution = getSolutionsSortedBySize(liSolution);
 		
-		molMCS = getSubFrag(frag, ivMCS);
+		// Of several solutions with the most bonds the last one found is taken.
+		molMCS = getSubFrag(arrSolution[arrSolution.length-1]);
 		
 		List<StereoMolecule> li = new ArrayList<StereoMolecule>();
 		
-		for (IntVec iv : liIndexFragSolution) {
-			li.add(getSubFrag(frag, iv));
+		for (int entry : arrSolution) {
+			li.add(getSubFrag(entry));
 		}
 		
 		return ExtendedMoleculeFunctions.removeSubStructures(li);
@@ -395,48 +326,98 @@ public class MCSFast {
 	 */
 	public StereoMolecule getMCS(){
 		
-		List<IntVec> liIndexFragSolution = getAllSolutionsForCommonSubstructures ();
+		List<Integer> liSolution = getAllSolutionsForCommonSubstructures ();
 		
-		if(liIndexFragSolution==null){
+		if(liSolution==null){
 			return null;
 		}
 		
-		Collections.sort(liIndexFragSolution, comparatorBitsSet);
+		molMCS = getSubFrag(getLargestSolution(liSolution));
+		
+		return molMCS;
+	}
+	
+	/**
+	 * Counting sort of the solutions by their number of bonds. The sort is stable,
+	 * such that equally large solutions stay in the order they were found.
+	 * @param liSolution
+	 * @return solutions with increasing number of bonds
+	 */
+	private int [] getSolutionsSortedBySize(List<Integer> liSolution){
+		
+		int [] arrStart = new int[frag.getBonds()+2];
+		
+		for (int entry : liSolution) {
+			arrStart[pool.getBitCount(entry)+1]++;
+		}
+		
+		for (int i = 1; i < arrStart.length; i++) {
+			arrStart[i] += arrStart[i-1];
+		}
 		
-		IntVec ivMCS = liIndexFragSolution.get(liIndexFragSolution.size()-1);
+		int [] arrSolution = new int[liSolution.size()];
 		
-		molMCS = getSubFrag(frag, ivMCS);
+		for (int entry : liSolution) {
+			arrSolution[arrStart[pool.getBitCount(entry)]++] = entry;
+		}
 		
-		return molMCS;
+		return arrSolution;
 	}
-
-
-	private static StereoMolecule getSubFrag(StereoMolecule frag, IntVec iv){
+	
+	private int getLargestSolution(List<Integer> liSolution){
+		
+		int best = liSolution.get(0);
+		
+		// Of several solutions with the most bonds the last one found is taken.
+		for (int entry : liSolution) {
+			if(pool.getBitCount(entry) >= pool.getBitCount(best)) {
+				best = entry;
+			}
+		}
+		
+		return best;
+	}
+	
+	/**
+	 * Builds the fragment of the bonds of entry and fills the atom and bond maps between frag and sub fragment.
+	 */
+	private StereoMolecule getSubFrag(int entry){
 		
 		int bonds = frag.getBonds();
 		
-		HashSet<Integer> hsAtomIndex = new HashSet<Integer>();
+		int atoms = frag.getAtoms();
+		
+		Arrays.fill(arrAtomInSet, 0, atoms, false);
+		
+		int nBonds = 0;
+		
 		for (int i = 0; i < bonds; i++) {
-			if(iv.isBitSet(i)){
-				
-				int indexAtom1 = frag.getBondAtom(0, i);
-				int indexAtom2 = frag.getBondAtom(1, i);
-				
-				hsAtomIndex.add(indexAtom1);
-				
-				hsAtomIndex.add(indexAtom2);
+			if(pool.isBitSet(entry, i)){
+				arrAtomInSet[frag.getBondAtom(0, i)] = true;
+				arrAtomInSet[frag.getBondAtom(1, i)] = true;
+				nBonds++;
 			}
-		}		
+		}
 		
-		StereoMolecule fragSubBonds = new StereoMolecule(hsAtomIndex.size(), bonds);
+		int nAtoms = 0;
 		
-		fragSubBonds.setFragment(true);
+		for (int i = 0; i < atoms; i++) {
+			if(arrAtomInSet[i]) {
+				nAtoms++;
+			}
+		}
 		
-		int [] arrMapAtom = new int [frag.getAtoms()];
+		StereoMolecule fragSubBonds = new StereoMolecule(nAtoms, nBonds);
 		
-		ArrayUtilsCalc.set(arrMapAtom, -1);
+		fragSubBonds.setFragment(true);
 		
-		for (int indexAtom : hsAtomIndex) {
+		for (int indexAtom = 0; indexAtom < atoms; indexAtom++) {
+			
+			arrMapAtomFragToSub[indexAtom] = -1;
+			
+			if(!arrAtomInSet[indexAtom]) {
+				continue;
+			}
 			
 			int indexAtomNew = fragSubBonds.addAtom(frag.getAtomicNo(indexAtom));
 			
@@ -444,30 +425,27 @@ public class MCSFast {
 			fragSubBonds.setAtomY(indexAtomNew, frag.getAtomY(indexAtom));
 			fragSubBonds.setAtomZ(indexAtomNew, frag.getAtomZ(indexAtom));
 			
-			arrMapAtom[indexAtom]=indexAtomNew;
+			arrMapAtomFragToSub[indexAtom]=indexAtomNew;
+			
+			arrMapAtomSubToFrag[indexAtomNew]=indexAtom;
 		}
 		
 		for (int i = 0; i < bonds; i++) {
-			if(iv.isBitSet(i)){
-				
-				int indexAtom1 = frag.getBondAtom(0, i);
-				int indexAtom2 = frag.getBondAtom(1, i);
+			
+			arrMapBondFragToSub[i] = -1;
+			
+			if(pool.isBitSet(entry, i)){
 				
-				int indexAtomNew1 = arrMapAtom[indexAtom1];
-				int indexAtomNew2 = arrMapAtom[indexAtom2];
+				int indexAtomNew1 = arrMapAtomFragToSub[frag.getBondAtom(0, i)];
+				int indexAtomNew2 = arrMapAtomFragToSub[frag.getBondAtom(1, i)];
 				
 				int type = frag.getBondType(i);
 				
 				if(frag.isDelocalizedBond(i)){
 					type = Molecule.cBondTypeDelocalized;
-					
-					// fragSubBonds.setBondQueryFeature(bondIndexNew, Molecule.cBondQFDelocalized, true);
 				}
 				
-				// int bondIndexNew = fragSubBonds.addBond(indexAtomNew1, indexAtomNew2, type);
-				fragSubBonds.addBond(indexAtomNew1, indexAtomNew2, type);
-				
-
+				arrMapBondFragToSub[i] = fragSubBonds.addBond(indexAtomNew1, indexAtomNew2, type);
 			}
 		}
 		
@@ -476,119 +454,114 @@ public class MCSFast {
 		return fragSubBonds;
 	}
 	
-
-	private List<IntVec> getAllPlusOneAtomCombinations(IntVec iv, StereoMolecule frag){
-		
-		int bonds = frag.getBonds();
+	/**
+	 * @return fragment atom to molecule atom mapping of the bonds of entry or null, if they are no sub structure of mol
+	 */
+	private int [] findMatch(int entry){
 		
-		List<IntVec> liIntVec = new ArrayList<IntVec>();
+		StereoMolecule fragSub = getSubFrag(entry);
 		
+		sss.setFragment(fragSub);
 		
-		HashSet<Integer> hsAtomIndex = new HashSet<Integer>();
+		int parent = pool.getParent(entry);
 		
-		for (int i = 0; i < bonds; i++) {
+		if(parent != -1 && extender.prepare(entry, parent)) {
 			
-			if(iv.isBitSet(i)){
-				
-				int indexAt1 = frag.getBondAtom(0, i);
-				
-				int indexAt2 = frag.getBondAtom(1, i);
-				
-				hsAtomIndex.add(indexAt1);
-				hsAtomIndex.add(indexAt2);
+			sss.setupAtomAndBondFeatures(MATCH_MODE);
+			
+			int [] match = Arrays.copyOf(pool.getMatch(parent), frag.getAtoms());
+			
+			if(extender.extend(mol, sss, match)) {
+				incrementalMatches++;
+				return match;
 			}
 		}
 		
-		for (int i = 0; i < bonds; i++) {
-			if(!iv.isBitSet(i)){
-				int indexAt1 = frag.getBondAtom(0, i);
-				
-				int indexAt2 = frag.getBondAtom(1, i);
-				
-				if(hsAtomIndex.contains(indexAt1) || hsAtomIndex.contains(indexAt2)) {
-					IntVec ivPlus = new IntVec(iv.get());
-					
-					setBitAndAddRelatedRingBonds(i, ivPlus);
-					
-					liIntVec.add(ivPlus);
-				}
-			}
+		fullSearches++;
+		
+		if(sss.findFragmentInMolecule(SSSearcher.cCountModeFirstMatch, MATCH_MODE) == 0) {
+			return null;
 		}
 		
-		return liIntVec;
-	}
-
-	/**
-	 * Removes all sub-solutions from hsIndexFragCandidates.
-	 * @param ivSolution
-	 */
-	private void removeAllSubSolutions(IntVec ivSolution){
+		int [] matchSub = sss.getMatchList().get(0);
 		
-		List<IntVec> liIndexFragSolution = new ArrayList<IntVec>(hsIndexFragCandidates);
+		int [] match = new int [frag.getAtoms()];
 		
-		for (IntVec ivCandidate : liIndexFragSolution) {
-			if(isCandidateInSolution(ivSolution, ivCandidate)) {
-				
-				hsIndexFragCandidates.remove(ivCandidate);
-			}
+		Arrays.fill(match, -1);
+		
+		for (int i = 0; i < matchSub.length; i++) {
+			match[arrMapAtomSubToFrag[i]] = matchSub[i];
 		}
+		
+		return match;
 	}
 	
 	/**
-	 * All sub solutions are removed.
-	 * @param hsIndexFragSolution
-	 * @return
+	 * Adds all bond sets, which have one more bond (and its rings, if rings are kept) connected
+	 * to the solution, as candidates, if they were not yet found to be solution or garbage.
 	 */
-	private static List<IntVec> getFinalSolutionSet(HashSet<IntVec> hsIndexFragSolution ){
+	private void addAllPlusOneBondCombinations(int entry){
 		
-		List<IntVec> liIndexFragSolution = new ArrayList<IntVec>(hsIndexFragSolution);
+		int bonds = frag.getBonds();
 		
-		for (int i = liIndexFragSolution.size()-1; i >= 0; i--) {
-			IntVec ivCandidate = liIndexFragSolution.get(i);
-			
-			for (int j = 0; j < liIndexFragSolution.size(); j++) {
-				IntVec ivSolution = liIndexFragSolution.get(j);
+		int atoms = frag.getAtoms();
+		
+		Arrays.fill(arrAtomInSet, 0, atoms, false);
+		
+		for (int i = 0; i < bonds; i++) {
+			if(pool.isBitSet(entry, i)){
+				arrAtomInSet[frag.getBondAtom(0, i)] = true;
+				arrAtomInSet[frag.getBondAtom(1, i)] = true;
+			}
+		}
+		
+		for (int i = 0; i < bonds; i++) {
+			if(!pool.isBitSet(entry, i)){
 				
-				if(i!=j){
-					if(isCandidateInSolution(ivSolution, ivCandidate)) {
-						liIndexFragSolution.remove(i);
-						break;
+				if(arrAtomInSet[frag.getBondAtom(0, i)] || arrAtomInSet[frag.getBondAtom(1, i)]) {
+					
+					pool.copy(entry, set);
+					
+					long [] mask = arrBondMask[i];
+					
+					for (int j = 0; j < set.length; j++) {
+						set[j] |= mask[j];
+					}
+					
+					int entryPlus = pool.getOrAdd(set);
+					
+					byte state = pool.getState(entryPlus);
+					
+					if(state == BondSetPool.NEW || state == BondSetPool.REMOVED) {
+						pool.setParent(entryPlus, entry);
+						pool.pushCandidate(entryPlus);
 					}
 				}
 			}
 		}
-		
-		return liIndexFragSolution;
 	}
 	
-	private static final boolean isCandidateInSolution(IntVec ivSolution, IntVec ivCandidate){
-		
-		IntVec iv = IntVec.OR(ivSolution, ivCandidate);
-		
-		if(iv.equals(ivSolution)){
-			return true;
-		}
+	/**
+	 * All sub solutions are removed.
+	 * @param liSolution
+	 * @return
+	 */
+	private List<Integer> getFinalSolutionSet(List<Integer> liSolution){
 		
-		return false;
-	}
-	
-	private static class ComparatorBitsSet implements  Comparator<IntVec> {
+		List<Integer> liFinal = new ArrayList<Integer>(liSolution);
 		
-		public int compare(IntVec iv1, IntVec iv2) {
-			
-			int bits1 = iv1.getBitsSet();
+		for (int i = liFinal.size()-1; i >= 0; i--) {
+			int candidate = liFinal.get(i);
 			
-			int bits2 = iv2.getBitsSet();
-			
-			if(bits1>bits2){
-				return 1;
-			} else if(bits1<bits2){
-				return -1;
+			for (int j = 0; j < liFinal.size(); j++) {
+				if(i!=j && pool.isSubset(candidate, liFinal.get(j))) {
+					liFinal.remove(i);
+					break;
+				}
 			}
-			
-			return 0;
 		}
 		
+		return liFinal;
 	}
 	
 	public double getScore(){
@@ -614,57 +587,17 @@ public class MCSFast {
 		return considerRings;
 	}
 	
-//	static class Solution  {
-//		
-//		IntVec iv;
-//		
-//		int [] arrMatchMolecule;
-//		
-//		
-//		int hash;
-//		
-//		public Solution(IntVec iv, int [] arrMatchMolecule) {
-//			
-//			this.iv = new IntVec(iv);
-//			
-//			this.arrMatchMolecule = arrMatchMolecule;
-//			
-//			int [] a = iv.get();
-//			
-//			int [] arrHash = new int [a.length+arrMatchMolecule.length];
-//			
-//			System.arraycopy(a, 0, arrHash, 0, a.length);
-//			
-//			System.arraycopy(arrMatchMolecule, 0, arrHash, a.length, arrMatchMolecule.length);
-//			
-//			hash = new IntVec(arrHash).hashCode();
-//			
-//		}
-//		
-//		
-//		public int hashCode() {
-//			return hash;
-//		}
-//		
-//		public boolean equals(Object obj) {
-//			
-//			if(!(obj instanceof Solution)) {
-//				return false;
-//			}
-//			
-//			Solution solution = (Solution)obj;
-//			
-//			if(!iv.equal(solution.iv)){
-//				return false;
-//			}
-//			
-//			if(!ArrayUtilsCalc.equals(arrMatchMolecule, solution.arrMatchMolecule)){
-//				return false;
-//			}
-//			
-//			return true;
-//		}
-//		
-//
-//	}
+	/**
+	 * @return number of candidates of the last search, which were validated by a full sub structure search
+	 */
+	public int getFullSearchCount() {
+		return fullSearches;
+	}
+	
+	/**
+	 * @return number of candidates of the last search, which were validated by extending their parent's match
+	 */
+	public int getIncrementalMatchCount() {
+		return incrementalMatches;
+	}
 }
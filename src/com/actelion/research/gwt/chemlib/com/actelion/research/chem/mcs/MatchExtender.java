@@ -0,0 +1,243 @@
+package com.actelion.research.chem.mcs;
+
+import java.util.Arrays;
+
+import com.actelion.research.chem.SSSearcher;
+import com.actelion.research.chem.StereoMolecule;
+
+/**
+ * Extends the molecule match of a solution to a candidate, which was grown from it by some bonds.
+ * prepare() orders the atoms, which the candidate has in addition to its parent, such that each one
+ * is bound to an atom matched before. extend() then maps them onto unused neighbours in one molecule,
+ * using the atom and bond similarity of an SSSearcher, which has the candidate's sub fragment with
+ * set up features. A successful extension is a valid sub structure match; a failed one is not a proof
+ * that no match exists, such that the caller must fall back to a full sub structure search.
+ */
+class MatchExtender {
+
+	private StereoMolecule frag;
+
+	private BondSetPool pool;
+
+	private int entry;
+
+	private int [] arrMapAtomFragToSub;
+
+	private int [] arrMapBondFragToSub;
+
+	private boolean [] arrAtomInParent;
+
+	private boolean [] arrMolAtomUsed;
+
+	private int [] arrNewAtom;
+
+	private int [] arrNewAtomParent;
+
+	private int nNew;
+
+	private StereoMolecule mol;
+
+	private SSSearcher sss;
+
+	/**
+	 * @param frag the molecule, whose bonds are numbered by the bond sets
+	 * @param arrMapAtomFragToSub frag atom to sub fragment atom, filled for the candidate before extend() is called
+	 * @param arrMapBondFragToSub frag bond to sub fragment bond, filled for the candidate before extend() is called
+	 */
+	void init(StereoMolecule frag, BondSetPool pool, int [] arrMapAtomFragToSub, int [] arrMapBondFragToSub){
+
+		this.frag = frag;
+
+		this.pool = pool;
+
+		this.arrMapAtomFragToSub = arrMapAtomFragToSub;
+
+		this.arrMapBondFragToSub = arrMapBondFragToSub;
+
+		int atoms = frag.getAtoms();
+
+		if(arrNewAtom == null || arrNewAtom.length < atoms) {
+			arrNewAtom = new int [atoms];
+			arrNewAtomParent = new int [atoms];
+			arrAtomInParent = new boolean [atoms];
+		}
+	}
+
+	/**
+	 * Orders the atoms of entry, which are not in parent.
+	 * @return false if some new atom is not connected to the parent's atoms by bonds of entry
+	 */
+	boolean prepare(int entry, int parent){
+
+		this.entry = entry;
+
+		int atoms = frag.getAtoms();
+
+		int bonds = frag.getBonds();
+
+		Arrays.fill(arrAtomInParent, 0, atoms, false);
+
+		for (int i = 0; i < bonds; i++) {
+			if(pool.isBitSet(parent, i)){
+				arrAtomInParent[frag.getBondAtom(0, i)] = true;
+				arrAtomInParent[frag.getBondAtom(1, i)] = true;
+			}
+		}
+
+		nNew = 0;
+
+		boolean added = true;
+
+		while(added) {
+
+			added = false;
+
+			for (int i = 0; i < bonds; i++) {
+
+				if(!pool.isBitSet(entry, i)){
+					continue;
+				}
+
+				for (int j = 0; j < 2; j++) {
+
+					int atom = frag.getBondAtom(j, i);
+
+					int other = frag.getBondAtom(1-j, i);
+
+					if(!arrAtomInParent[atom] && !isOrdered(atom) && (arrAtomInParent[other] || isOrdered(other))) {
+						arrNewAtom[nNew] = atom;
+						arrNewAtomParent[nNew] = other;
+						nNew++;
+						added = true;
+					}
+				}
+			}
+		}
+
+		for (int i = 0; i < bonds; i++) {
+			if(pool.isBitSet(entry, i)){
+				int atom1 = frag.getBondAtom(0, i);
+				int atom2 = frag.getBondAtom(1, i);
+				if((!arrAtomInParent[atom1] && !isOrdered(atom1)) || (!arrAtomInParent[atom2] && !isOrdered(atom2))) {
+					return false;
+				}
+			}
+		}
+
+		return true;
+	}
+
+	private boolean isOrdered(int atom){
+		for (int i = 0; i < nNew; i++) {
+			if(arrNewAtom[i] == atom) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @param match the parent's match in mol, which is completed on success
+	 * @return false if the parent's match cannot be extended
+	 */
+	boolean extend(StereoMolecule mol, SSSearcher sss, int [] match){
+
+		this.mol = mol;
+
+		this.sss = sss;
+
+		int atoms = frag.getAtoms();
+
+		if(arrMolAtomUsed == null || arrMolAtomUsed.length < mol.getAtoms()) {
+			arrMolAtomUsed = new boolean [mol.getAtoms()];
+		}
+
+		Arrays.fill(arrMolAtomUsed, 0, mol.getAtoms(), false);
+
+		// The parent's atoms and bonds must also match in the context of the larger sub fragment.
+		for (int atom = 0; atom < atoms; atom++) {
+			if(match[atom] != -1) {
+				if(!sss.areAtomsSimilar(match[atom], arrMapAtomFragToSub[atom])) {
+					return false;
+				}
+				arrMolAtomUsed[match[atom]] = true;
+			}
+		}
+
+		for (int i = 0; i < frag.getBonds(); i++) {
+			if(pool.isBitSet(entry, i)){
+				int molAtom1 = match[frag.getBondAtom(0, i)];
+				int molAtom2 = match[frag.getBondAtom(1, i)];
+				if(molAtom1 != -1 && molAtom2 != -1 && !isBondMatch(molAtom1, molAtom2, i)) {
+					return false;
+				}
+			}
+		}
+
+		return mapNewAtoms(match, 0);
+	}
+
+	private boolean mapNewAtoms(int [] match, int index){
+
+		if(index == nNew) {
+			return true;
+		}
+
+		int atom = arrNewAtom[index];
+
+		int molParent = match[arrNewAtomParent[index]];
+
+		for (int i = 0; i < mol.getAllConnAtomsPlusMetalBonds(molParent); i++) {
+
+			int candidate = mol.getConnAtom(molParent, i);
+
+			// skip plain hydrogens
+			if(candidate >= mol.getAtoms() || arrMolAtomUsed[candidate]) {
+				continue;
+			}
+
+			if(!sss.areAtomsSimilar(candidate, arrMapAtomFragToSub[atom])) {
+				continue;
+			}
+
+			boolean bondsMatch = true;
+
+			for (int j = 0; j < frag.getConnAtoms(atom); j++) {
+
+				int bond = frag.getConnBond(atom, j);
+
+				int molNeighbour = match[frag.getConnAtom(atom, j)];
+
+				if(pool.isBitSet(entry, bond) && molNeighbour != -1 && !isBondMatch(candidate, molNeighbour, bond)) {
+					bondsMatch = false;
+					break;
+				}
+			}
+
+			if(!bondsMatch) {
+				continue;
+			}
+
+			match[atom] = candidate;
+
+			arrMolAtomUsed[candidate] = true;
+
+			if(mapNewAtoms(match, index+1)) {
+				return true;
+			}
+
+			match[atom] = -1;
+
+			arrMolAtomUsed[candidate] = false;
+		}
+
+		return false;
+	}
+
+	private boolean isBondMatch(int molAtom1, int molAtom2, int fragBond){
+
+		int molBond = mol.getBond(molAtom1, molAtom2);
+
+		return molBond != -1 && sss.areBondsSimilar(molBond, arrMapBondFragToSub[fragBond]);
+	}
+}
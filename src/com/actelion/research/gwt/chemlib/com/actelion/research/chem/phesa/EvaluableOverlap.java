@@ -1,6 +1,7 @@
 package com.actelion.research.chem.phesa;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import com.actelion.research.chem.Coordinates;
 import com.actelion.research.chem.phesa.pharmacophore.PPGaussian;
 
@@ -20,16 +21,13 @@ public class EvaluableOverlap implements Evaluable  {
 
 	private PheSAAlignment shapeAlign;
 	private double[] transform;
-    private double [][] qDersAt;
-    private double [][] rDersAt;
-    private double [][] sDersAt;
-    private double [][] uDersAt;
+	private AtomicOverlapKernel atomKernel;
+	private double[] atomGrad;
+	private double[] ppGrad;
     private double [][] qDersPP;
     private double [][] rDersPP;
     private double [][] sDersPP;
     private double [][] uDersPP;
-    private double[][] results;
-    private Coordinates[] fitAtGaussModCoords;
     private Coordinates[] fitPPGaussModCoords;
     private Coordinates[] fitPPDirectionalityMod;
 
@@ -37,35 +35,29 @@ public class EvaluableOverlap implements Evaluable  {
     public EvaluableOverlap(PheSAAlignment shapeAlign, double[] transform) {
 		this.shapeAlign = shapeAlign; 
 		this.transform = transform;
-	    this.fitAtGaussModCoords = new Coordinates[shapeAlign.getMolGauss().getAtomicGaussians().size()];
+		this.atomKernel = new AtomicOverlapKernel(shapeAlign.getRefMolGauss(), shapeAlign.getMolGauss());
+		this.atomGrad = new double[transform.length];
+		this.ppGrad = new double[transform.length];
 	    this.fitPPGaussModCoords = new Coordinates[shapeAlign.getMolGauss().getPPGaussians().size()];
-	    this.qDersAt = new double[fitAtGaussModCoords.length][3];
-	    this.rDersAt = new double[fitAtGaussModCoords.length][3];
-	    this.sDersAt = new double[fitAtGaussModCoords.length][3];
-	    this.uDersAt = new double[fitAtGaussModCoords.length][3];
 	    this.qDersPP = new double[fitPPGaussModCoords.length][3];
 	    this.rDersPP = new double[fitPPGaussModCoords.length][3];
 	    this.sDersPP = new double[fitPPGaussModCoords.length][3];
 	    this.uDersPP = new double[fitPPGaussModCoords.length][3];
 	    this.fitPPDirectionalityMod = new Coordinates[shapeAlign.getMolGauss().getPPGaussians().size()];
-		this.results = new double[shapeAlign.getRefMolGauss().getAtomicGaussians().size()][shapeAlign.getRefMolGauss().getAtomicGaussians().size()];
-		
 	}
 	
 	public EvaluableOverlap(EvaluableOverlap e) {
 		this.shapeAlign = e.shapeAlign;
 		this.transform = e.transform;	
-		this.qDersAt = e.qDersAt;
-		this.rDersAt = e.rDersAt;
-		this.sDersAt = e.sDersAt;
-		this.uDersAt = e.uDersAt;
+		this.atomKernel = e.atomKernel;
+		this.atomGrad = new double[e.atomGrad.length];
+		this.ppGrad = new double[e.ppGrad.length];
 		this.qDersPP = e.qDersPP;
 		this.rDersPP = e.rDersPP;
 		this.sDersPP = e.sDersPP;
 		this.uDersPP = e.uDersPP;
-		this.fitAtGaussModCoords = e.fitAtGaussModCoords;
 		this.fitPPGaussModCoords = e.fitPPGaussModCoords;
-		this.results = e.results;
+		this.fitPPDirectionalityMod = e.fitPPDirectionalityMod;
 
 	}
 	
@@ -92,6 +84,10 @@ public class EvaluableOverlap implements Evaluable  {
 	public PheSAAlignment getAlignment() {
 		return this.shapeAlign;
 	}
+
+	AtomicOverlapKernel getAtomicOverlapKernel() {
+		return this.atomKernel;
+	}
 	
 
 
@@ -100,12 +96,11 @@ public class EvaluableOverlap implements Evaluable  {
 		MolecularVolume refMolGauss = shapeAlign.getRefMolGauss();
 		MolecularVolume fitMolGauss = shapeAlign.getMolGauss();
 		double value = 0.0;
-		double[] atomGrad = new double[grad.length];
-		value += this.getFGValueOverlap(atomGrad,refMolGauss.getAtomicGaussians(),fitMolGauss.getAtomicGaussians(), refMolGauss.getExclusionGaussians(),
-						qDersAt,rDersAt,sDersAt,uDersAt,fitAtGaussModCoords);
+		Arrays.fill(atomGrad, 0.0);
+		value += this.getFGValueOverlap(atomGrad);
 			
 		
-		double[] ppGrad = new double[grad.length];
+		Arrays.fill(ppGrad, 0.0);
 		value += this.getFGValueOverlapPP(ppGrad,refMolGauss.getPPGaussians(),fitMolGauss.getPPGaussians(),
 						qDersPP,rDersPP,sDersPP,uDersPP,fitPPGaussModCoords,fitPPDirectionalityMod);
 
@@ -197,137 +192,27 @@ public class EvaluableOverlap implements Evaluable  {
      * the total derivative is then the sum over all pairs of overlapping Atomic Gaussians
      * 
      * to force the quaternions into unity, a penalty term is added for deviation from unity
+     * the sums over all pairs of Atomic Gaussians are calculated by the AtomicOverlapKernel
 	 * @param grad 
 	 */
 	
-	private double getFGValueOverlap(double[] grad,ArrayList<AtomicGaussian> refMolGauss,ArrayList<AtomicGaussian> fitMolGauss,ArrayList<ExclusionGaussian> exclusionGaussians,
-			double[][] qDers,double[][] rDers,double[][] sDers,double[][] uDers, Coordinates[] fitGaussModCoords) {
+	private double getFGValueOverlap(double[] grad) {
 		double q=transform[0];
 	    double r=transform[1];
 	    double s=transform[2];
 	    double u=transform[3];
-	    Quaternion quat = new Quaternion(q,r,s,u);
-	    double norm2 = quat.normSquared();
+	    double norm2 = q*q+r*r+s*s+u*u;
 	    double norm = Math.sqrt(norm2);
-	    double invnorm2 = 1.0/norm2;
 	    double invnorm = 1/norm;
-	    
-	    //System.out.println(Arrays.toString(transform));
-
-	    /**
-	     * we first calculate the partial derivatives with respect to the four elements of the quaternion q,r,s,u
-	     * the final gradient has 7 elements, the first four elements are the gradients for the quaternion (rotation),
-	     * the last three elements are for the translation
-	     */
-	    
-	    double[][] rotMatrix = quat.getRotMatrix().getArray();
-
-
-	    for(int k=0;k<fitMolGauss.size();k++) {
-	    	fitGaussModCoords[k]=  fitMolGauss.get(k).getRotatedCenter(rotMatrix, invnorm2, new double[] {transform[4],transform[5],transform[6]});    //we operate on the transformed coordinates of the molecule to be fitted
-
-	    }
-
-	    this.getQuatGradient(qDers, rDers, sDers, uDers, refMolGauss, fitMolGauss, fitGaussModCoords,q,r,s,u,invnorm2);
-
-
-		/**
-		 * derivative of ShapeOverlap with respect to the four elements of the quaternion and three elements of translation
-		 * 
-		 */
-	    
-	    double totalOverlap = 0.0;
-	    Coordinates fitCenterModCoord;
-		for(int i=0; i<refMolGauss.size();i++){
-			Gaussian3D refAt = refMolGauss.get(i);
-			for(int j=0; j<fitMolGauss.size();j++){
-				double atomOverlap = 0.0;
-				Gaussian3D fitAt = fitMolGauss.get(j);
-				fitCenterModCoord = fitGaussModCoords[j];
-				double alphaSum = refAt.getWidth() + fitAt.getWidth();
-
-				double dx = refAt.getCenter().x-fitCenterModCoord.x;
-				double dy = refAt.getCenter().y-fitCenterModCoord.y;
-				double dz = refAt.getCenter().z-fitCenterModCoord.z;
-				double Rij2 = dx*dx + dy*dy + dz*dz;
-				if(Rij2>=Gaussian3D.DIST_CUTOFF) 
-					continue;
-				atomOverlap = refAt.getHeight()*fitAt.getHeight()*QuickMathCalculator.getInstance().quickExp(-( refAt.getWidth() * fitAt.getWidth()* Rij2)/alphaSum) *
-							QuickMathCalculator.getInstance().getPrefactor(refAt.getAtomicNo(),fitAt.getAtomicNo());
-					
-				
-				if (atomOverlap>0.0) {
-					totalOverlap += atomOverlap;
-					double gradientPrefactor = atomOverlap*-2*refAt.getWidth()*fitAt.getWidth()/(refAt.getWidth()+fitAt.getWidth());
-					double qder = qDers[j][0]*dx+qDers[j][1]*dy+qDers[j][2]*dz; 
-					double rder = rDers[j][0]*dx+rDers[j][1]*dy+rDers[j][2]*dz; 
-					double sder = sDers[j][0]*dx+sDers[j][1]*dy+sDers[j][2]*dz; 
-					double uder = uDers[j][0]*dx+uDers[j][1]*dy+uDers[j][2]*dz; 
-
-					grad[0] += gradientPrefactor*qder;
-					grad[1] += gradientPrefactor*rder;
-					grad[2] += gradientPrefactor*sder;
-					grad[3] += gradientPrefactor*uder;
-					grad[4] += gradientPrefactor*dx;
-					grad[5] += gradientPrefactor*dy;
-					grad[6] += gradientPrefactor*dz;
-				    }
-
 
+	    double totalOverlap = atomKernel.getOverlap(transform, grad);
 
-				}
-		}
-			for(int k=0; k<exclusionGaussians.size();k++){
-				ExclusionGaussian refEx = exclusionGaussians.get(k);
-				for(int j=0; j<fitMolGauss.size();j++){
-					double atomOverlap = 0.0;
-					Gaussian3D fitAt = fitMolGauss.get(j);
-					fitCenterModCoord = fitGaussModCoords[j];
-					double alphaSum = refEx.getWidth() + fitAt.getWidth();
-
-					double dx = refEx.getCenter().x-fitCenterModCoord.x;
-					double dy = refEx.getCenter().y-fitCenterModCoord.y;
-					double dz = refEx.getCenter().z-fitCenterModCoord.z;
-					double Rij2 = dx*dx + dy*dy + dz*dz;
-
-					if(Rij2>=Gaussian3D.DIST_CUTOFF) 
-						continue;
-					atomOverlap = -1*refEx.getHeight()*fitAt.getHeight()*QuickMathCalculator.getInstance().quickExp(-( refEx.getWidth() * fitAt.getWidth()* Rij2)/alphaSum) *
-								QuickMathCalculator.getInstance().getPrefactor(refEx.getAtomicNo(),fitAt.getAtomicNo());
-						
-					
-					if (atomOverlap>0.0) {
-						totalOverlap += atomOverlap;
-						double gradientPrefactor = atomOverlap*-2*refEx.getWidth()*fitAt.getWidth()/(refEx.getWidth()+fitAt.getWidth());
-						double qder = qDers[j][0]*dx+qDers[j][1]*dy+qDers[j][2]*dz; 
-						double rder = rDers[j][0]*dx+rDers[j][1]*dy+rDers[j][2]*dz; 
-						double sder = sDers[j][0]*dx+sDers[j][1]*dy+sDers[j][2]*dz; 
-						double uder = uDers[j][0]*dx+uDers[j][1]*dy+uDers[j][2]*dz; 
-
-						grad[0] += gradientPrefactor*qder;
-						grad[1] += gradientPrefactor*rder;
-						grad[2] += gradientPrefactor*sder;
-						grad[3] += gradientPrefactor*uder;
-						grad[4] += gradientPrefactor*dx;
-						grad[5] += gradientPrefactor*dy;
-						grad[6] += gradientPrefactor*dz;
-					    }
-
-
-					}
-				
-			}
 		grad[0] += PENALTY*(1-invnorm)*this.transform[0]; //penalty term to force quaternion into unity
 		grad[1] += PENALTY*(1-invnorm)*this.transform[1];
 		grad[2] += PENALTY*(1-invnorm)*this.transform[2];
 		grad[3] += PENALTY*(1-invnorm)*this.transform[3];
 
-
-
-
 		return (-1.0*totalOverlap+0.5*PENALTY*(norm-1)*(norm-1)); //the negative overlap is returned as the objective, since we minimize the objective in the optimization algorithm
-
-	
 	}
 	    
 	    
@@ -1,15 +1,20 @@
 package com.actelion.research.chem.phesa;
 
+import com.actelion.research.calc.Matrix;
 import com.actelion.research.chem.Coordinates;
 import com.actelion.research.chem.StereoMolecule;
 import com.actelion.research.chem.conf.Conformer;
 import com.actelion.research.chem.phesa.pharmacophore.IPharmacophorePoint;
 import com.actelion.research.chem.phesa.pharmacophore.IonizableGroupDetector;
 import com.actelion.research.chem.phesa.pharmacophore.PPGaussian;
+import com.actelion.research.chem.phesa.pharmacophore.PPTriangle;
+import com.actelion.research.chem.phesa.pharmacophore.PPTriangleCreator;
 import com.actelion.research.chem.phesa.pharmacophore.PharmacophoreCalculator;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import com.actelion.research.util.EncoderFloatingPointNumbers;
 
@@ -28,6 +33,9 @@ public class MolecularVolume {
 	static public final double p = 2.82842712475; // height of Atomic Gaussian, 2*sqrt(2), commonly used in the literature: Haque and Pande, DOI 10.1002/jcc.11307 
 	static public final double alpha_pref = 2.41798793102; // taken from DOI 10.1002/jcc.11307
 
+	private static final int SHORT_BYTES = 2;
+	private static final int FLOAT_BYTES = 4;
+
 	
 	
 
@@ -38,6 +46,12 @@ public class MolecularVolume {
 	private ArrayList<ExclusionGaussian> exclusionGaussians;
 	private ArrayList<Coordinates> hydrogens;
 
+	// depend only on this conformer; calculated on demand or by precalculate() and reset if coordinates change
+	private double selfAtomOverlap = Double.NaN;
+	private double selfPPOverlap = Double.NaN;
+	private Map<Integer,ArrayList<PPTriangle>> ppTriangles;
+	private Matrix canonicalRotation;
+
 	
 	public MolecularVolume(ArrayList<AtomicGaussian> atomicGaussiansInp,ArrayList<PPGaussian> ppGaussiansInp, ArrayList<ExclusionGaussian> exclusionGaussians, ArrayList<Coordinates> hydrogenCoords) {
 		this.volume = 0.0;
@@ -128,6 +142,9 @@ public class MolecularVolume {
 		}
 		
 		this.com = new Coordinates(original.com);
+		this.selfAtomOverlap = original.selfAtomOverlap;
+		this.selfPPOverlap = original.selfPPOverlap;
+		this.canonicalRotation = original.canonicalRotation;
 		
 	}
 	
@@ -220,6 +237,83 @@ public class MolecularVolume {
 	public ArrayList<Coordinates> getHydrogens() {
 		return this.hydrogens;
 	}
+
+	/**
+	 * Calculates the self-overlaps and pharmacophore triangles, such that later calls of the
+	 * corresponding getters don't modify this volume. Volumes being shared by multiple threads
+	 * must be precalculated.
+	 */
+	public void precalculate() {
+		getSelfAtomOverlap();
+		getSelfPPOverlap();
+		getPPTriangles();
+	}
+
+	/**
+	 * @return overlap of the atomic Gaussians with themselves; independent of the orientation
+	 */
+	public double getSelfAtomOverlap() {
+		if(Double.isNaN(selfAtomOverlap)) {
+			double Vtot = 0.0;
+			for(AtomicGaussian at:atomicGaussians){
+				for(AtomicGaussian at2:atomicGaussians){
+					Vtot += at.getVolumeOverlap(at2);
+				}
+			}
+			selfAtomOverlap = Vtot;
+		}
+		return selfAtomOverlap;
+	}
+
+	/**
+	 * @return weighted overlap of the pharmacophore Gaussians with themselves; independent of the orientation
+	 */
+	public double getSelfPPOverlap() {
+		if(Double.isNaN(selfPPOverlap)) {
+			double correctionFactor = ppGaussians.size()/ppGaussians.stream().mapToDouble(g -> g.getWeight()).sum();
+			double Vtot = 0.0;
+			for(PPGaussian pp:ppGaussians){
+				for(PPGaussian pp2:ppGaussians){
+					Vtot+=pp.getSimilarity(pp2)* pp.getVolumeOverlap(pp2)*correctionFactor;
+				}
+			}
+			selfPPOverlap = Vtot;
+		}
+		return selfPPOverlap;
+	}
+
+	void setSelfOverlaps(double selfAtomOverlap, double selfPPOverlap) {
+		this.selfAtomOverlap = selfAtomOverlap;
+		this.selfPPOverlap = selfPPOverlap;
+	}
+
+	/**
+	 * @return triangles of pharmacophore points with respect to the current center of mass
+	 * hashed by their pharmacophore functionalities as created by PPTriangleCreator
+	 */
+	public Map<Integer,ArrayList<PPTriangle>> getPPTriangles() {
+		if(ppTriangles==null)
+			ppTriangles = PPTriangleCreator.create(ppGaussians, getCOM());
+		return ppTriangles;
+	}
+
+	/**
+	 * @return rotation, which was applied by PheSAAlignment.preProcess() to move the volume into
+	 * its canonical orientation, or null
+	 */
+	public Matrix getCanonicalRotation() {
+		return canonicalRotation;
+	}
+
+	void setCanonicalRotation(Matrix canonicalRotation) {
+		this.canonicalRotation = canonicalRotation;
+	}
+
+	private void resetPrecalculatedValues() {
+		selfAtomOverlap = Double.NaN;
+		selfPPOverlap = Double.NaN;
+		ppTriangles = null;
+	}
 	
 	private void updateHydrogens(StereoMolecule mol) {
 		int h = 0;
@@ -242,6 +336,7 @@ public class MolecularVolume {
 
 	
 	public void update(StereoMolecule mol) {
+		resetPrecalculatedValues();
 		updateCoordinates(getAtomicGaussians(),mol);
 		updateCoordinates(getPPGaussians(),mol);
 		updateCoordinates(getExclusionGaussians(),mol);
@@ -249,6 +344,7 @@ public class MolecularVolume {
 	}
 	
 	public void update(Conformer conf) {
+		resetPrecalculatedValues();
 		updateCoordinates(getAtomicGaussians(),conf);
 		updateCoordinates(getPPGaussians(),conf);
 		updateCoordinates(getExclusionGaussians(),conf);
@@ -270,7 +366,7 @@ public class MolecularVolume {
 	}
 	
 	public void translateToCOM(Coordinates com) {
-
+		ppTriangles = null;
 
 		for (AtomicGaussian ag : getAtomicGaussians()){
 			ag.getCenter().sub(com);  //translate atomicGaussians. Moves center of mass to the origin.
@@ -403,6 +499,186 @@ public class MolecularVolume {
 
 	}
 
+	/**
+	 * Binary counterpart of encodeFull(): Gaussian types, atom indices and weights, the pharmacophore
+	 * point definitions and the number of hydrogens followed by the coordinates as encodeCoordsOnlyBinary().
+	 * Unlike the text format, it does not carry the Gaussians' positions twice, but it is still decoded into
+	 * Gaussian objects rather than flat arrays, because the alignment code works on these.
+	 * @return
+	 */
+	public byte[] encodeFullBinary() {
+		int size = 4*SHORT_BYTES + atomicGaussians.size()*(1+SHORT_BYTES+FLOAT_BYTES) + exclusionGaussians.size()*(1+SHORT_BYTES);
+		for(PPGaussian pg : ppGaussians)
+			size += pg.getEncodedSize();
+		byte[] coords = encodeCoordsOnlyBinary();
+		ByteBuffer buffer = ByteBuffer.allocate(size + coords.length);
+		buffer.putShort((short)atomicGaussians.size());
+		for(AtomicGaussian ag : atomicGaussians) {
+			buffer.put((byte)ag.getAtomicNo());
+			buffer.putShort((short)ag.getAtomId());
+			buffer.putFloat((float)ag.getWeight());
+		}
+		buffer.putShort((short)ppGaussians.size());
+		for(PPGaussian pg : ppGaussians)
+			pg.encode(buffer);
+		buffer.putShort((short)exclusionGaussians.size());
+		for(ExclusionGaussian eg : exclusionGaussians) {
+			buffer.put((byte)eg.getAtomicNo());
+			buffer.putShort((short)eg.getAtomId());
+		}
+		buffer.putShort((short)hydrogens.size());
+		buffer.put(coords);
+		return buffer.array();
+	}
+
+	/**
+	 * Binary counterpart of encodeCoordsOnly(). Positions are quantized to 16 bit integers relative to
+	 * the center of mass with a per conformer scale, such that the largest distance from the center
+	 * is encoded with full resolution, e.g. 0.0006 Angstrom for a molecule extending 20 Angstrom from its center.
+	 * Directionalities are quantized with their own scale.
+	 * @return
+	 */
+	public byte[] encodeCoordsOnlyBinary() {
+		Coordinates com = getCOM();
+		float comX = (float)com.x;
+		float comY = (float)com.y;
+		float comZ = (float)com.z;
+		int positions = atomicGaussians.size() + ppGaussians.size() + 2*exclusionGaussians.size() + hydrogens.size();
+		double[] position = new double[3*positions];
+		int index = 0;
+		for(AtomicGaussian ag : atomicGaussians)
+			index = putPosition(position, index, ag.getCenter(), comX, comY, comZ);
+		for(PPGaussian pg : ppGaussians)
+			index = putPosition(position, index, pg.getCenter(), comX, comY, comZ);
+		for(ExclusionGaussian eg : exclusionGaussians)
+			index = putPosition(position, index, eg.getReferenceVector(), comX, comY, comZ);
+		for(ExclusionGaussian eg : exclusionGaussians)
+			index = putPosition(position, index, eg.getShiftVector(), 0f, 0f, 0f); // shift vectors are relative to their reference
+		for(Coordinates hydrogen : hydrogens)
+			index = putPosition(position, index, hydrogen, comX, comY, comZ);
+
+		double[] direction = new double[3*ppGaussians.size()];
+		index = 0;
+		for(PPGaussian pg : ppGaussians)
+			index = putPosition(direction, index, pg.getPharmacophorePoint().getDirectionality(), 0f, 0f, 0f);
+
+		float positionScale = getQuantizationScale(position);
+		float directionScale = getQuantizationScale(direction);
+		ByteBuffer buffer = ByteBuffer.allocate(5*FLOAT_BYTES + (position.length+direction.length)*SHORT_BYTES);
+		buffer.putFloat(comX);
+		buffer.putFloat(comY);
+		buffer.putFloat(comZ);
+		buffer.putFloat(positionScale);
+		buffer.putFloat(directionScale);
+		putQuantized(buffer, position, 0, 3*(atomicGaussians.size()+ppGaussians.size()), positionScale);
+		putQuantized(buffer, direction, 0, direction.length, directionScale);
+		putQuantized(buffer, position, 3*(atomicGaussians.size()+ppGaussians.size()), position.length, positionScale);
+		return buffer.array();
+	}
+
+	private static int putPosition(double[] target, int index, Coordinates c, float x0, float y0, float z0) {
+		target[index++] = c.x - x0;
+		target[index++] = c.y - y0;
+		target[index++] = c.z - z0;
+		return index;
+	}
+
+	private static float getQuantizationScale(double[] value) {
+		double max = 0.0;
+		for(double v : value)
+			max = Math.max(max, Math.abs(v));
+		return max == 0.0 ? 1f : (float)(max / (Short.MAX_VALUE - 1));
+	}
+
+	private static void putQuantized(ByteBuffer buffer, double[] value, int from, int to, float scale) {
+		for(int i=from;i<to;i++)
+			buffer.putShort((short)Math.max(-Short.MAX_VALUE, Math.min(Short.MAX_VALUE, Math.round(value[i] / scale))));
+	}
+
+	/**
+	 * Decodes a volume encoded by encodeFullBinary() starting at the buffer's current position
+	 * and leaves the position behind the volume.
+	 * @param buffer
+	 * @param refMol molecule, whose atoms are referenced by the pharmacophore points
+	 * @return
+	 */
+	public static MolecularVolume decodeFull(ByteBuffer buffer, StereoMolecule refMol) {
+		ArrayList<AtomicGaussian> atomicGaussians = new ArrayList<AtomicGaussian>();
+		ArrayList<PPGaussian> ppGaussians = new ArrayList<PPGaussian>();
+		ArrayList<ExclusionGaussian> exclusionGaussians = new ArrayList<ExclusionGaussian>();
+		ArrayList<Coordinates> hydrogens = new ArrayList<Coordinates>();
+
+		int nrOfAtomicGaussians = buffer.getShort();
+		for(int i=0;i<nrOfAtomicGaussians;i++) {
+			int atomicNo = buffer.get() & 0xFF;
+			int atomId = buffer.getShort();
+			AtomicGaussian ag = new AtomicGaussian(atomId, atomicNo, new Coordinates());
+			ag.setWeight(buffer.getFloat());
+			atomicGaussians.add(ag);
+		}
+		int nrOfPPGaussians = buffer.getShort();
+		for(int i=0;i<nrOfPPGaussians;i++)
+			ppGaussians.add(PPGaussian.fromBuffer(buffer, refMol));
+		int nrOfExclusionGaussians = buffer.getShort();
+		for(int i=0;i<nrOfExclusionGaussians;i++) {
+			int atomicNo = buffer.get() & 0xFF;
+			int atomId = buffer.getShort();
+			exclusionGaussians.add(new ExclusionGaussian(atomId, atomicNo, new Coordinates(), new Coordinates()));
+		}
+		int nrOfHydrogens = buffer.getShort();
+		for(int i=0;i<nrOfHydrogens;i++)
+			hydrogens.add(new Coordinates());
+
+		MolecularVolume molVol = new MolecularVolume(atomicGaussians, ppGaussians, exclusionGaussians, hydrogens);
+		molVol.decodeCoordsOnly(buffer);
+		return molVol;
+	}
+
+	/**
+	 * Decodes a volume encoded by encodeCoordsOnlyBinary() starting at the buffer's current position
+	 * and leaves the position behind the volume.
+	 * @param buffer
+	 * @param reference volume of the same molecule providing Gaussian types and pharmacophore points
+	 * @return
+	 */
+	public static MolecularVolume decodeCoordsOnly(ByteBuffer buffer, MolecularVolume reference) {
+		MolecularVolume molVol = new MolecularVolume(reference);
+		molVol.decodeCoordsOnly(buffer);
+		return molVol;
+	}
+
+	private void decodeCoordsOnly(ByteBuffer buffer) {
+		resetPrecalculatedValues();
+		canonicalRotation = null;
+		float comX = buffer.getFloat();
+		float comY = buffer.getFloat();
+		float comZ = buffer.getFloat();
+		float positionScale = buffer.getFloat();
+		float directionScale = buffer.getFloat();
+		for(AtomicGaussian ag : atomicGaussians)
+			ag.setCenter(getQuantized(buffer, positionScale, comX, comY, comZ));
+		for(PPGaussian pg : ppGaussians)
+			pg.setCenter(getQuantized(buffer, positionScale, comX, comY, comZ));
+		for(PPGaussian pg : ppGaussians)
+			pg.getPharmacophorePoint().setDirectionality(getQuantized(buffer, directionScale, 0f, 0f, 0f));
+		for(ExclusionGaussian eg : exclusionGaussians)
+			eg.setReferenceVector(getQuantized(buffer, positionScale, comX, comY, comZ));
+		for(ExclusionGaussian eg : exclusionGaussians) {
+			eg.setShiftVector(getQuantized(buffer, positionScale, 0f, 0f, 0f));
+			eg.setCenter(eg.getReferenceVector().addC(eg.getShiftVector()));
+		}
+		for(Coordinates hydrogen : hydrogens)
+			hydrogen.set(getQuantized(buffer, positionScale, comX, comY, comZ));
+		calcCOM();
+	}
+
+	private static Coordinates getQuantized(ByteBuffer buffer, float scale, float x0, float y0, float z0) {
+		double x = x0 + buffer.getShort() * (double)scale;
+		double y = y0 + buffer.getShort() * (double)scale;
+		double z = z0 + buffer.getShort() * (double)scale;
+		return new Coordinates(x, y, z);
+	}
+
 	public static MolecularVolume decodeCoordsOnly(String string, MolecularVolume reference)  {
 		ArrayList<AtomicGaussian> referenceAtomicGaussians = reference.getAtomicGaussians(); 
 		ArrayList<PPGaussian> referencePPGaussians = reference.getPPGaussians(); 
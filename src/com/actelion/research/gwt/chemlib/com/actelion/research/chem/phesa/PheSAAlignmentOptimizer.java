@@ -122,9 +122,9 @@ public class PheSAAlignmentOptimizer {
 		double[] bestTransformPMI = new double[7];
 		MolecularVolume[] bestPairPMI = new MolecularVolume[2];
 		for(int i=0;i<refShape.getVolumes().size();i++) {
-			MolecularVolume refVol = new MolecularVolume(refShape.getVolumes().get(i));
+			MolecularVolume refVol = refShape.getVolumes().get(i);
 			for(int j=0;j<fitShape.getVolumes().size();j++) {
-				MolecularVolume fitVol = new MolecularVolume(fitShape.getVolumes().get(j));
+				MolecularVolume fitVol = fitShape.getVolumes().get(j); // findAlignment() doesn't modify the volumes
 				PheSAAlignment shapeAlignment = new PheSAAlignment(refVol,fitVol);
 				double[] r = shapeAlignment.findAlignment(PheSAAlignment.initialTransform(1),false);
 				if(r[0]>bestScorePMI) {
@@ -192,10 +192,10 @@ public class PheSAAlignmentOptimizer {
 		List<AlignmentResult> results = new ArrayList<AlignmentResult>();
 		for(int i=0;i<refShape.getVolumes().size();i++) {
 			MolecularVolume refVol = refShape.getVolumes().get(i);
-			Map<Integer,ArrayList<PPTriangle>> refTriangles = PPTriangleCreator.create(refVol.getPPGaussians(), refVol.getCOM());
+			Map<Integer,ArrayList<PPTriangle>> refTriangles = refVol.getPPTriangles();
 			for(int j=0;j<fitShape.getVolumes().size();j++) {
 				MolecularVolume fitVol = fitShape.getVolumes().get(j);
-				Map<Integer,ArrayList<PPTriangle>> fitTriangles = PPTriangleCreator.create(fitVol.getPPGaussians(),fitVol.getCOM());
+				Map<Integer,ArrayList<PPTriangle>> fitTriangles = fitVol.getPPTriangles();
 				results.addAll(PPTriangleMatcher.getMatchingTransforms(refTriangles, fitTriangles,i,j));
 			}
 		}
@@ -0,0 +1,460 @@
+package com.actelion.research.chem.phesa;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.openmolecules.chem.conf.gen.ConformerGenerator;
+
+import com.actelion.research.chem.StereoMolecule;
+import com.actelion.research.chem.conf.ConformerSetGenerator;
+import com.actelion.research.chem.conf.TorsionDB;
+import com.actelion.research.chem.forcefield.mmff.ForceFieldMMFF94;
+import com.actelion.research.chem.io.CompoundFileParser;
+
+/**
+ * PheSALibraryBuilder creates PheSA descriptors for all molecules of a compound file and streams them
+ * into a library file. Molecules are read in batches; the conformer generation, optional force field
+ * minimization and descriptor creation of a batch run on a fork-join pool. Afterwards, the batch is
+ * appended to the library file in input order as binary descriptors (DescriptorHandlerShape.encodeBinary())
+ * and the file is flushed to disk. Every input row gets a record, failed molecules get a record with the
+ * encoded FAILED_OBJECT, such that the n-th record always belongs to the n-th input row and record
+ * indexes match the hit indexes of a PheSAScreener run on the library.
+ * The complete records of a library file are the checkpoint: build() with resume=true truncates an
+ * incomplete last record, skips the input rows, which already have a record, and appends the rest.
+ * Conformers are generated with DescriptorHandlerShape's settings and seed for every molecule, i.e. without
+ * force field minimization the descriptors equal those of DescriptorHandlerShape.createDescriptor(mol),
+ * independently of thread count, batch size and resumption.
+ * The builder uses java.io and java.util.concurrent and is not available in JavaScript.
+ */
+public class PheSALibraryBuilder {
+	public static final int DEFAULT_BATCH_SIZE = 64;
+
+	private static final int FILE_MAGIC = 0x50685341; // "PhSA"
+	private static final int FILE_VERSION = 1;
+	private static final int HEADER_SIZE = 8;
+
+	private int mBatchSize,mThreadCount;
+	private boolean mUseFF;
+	private double mMinRMSD;
+	private PrintStream mLog;
+
+	private int mSkippedCount,mProcessedCount,mFailedCount,mConformerCount;
+	private long mMoleculeNanos,mTotalNanos;
+
+	public PheSALibraryBuilder() {
+		mBatchSize = DEFAULT_BATCH_SIZE;
+		mThreadCount = Runtime.getRuntime().availableProcessors();
+	}
+
+	/**
+	 * @param batchSize number of molecules, which are processed in parallel and written as one checkpoint
+	 */
+	public void setBatchSize(int batchSize) {
+		mBatchSize = Math.max(1, batchSize);
+	}
+
+	/**
+	 * @param threadCount number of worker threads; default is the number of available processors
+	 */
+	public void setThreadCount(int threadCount) {
+		mThreadCount = Math.max(1, threadCount);
+	}
+
+	/**
+	 * @param useFF whether conformers are minimized with the MMFF94s+ force field
+	 */
+	public void setUseForceField(boolean useFF) {
+		mUseFF = useFF;
+	}
+
+	/**
+	 * @param minRMSD heavy atom RMSD below which a conformer is considered a duplicate; 0.0 (default) keeps all
+	 */
+	public void setMinimumRMSD(double minRMSD) {
+		mMinRMSD = minRMSD;
+	}
+
+	/**
+	 * @param log receives one tab separated line per molecule with record index, name, conformer count,
+	 * milliseconds and status; null (default) for no logging
+	 */
+	public void setLog(PrintStream log) {
+		mLog = log;
+	}
+
+	/**
+	 * Creates descriptors for all remaining rows of the parser and appends them to the library file.
+	 * @param parser
+	 * @param libraryFile
+	 * @param resume if true and libraryFile exists, its records are kept and the corresponding input rows are skipped;
+	 * otherwise, libraryFile is overwritten
+	 * @return number of records in the library file
+	 * @throws IOException
+	 */
+	public int build(CompoundFileParser parser, File libraryFile, boolean resume) throws IOException {
+		long start = System.nanoTime();
+		mSkippedCount = 0;
+		mProcessedCount = 0;
+		mFailedCount = 0;
+		mConformerCount = 0;
+		mMoleculeNanos = 0;
+
+		int recordCount = 0;
+		if (resume && libraryFile.exists() && libraryFile.length() != 0)
+			recordCount = truncateToCompleteRecords(libraryFile);
+		else
+			writeHeader(libraryFile);
+
+		for (int i=0; i<recordCount; i++) {
+			if (!parser.next())
+				throw new IOException("Library file has more records than the input has rows.");
+			mSkippedCount++;
+		}
+
+		// load shared static tables once before starting the workers
+		TorsionDB.initialize(TorsionDB.MODE_ANGLES);
+		if (mUseFF && !ForceFieldMMFF94.mTables.containsKey(ForceFieldMMFF94.MMFF94SPLUS))
+			ForceFieldMMFF94.initialize(ForceFieldMMFF94.MMFF94SPLUS);
+
+		ForkJoinPool pool = new ForkJoinPool(mThreadCount);
+		FileOutputStream fileStream = new FileOutputStream(libraryFile, true);
+		try {
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileStream));
+			List<Entry> batch = new ArrayList<Entry>(mBatchSize);
+			boolean hasNext = true;
+			while (hasNext) {
+				batch.clear();
+				while (batch.size() < mBatchSize && (hasNext = parser.next()))
+					batch.add(new Entry(recordCount + batch.size(), parser.getMolecule(), parser.getMoleculeName()));
+				if (batch.isEmpty())
+					break;
+
+				pool.invoke(new LibraryTask(batch, 0, batch.size()));
+				for (Entry entry:batch)
+					writeRecord(out, entry);
+				out.flush();
+				fileStream.getFD().sync();
+				recordCount += batch.size();
+			}
+		}
+		finally {
+			fileStream.close();
+			pool.shutdown();
+		}
+
+		mTotalNanos = System.nanoTime() - start;
+		return recordCount;
+	}
+
+	private static void writeHeader(File libraryFile) throws IOException {
+		DataOutputStream out = new DataOutputStream(new FileOutputStream(libraryFile));
+		try {
+			out.writeInt(FILE_MAGIC);
+			out.writeInt(FILE_VERSION);
+		}
+		finally {
+			out.close();
+		}
+	}
+
+	/**
+	 * Removes an incomplete last record, e.g. from an interrupted run.
+	 * @return number of complete records
+	 */
+	private static int truncateToCompleteRecords(File libraryFile) throws IOException {
+		long fileLength = libraryFile.length();
+		long length = HEADER_SIZE;
+		int count = 0;
+		DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(libraryFile)));
+		try {
+			readHeader(in);
+			while (true) {
+				long recordLength = skipRecord(in);
+				if (recordLength == -1 || length + recordLength > fileLength)	// skipping may pass the end of the file
+					break;
+				length += recordLength;
+				count++;
+			}
+		}
+		finally {
+			in.close();
+		}
+
+		if (length < fileLength) {
+			RandomAccessFile file = new RandomAccessFile(libraryFile, "rw");
+			try {
+				file.setLength(length);
+			}
+			finally {
+				file.close();
+			}
+		}
+		return count;
+	}
+
+	private static void readHeader(DataInputStream in) throws IOException {
+		if (in.readInt() != FILE_MAGIC)
+			throw new IOException("Not a PheSA library file.");
+		int version = in.readInt();
+		if (version != FILE_VERSION)
+			throw new IOException("Unsupported PheSA library version: "+version);
+	}
+
+	/**
+	 * @return length of the skipped record or -1, if there is no complete record
+	 */
+	private static long skipRecord(DataInputStream in) throws IOException {
+		try {
+			int nameLength = in.readInt();
+			if (nameLength < 0 || in.skipBytes(nameLength) != nameLength)
+				return -1;
+			int descriptorLength = in.readInt();
+			if (descriptorLength < 0 || in.skipBytes(descriptorLength) != descriptorLength)
+				return -1;
+			return 8L + nameLength + descriptorLength;
+		}
+		catch (EOFException eofe) {
+			return -1;
+		}
+	}
+
+	private void writeRecord(DataOutputStream out, Entry entry) throws IOException {
+		byte[] name = (entry.mName == null ? "" : entry.mName).getBytes(StandardCharsets.UTF_8);
+		out.writeInt(name.length);
+		out.write(name);
+		out.writeInt(entry.mDescriptor.length);
+		out.write(entry.mDescriptor);
+
+		mProcessedCount++;
+		mMoleculeNanos += entry.mNanos;
+		if (entry.mConformers == 0)
+			mFailedCount++;
+		mConformerCount += entry.mConformers;
+		if (mLog != null)
+			mLog.println(entry.mIndex + "\t" + (entry.mName == null ? "" : entry.mName) + "\t" + entry.mConformers
+					   + "\t" + entry.mNanos / 1000000.0 + "\t" + (entry.mStatus == null ? "ok" : entry.mStatus));
+	}
+
+	private void process(Entry entry) {
+		long start = System.nanoTime();
+		DescriptorHandlerShape handler = new DescriptorHandlerShape();
+		PheSAMolecule descriptor = DescriptorHandlerShape.FAILED_OBJECT;
+		if (entry.mMolecule == null || entry.mMolecule.getAllAtoms() == 0) {
+			entry.mStatus = "failed: no structure";
+		}
+		else {
+			ConformerSetGenerator generator = new ConformerSetGenerator(DescriptorHandlerShape.CONFORMATIONS,
+					ConformerGenerator.STRATEGY_LIKELY_RANDOM, mUseFF, DescriptorHandlerShape.SEED);
+			generator.setMinimumRMSD(mMinRMSD);
+			try {
+				descriptor = handler.createDescriptor(entry.mMolecule, generator);
+				if (handler.calculationFailed(descriptor))
+					entry.mStatus = "failed: no conformers";
+			}
+			catch (RuntimeException e) {
+				descriptor = DescriptorHandlerShape.FAILED_OBJECT;
+				entry.mStatus = "failed: " + e;
+			}
+		}
+		entry.mConformers = descriptor.getVolumes().size();
+		entry.mDescriptor = handler.encodeBinary(descriptor);
+		entry.mMolecule = null;
+		entry.mNanos = System.nanoTime() - start;
+	}
+
+	/**
+	 * @return number of input rows skipped, because the library file already had their records
+	 */
+	public int getSkippedCount() {
+		return mSkippedCount;
+	}
+
+	/**
+	 * @return number of molecules processed by the last build()
+	 */
+	public int getProcessedCount() {
+		return mProcessedCount;
+	}
+
+	/**
+	 * @return number of processed molecules without descriptor
+	 */
+	public int getFailedCount() {
+		return mFailedCount;
+	}
+
+	/**
+	 * @return number of conformers of all processed molecules
+	 */
+	public int getConformerCount() {
+		return mConformerCount;
+	}
+
+	/**
+	 * @return wall clock milliseconds of the last build()
+	 */
+	public double getElapsedMillis() {
+		return mTotalNanos / 1000000.0;
+	}
+
+	/**
+	 * @return sum of the per molecule milliseconds of all workers
+	 */
+	public double getMoleculeMillis() {
+		return mMoleculeNanos / 1000000.0;
+	}
+
+	/**
+	 * @return processed molecules per second
+	 */
+	public double getThroughput() {
+		return mTotalNanos == 0 ? 0.0 : mProcessedCount * 1e9 / mTotalNanos;
+	}
+
+	@Override
+	public String toString() {
+		return "skipped:" + mSkippedCount
+			 + " processed:" + mProcessedCount
+			 + " failed:" + mFailedCount
+			 + " conformers:" + mConformerCount
+			 + " millis:" + getElapsedMillis()
+			 + " moleculeMillis:" + getMoleculeMillis()
+			 + " moleculesPerSecond:" + getThroughput();
+	}
+
+	/**
+	 * Reads the records of a library file in order. Failed molecules are returned as
+	 * DescriptorHandlerShape.FAILED_OBJECT, which PheSAScreener skips, but counts.
+	 */
+	public static class Reader implements Iterator<PheSAMolecule>, Closeable {
+		private final DataInputStream mInput;
+		private final DescriptorHandlerShape mHandler;
+		private PheSAMolecule mNext;
+		private String mNextName,mName;
+		private int mIndex;
+
+		public Reader(File libraryFile) throws IOException {
+			this(new FileInputStream(libraryFile));
+		}
+
+		public Reader(InputStream in) throws IOException {
+			mInput = new DataInputStream(new BufferedInputStream(in));
+			mHandler = new DescriptorHandlerShape();
+			mIndex = -1;
+			readHeader(mInput);
+			advance();
+		}
+
+		private void advance() throws IOException {
+			mNext = null;
+			try {
+				byte[] name = new byte[mInput.readInt()];
+				mInput.readFully(name);
+				byte[] descriptor = new byte[mInput.readInt()];
+				mInput.readFully(descriptor);
+				mNextName = new String(name, StandardCharsets.UTF_8);
+				mNext = mHandler.decode(descriptor);
+			}
+			catch (EOFException eofe) {}    // incomplete records are ignored
+		}
+
+		@Override
+		public boolean hasNext() {
+			return mNext != null;
+		}
+
+		@Override
+		public PheSAMolecule next() {
+			if (mNext == null)
+				throw new NoSuchElementException();
+			PheSAMolecule molecule = mNext;
+			mName = mNextName;
+			mIndex++;
+			try {
+				advance();
+			}
+			catch (IOException ioe) {
+				throw new RuntimeException(ioe);
+			}
+			return molecule;
+		}
+
+		/**
+		 * @return input row index of the molecule returned by the last next()
+		 */
+		public int getIndex() {
+			return mIndex;
+		}
+
+		/**
+		 * @return name of the molecule returned by the last next()
+		 */
+		public String getName() {
+			return mName;
+		}
+
+		@Override
+		public void close() throws IOException {
+			mInput.close();
+		}
+	}
+
+	private static class Entry {
+		private final int mIndex;
+		private final String mName;
+		private StereoMolecule mMolecule;
+		private byte[] mDescriptor;
+		private int mConformers;
+		private long mNanos;
+		private String mStatus;
+
+		private Entry(int index, StereoMolecule molecule, String name) {
+			mIndex = index;
+			mMolecule = molecule;
+			mName = name;
+		}
+	}
+
+	private class LibraryTask extends RecursiveAction {
+		private static final long serialVersionUID = 0x20191201;
+
+		private final List<Entry> mBatch;
+		private final int mFirst,mLast;
+
+		LibraryTask(List<Entry> batch, int first, int last) {
+			mBatch = batch;
+			mFirst = first;
+			mLast = last;
+		}
+
+		@Override
+		protected void compute() {
+			if (mLast - mFirst == 1) {
+				process(mBatch.get(mFirst));
+				return;
+			}
+
+			int middle = (mFirst + mLast) / 2;
+			invokeAll(new LibraryTask(mBatch, mFirst, middle),
+					  new LibraryTask(mBatch, middle, mLast));
+		}
+	}
+}
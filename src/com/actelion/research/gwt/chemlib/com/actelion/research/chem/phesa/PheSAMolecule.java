@@ -72,6 +72,15 @@ public class PheSAMolecule {
 		return this.shape;
 	}
 	
+	/**
+	 * Calculates self-overlaps and pharmacophore triangles of all conformers once,
+	 * such that alignments don't need to recalculate them.
+	 */
+	public void precalculate() {
+		for(MolecularVolume molVol : shape)
+			molVol.precalculate();
+	}
+	
 	
 	
 }
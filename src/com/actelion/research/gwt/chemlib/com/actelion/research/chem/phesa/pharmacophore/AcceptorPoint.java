@@ -1,5 +1,6 @@
 package com.actelion.research.chem.phesa.pharmacophore;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -49,6 +50,14 @@ public class AcceptorPoint implements IPharmacophorePoint {
 	public static AcceptorPoint fromString(String ppString, StereoMolecule mol) {
 		return new AcceptorPoint(ppString,mol);
 	}
+	
+	private AcceptorPoint(ByteBuffer buffer, StereoMolecule mol) {
+		decode(buffer,mol);
+	}
+	
+	public static AcceptorPoint fromBuffer(ByteBuffer buffer, StereoMolecule mol) {
+		return new AcceptorPoint(buffer,mol);
+	}
 
 	@Override
 	public void updateCoordinates(StereoMolecule mol) {
@@ -181,6 +190,33 @@ public class AcceptorPoint implements IPharmacophorePoint {
 		updateCoordinates(mol);
 	}
 	
+	@Override
+	public void encode(ByteBuffer buffer) {
+		buffer.put((byte)'a');
+		buffer.putShort((short)acceptorAtom);
+		buffer.putInt(interactionClass);
+		buffer.put((byte)acceptorID);
+		buffer.put((byte)neighbours.size());
+		for(int neighbour : neighbours)
+			buffer.putShort((short)neighbour);
+	}
+	
+	@Override
+	public int getEncodedSize() {
+		return 9 + 2*neighbours.size();
+	}
+	
+	private void decode(ByteBuffer buffer, StereoMolecule mol) {
+		acceptorAtom = buffer.getShort();
+		interactionClass = buffer.getInt();
+		acceptorID = buffer.get();
+		int nrOfNeighbours = buffer.get();
+		neighbours = new ArrayList<Integer>();
+		for(int i=0;i<nrOfNeighbours;i++)
+			neighbours.add((int)buffer.getShort());
+		updateCoordinates(mol);
+	}
+	
 	@Override
 	public double getSimilarity(IPharmacophorePoint pp) {
 		if(pp instanceof AcceptorPoint) {
@@ -1,5 +1,6 @@
 package com.actelion.research.chem.phesa.pharmacophore;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -80,6 +81,14 @@ public class ChargePoint implements IPharmacophorePoint {
 		return new ChargePoint(ppString,mol);
 	}
 	
+	private ChargePoint(ByteBuffer buffer, StereoMolecule mol) {
+		decode(buffer,mol);
+	}
+	
+	public static ChargePoint fromBuffer(ByteBuffer buffer, StereoMolecule mol) {
+		return new ChargePoint(buffer,mol);
+	}
+	
 
 	private void decode(String ppString, StereoMolecule mol) {
 		String[] strings = ppString.split(" ");
@@ -91,6 +100,31 @@ public class ChargePoint implements IPharmacophorePoint {
 		}
 		updateCoordinates(mol);
 	}
+	
+	private void decode(ByteBuffer buffer, StereoMolecule mol) {
+		chargeAtom = buffer.getShort();
+		charge = buffer.get();
+		int nrOfNeighbours = buffer.get();
+		neighbours = new ArrayList<Integer>();
+		for(int i=0;i<nrOfNeighbours;i++)
+			neighbours.add((int)buffer.getShort());
+		updateCoordinates(mol);
+	}
+	
+	@Override
+	public void encode(ByteBuffer buffer) {
+		buffer.put((byte)'i');
+		buffer.putShort((short)chargeAtom);
+		buffer.put((byte)charge);
+		buffer.put((byte)neighbours.size());
+		for(int neighbour : neighbours)
+			buffer.putShort((short)neighbour);
+	}
+	
+	@Override
+	public int getEncodedSize() {
+		return 5 + 2*neighbours.size();
+	}
 
 	@Override
 	public String encode() {
@@ -1,5 +1,7 @@
 package com.actelion.research.chem.phesa.pharmacophore;
 
+import java.nio.ByteBuffer;
+
 import com.actelion.research.chem.Coordinates;
 import com.actelion.research.chem.StereoMolecule;
 import com.actelion.research.chem.conf.Conformer;
@@ -35,6 +37,14 @@ public class DonorPoint implements IPharmacophorePoint {
 	public static DonorPoint fromString(String ppString, StereoMolecule mol) {
 		return new DonorPoint(ppString,mol);
 	}
+	
+	private DonorPoint(ByteBuffer buffer, StereoMolecule mol) {
+		decode(buffer,mol);
+	}
+	
+	public static DonorPoint fromBuffer(ByteBuffer buffer, StereoMolecule mol) {
+		return new DonorPoint(buffer,mol);
+	}
 
 	@Override
 	public void updateCoordinates(StereoMolecule mol) {
@@ -85,6 +95,26 @@ public class DonorPoint implements IPharmacophorePoint {
 		interactionClass = Integer.decode(strings[3]);
 		updateCoordinates(mol);
 	}
+	
+	@Override
+	public void encode(ByteBuffer buffer) {
+		buffer.put((byte)'d');
+		buffer.putShort((short)donorAtom);
+		buffer.putShort((short)donorHydrogen);
+		buffer.putInt(interactionClass);
+	}
+	
+	@Override
+	public int getEncodedSize() {
+		return 9;
+	}
+	
+	private void decode(ByteBuffer buffer, StereoMolecule mol) {
+		donorAtom = buffer.getShort();
+		donorHydrogen = buffer.getShort();
+		interactionClass = buffer.getInt();
+		updateCoordinates(mol);
+	}
 
 	@Override
 	public double getSimilarity(IPharmacophorePoint pp) {
@@ -1,6 +1,8 @@
 package com.actelion.research.chem.phesa.pharmacophore;
 
 
+import java.nio.ByteBuffer;
+
 import com.actelion.research.chem.Coordinates;
 import com.actelion.research.chem.StereoMolecule;
 import com.actelion.research.chem.conf.Conformer;
@@ -30,6 +32,17 @@ public interface IPharmacophorePoint {
 	
 	public String encode();
 	
+	/**
+	 * Binary counterpart of encode(): writes the type and the defining atoms of the point
+	 * @param buffer
+	 */
+	public void encode(ByteBuffer buffer);
+	
+	/**
+	 * @return number of bytes written by encode(ByteBuffer)
+	 */
+	public int getEncodedSize();
+	
 	public double getSimilarity (IPharmacophorePoint pp);
 		
 	public int getCenterID();
@@ -15,7 +15,6 @@ public class PPTriangle {
 	private double[][] initialRot; 
 	private double[] initialTranslate;
 	private double[][] s; //final rotation for alignment
-	private double[][] u;
 	private double[][] us; //product of final rotation and inverse of rotation performed to align the reference Triangle to the xy-plane 
 	private Coordinates molCom; //center of mass of the associated MolecularVolume
 	private Coordinates com; // center of mass of the triangle
@@ -32,10 +31,11 @@ public class PPTriangle {
 		c[0] = new Coordinates(pp1.getCenter());
 		c[1] = new Coordinates(pp2.getCenter());
 		c[2] = new Coordinates(pp3.getCenter());
-		dirs[0] = pp1.getDirectionality();
-		dirs[1] = pp2.getDirectionality();
-		dirs[2] = pp3.getDirectionality();
+		dirs[0] = new Coordinates(pp1.getDirectionality());
+		dirs[1] = new Coordinates(pp2.getDirectionality());
+		dirs[2] = new Coordinates(pp3.getDirectionality());
 		canonizeOrder();
+		preAlign(); // triangles are not modified after construction and may be matched concurrently
 
 	}
 	
@@ -152,10 +152,6 @@ public class PPTriangle {
 	
 	
 	public double getMatchingTransform(PPTriangle fitTriangle, double[][] ur) {
-		if(initialRot==null && initialTranslate==null)
-			preAlign();
-		if(fitTriangle.initialRot==null && fitTriangle.initialTranslate==null)
-			fitTriangle.preAlign();
 		Coordinates a1 = c[0];
 		Coordinates a2 = c[1];
 		Coordinates a3 = c[2];
@@ -171,7 +167,7 @@ public class PPTriangle {
 		
 		Matrix mu = new Matrix(initialRot);
 		
-		u = mu.getTranspose().getArray();
+		double[][] u = mu.getTranspose().getArray();
 		
 
 		
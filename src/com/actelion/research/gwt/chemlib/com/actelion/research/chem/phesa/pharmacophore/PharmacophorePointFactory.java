@@ -1,5 +1,7 @@
 package com.actelion.research.chem.phesa.pharmacophore;
 
+import java.nio.ByteBuffer;
+
 import com.actelion.research.chem.StereoMolecule;
 
 public class PharmacophorePointFactory {
@@ -18,4 +20,18 @@ public class PharmacophorePointFactory {
 		
 	}
 
+	public static IPharmacophorePoint fromBuffer(ByteBuffer buffer, StereoMolecule mol) {
+		byte type = buffer.get();
+		if(type=='a')
+			return AcceptorPoint.fromBuffer(buffer, mol);
+		else if(type=='d')
+			return DonorPoint.fromBuffer(buffer, mol);
+		else if(type=='i')
+			return ChargePoint.fromBuffer(buffer, mol);
+		
+		else 
+			return null;
+		
+	}
+
 }
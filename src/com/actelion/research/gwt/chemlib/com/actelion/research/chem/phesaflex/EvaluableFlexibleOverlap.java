@@ -6,6 +6,7 @@ import java.util.Map;
 
 import com.actelion.research.chem.StereoMolecule;
 import com.actelion.research.chem.forcefield.mmff.ForceFieldMMFF94;
+import com.actelion.research.chem.forcefield.mmff.MMFFTopology;
 import com.actelion.research.chem.phesa.AtomicGaussian;
 import com.actelion.research.chem.phesa.Evaluable;
 import com.actelion.research.chem.phesa.Gaussian3D;
@@ -43,6 +44,20 @@ public class EvaluableFlexibleOverlap implements Evaluable  {
 		ForceFieldMMFF94.initialize(ForceFieldMMFF94.MMFF94SPLUS);
 		this.ffOptions = ffOptions;
 		ff = new ForceFieldMMFF94(fitMol, ForceFieldMMFF94.MMFF94SPLUS, this.ffOptions);
+		init(shapeAlign, refMol, fitMol, isHydrogen, v);
+	}
+	
+	/**
+	 * Creates the force field of the fit molecule from a precalculated topology, which avoids
+	 * atom typing and parameterisation, if many overlaps of the same fit molecule are optimised.
+	 * @param topology MMFF94s+ topology of the fit molecule; may be shared by several threads
+	 */
+	public EvaluableFlexibleOverlap(PheSAAlignment shapeAlign, StereoMolecule refMol, StereoMolecule fitMol, boolean[] isHydrogen,double[] v, MMFFTopology topology) {
+		ff = new ForceFieldMMFF94(topology, fitMol);
+		init(shapeAlign, refMol, fitMol, isHydrogen, v);
+	}
+	
+	private void init(PheSAAlignment shapeAlign, StereoMolecule refMol, StereoMolecule fitMol, boolean[] isHydrogen,double[] v) {
 		this.shapeAlign = shapeAlign;
 		this.fitMol = fitMol;
 		this.isHydrogen = isHydrogen;
@@ -6,6 +6,7 @@ import java.util.Map;
 
 import com.actelion.research.chem.StereoMolecule;
 import com.actelion.research.chem.forcefield.mmff.ForceFieldMMFF94;
+import com.actelion.research.chem.forcefield.mmff.MMFFTopology;
 import com.actelion.research.chem.forcefield.mmff.PositionConstraint;
 import com.actelion.research.chem.phesa.MolecularVolume;
 import com.actelion.research.chem.phesa.OptimizerLBFGS;
@@ -29,6 +30,8 @@ import com.actelion.research.chem.phesa.PheSAAlignment;
  * Estrain = E-E0, E0=10 kcal/mol
  * the strain penalty is only applied if the strain energy is higher than 10 kcal/mol, otherwise the 
  * objective function is solely depending on the PheSA similarity Tphesa
+ * All local optimisations share one MMFF94s+ topology of the fit molecule. FlexibleAlignmentReplicaPool
+ * runs several Monte Carlo trajectories with different seeds in parallel.
  * @author JW
  *
  */
@@ -42,6 +45,7 @@ public class FlexibleShapeAlignment {
 	private MolecularVolume refVol;
 	private MolecularVolume fitVol;
 	Map<String, Object> ffOptions;
+	private MMFFTopology topology;
 	
 	public FlexibleShapeAlignment(StereoMolecule refMol, StereoMolecule fitMol) {
 		this(refMol, fitMol, new MolecularVolume(refMol), new MolecularVolume(fitMol));
@@ -57,52 +61,149 @@ public class FlexibleShapeAlignment {
 	}
 	
 	public double align() {
-		
-		PheSAAlignment shapeAlign = new PheSAAlignment(refVol,fitVol);
-		
-		double e0 = calcMin(fitMol);
+		double e0 = prepare();
 		if(Double.isNaN(e0)) {
 			System.err.print("no force field parameters for this structure");
 			return 0.0;
 		}
 		
+		return new Replica(fitMol, fitVol, MetropolisMonteCarloHelper.DEFAULT_SEED).run(e0, null);
+	}
+	
+	/**
+	 * Minimises the fit molecule to determine its reference energy, relaxes the prealigned fit molecule
+	 * with positional constraints and creates the force field topology shared by all trajectories.
+	 * @return energy of the minimised fit molecule or NaN, if it can't be parameterised
+	 */
+	double prepare() {
+		double e0 = calcMin(fitMol);
+		if(Double.isNaN(e0))
+			return e0;
+		
 		restrainedRelaxation(fitMol,e0);
+		topology = new MMFFTopology(fitMol, ForceFieldMMFF94.MMFF94SPLUS, ffOptions);
+		return e0;
+	}
+	
+	/**
+	 * @param seed
+	 * @return independent trajectory starting from a copy of the relaxed fit molecule
+	 */
+	Replica createReplica(long seed) {
+		StereoMolecule mol = new StereoMolecule(fitMol);
+		mol.ensureHelperArrays(StereoMolecule.cHelperCIP);
+		return new Replica(mol, new MolecularVolume(fitVol), seed);
+	}
+	
+	/**
+	 * Copies the coordinates of a replica's fit molecule into the fit molecule of this alignment.
+	 * @param replica
+	 */
+	void adopt(Replica replica) {
+		for(int atom=0;atom<fitMol.getAllAtoms();atom++)
+			fitMol.getCoordinates(atom).set(replica.mol.getCoordinates(atom));
+		fitVol.update(fitMol);
+	}
+	
+	/**
+	 * One Metropolis Monte Carlo trajectory with local optimisations of the fit molecule, which is modified in place.
+	 */
+	class Replica {
+		private final StereoMolecule mol;
+		private final MolecularVolume vol;
+		private final long seed;
+		private double score;
+		private int steps;
+		private boolean pruned;
 		
-		double[] v = new double[3*fitMol.getAllAtoms()];
-
-		boolean[] isHydrogen = new boolean[fitMol.getAllAtoms()];
-		for(int at=0;at<fitMol.getAllAtoms();at++) {
-			
-			isHydrogen[at] = fitMol.getAtomicNo(at)==1 ? true : false;
+		Replica(StereoMolecule mol, MolecularVolume vol, long seed) {
+			this.mol = mol;
+			this.vol = vol;
+			this.seed = seed;
 		}
-		EvaluableFlexibleOverlap eval = new EvaluableFlexibleOverlap(shapeAlign, refMol, fitMol, isHydrogen, v, ffOptions);
-		eval.setE0(e0);
-		OptimizerLBFGS opt = new OptimizerLBFGS(200,0.001);
-		opt.optimize(eval);
-		eval.getState(v);
-		double t0 = getTanimoto(eval,shapeAlign);
-
-		MetropolisMonteCarloHelper mcHelper = new MetropolisMonteCarloHelper(fitMol);
-		double told = t0;
-		for(int i=0;i<MC_STEPS;i++) {
-			double [] vold = Arrays.stream(v).toArray(); // now copy v
-			mcHelper.step();
-			eval = new EvaluableFlexibleOverlap(shapeAlign, refMol, fitMol, isHydrogen, v, ffOptions);
+		
+		/**
+		 * @param e0 energy of the minimised fit molecule
+		 * @param board best score of all replicas for pruning or null
+		 * @return PheSA similarity of the final conformation
+		 */
+		double run(double e0, ReplicaBoard board) {
+			PheSAAlignment shapeAlign = new PheSAAlignment(refVol,vol);
+			
+			double[] v = new double[3*mol.getAllAtoms()];
+			
+			boolean[] isHydrogen = new boolean[mol.getAllAtoms()];
+			for(int at=0;at<mol.getAllAtoms();at++) {
+				
+				isHydrogen[at] = mol.getAtomicNo(at)==1 ? true : false;
+			}
+			EvaluableFlexibleOverlap eval = new EvaluableFlexibleOverlap(shapeAlign, refMol, mol, isHydrogen, v, topology);
 			eval.setE0(e0);
-			opt = new OptimizerLBFGS(200,0.001);
+			OptimizerLBFGS opt = new OptimizerLBFGS(200,0.001);
 			opt.optimize(eval);
-			double tnew = getTanimoto(eval,shapeAlign);
-			if(!mcHelper.accept(told, tnew)) {
-				v = vold;
-				eval.setState(v);
-			}
-			else {
-				eval.getState(v);
-				told = tnew;
+			eval.getState(v);
+			double t0 = getTanimoto(eval,shapeAlign);
+			
+			MetropolisMonteCarloHelper mcHelper = new MetropolisMonteCarloHelper(mol, seed);
+			double told = t0;
+			for(int i=0;i<MC_STEPS;i++) {
+				double [] vold = Arrays.stream(v).toArray(); // now copy v
+				mcHelper.step();
+				eval = new EvaluableFlexibleOverlap(shapeAlign, refMol, mol, isHydrogen, v, topology);
+				eval.setE0(e0);
+				opt = new OptimizerLBFGS(200,0.001);
+				opt.optimize(eval);
+				double tnew = getTanimoto(eval,shapeAlign);
+				if(!mcHelper.accept(told, tnew)) {
+					v = vold;
+					eval.setState(v);
+				}
+				else {
+					eval.getState(v);
+					told = tnew;
+				}
+				steps = i+1;
+				if(board != null && board.isPruned(told, steps)) {
+					pruned = true;
+					break;
+				}
 			}
-			ForceFieldMMFF94 forceField = new ForceFieldMMFF94(fitMol, ForceFieldMMFF94.MMFF94SPLUS,ffOptions);
+			score = getTanimoto(eval,shapeAlign);
+			return score;
+		}
+		
+		double getScore() {
+			return score;
+		}
+		
+		int getSteps() {
+			return steps;
+		}
+		
+		boolean isPruned() {
+			return pruned;
+		}
+	}
+	
+	/**
+	 * Keeps the best score of all replicas. A replica is pruned, if after a minimum number of
+	 * Monte Carlo steps its score is worse than the best score by more than the margin.
+	 */
+	static class ReplicaBoard {
+		private final double margin;
+		private final int minSteps;
+		private double best = -Double.MAX_VALUE;
+		
+		ReplicaBoard(double margin, int minSteps) {
+			this.margin = margin;
+			this.minSteps = minSteps;
+		}
+		
+		synchronized boolean isPruned(double score, int steps) {
+			if(score > best)
+				best = score;
+			return steps >= minSteps && score < best - margin;
 		}
-		return getTanimoto(eval,shapeAlign);
 	}
 	
 	private double getTanimoto(EvaluableFlexibleOverlap eval, PheSAAlignment shapeAlign) { 
@@ -24,7 +24,8 @@ public class MetropolisMonteCarloHelper {
 	private static double MAX_ANGLE = 60.0/180.0*Math.PI;
 	private static double MIN_ANGLE = 5.0/180.0*Math.PI;
 	private static double TEMPERATURE = 0.0043; //move that reduces Tanimoto by 0.01 has 10% chance of acceptance
-	private long seed = 1234L;
+	public static final long DEFAULT_SEED = 1234L;
+	private long seed = DEFAULT_SEED;
 	private double rmax;
 	private double rmin;
 	private float[] torsionRelevance;
@@ -41,6 +42,16 @@ public class MetropolisMonteCarloHelper {
 		
 	}
 	
+	/**
+	 * @param mol
+	 * @param seed seed for the random perturbations and acceptance tests, e.g. to run independent trajectories
+	 */
+	public MetropolisMonteCarloHelper(StereoMolecule mol, long seed) {
+		this.mol = mol;
+		this.seed = seed;
+		init();
+	}
+	
 	private void init() {
 		bondRotationHelper = new BondRotationHelper(mol);
 		random = new Random(seed);
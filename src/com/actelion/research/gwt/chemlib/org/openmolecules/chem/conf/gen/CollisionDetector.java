@@ -0,0 +1,399 @@
+/*
+ * @(#)CollisionDetector.java
+ *
+ * Copyright 2013 openmolecules.org, Inc. All Rights Reserved.
+ *
+ * NOTICE: All information contained herein is, and remains the property
+ * of openmolecules.org.  The intellectual and technical concepts contained
+ * herein are proprietary to openmolecules.org.
+ * Actelion Pharmaceuticals Ltd. is granted a non-exclusive, non-transferable
+ * and timely unlimited usage license.
+ *
+ * @author Thomas Sander
+ */
+
+package org.openmolecules.chem.conf.gen;
+
+import com.actelion.research.chem.StereoMolecule;
+import com.actelion.research.chem.conf.Conformer;
+
+import java.util.Arrays;
+
+/**
+ * Finds all pairs of atoms of a conformer, which are closer to each other than the sum
+ * of their tolerated VDW radii. Rather than comparing all atom pairs, atoms are put into
+ * a uniform grid with a cell size of the largest possible collision distance, such that
+ * only atoms of neighbour cells need to be compared. Grid cells are hashed into a table
+ * proportional to the atom count, which keeps memory low even for stretched molecules.
+ * For small molecules the grid doesn't pay off and all atom pairs are compared directly.
+ * Atom pairs to be ignored are stored in a bitset over the lower triangle of the atom matrix.<br>
+ * The detector remembers the coordinates of the previously checked conformer. If only a part
+ * of the atoms has moved since then, e.g. after rotating one rotatable bond, then only atom
+ * pairs involving moved atoms are checked again. Collisions are reported sorted by the higher
+ * and then by the lower atom index, such that summing up collision intensities gives exactly
+ * the same result as a simple double loop over all atom pairs.
+ */
+public class CollisionDetector {
+	private static final int MAX_INCREMENTAL_PERCENTAGE = 50;	// if more atoms moved, we do a full check
+	private static final int MIN_GRID_ATOMS = 200;	// measured crossover; for smaller molecules direct comparison is faster
+
+	private static final int FILTER_NONE = 0;
+	private static final int FILTER_LOWER = 1;
+	private static final int FILTER_LOWER_OR_NOT_MOVED = 2;
+
+	private int mAtoms,mHashMask,mCollisionCount;
+	private int[] mBucketStart,mBucket,mSortedAtom,mCellX,mCellY,mCellZ;
+	private long[] mSkipPair,mCollision,mSortedCell;
+	private double mCellSize;
+	private double[] mVDWRadius,mPreviousCoords,mSortedCoords,mCollisionIntensity,mCollisionDistance;
+	private boolean mHasPrevious;
+	private boolean[] mIsMovedAtom;
+
+	/**
+	 * Creates a collision detector for all atoms of mol including hydrogens.
+	 * Initially, no atom pair is skipped.
+	 * @param mol
+	 */
+	public CollisionDetector(StereoMolecule mol) {
+		mAtoms = mol.getAllAtoms();
+		mVDWRadius = new double[mAtoms];
+		double maxRadius = 0;
+		for (int atom=0; atom<mAtoms; atom++) {
+			mVDWRadius[atom] = ConformerGenerator.getToleratedVDWRadius(mol.getAtomicNo(atom));
+			maxRadius = Math.max(maxRadius, mVDWRadius[atom]);
+			}
+		mCellSize = Math.max(2.0 * maxRadius, 0.1) * 1.001;	// margin protects against rounding when binning
+
+		long pairCount = (long)mAtoms * (mAtoms - 1) / 2;
+		mSkipPair = new long[(int)((pairCount + 63) >>> 6)];
+
+		int hashSize = 16;
+		while (hashSize < 2 * mAtoms)
+			hashSize <<= 1;
+		mHashMask = hashSize - 1;
+		mBucketStart = new int[hashSize+1];
+		mBucket = new int[mAtoms];
+		mCellX = new int[mAtoms];
+		mCellY = new int[mAtoms];
+		mCellZ = new int[mAtoms];
+		mSortedCell = new long[mAtoms];
+		mSortedAtom = new int[mAtoms];
+		mSortedCoords = new double[3 * mAtoms];
+		mPreviousCoords = new double[3 * mAtoms];
+		mIsMovedAtom = new boolean[mAtoms];
+
+		mCollision = new long[16];
+		mCollisionIntensity = new double[16];
+		mCollisionDistance = new double[16];
+		}
+
+	/**
+	 * Excludes the given atom pair from collision detection.
+	 * @param atom1
+	 * @param atom2
+	 */
+	public void skipPair(int atom1, int atom2) {
+		if (atom1 != atom2) {
+			int index = pairIndex(atom1, atom2);
+			mSkipPair[index >>> 6] |= (1L << (index & 63));
+			mHasPrevious = false;
+			}
+		}
+
+	public boolean isSkippedPair(int atom1, int atom2) {
+		if (atom1 == atom2)
+			return true;
+		int index = pairIndex(atom1, atom2);
+		return (mSkipPair[index >>> 6] & (1L << (index & 63))) != 0;
+		}
+
+	/**
+	 * Forces the next check() to compare all atoms rather than only atoms that moved
+	 * since the previous check.
+	 */
+	public void reset() {
+		mHasPrevious = false;
+		}
+
+	/**
+	 * Determines all colliding atom pairs of the conformer, which must belong to the molecule
+	 * passed to the constructor. If the previously checked conformer had the same coordinates
+	 * for most atoms, then only pairs of moved atoms are checked.
+	 * @param conformer
+	 * @return number of colliding atom pairs
+	 */
+	public int check(Conformer conformer) {
+		int movedCount = 0;
+		if (mHasPrevious) {
+			for (int atom=0; atom<mAtoms; atom++) {
+				int i = 3 * atom;
+				mIsMovedAtom[atom] = (conformer.getX(atom) != mPreviousCoords[i]
+								   || conformer.getY(atom) != mPreviousCoords[i+1]
+								   || conformer.getZ(atom) != mPreviousCoords[i+2]);
+				if (mIsMovedAtom[atom])
+					movedCount++;
+				}
+			if (movedCount == 0)
+				return mCollisionCount;
+			}
+
+		for (int atom=0; atom<mAtoms; atom++) {
+			int i = 3 * atom;
+			mPreviousCoords[i] = conformer.getX(atom);
+			mPreviousCoords[i+1] = conformer.getY(atom);
+			mPreviousCoords[i+2] = conformer.getZ(atom);
+			}
+
+		int sortedCount;
+		boolean useGrid = (mAtoms >= MIN_GRID_ATOMS);
+		if (useGrid)
+			buildGrid();
+
+		if (!mHasPrevious || 100 * movedCount > MAX_INCREMENTAL_PERCENTAGE * mAtoms) {
+			mCollisionCount = 0;
+			for (int atom=0; atom<mAtoms; atom++) {
+				if (useGrid)
+					findCollisionsHalfShell(atom);
+				else
+					findCollisionsDirectly(atom, null);
+				}
+			sortedCount = useGrid ? 0 : mCollisionCount;	// the direct loop finds pairs in sorted order
+			}
+		else {
+			// keep all collisions between atoms that didn't move
+			int count = 0;
+			for (int i=0; i<mCollisionCount; i++) {
+				long pair = mCollision[i];
+				if (!mIsMovedAtom[(int)(pair >>> 32)] && !mIsMovedAtom[(int)pair])
+					mCollision[count++] = pair;
+				}
+			mCollisionCount = count;
+			sortedCount = count;
+			for (int atom=0; atom<mAtoms; atom++) {
+				if (mIsMovedAtom[atom]) {
+					if (useGrid)
+						findCollisionsOfMovedAtom(atom);
+					else
+						findCollisionsDirectly(atom, mIsMovedAtom);
+					}
+				}
+			}
+
+		sortCollisions(sortedCount);
+		for (int i=0; i<mCollisionCount; i++)
+			calculateIntensity(i);
+
+		mHasPrevious = true;
+		return mCollisionCount;
+		}
+
+	public int getCollisionCount() {
+		return mCollisionCount;
+		}
+
+	/**
+	 * @param collision index of collision as sorted by atom indexes
+	 * @param i 0: higher atom index; 1: lower atom index
+	 * @return atom index
+	 */
+	public int getCollisionAtom(int collision, int i) {
+		return (i == 0) ? (int)(mCollision[collision] >>> 32) : (int)mCollision[collision];
+		}
+
+	public double getCollisionDistance(int collision) {
+		return mCollisionDistance[collision];
+		}
+
+	/**
+	 * @param collision
+	 * @return sum of the tolerated VDW radii of both atoms
+	 */
+	public double getMinDistance(int collision) {
+		return mVDWRadius[getCollisionAtom(collision, 0)] + mVDWRadius[getCollisionAtom(collision, 1)];
+		}
+
+	/**
+	 * @param collision
+	 * @return square of the relative distance shortfall
+	 */
+	public double getCollisionIntensity(int collision) {
+		return mCollisionIntensity[collision];
+		}
+
+	private int pairIndex(int atom1, int atom2) {
+		return (atom1 > atom2) ? atom1 * (atom1 - 1) / 2 + atom2 : atom2 * (atom2 - 1) / 2 + atom1;
+		}
+
+	private static long cellKey(int x, int y, int z) {
+		return ((long)(x & 0x1FFFFF) << 42) | ((long)(y & 0x1FFFFF) << 21) | (z & 0x1FFFFF);
+		}
+
+	private int hash(int x, int y, int z) {
+		return ((x * 73856093) ^ (y * 19349663) ^ (z * 83492791)) & mHashMask;
+		}
+
+	/**
+	 * Sorts all atoms by hash bucket of their grid cell and stores their cells and coordinates
+	 * in that order, such that the atoms of one bucket can be accessed as one contiguous block.
+	 */
+	private void buildGrid() {
+		Arrays.fill(mBucketStart, 0);
+		for (int atom=0; atom<mAtoms; atom++) {
+			int i = 3 * atom;
+			mCellX[atom] = (int)Math.floor(mPreviousCoords[i] / mCellSize);
+			mCellY[atom] = (int)Math.floor(mPreviousCoords[i+1] / mCellSize);
+			mCellZ[atom] = (int)Math.floor(mPreviousCoords[i+2] / mCellSize);
+			mBucket[atom] = hash(mCellX[atom], mCellY[atom], mCellZ[atom]);
+			mBucketStart[mBucket[atom]+1]++;
+			}
+		for (int i=1; i<mBucketStart.length; i++)
+			mBucketStart[i] += mBucketStart[i-1];
+		for (int atom=0; atom<mAtoms; atom++) {
+			int index = mBucketStart[mBucket[atom]]++;
+			mSortedAtom[index] = atom;
+			mSortedCell[index] = cellKey(mCellX[atom], mCellY[atom], mCellZ[atom]);
+			mSortedCoords[3*index] = mPreviousCoords[3*atom];
+			mSortedCoords[3*index+1] = mPreviousCoords[3*atom+1];
+			mSortedCoords[3*index+2] = mPreviousCoords[3*atom+2];
+			}
+		// shift start indexes back, which were incremented while placing the atoms
+		for (int i=mBucketStart.length-1; i>0; i--)
+			mBucketStart[i] = mBucketStart[i-1];
+		mBucketStart[0] = 0;
+		}
+
+	/**
+	 * Adds all collisions of atom1 with lower indexed atoms of the same cell and with
+	 * any atom of the 13 adjacent cells in forward direction. Applied to all atoms,
+	 * this finds every atom pair with a distance below the cell size exactly once.
+	 */
+	private void findCollisionsHalfShell(int atom1) {
+		int cx = mCellX[atom1];
+		int cy = mCellY[atom1];
+		int cz = mCellZ[atom1];
+		findCollisionsInCell(atom1, cx, cy, cz, FILTER_LOWER);
+		for (int x=cx; x<=cx+1; x++)
+			for (int y=(x==cx)?cy:cy-1; y<=cy+1; y++)
+				for (int z=(x==cx && y==cy)?cz+1:cz-1; z<=cz+1; z++)
+					findCollisionsInCell(atom1, x, y, z, FILTER_NONE);
+		}
+
+	/**
+	 * Adds collisions of the moved atom1 with all not moved atoms and with moved atoms
+	 * of lower index that are located in the same or any adjacent cell.
+	 */
+	private void findCollisionsOfMovedAtom(int atom1) {
+		int cx = mCellX[atom1];
+		int cy = mCellY[atom1];
+		int cz = mCellZ[atom1];
+		for (int x=cx-1; x<=cx+1; x++)
+			for (int y=cy-1; y<=cy+1; y++)
+				for (int z=cz-1; z<=cz+1; z++)
+					findCollisionsInCell(atom1, x, y, z, FILTER_LOWER_OR_NOT_MOVED);
+		}
+
+	private void findCollisionsInCell(int atom1, int x, int y, int z, int filter) {
+		long cell = cellKey(x, y, z);
+		int bucket = hash(x, y, z);
+		double x1 = mPreviousCoords[3*atom1];
+		double y1 = mPreviousCoords[3*atom1+1];
+		double z1 = mPreviousCoords[3*atom1+2];
+		double radius1 = mVDWRadius[atom1];
+		for (int index=mBucketStart[bucket]; index<mBucketStart[bucket+1]; index++) {
+			if (mSortedCell[index] != cell)	// different cells may share the same bucket
+				continue;
+			int atom2 = mSortedAtom[index];
+			if (filter == FILTER_LOWER && atom2 >= atom1)
+				continue;
+			if (filter == FILTER_LOWER_OR_NOT_MOVED && atom2 >= atom1 && mIsMovedAtom[atom2])
+				continue;
+			double minDistance = radius1 + mVDWRadius[atom2];
+			double dx = Math.abs(x1 - mSortedCoords[3*index]);
+			if (dx < minDistance) {
+				double dy = Math.abs(y1 - mSortedCoords[3*index+1]);
+				if (dy < minDistance) {
+					double dz = Math.abs(z1 - mSortedCoords[3*index+2]);
+					if (dz < minDistance
+					 && Math.sqrt(dx*dx+dy*dy+dz*dz) < minDistance
+					 && !isSkippedPair(atom1, atom2))
+						addCollision(atom1, atom2);
+					}
+				}
+			}
+		}
+
+	/**
+	 * Compares atom1 with all lower indexed atoms or, if isMovedAtom is given, with all
+	 * lower indexed atoms and all not moved atoms. This is faster than the grid for small molecules.
+	 */
+	private void findCollisionsDirectly(int atom1, boolean[] isMovedAtom) {
+		int maxAtom = (isMovedAtom == null) ? atom1 : mAtoms;
+		for (int atom2=0; atom2<maxAtom; atom2++)
+			if ((atom2 < atom1 || !isMovedAtom[atom2])
+			 && isColliding(atom1, atom2) && !isSkippedPair(atom1, atom2))
+				addCollision(atom1, atom2);
+		}
+
+	private boolean isColliding(int atom1, int atom2) {
+		double minDistance = mVDWRadius[atom1] + mVDWRadius[atom2];
+		int i1 = 3 * atom1;
+		int i2 = 3 * atom2;
+		double dx = Math.abs(mPreviousCoords[i1] - mPreviousCoords[i2]);
+		if (dx >= minDistance)
+			return false;
+		double dy = Math.abs(mPreviousCoords[i1+1] - mPreviousCoords[i2+1]);
+		if (dy >= minDistance)
+			return false;
+		double dz = Math.abs(mPreviousCoords[i1+2] - mPreviousCoords[i2+2]);
+		if (dz >= minDistance)
+			return false;
+		return Math.sqrt(dx*dx+dy*dy+dz*dz) < minDistance;
+		}
+
+	private void addCollision(int atom1, int atom2) {
+		if (mCollisionCount == mCollision.length) {
+			int newSize = 2 * mCollision.length;
+			mCollision = Arrays.copyOf(mCollision, newSize);
+			mCollisionIntensity = Arrays.copyOf(mCollisionIntensity, newSize);
+			mCollisionDistance = Arrays.copyOf(mCollisionDistance, newSize);
+			}
+		mCollision[mCollisionCount++] = (atom1 > atom2) ?
+				((long)atom1 << 32) | atom2 : ((long)atom2 << 32) | atom1;
+		}
+
+	/**
+	 * Sorts the collisions behind sortedCount and merges them with the already sorted ones.
+	 */
+	private void sortCollisions(int sortedCount) {
+		if (sortedCount == mCollisionCount)
+			return;
+
+		Arrays.sort(mCollision, sortedCount, mCollisionCount);
+		if (sortedCount == 0 || mCollision[sortedCount-1] < mCollision[sortedCount])
+			return;
+
+		long[] head = Arrays.copyOf(mCollision, sortedCount);
+		int i = 0;
+		int j = sortedCount;
+		int k = 0;
+		while (i < sortedCount && j < mCollisionCount)
+			mCollision[k++] = (head[i] < mCollision[j]) ? head[i++] : mCollision[j++];
+		while (i < sortedCount)
+			mCollision[k++] = head[i++];
+		}
+
+	private void calculateIntensity(int collision) {
+		int atom1 = getCollisionAtom(collision, 0);
+		int atom2 = getCollisionAtom(collision, 1);
+		double minDistance = mVDWRadius[atom1] + mVDWRadius[atom2];
+		int i1 = 3 * atom1;
+		int i2 = 3 * atom2;
+		double dx = Math.abs(mPreviousCoords[i1] - mPreviousCoords[i2]);
+		double dy = Math.abs(mPreviousCoords[i1+1] - mPreviousCoords[i2+1]);
+		double dz = Math.abs(mPreviousCoords[i1+2] - mPreviousCoords[i2+2]);
+		double distance = Math.sqrt(dx*dx+dy*dy+dz*dz);
+		double relativeCollision = (minDistance - distance) / minDistance;
+		mCollisionDistance[collision] = distance;
+		mCollisionIntensity[collision] = relativeCollision * relativeCollision;
+		}
+	}
@@ -68,7 +68,7 @@ public class ConformerGenerator {
 	private boolean				mUseSelfOrganizerIfAllFails;
 	private double				mContribution;
 	private int[]				mFragmentNo,mDisconnectedFragmentNo,mDisconnectedFragmentSize;
-	private boolean[][]			mSkipCollisionCheck;
+	private CollisionDetector	mCollisionDetector;
 	private Random				mRandom;
 
 	public static final boolean PRINT_TORSION_AND_FRAGMENT_LIKELYHOODS = false;
@@ -187,7 +187,6 @@ public static boolean WRITE_DW_FRAGMENT_FILE = false;
 		TorsionDB.initialize(TorsionDB.MODE_ANGLES);
 		mRandomSeed = seed;
 		mRandom = (seed == 0) ? new Random() : new Random(seed);
-		Rigid3DFragment.setRandomSeed(seed);
 		}
 
 	/**
@@ -711,19 +710,17 @@ if (elimRules != mTorsionSetStrategy.getEliminationRuleList().size()) {
 		int fragmentCount = mMolecule.getFragmentNumbers(mFragmentNo, isRotatableBond, true);
 		mRigidFragment = new Rigid3DFragment[fragmentCount];
 		for (int i=0; i<fragmentCount; i++)
-			mRigidFragment[i] = new Rigid3DFragment(mMolecule, mFragmentNo, i);
+			mRigidFragment[i] = new Rigid3DFragment(mMolecule, mFragmentNo, i, mRandomSeed);
 		}
 
 	/**
-	 * Creates a atom matrix flagging all atom pairs, which should be skipped
-	 * during collision check, because they are members of the same fragment,
+	 * Creates a collision detector skipping all atom pairs during collision check,
+	 * because they are members of the same fragment,
 	 * they are members of two adjacent fragments or because the number of
 	 * bonds between them is smaller than 3.
 	 */
 	private void initializeCollisionCheck() {
-		mSkipCollisionCheck = new boolean[mMolecule.getAllAtoms()][];
-		for (int atom=1; atom<mMolecule.getAllAtoms(); atom++)
-			mSkipCollisionCheck[atom] = new boolean[atom];
+		mCollisionDetector = new CollisionDetector(mMolecule);
 
 		// skip collision check for two atoms in adjacent fragments
 /* This we cannot do, if we don't sort out colliding torsions in the RotatableBond class,
@@ -734,7 +731,7 @@ if (elimRules != mTorsionSetStrategy.getEliminationRuleList().size()) {
 			for (int i=0; i<f1.getCoreSize(); i++) {
 				int atom1 = f1.coreToOriginalAtom(i);
 				for (int j=0; j<f2.getCoreSize(); j++)
-					skipCollisionCheck(atom1, f2.coreToOriginalAtom(j));
+					mCollisionDetector.skipPair(atom1, f2.coreToOriginalAtom(j));
 				}
 			}*/
 
@@ -742,27 +739,20 @@ if (elimRules != mTorsionSetStrategy.getEliminationRuleList().size()) {
 		for (Rigid3DFragment rf:mRigidFragment)
 			for (int i=1; i<rf.getExtendedSize(); i++)
 				for (int j=0; j<i; j++)
-					skipCollisionCheck(rf.extendedToOriginalAtom(i), rf.extendedToOriginalAtom(j));
+					mCollisionDetector.skipPair(rf.extendedToOriginalAtom(i), rf.extendedToOriginalAtom(j));
 
 		// skip collision check for atom pairs with 2 bonds in between
 		for (int atom=0; atom<mMolecule.getAtoms(); atom++)
 			for (int i=1; i<mMolecule.getAllConnAtoms(atom); i++)
 				for (int j=0; j<i; j++)
-					skipCollisionCheck(mMolecule.getConnAtom(atom, i), mMolecule.getConnAtom(atom, j));
+					mCollisionDetector.skipPair(mMolecule.getConnAtom(atom, i), mMolecule.getConnAtom(atom, j));
 
 		// skip collision check for any two atoms that belong to different disconnected fragments
 		if (mDisconnectedFragmentNo != null)
 			for (int atom1=1; atom1<mMolecule.getAllAtoms(); atom1++)
 				for (int atom2=0; atom2<atom1; atom2++)
 					if (mDisconnectedFragmentNo[atom1] != mDisconnectedFragmentNo[atom2])
-						mSkipCollisionCheck[atom1][atom2] = true;
-		}
-
-	private void skipCollisionCheck(int atom1, int atom2) {
-		if (atom1 < atom2)
-			mSkipCollisionCheck[atom2][atom1] = true;
-		else
-			mSkipCollisionCheck[atom1][atom2] = true;
+						mCollisionDetector.skipPair(atom1, atom2);
 		}
 
 	private boolean checkCollision(Conformer conformer, TorsionSet torsionSet) {
@@ -770,25 +760,17 @@ mDiagnosticCollisionString = "";
 mDiagnosticCollisionAtoms = null;
 		double collisionIntensitySum = 0;
 		double[][] collisionIntensityMatrix = null;
-		StereoMolecule mol = conformer.getMolecule();
-		for (int atom1=1; atom1<mol.getAllAtoms(); atom1++) {
-			double vdwr1 = getToleratedVDWRadius(mol.getAtomicNo(atom1));
-			for (int atom2=0; atom2<atom1; atom2++) {
-				if (!mSkipCollisionCheck[atom1][atom2]) {
-					double minDistance = vdwr1+getToleratedVDWRadius(mol.getAtomicNo(atom2));
-					double dx = Math.abs(conformer.getX(atom1) - conformer.getX(atom2));
-					if (dx < minDistance) {
-						double dy = Math.abs(conformer.getY(atom1) - conformer.getY(atom2));
-						if (dy < minDistance) {
-							double dz = Math.abs(conformer.getZ(atom1) - conformer.getZ(atom2));
-							if (dz < minDistance) {
-								double distance = Math.sqrt(dx*dx+dy*dy+dz*dz);
-								if (distance < minDistance) {
-									double relativeCollision = (minDistance - distance) / minDistance;
-									double collisionIntensity = relativeCollision * relativeCollision;
-									collisionIntensitySum += collisionIntensity;
-//System.out.println("a1:"+atom1+" f1:"+mFragmentNo[atom1]+" a2:"+atom2+" f2:"+mFragmentNo[atom2]+" distance:"+distance+" min:"+minDistance);
+
+		// collisions are sorted by atom indexes, which gives the same sum as a loop over all atom pairs
+		int collisionCount = mCollisionDetector.check(conformer);
+		for (int i=0; i<collisionCount; i++) {
+			int atom1 = mCollisionDetector.getCollisionAtom(i, 0);
+			int atom2 = mCollisionDetector.getCollisionAtom(i, 1);
+			double collisionIntensity = mCollisionDetector.getCollisionIntensity(i);
+			collisionIntensitySum += collisionIntensity;
 if (WRITE_DW_FRAGMENT_FILE) {
+ double distance = mCollisionDetector.getCollisionDistance(i);
+ double minDistance = mCollisionDetector.getMinDistance(i);
  if (mDiagnosticCollisionString.length() != 0) mDiagnosticCollisionString = mDiagnosticCollisionString + "<NL>";
   mDiagnosticCollisionString = mDiagnosticCollisionString+"a1:"+atom1+" f1:"+mFragmentNo[atom1]+" a2:"+atom2+" f2:"+mFragmentNo[atom2]+" distance:"+distance+" min:"+minDistance;
  if (mDiagnosticCollisionAtoms == null) {
@@ -797,26 +779,19 @@ if (WRITE_DW_FRAGMENT_FILE) {
   mDiagnosticCollisionAtoms[1] = atom2;
  }
 }
-									if (collisionIntensityMatrix == null)
-										collisionIntensityMatrix = new double[mRigidFragment.length][];
-									int f1 = mFragmentNo[atom1];
-									int f2 = mFragmentNo[atom2];
-									if (f1 < f2) {
-										if (collisionIntensityMatrix[f2] == null)
-											collisionIntensityMatrix[f2] = new double[f2];
-										collisionIntensityMatrix[f2][f1] += collisionIntensity;
-										}
-									else {
-										if (collisionIntensityMatrix[f1] == null)
-											collisionIntensityMatrix[f1] = new double[f1];
-										collisionIntensityMatrix[f1][f2] += collisionIntensity;
-										}
-									continue;
-									}
-								}
-							}
-						}
-					}
+			if (collisionIntensityMatrix == null)
+				collisionIntensityMatrix = new double[mRigidFragment.length][];
+			int f1 = mFragmentNo[atom1];
+			int f2 = mFragmentNo[atom2];
+			if (f1 < f2) {
+				if (collisionIntensityMatrix[f2] == null)
+					collisionIntensityMatrix[f2] = new double[f2];
+				collisionIntensityMatrix[f2][f1] += collisionIntensity;
+				}
+			else {
+				if (collisionIntensityMatrix[f1] == null)
+					collisionIntensityMatrix[f1] = new double[f1];
+				collisionIntensityMatrix[f1][f2] += collisionIntensity;
 				}
 			}
 		torsionSet.setCollisionIntensity(collisionIntensitySum, collisionIntensityMatrix);
@@ -0,0 +1,192 @@
+/*
+ * @(#)RigidFragmentCache.java
+ *
+ * Copyright 2013 openmolecules.org, Inc. All Rights Reserved.
+ *
+ * NOTICE: All information contained herein is, and remains the property
+ * of openmolecules.org.  The intellectual and technical concepts contained
+ * herein are proprietary to openmolecules.org.
+ * Actelion Pharmaceuticals Ltd. is granted a non-exclusive, non-transferable
+ * and timely unlimited usage license.
+ *
+ * @author Thomas Sander
+ */
+
+package org.openmolecules.chem.conf.gen;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Least-recently-used cache of rigid fragment conformers. Building the conformers
+ * of a rigid fragment with the ConformationSelfOrganizer is the most expensive
+ * step of ConformerGenerator initialization, while typical screening libraries
+ * contain the same ring systems over and over again. If a cache is registered with
+ * Rigid3DFragment.setCache(), then every fragment is keyed by a canonical code and
+ * its conformer coordinates and likelyhoods are taken from the cache, whenever
+ * the same fragment was built before.
+ * Coordinates are stored in canonical atom order, such that they can be mapped
+ * onto any fragment with the same key. Missing entries are generated from the
+ * canonical fragment with a fixed seed, such that an entry's content doesn't depend
+ * on which molecule or thread created it. All methods are thread-safe.
+ * The cache content can be written to and read from a simple tab-delimited
+ * text format to preload frequent fragments at startup.
+ */
+public class RigidFragmentCache {
+	public static final int DEFAULT_MAX_SIZE = 10000;
+
+	private static final String HEADER = "RigidFragmentCache\t1";
+
+	private LinkedHashMap<String,CacheEntry> mMap;
+	private int mMaxSize,mHitCount,mMissCount;
+
+	/**
+	 * Creates an empty cache holding up to DEFAULT_MAX_SIZE fragments.
+	 */
+	public RigidFragmentCache() {
+		this(DEFAULT_MAX_SIZE);
+		}
+
+	/**
+	 * Creates an empty cache. If more than maxSize fragments are added,
+	 * then the least recently used ones are removed.
+	 * @param maxSize
+	 */
+	public RigidFragmentCache(int maxSize) {
+		mMaxSize = Math.max(1, maxSize);
+		mMap = new LinkedHashMap<String,CacheEntry>(16, 0.75f, true) {
+			private static final long serialVersionUID = 0x20131124;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String,CacheEntry> eldest) {
+				return size() > mMaxSize;
+				}
+			};
+		}
+
+	public synchronized int getMaxSize() {
+		return mMaxSize;
+		}
+
+	public synchronized int size() {
+		return mMap.size();
+		}
+
+	public synchronized int getHitCount() {
+		return mHitCount;
+		}
+
+	public synchronized int getMissCount() {
+		return mMissCount;
+		}
+
+	/**
+	 * Removes all fragments and resets hit and miss counters.
+	 */
+	public synchronized void clear() {
+		mMap.clear();
+		mHitCount = 0;
+		mMissCount = 0;
+		}
+
+	/**
+	 * @param key canonical fragment code
+	 * @return cached entry or null, if the fragment is not in the cache
+	 */
+	protected synchronized CacheEntry get(String key) {
+		CacheEntry entry = mMap.get(key);
+		if (entry == null)
+			mMissCount++;
+		else
+			mHitCount++;
+		return entry;
+		}
+
+	protected synchronized void put(String key, CacheEntry entry) {
+		mMap.put(key, entry);
+		}
+
+	/**
+	 * Writes all cached fragments from least recently to most recently used.
+	 * Thus, reading the output into a cache of the same size restores the same LRU order.
+	 * @param writer
+	 * @throws IOException
+	 */
+	public synchronized void write(Writer writer) throws IOException {
+		writer.write(HEADER);
+		writer.write("\n");
+		for (Map.Entry<String,CacheEntry> e:mMap.entrySet()) {
+			CacheEntry entry = e.getValue();
+			StringBuilder sb = new StringBuilder(e.getKey());
+			sb.append('\t').append(entry.coordinates.length);
+			sb.append('\t').append(entry.coordinates.length == 0 ? 0 : entry.coordinates[0].length / 3);
+			for (int i=0; i<entry.coordinates.length; i++) {
+				sb.append('\t').append(entry.likelyhood[i]);
+				for (double c:entry.coordinates[i])
+					sb.append('\t').append(c);
+				}
+			sb.append('\n');
+			writer.write(sb.toString());
+			}
+		writer.flush();
+		}
+
+	/**
+	 * Adds all fragments written by write() to this cache.
+	 * Existing entries with the same key are replaced.
+	 * @param reader
+	 * @return number of fragments read
+	 * @throws IOException if the format is not recognized
+	 */
+	public synchronized int read(BufferedReader reader) throws IOException {
+		String line = reader.readLine();
+		if (line == null || !line.equals(HEADER))
+			throw new IOException("Unknown rigid fragment cache format.");
+
+		int count = 0;
+		line = reader.readLine();
+		while (line != null) {
+			if (line.length() != 0) {
+				String[] item = line.split("\t");
+				try {
+					int conformerCount = Integer.parseInt(item[1]);
+					int atomCount = Integer.parseInt(item[2]);
+					if (item.length != 3 + conformerCount * (1 + 3 * atomCount))
+						throw new IOException("Corrupt rigid fragment cache entry.");
+
+					CacheEntry entry = new CacheEntry(new double[conformerCount][3 * atomCount], new double[conformerCount]);
+					int index = 3;
+					for (int i=0; i<conformerCount; i++) {
+						entry.likelyhood[i] = Double.parseDouble(item[index++]);
+						for (int j=0; j<3*atomCount; j++)
+							entry.coordinates[i][j] = Double.parseDouble(item[index++]);
+						}
+					mMap.put(item[0], entry);
+					count++;
+					}
+				catch (NumberFormatException nfe) {
+					throw new IOException("Corrupt rigid fragment cache entry.");
+					}
+				}
+			line = reader.readLine();
+			}
+		return count;
+		}
+
+	/**
+	 * Conformer coordinates (x,y,z per atom in canonical order) and normalized likelyhoods
+	 * of one rigid fragment. Entries are never changed after being put into the cache.
+	 */
+	protected static class CacheEntry {
+		final double[][] coordinates;
+		final double[] likelyhood;
+
+		CacheEntry(double[][] coordinates, double[] likelyhood) {
+			this.coordinates = coordinates;
+			this.likelyhood = likelyhood;
+			}
+		}
+	}
@@ -2,6 +2,9 @@ package com.actelion.research.gwt.core;
 
 import com.actelion.research.gwt.minimal.JSMolecule;
 import com.actelion.research.chem.*;
+import com.actelion.research.chem.conf.Conformer;
+import com.actelion.research.chem.conf.ConformerSet;
+import com.actelion.research.chem.conf.ConformerSetGenerator;
 import com.google.gwt.core.client.JavaScriptObject;
 import jsinterop.annotations.*;
 import org.openmolecules.chem.conf.gen.ConformerGenerator;
@@ -59,4 +62,18 @@ public class JSConformerGenerator {
   public double getPreviousConformerContribution() {
     return oclGenerator.getPreviousConformerContribution();
   }
+
+  public static JSMolecule[] _generateConformerSet(JSMolecule mol, int seed, int index, int maxConformers,
+      int strategy, boolean useFF, double minRMSD) {
+    ConformerSetGenerator generator = new ConformerSetGenerator(maxConformers, strategy, useFF, 0L);
+    generator.setMinimumRMSD(minRMSD);
+    ConformerSet confSet = generator.generateConformerSet(mol.getStereoMolecule(),
+        ConformerSetGenerator.deriveSeed(seed, index));
+    JSMolecule[] result = new JSMolecule[confSet.size()];
+    int i = 0;
+    for (Conformer conformer : confSet) {
+      result[i++] = new JSMolecule(conformer.toMolecule(null));
+    }
+    return result;
+  }
 }
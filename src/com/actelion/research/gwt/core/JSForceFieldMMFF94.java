@@ -1,16 +1,27 @@
 package com.actelion.research.gwt.core;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import com.actelion.research.gwt.minimal.JSMolecule;
 import com.actelion.research.chem.*;
+import com.actelion.research.chem.forcefield.EarlyExitPolicy;
+import com.actelion.research.chem.forcefield.EnergyPlateauPolicy;
+import com.actelion.research.chem.forcefield.MinimiserStatistics;
+import com.actelion.research.chem.forcefield.WallTimePolicy;
 import com.actelion.research.chem.forcefield.mmff.ForceFieldMMFF94;
+import com.actelion.research.chem.forcefield.mmff.MMFFTopology;
 import com.google.gwt.core.client.JavaScriptObject;
 import jsinterop.annotations.*;
 
 @JsType(name = "ForceFieldMMFF94")
 public class JSForceFieldMMFF94 {
   private ForceFieldMMFF94 oclMmff;
+  private StereoMolecule molecule;
+  private String tablename;
+  private MMFFTopology topology;
 
   public static final String MMFF94 = "MMFF94";
 	public static final String MMFF94S = "MMFF94s";
@@ -23,6 +34,8 @@ public class JSForceFieldMMFF94 {
   public JSForceFieldMMFF94(JSMolecule molecule, String tablename, JavaScriptObject options) {
     initializeTables(tablename);
     oclMmff = new ForceFieldMMFF94(molecule.getStereoMolecule(), tablename, new HashMap<String, Object>());
+    this.molecule = molecule.getStereoMolecule();
+    this.tablename = tablename;
   }
 
   public int size() {
@@ -33,10 +46,82 @@ public class JSForceFieldMMFF94 {
     return oclMmff.getTotalEnergy();
   }
 
-  public int _minimise(int maxIts, double gradTol, double funcTol) {
+  public int _minimise(int maxIts, double gradTol, double funcTol, double maxTime, int plateauIterations, double plateauDecrease) {
+    oclMmff.removeEarlyExitPolicies();
+    for (EarlyExitPolicy policy : createPolicies(maxTime, plateauIterations, plateauDecrease)) {
+      oclMmff.addEarlyExitPolicy(policy);
+    }
     return oclMmff.minimise(maxIts, gradTol, funcTol);
   }
 
+  public JavaScriptObject getMinimiserStatistics() {
+    MinimiserStatistics statistics = oclMmff.getStatistics();
+    if (statistics == null) {
+      return null;
+    }
+    JavaScriptObject energyBreakdown = JavaScriptObject.createObject();
+    for (Map.Entry<String, Double> entry : statistics.getEnergyBreakdown().entrySet()) {
+      setNumber(energyBreakdown, entry.getKey(), entry.getValue().doubleValue());
+    }
+    return createStatistics(statistics.getTerminationName(), statistics.getIterations(),
+        statistics.getEnergyEvaluations(), statistics.getGradientEvaluations(),
+        statistics.getLineSearchFailures(), statistics.getInitialEnergy(),
+        statistics.getFinalEnergy(), energyBreakdown, statistics.getElapsedMillis(),
+        statistics.getLineSearchMillis(), statistics.getEnergyMillis(),
+        statistics.getGradientMillis(), statistics.getHessianMillis());
+  }
+
+  public double[] _minimiseConformers(JSMolecule[] molecules, int maxIts, double gradTol, double funcTol, double maxTime, int plateauIterations, double plateauDecrease) {
+    if (topology == null) {
+      topology = new MMFFTopology(molecule, tablename, new HashMap<String, Object>());
+    }
+    StereoMolecule[] conformers = new StereoMolecule[molecules.length];
+    for (int i = 0; i < molecules.length; i++) {
+      conformers[i] = molecules[i].getStereoMolecule();
+    }
+    return topology.minimise(conformers, maxIts, gradTol, funcTol, createPolicies(maxTime, plateauIterations, plateauDecrease));
+  }
+
+  private static EarlyExitPolicy[] createPolicies(double maxTime, int plateauIterations, double plateauDecrease) {
+    List<EarlyExitPolicy> policies = new ArrayList<EarlyExitPolicy>();
+    if (maxTime > 0) {
+      policies.add(new WallTimePolicy(maxTime));
+    }
+    if (plateauIterations > 0) {
+      policies.add(new EnergyPlateauPolicy(plateauIterations, plateauDecrease));
+    }
+    return policies.toArray(new EarlyExitPolicy[policies.size()]);
+  }
+
+  private static native void setNumber(JavaScriptObject object, String key, double value)
+  /*-{
+  	object[key] = value;
+  }-*/;
+
+  private static native JavaScriptObject createStatistics(String termination, int iterations,
+      int energyEvaluations, int gradientEvaluations, int lineSearchFailures,
+      double initialEnergy, double finalEnergy, JavaScriptObject energyBreakdown,
+      double total, double lineSearch, double energy, double gradient, double hessian)
+  /*-{
+  	return {
+  		termination: termination,
+  		iterations: iterations,
+  		energyEvaluations: energyEvaluations,
+  		gradientEvaluations: gradientEvaluations,
+  		lineSearchFailures: lineSearchFailures,
+  		initialEnergy: initialEnergy,
+  		finalEnergy: finalEnergy,
+  		energyBreakdown: energyBreakdown,
+  		time: {
+  			total: total,
+  			lineSearch: lineSearch,
+  			energy: energy,
+  			gradient: gradient,
+  			hessian: hessian
+  		}
+  	};
+  }-*/;
+
   private static void initializeTables(String tablename) {
     if (tablename.equals(MMFF94) && !isMMFF94Init) {
       ForceFieldMMFF94.initialize(MMFF94);
@@ -0,0 +1,28 @@
+package com.actelion.research.gwt.core;
+
+import com.actelion.research.gwt.minimal.JSMolecule;
+import com.actelion.research.chem.StereoMolecule;
+import com.actelion.research.chem.mcs.MCSFast;
+import jsinterop.annotations.*;
+
+@JsType(name = "MCS")
+public class JSMCS {
+  private MCSFast oclMCS;
+
+  public static final int PAR_CLEAVE_RINGS = MCSFast.PAR_CLEAVE_RINGS;
+  public static final int PAR_KEEP_RINGS = MCSFast.PAR_KEEP_RINGS;
+  public static final int PAR_KEEP_AROMATIC_RINGS = MCSFast.PAR_KEEP_AROMATIC_RINGS;
+
+  public JSMCS(int ringStatus) {
+    oclMCS = new MCSFast(ringStatus);
+  }
+
+  public void set(JSMolecule molecule, JSMolecule fragment) {
+    oclMCS.set(new StereoMolecule(molecule.getStereoMolecule()), new StereoMolecule(fragment.getStereoMolecule()));
+  }
+
+  public JSMolecule getMCS() {
+    StereoMolecule mcs = oclMCS.getMCS();
+    return mcs == null ? null : new JSMolecule(mcs);
+  }
+}
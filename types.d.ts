@@ -3014,6 +3014,42 @@ export interface IInitializeConformersOptions {
   use60degreeSteps?: boolean;
 }
 
+export interface IGenerateEnsembleOptions {
+  /**
+   * Seed shared by all molecules. Every molecule's generator is seeded with a seed
+   * derived from this one and the molecule's index, such that the result is reproducible.
+   * Use 0 for non-reproducible conformers.
+   * Default: `0`.
+   */
+  seed?: number;
+  /**
+   * Maximum number of conformers per molecule.
+   * Default: `200`.
+   */
+  maxConformers?: number;
+  /**
+   * One of the ConformerGenerator.STRATEGY_ constants.
+   * Default: `ConformerGenerator.STRATEGY_LIKELY_RANDOM`.
+   */
+  strategy?: number;
+  /**
+   * Minimize every conformer with the MMFF94s+ force field.
+   * Default: `false`.
+   */
+  useFF?: boolean;
+  /**
+   * Conformers with a heavy atom RMSD below this value to an earlier conformer
+   * of the same molecule are removed. 0 keeps all conformers.
+   * Default: `0`.
+   */
+  minRMSD?: number;
+  /**
+   * Number of molecules processed before giving back control to the event loop.
+   * Default: `1`.
+   */
+  chunkSize?: number;
+}
+
 export declare class ConformerGenerator {
   static STRATEGY_LIKELY_SYSTEMATIC: number;
   static STRATEGY_PURE_RANDOM: number;
@@ -3086,6 +3122,43 @@ export declare class ConformerGenerator {
    * Returns an iterator of molecule conformers.
    */
   molecules(): IterableIterator<Molecule>;
+
+  /**
+   * Generates conformers for many molecules without blocking the event loop
+   * for longer than it takes to process one chunk of molecules.
+   * @param molecules
+   * @param options
+   * @returns - One array of conformers per molecule in the order of the passed molecules.
+   */
+  static generateEnsemble(molecules: Molecule[], options?: IGenerateEnsembleOptions): Promise<Molecule[][]>;
+}
+
+/**
+ * Maximum common substructure of two molecules.
+ */
+export declare class MCS {
+  static PAR_CLEAVE_RINGS: number;
+  static PAR_KEEP_RINGS: number;
+  static PAR_KEEP_AROMATIC_RINGS: number;
+
+  /**
+   * @param ringStatus - One of the PAR_ constants. PAR_CLEAVE_RINGS allows
+   * partial rings in the common substructure.
+   */
+  constructor(ringStatus: number);
+
+  /**
+   * Sets the two molecules to compare. Both are copied.
+   * @param molecule
+   * @param fragment
+   */
+  set(molecule: Molecule, fragment: Molecule): void;
+
+  /**
+   * Returns the largest common substructure as a fragment or null if
+   * there is none.
+   */
+  getMCS(): Molecule | null;
 }
 
 export interface IForceFieldMMFF94Options {
@@ -3110,6 +3183,78 @@ export interface IForceFieldMinimiseOptions {
    * Default: 1e-6.
    */
   funcTol?: number;
+
+  /**
+   * Maximum run time of one minimisation in milliseconds. The minimiser
+   * stops early and keeps the current positions once it is exceeded.
+   * Default: 0 (no limit).
+   */
+  maxTime?: number;
+
+  /**
+   * Number of iterations over which the energy must decrease by at least
+   * `plateauDecrease`. Otherwise the minimiser stops early and keeps the
+   * current positions.
+   * Default: 0 (no plateau detection).
+   */
+  plateauIterations?: number;
+
+  /**
+   * Minimum energy decrease within `plateauIterations` iterations.
+   * Default: 1e-4.
+   */
+  plateauDecrease?: number;
+}
+
+export interface IMinimiserStatistics {
+  /**
+   * Why the minimiser stopped: 'gradient' or 'position' if it converged,
+   * 'maxIterations', 'lineSearch', 'interrupted' or 'earlyExit' if it was
+   * stopped by the `maxTime` or plateau options.
+   */
+  termination: string;
+
+  /**
+   * Number of completed iterations.
+   */
+  iterations: number;
+
+  /**
+   * Number of energy calculations including those of the line searches.
+   */
+  energyEvaluations: number;
+
+  /**
+   * Number of gradient calculations.
+   */
+  gradientEvaluations: number;
+
+  /**
+   * Number of line searches, which didn't decrease the energy sufficiently.
+   */
+  lineSearchFailures: number;
+
+  initialEnergy: number;
+
+  finalEnergy: number;
+
+  /**
+   * Energies of the different kinds of energy terms at the final positions,
+   * e.g. 'angle bend', 'bond stretch' or 'van der waals'.
+   */
+  energyBreakdown: Record<string, number>;
+
+  /**
+   * Time in milliseconds spent in total, in line searches, calculating
+   * energies and gradients and updating the inverse Hessian.
+   */
+  time: {
+    total: number;
+    lineSearch: number;
+    energy: number;
+    gradient: number;
+    hessian: number;
+  };
 }
 
 export declare class ForceFieldMMFF94 {
@@ -3142,6 +3287,28 @@ export declare class ForceFieldMMFF94 {
    * @returns - Return code, 0 on success.
    */
   minimise(options?: IForceFieldMinimiseOptions): number;
+
+  /**
+   * Returns statistics of the last call to `minimise()`.
+   * @returns - The statistics or null, if `minimise()` wasn't called yet.
+   */
+  getMinimiserStatistics(): IMinimiserStatistics | null;
+
+  /**
+   * Minimise other conformers of the molecule this force field was
+   * constructed on. Atom types and force field parameters are determined
+   * only once and shared by all conformers, which is much faster than
+   * constructing a force field for every conformer. The conformers must
+   * have the same atoms in the same order as the force field's molecule.
+   * Conformers, whose minimisation succeeds, get updated coordinates.
+   * @param molecules - The conformers to be minimised.
+   * @param options
+   * @returns - The energies of the conformers after minimisation.
+   */
+  minimiseConformers(
+    molecules: Molecule[],
+    options?: IForceFieldMinimiseOptions
+  ): number[];
 }
 
 // Full API